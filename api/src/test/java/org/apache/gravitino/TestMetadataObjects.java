@@ -84,4 +84,17 @@ public class TestMetadataObjects {
             MetadataObjects.of(
                 Lists.newArrayList("catalog", "schema", "table"), MetadataObject.Type.COLUMN));
   }
+
+  @Test
+  public void testModelObjectParent() {
+    MetadataObject modelObject =
+        MetadataObjects.parse("catalog.schema.model", MetadataObject.Type.MODEL);
+    MetadataObject parent = MetadataObjects.parent(modelObject);
+    Assertions.assertEquals("catalog.schema", parent.fullName());
+    Assertions.assertEquals(MetadataObject.Type.SCHEMA, parent.type());
+
+    MetadataObject catalog = MetadataObjects.parent(parent);
+    Assertions.assertEquals("catalog", catalog.fullName());
+    Assertions.assertEquals(MetadataObject.Type.CATALOG, catalog.type());
+  }
 }
@@ -223,6 +223,9 @@ allprojects {
         if (!dockerTest) {
           excludeTags("gravitino-docker-test")
         }
+        if (!project.hasProperty("runBenchmarks")) {
+          excludeTags("gravitino-benchmark")
+        }
       }
     }
   }
@@ -30,6 +30,11 @@ public class HiveConstants {
   public static final String CHECK_INTERVAL_SEC = "kerberos.check-interval-sec";
   public static final String FETCH_TIMEOUT_SEC = "kerberos.keytab-fetch-timeout-sec";
   public static final String LIST_ALL_TABLES = "list-all-tables";
+  public static final String METADATA_CACHE_ENABLED = "metadata-cache.enabled";
+  public static final String METADATA_CACHE_MAX_SIZE = "metadata-cache.max-size";
+  public static final String METADATA_CACHE_TTL_MS = "metadata-cache.ttl-ms";
+  public static final String METADATA_CACHE_NOTIFICATION_POLL_INTERVAL_MS =
+      "metadata-cache.notification-poll-interval-ms";
 
   // table properties
   public static final String LOCATION = "location";
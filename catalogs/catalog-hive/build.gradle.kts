@@ -41,6 +41,7 @@ dependencies {
     exclude("*")
   }
 
+  implementation(libs.caffeine)
   implementation(libs.commons.collections3)
   implementation(libs.commons.configuration1)
   implementation(libs.htrace.core4)
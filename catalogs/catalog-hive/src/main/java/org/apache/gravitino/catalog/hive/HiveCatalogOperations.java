@@ -19,6 +19,10 @@
 package org.apache.gravitino.catalog.hive;
 
 import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMetadata.LIST_ALL_TABLES;
+import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMetadata.METADATA_CACHE_ENABLED;
+import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMetadata.METADATA_CACHE_MAX_SIZE;
+import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMetadata.METADATA_CACHE_NOTIFICATION_POLL_INTERVAL_MS;
+import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMetadata.METADATA_CACHE_TTL_MS;
 import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMetadata.METASTORE_URIS;
 import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMetadata.PRINCIPAL;
 import static org.apache.gravitino.catalog.hive.HiveTable.SUPPORT_TABLE_TYPES;
@@ -33,6 +37,7 @@ import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.IOException;
 import java.io.UncheckedIOException;
@@ -58,6 +63,7 @@ import org.apache.gravitino.SchemaChange;
 import org.apache.gravitino.connector.CatalogInfo;
 import org.apache.gravitino.connector.CatalogOperations;
 import org.apache.gravitino.connector.HasPropertyMetadata;
+import org.apache.gravitino.connector.PropertiesMetadata;
 import org.apache.gravitino.connector.ProxyPlugin;
 import org.apache.gravitino.connector.SupportsSchemas;
 import org.apache.gravitino.exceptions.ConnectionFailedException;
@@ -116,9 +122,12 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
   private String kerberosRealm;
   private ProxyPlugin proxyPlugin;
   private boolean listAllTables = true;
+  // Null if the metadata cache is disabled.
+  @VisibleForTesting HiveMetadataCache metadataCache;
   // The maximum number of tables that can be returned by the listTableNamesByFilter function.
   // The default value is -1, which means that all tables are returned.
   private static final short MAX_TABLES = -1;
+  private static final String[] HUDI_TABLE_SUFFIXES = {"_ro", "_rt"};
 
   // Map that maintains the mapping of keys in Gravitino to that in Hive, for example, users
   // will only need to set the configuration 'METASTORE_URL' in Gravitino and Gravitino will change
@@ -169,8 +178,24 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
     initKerberosIfNecessary(conf, hadoopConf);
 
     this.clientPool = new CachedClientPool(hiveConf, conf);
+    if (info != null) {
+      clientPool.registerMetrics(info.namespace().level(0), info.name());
+    }
 
     this.listAllTables = enableListAllTables(conf);
+
+    PropertiesMetadata catalogPropertiesMetadata = propertiesMetadata.catalogPropertiesMetadata();
+    if ((boolean) catalogPropertiesMetadata.getOrDefault(conf, METADATA_CACHE_ENABLED)) {
+      this.metadataCache =
+          new HiveMetadataCache(
+              clientPool,
+              (long) catalogPropertiesMetadata.getOrDefault(conf, METADATA_CACHE_MAX_SIZE),
+              (long) catalogPropertiesMetadata.getOrDefault(conf, METADATA_CACHE_TTL_MS),
+              (long)
+                  catalogPropertiesMetadata.getOrDefault(
+                      conf, METADATA_CACHE_NOTIFICATION_POLL_INTERVAL_MS),
+              info == null ? "" : String.valueOf(info.id()));
+    }
   }
 
   private void initKerberosIfNecessary(Map<String, String> conf, Configuration hadoopConf) {
@@ -289,6 +314,11 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
   /** Closes the Hive catalog and releases the associated client pool. */
   @Override
   public void close() {
+    if (metadataCache != null) {
+      metadataCache.close();
+      metadataCache = null;
+    }
+
     if (clientPool != null) {
       clientPool.close();
       clientPool = null;
@@ -372,6 +402,7 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
             return null;
           });
 
+      invalidateDatabase(ident.name());
       LOG.info("Created Hive schema (database) {} in Hive Metastore", ident.name());
       return hiveSchema;
 
@@ -398,7 +429,11 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
   @Override
   public HiveSchema loadSchema(NameIdentifier ident) throws NoSuchSchemaException {
     try {
-      Database database = clientPool.run(client -> client.getDatabase(ident.name()));
+      Database database =
+          metadataCache == null
+              ? clientPool.run(client -> client.getDatabase(ident.name()))
+              : metadataCache.getDatabase(
+                  ident.name(), () -> clientPool.run(client -> client.getDatabase(ident.name())));
       HiveSchema hiveSchema = HiveSchema.fromHiveDB(database);
 
       LOG.info("Loaded Hive schema (database) {} from Hive Metastore ", ident.name());
@@ -461,6 +496,7 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
             client.alterDatabase(ident.name(), alteredDatabase);
             return null;
           });
+      invalidateDatabase(ident.name());
 
       LOG.info("Altered Hive schema (database) {} in Hive Metastore", ident.name());
       return HiveSchema.fromHiveDB(alteredDatabase);
@@ -494,6 +530,7 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
             client.dropDatabase(ident.name(), false, false, cascade);
             return null;
           });
+      invalidateDatabase(ident.name());
       LOG.info("Dropped Hive schema (database) {}", ident.name());
       return true;
 
@@ -529,40 +566,11 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
     }
 
     try {
-      // When a table is created using the HMS interface without specifying the `tableType`,
-      // although Hive treats it as a `MANAGED_TABLE`, it cannot be queried through the `getTable`
-      // interface in HMS with the specified `tableType`. This is because when creating a table
-      // without  specifying the `tableType`, the underlying engine of HMS does not store the
-      // information of `tableType`. However, once the `getTable` interface specifies a
-      // `tableType`, HMS will use it as a filter condition to query its underlying storage and
-      // these types of tables will be  filtered out.
-      // Therefore, in order to avoid missing these types of tables, we need to query HMS twice. The
-      // first time is to retrieve all types of table names (including the missing type tables), and
-      // then based on
-      // those names we can obtain metadata for each individual table and get the type we needed.
-      List<String> allTables = clientPool.run(c -> c.getAllTables(schemaIdent.name()));
-      if (!listAllTables) {
-        // The reason for using the listTableNamesByFilter function is that the
-        // getTableObjectiesByName function has poor performance. Currently, we focus on the
-        // Iceberg, Paimon and Hudi table. In the future, if necessary, we will need to filter out
-        // other tables. In addition, the current return also includes tables of type VIRTUAL-VIEW.
-        String icebergAndPaimonFilter = getIcebergAndPaimonFilter();
-        List<String> icebergAndPaimonTables =
-            clientPool.run(
-                c ->
-                    c.listTableNamesByFilter(
-                        schemaIdent.name(), icebergAndPaimonFilter, MAX_TABLES));
-        allTables.removeAll(icebergAndPaimonTables);
-
-        // filter out the Hudi tables
-        String hudiFilter =
-            String.format(
-                "%sprovider like \"hudi\"", hive_metastoreConstants.HIVE_FILTER_FIELD_PARAMS);
-        List<String> hudiTables =
-            clientPool.run(
-                c -> c.listTableNamesByFilter(schemaIdent.name(), hudiFilter, MAX_TABLES));
-        removeHudiTables(allTables, hudiTables);
-      }
+      List<String> allTables =
+          metadataCache == null
+              ? listHiveTableNames(schemaIdent.name())
+              : metadataCache.listTables(
+                  schemaIdent.name(), () -> listHiveTableNames(schemaIdent.name()));
       return allTables.stream()
           .map(tbName -> NameIdentifier.of(namespace, tbName))
           .toArray(NameIdentifier[]::new);
@@ -580,6 +588,76 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
     }
   }
 
+  private List<String> listHiveTableNames(String databaseName)
+      throws TException, InterruptedException {
+    // When a table is created using the HMS interface without specifying the `tableType`,
+    // although Hive treats it as a `MANAGED_TABLE`, it cannot be queried through the `getTable`
+    // interface in HMS with the specified `tableType`. This is because when creating a table
+    // without  specifying the `tableType`, the underlying engine of HMS does not store the
+    // information of `tableType`. However, once the `getTable` interface specifies a
+    // `tableType`, HMS will use it as a filter condition to query its underlying storage and
+    // these types of tables will be  filtered out.
+    // Therefore, in order to avoid missing these types of tables, we need to query HMS twice. The
+    // first time is to retrieve all types of table names (including the missing type tables), and
+    // then based on
+    // those names we can obtain metadata for each individual table and get the type we needed.
+    List<String> allTables = clientPool.run(c -> c.getAllTables(databaseName));
+    if (listAllTables) {
+      return allTables;
+    }
+
+    // The reason for using the listTableNamesByFilter function is that the
+    // getTableObjectiesByName function has poor performance. Currently, we focus on the
+    // Iceberg, Paimon and Hudi table. In the future, if necessary, we will need to filter out
+    // other tables. In addition, the current return also includes tables of type VIRTUAL-VIEW.
+    String icebergAndPaimonFilter = getIcebergAndPaimonFilter();
+    List<String> icebergAndPaimonTables =
+        clientPool.run(
+            c -> c.listTableNamesByFilter(databaseName, icebergAndPaimonFilter, MAX_TABLES));
+
+    // filter out the Hudi tables
+    String hudiFilter =
+        String.format("%sprovider like \"hudi\"", hive_metastoreConstants.HIVE_FILTER_FIELD_PARAMS);
+    List<String> hudiTables =
+        clientPool.run(c -> c.listTableNamesByFilter(databaseName, hudiFilter, MAX_TABLES));
+
+    return filterTables(allTables, icebergAndPaimonTables, hudiTables);
+  }
+
+  /**
+   * Filters out the Iceberg and Paimon tables, the Hudi tables and their read-optimized and
+   * real-time tables from all the tables. The lookups are done in hash sets to keep the filtering
+   * linear in the number of tables.
+   */
+  @VisibleForTesting
+  static List<String> filterTables(
+      List<String> allTables, List<String> icebergAndPaimonTables, List<String> hudiTables) {
+    Set<String> excludedTables = Sets.newHashSet(icebergAndPaimonTables);
+    Set<String> hudiTableSet = Sets.newHashSet(hudiTables);
+    return allTables.stream()
+        .filter(t -> !excludedTables.contains(t) && !isHudiTable(t, hudiTableSet))
+        .collect(Collectors.toList());
+  }
+
+  private static boolean isHudiTable(String table, Set<String> hudiTables) {
+    if (hudiTables.contains(table)) {
+      return true;
+    }
+
+    // The read-optimized and real-time tables of a Hudi table are named with the prefix of the
+    // Hudi table name followed by `_ro` or `_rt`.
+    for (String suffix : HUDI_TABLE_SUFFIXES) {
+      int index = table.indexOf(suffix);
+      while (index > 0) {
+        if (hudiTables.contains(table.substring(0, index))) {
+          return true;
+        }
+        index = table.indexOf(suffix, index + 1);
+      }
+    }
+    return false;
+  }
+
   private static String getIcebergAndPaimonFilter() {
     String icebergFilter =
         String.format(
@@ -590,16 +668,6 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
     return String.format("%s or %s", icebergFilter, paimonFilter);
   }
 
-  private void removeHudiTables(List<String> allTables, List<String> hudiTables) {
-    for (String hudiTable : hudiTables) {
-      allTables.removeIf(
-          t ->
-              t.equals(hudiTable)
-                  || t.startsWith(hudiTable + "_ro")
-                  || t.startsWith(hudiTable + "_rt"));
-    }
-  }
-
   /**
    * Loads a table from the Hive Metastore.
    *
@@ -624,9 +692,13 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
     NameIdentifier schemaIdent = NameIdentifier.of(tableIdent.namespace().levels());
 
     try {
-      org.apache.hadoop.hive.metastore.api.Table table =
-          clientPool.run(c -> c.getTable(schemaIdent.name(), tableIdent.name()));
-      return table;
+      if (metadataCache == null) {
+        return clientPool.run(c -> c.getTable(schemaIdent.name(), tableIdent.name()));
+      }
+      return metadataCache.getTable(
+          schemaIdent.name(),
+          tableIdent.name(),
+          () -> clientPool.run(c -> c.getTable(schemaIdent.name(), tableIdent.name())));
 
     } catch (NoSuchObjectException e) {
       throw new NoSuchTableException(
@@ -803,6 +875,7 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
             c.createTable(hiveTable.toHiveTable(propertiesMetadata.tablePropertiesMetadata()));
             return null;
           });
+      invalidateTable(schemaIdent.name(), tableIdent.name());
 
       LOG.info("Created Hive table {} in Hive Metastore", tableIdent.name());
       return hiveTable;
@@ -838,6 +911,9 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
 
     try {
       // TODO(@Minghuang): require a table lock to avoid race condition
+      // The whole table is overwritten by the altered one, so load the latest table from Hive
+      // Metastore rather than the metadata cache.
+      invalidateTable(schemaIdent.name(), tableIdent.name());
       HiveTable table = (HiveTable) loadTable(tableIdent);
       org.apache.hadoop.hive.metastore.api.Table alteredHiveTable =
           table.toHiveTable(propertiesMetadata.tablePropertiesMetadata());
@@ -901,6 +977,8 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
             c.alter_table(schemaIdent.name(), tableIdent.name(), alteredHiveTable);
             return null;
           });
+      invalidateTable(schemaIdent.name(), tableIdent.name());
+      invalidateTable(schemaIdent.name(), alteredHiveTable.getTableName());
 
       LOG.info("Altered Hive table {} in Hive Metastore", tableIdent.name());
       return HiveTable.fromHiveTable(alteredHiveTable)
@@ -1135,6 +1213,7 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
             c.dropTable(schemaIdent.name(), tableIdent.name(), deleteData, false, ifPurge);
             return null;
           });
+      invalidateTable(schemaIdent.name(), tableIdent.name());
 
       LOG.info("Dropped Hive table {}", tableIdent.name());
       return true;
@@ -1150,6 +1229,18 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
     }
   }
 
+  private void invalidateDatabase(String databaseName) {
+    if (metadataCache != null) {
+      metadataCache.invalidateDatabase(databaseName);
+    }
+  }
+
+  private void invalidateTable(String databaseName, String tableName) {
+    if (metadataCache != null) {
+      metadataCache.invalidateTable(databaseName, tableName);
+    }
+  }
+
   CachedClientPool getClientPool() {
     return clientPool;
   }
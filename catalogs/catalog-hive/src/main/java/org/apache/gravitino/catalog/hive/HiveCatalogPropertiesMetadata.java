@@ -49,6 +49,23 @@ public class HiveCatalogPropertiesMetadata extends BaseCatalogPropertiesMetadata
 
   public static final boolean DEFAULT_LIST_ALL_TABLES = false;
 
+  public static final String METADATA_CACHE_ENABLED = HiveConstants.METADATA_CACHE_ENABLED;
+
+  public static final boolean DEFAULT_METADATA_CACHE_ENABLED = false;
+
+  public static final String METADATA_CACHE_MAX_SIZE = HiveConstants.METADATA_CACHE_MAX_SIZE;
+
+  public static final long DEFAULT_METADATA_CACHE_MAX_SIZE = 10000L;
+
+  public static final String METADATA_CACHE_TTL_MS = HiveConstants.METADATA_CACHE_TTL_MS;
+
+  public static final long DEFAULT_METADATA_CACHE_TTL_MS = 300000L;
+
+  public static final String METADATA_CACHE_NOTIFICATION_POLL_INTERVAL_MS =
+      HiveConstants.METADATA_CACHE_NOTIFICATION_POLL_INTERVAL_MS;
+
+  public static final long DEFAULT_METADATA_CACHE_NOTIFICATION_POLL_INTERVAL_MS = 1000L;
+
   private static final ClientPropertiesMetadata CLIENT_PROPERTIES_METADATA =
       new ClientPropertiesMetadata();
 
@@ -109,6 +126,40 @@ public class HiveCatalogPropertiesMetadata extends BaseCatalogPropertiesMetadata
                   DEFAULT_LIST_ALL_TABLES,
                   false /* hidden */,
                   false /* reserved */))
+          .put(
+              METADATA_CACHE_ENABLED,
+              PropertyEntry.booleanPropertyEntry(
+                  METADATA_CACHE_ENABLED,
+                  "Whether to cache the databases and tables loaded from the Hive metastore",
+                  false /* required */,
+                  false /* immutable */,
+                  DEFAULT_METADATA_CACHE_ENABLED,
+                  false /* hidden */,
+                  false /* reserved */))
+          .put(
+              METADATA_CACHE_MAX_SIZE,
+              PropertyEntry.longOptionalPropertyEntry(
+                  METADATA_CACHE_MAX_SIZE,
+                  "The maximum number of entries of each kind in the metadata cache",
+                  false /* immutable */,
+                  DEFAULT_METADATA_CACHE_MAX_SIZE,
+                  false /* hidden */))
+          .put(
+              METADATA_CACHE_TTL_MS,
+              PropertyEntry.longOptionalPropertyEntry(
+                  METADATA_CACHE_TTL_MS,
+                  "The time in milliseconds an entry is kept in the metadata cache since loaded",
+                  false /* immutable */,
+                  DEFAULT_METADATA_CACHE_TTL_MS,
+                  false /* hidden */))
+          .put(
+              METADATA_CACHE_NOTIFICATION_POLL_INTERVAL_MS,
+              PropertyEntry.longOptionalPropertyEntry(
+                  METADATA_CACHE_NOTIFICATION_POLL_INTERVAL_MS,
+                  "The interval in milliseconds to poll the notification log of the Hive metastore",
+                  false /* immutable */,
+                  DEFAULT_METADATA_CACHE_NOTIFICATION_POLL_INTERVAL_MS,
+                  false /* hidden */))
           .putAll(CLIENT_PROPERTIES_METADATA.propertyEntries())
           .build();
 
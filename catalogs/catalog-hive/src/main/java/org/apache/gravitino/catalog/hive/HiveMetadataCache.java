@@ -0,0 +1,358 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog.hive;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.Closeable;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.hive.CachedClientPool;
+import org.apache.hadoop.hive.metastore.api.Database;
+import org.apache.hadoop.hive.metastore.api.NotificationEvent;
+import org.apache.hadoop.hive.metastore.api.NotificationEventResponse;
+import org.apache.hadoop.hive.metastore.api.Table;
+import org.apache.hadoop.hive.metastore.messaging.AlterTableMessage;
+import org.apache.hadoop.hive.metastore.messaging.MessageDeserializer;
+import org.apache.hadoop.hive.metastore.messaging.json.JSONAlterTableMessage;
+import org.apache.hadoop.hive.metastore.messaging.json.JSONMessageDeserializer;
+import org.apache.thrift.TException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A cache of the databases, the tables and the filtered table names loaded from the Hive
+ * metastore.
+ *
+ * <p>The entries are invalidated by the operations through Gravitino, and by the DDL events read
+ * from the notification log of the Hive metastore by a background thread. The notification log is
+ * only available when the Hive metastore is configured with the {@code DbNotificationListener},
+ * otherwise the changes made outside Gravitino are only picked up once the entries expire after
+ * the TTL.
+ */
+public class HiveMetadataCache implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(HiveMetadataCache.class);
+
+  // The maximum number of events to fetch from the notification log in one call.
+  private static final int MAX_EVENTS_PER_POLL = 1000;
+
+  private static final Set<String> DATABASE_EVENT_TYPES =
+      ImmutableSet.of("CREATE_DATABASE", "DROP_DATABASE", "ALTER_DATABASE");
+
+  private static final String ALTER_TABLE = "ALTER_TABLE";
+
+  private static final Set<String> TABLE_EVENT_TYPES =
+      ImmutableSet.of("CREATE_TABLE", "DROP_TABLE", ALTER_TABLE);
+
+  // The notification log is written by the DbNotificationListener in the JSON format.
+  private static final MessageDeserializer MESSAGE_DESERIALIZER = new JSONMessageDeserializer();
+
+  /** Loads the value from the Hive metastore on a cache miss. */
+  @FunctionalInterface
+  public interface Loader<T> {
+    T load() throws TException, InterruptedException;
+  }
+
+  private final CachedClientPool clientPool;
+  private final Cache<String, Database> databases;
+  private final Cache<String, List<String>> tableNames;
+  // The key is the identifier of the table in the form of database.table.
+  private final Cache<NameIdentifier, Table> tables;
+  // Incremented on each invalidation, an entry loaded across an invalidation is not cached.
+  private final AtomicLong generation = new AtomicLong();
+
+  private ScheduledExecutorService notificationPoller;
+  private long lastEventId;
+
+  /**
+   * Creates the cache and starts to tail the notification log of the Hive metastore.
+   *
+   * @param clientPool The client pool of the Hive metastore.
+   * @param maxSize The maximum number of entries of each kind.
+   * @param ttlMs The time in milliseconds an entry is kept since it was loaded.
+   * @param pollIntervalMs The interval in milliseconds to poll the notification log, 0 or a
+   *     negative value disables the tailing.
+   * @param name The name used in the thread name of the poller.
+   */
+  public HiveMetadataCache(
+      CachedClientPool clientPool, long maxSize, long ttlMs, long pollIntervalMs, String name) {
+    this.clientPool = clientPool;
+    this.databases = newCache(maxSize, ttlMs);
+    this.tableNames = newCache(maxSize, ttlMs);
+    this.tables = newCache(maxSize, ttlMs);
+
+    if (pollIntervalMs > 0 && initLastEventId()) {
+      this.notificationPoller =
+          Executors.newSingleThreadScheduledExecutor(
+              new ThreadFactoryBuilder()
+                  .setDaemon(true)
+                  .setNameFormat("hive-notification-poller-" + name + "-%d")
+                  .build());
+      notificationPoller.scheduleWithFixedDelay(
+          this::pollNotificationsQuietly, pollIntervalMs, pollIntervalMs, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private static <K, V> Cache<K, V> newCache(long maxSize, long ttlMs) {
+    return Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(ttlMs, TimeUnit.MILLISECONDS)
+        .build();
+  }
+
+  /**
+   * Gets the database from the cache, or loads it by the loader if it's not cached.
+   *
+   * @param databaseName The name of the database.
+   * @param loader The loader to load the database from the Hive metastore.
+   * @return A copy of the database.
+   * @throws TException If the loader fails to load the database.
+   * @throws InterruptedException If the loader is interrupted.
+   */
+  public Database getDatabase(String databaseName, Loader<Database> loader)
+      throws TException, InterruptedException {
+    String key = normalize(databaseName);
+    Database database = databases.getIfPresent(key);
+    if (database == null) {
+      long loadGeneration = generation.get();
+      database = loader.load();
+      putIfUnchanged(databases, key, database.deepCopy(), loadGeneration);
+      return database;
+    }
+    return database.deepCopy();
+  }
+
+  /**
+   * Gets the table from the cache, or loads it by the loader if it's not cached.
+   *
+   * @param databaseName The name of the database.
+   * @param tableName The name of the table.
+   * @param loader The loader to load the table from the Hive metastore.
+   * @return A copy of the table.
+   * @throws TException If the loader fails to load the table.
+   * @throws InterruptedException If the loader is interrupted.
+   */
+  public Table getTable(String databaseName, String tableName, Loader<Table> loader)
+      throws TException, InterruptedException {
+    NameIdentifier key = NameIdentifier.of(normalize(databaseName), normalize(tableName));
+    Table table = tables.getIfPresent(key);
+    if (table == null) {
+      long loadGeneration = generation.get();
+      table = loader.load();
+      putIfUnchanged(tables, key, table.deepCopy(), loadGeneration);
+      return table;
+    }
+    return table.deepCopy();
+  }
+
+  /**
+   * Gets the table names of the database from the cache, or lists them by the loader if they are
+   * not cached.
+   *
+   * @param databaseName The name of the database.
+   * @param loader The loader to list the table names from the Hive metastore.
+   * @return The table names of the database.
+   * @throws TException If the loader fails to list the table names.
+   * @throws InterruptedException If the loader is interrupted.
+   */
+  public List<String> listTables(String databaseName, Loader<List<String>> loader)
+      throws TException, InterruptedException {
+    String key = normalize(databaseName);
+    List<String> names = tableNames.getIfPresent(key);
+    if (names == null) {
+      long loadGeneration = generation.get();
+      names = ImmutableList.copyOf(loader.load());
+      putIfUnchanged(tableNames, key, names, loadGeneration);
+    }
+    return names;
+  }
+
+  /**
+   * Invalidates the cached table and the cached table names of its database.
+   *
+   * @param databaseName The name of the database.
+   * @param tableName The name of the table.
+   */
+  public synchronized void invalidateTable(String databaseName, String tableName) {
+    generation.incrementAndGet();
+    String database = normalize(databaseName);
+    tables.invalidate(NameIdentifier.of(database, normalize(tableName)));
+    tableNames.invalidate(database);
+  }
+
+  /**
+   * Invalidates the cached database, the cached tables and the cached table names of the database.
+   *
+   * @param databaseName The name of the database.
+   */
+  public synchronized void invalidateDatabase(String databaseName) {
+    generation.incrementAndGet();
+    String database = normalize(databaseName);
+    databases.invalidate(database);
+    tableNames.invalidate(database);
+    tables.asMap().keySet().removeIf(ident -> ident.namespace().level(0).equals(database));
+  }
+
+  /** Invalidates all the cached entries. */
+  public synchronized void invalidateAll() {
+    generation.incrementAndGet();
+    databases.invalidateAll();
+    tableNames.invalidateAll();
+    tables.invalidateAll();
+  }
+
+  @Override
+  public void close() {
+    if (notificationPoller != null) {
+      notificationPoller.shutdownNow();
+      notificationPoller = null;
+    }
+    invalidateAll();
+  }
+
+  private synchronized <K, V> void putIfUnchanged(
+      Cache<K, V> cache, K key, V value, long loadGeneration) {
+    if (generation.get() == loadGeneration) {
+      cache.put(key, value);
+    }
+  }
+
+  private boolean initLastEventId() {
+    try {
+      this.lastEventId = clientPool.run(c -> c.getCurrentNotificationEventId().getEventId());
+      return true;
+    } catch (Exception e) {
+      LOG.warn(
+          "Failed to read the notification log of Hive metastore, the metadata cache only expires "
+              + "the entries by TTL",
+          e);
+      return false;
+    }
+  }
+
+  private void pollNotificationsQuietly() {
+    try {
+      pollNotifications();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (Exception e) {
+      // The changes may be missed, start over from the current event.
+      LOG.warn("Failed to poll the notification log of Hive metastore, invalidate the cache", e);
+      invalidateAll();
+      initLastEventId();
+    }
+  }
+
+  @VisibleForTesting
+  void pollNotifications() throws TException, InterruptedException {
+    while (true) {
+      long fromEventId = lastEventId;
+      // The events are filtered locally by the type rather than by the filter of the client, so
+      // that the last event id still moves forward if none of the fetched events is a DDL event.
+      NotificationEventResponse response =
+          clientPool.run(c -> c.getNextNotification(fromEventId, MAX_EVENTS_PER_POLL, null));
+      List<NotificationEvent> events = response.getEvents();
+      if (events == null || events.isEmpty()) {
+        return;
+      }
+
+      if (events.get(0).getEventId() > fromEventId + 1) {
+        LOG.warn(
+            "Events from {} to {} are missing in the notification log, invalidate the cache",
+            fromEventId + 1,
+            events.get(0).getEventId() - 1);
+        invalidateAll();
+      }
+
+      for (NotificationEvent event : events) {
+        applyEvent(event);
+        lastEventId = event.getEventId();
+      }
+
+      if (events.size() < MAX_EVENTS_PER_POLL) {
+        return;
+      }
+    }
+  }
+
+  private void applyEvent(NotificationEvent event) {
+    String eventType = event.getEventType();
+    if (event.getDbName() == null) {
+      return;
+    }
+
+    if (DATABASE_EVENT_TYPES.contains(eventType)) {
+      invalidateDatabase(event.getDbName());
+    } else if (TABLE_EVENT_TYPES.contains(eventType)) {
+      // The event of renaming a table carries the old table name, the new table can't be cached
+      // as it didn't exist, only the table names of the database need to be invalidated.
+      invalidateTable(event.getDbName(), event.getTableName());
+      if (ALTER_TABLE.equals(eventType)) {
+        invalidateRenameTarget(event);
+      }
+    }
+  }
+
+  // A table renamed into another database also changes the table names of the target database,
+  // which are only carried by the table object after the change in the message of the event.
+  private void invalidateRenameTarget(NotificationEvent event) {
+    if (event.getMessage() == null || event.getMessage().isEmpty()) {
+      return;
+    }
+
+    Table after;
+    try {
+      AlterTableMessage message = MESSAGE_DESERIALIZER.getAlterTableMessage(event.getMessage());
+      after = ((JSONAlterTableMessage) message).getTableObjAfter();
+    } catch (Exception e) {
+      LOG.warn(
+          "Failed to parse the message of the event {}, invalidating the table names of all the "
+              + "databases",
+          event.getEventId(),
+          e);
+      invalidateTableNames();
+      return;
+    }
+
+    if (after != null
+        && after.getDbName() != null
+        && !normalize(after.getDbName()).equals(normalize(event.getDbName()))) {
+      invalidateTable(after.getDbName(), after.getTableName());
+    }
+  }
+
+  private synchronized void invalidateTableNames() {
+    generation.incrementAndGet();
+    tableNames.invalidateAll();
+  }
+
+  private static String normalize(String name) {
+    return name.toLowerCase(Locale.ROOT);
+  }
+}
@@ -30,6 +30,7 @@ import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMetadata.FE
 import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMetadata.IMPERSONATION_ENABLE;
 import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMetadata.KEY_TAB_URI;
 import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMetadata.LIST_ALL_TABLES;
+import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMetadata.METADATA_CACHE_ENABLED;
 import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMetadata.METASTORE_URIS;
 import static org.apache.gravitino.catalog.hive.HiveCatalogPropertiesMetadata.PRINCIPAL;
 import static org.apache.gravitino.catalog.hive.TestHiveCatalog.HIVE_PROPERTIES_METADATA;
@@ -39,7 +40,9 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.NameIdentifier;
@@ -73,7 +76,7 @@ class TestHiveCatalogOperations {
     Map<String, PropertyEntry<?>> propertyEntryMap =
         HIVE_PROPERTIES_METADATA.catalogPropertiesMetadata().propertyEntries();
 
-    Assertions.assertEquals(16, propertyEntryMap.size());
+    Assertions.assertEquals(20, propertyEntryMap.size());
     Assertions.assertTrue(propertyEntryMap.containsKey(METASTORE_URIS));
     Assertions.assertTrue(propertyEntryMap.containsKey(Catalog.PROPERTY_PACKAGE));
     Assertions.assertTrue(propertyEntryMap.containsKey(BaseCatalog.CATALOG_OPERATION_IMPL));
@@ -82,6 +85,7 @@ class TestHiveCatalogOperations {
     Assertions.assertTrue(propertyEntryMap.containsKey(CLIENT_POOL_SIZE));
     Assertions.assertTrue(propertyEntryMap.containsKey(IMPERSONATION_ENABLE));
     Assertions.assertTrue(propertyEntryMap.containsKey(LIST_ALL_TABLES));
+    Assertions.assertTrue(propertyEntryMap.containsKey(METADATA_CACHE_ENABLED));
     Assertions.assertTrue(propertyEntryMap.get(METASTORE_URIS).isRequired());
     Assertions.assertFalse(propertyEntryMap.get(Catalog.PROPERTY_PACKAGE).isRequired());
     Assertions.assertFalse(propertyEntryMap.get(CLIENT_POOL_SIZE).isRequired());
@@ -138,4 +142,25 @@ class TestHiveCatalogOperations {
         "Failed to run getAllDatabases in Hive Metastore: mock connection exception",
         exception.getMessage());
   }
+
+  @Test
+  void testFilterTables() {
+    List<String> allTables =
+        Lists.newArrayList(
+            "hive_tbl", "iceberg_tbl", "paimon_tbl", "hudi_tbl", "hudi_tbl_ro", "hudi_tbl_rt_1");
+    List<String> tables =
+        HiveCatalogOperations.filterTables(
+            allTables,
+            Lists.newArrayList("iceberg_tbl", "paimon_tbl"),
+            Lists.newArrayList("hudi_tbl"));
+    Assertions.assertEquals(Lists.newArrayList("hive_tbl"), tables);
+
+    // The table names only containing `_ro` or `_rt` aren't filtered out
+    tables =
+        HiveCatalogOperations.filterTables(
+            Lists.newArrayList("a_ro", "hudi_ro", "b_rt_hudi"),
+            Lists.newArrayList(),
+            Lists.newArrayList("hudi"));
+    Assertions.assertEquals(Lists.newArrayList("a_ro", "b_rt_hudi"), tables);
+  }
 }
@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog.hive;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.Lists;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.gravitino.hive.CachedClientPool;
+import org.apache.gravitino.utils.ClientPool;
+import org.apache.hadoop.hive.metastore.IMetaStoreClient;
+import org.apache.hadoop.hive.metastore.api.CurrentNotificationEventId;
+import org.apache.hadoop.hive.metastore.api.NotificationEvent;
+import org.apache.hadoop.hive.metastore.api.NotificationEventResponse;
+import org.apache.hadoop.hive.metastore.api.Table;
+import org.apache.hadoop.hive.metastore.messaging.json.JSONMessageFactory;
+import org.apache.thrift.TException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestHiveMetadataCache {
+
+  private IMetaStoreClient client;
+  private CachedClientPool clientPool;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  public void setUp() throws TException, InterruptedException {
+    client = mock(IMetaStoreClient.class);
+    clientPool = mock(CachedClientPool.class);
+    when(clientPool.run(any()))
+        .thenAnswer(
+            invocation ->
+                ((ClientPool.Action<Object, IMetaStoreClient, TException>)
+                        invocation.getArgument(0))
+                    .run(client));
+    when(client.getCurrentNotificationEventId()).thenReturn(new CurrentNotificationEventId(10L));
+  }
+
+  @Test
+  public void testCacheAndInvalidate() throws Exception {
+    AtomicInteger loads = new AtomicInteger();
+    try (HiveMetadataCache cache = new HiveMetadataCache(clientPool, 100, 60000, 0, "test")) {
+      for (int i = 0; i < 3; i++) {
+        Table table =
+            cache.getTable(
+                "db",
+                "tbl",
+                () -> {
+                  loads.incrementAndGet();
+                  return newTable("db", "tbl");
+                });
+        Assertions.assertEquals("tbl", table.getTableName());
+        // The returned table is a copy, changing it doesn't change the cached one
+        table.setTableName("changed");
+      }
+      Assertions.assertEquals(1, loads.get());
+
+      // The names are case-insensitive as in Hive Metastore
+      cache.getTable("DB", "TBL", () -> newTable("db", "other"));
+      Assertions.assertEquals(1, loads.get());
+
+      cache.invalidateTable("db", "tbl");
+      cache.getTable(
+          "db",
+          "tbl",
+          () -> {
+            loads.incrementAndGet();
+            return newTable("db", "tbl");
+          });
+      Assertions.assertEquals(2, loads.get());
+
+      Assertions.assertEquals(
+          Lists.newArrayList("tbl"), cache.listTables("db", () -> Lists.newArrayList("tbl")));
+      Assertions.assertEquals(
+          Lists.newArrayList("tbl"), cache.listTables("db", Collections::emptyList));
+
+      cache.invalidateDatabase("db");
+      Assertions.assertTrue(cache.listTables("db", Collections::emptyList).isEmpty());
+      cache.getTable(
+          "db",
+          "tbl",
+          () -> {
+            loads.incrementAndGet();
+            return newTable("db", "tbl");
+          });
+      Assertions.assertEquals(3, loads.get());
+    }
+  }
+
+  @Test
+  public void testInvalidateByNotifications() throws Exception {
+    NotificationEvent alterTable = new NotificationEvent(11L, 0, "ALTER_TABLE", "");
+    alterTable.setDbName("db1");
+    alterTable.setTableName("tbl");
+    NotificationEvent addPartition = new NotificationEvent(12L, 0, "ADD_PARTITION", "");
+    addPartition.setDbName("db2");
+    addPartition.setTableName("tbl");
+    when(client.getNextNotification(anyLong(), anyInt(), any()))
+        .thenReturn(new NotificationEventResponse(Lists.newArrayList(alterTable, addPartition)))
+        .thenReturn(new NotificationEventResponse(Collections.emptyList()));
+
+    try (HiveMetadataCache cache = new HiveMetadataCache(clientPool, 100, 60000, 0, "test")) {
+      cache.getTable("db1", "tbl", () -> newTable("db1", "tbl"));
+      cache.getTable("db2", "tbl", () -> newTable("db2", "tbl"));
+
+      // The poller isn't started with the interval 0, poll the notifications manually
+      cache.pollNotifications();
+
+      // The table altered outside is reloaded, the partition events are ignored
+      Table table = cache.getTable("db1", "tbl", () -> newTable("db1", "reloaded"));
+      Assertions.assertEquals("reloaded", table.getTableName());
+      table = cache.getTable("db2", "tbl", () -> newTable("db2", "reloaded"));
+      Assertions.assertEquals("tbl", table.getTableName());
+
+      // The events missing in the notification log invalidate all the entries
+      NotificationEvent dropTable = new NotificationEvent(20L, 0, "DROP_TABLE", "");
+      dropTable.setDbName("db3");
+      dropTable.setTableName("tbl");
+      when(client.getNextNotification(anyLong(), anyInt(), any()))
+          .thenReturn(new NotificationEventResponse(Lists.newArrayList(dropTable)));
+      cache.pollNotifications();
+      table = cache.getTable("db2", "tbl", () -> newTable("db2", "reloaded"));
+      Assertions.assertEquals("reloaded", table.getTableName());
+    }
+  }
+
+  @Test
+  public void testInvalidateTargetDatabaseOfRename() throws Exception {
+    NotificationEvent renameTable =
+        new NotificationEvent(
+            11L,
+            0,
+            "ALTER_TABLE",
+            new JSONMessageFactory()
+                .buildAlterTableMessage(newTable("db1", "tbl"), newTable("db2", "renamed"))
+                .toString());
+    renameTable.setDbName("db1");
+    renameTable.setTableName("tbl");
+    when(client.getNextNotification(anyLong(), anyInt(), any()))
+        .thenReturn(new NotificationEventResponse(Lists.newArrayList(renameTable)))
+        .thenReturn(new NotificationEventResponse(Collections.emptyList()));
+
+    try (HiveMetadataCache cache = new HiveMetadataCache(clientPool, 100, 60000, 0, "test")) {
+      cache.listTables("db1", () -> Lists.newArrayList("tbl"));
+      cache.listTables("db2", Lists::newArrayList);
+      cache.listTables("db3", () -> Lists.newArrayList("tbl"));
+
+      cache.pollNotifications();
+
+      // Both the source and the target databases of the rename are reloaded
+      Assertions.assertEquals(
+          Collections.emptyList(), cache.listTables("db1", Lists::newArrayList));
+      Assertions.assertEquals(
+          Lists.newArrayList("renamed"),
+          cache.listTables("db2", () -> Lists.newArrayList("renamed")));
+      Assertions.assertEquals(
+          Lists.newArrayList("tbl"), cache.listTables("db3", Lists::newArrayList));
+
+      // A message that can't be parsed invalidates the table names of all the databases
+      NotificationEvent malformed = new NotificationEvent(12L, 0, "ALTER_TABLE", "{malformed");
+      malformed.setDbName("db1");
+      malformed.setTableName("tbl");
+      when(client.getNextNotification(anyLong(), anyInt(), any()))
+          .thenReturn(new NotificationEventResponse(Lists.newArrayList(malformed)))
+          .thenReturn(new NotificationEventResponse(Collections.emptyList()));
+      cache.pollNotifications();
+      Assertions.assertEquals(
+          Collections.emptyList(), cache.listTables("db3", Lists::newArrayList));
+    }
+  }
+
+  private static Table newTable(String databaseName, String tableName) {
+    Table table = new Table();
+    table.setDbName(databaseName);
+    table.setTableName(tableName);
+    return table;
+  }
+}
@@ -44,6 +44,7 @@ dependencies {
   implementation(project(":core"))
 
   implementation(libs.bundles.log4j)
+  implementation(libs.caffeine)
   implementation(libs.commons.collections4)
   implementation(libs.commons.dbcp2)
   implementation(libs.commons.lang3)
@@ -52,6 +53,7 @@ dependencies {
   implementation(libs.jackson.databind)
   implementation(libs.jackson.datatype.jdk8)
   implementation(libs.jackson.datatype.jsr310)
+  implementation(libs.metrics.core)
 
   testImplementation(libs.commons.io)
   testImplementation(libs.junit.jupiter.api)
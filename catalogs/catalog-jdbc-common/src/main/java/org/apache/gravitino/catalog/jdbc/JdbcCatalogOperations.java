@@ -37,8 +37,10 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.sql.DataSource;
+import org.apache.commons.dbcp2.BasicDataSource;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Catalog;
+import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.SchemaChange;
@@ -63,6 +65,8 @@ import org.apache.gravitino.exceptions.NonEmptySchemaException;
 import org.apache.gravitino.exceptions.SchemaAlreadyExistsException;
 import org.apache.gravitino.exceptions.TableAlreadyExistsException;
 import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.ClientPoolMetricsSource;
 import org.apache.gravitino.rel.Column;
 import org.apache.gravitino.rel.Table;
 import org.apache.gravitino.rel.TableCatalog;
@@ -101,6 +105,12 @@ public class JdbcCatalogOperations implements CatalogOperations, SupportsSchemas
 
   private final JdbcColumnDefaultValueConverter columnDefaultValueConverter;
 
+  // Null if the cache is disabled.
+  private JdbcTableCache tableCache;
+
+  // Null if the metrics system is not available.
+  private ClientPoolMetricsSource poolMetricsSource;
+
   public static class JDBCDriverInfo {
     public String name;
     public String version;
@@ -170,11 +180,44 @@ public class JdbcCatalogOperations implements CatalogOperations, SupportsSchemas
     this.databaseOperation.initialize(dataSource, exceptionConverter, resultConf);
     this.tableOperation.initialize(
         dataSource, exceptionConverter, jdbcTypeConverter, columnDefaultValueConverter, resultConf);
+
+    if (jdbcConfig.isCacheEnabled()) {
+      this.tableCache =
+          new JdbcTableCache(tableOperation, jdbcConfig, info.namespace().level(0), info.name());
+    }
+
+    registerPoolMetrics(info);
+  }
+
+  private void registerPoolMetrics(CatalogInfo info) {
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem == null || info == null || !(dataSource instanceof BasicDataSource)) {
+      return;
+    }
+
+    BasicDataSource basicDataSource = (BasicDataSource) dataSource;
+    this.poolMetricsSource =
+        new ClientPoolMetricsSource(
+            info.namespace().level(0),
+            info.name(),
+            basicDataSource::getNumActive,
+            basicDataSource::getNumIdle,
+            basicDataSource::getMaxTotal);
+    metricsSystem.register(poolMetricsSource);
   }
 
   /** Closes the Jdbc catalog and releases the associated client pool. */
   @Override
   public void close() {
+    if (tableCache != null) {
+      tableCache.close();
+    }
+    if (poolMetricsSource != null) {
+      MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+      if (metricsSystem != null) {
+        metricsSystem.unregister(poolMetricsSource);
+      }
+    }
     DataSourceUtils.closeDataSource(dataSource);
   }
 
@@ -299,7 +342,11 @@ public class JdbcCatalogOperations implements CatalogOperations, SupportsSchemas
    */
   @Override
   public boolean dropSchema(NameIdentifier ident, boolean cascade) throws NonEmptySchemaException {
-    return databaseOperation.delete(ident.name(), cascade);
+    boolean dropped = databaseOperation.delete(ident.name(), cascade);
+    if (tableCache != null) {
+      tableCache.invalidateDatabase(ident.name());
+    }
+    return dropped;
   }
 
   /**
@@ -312,7 +359,11 @@ public class JdbcCatalogOperations implements CatalogOperations, SupportsSchemas
   @Override
   public NameIdentifier[] listTables(Namespace namespace) throws NoSuchSchemaException {
     String databaseName = NameIdentifier.of(namespace.levels()).name();
-    return tableOperation.listTables(databaseName).stream()
+    List<String> tableNames =
+        tableCache == null
+            ? tableOperation.listTables(databaseName)
+            : tableCache.listTables(databaseName, () -> tableOperation.listTables(databaseName));
+    return tableNames.stream()
         .map(table -> NameIdentifier.of(namespace, table))
         .toArray(NameIdentifier[]::new);
   }
@@ -328,7 +379,11 @@ public class JdbcCatalogOperations implements CatalogOperations, SupportsSchemas
   public Table loadTable(NameIdentifier tableIdent) throws NoSuchTableException {
     String databaseName = NameIdentifier.of(tableIdent.namespace().levels()).name();
     String tableName = tableIdent.name();
-    JdbcTable load = tableOperation.load(databaseName, tableName);
+    JdbcTable load =
+        tableCache == null
+            ? tableOperation.load(databaseName, tableName)
+            : tableCache.getTable(
+                databaseName, tableName, () -> tableOperation.load(databaseName, tableName));
     Map<String, String> properties =
         load.properties() == null
             ? Maps.newHashMap()
@@ -400,7 +455,9 @@ public class JdbcCatalogOperations implements CatalogOperations, SupportsSchemas
   @Override
   public boolean dropTable(NameIdentifier tableIdent) {
     String databaseName = NameIdentifier.of(tableIdent.namespace().levels()).name();
-    return tableOperation.drop(databaseName, tableIdent.name());
+    boolean dropped = tableOperation.drop(databaseName, tableIdent.name());
+    invalidateTable(databaseName, tableIdent.name());
+    return dropped;
   }
 
   /**
@@ -462,6 +519,7 @@ public class JdbcCatalogOperations implements CatalogOperations, SupportsSchemas
         partitioning,
         distribution,
         indexes);
+    invalidateTable(databaseName, tableName);
 
     return JdbcTable.builder()
         .withAuditInfo(
@@ -487,7 +545,9 @@ public class JdbcCatalogOperations implements CatalogOperations, SupportsSchemas
   @Override
   public boolean purgeTable(NameIdentifier tableIdent) throws UnsupportedOperationException {
     String databaseName = NameIdentifier.of(tableIdent.namespace().levels()).name();
-    return tableOperation.purge(databaseName, tableIdent.name());
+    boolean purged = tableOperation.purge(databaseName, tableIdent.name());
+    invalidateTable(databaseName, tableIdent.name());
+    return purged;
   }
 
   /**
@@ -503,6 +563,8 @@ public class JdbcCatalogOperations implements CatalogOperations, SupportsSchemas
       throws NoSuchTableException, IllegalArgumentException {
     String databaseName = NameIdentifier.of(tableIdent.namespace().levels()).name();
     tableOperation.rename(databaseName, tableIdent.name(), renameTable.getNewName());
+    invalidateTable(databaseName, tableIdent.name());
+    invalidateTable(databaseName, renameTable.getNewName());
     return loadTable(NameIdentifier.of(tableIdent.namespace(), renameTable.getNewName()));
   }
 
@@ -532,9 +594,16 @@ public class JdbcCatalogOperations implements CatalogOperations, SupportsSchemas
     String databaseName = NameIdentifier.of(tableIdent.namespace().levels()).name();
     TableChange[] resultChanges = replaceJdbcProperties(changes);
     tableOperation.alterTable(databaseName, tableIdent.name(), resultChanges);
+    invalidateTable(databaseName, tableIdent.name());
     return loadTable(tableIdent);
   }
 
+  private void invalidateTable(String databaseName, String tableName) {
+    if (tableCache != null) {
+      tableCache.invalidateTable(databaseName, tableName);
+    }
+  }
+
   private TableChange[] replaceJdbcProperties(TableChange[] changes) {
     // Replace jdbc properties
     return Arrays.stream(changes)
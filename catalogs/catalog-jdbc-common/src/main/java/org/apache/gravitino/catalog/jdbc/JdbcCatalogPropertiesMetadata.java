@@ -18,7 +18,9 @@
  */
 package org.apache.gravitino.catalog.jdbc;
 
+import static org.apache.gravitino.connector.PropertyEntry.booleanPropertyEntry;
 import static org.apache.gravitino.connector.PropertyEntry.integerPropertyEntry;
+import static org.apache.gravitino.connector.PropertyEntry.longPropertyEntry;
 import static org.apache.gravitino.connector.PropertyEntry.stringOptionalPropertyEntry;
 import static org.apache.gravitino.connector.PropertyEntry.stringPropertyEntry;
 
@@ -42,7 +44,11 @@ public class JdbcCatalogPropertiesMetadata extends BaseCatalogPropertiesMetadata
           JdbcConfig.USERNAME.getKey(),
           JdbcConfig.PASSWORD.getKey(),
           JdbcConfig.POOL_MIN_SIZE.getKey(),
-          JdbcConfig.POOL_MAX_SIZE.getKey());
+          JdbcConfig.POOL_MAX_SIZE.getKey(),
+          JdbcConfig.CACHE_ENABLED.getKey(),
+          JdbcConfig.CACHE_MAX_SIZE.getKey(),
+          JdbcConfig.CACHE_TTL_MS.getKey(),
+          JdbcConfig.CACHE_PROBE_INTERVAL_MS.getKey());
 
   static {
     List<PropertyEntry<?>> propertyEntries =
@@ -100,6 +106,38 @@ public class JdbcCatalogPropertiesMetadata extends BaseCatalogPropertiesMetadata
                 false /* immutable */,
                 JdbcConfig.POOL_MAX_SIZE.getDefaultValue(),
                 true /* hidden */,
+                false /* reserved */),
+            booleanPropertyEntry(
+                JdbcConfig.CACHE_ENABLED.getKey(),
+                JdbcConfig.CACHE_ENABLED.getDoc(),
+                false /* required */,
+                false /* immutable */,
+                JdbcConfig.CACHE_ENABLED.getDefaultValue(),
+                false /* hidden */,
+                false /* reserved */),
+            longPropertyEntry(
+                JdbcConfig.CACHE_MAX_SIZE.getKey(),
+                JdbcConfig.CACHE_MAX_SIZE.getDoc(),
+                false /* required */,
+                false /* immutable */,
+                JdbcConfig.CACHE_MAX_SIZE.getDefaultValue(),
+                false /* hidden */,
+                false /* reserved */),
+            longPropertyEntry(
+                JdbcConfig.CACHE_TTL_MS.getKey(),
+                JdbcConfig.CACHE_TTL_MS.getDoc(),
+                false /* required */,
+                false /* immutable */,
+                JdbcConfig.CACHE_TTL_MS.getDefaultValue(),
+                false /* hidden */,
+                false /* reserved */),
+            longPropertyEntry(
+                JdbcConfig.CACHE_PROBE_INTERVAL_MS.getKey(),
+                JdbcConfig.CACHE_PROBE_INTERVAL_MS.getDoc(),
+                false /* required */,
+                false /* immutable */,
+                JdbcConfig.CACHE_PROBE_INTERVAL_MS.getDefaultValue(),
+                false /* hidden */,
                 false /* reserved */));
     PROPERTIES_METADATA =
         ImmutableMap.<String, PropertyEntry<?>>builder()
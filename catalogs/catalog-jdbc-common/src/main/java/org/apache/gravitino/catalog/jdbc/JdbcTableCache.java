@@ -0,0 +1,268 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog.jdbc;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
+import java.io.Closeable;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.catalog.jdbc.config.JdbcConfig;
+import org.apache.gravitino.catalog.jdbc.operation.TableOperation;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.CatalogCacheMetricsSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A cache of the loaded tables and the table names of a JDBC catalog.
+ *
+ * <p>The entries are invalidated by the operations through Gravitino, and expire after the
+ * configured TTL. To catch the changes made outside Gravitino, the fingerprint of the tables in a
+ * database is probed at most once per probe interval before the cache of the database is read,
+ * and all the entries of the database are invalidated once the fingerprint changes. If the catalog
+ * supports it, the fingerprint of a cached table is also probed at most once per probe interval
+ * before the table is read, and the table is reloaded once its fingerprint changes, so a database
+ * probe doesn't need to cover the columns and the indexes of all its tables.
+ */
+public class JdbcTableCache implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(JdbcTableCache.class);
+
+  private final TableOperation tableOperation;
+  private final long probeIntervalMs;
+  // The key is the identifier of the table in the form of database.table.
+  private final Cache<NameIdentifier, CachedTable> tables;
+  private final Cache<String, List<String>> tableNames;
+  private final Map<String, DatabaseFingerprint> fingerprints = new ConcurrentHashMap<>();
+  private final CatalogCacheMetricsSource metricsSource;
+  // Incremented on each invalidation, an entry loaded across an invalidation is not cached.
+  private final AtomicLong generation = new AtomicLong();
+
+  private static class DatabaseFingerprint {
+    private long lastProbeTime;
+    private String fingerprint;
+  }
+
+  private static class CachedTable {
+    private final JdbcTable table;
+    // Empty if the catalog doesn't support probing a table.
+    private final String fingerprint;
+    private volatile long lastProbeTime;
+
+    private CachedTable(JdbcTable table, String fingerprint, long lastProbeTime) {
+      this.table = table;
+      this.fingerprint = fingerprint;
+      this.lastProbeTime = lastProbeTime;
+    }
+  }
+
+  public JdbcTableCache(
+      TableOperation tableOperation, JdbcConfig jdbcConfig, String metalake, String catalog) {
+    this.tableOperation = tableOperation;
+    this.probeIntervalMs = jdbcConfig.getCacheProbeIntervalMs();
+    this.tables =
+        Caffeine.newBuilder()
+            .maximumSize(jdbcConfig.getCacheMaxSize())
+            .expireAfterWrite(jdbcConfig.getCacheTtlMs(), TimeUnit.MILLISECONDS)
+            .build();
+    this.tableNames =
+        Caffeine.newBuilder()
+            .expireAfterWrite(jdbcConfig.getCacheTtlMs(), TimeUnit.MILLISECONDS)
+            .build();
+    this.metricsSource = new CatalogCacheMetricsSource(metalake, catalog, tables::estimatedSize);
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
+  }
+
+  /**
+   * Gets the table from the cache, or loads it by the loader if it's not cached.
+   *
+   * @param databaseName The name of the database.
+   * @param tableName The name of the table.
+   * @param loader The loader to load the table.
+   * @return The table.
+   */
+  public JdbcTable getTable(String databaseName, String tableName, Supplier<JdbcTable> loader) {
+    probeChanges(databaseName);
+    NameIdentifier key = NameIdentifier.of(databaseName, tableName);
+    CachedTable cachedTable = tables.getIfPresent(key);
+    if (cachedTable != null && !isTableChanged(databaseName, tableName, cachedTable)) {
+      metricsSource.incHits();
+      return cachedTable.table;
+    }
+
+    metricsSource.incMisses();
+    long loadGeneration = generation.get();
+    // Probed before the table is loaded, so a change made during the load is caught by the next
+    // probe.
+    long probeTime = System.currentTimeMillis();
+    String fingerprint = null;
+    try {
+      fingerprint = tableOperation.getTableFingerprint(databaseName, tableName).orElse("");
+    } catch (RuntimeException e) {
+      // The table isn't cached, as its changes can't be detected.
+      LOG.warn("Failed to probe the changes of table {}.{}", databaseName, tableName, e);
+    }
+
+    JdbcTable table = loader.get();
+    if (fingerprint != null) {
+      putIfUnchanged(tables, key, new CachedTable(table, fingerprint, probeTime), loadGeneration);
+    }
+    return table;
+  }
+
+  /**
+   * Gets the table names of the database from the cache, or lists them by the loader if they are
+   * not cached.
+   *
+   * @param databaseName The name of the database.
+   * @param loader The loader to list the table names.
+   * @return The table names of the database.
+   */
+  public List<String> listTables(String databaseName, Supplier<List<String>> loader) {
+    probeChanges(databaseName);
+    List<String> names = tableNames.getIfPresent(databaseName);
+    if (names != null) {
+      metricsSource.incHits();
+      return names;
+    }
+
+    metricsSource.incMisses();
+    long loadGeneration = generation.get();
+    names = loader.get();
+    putIfUnchanged(tableNames, databaseName, names, loadGeneration);
+    return names;
+  }
+
+  /**
+   * Invalidates the cached table and the cached table names of its database.
+   *
+   * @param databaseName The name of the database.
+   * @param tableName The name of the table.
+   */
+  public synchronized void invalidateTable(String databaseName, String tableName) {
+    generation.incrementAndGet();
+    metricsSource.incInvalidations();
+    tables.invalidate(NameIdentifier.of(databaseName, tableName));
+    tableNames.invalidate(databaseName);
+  }
+
+  /**
+   * Invalidates all the cached tables and the cached table names of the database.
+   *
+   * @param databaseName The name of the database.
+   */
+  public synchronized void invalidateDatabase(String databaseName) {
+    generation.incrementAndGet();
+    metricsSource.incInvalidations();
+    tables.asMap().keySet().removeIf(ident -> ident.namespace().level(0).equals(databaseName));
+    tableNames.invalidate(databaseName);
+  }
+
+  @VisibleForTesting
+  CatalogCacheMetricsSource metricsSource() {
+    return metricsSource;
+  }
+
+  @Override
+  public void close() {
+    tables.invalidateAll();
+    tableNames.invalidateAll();
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
+    }
+  }
+
+  private synchronized <K, V> void putIfUnchanged(
+      Cache<K, V> cache, K key, V value, long loadGeneration) {
+    if (generation.get() == loadGeneration) {
+      cache.put(key, value);
+    }
+  }
+
+  private boolean isTableChanged(String databaseName, String tableName, CachedTable cachedTable) {
+    long now = System.currentTimeMillis();
+    if (cachedTable.fingerprint.isEmpty() || now - cachedTable.lastProbeTime < probeIntervalMs) {
+      return false;
+    }
+    cachedTable.lastProbeTime = now;
+
+    boolean changed;
+    try {
+      changed =
+          !cachedTable.fingerprint.equals(
+              tableOperation.getTableFingerprint(databaseName, tableName).orElse(""));
+    } catch (RuntimeException e) {
+      LOG.warn("Failed to probe the changes of table {}.{}", databaseName, tableName, e);
+      changed = true;
+    }
+    if (changed) {
+      LOG.info("Table {}.{} is changed outside, invalidate the cache", databaseName, tableName);
+      metricsSource.incInvalidations();
+    }
+    return changed;
+  }
+
+  private void probeChanges(String databaseName) {
+    DatabaseFingerprint databaseFingerprint =
+        fingerprints.computeIfAbsent(databaseName, k -> new DatabaseFingerprint());
+    synchronized (databaseFingerprint) {
+      long now = System.currentTimeMillis();
+      if (databaseFingerprint.fingerprint != null
+          && now - databaseFingerprint.lastProbeTime < probeIntervalMs) {
+        return;
+      }
+      databaseFingerprint.lastProbeTime = now;
+
+      Optional<String> fingerprint;
+      try {
+        fingerprint = tableOperation.getTablesFingerprint(databaseName);
+      } catch (RuntimeException e) {
+        LOG.warn("Failed to probe the changes of database {}", databaseName, e);
+        invalidateDatabase(databaseName);
+        databaseFingerprint.fingerprint = null;
+        return;
+      }
+
+      if (!fingerprint.isPresent()) {
+        // The catalog doesn't support probing, the entries are only expired by the TTL.
+        databaseFingerprint.fingerprint = "";
+        return;
+      }
+      if (databaseFingerprint.fingerprint != null
+          && !databaseFingerprint.fingerprint.equals(fingerprint.get())) {
+        LOG.info("Tables of database {} are changed outside, invalidate the cache", databaseName);
+        invalidateDatabase(databaseName);
+      }
+      databaseFingerprint.fingerprint = fingerprint.get();
+    }
+  }
+}
@@ -91,6 +91,39 @@ public class JdbcConfig extends Config {
           .booleanConf()
           .createWithDefault(true);
 
+  public static final ConfigEntry<Boolean> CACHE_ENABLED =
+      new ConfigBuilder("jdbc.cache.enabled")
+          .doc("Whether to cache the loaded tables and the table names of the catalog")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<Long> CACHE_MAX_SIZE =
+      new ConfigBuilder("jdbc.cache.max-size")
+          .doc("The maximum number of the tables in the cache")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(10000L);
+
+  public static final ConfigEntry<Long> CACHE_TTL_MS =
+      new ConfigBuilder("jdbc.cache.ttl-ms")
+          .doc("The time in milliseconds that a cached entry expires after it is loaded")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(300000L);
+
+  public static final ConfigEntry<Long> CACHE_PROBE_INTERVAL_MS =
+      new ConfigBuilder("jdbc.cache.probe-interval-ms")
+          .doc(
+              "The minimum interval in milliseconds between two probes of the changes of a"
+                  + " database made outside Gravitino, 0 means probing on every access")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(5000L);
+
   public String getJdbcUrl() {
     return get(JDBC_URL);
   }
@@ -123,6 +156,22 @@ public class JdbcConfig extends Config {
     return get(TEST_ON_BORROW);
   }
 
+  public boolean isCacheEnabled() {
+    return get(CACHE_ENABLED);
+  }
+
+  public long getCacheMaxSize() {
+    return get(CACHE_MAX_SIZE);
+  }
+
+  public long getCacheTtlMs() {
+    return get(CACHE_TTL_MS);
+  }
+
+  public long getCacheProbeIntervalMs() {
+    return get(CACHE_PROBE_INTERVAL_MS);
+  }
+
   public JdbcConfig(Map<String, String> properties) {
     super(false);
     loadFromMap(properties, k -> true);
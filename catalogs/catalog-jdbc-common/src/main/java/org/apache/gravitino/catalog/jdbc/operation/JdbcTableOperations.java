@@ -194,6 +194,16 @@ public abstract class JdbcTableOperations implements TableOperation {
     // 2. MySQL treats 'a_b' as a wildcard, matching any table name that begins with 'a', followed
     // by any character, and ending with 'b'.
     try (Connection connection = getConnection(databaseName)) {
+      // Load the table from the system tables in a few queries if the catalog supports it.
+      Optional<List<JdbcTable.Builder>> tableBuilders =
+          loadTableBuilders(connection, databaseName, tableName);
+      if (tableBuilders.isPresent()) {
+        if (tableBuilders.get().isEmpty()) {
+          throw new NoSuchTableException("Table %s does not exist in %s.", tableName, databaseName);
+        }
+        return buildTable(connection, databaseName, tableBuilders.get().get(0));
+      }
+
       // 1. Get table information, The result of tables may be more than one due to the reason
       // above, so we need to check the result.
       ResultSet tables = getTable(connection, databaseName, tableName);
@@ -239,6 +249,39 @@ public abstract class JdbcTableOperations implements TableOperation {
     }
   }
 
+  /**
+   * Load the basic information, columns, indexes and properties of the table from the system
+   * tables, like information_schema, in a constant number of queries instead of a series of
+   * DatabaseMetaData calls. The partitioning, distribution and the corrections of {@link
+   * #correctJdbcTableFields} are still applied to the returned builder.
+   *
+   * <p>The default implementation returns an empty Optional, which means the table is loaded
+   * through DatabaseMetaData.
+   *
+   * @param connection jdbc connection
+   * @param databaseName database name
+   * @param tableName the name of the table to load
+   * @return The builder of the table whose name exactly matches the table name, an empty list if
+   *     the table doesn't exist, or an empty Optional if the catalog doesn't support it.
+   * @throws SQLException if an error occurs while querying the system tables.
+   */
+  protected Optional<List<JdbcTable.Builder>> loadTableBuilders(
+      Connection connection, String databaseName, String tableName) throws SQLException {
+    return Optional.empty();
+  }
+
+  private JdbcTable buildTable(
+      Connection connection, String databaseName, JdbcTable.Builder tableBuilder)
+      throws SQLException {
+    String tableName = tableBuilder.name();
+    tableBuilder
+        .withDatabaseName(databaseName)
+        .withPartitioning(getTablePartitioning(connection, databaseName, tableName))
+        .withDistribution(getDistributionInfo(connection, databaseName, tableName));
+    correctJdbcTableFields(connection, databaseName, tableName, tableBuilder);
+    return tableBuilder.withTableOperation(this).build();
+  }
+
   /**
    * Get all properties values of the table, including properties outside Gravitino management. The
    * JdbcCatalogOperations#loadTable method will filter out unnecessary properties.
@@ -381,7 +424,6 @@ public abstract class JdbcTableOperations implements TableOperation {
   protected List<Index> getIndexes(Connection connection, String databaseName, String tableName)
       throws SQLException {
     DatabaseMetaData metaData = connection.getMetaData();
-    List<Index> indexes = new ArrayList<>();
 
     // Get primary key information
     ResultSet primaryKeys = getPrimaryKeys(databaseName, tableName, metaData);
@@ -413,7 +455,17 @@ public abstract class JdbcTableOperations implements TableOperation {
       }
     }
 
-    // Assemble into Index
+    return toIndexes(jdbcIndexBeans);
+  }
+
+  /**
+   * Assemble the index columns into indexes by the index type and the index name.
+   *
+   * @param jdbcIndexBeans The index columns of a table.
+   * @return The indexes of the table.
+   */
+  protected List<Index> toIndexes(List<JdbcIndexBean> jdbcIndexBeans) {
+    List<Index> indexes = new ArrayList<>();
     Map<Index.IndexType, List<JdbcIndexBean>> indexBeanGroupByIndexType =
         jdbcIndexBeans.stream().collect(Collectors.groupingBy(JdbcIndexBean::getIndexType));
 
@@ -21,6 +21,7 @@ package org.apache.gravitino.catalog.jdbc.operation;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import javax.sql.DataSource;
 import org.apache.gravitino.catalog.jdbc.JdbcColumn;
 import org.apache.gravitino.catalog.jdbc.JdbcTable;
@@ -115,6 +116,31 @@ public interface TableOperation {
    */
   boolean purge(String databaseName, String tableName);
 
+  /**
+   * Gets a cheap fingerprint of the tables in the database, which changes when the tables are
+   * created, altered or dropped. It's used to detect the changes made outside Gravitino for the
+   * cached metadata.
+   *
+   * @param databaseName The name of the database.
+   * @return The fingerprint of the tables, or an empty Optional if the catalog doesn't support it.
+   */
+  default Optional<String> getTablesFingerprint(String databaseName) {
+    return Optional.empty();
+  }
+
+  /**
+   * Gets a cheap fingerprint of the table, which changes when the table is altered. It's probed
+   * for a cached table in addition to {@link #getTablesFingerprint(String)}, so the latter only
+   * needs to cover the changes of the table list if this is supported.
+   *
+   * @param databaseName The name of the database.
+   * @param tableName The name of the table.
+   * @return The fingerprint of the table, or an empty Optional if the catalog doesn't support it.
+   */
+  default Optional<String> getTableFingerprint(String databaseName, String tableName) {
+    return Optional.empty();
+  }
+
   default JdbcTablePartitionOperations createJdbcTablePartitionOperations(JdbcTable loadedTable) {
     throw new UnsupportedOperationException("Table partition operation is not supported yet");
   }
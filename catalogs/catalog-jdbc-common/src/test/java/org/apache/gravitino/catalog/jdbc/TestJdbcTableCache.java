@@ -0,0 +1,230 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog.jdbc;
+
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.gravitino.catalog.jdbc.config.JdbcConfig;
+import org.apache.gravitino.catalog.jdbc.operation.SqliteTableOperations;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.metrics.MetricNames;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestJdbcTableCache {
+
+  private final AtomicReference<String> fingerprint = new AtomicReference<>("v1");
+
+  private final AtomicReference<String> tableFingerprint = new AtomicReference<>();
+
+  private final SqliteTableOperations tableOperations =
+      new SqliteTableOperations() {
+        @Override
+        public Optional<String> getTablesFingerprint(String databaseName) {
+          return Optional.ofNullable(fingerprint.get());
+        }
+
+        @Override
+        public Optional<String> getTableFingerprint(String databaseName, String tableName) {
+          return Optional.ofNullable(tableFingerprint.get());
+        }
+      };
+
+  private JdbcTableCache createCache(long probeIntervalMs) {
+    JdbcConfig jdbcConfig =
+        new JdbcConfig(
+            ImmutableMap.of(
+                JdbcConfig.CACHE_ENABLED.getKey(),
+                "true",
+                JdbcConfig.CACHE_PROBE_INTERVAL_MS.getKey(),
+                String.valueOf(probeIntervalMs)));
+    return new JdbcTableCache(tableOperations, jdbcConfig, "metalake", "catalog");
+  }
+
+  private static JdbcTable table(String name) {
+    return JdbcTable.builder()
+        .withName(name)
+        .withColumns(new JdbcColumn[0])
+        .withAuditInfo(AuditInfo.EMPTY)
+        .build();
+  }
+
+  @Test
+  public void testCacheAndInvalidate() {
+    AtomicInteger loads = new AtomicInteger();
+    try (JdbcTableCache cache = createCache(60000L)) {
+      for (int i = 0; i < 3; i++) {
+        JdbcTable loaded =
+            cache.getTable(
+                "db",
+                "t1",
+                () -> {
+                  loads.incrementAndGet();
+                  return table("t1");
+                });
+        Assertions.assertEquals("t1", loaded.name());
+      }
+      Assertions.assertEquals(1, loads.get());
+
+      List<String> names = cache.listTables("db", () -> ImmutableList.of("t1"));
+      Assertions.assertEquals(ImmutableList.of("t1"), names);
+      // The cached table names are returned without calling the loader.
+      names = cache.listTables("db", () -> ImmutableList.of("t1", "t2"));
+      Assertions.assertEquals(ImmutableList.of("t1"), names);
+
+      // The operations through Gravitino invalidate the table and the table names.
+      cache.invalidateTable("db", "t1");
+      cache.getTable(
+          "db",
+          "t1",
+          () -> {
+            loads.incrementAndGet();
+            return table("t1");
+          });
+      Assertions.assertEquals(2, loads.get());
+      names = cache.listTables("db", () -> ImmutableList.of("t1", "t2"));
+      Assertions.assertEquals(ImmutableList.of("t1", "t2"), names);
+
+      MetricRegistry metricRegistry = cache.metricsSource().getMetricRegistry();
+      Assertions.assertEquals(3, metricRegistry.counter(MetricNames.CATALOG_CACHE_HITS).getCount());
+      Assertions.assertEquals(
+          4, metricRegistry.counter(MetricNames.CATALOG_CACHE_MISSES).getCount());
+      Assertions.assertEquals(3.0 / 7, cache.metricsSource().hitRatio(), 1e-6);
+    }
+  }
+
+  @Test
+  public void testDetectChangesOutside() {
+    AtomicInteger loads = new AtomicInteger();
+    try (JdbcTableCache cache = createCache(0L)) {
+      cache.getTable(
+          "db",
+          "t1",
+          () -> {
+            loads.incrementAndGet();
+            return table("t1");
+          });
+      cache.getTable("db", "t1", () -> table("t1"));
+      Assertions.assertEquals(1, loads.get());
+
+      // The tables are changed outside Gravitino.
+      fingerprint.set("v2");
+      cache.getTable(
+          "db",
+          "t1",
+          () -> {
+            loads.incrementAndGet();
+            return table("t1");
+          });
+      Assertions.assertEquals(2, loads.get());
+
+      // The changes of other databases don't affect the cache.
+      cache.invalidateDatabase("other_db");
+      cache.getTable(
+          "db",
+          "t1",
+          () -> {
+            loads.incrementAndGet();
+            return table("t1");
+          });
+      Assertions.assertEquals(2, loads.get());
+    }
+  }
+
+  @Test
+  public void testDetectTableChangesOutside() {
+    tableFingerprint.set("t1_v1");
+    AtomicInteger loads = new AtomicInteger();
+    try (JdbcTableCache cache = createCache(0L)) {
+      for (int i = 0; i < 2; i++) {
+        cache.getTable(
+            "db",
+            "t1",
+            () -> {
+              loads.incrementAndGet();
+              return table("t1");
+            });
+      }
+      Assertions.assertEquals(1, loads.get());
+      List<String> names = cache.listTables("db", () -> ImmutableList.of("t1"));
+
+      // The table is altered outside Gravitino, only the table is reloaded.
+      tableFingerprint.set("t1_v2");
+      cache.getTable(
+          "db",
+          "t1",
+          () -> {
+            loads.incrementAndGet();
+            return table("t1");
+          });
+      Assertions.assertEquals(2, loads.get());
+      Assertions.assertSame(names, cache.listTables("db", () -> ImmutableList.of("t1", "t2")));
+
+      // The table is cached again with the new fingerprint.
+      cache.getTable(
+          "db",
+          "t1",
+          () -> {
+            loads.incrementAndGet();
+            return table("t1");
+          });
+      Assertions.assertEquals(2, loads.get());
+    }
+  }
+
+  @Test
+  public void testNotCacheStaleLoad() {
+    AtomicInteger loads = new AtomicInteger();
+    try (JdbcTableCache cache = createCache(60000L)) {
+      // The table is altered through Gravitino while it's being loaded.
+      cache.getTable(
+          "db",
+          "t1",
+          () -> {
+            loads.incrementAndGet();
+            cache.invalidateTable("db", "t1");
+            return table("t1");
+          });
+      cache.getTable(
+          "db",
+          "t1",
+          () -> {
+            loads.incrementAndGet();
+            return table("t1");
+          });
+      Assertions.assertEquals(2, loads.get());
+
+      List<String> names =
+          cache.listTables(
+              "db",
+              () -> {
+                cache.invalidateDatabase("db");
+                return ImmutableList.of("t1");
+              });
+      Assertions.assertEquals(ImmutableList.of("t1"), names);
+      names = cache.listTables("db", () -> ImmutableList.of("t1", "t2"));
+      Assertions.assertEquals(ImmutableList.of("t1", "t2"), names);
+    }
+  }
+}
@@ -32,9 +32,11 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
@@ -44,9 +46,11 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.StringIdentifier;
 import org.apache.gravitino.catalog.jdbc.JdbcColumn;
 import org.apache.gravitino.catalog.jdbc.JdbcTable;
+import org.apache.gravitino.catalog.jdbc.bean.JdbcIndexBean;
 import org.apache.gravitino.catalog.jdbc.operation.JdbcTableOperations;
 import org.apache.gravitino.exceptions.NoSuchColumnException;
 import org.apache.gravitino.exceptions.NoSuchTableException;
+import org.apache.gravitino.meta.AuditInfo;
 import org.apache.gravitino.rel.Column;
 import org.apache.gravitino.rel.TableChange;
 import org.apache.gravitino.rel.expressions.distributions.Distribution;
@@ -63,6 +67,36 @@ public class MysqlTableOperations extends JdbcTableOperations {
   private static final String MYSQL_AUTO_INCREMENT = "AUTO_INCREMENT";
   private static final String MYSQL_NOT_SUPPORT_NESTED_COLUMN_MSG =
       "Mysql does not support nested column names.";
+  private static final String MYSQL_PRIMARY_KEY_NAME = "PRIMARY";
+
+  // The columns are still loaded by DatabaseMetaData#getColumns, so their types and sizes are
+  // derived by the driver, like tinyint(1) reported as BIT by MySQL Connector/J.
+  private static final String LOAD_TABLE_SQL =
+      "SELECT TABLE_NAME, TABLE_COMMENT, ENGINE, AUTO_INCREMENT FROM information_schema.TABLES"
+          + " WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ?";
+
+  // The checksum of the table definitions in a schema, which only reads information_schema.TABLES.
+  // The columns and the indexes are covered per table by TABLE_FINGERPRINT_SQL, which only reads
+  // the rows of the table. CREATE_TIME and UPDATE_TIME are not used, as they are cached by
+  // information_schema_stats_expiry in MySQL 8, UPDATE_TIME changes on every write, and an INSTANT
+  // ADD COLUMN doesn't change CREATE_TIME. Changes to the other table properties, like the auto
+  // increment offset, are not detected and only expire by the TTL.
+  private static final String TABLES_FINGERPRINT_SQL =
+      "SELECT CONCAT(COUNT(*), ':', COALESCE(SUM(CRC32(CONCAT_WS(':', TABLE_NAME, ENGINE,"
+          + " TABLE_COMMENT))), 0)) FROM information_schema.TABLES WHERE TABLE_SCHEMA = ?";
+
+  // The checksums of the column and index definitions of a table.
+  private static final String TABLE_FINGERPRINT_SQL =
+      "SELECT CONCAT((SELECT CONCAT(COUNT(*), ':', COALESCE(SUM(CRC32(CONCAT_WS(':', COLUMN_NAME,"
+          + " ORDINAL_POSITION, COLUMN_TYPE, IS_NULLABLE, COLUMN_DEFAULT, EXTRA, COLUMN_COMMENT))),"
+          + " 0)) FROM information_schema.COLUMNS WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ?), ':',"
+          + " (SELECT CONCAT(COUNT(*), ':', COALESCE(SUM(CRC32(CONCAT_WS(':', INDEX_NAME,"
+          + " COLUMN_NAME, SEQ_IN_INDEX, NON_UNIQUE))), 0)) FROM information_schema.STATISTICS"
+          + " WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ?))";
+
+  private static final String LOAD_INDEXES_SQL =
+      "SELECT TABLE_NAME, INDEX_NAME, COLUMN_NAME, SEQ_IN_INDEX FROM information_schema.STATISTICS"
+          + " WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ? AND NON_UNIQUE = 0";
 
   @Override
   protected String generateCreateTableSql(
@@ -204,6 +238,132 @@ public class MysqlTableOperations extends JdbcTableOperations {
     }
   }
 
+  @Override
+  protected Optional<List<JdbcTable.Builder>> loadTableBuilders(
+      Connection connection, String databaseName, String tableName) throws SQLException {
+    // 1. Get the table, the properties are the same as SHOW TABLE STATUS in getTableProperties
+    Map<String, JdbcTable.Builder> tableBuilders = new LinkedHashMap<>();
+    try (PreparedStatement statement = connection.prepareStatement(LOAD_TABLE_SQL)) {
+      statement.setString(1, databaseName);
+      statement.setString(2, tableName);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        while (resultSet.next()) {
+          // MySQL may be case-insensitive, so we need to check the name of the table.
+          String name = resultSet.getString("TABLE_NAME");
+          if (Objects.equals(name, tableName)) {
+            tableBuilders.put(name, getTableBuilderFromInformationSchema(resultSet));
+          }
+        }
+      }
+    }
+
+    // 2. Get the columns, the table name is a pattern, so we need to check the result.
+    Map<String, List<JdbcColumn>> tableColumns = new HashMap<>();
+    if (!tableBuilders.isEmpty()) {
+      try (ResultSet resultSet = getColumns(connection, databaseName, tableName)) {
+        while (resultSet.next()) {
+          String name = resultSet.getString("TABLE_NAME");
+          if (tableBuilders.containsKey(name)) {
+            JdbcColumn.Builder columnBuilder = getBasicJdbcColumnInfo(resultSet);
+            columnBuilder.withAutoIncrement(getAutoIncrementInfo(resultSet));
+            tableColumns.computeIfAbsent(name, k -> new ArrayList<>()).add(columnBuilder.build());
+          }
+        }
+      }
+    }
+
+    // 3. Get the primary key and the unique keys in one query
+    Map<String, List<JdbcIndexBean>> tableIndexes = new HashMap<>();
+    if (!tableBuilders.isEmpty()) {
+      try (PreparedStatement statement = connection.prepareStatement(LOAD_INDEXES_SQL)) {
+        statement.setString(1, databaseName);
+        statement.setString(2, tableName);
+        try (ResultSet resultSet = statement.executeQuery()) {
+          while (resultSet.next()) {
+            String name = resultSet.getString("TABLE_NAME");
+            String columnName = resultSet.getString("COLUMN_NAME");
+            // Skip the functional key parts, which have no column name.
+            if (!tableBuilders.containsKey(name) || columnName == null) {
+              continue;
+            }
+            String indexName = resultSet.getString("INDEX_NAME");
+            Index.IndexType indexType =
+                MYSQL_PRIMARY_KEY_NAME.equals(indexName)
+                    ? Index.IndexType.PRIMARY_KEY
+                    : Index.IndexType.UNIQUE_KEY;
+            tableIndexes
+                .computeIfAbsent(name, k -> new ArrayList<>())
+                .add(
+                    new JdbcIndexBean(
+                        indexType, columnName, indexName, resultSet.getInt("SEQ_IN_INDEX")));
+          }
+        }
+      }
+    }
+
+    List<JdbcTable.Builder> builders = new ArrayList<>(tableBuilders.size());
+    for (Map.Entry<String, JdbcTable.Builder> entry : tableBuilders.entrySet()) {
+      List<Index> indexes =
+          toIndexes(tableIndexes.getOrDefault(entry.getKey(), Collections.emptyList()));
+      builders.add(
+          entry
+              .getValue()
+              .withColumns(
+                  tableColumns
+                      .getOrDefault(entry.getKey(), Collections.emptyList())
+                      .toArray(new JdbcColumn[0]))
+              .withIndexes(indexes.toArray(new Index[0])));
+    }
+    return Optional.of(builders);
+  }
+
+  @Override
+  public Optional<String> getTablesFingerprint(String databaseName) {
+    try (Connection connection = getConnection(databaseName);
+        PreparedStatement statement = connection.prepareStatement(TABLES_FINGERPRINT_SQL)) {
+      statement.setString(1, databaseName);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        return resultSet.next() ? Optional.of(resultSet.getString(1)) : Optional.empty();
+      }
+    } catch (SQLException e) {
+      throw exceptionMapper.toGravitinoException(e);
+    }
+  }
+
+  @Override
+  public Optional<String> getTableFingerprint(String databaseName, String tableName) {
+    try (Connection connection = getConnection(databaseName);
+        PreparedStatement statement = connection.prepareStatement(TABLE_FINGERPRINT_SQL)) {
+      statement.setString(1, databaseName);
+      statement.setString(2, tableName);
+      statement.setString(3, databaseName);
+      statement.setString(4, tableName);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        return resultSet.next() ? Optional.of(resultSet.getString(1)) : Optional.empty();
+      }
+    } catch (SQLException e) {
+      throw exceptionMapper.toGravitinoException(e);
+    }
+  }
+
+  private JdbcTable.Builder getTableBuilderFromInformationSchema(ResultSet resultSet)
+      throws SQLException {
+    // The same properties as SHOW TABLE STATUS in getTableProperties
+    Map<String, String> properties = new HashMap<>();
+    properties.put(COMMENT, resultSet.getString("TABLE_COMMENT"));
+    properties.put(MYSQL_ENGINE_KEY, resultSet.getString("ENGINE"));
+    String autoIncrement = resultSet.getString("AUTO_INCREMENT");
+    if (StringUtils.isNotEmpty(autoIncrement)) {
+      properties.put(MYSQL_AUTO_INCREMENT_OFFSET_KEY, autoIncrement);
+    }
+
+    return JdbcTable.builder()
+        .withName(resultSet.getString("TABLE_NAME"))
+        .withComment(resultSet.getString("TABLE_COMMENT"))
+        .withProperties(Collections.unmodifiableMap(properties))
+        .withAuditInfo(AuditInfo.EMPTY);
+  }
+
   @Override
   protected String generatePurgeTableSql(String tableName) {
     throw new UnsupportedOperationException(
@@ -34,6 +34,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.catalog.jdbc.JdbcColumn;
 import org.apache.gravitino.catalog.jdbc.JdbcTable;
 import org.apache.gravitino.exceptions.GravitinoRuntimeException;
+import org.apache.gravitino.exceptions.NoSuchTableException;
 import org.apache.gravitino.rel.Column;
 import org.apache.gravitino.rel.TableChange;
 import org.apache.gravitino.rel.expressions.distributions.Distributions;
@@ -802,6 +803,58 @@ public class TestMysqlTableOperations extends TestMysql {
     Assertions.assertFalse(tables.contains(test_table_2));
   }
 
+  @Test
+  public void testLoadTableFromSystemTables() {
+    String tableName = RandomNameUtils.genRandomName("load_tables_");
+    String tableComment = "test_comment";
+    List<JdbcColumn> columns = new ArrayList<>();
+    columns.add(
+        JdbcColumn.builder()
+            .withName("col_1")
+            .withType(Types.LongType.get())
+            .withComment("increment key")
+            .withNullable(false)
+            .withAutoIncrement(true)
+            .build());
+    columns.add(
+        JdbcColumn.builder()
+            .withName("col_2")
+            .withType(VARCHAR)
+            .withNullable(true)
+            .withComment("name")
+            .withDefaultValue(Literals.NULL)
+            .build());
+    Map<String, String> properties = new HashMap<>();
+    Index[] indexes =
+        new Index[] {
+          Indexes.createMysqlPrimaryKey(new String[][] {{"col_1"}}),
+          Indexes.unique("load_tables_uk", new String[][] {{"col_2"}})
+        };
+    TABLE_OPERATIONS.create(
+        TEST_DB_NAME.toString(),
+        tableName,
+        columns.toArray(new JdbcColumn[0]),
+        tableComment,
+        properties,
+        null,
+        Distributions.NONE,
+        indexes);
+
+    assertionsTableInfo(
+        tableName,
+        tableComment,
+        columns,
+        properties,
+        indexes,
+        Transforms.EMPTY_TRANSFORM,
+        TABLE_OPERATIONS.load(TEST_DB_NAME.toString(), tableName));
+
+    TABLE_OPERATIONS.drop(TEST_DB_NAME.toString(), tableName);
+    Assertions.assertThrows(
+        NoSuchTableException.class,
+        () -> TABLE_OPERATIONS.load(TEST_DB_NAME.toString(), tableName));
+  }
+
   @Test
   public void testLoadTableDefaultProperties() {
     String test_table_1 = RandomNameUtils.genRandomName("properties_table_");
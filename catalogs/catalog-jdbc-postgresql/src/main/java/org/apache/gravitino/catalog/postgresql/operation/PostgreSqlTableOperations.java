@@ -25,13 +25,18 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import javax.sql.DataSource;
 import org.apache.commons.collections4.MapUtils;
@@ -41,6 +46,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.StringIdentifier;
 import org.apache.gravitino.catalog.jdbc.JdbcColumn;
 import org.apache.gravitino.catalog.jdbc.JdbcTable;
+import org.apache.gravitino.catalog.jdbc.bean.JdbcIndexBean;
 import org.apache.gravitino.catalog.jdbc.config.JdbcConfig;
 import org.apache.gravitino.catalog.jdbc.converter.JdbcColumnDefaultValueConverter;
 import org.apache.gravitino.catalog.jdbc.converter.JdbcExceptionConverter;
@@ -49,6 +55,7 @@ import org.apache.gravitino.catalog.jdbc.operation.JdbcTableOperations;
 import org.apache.gravitino.exceptions.NoSuchColumnException;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
 import org.apache.gravitino.exceptions.NoSuchTableException;
+import org.apache.gravitino.meta.AuditInfo;
 import org.apache.gravitino.rel.Column;
 import org.apache.gravitino.rel.TableChange;
 import org.apache.gravitino.rel.expressions.distributions.Distribution;
@@ -71,6 +78,36 @@ public class PostgreSqlTableOperations extends JdbcTableOperations {
   private static final String POSTGRESQL_NOT_SUPPORT_NESTED_COLUMN_MSG =
       "PostgreSQL does not support nested column names.";
 
+  // The columns are still loaded by DatabaseMetaData#getColumns, so their types and sizes are
+  // derived by the driver, like the integer columns with a sequence default value reported as
+  // serial types by the PostgreSQL JDBC driver.
+  private static final String LOAD_TABLE_SQL =
+      "SELECT pc.relname AS TABLE_NAME,"
+          + " pg_catalog.obj_description(pc.oid, 'pg_class') AS TABLE_COMMENT"
+          + " FROM pg_catalog.pg_class pc"
+          + " JOIN pg_catalog.pg_namespace pn ON pn.oid = pc.relnamespace"
+          + " WHERE pn.nspname = ? AND pc.relname = ?";
+
+  // The xmin of a row in pg_class changes when the table is created or altered, and the tables
+  // renamed or dropped change the count or the sum.
+  private static final String TABLES_FINGERPRINT_SQL =
+      "SELECT COUNT(*) || ':' || COALESCE(SUM(pc.xmin::text::bigint), 0)"
+          + " || ':' || COALESCE(SUM(length(pc.relname)), 0)"
+          + " FROM pg_catalog.pg_class pc"
+          + " JOIN pg_catalog.pg_namespace pn ON pn.oid = pc.relnamespace"
+          + " WHERE pn.nspname = ?";
+
+  private static final String LOAD_INDEXES_SQL =
+      "SELECT tc.relname AS TABLE_NAME, ic.relname AS INDEX_NAME, a.attname AS COLUMN_NAME,"
+          + " i.indisprimary AS IS_PRIMARY, (k.keys).n AS ORDINAL_POSITION"
+          + " FROM pg_catalog.pg_index i"
+          + " JOIN pg_catalog.pg_class ic ON ic.oid = i.indexrelid"
+          + " JOIN pg_catalog.pg_class tc ON tc.oid = i.indrelid"
+          + " JOIN pg_catalog.pg_namespace pn ON pn.oid = tc.relnamespace"
+          + " JOIN LATERAL (SELECT information_schema._pg_expandarray(i.indkey) AS keys) k ON true"
+          + " JOIN pg_catalog.pg_attribute a ON a.attrelid = tc.oid AND a.attnum = (k.keys).x"
+          + " WHERE pn.nspname = ? AND tc.relname = ? AND i.indisunique";
+
   private String database;
 
   @Override
@@ -703,6 +740,100 @@ public class PostgreSqlTableOperations extends JdbcTableOperations {
         + "';";
   }
 
+  @Override
+  protected Optional<List<JdbcTable.Builder>> loadTableBuilders(
+      Connection connection, String schemaName, String tableName) throws SQLException {
+    // 1. Get the table
+    Map<String, JdbcTable.Builder> tableBuilders = new LinkedHashMap<>();
+    try (PreparedStatement statement = connection.prepareStatement(LOAD_TABLE_SQL)) {
+      statement.setString(1, schemaName);
+      statement.setString(2, tableName);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        while (resultSet.next()) {
+          String name = resultSet.getString("TABLE_NAME");
+          tableBuilders.put(
+              name,
+              JdbcTable.builder()
+                  .withName(name)
+                  .withComment(resultSet.getString("TABLE_COMMENT"))
+                  .withAuditInfo(AuditInfo.EMPTY));
+        }
+      }
+    }
+
+    // 2. Get the columns, the table name is a pattern, so we need to check the result.
+    Map<String, List<JdbcColumn>> tableColumns = new HashMap<>();
+    if (!tableBuilders.isEmpty()) {
+      try (ResultSet resultSet = getColumns(connection, schemaName, tableName)) {
+        while (resultSet.next()) {
+          String name = resultSet.getString("TABLE_NAME");
+          if (tableBuilders.containsKey(name)) {
+            JdbcColumn.Builder columnBuilder = getBasicJdbcColumnInfo(resultSet);
+            columnBuilder.withAutoIncrement(getAutoIncrementInfo(resultSet));
+            tableColumns.computeIfAbsent(name, k -> new ArrayList<>()).add(columnBuilder.build());
+          }
+        }
+      }
+    }
+
+    // 3. Get the primary key and the unique keys in one query
+    Map<String, List<JdbcIndexBean>> tableIndexes = new HashMap<>();
+    if (!tableBuilders.isEmpty()) {
+      try (PreparedStatement statement = connection.prepareStatement(LOAD_INDEXES_SQL)) {
+        statement.setString(1, schemaName);
+        statement.setString(2, tableName);
+        try (ResultSet resultSet = statement.executeQuery()) {
+          while (resultSet.next()) {
+            String name = resultSet.getString("TABLE_NAME");
+            if (!tableBuilders.containsKey(name)) {
+              continue;
+            }
+            Index.IndexType indexType =
+                resultSet.getBoolean("IS_PRIMARY")
+                    ? Index.IndexType.PRIMARY_KEY
+                    : Index.IndexType.UNIQUE_KEY;
+            tableIndexes
+                .computeIfAbsent(name, k -> new ArrayList<>())
+                .add(
+                    new JdbcIndexBean(
+                        indexType,
+                        resultSet.getString("COLUMN_NAME"),
+                        resultSet.getString("INDEX_NAME"),
+                        resultSet.getInt("ORDINAL_POSITION")));
+          }
+        }
+      }
+    }
+
+    List<JdbcTable.Builder> builders = new ArrayList<>(tableBuilders.size());
+    for (Map.Entry<String, JdbcTable.Builder> entry : tableBuilders.entrySet()) {
+      List<Index> indexes =
+          toIndexes(tableIndexes.getOrDefault(entry.getKey(), Collections.emptyList()));
+      builders.add(
+          entry
+              .getValue()
+              .withColumns(
+                  tableColumns
+                      .getOrDefault(entry.getKey(), Collections.emptyList())
+                      .toArray(new JdbcColumn[0]))
+              .withIndexes(indexes.toArray(new Index[0])));
+    }
+    return Optional.of(builders);
+  }
+
+  @Override
+  public Optional<String> getTablesFingerprint(String schemaName) {
+    try (Connection connection = getConnection(schemaName);
+        PreparedStatement statement = connection.prepareStatement(TABLES_FINGERPRINT_SQL)) {
+      statement.setString(1, schemaName);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        return resultSet.next() ? Optional.of(resultSet.getString(1)) : Optional.empty();
+      }
+    } catch (SQLException e) {
+      throw exceptionMapper.toGravitinoException(e);
+    }
+  }
+
   @Override
   protected ResultSet getIndexInfo(String schemaName, String tableName, DatabaseMetaData metaData)
       throws SQLException {
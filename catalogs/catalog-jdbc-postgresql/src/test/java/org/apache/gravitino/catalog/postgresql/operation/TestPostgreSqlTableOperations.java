@@ -649,6 +649,57 @@ public class TestPostgreSqlTableOperations extends TestPostgreSql {
             "column \"no_exist_1\" named in key does not exist"));
   }
 
+  @Test
+  public void testLoadTableFromSystemTables() {
+    String tableName = RandomNameUtils.genRandomName("load_tables_");
+    String tableComment = "test_comment";
+    List<JdbcColumn> columns = new ArrayList<>();
+    columns.add(
+        JdbcColumn.builder()
+            .withName("col_1")
+            .withType(Types.LongType.get())
+            .withComment("increment key")
+            .withNullable(false)
+            .withAutoIncrement(true)
+            .build());
+    columns.add(
+        JdbcColumn.builder()
+            .withName("col_2")
+            .withType(VARCHAR)
+            .withNullable(true)
+            .withComment("name")
+            .withDefaultValue(Literals.NULL)
+            .build());
+    Map<String, String> properties = new HashMap<>();
+    Index[] indexes =
+        new Index[] {
+          Indexes.primary("load_tables_pk", new String[][] {{"col_1"}}),
+          Indexes.unique("load_tables_uk", new String[][] {{"col_2"}})
+        };
+    TABLE_OPERATIONS.create(
+        TEST_DB_NAME,
+        tableName,
+        columns.toArray(new JdbcColumn[0]),
+        tableComment,
+        properties,
+        null,
+        Distributions.NONE,
+        indexes);
+
+    assertionsTableInfo(
+        tableName,
+        tableComment,
+        columns,
+        properties,
+        indexes,
+        Transforms.EMPTY_TRANSFORM,
+        TABLE_OPERATIONS.load(TEST_DB_NAME, tableName));
+
+    TABLE_OPERATIONS.drop(TEST_DB_NAME, tableName);
+    Assertions.assertThrows(
+        NoSuchTableException.class, () -> TABLE_OPERATIONS.load(TEST_DB_NAME, tableName));
+  }
+
   @Test
   public void testAppendIndexesSql() {
     // Test append index sql success.
@@ -36,11 +36,15 @@ dependencies {
   implementation(project(":common")) {
     exclude("*")
   }
+  implementation(project(":catalogs:catalog-common")) {
+    exclude("*")
+  }
   implementation(project(":catalogs:hive-metastore-common"))
   implementation(project(":core")) {
     exclude("*")
   }
 
+  implementation(libs.caffeine)
   implementation(libs.commons.collections3)
   implementation(libs.commons.configuration1)
   implementation(libs.htrace.core4)
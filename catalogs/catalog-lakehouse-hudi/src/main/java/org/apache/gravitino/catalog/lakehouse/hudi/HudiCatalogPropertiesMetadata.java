@@ -18,7 +18,9 @@
  */
 package org.apache.gravitino.catalog.lakehouse.hudi;
 
+import static org.apache.gravitino.connector.PropertyEntry.booleanPropertyEntry;
 import static org.apache.gravitino.connector.PropertyEntry.enumImmutablePropertyEntry;
+import static org.apache.gravitino.connector.PropertyEntry.longOptionalPropertyEntry;
 import static org.apache.gravitino.connector.PropertyEntry.stringRequiredPropertyEntry;
 
 import com.google.common.collect.ImmutableMap;
@@ -31,6 +33,8 @@ import org.apache.gravitino.hive.ClientPropertiesMetadata;
 public class HudiCatalogPropertiesMetadata extends BaseCatalogPropertiesMetadata {
   public static final String CATALOG_BACKEND = "catalog-backend";
   public static final String URI = "uri";
+  public static final String LIST_TABLES_FILTER_PUSHDOWN = "list-tables.filter-pushdown";
+  public static final String LIST_TABLES_CACHE_TTL_MS = "list-tables.cache-ttl-ms";
   private static final ClientPropertiesMetadata CLIENT_PROPERTIES_METADATA =
       new ClientPropertiesMetadata();
 
@@ -50,6 +54,24 @@ public class HudiCatalogPropertiesMetadata extends BaseCatalogPropertiesMetadata
               URI,
               stringRequiredPropertyEntry(
                   URI, "Hudi catalog uri config", false /* immutable */, false /* hidden */))
+          .put(
+              LIST_TABLES_FILTER_PUSHDOWN,
+              booleanPropertyEntry(
+                  LIST_TABLES_FILTER_PUSHDOWN,
+                  "Whether to list the Hudi tables by the table property filter in the backend",
+                  false /* required */,
+                  false /* immutable */,
+                  false /* defaultValue */,
+                  false /* hidden */,
+                  false /* reserved */))
+          .put(
+              LIST_TABLES_CACHE_TTL_MS,
+              longOptionalPropertyEntry(
+                  LIST_TABLES_CACHE_TTL_MS,
+                  "The time in milliseconds to cache the Hudi table names of a schema",
+                  false /* immutable */,
+                  0L /* defaultValue */,
+                  false /* hidden */))
           .putAll(CLIENT_PROPERTIES_METADATA.propertyEntries())
           .build();
 
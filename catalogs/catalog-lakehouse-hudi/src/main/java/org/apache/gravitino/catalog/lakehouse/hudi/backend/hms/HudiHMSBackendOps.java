@@ -18,17 +18,35 @@
  */
 package org.apache.gravitino.catalog.lakehouse.hudi.backend.hms;
 
+import static org.apache.gravitino.catalog.lakehouse.hudi.HudiCatalogPropertiesMetadata.LIST_TABLES_CACHE_TTL_MS;
+import static org.apache.gravitino.catalog.lakehouse.hudi.HudiCatalogPropertiesMetadata.LIST_TABLES_FILTER_PUSHDOWN;
 import static org.apache.gravitino.catalog.lakehouse.hudi.HudiCatalogPropertiesMetadata.URI;
 import static org.apache.gravitino.connector.BaseCatalog.CATALOG_BYPASS_PREFIX;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.IOException;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.security.PrivilegedExceptionAction;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.SchemaChange;
+import org.apache.gravitino.catalog.hive.HiveConstants;
+import org.apache.gravitino.catalog.lakehouse.hudi.HudiCatalogPropertiesMetadata;
 import org.apache.gravitino.catalog.lakehouse.hudi.HudiSchema;
 import org.apache.gravitino.catalog.lakehouse.hudi.HudiTable;
 import org.apache.gravitino.catalog.lakehouse.hudi.ops.HudiCatalogBackendOps;
@@ -51,21 +69,65 @@ import org.apache.hadoop.hive.metastore.api.Database;
 import org.apache.hadoop.hive.metastore.api.NoSuchObjectException;
 import org.apache.hadoop.hive.metastore.api.Table;
 import org.apache.hadoop.hive.metastore.api.UnknownDBException;
+import org.apache.hadoop.hive.metastore.api.hive_metastoreConstants;
+import org.apache.hadoop.security.UserGroupInformation;
 import org.apache.thrift.TException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class HudiHMSBackendOps implements HudiCatalogBackendOps {
 
+  private static final Logger LOG = LoggerFactory.getLogger(HudiHMSBackendOps.class);
+
+  private static final HudiCatalogPropertiesMetadata PROPERTIES_METADATA =
+      new HudiCatalogPropertiesMetadata();
+
   // Mapping from Gravitino config to Hive config
   private static final Map<String, String> CONFIG_CONVERTER =
       ImmutableMap.of(URI, HiveConf.ConfVars.METASTOREURIS.varname);
 
   private static final String HUDI_PACKAGE_PREFIX = "org.apache.hudi";
 
+  // The Hudi tables created by Spark SQL or synced by the Hudi sync tool have the table property
+  // `provider=hudi`.
+  private static final String HUDI_TABLE_FILTER =
+      String.format("%sprovider like \"hudi\"", hive_metastoreConstants.HIVE_FILTER_FIELD_PARAMS);
+
+  // The maximum number of table objects to fetch from Hive Metastore in one call.
+  private static final int FETCH_TABLES_BATCH_SIZE = 100;
+
   @VisibleForTesting CachedClientPool clientPool;
 
+  @VisibleForTesting boolean filterPushdown;
+
+  // Null if the cache of the Hudi table names is disabled.
+  private Cache<String, List<String>> tableNamesCache;
+
+  private ExecutorService fetchTablesExecutor;
+
   @Override
   public void initialize(Map<String, String> properties) {
     this.clientPool = new CachedClientPool(buildHiveConf(properties), properties);
+    this.filterPushdown =
+        (boolean) PROPERTIES_METADATA.getOrDefault(properties, LIST_TABLES_FILTER_PUSHDOWN);
+
+    long cacheTtlMs = (long) PROPERTIES_METADATA.getOrDefault(properties, LIST_TABLES_CACHE_TTL_MS);
+    if (cacheTtlMs > 0) {
+      this.tableNamesCache =
+          Caffeine.newBuilder().expireAfterWrite(cacheTtlMs, TimeUnit.MILLISECONDS).build();
+    }
+
+    // The table objects are fetched in parallel by at most as many threads as the clients in the
+    // pool.
+    int parallelism =
+        (int) PROPERTIES_METADATA.getOrDefault(properties, HiveConstants.CLIENT_POOL_SIZE);
+    this.fetchTablesExecutor =
+        Executors.newFixedThreadPool(
+            parallelism,
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("hudi-fetch-tables-%d")
+                .build());
   }
 
   @Override
@@ -135,14 +197,20 @@ public class HudiHMSBackendOps implements HudiCatalogBackendOps {
     }
 
     try {
-      return clientPool.run(
-          c -> {
-            List<String> allTables = c.getAllTables(schemaIdent.name());
-            return c.getTableObjectsByName(schemaIdent.name(), allTables).stream()
-                .filter(this::checkHudiTable)
-                .map(t -> NameIdentifier.of(namespace, t.getTableName()))
-                .toArray(NameIdentifier[]::new);
-          });
+      List<String> hudiTables = null;
+      if (tableNamesCache != null) {
+        hudiTables = tableNamesCache.getIfPresent(schemaIdent.name());
+      }
+      if (hudiTables == null) {
+        hudiTables = listHudiTableNames(schemaIdent.name());
+        if (tableNamesCache != null) {
+          tableNamesCache.put(schemaIdent.name(), hudiTables);
+        }
+      }
+
+      return hudiTables.stream()
+          .map(t -> NameIdentifier.of(namespace, t))
+          .toArray(NameIdentifier[]::new);
 
     } catch (UnknownDBException e) {
       throw new NoSuchSchemaException(
@@ -210,12 +278,86 @@ public class HudiHMSBackendOps implements HudiCatalogBackendOps {
 
   @Override
   public void close() {
+    if (fetchTablesExecutor != null) {
+      fetchTablesExecutor.shutdownNow();
+      fetchTablesExecutor = null;
+    }
+
     if (clientPool != null) {
       clientPool.close();
       clientPool = null;
     }
   }
 
+  private List<String> listHudiTableNames(String databaseName)
+      throws TException, InterruptedException {
+    if (filterPushdown) {
+      try {
+        return clientPool.run(
+            c -> c.listTableNamesByFilter(databaseName, HUDI_TABLE_FILTER, (short) -1));
+      } catch (UnknownDBException e) {
+        throw e;
+      } catch (TException e) {
+        LOG.warn(
+            "Failed to list Hudi tables of database {} by filter, fall back to check all tables",
+            databaseName,
+            e);
+      }
+    }
+
+    // Fetch the table objects in batches in parallel rather than all of them in one call, which
+    // transfers every table object of the database in a single response.
+    List<String> allTables = clientPool.run(c -> c.getAllTables(databaseName));
+    UserGroupInformation currentUser = currentUser();
+    List<Future<List<String>>> futures =
+        Lists.partition(allTables, FETCH_TABLES_BATCH_SIZE).stream()
+            .map(
+                batch ->
+                    fetchTablesExecutor.submit(
+                        () ->
+                            currentUser.doAs(
+                                (PrivilegedExceptionAction<List<String>>)
+                                    () -> filterHudiTables(databaseName, batch))))
+            .collect(Collectors.toList());
+
+    ImmutableList.Builder<String> hudiTables = ImmutableList.builder();
+    try {
+      for (Future<List<String>> future : futures) {
+        hudiTables.addAll(future.get());
+      }
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof UndeclaredThrowableException) {
+        cause = cause.getCause();
+      }
+      if (cause instanceof TException) {
+        throw (TException) cause;
+      }
+      throw new RuntimeException(cause);
+    } finally {
+      futures.forEach(f -> f.cancel(true));
+    }
+    return hudiTables.build();
+  }
+
+  private List<String> filterHudiTables(String databaseName, List<String> tableNames)
+      throws TException, InterruptedException {
+    return clientPool.run(
+        c ->
+            c.getTableObjectsByName(databaseName, tableNames).stream()
+                .filter(this::checkHudiTable)
+                .map(Table::getTableName)
+                .collect(Collectors.toList()));
+  }
+
+  private static UserGroupInformation currentUser() {
+    try {
+      return UserGroupInformation.getCurrentUser();
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to get the current user", e);
+    }
+  }
+
   private boolean checkHudiTable(Table table) {
     // here uses the input format to filter out non-Hudi tables, the COW table
     // uses `org.apache.hudi.hadoop.HoodieParquetInputFormat` and MOR table
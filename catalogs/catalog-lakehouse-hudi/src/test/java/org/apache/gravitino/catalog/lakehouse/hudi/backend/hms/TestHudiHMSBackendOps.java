@@ -18,14 +18,19 @@
  */
 package org.apache.gravitino.catalog.lakehouse.hudi.backend.hms;
 
+import static org.apache.gravitino.catalog.lakehouse.hudi.HudiCatalogPropertiesMetadata.LIST_TABLES_CACHE_TTL_MS;
+import static org.apache.gravitino.catalog.lakehouse.hudi.HudiCatalogPropertiesMetadata.LIST_TABLES_FILTER_PUSHDOWN;
 import static org.apache.gravitino.catalog.lakehouse.hudi.HudiCatalogPropertiesMetadata.URI;
 import static org.apache.gravitino.catalog.lakehouse.hudi.HudiSchemaPropertiesMetadata.LOCATION;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import java.util.Arrays;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.catalog.lakehouse.hudi.HudiColumn;
@@ -36,6 +41,7 @@ import org.apache.gravitino.hive.hms.MiniHiveMetastoreService;
 import org.apache.gravitino.rel.Column;
 import org.apache.gravitino.rel.types.Types;
 import org.apache.hadoop.hive.conf.HiveConf;
+import org.apache.hadoop.hive.metastore.api.Database;
 import org.apache.hadoop.hive.metastore.api.FieldSchema;
 import org.apache.hadoop.hive.metastore.api.SerDeInfo;
 import org.apache.hadoop.hive.metastore.api.StorageDescriptor;
@@ -181,4 +187,92 @@ public class TestHudiHMSBackendOps extends MiniHiveMetastoreService {
     Assertions.assertEquals(
         HudiColumn.builder().withName("ts").withType(Types.LongType.get()).build(), columns[5]);
   }
+
+  @Test
+  public void testListTablesWithoutFilterPushdown() {
+    Map<String, String> props = Maps.newHashMap();
+    props.put(URI, hiveConf.get(HiveConf.ConfVars.METASTOREURIS.varname));
+    try (HudiHMSBackendOps ops = new HudiHMSBackendOps()) {
+      ops.initialize(props);
+      // The filter pushdown is disabled by default
+      Assertions.assertFalse(ops.filterPushdown);
+
+      NameIdentifier[] tables = ops.listTables(Namespace.of(METALAKE_NAME, CATALOG_NAME, DB_NAME));
+      Assertions.assertEquals(1, tables.length);
+      Assertions.assertEquals(HUDI_TABLE_NAME, tables[0].name());
+    }
+  }
+
+  @Test
+  public void testListTablesWithCache() throws TException {
+    String dbName = "hudi_cache_db";
+    metastoreClient.createDatabase(
+        new Database(dbName, "", metastore.getDatabasePath(dbName), Maps.newHashMap()));
+    metastoreClient.createTable(newTable(dbName, "hudi_1", true));
+
+    Map<String, String> props = Maps.newHashMap();
+    props.put(URI, hiveConf.get(HiveConf.ConfVars.METASTOREURIS.varname));
+    props.put(LIST_TABLES_CACHE_TTL_MS, "600000");
+    try (HudiHMSBackendOps ops = new HudiHMSBackendOps()) {
+      ops.initialize(props);
+      Namespace namespace = Namespace.of(METALAKE_NAME, CATALOG_NAME, dbName);
+      Assertions.assertEquals(1, ops.listTables(namespace).length);
+
+      // The table names are served from the cache until they expire
+      metastoreClient.createTable(newTable(dbName, "hudi_2", true));
+      Assertions.assertEquals(1, ops.listTables(namespace).length);
+    }
+  }
+
+  @Test
+  public void testListTablesWithFilterPushdown() throws TException {
+    String dbName = "hudi_filter_db";
+    metastoreClient.createDatabase(
+        new Database(dbName, "", metastore.getDatabasePath(dbName), Maps.newHashMap()));
+    for (int i = 0; i < 4; i++) {
+      metastoreClient.createTable(newTable(dbName, "hive_" + i, false));
+    }
+    metastoreClient.createTable(newTable(dbName, "hudi_1", true));
+    metastoreClient.createTable(newTable(dbName, "hudi_2", true));
+    // A Hudi table registered without the provider property, like the ones synced by Flink
+    Table syncedTable = newTable(dbName, "hudi_synced", true);
+    syncedTable.getParameters().remove("provider");
+    metastoreClient.createTable(syncedTable);
+
+    Namespace namespace = Namespace.of(METALAKE_NAME, CATALOG_NAME, dbName);
+    Map<String, String> props = Maps.newHashMap();
+    props.put(URI, hiveConf.get(HiveConf.ConfVars.METASTOREURIS.varname));
+    props.put(LIST_TABLES_FILTER_PUSHDOWN, "true");
+    props.put("client.pool-size", "2");
+    try (HudiHMSBackendOps ops = new HudiHMSBackendOps()) {
+      ops.initialize(props);
+      Assertions.assertTrue(ops.filterPushdown);
+      Assertions.assertEquals(
+          ImmutableSet.of("hudi_1", "hudi_2"), tableNames(ops.listTables(namespace)));
+
+      ops.filterPushdown = false;
+      Assertions.assertEquals(
+          ImmutableSet.of("hudi_1", "hudi_2", "hudi_synced"),
+          tableNames(ops.listTables(namespace)));
+    }
+  }
+
+  private static Set<String> tableNames(NameIdentifier[] idents) {
+    return Arrays.stream(idents).map(NameIdentifier::name).collect(Collectors.toSet());
+  }
+
+  private static Table newTable(String dbName, String tableName, boolean isHudi) {
+    Table table = new Table();
+    table.setDbName(dbName);
+    table.setTableName(tableName);
+    StorageDescriptor strgDesc = new StorageDescriptor();
+    strgDesc.setCols(Lists.newArrayList(new FieldSchema("col1", "string", "description")));
+    strgDesc.setSerdeInfo(new SerDeInfo());
+    if (isHudi) {
+      strgDesc.setInputFormat("org.apache.hudi.hadoop.HoodieParquetInputFormat");
+      table.setParameters(Maps.newHashMap(ImmutableMap.of("provider", "hudi")));
+    }
+    table.setSd(strgDesc);
+    return table;
+  }
 }
@@ -47,6 +47,7 @@ import org.apache.gravitino.meta.ModelVersionEntity;
 import org.apache.gravitino.model.Model;
 import org.apache.gravitino.model.ModelCatalog;
 import org.apache.gravitino.model.ModelVersion;
+import org.apache.gravitino.tag.TagManager;
 import org.apache.gravitino.utils.NameIdentifierUtil;
 import org.apache.gravitino.utils.NamespaceUtil;
 import org.apache.gravitino.utils.PrincipalUtils;
@@ -157,11 +158,16 @@ public class ModelCatalogOperations extends ManagedSchemaOperations
   public boolean deleteModel(NameIdentifier ident) {
     NameIdentifierUtil.checkModel(ident);
 
+    boolean deleted;
     try {
-      return store.delete(ident, Entity.EntityType.MODEL);
+      deleted = store.delete(ident, Entity.EntityType.MODEL);
     } catch (IOException ioe) {
       throw new RuntimeException("Failed to delete model " + ident, ioe);
     }
+
+    // The model is deleted directly from the store, not through a hook dispatcher.
+    TagManager.invalidateMetadataObject(ident);
+    return deleted;
   }
 
   @Override
@@ -29,6 +29,9 @@ import static org.apache.gravitino.Configs.ENTITY_STORE;
 import static org.apache.gravitino.Configs.RELATIONAL_ENTITY_STORE;
 import static org.apache.gravitino.Configs.STORE_DELETE_AFTER_TIME;
 import static org.apache.gravitino.Configs.STORE_TRANSACTION_MAX_SKEW_TIME;
+import static org.apache.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
+import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
+import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
 import static org.apache.gravitino.Configs.VERSION_RETENTION_COUNT;
 import static org.mockito.Mockito.when;
 
@@ -42,14 +45,19 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.reflect.FieldUtils;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.EntityStore;
 import org.apache.gravitino.EntityStoreFactory;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.MetadataObjects;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.Schema;
 import org.apache.gravitino.StringIdentifier;
+import org.apache.gravitino.catalog.ModelDispatcher;
 import org.apache.gravitino.catalog.model.ModelCatalogOperations;
 import org.apache.gravitino.connector.CatalogInfo;
 import org.apache.gravitino.connector.HasPropertyMetadata;
@@ -60,6 +68,7 @@ import org.apache.gravitino.exceptions.NoSuchModelException;
 import org.apache.gravitino.exceptions.NoSuchModelVersionException;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
 import org.apache.gravitino.exceptions.SchemaAlreadyExistsException;
+import org.apache.gravitino.lock.LockManager;
 import org.apache.gravitino.meta.AuditInfo;
 import org.apache.gravitino.meta.BaseMetalake;
 import org.apache.gravitino.meta.CatalogEntity;
@@ -68,6 +77,7 @@ import org.apache.gravitino.model.Model;
 import org.apache.gravitino.model.ModelVersion;
 import org.apache.gravitino.storage.IdGenerator;
 import org.apache.gravitino.storage.RandomIdGenerator;
+import org.apache.gravitino.tag.TagManager;
 import org.apache.gravitino.utils.NameIdentifierUtil;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Assertions;
@@ -90,6 +100,8 @@ public class TestModelCatalogOperations {
 
   private static ModelCatalogOperations ops;
 
+  private static LockManager lockManager;
+
   @BeforeAll
   public static void setUp() throws IOException {
     Config config = Mockito.mock(Config.class);
@@ -110,6 +122,10 @@ public class TestModelCatalogOperations {
     when(config.get(VERSION_RETENTION_COUNT)).thenReturn(1L);
     when(config.get(STORE_TRANSACTION_MAX_SKEW_TIME)).thenReturn(1000L);
     when(config.get(STORE_DELETE_AFTER_TIME)).thenReturn(20 * 60 * 1000L);
+    when(config.get(TREE_LOCK_MAX_NODE_IN_MEMORY)).thenReturn(100000L);
+    when(config.get(TREE_LOCK_MIN_NODE_IN_MEMORY)).thenReturn(1000L);
+    when(config.get(TREE_LOCK_CLEAN_INTERVAL)).thenReturn(36000L);
+    lockManager = new LockManager(config);
 
     store = EntityStoreFactory.createEntityStore(config);
     store.initialize(config);
@@ -652,6 +668,53 @@ public class TestModelCatalogOperations {
     Assertions.assertThrows(NoSuchModelException.class, () -> ops.listModelVersions(modelIdent));
   }
 
+  @Test
+  public void testDeleteModelInvalidatesCachedTags() throws IllegalAccessException {
+    String schemaName = randomSchemaName();
+    createSchema(schemaName);
+
+    NameIdentifier modelIdent =
+        NameIdentifierUtil.ofModel(METALAKE_NAME, CATALOG_NAME, schemaName, "model1");
+    MetadataObject modelObject =
+        MetadataObjects.of(
+            Arrays.asList(CATALOG_NAME, schemaName, "model1"), MetadataObject.Type.MODEL);
+    ModelDispatcher modelDispatcher = Mockito.mock(ModelDispatcher.class);
+    when(modelDispatcher.modelExists(Mockito.any())).thenReturn(true);
+    TagManager tagManager = new TagManager(idGenerator, store, 100, 60000);
+
+    GravitinoEnv env = GravitinoEnv.getInstance();
+    FieldUtils.writeField(env, "lockManager", lockManager, true);
+    FieldUtils.writeField(env, "modelDispatcher", modelDispatcher, true);
+    FieldUtils.writeField(env, "tagManager", tagManager, true);
+    try {
+      ops.registerModel(
+          modelIdent,
+          "model comment",
+          StringIdentifier.newPropertiesWithId(
+              StringIdentifier.fromId(idGenerator.nextId()), null));
+      tagManager.createTag(METALAKE_NAME, "model_tag", null, null);
+      tagManager.associateTagsForMetadataObject(
+          METALAKE_NAME, modelObject, new String[] {"model_tag"}, null);
+      Assertions.assertArrayEquals(
+          new String[] {"model_tag"},
+          tagManager.listTagsForMetadataObject(METALAKE_NAME, modelObject));
+
+      // Recreate the model; the tags cached for the dropped one must not be served for it
+      Assertions.assertTrue(ops.deleteModel(modelIdent));
+      ops.registerModel(
+          modelIdent,
+          "model comment",
+          StringIdentifier.newPropertiesWithId(
+              StringIdentifier.fromId(idGenerator.nextId()), null));
+      Assertions.assertEquals(
+          0, tagManager.listTagsForMetadataObject(METALAKE_NAME, modelObject).length);
+    } finally {
+      FieldUtils.writeField(env, "lockManager", null, true);
+      FieldUtils.writeField(env, "modelDispatcher", null, true);
+      FieldUtils.writeField(env, "tagManager", null, true);
+    }
+  }
+
   private String randomSchemaName() {
     return "schema_" + UUID.randomUUID().toString().replace("-", "");
   }
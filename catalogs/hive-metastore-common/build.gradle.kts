@@ -68,6 +68,7 @@ dependencies {
   implementation(libs.slf4j.api)
 
   compileOnly(libs.immutables.value)
+  compileOnly(libs.metrics.core)
 
   annotationProcessor(libs.immutables.value)
 
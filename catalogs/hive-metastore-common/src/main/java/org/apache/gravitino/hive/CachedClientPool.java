@@ -31,8 +31,12 @@ import java.util.Map;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
 import javax.annotation.Nullable;
+import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.catalog.hive.HiveConstants;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.ClientPoolMetricsSource;
 import org.apache.gravitino.utils.ClientPool;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.hive.metastore.IMetaStoreClient;
@@ -59,6 +63,7 @@ public class CachedClientPool implements ClientPool<IMetaStoreClient, TException
   private final Configuration conf;
   private final int clientPoolSize;
   private final ScheduledThreadPoolExecutor scheduler;
+  private ClientPoolMetricsSource metricsSource;
 
   public CachedClientPool(Configuration hiveConf, Map<String, String> properties) {
     int clientPoolSize =
@@ -92,6 +97,33 @@ public class CachedClientPool implements ClientPool<IMetaStoreClient, TException
     return clientPoolCache;
   }
 
+  /**
+   * Reports the count of the active, idle and maximum clients of all the cached pools as the
+   * metrics of the catalog, the metrics are removed once the pool is closed.
+   *
+   * @param metalake The name of the metalake of the catalog.
+   * @param catalog The name of the catalog.
+   */
+  public void registerMetrics(String metalake, String catalog) {
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem == null) {
+      return;
+    }
+
+    this.metricsSource =
+        new ClientPoolMetricsSource(
+            metalake,
+            catalog,
+            () -> sumOverPools(pool -> pool.currentSize() - pool.idleClients()),
+            () -> sumOverPools(HiveClientPool::idleClients),
+            () -> sumOverPools(HiveClientPool::poolSize));
+    metricsSystem.register(metricsSource);
+  }
+
+  private int sumOverPools(ToIntFunction<HiveClientPool> function) {
+    return clientPoolCache.asMap().values().stream().mapToInt(function).sum();
+  }
+
   @Override
   public <R> R run(Action<R, IMetaStoreClient, TException> action)
       throws TException, InterruptedException {
@@ -152,6 +184,13 @@ public class CachedClientPool implements ClientPool<IMetaStoreClient, TException
     // Caller may call this `close` method and then close the class loader that is needed by the
     // `close` method. We must ensure that all the HiveClientPool instances are closed before the
     // class loader is closed.
+    if (metricsSource != null) {
+      MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+      if (metricsSystem != null) {
+        metricsSystem.unregister(metricsSource);
+      }
+      metricsSource = null;
+    }
     clientPoolCache.asMap().forEach((key, value) -> value.close());
     clientPoolCache.invalidateAll();
     scheduler.shutdownNow();
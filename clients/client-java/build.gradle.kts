@@ -33,10 +33,13 @@ dependencies {
   implementation(libs.jackson.annotations)
   implementation(libs.jackson.datatype.jdk8)
   implementation(libs.jackson.datatype.jsr310)
+  implementation(libs.jackson.dataformat.smile)
   implementation(libs.guava)
   implementation(libs.httpclient5)
   implementation(libs.commons.lang3)
 
+  // The trace context is only propagated if the application brings in OpenTelemetry
+  compileOnly(libs.opentelemetry.api)
   compileOnly(libs.lombok)
   annotationProcessor(libs.lombok)
   testCompileOnly(libs.lombok)
@@ -57,6 +60,7 @@ dependencies {
   testImplementation(libs.mockito.core)
   testImplementation(libs.mockserver.netty)
   testImplementation(libs.mockserver.client.java)
+  testImplementation(libs.opentelemetry.api)
   testImplementation(libs.mysql.driver)
   testImplementation(libs.postgresql.driver)
   testImplementation(libs.testcontainers)
@@ -22,6 +22,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.MetadataObject;
@@ -54,7 +55,7 @@ import org.apache.gravitino.tag.Tag;
  * create, load, alter and drop a schema with specified identifier.
  */
 abstract class BaseSchemaCatalog extends CatalogDTO
-    implements Catalog, SupportsSchemas, SupportsTags, SupportsRoles {
+    implements Catalog, SupportsSchemas, SupportsSchemasAsync, SupportsTags, SupportsRoles {
 
   /** The REST client to send the requests. */
   protected final RESTClient restClient;
@@ -125,9 +126,7 @@ abstract class BaseSchemaCatalog extends CatalogDTO
             EntityListResponse.class,
             Collections.emptyMap(),
             ErrorHandlers.schemaErrorHandler());
-    resp.validate();
-
-    return Arrays.stream(resp.identifiers()).map(NameIdentifier::name).toArray(String[]::new);
+    return toSchemaNames(resp);
   }
 
   /**
@@ -144,10 +143,7 @@ abstract class BaseSchemaCatalog extends CatalogDTO
   public Schema createSchema(String schemaName, String comment, Map<String, String> properties)
       throws NoSuchCatalogException, SchemaAlreadyExistsException {
 
-    SchemaCreateRequest req =
-        new SchemaCreateRequest(RESTUtils.encodeString(schemaName), comment, properties);
-    req.validate();
-
+    SchemaCreateRequest req = newSchemaCreateRequest(schemaName, comment, properties);
     SchemaResponse resp =
         restClient.post(
             formatSchemaRequestPath(schemaNamespace()),
@@ -155,9 +151,7 @@ abstract class BaseSchemaCatalog extends CatalogDTO
             SchemaResponse.class,
             Collections.emptyMap(),
             ErrorHandlers.schemaErrorHandler());
-    resp.validate();
-
-    return new GenericSchema(resp.getSchema(), restClient, catalogNamespace.level(0), this.name());
+    return toSchema(resp);
   }
 
   /**
@@ -171,14 +165,13 @@ abstract class BaseSchemaCatalog extends CatalogDTO
   public Schema loadSchema(String schemaName) throws NoSuchSchemaException {
 
     SchemaResponse resp =
-        restClient.get(
+        restClient.getCached(
+            schemaIdentifier(schemaName),
             formatSchemaRequestPath(schemaNamespace()) + "/" + RESTUtils.encodeString(schemaName),
             SchemaResponse.class,
             Collections.emptyMap(),
             ErrorHandlers.schemaErrorHandler());
-    resp.validate();
-
-    return new GenericSchema(resp.getSchema(), restClient, catalogNamespace.level(0), this.name());
+    return toSchema(resp);
   }
 
   /**
@@ -207,9 +200,8 @@ abstract class BaseSchemaCatalog extends CatalogDTO
             SchemaResponse.class,
             Collections.emptyMap(),
             ErrorHandlers.schemaErrorHandler());
-    resp.validate();
-
-    return new GenericSchema(resp.getSchema(), restClient, catalogNamespace.level(0), this.name());
+    restClient.invalidateCache(schemaIdentifier(schemaName));
+    return toSchema(resp);
   }
 
   /**
@@ -229,8 +221,59 @@ abstract class BaseSchemaCatalog extends CatalogDTO
             DropResponse.class,
             Collections.emptyMap(),
             ErrorHandlers.schemaErrorHandler());
-    resp.validate();
-    return resp.dropped();
+    restClient.invalidateCache(schemaIdentifier(schemaName));
+    return toDropped(resp);
+  }
+
+  @Override
+  public CompletableFuture<String[]> listSchemasAsync() {
+    return restClient
+        .getAsync(
+            formatSchemaRequestPath(schemaNamespace()),
+            Collections.emptyMap(),
+            EntityListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.schemaErrorHandler())
+        .thenApply(BaseSchemaCatalog::toSchemaNames);
+  }
+
+  @Override
+  public CompletableFuture<Schema> loadSchemaAsync(String schemaName) {
+    return restClient
+        .getAsync(
+            formatSchemaRequestPath(schemaNamespace()) + "/" + RESTUtils.encodeString(schemaName),
+            Collections.emptyMap(),
+            SchemaResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.schemaErrorHandler())
+        .thenApply(this::toSchema);
+  }
+
+  @Override
+  public CompletableFuture<Schema> createSchemaAsync(
+      String schemaName, String comment, Map<String, String> properties) {
+    SchemaCreateRequest req = newSchemaCreateRequest(schemaName, comment, properties);
+    return restClient
+        .postAsync(
+            formatSchemaRequestPath(schemaNamespace()),
+            req,
+            SchemaResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.schemaErrorHandler())
+        .thenApply(this::toSchema);
+  }
+
+  @Override
+  public CompletableFuture<Boolean> dropSchemaAsync(String schemaName, boolean cascade) {
+    return restClient
+        .deleteAsync(
+            formatSchemaRequestPath(schemaNamespace()) + "/" + RESTUtils.encodeString(schemaName),
+            Collections.singletonMap("cascade", String.valueOf(cascade)),
+            DropResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.schemaErrorHandler())
+        .whenComplete((resp, e) -> restClient.invalidateCache(schemaIdentifier(schemaName)))
+        .thenApply(BaseSchemaCatalog::toDropped);
   }
 
   @Override
@@ -276,6 +319,33 @@ abstract class BaseSchemaCatalog extends CatalogDTO
     return Namespace.of(catalogNamespace.level(0), this.name());
   }
 
+  private NameIdentifier schemaIdentifier(String schemaName) {
+    return NameIdentifier.of(schemaNamespace(), schemaName);
+  }
+
+  static boolean toDropped(DropResponse resp) {
+    resp.validate();
+    return resp.dropped();
+  }
+
+  private static String[] toSchemaNames(EntityListResponse resp) {
+    resp.validate();
+    return Arrays.stream(resp.identifiers()).map(NameIdentifier::name).toArray(String[]::new);
+  }
+
+  private static SchemaCreateRequest newSchemaCreateRequest(
+      String schemaName, String comment, Map<String, String> properties) {
+    SchemaCreateRequest req =
+        new SchemaCreateRequest(RESTUtils.encodeString(schemaName), comment, properties);
+    req.validate();
+    return req;
+  }
+
+  private Schema toSchema(SchemaResponse resp) {
+    resp.validate();
+    return new GenericSchema(resp.getSchema(), restClient, catalogNamespace.level(0), this.name());
+  }
+
   static String formatSchemaRequestPath(Namespace ns) {
     return new StringBuilder()
         .append("api/metalakes/")
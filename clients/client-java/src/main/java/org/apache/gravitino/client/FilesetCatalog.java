@@ -25,6 +25,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Catalog;
@@ -55,7 +56,7 @@ import org.apache.gravitino.rest.RESTUtils;
  * metalake.
  */
 class FilesetCatalog extends BaseSchemaCatalog
-    implements org.apache.gravitino.file.FilesetCatalog, SupportsCredentials {
+    implements org.apache.gravitino.file.FilesetCatalog, FilesetCatalogAsync, SupportsCredentials {
 
   FilesetCatalog(
       Namespace namespace,
@@ -94,11 +95,7 @@ class FilesetCatalog extends BaseSchemaCatalog
             EntityListResponse.class,
             Collections.emptyMap(),
             ErrorHandlers.filesetErrorHandler());
-    resp.validate();
-
-    return Arrays.stream(resp.identifiers())
-        .map(ident -> NameIdentifier.of(ident.namespace().level(2), ident.name()))
-        .toArray(NameIdentifier[]::new);
+    return toFilesetIdentifiers(resp);
   }
 
   /**
@@ -114,14 +111,13 @@ class FilesetCatalog extends BaseSchemaCatalog
 
     Namespace fullNamespace = getFilesetFullNamespace(ident.namespace());
     FilesetResponse resp =
-        restClient.get(
+        restClient.getCached(
+            NameIdentifier.of(fullNamespace, ident.name()),
             formatFilesetRequestPath(fullNamespace) + "/" + RESTUtils.encodeString(ident.name()),
             FilesetResponse.class,
             Collections.emptyMap(),
             ErrorHandlers.filesetErrorHandler());
-    resp.validate();
-
-    return new GenericFileset(resp.getFileset(), restClient, fullNamespace);
+    return toFileset(fullNamespace, resp);
   }
 
   /**
@@ -153,14 +149,7 @@ class FilesetCatalog extends BaseSchemaCatalog
 
     Namespace fullNamespace = getFilesetFullNamespace(ident.namespace());
     FilesetCreateRequest req =
-        FilesetCreateRequest.builder()
-            .name(RESTUtils.encodeString(ident.name()))
-            .comment(comment)
-            .type(type)
-            .storageLocation(storageLocation)
-            .properties(properties)
-            .build();
-
+        newFilesetCreateRequest(ident, comment, type, storageLocation, properties);
     FilesetResponse resp =
         restClient.post(
             formatFilesetRequestPath(fullNamespace),
@@ -168,9 +157,7 @@ class FilesetCatalog extends BaseSchemaCatalog
             FilesetResponse.class,
             Collections.emptyMap(),
             ErrorHandlers.filesetErrorHandler());
-    resp.validate();
-
-    return new GenericFileset(resp.getFileset(), restClient, fullNamespace);
+    return toFileset(fullNamespace, resp);
   }
 
   /**
@@ -202,9 +189,8 @@ class FilesetCatalog extends BaseSchemaCatalog
             FilesetResponse.class,
             Collections.emptyMap(),
             ErrorHandlers.filesetErrorHandler());
-    resp.validate();
-
-    return new GenericFileset(resp.getFileset(), restClient, fullNamespace);
+    restClient.invalidateCache(NameIdentifier.of(fullNamespace, ident.name()));
+    return toFileset(fullNamespace, resp);
   }
 
   /**
@@ -227,9 +213,104 @@ class FilesetCatalog extends BaseSchemaCatalog
             DropResponse.class,
             Collections.emptyMap(),
             ErrorHandlers.filesetErrorHandler());
+    restClient.invalidateCache(NameIdentifier.of(fullNamespace, ident.name()));
+    return toDropped(resp);
+  }
+
+  @Override
+  public CompletableFuture<NameIdentifier[]> listFilesetsAsync(Namespace namespace) {
+    checkFilesetNamespace(namespace);
+
+    Namespace fullNamespace = getFilesetFullNamespace(namespace);
+    return restClient
+        .getAsync(
+            formatFilesetRequestPath(fullNamespace),
+            Collections.emptyMap(),
+            EntityListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.filesetErrorHandler())
+        .thenApply(FilesetCatalog::toFilesetIdentifiers);
+  }
+
+  @Override
+  public CompletableFuture<Fileset> loadFilesetAsync(NameIdentifier ident) {
+    checkFilesetNameIdentifier(ident);
+
+    Namespace fullNamespace = getFilesetFullNamespace(ident.namespace());
+    return restClient
+        .getAsync(
+            formatFilesetRequestPath(fullNamespace) + "/" + RESTUtils.encodeString(ident.name()),
+            Collections.emptyMap(),
+            FilesetResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.filesetErrorHandler())
+        .thenApply(resp -> toFileset(fullNamespace, resp));
+  }
+
+  @Override
+  public CompletableFuture<Fileset> createFilesetAsync(
+      NameIdentifier ident,
+      String comment,
+      Fileset.Type type,
+      String storageLocation,
+      Map<String, String> properties) {
+    checkFilesetNameIdentifier(ident);
+
+    Namespace fullNamespace = getFilesetFullNamespace(ident.namespace());
+    FilesetCreateRequest req =
+        newFilesetCreateRequest(ident, comment, type, storageLocation, properties);
+    return restClient
+        .postAsync(
+            formatFilesetRequestPath(fullNamespace),
+            req,
+            FilesetResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.filesetErrorHandler())
+        .thenApply(resp -> toFileset(fullNamespace, resp));
+  }
+
+  @Override
+  public CompletableFuture<Boolean> dropFilesetAsync(NameIdentifier ident) {
+    checkFilesetNameIdentifier(ident);
+
+    Namespace fullNamespace = getFilesetFullNamespace(ident.namespace());
+    return restClient
+        .deleteAsync(
+            formatFilesetRequestPath(fullNamespace) + "/" + ident.name(),
+            Collections.emptyMap(),
+            DropResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.filesetErrorHandler())
+        .whenComplete(
+            (resp, e) -> restClient.invalidateCache(NameIdentifier.of(fullNamespace, ident.name())))
+        .thenApply(BaseSchemaCatalog::toDropped);
+  }
+
+  private Fileset toFileset(Namespace fullNamespace, FilesetResponse resp) {
+    resp.validate();
+    return new GenericFileset(resp.getFileset(), restClient, fullNamespace);
+  }
+
+  private static NameIdentifier[] toFilesetIdentifiers(EntityListResponse resp) {
     resp.validate();
+    return Arrays.stream(resp.identifiers())
+        .map(ident -> NameIdentifier.of(ident.namespace().level(2), ident.name()))
+        .toArray(NameIdentifier[]::new);
+  }
 
-    return resp.dropped();
+  private static FilesetCreateRequest newFilesetCreateRequest(
+      NameIdentifier ident,
+      String comment,
+      Fileset.Type type,
+      String storageLocation,
+      Map<String, String> properties) {
+    return FilesetCreateRequest.builder()
+        .name(RESTUtils.encodeString(ident.name()))
+        .comment(comment)
+        .type(type)
+        .storageLocation(storageLocation)
+        .properties(properties)
+        .build();
   }
 
   /**
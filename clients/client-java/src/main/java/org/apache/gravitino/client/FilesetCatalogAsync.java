@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.client;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.file.Fileset;
+import org.apache.gravitino.file.FilesetCatalog;
+
+/**
+ * The asynchronous variants of the main operations of {@link FilesetCatalog}. The futures are
+ * completed exceptionally by the exceptions the blocking operations throw.
+ *
+ * <p>The fileset catalogs loaded by the Java client implement this interface, for example:
+ *
+ * <pre>{@code
+ * FilesetCatalogAsync filesets = (FilesetCatalogAsync) catalog.asFilesetCatalog();
+ * CompletableFuture<Fileset> fileset =
+ *     filesets.loadFilesetAsync(NameIdentifier.of("schema", "fileset"));
+ * }</pre>
+ *
+ * <p>The futures are completed on the I/O threads of the client, the blocking or the expensive
+ * actions depending on them should run on an executor of the caller.
+ */
+public interface FilesetCatalogAsync {
+
+  /**
+   * Lists the filesets under the schema asynchronously.
+   *
+   * @param namespace The namespace of the filesets, which is the schema name.
+   * @return The future of the identifiers of the filesets, which are "schema.fileset" format.
+   */
+  CompletableFuture<NameIdentifier[]> listFilesetsAsync(Namespace namespace);
+
+  /**
+   * Loads the fileset with the identifier asynchronously.
+   *
+   * @param ident The identifier of the fileset, which should be "schema.fileset" format.
+   * @return The future of the fileset.
+   */
+  CompletableFuture<Fileset> loadFilesetAsync(NameIdentifier ident);
+
+  /**
+   * Creates a fileset asynchronously.
+   *
+   * @param ident The identifier of the fileset, which should be "schema.fileset" format.
+   * @param comment The comment of the fileset.
+   * @param type The type of the fileset.
+   * @param storageLocation The storage location of the fileset.
+   * @param properties The properties of the fileset.
+   * @return The future of the created fileset.
+   */
+  CompletableFuture<Fileset> createFilesetAsync(
+      NameIdentifier ident,
+      String comment,
+      Fileset.Type type,
+      String storageLocation,
+      Map<String, String> properties);
+
+  /**
+   * Drops the fileset with the identifier asynchronously.
+   *
+   * @param ident The identifier of the fileset, which should be "schema.fileset" format.
+   * @return The future of whether the fileset is dropped, false if the fileset doesn't exist.
+   */
+  CompletableFuture<Boolean> dropFilesetAsync(NameIdentifier ident);
+}
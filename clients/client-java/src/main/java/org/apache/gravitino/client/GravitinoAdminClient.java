@@ -27,6 +27,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import org.apache.gravitino.MetalakeChange;
+import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.SupportsMetalakes;
 import org.apache.gravitino.dto.requests.MetalakeCreateRequest;
 import org.apache.gravitino.dto.requests.MetalakeSetRequest;
@@ -57,13 +58,17 @@ public class GravitinoAdminClient extends GravitinoClientBase implements Support
    * @param checkVersion Whether to check the version of the Gravitino server. Gravitino does not
    *     support the case that the client-side version is higher than the server-side version.
    * @param headers The base header for Gravitino API.
+   * @param smileEnabled Whether to accept the responses in the Smile binary format.
+   * @param clientConfig The configuration of the connections, the timeouts and the retries.
    */
   private GravitinoAdminClient(
       String uri,
       AuthDataProvider authDataProvider,
       boolean checkVersion,
-      Map<String, String> headers) {
-    super(uri, authDataProvider, checkVersion, headers);
+      Map<String, String> headers,
+      boolean smileEnabled,
+      Map<String, String> clientConfig) {
+    super(uri, authDataProvider, checkVersion, headers, smileEnabled, clientConfig);
   }
 
   /**
@@ -144,6 +149,7 @@ public class GravitinoAdminClient extends GravitinoClientBase implements Support
             MetalakeResponse.class,
             Collections.emptyMap(),
             ErrorHandlers.metalakeErrorHandler());
+    restClient.invalidateCache(NameIdentifier.of(name));
     resp.validate();
 
     return DTOConverters.toMetaLake(resp.getMetalake(), restClient);
@@ -182,6 +188,7 @@ public class GravitinoAdminClient extends GravitinoClientBase implements Support
             DropResponse.class,
             Collections.emptyMap(),
             ErrorHandlers.metalakeErrorHandler());
+    restClient.invalidateCache(NameIdentifier.of(name));
     resp.validate();
     return resp.dropped();
   }
@@ -197,6 +204,7 @@ public class GravitinoAdminClient extends GravitinoClientBase implements Support
             ErrorResponse.class,
             Collections.emptyMap(),
             ErrorHandlers.metalakeErrorHandler());
+    restClient.invalidateCache(NameIdentifier.of(name));
 
     if (resp.getCode() == 0) {
       return;
@@ -216,6 +224,7 @@ public class GravitinoAdminClient extends GravitinoClientBase implements Support
             ErrorResponse.class,
             Collections.emptyMap(),
             ErrorHandlers.metalakeErrorHandler());
+    restClient.invalidateCache(NameIdentifier.of(name));
 
     if (resp.getCode() == 0) {
       return;
@@ -256,7 +265,8 @@ public class GravitinoAdminClient extends GravitinoClientBase implements Support
     public GravitinoAdminClient build() {
       Preconditions.checkArgument(
           uri != null && !uri.isEmpty(), "The argument 'uri' must be a valid URI");
-      return new GravitinoAdminClient(uri, authDataProvider, checkVersion, headers);
+      return new GravitinoAdminClient(
+          uri, authDataProvider, checkVersion, headers, smileEnabled, clientConfig);
     }
   }
 }
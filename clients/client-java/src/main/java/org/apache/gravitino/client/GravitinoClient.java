@@ -76,6 +76,8 @@ public class GravitinoClient extends GravitinoClientBase
    * @param checkVersion Whether to check the version of the Gravitino server. Gravitino does not
    *     support the case that the client-side version is higher than the server-side version.
    * @param headers The base header for Gravitino API.
+   * @param smileEnabled Whether to accept the responses in the Smile binary format.
+   * @param clientConfig The configuration of the connections, the timeouts and the retries.
    * @throws NoSuchMetalakeException if the metalake with specified name does not exist.
    */
   private GravitinoClient(
@@ -83,8 +85,10 @@ public class GravitinoClient extends GravitinoClientBase
       String metalakeName,
       AuthDataProvider authDataProvider,
       boolean checkVersion,
-      Map<String, String> headers) {
-    super(uri, authDataProvider, checkVersion, headers);
+      Map<String, String> headers,
+      boolean smileEnabled,
+      Map<String, String> clientConfig) {
+    super(uri, authDataProvider, checkVersion, headers, smileEnabled, clientConfig);
     this.metalake = loadMetalake(metalakeName);
   }
 
@@ -511,6 +515,19 @@ public class GravitinoClient extends GravitinoClientBase
     return getMetalake().deleteTag(name);
   }
 
+  /**
+   * List the tags with detailed information associated with each of the metadata objects in one
+   * request, including the tags inherited from the parent objects.
+   *
+   * @param metadataObjects The metadata objects.
+   * @return The arrays of tags, in the same order as the metadata objects.
+   * @throws NotFoundException If any of the metadata objects does not exist.
+   */
+  public Tag[][] listTagsInfoForMetadataObjects(MetadataObject... metadataObjects)
+      throws NotFoundException {
+    return getMetalake().listTagsInfoForMetadataObjects(metadataObjects);
+  }
+
   /** Builder class for constructing a GravitinoClient. */
   public static class ClientBuilder extends GravitinoClientBase.Builder<GravitinoClient> {
 
@@ -552,7 +569,8 @@ public class GravitinoClient extends GravitinoClientBase
           metalakeName != null && !metalakeName.isEmpty(),
           "The argument 'metalakeName' must be a valid name");
 
-      return new GravitinoClient(uri, metalakeName, authDataProvider, checkVersion, headers);
+      return new GravitinoClient(
+          uri, metalakeName, authDataProvider, checkVersion, headers, smileEnabled, clientConfig);
     }
   }
 }
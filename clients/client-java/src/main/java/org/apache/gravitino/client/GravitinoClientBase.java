@@ -67,27 +67,59 @@ public abstract class GravitinoClientBase implements Closeable {
       AuthDataProvider authDataProvider,
       boolean checkVersion,
       Map<String, String> headers) {
-    ObjectMapper mapper = ObjectMapperProvider.objectMapper();
+    this(uri, authDataProvider, checkVersion, headers, false);
+  }
 
-    if (checkVersion) {
-      this.restClient =
-          HTTPClient.builder(Collections.emptyMap())
-              .uri(uri)
-              .withAuthDataProvider(authDataProvider)
-              .withObjectMapper(mapper)
-              .withPreConnectHandler(this::checkVersion)
-              .withHeaders(headers)
-              .build();
+  /**
+   * Constructs a new GravitinoClient with the given URI, authenticator and AuthDataProvider.
+   *
+   * @param uri The base URI for the Gravitino API.
+   * @param authDataProvider The provider of the data which is used for authentication.
+   * @param checkVersion Whether to check the version of the Gravitino server.
+   * @param headers The base header of the Gravitino API.
+   * @param smileEnabled Whether to accept the responses in the Smile binary format.
+   */
+  protected GravitinoClientBase(
+      String uri,
+      AuthDataProvider authDataProvider,
+      boolean checkVersion,
+      Map<String, String> headers,
+      boolean smileEnabled) {
+    this(uri, authDataProvider, checkVersion, headers, smileEnabled, Collections.emptyMap());
+  }
 
-    } else {
-      this.restClient =
-          HTTPClient.builder(Collections.emptyMap())
-              .uri(uri)
-              .withAuthDataProvider(authDataProvider)
-              .withObjectMapper(mapper)
-              .withHeaders(headers)
-              .build();
+  /**
+   * Constructs a new GravitinoClient with the given URI, authenticator and AuthDataProvider.
+   *
+   * @param uri The base URI for the Gravitino API.
+   * @param authDataProvider The provider of the data which is used for authentication.
+   * @param checkVersion Whether to check the version of the Gravitino server.
+   * @param headers The base header of the Gravitino API.
+   * @param smileEnabled Whether to accept the responses in the Smile binary format.
+   * @param clientConfig The configuration of the connections, the timeouts, the retries and the
+   *     metadata cache, see {@link GravitinoClientConfiguration}.
+   */
+  protected GravitinoClientBase(
+      String uri,
+      AuthDataProvider authDataProvider,
+      boolean checkVersion,
+      Map<String, String> headers,
+      boolean smileEnabled,
+      Map<String, String> clientConfig) {
+    ObjectMapper mapper = ObjectMapperProvider.objectMapper();
+    HTTPClient.Builder builder =
+        HTTPClient.builder(clientConfig)
+            .uri(uri)
+            .withAuthDataProvider(authDataProvider)
+            .withObjectMapper(mapper)
+            .withHeaders(headers);
+    if (checkVersion) {
+      builder.withPreConnectHandler(this::checkVersion);
     }
+    if (smileEnabled) {
+      builder.withSmileObjectMapper(ObjectMapperProvider.smileMapper());
+    }
+    this.restClient = builder.build();
   }
 
   /**
@@ -127,7 +159,8 @@ public abstract class GravitinoClientBase implements Closeable {
     checkMetalakeName(metalakeName);
 
     MetalakeResponse resp =
-        restClient.get(
+        restClient.getCached(
+            NameIdentifier.of(metalakeName),
             API_METALAKES_IDENTIFIER_PATH + metalakeName,
             MetalakeResponse.class,
             Collections.emptyMap(),
@@ -208,6 +241,10 @@ public abstract class GravitinoClientBase implements Closeable {
     protected boolean checkVersion = true;
     /** The request base header for the Gravitino API. */
     protected Map<String, String> headers = ImmutableMap.of();
+    /** The flag to accept the responses in the Smile binary format. */
+    protected boolean smileEnabled = false;
+    /** The configuration of the connections, the timeouts and the retries. */
+    protected Map<String, String> clientConfig = ImmutableMap.of();
 
     /**
      * The constructor for the Builder class.
@@ -294,6 +331,32 @@ public abstract class GravitinoClientBase implements Closeable {
       return this;
     }
 
+    /**
+     * Optional, accept the responses in the Smile binary format of Jackson instead of JSON, which
+     * are smaller and faster to parse for the large responses. The client falls back to JSON if the
+     * server doesn't support Smile.
+     *
+     * @return This Builder instance for method chaining.
+     */
+    public Builder<T> withSmileEnabled() {
+      this.smileEnabled = true;
+      return this;
+    }
+
+    /**
+     * Optional, set the configuration of the connections, the timeouts, the retries and the
+     * metadata cache of the client, the keys are defined in {@link GravitinoClientConfiguration}.
+     *
+     * @param clientConfig The configuration of the client.
+     * @return This Builder instance for method chaining.
+     */
+    public Builder<T> withClientConfig(Map<String, String> clientConfig) {
+      if (clientConfig != null) {
+        this.clientConfig = ImmutableMap.copyOf(clientConfig);
+      }
+      return this;
+    }
+
     /**
      * Builds a new instance. Subclasses should overwrite this method.
      *
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.client;
+
+/**
+ * The configuration keys of the connections, timeouts, retries and the metadata cache of the
+ * Gravitino client.
+ */
+public final class GravitinoClientConfiguration {
+
+  /** The prefix of the configuration keys of the Gravitino client. */
+  public static final String CLIENT_CONFIG_PREFIX = "gravitino.client.";
+
+  /** The timeout in milliseconds to establish a connection to the server. */
+  public static final String CLIENT_CONNECTION_TIMEOUT_MS =
+      CLIENT_CONFIG_PREFIX + "connectionTimeoutMs";
+
+  /** The default timeout in milliseconds to establish a connection to the server. */
+  public static final long CLIENT_CONNECTION_TIMEOUT_MS_DEFAULT = 180_000L;
+
+  /**
+   * The timeout in milliseconds to wait for the response of a request after it's sent, 0 means no
+   * timeout.
+   */
+  public static final String CLIENT_REQUEST_TIMEOUT_MS = CLIENT_CONFIG_PREFIX + "requestTimeoutMs";
+
+  /** The default timeout in milliseconds to wait for the response of a request. */
+  public static final long CLIENT_REQUEST_TIMEOUT_MS_DEFAULT = 0L;
+
+  /** The maximum number of the connections to the server. */
+  public static final String CLIENT_MAX_CONNECTIONS = CLIENT_CONFIG_PREFIX + "maxConnections";
+
+  /** The default maximum number of the connections to the server. */
+  public static final int CLIENT_MAX_CONNECTIONS_DEFAULT = 100;
+
+  /** The maximum number of the connections to each route, that is each host and port. */
+  public static final String CLIENT_MAX_CONNECTIONS_PER_ROUTE =
+      CLIENT_CONFIG_PREFIX + "maxConnectionsPerRoute";
+
+  /** The default maximum number of the connections to each route. */
+  public static final int CLIENT_MAX_CONNECTIONS_PER_ROUTE_DEFAULT = 20;
+
+  /**
+   * The maximum number of retries of the idempotent requests failed by I/O errors, and of the
+   * requests rejected with 429 or 503 by the server.
+   */
+  public static final String CLIENT_MAX_RETRIES = CLIENT_CONFIG_PREFIX + "maxRetries";
+
+  /** The default maximum number of retries of a request. */
+  public static final int CLIENT_MAX_RETRIES_DEFAULT = 1;
+
+  /**
+   * The interval in milliseconds before the first retry of a request, the interval is doubled on
+   * each following retry unless the server asks for one by the Retry-After header.
+   */
+  public static final String CLIENT_RETRY_BACKOFF_MS = CLIENT_CONFIG_PREFIX + "retryBackoffMs";
+
+  /** The default interval in milliseconds before the first retry of a request. */
+  public static final long CLIENT_RETRY_BACKOFF_MS_DEFAULT = 1000L;
+
+  /**
+   * Whether to cache the loaded metalakes, catalogs, schemas, tables and filesets in the client.
+   * The cached metadata is invalidated when it's changed by the same client, and revalidated by a
+   * conditional request once it's older than the TTL.
+   */
+  public static final String CLIENT_METADATA_CACHE_ENABLED =
+      CLIENT_CONFIG_PREFIX + "metadataCache.enabled";
+
+  /** The metadata cache is disabled by default. */
+  public static final boolean CLIENT_METADATA_CACHE_ENABLED_DEFAULT = false;
+
+  /** The maximum number of the metadata entries in the cache. */
+  public static final String CLIENT_METADATA_CACHE_MAX_SIZE =
+      CLIENT_CONFIG_PREFIX + "metadataCache.maxSize";
+
+  /** The default maximum number of the metadata entries in the cache. */
+  public static final int CLIENT_METADATA_CACHE_MAX_SIZE_DEFAULT = 10_000;
+
+  /**
+   * The time in milliseconds the cached metadata is used without asking the server, the older one
+   * is revalidated by a conditional request. 0 means every load is revalidated.
+   */
+  public static final String CLIENT_METADATA_CACHE_TTL_MS =
+      CLIENT_CONFIG_PREFIX + "metadataCache.ttlMs";
+
+  /** The default time in milliseconds the cached metadata is used without asking the server. */
+  public static final long CLIENT_METADATA_CACHE_TTL_MS_DEFAULT = 60_000L;
+
+  private GravitinoClientConfiguration() {}
+}
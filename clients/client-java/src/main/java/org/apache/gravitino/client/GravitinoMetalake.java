@@ -188,7 +188,8 @@ public class GravitinoMetalake extends MetalakeDTO
   public Catalog loadCatalog(String catalogName) throws NoSuchCatalogException {
 
     CatalogResponse resp =
-        restClient.get(
+        restClient.getCached(
+            catalogIdentifier(catalogName),
             String.format(API_METALAKES_CATALOGS_PATH, this.name(), catalogName),
             CatalogResponse.class,
             Collections.emptyMap(),
@@ -260,6 +261,7 @@ public class GravitinoMetalake extends MetalakeDTO
             CatalogResponse.class,
             Collections.emptyMap(),
             ErrorHandlers.catalogErrorHandler());
+    restClient.invalidateCache(catalogIdentifier(catalogName));
     resp.validate();
 
     return DTOConverters.toCatalog(this.name(), resp.getCatalog(), restClient);
@@ -294,6 +296,7 @@ public class GravitinoMetalake extends MetalakeDTO
             DropResponse.class,
             Collections.emptyMap(),
             ErrorHandlers.catalogErrorHandler());
+    restClient.invalidateCache(catalogIdentifier(catalogName));
     resp.validate();
     return resp.dropped();
   }
@@ -309,6 +312,7 @@ public class GravitinoMetalake extends MetalakeDTO
             ErrorResponse.class,
             Collections.emptyMap(),
             ErrorHandlers.catalogErrorHandler());
+    restClient.invalidateCache(catalogIdentifier(catalogName));
 
     if (resp.getCode() == 0) {
       return;
@@ -328,6 +332,7 @@ public class GravitinoMetalake extends MetalakeDTO
             ErrorResponse.class,
             Collections.emptyMap(),
             ErrorHandlers.catalogErrorHandler());
+    restClient.invalidateCache(catalogIdentifier(catalogName));
 
     if (resp.getCode() == 0) {
       return;
@@ -524,6 +529,19 @@ public class GravitinoMetalake extends MetalakeDTO
     return resp.dropped();
   }
 
+  /**
+   * List the tags with detailed information associated with each of the metadata objects under the
+   * current metalake in one request, including the tags inherited from the parent objects.
+   *
+   * @param metadataObjects The metadata objects.
+   * @return The arrays of tags, in the same order as the metadata objects.
+   * @throws NotFoundException If any of the metadata objects does not exist.
+   */
+  public Tag[][] listTagsInfoForMetadataObjects(MetadataObject... metadataObjects)
+      throws NotFoundException {
+    return MetadataObjectTagOperations.listTagsInfo(this.name(), metadataObjects, restClient);
+  }
+
   /**
    * Adds a new User.
    *
@@ -1097,6 +1115,10 @@ public class GravitinoMetalake extends MetalakeDTO
     return metadataObjectRoleOperations.listBindingRoleNames();
   }
 
+  private NameIdentifier catalogIdentifier(String catalogName) {
+    return NameIdentifier.of(this.name(), catalogName);
+  }
+
   static class Builder extends MetalakeDTO.Builder<Builder> {
     private RESTClient restClient;
 
@@ -21,31 +21,49 @@ package org.apache.gravitino.client;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Maps;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.auth.AuthConstants;
 import org.apache.gravitino.dto.responses.ErrorResponse;
 import org.apache.gravitino.exceptions.RESTException;
 import org.apache.gravitino.rest.RESTRequest;
 import org.apache.gravitino.rest.RESTResponse;
 import org.apache.gravitino.rest.RESTUtils;
-import org.apache.hc.client5.http.classic.methods.HttpUriRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
 import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultHttpRequestRetryStrategy;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.concurrent.FutureCallback;
 import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpEntity;
 import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.HttpResponse;
 import org.apache.hc.core5.http.HttpStatus;
 import org.apache.hc.core5.http.Method;
 import org.apache.hc.core5.http.ParseException;
@@ -53,8 +71,11 @@ import org.apache.hc.core5.http.impl.EnglishReasonPhraseCatalog;
 import org.apache.hc.core5.http.io.entity.EntityUtils;
 import org.apache.hc.core5.http.io.entity.StringEntity;
 import org.apache.hc.core5.http.message.BasicHeader;
+import org.apache.hc.core5.http.protocol.HttpContext;
 import org.apache.hc.core5.io.CloseMode;
 import org.apache.hc.core5.net.URIBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 
 /**
  * An HttpClient for usage with the REST catalog.
@@ -63,17 +84,38 @@ import org.apache.hc.core5.net.URIBuilder;
  * corresponding responses. It supports common HTTP methods like GET, POST, PUT, DELETE, and HEAD.
  * Additionally, it allows handling server error responses using a custom error handler.
  *
+ * <p>The GET, POST and DELETE requests can also be sent asynchronously by a non-blocking client,
+ * which is created on the first asynchronous request and shares the connection limits, the
+ * timeouts and the retries configured by {@link GravitinoClientConfiguration}.
+ *
  * <p>Referred from core/src/main/java/org/apache/iceberg/rest/HTTPClient.java
  */
 public class HTTPClient implements RESTClient {
 
   private static final String VERSION_HEADER = "application/vnd.gravitino.v1+json";
+  private static final String SMILE_VERSION_HEADER = "application/vnd.gravitino.v1+smile";
+  // The servers which don't support Smile fall back to JSON.
+  private static final String SMILE_ACCEPT_HEADER =
+      SMILE_VERSION_HEADER + ", " + VERSION_HEADER + ";q=0.9";
 
   private final String uri;
   private final CloseableHttpClient httpClient;
   private final ObjectMapper mapper;
+  // The ObjectMapper of the Smile format, null if the Smile responses are not accepted.
+  private final ObjectMapper smileMapper;
   private final AuthDataProvider authDataProvider;
 
+  private final List<Header> defaultHeaders;
+  private final ConnectionConfig connectionConfig;
+  private final RequestConfig requestConfig;
+  private final BackoffRetryStrategy retryStrategy;
+  private final int maxConnections;
+  private final int maxConnectionsPerRoute;
+  // Created on the first asynchronous request, most of the clients only send blocking requests.
+  private volatile CloseableHttpAsyncClient asyncClient;
+  // The cache of the loaded metadata, null if the metadata cache is disabled.
+  private final MetadataCache metadataCache;
+
   // Handler to be executed before connecting to the server.
   private final Runnable beforeConnectHandler;
   // Handler status
@@ -93,31 +135,104 @@ public class HTTPClient implements RESTClient {
    * Constructs an instance of HTTPClient with the provided information.
    *
    * @param uri The base URI of the REST API.
+   * @param properties The configuration of the connections, the timeouts and the retries.
    * @param baseHeaders A map of base headers to be included in all HTTP requests.
    * @param objectMapper The ObjectMapper used for JSON serialization and deserialization.
+   * @param smileMapper The ObjectMapper used for Smile deserialization, or null if the responses
+   *     are only accepted in JSON.
    * @param authDataProvider The provider of authentication data.
    * @param beforeConnectHandler The function to be executed before connecting to the server.
    */
   private HTTPClient(
       String uri,
+      Map<String, String> properties,
       Map<String, String> baseHeaders,
       ObjectMapper objectMapper,
+      ObjectMapper smileMapper,
       AuthDataProvider authDataProvider,
       Runnable beforeConnectHandler) {
     this.uri = uri;
     this.mapper = objectMapper;
+    this.smileMapper = smileMapper;
 
-    HttpClientBuilder clientBuilder = HttpClients.custom();
+    this.defaultHeaders =
+        baseHeaders == null
+            ? Collections.emptyList()
+            : baseHeaders.entrySet().stream()
+                .map(e -> new BasicHeader(e.getKey(), e.getValue()))
+                .collect(Collectors.toList());
+    this.connectionConfig =
+        ConnectionConfig.custom()
+            .setConnectTimeout(
+                Timeout.ofMilliseconds(
+                    longProperty(
+                        properties,
+                        GravitinoClientConfiguration.CLIENT_CONNECTION_TIMEOUT_MS,
+                        GravitinoClientConfiguration.CLIENT_CONNECTION_TIMEOUT_MS_DEFAULT)))
+            .build();
+    long requestTimeoutMs =
+        longProperty(
+            properties,
+            GravitinoClientConfiguration.CLIENT_REQUEST_TIMEOUT_MS,
+            GravitinoClientConfiguration.CLIENT_REQUEST_TIMEOUT_MS_DEFAULT);
+    this.requestConfig =
+        requestTimeoutMs > 0
+            ? RequestConfig.custom()
+                .setResponseTimeout(Timeout.ofMilliseconds(requestTimeoutMs))
+                .build()
+            : RequestConfig.DEFAULT;
+    this.retryStrategy =
+        new BackoffRetryStrategy(
+            intProperty(
+                properties,
+                GravitinoClientConfiguration.CLIENT_MAX_RETRIES,
+                GravitinoClientConfiguration.CLIENT_MAX_RETRIES_DEFAULT),
+            longProperty(
+                properties,
+                GravitinoClientConfiguration.CLIENT_RETRY_BACKOFF_MS,
+                GravitinoClientConfiguration.CLIENT_RETRY_BACKOFF_MS_DEFAULT));
+    this.maxConnections =
+        intProperty(
+            properties,
+            GravitinoClientConfiguration.CLIENT_MAX_CONNECTIONS,
+            GravitinoClientConfiguration.CLIENT_MAX_CONNECTIONS_DEFAULT);
+    this.maxConnectionsPerRoute =
+        intProperty(
+            properties,
+            GravitinoClientConfiguration.CLIENT_MAX_CONNECTIONS_PER_ROUTE,
+            GravitinoClientConfiguration.CLIENT_MAX_CONNECTIONS_PER_ROUTE_DEFAULT);
 
-    if (baseHeaders != null) {
-      clientBuilder.setDefaultHeaders(
-          baseHeaders.entrySet().stream()
-              .map(e -> new BasicHeader(e.getKey(), e.getValue()))
-              .collect(Collectors.toList()));
-    }
+    HttpClientBuilder clientBuilder =
+        HttpClients.custom()
+            .setConnectionManager(
+                PoolingHttpClientConnectionManagerBuilder.create()
+                    .setMaxConnTotal(maxConnections)
+                    .setMaxConnPerRoute(maxConnectionsPerRoute)
+                    .setDefaultConnectionConfig(connectionConfig)
+                    .build())
+            .setDefaultRequestConfig(requestConfig)
+            .setRetryStrategy(retryStrategy)
+            .setDefaultHeaders(defaultHeaders);
 
     this.httpClient = clientBuilder.build();
     this.authDataProvider = authDataProvider;
+    boolean metadataCacheEnabled =
+        booleanProperty(
+            properties,
+            GravitinoClientConfiguration.CLIENT_METADATA_CACHE_ENABLED,
+            GravitinoClientConfiguration.CLIENT_METADATA_CACHE_ENABLED_DEFAULT);
+    int metadataCacheMaxSize =
+        intProperty(
+            properties,
+            GravitinoClientConfiguration.CLIENT_METADATA_CACHE_MAX_SIZE,
+            GravitinoClientConfiguration.CLIENT_METADATA_CACHE_MAX_SIZE_DEFAULT);
+    long metadataCacheTtlMs =
+        longProperty(
+            properties,
+            GravitinoClientConfiguration.CLIENT_METADATA_CACHE_TTL_MS,
+            GravitinoClientConfiguration.CLIENT_METADATA_CACHE_TTL_MS_DEFAULT);
+    this.metadataCache =
+        metadataCacheEnabled ? new MetadataCache(metadataCacheMaxSize, metadataCacheTtlMs) : null;
 
     if (beforeConnectHandler == null) {
       handlerStatus = HandlerStatus.Finished;
@@ -153,7 +268,7 @@ public class HTTPClient implements RESTClient {
    * @param response The response to check for success.
    * @return True if the response is successful, false otherwise.
    */
-  private boolean isSuccessful(CloseableHttpResponse response) {
+  private boolean isSuccessful(HttpResponse response) {
     int code = response.getCode();
     return code == HttpStatus.SC_OK
         || code == HttpStatus.SC_ACCEPTED
@@ -170,7 +285,7 @@ public class HTTPClient implements RESTClient {
    * @param response The response from which the ErrorResponse is built.
    * @return An ErrorResponse object representing the REST error response.
    */
-  private ErrorResponse buildRestErrorResponse(CloseableHttpResponse response) {
+  private ErrorResponse buildRestErrorResponse(HttpResponse response) {
     String responseReason = response.getReasonPhrase();
     String message =
         responseReason != null && !responseReason.isEmpty()
@@ -192,7 +307,7 @@ public class HTTPClient implements RESTClient {
    *     during parsing.
    */
   private void throwFailure(
-      CloseableHttpResponse response, String responseBody, Consumer<ErrorResponse> errorHandler) {
+      HttpResponse response, String responseBody, Consumer<ErrorResponse> errorHandler) {
     ErrorResponse errorResponse = null;
 
     if (responseBody != null) {
@@ -328,14 +443,7 @@ public class HTTPClient implements RESTClient {
       Consumer<ErrorResponse> errorHandler,
       Consumer<Map<String, String>> responseHeaders) {
 
-    if (handlerStatus != HandlerStatus.Finished) {
-      performPreConnectHandler();
-    }
-
-    if (path.startsWith("/")) {
-      throw new RESTException(
-          "Received a malformed path for a REST request: %s. Paths should not start with /", path);
-    }
+    checkBeforeRequest(path);
 
     HttpUriRequestBase request = new HttpUriRequestBase(method.name(), buildUri(path, queryParams));
 
@@ -350,11 +458,7 @@ public class HTTPClient implements RESTClient {
     } else {
       addRequestHeaders(request, headers, ContentType.APPLICATION_JSON.getMimeType());
     }
-    if (authDataProvider != null) {
-      request.setHeader(
-          AuthConstants.HTTP_HEADER_AUTHORIZATION,
-          new String(authDataProvider.getTokenData(), StandardCharsets.UTF_8));
-    }
+    addAuthorizationHeader(request);
 
     try (CloseableHttpResponse response = httpClient.execute(request)) {
       Map<String, String> respHeaders = Maps.newHashMap();
@@ -364,20 +468,22 @@ public class HTTPClient implements RESTClient {
 
       responseHeaders.accept(respHeaders);
 
-      // Skip parsing the response stream for any successful request not expecting a response body
+      // Skip parsing the response stream for any successful request not expecting a response body,
+      // and for the conditional request of which the cached response is not modified.
       if (response.getCode() == HttpStatus.SC_NO_CONTENT
+          || response.getCode() == HttpStatus.SC_NOT_MODIFIED
           || (responseType == null && isSuccessful(response))) {
         return null;
       }
 
-      String responseBody = extractResponseBodyAsString(response);
-
       if (!isSuccessful(response)) {
         // The provided error handler is expected to throw, but a RESTException.java is thrown if
         // not.
-        throwFailure(response, responseBody, errorHandler);
+        throwFailure(response, extractResponseBodyAsString(response), errorHandler);
       }
 
+      HttpEntity entity = response.getEntity();
+      InputStream responseBody = entity == null ? null : entity.getContent();
       if (responseBody == null) {
         throw new RESTException(
             "Invalid (null) response body for request (expected %s): method=%s, path=%s, status=%d",
@@ -387,8 +493,13 @@ public class HTTPClient implements RESTClient {
             response.getCode());
       }
 
-      try {
-        return mapper.readValue(responseBody, responseType);
+      // The response body is parsed from the stream rather than read into a string first.
+      try (InputStream content = responseBody) {
+        ContentType contentType =
+            entity.getContentType() == null
+                ? null
+                : ContentType.parseLenient(entity.getContentType());
+        return responseMapper(contentType).readValue(content, responseType);
       } catch (JsonProcessingException e) {
         throw new RESTException(
             e,
@@ -401,6 +512,175 @@ public class HTTPClient implements RESTClient {
     }
   }
 
+  /**
+   * Executes an HTTP request asynchronously by the non-blocking client.
+   *
+   * <p>The future is completed on an I/O thread of the client, the blocking or the expensive
+   * actions depending on the future should run on an executor of the caller. The pre-connect
+   * handler and the authentication data provider are called in the calling thread.
+   *
+   * @param method The HTTP method to use (e.g., GET, POST, DELETE).
+   * @param path The URL path to send the request to.
+   * @param queryParams A map of query parameters (key-value pairs) to include in the request URL
+   *     (can be null).
+   * @param requestBody The REST request to place in the request body (can be null).
+   * @param responseType The class type of the response for deserialization.
+   * @param headers A map of request headers (key-value pairs) to include in the request (can be
+   *     null).
+   * @param errorHandler The error handler delegated for HTTP responses, which handles server error
+   *     responses.
+   * @param <T> The class type of the response for deserialization.
+   * @return The future of the response entity, completed exceptionally by the exception thrown by
+   *     the error handler or a {@link RESTException} if the request fails.
+   */
+  private <T> CompletableFuture<T> executeAsync(
+      Method method,
+      String path,
+      Map<String, String> queryParams,
+      RESTRequest requestBody,
+      Class<T> responseType,
+      Map<String, String> headers,
+      Consumer<ErrorResponse> errorHandler) {
+    CompletableFuture<T> future = new CompletableFuture<>();
+    SimpleHttpRequest request;
+    try {
+      checkBeforeRequest(path);
+
+      request = new SimpleHttpRequest(method.name(), buildUri(path, queryParams));
+      addRequestHeaders(request, headers, ContentType.APPLICATION_JSON.getMimeType());
+      if (requestBody != null) {
+        request.setBody(
+            mapper.writeValueAsBytes(requestBody),
+            ContentType.APPLICATION_JSON.withCharset(StandardCharsets.UTF_8));
+      }
+      addAuthorizationHeader(request);
+    } catch (JsonProcessingException e) {
+      future.completeExceptionally(
+          new RESTException(e, "Failed to write request body: %s", requestBody));
+      return future;
+    } catch (RuntimeException e) {
+      future.completeExceptionally(e);
+      return future;
+    }
+
+    asyncClient()
+        .execute(
+            request,
+            new FutureCallback<SimpleHttpResponse>() {
+              @Override
+              public void completed(SimpleHttpResponse response) {
+                try {
+                  future.complete(
+                      parseResponse(method, path, response, responseType, errorHandler));
+                } catch (RuntimeException e) {
+                  future.completeExceptionally(e);
+                }
+              }
+
+              @Override
+              public void failed(Exception e) {
+                future.completeExceptionally(
+                    new RESTException(e, "Error occurred while processing %s request", method));
+              }
+
+              @Override
+              public void cancelled() {
+                future.cancel(false);
+              }
+            });
+    return future;
+  }
+
+  private <T> T parseResponse(
+      Method method,
+      String path,
+      SimpleHttpResponse response,
+      Class<T> responseType,
+      Consumer<ErrorResponse> errorHandler) {
+    if (response.getCode() == HttpStatus.SC_NO_CONTENT
+        || (responseType == null && isSuccessful(response))) {
+      return null;
+    }
+
+    if (!isSuccessful(response)) {
+      throwFailure(response, response.getBodyText(), errorHandler);
+    }
+
+    byte[] responseBody = response.getBodyBytes();
+    if (responseBody == null) {
+      throw new RESTException(
+          "Invalid (null) response body for request (expected %s): method=%s, path=%s, status=%d",
+          responseType != null ? responseType.getSimpleName() : "unknown",
+          method.name(),
+          path,
+          response.getCode());
+    }
+
+    try {
+      return responseMapper(response.getContentType()).readValue(responseBody, responseType);
+    } catch (IOException e) {
+      throw new RESTException(
+          e,
+          "Received a success response code of %d, but failed to parse response body into %s",
+          response.getCode(),
+          responseType != null ? responseType.getSimpleName() : "unknown");
+    }
+  }
+
+  private CloseableHttpAsyncClient asyncClient() {
+    CloseableHttpAsyncClient client = asyncClient;
+    if (client == null) {
+      synchronized (this) {
+        client = asyncClient;
+        if (client == null) {
+          client =
+              HttpAsyncClients.custom()
+                  .setConnectionManager(
+                      PoolingAsyncClientConnectionManagerBuilder.create()
+                          .setMaxConnTotal(maxConnections)
+                          .setMaxConnPerRoute(maxConnectionsPerRoute)
+                          .setDefaultConnectionConfig(connectionConfig)
+                          .build())
+                  .setDefaultRequestConfig(requestConfig)
+                  .setRetryStrategy(retryStrategy)
+                  .setDefaultHeaders(defaultHeaders)
+                  .build();
+          client.start();
+          asyncClient = client;
+        }
+      }
+    }
+    return client;
+  }
+
+  private void checkBeforeRequest(String path) {
+    if (handlerStatus != HandlerStatus.Finished) {
+      performPreConnectHandler();
+    }
+
+    if (path.startsWith("/")) {
+      throw new RESTException(
+          "Received a malformed path for a REST request: %s. Paths should not start with /", path);
+    }
+  }
+
+  private void addAuthorizationHeader(HttpRequest request) {
+    if (authDataProvider != null) {
+      request.setHeader(
+          AuthConstants.HTTP_HEADER_AUTHORIZATION,
+          new String(authDataProvider.getTokenData(), StandardCharsets.UTF_8));
+    }
+  }
+
+  private ObjectMapper responseMapper(ContentType contentType) {
+    if (smileMapper != null
+        && contentType != null
+        && SMILE_VERSION_HEADER.equalsIgnoreCase(contentType.getMimeType())) {
+      return smileMapper;
+    }
+    return mapper;
+  }
+
   private synchronized void performPreConnectHandler() {
     // beforeConnectHandler is a pre-connection handler that needs to be executed before the first
     // HTTP request. if the handler execute fails, we set the status to Start to retry the handler.
@@ -455,6 +735,97 @@ public class HTTPClient implements RESTClient {
     return execute(Method.GET, path, queryParams, null, responseType, headers, errorHandler);
   }
 
+  /**
+   * Sends an HTTP GET request of the metadata with the specified identifier, or serves it from the
+   * metadata cache if it's enabled.
+   *
+   * <p>The cached response is returned without a request until it's older than the TTL, then it's
+   * revalidated by a conditional request with the entity tag of the response, and the server only
+   * sends the metadata again if it's modified.
+   *
+   * @param ident The full identifier of the metadata, which is the key of the cache.
+   * @param path The URL path to send the GET request to.
+   * @param responseType The class type of the response for deserialization.
+   * @param headers A map of request headers (key-value pairs) to include in the request (can be
+   *     null).
+   * @param errorHandler The error handler delegated for HTTP responses, which handles server error
+   *     responses.
+   * @param <T> The class type of the response for deserialization.
+   * @return The response entity parsed and converted to its type T, or the cached one.
+   */
+  @Override
+  public <T extends RESTResponse> T getCached(
+      NameIdentifier ident,
+      String path,
+      Class<T> responseType,
+      Map<String, String> headers,
+      Consumer<ErrorResponse> errorHandler) {
+    if (metadataCache == null) {
+      return get(path, responseType, headers, errorHandler);
+    }
+
+    MetadataCache.Entry cached = metadataCache.get(ident, responseType);
+    if (cached != null && metadataCache.isFresh(cached)) {
+      return responseType.cast(cached.response());
+    }
+
+    long loadGeneration = metadataCache.generation();
+    Map<String, String> requestHeaders = Maps.newHashMap();
+    if (headers != null) {
+      requestHeaders.putAll(headers);
+    }
+    if (cached != null && cached.entityTag() != null) {
+      requestHeaders.put(HttpHeaders.IF_NONE_MATCH, cached.entityTag());
+    }
+
+    String[] entityTag = new String[1];
+    T response;
+    try {
+      response =
+          execute(
+              Method.GET,
+              path,
+              null,
+              null,
+              responseType,
+              requestHeaders,
+              errorHandler,
+              h -> entityTag[0] = headerValue(h, HttpHeaders.ETAG));
+    } catch (RuntimeException e) {
+      // The metadata may be dropped or no longer accessible.
+      if (cached != null) {
+        metadataCache.invalidate(ident);
+      }
+      throw e;
+    }
+
+    if (response == null && cached != null) {
+      metadataCache.putIfUnchanged(ident, cached.revalidated(), loadGeneration);
+      return responseType.cast(cached.response());
+    }
+
+    metadataCache.putIfUnchanged(
+        ident, new MetadataCache.Entry(response, entityTag[0]), loadGeneration);
+    return response;
+  }
+
+  /**
+   * Invalidates the cached metadata with the specified identifier and the metadata under it.
+   *
+   * @param ident The full identifier of the metadata to invalidate.
+   */
+  @Override
+  public void invalidateCache(NameIdentifier ident) {
+    if (metadataCache != null) {
+      metadataCache.invalidate(ident);
+    }
+  }
+
+  @VisibleForTesting
+  MetadataCache metadataCache() {
+    return metadataCache;
+  }
+
   /**
    * Sends an HTTP POST request to the specified path with the provided request body and processes
    * the response.
@@ -659,6 +1030,75 @@ public class HTTPClient implements RESTClient {
     return execute(Method.POST, path, null, formData, responseType, headers, errorHandler);
   }
 
+  /**
+   * Sends an HTTP GET request to the specified path asynchronously.
+   *
+   * @param path The URL path to send the GET request to.
+   * @param queryParams A map of query parameters (key-value pairs) to include in the request URL
+   *     (can be null).
+   * @param responseType The class type of the response for deserialization.
+   * @param headers A map of request headers (key-value pairs) to include in the request.
+   * @param errorHandler The error handler delegated for HTTP responses, which handles server error
+   *     responses.
+   * @param <T> The class type of the response for deserialization.
+   * @return The future of the response entity.
+   */
+  @Override
+  public <T extends RESTResponse> CompletableFuture<T> getAsync(
+      String path,
+      Map<String, String> queryParams,
+      Class<T> responseType,
+      Map<String, String> headers,
+      Consumer<ErrorResponse> errorHandler) {
+    return executeAsync(Method.GET, path, queryParams, null, responseType, headers, errorHandler);
+  }
+
+  /**
+   * Sends an HTTP POST request to the specified path with the provided request body asynchronously.
+   *
+   * @param path The URL path to send the POST request to.
+   * @param body The REST request to place in the request body.
+   * @param responseType The class type of the response for deserialization.
+   * @param headers A map of request headers (key-value pairs) to include in the request.
+   * @param errorHandler The error handler delegated for HTTP responses, which handles server error
+   *     responses.
+   * @param <T> The class type of the response for deserialization.
+   * @return The future of the response entity.
+   */
+  @Override
+  public <T extends RESTResponse> CompletableFuture<T> postAsync(
+      String path,
+      RESTRequest body,
+      Class<T> responseType,
+      Map<String, String> headers,
+      Consumer<ErrorResponse> errorHandler) {
+    return executeAsync(Method.POST, path, null, body, responseType, headers, errorHandler);
+  }
+
+  /**
+   * Sends an HTTP DELETE request to the specified path asynchronously.
+   *
+   * @param path The URL path to send the DELETE request to.
+   * @param queryParams A map of query parameters (key-value pairs) to include in the request (can
+   *     be null).
+   * @param responseType The class type of the response for deserialization.
+   * @param headers A map of request headers (key-value pairs) to include in the request.
+   * @param errorHandler The error handler delegated for HTTP responses, which handles server error
+   *     responses.
+   * @param <T> The class type of the response for deserialization.
+   * @return The future of the response entity.
+   */
+  @Override
+  public <T extends RESTResponse> CompletableFuture<T> deleteAsync(
+      String path,
+      Map<String, String> queryParams,
+      Class<T> responseType,
+      Map<String, String> headers,
+      Consumer<ErrorResponse> errorHandler) {
+    return executeAsync(
+        Method.DELETE, path, queryParams, null, responseType, headers, errorHandler);
+  }
+
   /**
    * Adds the specified request headers to the given HTTP request along with a specified body MIME
    * type.
@@ -668,12 +1108,14 @@ public class HTTPClient implements RESTClient {
    * @param bodyMimeType The MIME type of the request body.
    */
   private void addRequestHeaders(
-      HttpUriRequest request, Map<String, String> requestHeaders, String bodyMimeType) {
+      HttpRequest request, Map<String, String> requestHeaders, String bodyMimeType) {
     // Some systems require the Content-Type header to be set even for empty-bodied requests to
     // avoid failures.
     request.setHeader(HttpHeaders.CONTENT_TYPE, bodyMimeType);
-    request.setHeader(HttpHeaders.ACCEPT, VERSION_HEADER);
+    request.setHeader(
+        HttpHeaders.ACCEPT, smileMapper != null ? SMILE_ACCEPT_HEADER : VERSION_HEADER);
     requestHeaders.forEach(request::setHeader);
+    TraceContextPropagator.inject(request::setHeader);
   }
 
   /**
@@ -687,6 +1129,9 @@ public class HTTPClient implements RESTClient {
       authDataProvider.close();
     }
     httpClient.close(CloseMode.GRACEFUL);
+    if (asyncClient != null) {
+      asyncClient.close(CloseMode.GRACEFUL);
+    }
   }
 
   /**
@@ -706,12 +1151,12 @@ public class HTTPClient implements RESTClient {
    * URI, request headers, and ObjectMapper.
    */
   public static class Builder {
-    @SuppressWarnings("UnusedVariable")
     private final Map<String, String> properties;
 
     private final Map<String, String> baseHeaders = Maps.newHashMap();
     private String uri;
     private ObjectMapper mapper = ObjectMapperProvider.objectMapper();
+    private ObjectMapper smileMapper;
     private AuthDataProvider authDataProvider;
     private Runnable beforeConnectHandler;
 
@@ -766,6 +1211,19 @@ public class HTTPClient implements RESTClient {
       return this;
     }
 
+    /**
+     * Sets the ObjectMapper of the Smile binary format for the HTTP client. If it's set, the client
+     * accepts the responses in Smile, which are smaller and faster to parse than JSON, and falls
+     * back to JSON if the server doesn't support Smile. The requests are always sent in JSON.
+     *
+     * @param smileMapper The ObjectMapper of the Smile format to deserialize the responses.
+     * @return This Builder instance for method chaining.
+     */
+    public Builder withSmileObjectMapper(ObjectMapper smileMapper) {
+      this.smileMapper = smileMapper;
+      return this;
+    }
+
     /**
      * Sets the preConnect handle for the HTTP client.
      *
@@ -795,7 +1253,14 @@ public class HTTPClient implements RESTClient {
      */
     public HTTPClient build() {
 
-      return new HTTPClient(uri, baseHeaders, mapper, authDataProvider, beforeConnectHandler);
+      return new HTTPClient(
+          uri,
+          properties,
+          baseHeaders,
+          mapper,
+          smileMapper,
+          authDataProvider,
+          beforeConnectHandler);
     }
   }
 
@@ -810,4 +1275,79 @@ public class HTTPClient implements RESTClient {
   private StringEntity toFormEncoding(Map<?, ?> formData) {
     return new StringEntity(RESTUtils.encodeFormData(formData));
   }
+
+  private static long longProperty(Map<String, String> properties, String key, long defaultValue) {
+    String value = properties == null ? null : properties.get(key);
+    if (value == null) {
+      return defaultValue;
+    }
+
+    long result;
+    try {
+      result = Long.parseLong(value.trim());
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException(
+          String.format("The value of %s must be a number: %s", key, value), e);
+    }
+    Preconditions.checkArgument(
+        result >= 0, "The value of %s must not be negative: %s", key, value);
+    return result;
+  }
+
+  private static boolean booleanProperty(
+      Map<String, String> properties, String key, boolean defaultValue) {
+    String value = properties == null ? null : properties.get(key);
+    if (value == null) {
+      return defaultValue;
+    }
+
+    String trimmed = value.trim();
+    Preconditions.checkArgument(
+        "true".equalsIgnoreCase(trimmed) || "false".equalsIgnoreCase(trimmed),
+        "The value of %s must be true or false: %s",
+        key,
+        value);
+    return Boolean.parseBoolean(trimmed);
+  }
+
+  // The names of the headers are case-insensitive.
+  private static String headerValue(Map<String, String> headers, String name) {
+    return headers.entrySet().stream()
+        .filter(e -> e.getKey().equalsIgnoreCase(name))
+        .map(Map.Entry::getValue)
+        .findFirst()
+        .orElse(null);
+  }
+
+  private static int intProperty(Map<String, String> properties, String key, int defaultValue) {
+    long value = longProperty(properties, key, defaultValue);
+    Preconditions.checkArgument(
+        value <= Integer.MAX_VALUE, "The value of %s is too large: %s", key, value);
+    return (int) value;
+  }
+
+  /**
+   * Retries with the interval doubled on each retry, unless the server asks for an interval by the
+   * Retry-After header.
+   */
+  private static class BackoffRetryStrategy extends DefaultHttpRequestRetryStrategy {
+    // Caps the doubling, the interval of the later retries stays at 2^10 times the backoff.
+    private static final int MAX_BACKOFF_SHIFT = 10;
+
+    private final long backoffMs;
+
+    BackoffRetryStrategy(int maxRetries, long backoffMs) {
+      super(maxRetries, TimeValue.ofMilliseconds(backoffMs));
+      this.backoffMs = backoffMs;
+    }
+
+    @Override
+    public TimeValue getRetryInterval(HttpResponse response, int execCount, HttpContext context) {
+      if (response.containsHeader(HttpHeaders.RETRY_AFTER)) {
+        return super.getRetryInterval(response, execCount, context);
+      }
+      int shift = Math.min(Math.max(execCount - 1, 0), MAX_BACKOFF_SHIFT);
+      return TimeValue.ofMilliseconds(backoffMs << shift);
+    }
+  }
 }
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.client;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.rest.RESTResponse;
+
+/**
+ * A bounded cache of the metadata loaded by the client, keyed by the full identifier of the
+ * metadata.
+ *
+ * <p>The cached response is used without asking the server until it's older than the TTL, then
+ * it's revalidated by a conditional request with the entity tag of the response, and kept if the
+ * server answers that it's not modified. The metadata changed by the same client is invalidated
+ * together with the metadata under it, the changes made by others are picked up by the
+ * revalidation.
+ */
+final class MetadataCache {
+
+  /** A cached response with its entity tag and the time it's loaded or revalidated. */
+  static final class Entry {
+    private final RESTResponse response;
+    private final String entityTag;
+    private final long validatedNanos;
+
+    Entry(RESTResponse response, String entityTag) {
+      this.response = response;
+      this.entityTag = entityTag;
+      this.validatedNanos = System.nanoTime();
+    }
+
+    RESTResponse response() {
+      return response;
+    }
+
+    String entityTag() {
+      return entityTag;
+    }
+
+    Entry revalidated() {
+      return new Entry(response, entityTag);
+    }
+  }
+
+  private final Cache<NameIdentifier, Entry> entries;
+  private final long ttlNanos;
+  // Incremented on each invalidation, a response loaded across an invalidation is not cached.
+  private final AtomicLong generation = new AtomicLong();
+
+  MetadataCache(long maxSize, long ttlMs) {
+    this.entries = CacheBuilder.newBuilder().maximumSize(maxSize).build();
+    this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMs);
+  }
+
+  /**
+   * Gets the cached response of the identifier.
+   *
+   * @param ident The full identifier of the metadata.
+   * @param responseType The type of the response.
+   * @return The cached entry, or null if the identifier isn't cached with a response of the type.
+   */
+  Entry get(NameIdentifier ident, Class<? extends RESTResponse> responseType) {
+    Entry entry = entries.getIfPresent(ident);
+    return entry != null && responseType.isInstance(entry.response) ? entry : null;
+  }
+
+  boolean isFresh(Entry entry) {
+    return System.nanoTime() - entry.validatedNanos < ttlNanos;
+  }
+
+  long generation() {
+    return generation.get();
+  }
+
+  /**
+   * Caches the entry unless the cache is invalidated since the generation the entry is loaded in.
+   *
+   * @param ident The full identifier of the metadata.
+   * @param entry The entry to cache.
+   * @param loadGeneration The generation of the cache before the entry is loaded.
+   */
+  synchronized void putIfUnchanged(NameIdentifier ident, Entry entry, long loadGeneration) {
+    if (generation.get() == loadGeneration) {
+      entries.put(ident, entry);
+    }
+  }
+
+  /**
+   * Invalidates the cached metadata of the identifier and the metadata under it, for example the
+   * tables of a schema.
+   *
+   * @param ident The full identifier of the metadata.
+   */
+  synchronized void invalidate(NameIdentifier ident) {
+    generation.incrementAndGet();
+    entries.invalidate(ident);
+    entries.asMap().keySet().removeIf(key -> isUnder(key, ident));
+  }
+
+  /** Invalidates all the cached metadata. */
+  synchronized void invalidateAll() {
+    generation.incrementAndGet();
+    entries.invalidateAll();
+  }
+
+  long size() {
+    return entries.size();
+  }
+
+  private static boolean isUnder(NameIdentifier key, NameIdentifier ident) {
+    String[] keyLevels = key.namespace().levels();
+    String[] parentLevels = ident.namespace().levels();
+    if (keyLevels.length <= parentLevels.length) {
+      return false;
+    }
+
+    for (int i = 0; i < parentLevels.length; i++) {
+      if (!keyLevels[i].equals(parentLevels[i])) {
+        return false;
+      }
+    }
+    return keyLevels[parentLevels.length].equals(ident.name());
+  }
+}
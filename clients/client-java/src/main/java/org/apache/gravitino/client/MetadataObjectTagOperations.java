@@ -25,10 +25,14 @@ import java.util.Collections;
 import java.util.Locale;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.dto.requests.MetadataObjectListRequest;
 import org.apache.gravitino.dto.requests.TagsAssociateRequest;
+import org.apache.gravitino.dto.responses.MetadataObjectTagListResponse;
 import org.apache.gravitino.dto.responses.NameListResponse;
 import org.apache.gravitino.dto.responses.TagListResponse;
 import org.apache.gravitino.dto.responses.TagResponse;
+import org.apache.gravitino.dto.tag.MetadataObjectDTO;
+import org.apache.gravitino.dto.util.DTOConverters;
 import org.apache.gravitino.exceptions.NoSuchTagException;
 import org.apache.gravitino.rest.RESTUtils;
 import org.apache.gravitino.tag.SupportsTags;
@@ -40,6 +44,8 @@ import org.apache.gravitino.tag.Tag;
  */
 class MetadataObjectTagOperations implements SupportsTags {
 
+  private static final String API_METALAKES_OBJECTS_TAGS_PATH = "api/metalakes/%s/objects/tags";
+
   private final String metalakeName;
 
   private final RESTClient restClient;
@@ -118,4 +124,40 @@ class MetadataObjectTagOperations implements SupportsTags {
     resp.validate();
     return resp.getNames();
   }
+
+  /**
+   * Lists the tags with detailed information associated with each of the metadata objects in one
+   * request, including the tags inherited from the parent objects.
+   *
+   * @param metalakeName The name of the metalake.
+   * @param metadataObjects The metadata objects.
+   * @param restClient The REST client.
+   * @return The arrays of tags, in the same order as the metadata objects.
+   */
+  static Tag[][] listTagsInfo(
+      String metalakeName, MetadataObject[] metadataObjects, RESTClient restClient) {
+    MetadataObjectListRequest request =
+        new MetadataObjectListRequest(
+            Arrays.stream(metadataObjects)
+                .map(DTOConverters::toDTO)
+                .toArray(MetadataObjectDTO[]::new));
+    request.validate();
+
+    MetadataObjectTagListResponse resp =
+        restClient.post(
+            String.format(API_METALAKES_OBJECTS_TAGS_PATH, metalakeName),
+            request,
+            MetadataObjectTagListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.tagErrorHandler());
+
+    resp.validate();
+    return Arrays.stream(resp.getTags())
+        .map(
+            tags ->
+                Arrays.stream(tags)
+                    .map(tagDTO -> new GenericTag(tagDTO, restClient, metalakeName))
+                    .toArray(Tag[]::new))
+        .toArray(Tag[][]::new);
+  }
 }
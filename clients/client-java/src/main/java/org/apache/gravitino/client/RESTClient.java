@@ -21,8 +21,10 @@ package org.apache.gravitino.client;
 import com.google.common.collect.ImmutableMap;
 import java.io.Closeable;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
+import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.dto.responses.ErrorResponse;
 import org.apache.gravitino.rest.RESTRequest;
 import org.apache.gravitino.rest.RESTResponse;
@@ -434,4 +436,95 @@ public interface RESTClient extends Closeable {
       Class<T> responseType,
       Map<String, String> headers,
       Consumer<ErrorResponse> errorHandler);
+
+  /**
+   * Perform a GET request on the specified path asynchronously.
+   *
+   * @param path The path to be requested.
+   * @param queryParams The query parameters to be included in the request.
+   * @param responseType The class representing the type of the response.
+   * @param headers The headers to be included in the request.
+   * @param errorHandler The consumer for handling error responses.
+   * @param <T> The type of the response.
+   * @return The future of the response of the GET request.
+   */
+  default <T extends RESTResponse> CompletableFuture<T> getAsync(
+      String path,
+      Map<String, String> queryParams,
+      Class<T> responseType,
+      Map<String, String> headers,
+      Consumer<ErrorResponse> errorHandler) {
+    throw new UnsupportedOperationException("Asynchronous requests are not supported");
+  }
+
+  /**
+   * Perform a POST request on the specified path asynchronously.
+   *
+   * @param path The path to be requested.
+   * @param body The request body to be included in the POST request.
+   * @param responseType The class representing the type of the response.
+   * @param headers The headers to be included in the request.
+   * @param errorHandler The consumer for handling error responses.
+   * @param <T> The type of the response.
+   * @return The future of the response of the POST request.
+   */
+  default <T extends RESTResponse> CompletableFuture<T> postAsync(
+      String path,
+      RESTRequest body,
+      Class<T> responseType,
+      Map<String, String> headers,
+      Consumer<ErrorResponse> errorHandler) {
+    throw new UnsupportedOperationException("Asynchronous requests are not supported");
+  }
+
+  /**
+   * Perform a DELETE request on the specified path asynchronously.
+   *
+   * @param path The path to be requested.
+   * @param queryParams The query parameters to be included in the request.
+   * @param responseType The class representing the type of the response.
+   * @param headers The headers to be included in the request.
+   * @param errorHandler The consumer for handling error responses.
+   * @param <T> The type of the response.
+   * @return The future of the response of the DELETE request.
+   */
+  default <T extends RESTResponse> CompletableFuture<T> deleteAsync(
+      String path,
+      Map<String, String> queryParams,
+      Class<T> responseType,
+      Map<String, String> headers,
+      Consumer<ErrorResponse> errorHandler) {
+    throw new UnsupportedOperationException("Asynchronous requests are not supported");
+  }
+
+  /**
+   * Perform a GET request of the metadata with the specified identifier, the response may be served
+   * from the metadata cache of the client if it's enabled. The clients without a metadata cache
+   * always send the request.
+   *
+   * @param ident The identifier of the metadata, which is the key of the cache.
+   * @param path The path to be requested.
+   * @param responseType The class representing the type of the response.
+   * @param headers The headers to be included in the request.
+   * @param errorHandler The consumer for handling error responses.
+   * @param <T> The type of the response.
+   * @return The response of the GET request, or the cached one.
+   */
+  default <T extends RESTResponse> T getCached(
+      NameIdentifier ident,
+      String path,
+      Class<T> responseType,
+      Map<String, String> headers,
+      Consumer<ErrorResponse> errorHandler) {
+    return get(path, responseType, headers, errorHandler);
+  }
+
+  /**
+   * Invalidate the cached metadata with the specified identifier and the metadata under it, it's
+   * called after the metadata is changed by the client. The clients without a metadata cache do
+   * nothing.
+   *
+   * @param ident The identifier of the metadata to invalidate.
+   */
+  default void invalidateCache(NameIdentifier ident) {}
 }
@@ -28,6 +28,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Catalog;
@@ -59,7 +60,7 @@ import org.apache.gravitino.rest.RESTUtils;
  * operations, for example, schemas and tables list, creation, update and deletion. A Relational
  * catalog is under the metalake.
  */
-class RelationalCatalog extends BaseSchemaCatalog implements TableCatalog {
+class RelationalCatalog extends BaseSchemaCatalog implements TableCatalog, TableCatalogAsync {
 
   RelationalCatalog(
       Namespace namespace,
@@ -97,11 +98,7 @@ class RelationalCatalog extends BaseSchemaCatalog implements TableCatalog {
             EntityListResponse.class,
             Collections.emptyMap(),
             ErrorHandlers.tableErrorHandler());
-    resp.validate();
-
-    return Arrays.stream(resp.identifiers())
-        .map(ident -> NameIdentifier.of(ident.namespace().level(2), ident.name()))
-        .toArray(NameIdentifier[]::new);
+    return toTableIdentifiers(resp);
   }
 
   /**
@@ -117,14 +114,13 @@ class RelationalCatalog extends BaseSchemaCatalog implements TableCatalog {
 
     Namespace fullNamespace = getTableFullNamespace(ident.namespace());
     TableResponse resp =
-        restClient.get(
+        restClient.getCached(
+            NameIdentifier.of(fullNamespace, ident.name()),
             formatTableRequestPath(fullNamespace) + "/" + RESTUtils.encodeString(ident.name()),
             TableResponse.class,
             Collections.emptyMap(),
             ErrorHandlers.tableErrorHandler());
-    resp.validate();
-
-    return RelationalTable.from(fullNamespace, resp.getTable(), restClient);
+    return toTable(fullNamespace, resp);
   }
 
   /**
@@ -154,17 +150,8 @@ class RelationalCatalog extends BaseSchemaCatalog implements TableCatalog {
     checkTableNameIdentifier(ident);
 
     TableCreateRequest req =
-        new TableCreateRequest(
-            RESTUtils.encodeString(ident.name()),
-            comment,
-            toDTOs(columns),
-            properties,
-            toDTOs(sortOrders),
-            toDTO(distribution),
-            toDTOs(partitioning),
-            toDTOs(indexes));
-    req.validate();
-
+        newTableCreateRequest(
+            ident, columns, comment, properties, partitioning, distribution, sortOrders, indexes);
     Namespace fullNamespace = getTableFullNamespace(ident.namespace());
     TableResponse resp =
         restClient.post(
@@ -173,9 +160,7 @@ class RelationalCatalog extends BaseSchemaCatalog implements TableCatalog {
             TableResponse.class,
             Collections.emptyMap(),
             ErrorHandlers.tableErrorHandler());
-    resp.validate();
-
-    return RelationalTable.from(fullNamespace, resp.getTable(), restClient);
+    return toTable(fullNamespace, resp);
   }
 
   /**
@@ -207,9 +192,8 @@ class RelationalCatalog extends BaseSchemaCatalog implements TableCatalog {
             TableResponse.class,
             Collections.emptyMap(),
             ErrorHandlers.tableErrorHandler());
-    resp.validate();
-
-    return RelationalTable.from(fullNamespace, resp.getTable(), restClient);
+    restClient.invalidateCache(NameIdentifier.of(fullNamespace, ident.name()));
+    return toTable(fullNamespace, resp);
   }
 
   /**
@@ -229,8 +213,8 @@ class RelationalCatalog extends BaseSchemaCatalog implements TableCatalog {
             DropResponse.class,
             Collections.emptyMap(),
             ErrorHandlers.tableErrorHandler());
-    resp.validate();
-    return resp.dropped();
+    restClient.invalidateCache(NameIdentifier.of(fullNamespace, ident.name()));
+    return toDropped(resp);
   }
 
   /**
@@ -253,10 +237,119 @@ class RelationalCatalog extends BaseSchemaCatalog implements TableCatalog {
             DropResponse.class,
             Collections.emptyMap(),
             ErrorHandlers.tableErrorHandler());
+    restClient.invalidateCache(NameIdentifier.of(fullNamespace, ident.name()));
     resp.validate();
     return resp.dropped();
   }
 
+  @Override
+  public CompletableFuture<NameIdentifier[]> listTablesAsync(Namespace namespace) {
+    checkTableNamespace(namespace);
+
+    Namespace fullNamespace = getTableFullNamespace(namespace);
+    return restClient
+        .getAsync(
+            formatTableRequestPath(fullNamespace),
+            Collections.emptyMap(),
+            EntityListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.tableErrorHandler())
+        .thenApply(RelationalCatalog::toTableIdentifiers);
+  }
+
+  @Override
+  public CompletableFuture<Table> loadTableAsync(NameIdentifier ident) {
+    checkTableNameIdentifier(ident);
+
+    Namespace fullNamespace = getTableFullNamespace(ident.namespace());
+    return restClient
+        .getAsync(
+            formatTableRequestPath(fullNamespace) + "/" + RESTUtils.encodeString(ident.name()),
+            Collections.emptyMap(),
+            TableResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.tableErrorHandler())
+        .thenApply(resp -> toTable(fullNamespace, resp));
+  }
+
+  @Override
+  public CompletableFuture<Table> createTableAsync(
+      NameIdentifier ident,
+      Column[] columns,
+      String comment,
+      Map<String, String> properties,
+      Transform[] partitioning,
+      Distribution distribution,
+      SortOrder[] sortOrders,
+      Index[] indexes) {
+    checkTableNameIdentifier(ident);
+
+    TableCreateRequest req =
+        newTableCreateRequest(
+            ident, columns, comment, properties, partitioning, distribution, sortOrders, indexes);
+    Namespace fullNamespace = getTableFullNamespace(ident.namespace());
+    return restClient
+        .postAsync(
+            formatTableRequestPath(fullNamespace),
+            req,
+            TableResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.tableErrorHandler())
+        .thenApply(resp -> toTable(fullNamespace, resp));
+  }
+
+  @Override
+  public CompletableFuture<Boolean> dropTableAsync(NameIdentifier ident) {
+    checkTableNameIdentifier(ident);
+
+    Namespace fullNamespace = getTableFullNamespace(ident.namespace());
+    return restClient
+        .deleteAsync(
+            formatTableRequestPath(fullNamespace) + "/" + RESTUtils.encodeString(ident.name()),
+            Collections.emptyMap(),
+            DropResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.tableErrorHandler())
+        .whenComplete(
+            (resp, e) -> restClient.invalidateCache(NameIdentifier.of(fullNamespace, ident.name())))
+        .thenApply(BaseSchemaCatalog::toDropped);
+  }
+
+  private Table toTable(Namespace fullNamespace, TableResponse resp) {
+    resp.validate();
+    return RelationalTable.from(fullNamespace, resp.getTable(), restClient);
+  }
+
+  private static NameIdentifier[] toTableIdentifiers(EntityListResponse resp) {
+    resp.validate();
+    return Arrays.stream(resp.identifiers())
+        .map(ident -> NameIdentifier.of(ident.namespace().level(2), ident.name()))
+        .toArray(NameIdentifier[]::new);
+  }
+
+  private static TableCreateRequest newTableCreateRequest(
+      NameIdentifier ident,
+      Column[] columns,
+      String comment,
+      Map<String, String> properties,
+      Transform[] partitioning,
+      Distribution distribution,
+      SortOrder[] sortOrders,
+      Index[] indexes) {
+    TableCreateRequest req =
+        new TableCreateRequest(
+            RESTUtils.encodeString(ident.name()),
+            comment,
+            toDTOs(columns),
+            properties,
+            toDTOs(sortOrders),
+            toDTO(distribution),
+            toDTOs(partitioning),
+            toDTOs(indexes));
+    req.validate();
+    return req;
+  }
+
   @VisibleForTesting
   static String formatTableRequestPath(Namespace ns) {
     Namespace schemaNs = Namespace.of(ns.level(0), ns.level(1));
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.client;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.apache.gravitino.Schema;
+import org.apache.gravitino.SupportsSchemas;
+
+/**
+ * The asynchronous variants of the main operations of {@link SupportsSchemas}. The requests are
+ * sent by a non-blocking HTTP client, so a caller can have many requests in flight without a thread
+ * for each of them. The futures are completed exceptionally by the exceptions the blocking
+ * operations throw.
+ *
+ * <p>The catalogs with schemas loaded by the Java client implement this interface, for example:
+ *
+ * <pre>{@code
+ * SupportsSchemasAsync schemas = (SupportsSchemasAsync) catalog.asSchemas();
+ * CompletableFuture<Schema> schema = schemas.loadSchemaAsync("schema");
+ * }</pre>
+ *
+ * <p>The futures are completed on the I/O threads of the client, the blocking or the expensive
+ * actions depending on them should run on an executor of the caller.
+ */
+public interface SupportsSchemasAsync {
+
+  /**
+   * Lists the schemas under the catalog asynchronously.
+   *
+   * @return The future of the names of the schemas.
+   */
+  CompletableFuture<String[]> listSchemasAsync();
+
+  /**
+   * Loads the schema with the name asynchronously.
+   *
+   * @param schemaName The name of the schema.
+   * @return The future of the schema.
+   */
+  CompletableFuture<Schema> loadSchemaAsync(String schemaName);
+
+  /**
+   * Creates a schema with the name, the comment and the properties asynchronously.
+   *
+   * @param schemaName The name of the schema.
+   * @param comment The comment of the schema.
+   * @param properties The properties of the schema.
+   * @return The future of the created schema.
+   */
+  CompletableFuture<Schema> createSchemaAsync(
+      String schemaName, String comment, Map<String, String> properties);
+
+  /**
+   * Drops the schema with the name asynchronously.
+   *
+   * @param schemaName The name of the schema.
+   * @param cascade If true, recursively drop all objects within the schema.
+   * @return The future of whether the schema is dropped, false if the schema doesn't exist.
+   */
+  CompletableFuture<Boolean> dropSchemaAsync(String schemaName, boolean cascade);
+}
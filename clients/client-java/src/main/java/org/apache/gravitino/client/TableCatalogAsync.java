@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.client;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.rel.Column;
+import org.apache.gravitino.rel.Table;
+import org.apache.gravitino.rel.TableCatalog;
+import org.apache.gravitino.rel.expressions.distributions.Distribution;
+import org.apache.gravitino.rel.expressions.sorts.SortOrder;
+import org.apache.gravitino.rel.expressions.transforms.Transform;
+import org.apache.gravitino.rel.indexes.Index;
+
+/**
+ * The asynchronous variants of the main operations of {@link TableCatalog}. The futures are
+ * completed exceptionally by the exceptions the blocking operations throw.
+ *
+ * <p>The relational catalogs loaded by the Java client implement this interface, for example:
+ *
+ * <pre>{@code
+ * TableCatalogAsync tables = (TableCatalogAsync) catalog.asTableCatalog();
+ * CompletableFuture<Table> table = tables.loadTableAsync(NameIdentifier.of("schema", "table"));
+ * }</pre>
+ *
+ * <p>The futures are completed on the I/O threads of the client, the blocking or the expensive
+ * actions depending on them should run on an executor of the caller.
+ */
+public interface TableCatalogAsync {
+
+  /**
+   * Lists the tables under the schema asynchronously.
+   *
+   * @param namespace The namespace of the tables, which is the schema name.
+   * @return The future of the identifiers of the tables, which are "schema.table" format.
+   */
+  CompletableFuture<NameIdentifier[]> listTablesAsync(Namespace namespace);
+
+  /**
+   * Loads the table with the identifier asynchronously.
+   *
+   * @param ident The identifier of the table, which should be "schema.table" format.
+   * @return The future of the table.
+   */
+  CompletableFuture<Table> loadTableAsync(NameIdentifier ident);
+
+  /**
+   * Creates a table asynchronously.
+   *
+   * @param ident The identifier of the table, which should be "schema.table" format.
+   * @param columns The columns of the table.
+   * @param comment The comment of the table.
+   * @param properties The properties of the table.
+   * @param partitioning The partitioning of the table.
+   * @param distribution The distribution of the table.
+   * @param sortOrders The sort orders of the table.
+   * @param indexes The indexes of the table.
+   * @return The future of the created table.
+   */
+  CompletableFuture<Table> createTableAsync(
+      NameIdentifier ident,
+      Column[] columns,
+      String comment,
+      Map<String, String> properties,
+      Transform[] partitioning,
+      Distribution distribution,
+      SortOrder[] sortOrders,
+      Index[] indexes);
+
+  /**
+   * Drops the table with the identifier asynchronously.
+   *
+   * @param ident The identifier of the table, which should be "schema.table" format.
+   * @return The future of whether the table is dropped, false if the table doesn't exist.
+   */
+  CompletableFuture<Boolean> dropTableAsync(NameIdentifier ident);
+}
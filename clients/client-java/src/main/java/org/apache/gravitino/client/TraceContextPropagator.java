@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.client;
+
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.Context;
+import java.util.function.BiConsumer;
+
+/**
+ * Propagates the trace context of the current thread to the server in the W3C {@code traceparent}
+ * header, so that the spans of the server are the children of the span of the application.
+ *
+ * <p>The client doesn't depend on OpenTelemetry, the trace context is only propagated if the
+ * application brings in the OpenTelemetry API, like by the OpenTelemetry Java agent.
+ */
+final class TraceContextPropagator {
+
+  private static final boolean OPEN_TELEMETRY_AVAILABLE = isOpenTelemetryAvailable();
+
+  private TraceContextPropagator() {}
+
+  /**
+   * Injects the trace context of the current thread into the headers of a request.
+   *
+   * @param headerSetter The setter of the request headers.
+   */
+  static void inject(BiConsumer<String, String> headerSetter) {
+    if (OPEN_TELEMETRY_AVAILABLE) {
+      OpenTelemetryInjector.inject(headerSetter);
+    }
+  }
+
+  private static boolean isOpenTelemetryAvailable() {
+    try {
+      Class.forName(
+          "io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator",
+          false,
+          TraceContextPropagator.class.getClassLoader());
+      return true;
+    } catch (ClassNotFoundException | LinkageError e) {
+      return false;
+    }
+  }
+
+  // Only loaded if OpenTelemetry is on the classpath.
+  private static class OpenTelemetryInjector {
+    private static void inject(BiConsumer<String, String> headerSetter) {
+      W3CTraceContextPropagator.getInstance()
+          .inject(
+              Context.current(),
+              headerSetter,
+              (setter, key, value) -> {
+                if (setter != null) {
+                  setter.accept(key, value);
+                }
+              });
+    }
+  }
+}
@@ -31,12 +31,21 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
 import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.function.Consumer;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.dto.AuditDTO;
+import org.apache.gravitino.dto.MetalakeDTO;
 import org.apache.gravitino.dto.responses.ErrorResponse;
+import org.apache.gravitino.dto.responses.MetalakeListResponse;
 import org.apache.gravitino.exceptions.NotFoundException;
 import org.apache.gravitino.rest.RESTRequest;
 import org.apache.gravitino.rest.RESTResponse;
@@ -46,8 +55,10 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.mockserver.integration.ClientAndServer;
+import org.mockserver.matchers.Times;
 import org.mockserver.model.HttpRequest;
 import org.mockserver.model.HttpResponse;
+import org.mockserver.verify.VerificationTimes;
 
 /**
  * * Exercises the RESTClient interface, specifically over a mocked-server using the actual
@@ -127,6 +138,152 @@ public class TestHTTPClient {
     testHttpMethodOnFailure(Method.HEAD, false, false);
   }
 
+  @Test
+  public void testAsyncRequests() throws Exception {
+    Item body = new Item(0L, "hank");
+    mockServer
+        .when(request("/async_items").withMethod("GET"))
+        .respond(response().withStatusCode(200).withBody(MAPPER.writeValueAsString(body)));
+    mockServer
+        .when(request("/async_items").withMethod("POST").withBody(MAPPER.writeValueAsString(body)))
+        .respond(response().withStatusCode(200).withBody(MAPPER.writeValueAsString(body)));
+    mockServer
+        .when(request("/async_missing").withMethod("DELETE"))
+        .respond(response().withStatusCode(404).withBody("{}"));
+
+    ErrorHandler onError = mock(ErrorHandler.class);
+    doThrow(new NotFoundException("Not found")).when(onError).accept(any());
+
+    // Many requests are in flight at the same time without a thread for each of them
+    int requests = 200;
+    List<CompletableFuture<Item>> futures = Lists.newArrayList();
+    for (int i = 0; i < requests; i++) {
+      futures.add(
+          restClient.getAsync(
+              "async_items", ImmutableMap.of(), Item.class, ImmutableMap.of(), onError));
+    }
+    for (CompletableFuture<Item> future : futures) {
+      Assertions.assertEquals(body, future.get());
+    }
+
+    Assertions.assertEquals(
+        body,
+        restClient.postAsync("async_items", body, Item.class, ImmutableMap.of(), onError).get());
+
+    ExecutionException exception =
+        Assertions.assertThrows(
+            ExecutionException.class,
+            () ->
+                restClient
+                    .deleteAsync(
+                        "async_missing", ImmutableMap.of(), Item.class, ImmutableMap.of(), onError)
+                    .get());
+    Assertions.assertInstanceOf(NotFoundException.class, exception.getCause());
+  }
+
+  @Test
+  public void testRetryWithBackoff() throws Exception {
+    Item body = new Item(0L, "hank");
+    mockServer
+        .when(request("/retried_items").withMethod("GET"), Times.exactly(2))
+        .respond(response().withStatusCode(503));
+    mockServer
+        .when(request("/retried_items").withMethod("GET"))
+        .respond(response().withStatusCode(200).withBody(MAPPER.writeValueAsString(body)));
+
+    ErrorHandler onError = mock(ErrorHandler.class);
+    try (RESTClient retryClient =
+        HTTPClient.builder(
+                ImmutableMap.of(
+                    GravitinoClientConfiguration.CLIENT_MAX_RETRIES,
+                    "2",
+                    GravitinoClientConfiguration.CLIENT_RETRY_BACKOFF_MS,
+                    "10"))
+            .uri(String.format("http://127.0.0.1:%d", mockServer.getPort()))
+            .build()) {
+      Assertions.assertEquals(
+          body, retryClient.get("retried_items", Item.class, ImmutableMap.of(), onError));
+    }
+    verify(onError, never()).accept(any());
+
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            HTTPClient.builder(
+                    ImmutableMap.of(GravitinoClientConfiguration.CLIENT_MAX_CONNECTIONS, "-1"))
+                .uri("http://127.0.0.1")
+                .build());
+  }
+
+  @Test
+  public void testMetadataCache() throws Exception {
+    Item body = new Item(0L, "hank");
+    Item changedBody = new Item(1L, "hank");
+    HttpRequest conditionalRequest =
+        request("/cached_items").withMethod("GET").withHeader("If-None-Match", "W/\"v1\"");
+    mockServer
+        .when(conditionalRequest, Times.exactly(1))
+        .respond(response().withStatusCode(304).withHeader("ETag", "W/\"v1\""));
+    mockServer
+        .when(conditionalRequest)
+        .respond(
+            response()
+                .withStatusCode(200)
+                .withHeader("ETag", "W/\"v2\"")
+                .withBody(MAPPER.writeValueAsString(changedBody)));
+    mockServer
+        .when(request("/cached_items").withMethod("GET"))
+        .respond(
+            response()
+                .withStatusCode(200)
+                .withHeader("ETag", "W/\"v1\"")
+                .withBody(MAPPER.writeValueAsString(body)));
+
+    NameIdentifier ident = NameIdentifier.of("metalake", "catalog", "schema", "item");
+    ErrorHandler onError = mock(ErrorHandler.class);
+    try (HTTPClient cachingClient =
+        HTTPClient.builder(
+                ImmutableMap.of(
+                    GravitinoClientConfiguration.CLIENT_METADATA_CACHE_ENABLED,
+                    "true",
+                    GravitinoClientConfiguration.CLIENT_METADATA_CACHE_TTL_MS,
+                    "0"))
+            .uri(String.format("http://127.0.0.1:%d", mockServer.getPort()))
+            .build()) {
+      Item loaded = cachingClient.getCached(ident, "cached_items", Item.class, null, onError);
+      Assertions.assertEquals(body, loaded);
+
+      // Every load is revalidated with the TTL 0, the cached one is kept if it's not modified
+      Assertions.assertSame(
+          loaded, cachingClient.getCached(ident, "cached_items", Item.class, null, onError));
+      Assertions.assertEquals(
+          changedBody, cachingClient.getCached(ident, "cached_items", Item.class, null, onError));
+
+      // The metadata under the invalidated one is invalidated too
+      cachingClient.invalidateCache(NameIdentifier.of("metalake", "catalog", "other"));
+      Assertions.assertEquals(1, cachingClient.metadataCache().size());
+      cachingClient.invalidateCache(NameIdentifier.of("metalake", "catalog"));
+      Assertions.assertEquals(0, cachingClient.metadataCache().size());
+    }
+
+    mockServer
+        .when(request("/fresh_items").withMethod("GET"))
+        .respond(response().withStatusCode(200).withBody(MAPPER.writeValueAsString(body)));
+    try (HTTPClient cachingClient =
+        HTTPClient.builder(
+                ImmutableMap.of(GravitinoClientConfiguration.CLIENT_METADATA_CACHE_ENABLED, "true"))
+            .uri(String.format("http://127.0.0.1:%d", mockServer.getPort()))
+            .build()) {
+      for (int i = 0; i < 10; i++) {
+        Assertions.assertEquals(
+            body, cachingClient.getCached(ident, "fresh_items", Item.class, null, onError));
+      }
+    }
+    // The cached metadata is used without asking the server within the TTL
+    mockServer.verify(request("/fresh_items").withMethod("GET"), VerificationTimes.exactly(1));
+    verify(onError, never()).accept(any());
+  }
+
   public static void testHttpMethodOnSuccess(
       Method method, boolean hasRequestBody, boolean hasResponseBody)
       throws JsonProcessingException {
@@ -177,6 +334,63 @@ public class TestHTTPClient {
     verify(onError).accept(any());
   }
 
+  @Test
+  public void testGetWithSmile() throws Exception {
+    int metalakeCount = 1000;
+    AuditDTO audit =
+        AuditDTO.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+    MetalakeDTO[] metalakes = new MetalakeDTO[metalakeCount];
+    for (int i = 0; i < metalakeCount; i++) {
+      metalakes[i] =
+          MetalakeDTO.builder()
+              .withName("metalake_" + i)
+              .withComment("comment")
+              .withProperties(ImmutableMap.of("key1", "value1", "key2", "value2"))
+              .withAudit(audit)
+              .build();
+    }
+    MetalakeListResponse body = new MetalakeListResponse(metalakes);
+    byte[] json = MAPPER.writeValueAsBytes(body);
+    byte[] smile = ObjectMapperProvider.smileMapper().writeValueAsBytes(body);
+
+    mockServer
+        .when(
+            request("/smile_metalakes")
+                .withMethod("GET")
+                .withHeader("Accept", "application/vnd\\.gravitino\\.v1\\+smile.*"))
+        .respond(
+            response()
+                .withStatusCode(200)
+                .withHeader("Content-Type", "application/vnd.gravitino.v1+smile")
+                .withBody(smile));
+    // The server which doesn't support Smile responds in JSON
+    mockServer
+        .when(request("/json_metalakes").withMethod("GET"))
+        .respond(
+            response()
+                .withStatusCode(200)
+                .withHeader("Content-Type", "application/json")
+                .withBody(json));
+
+    ErrorHandler onError = mock(ErrorHandler.class);
+    try (RESTClient smileClient =
+        HTTPClient.builder(ImmutableMap.of())
+            .uri(String.format("http://127.0.0.1:%d", mockServer.getPort()))
+            .withSmileObjectMapper(ObjectMapperProvider.smileMapper())
+            .build()) {
+      Assertions.assertEquals(
+          body,
+          smileClient.get(
+              "smile_metalakes", MetalakeListResponse.class, ImmutableMap.of(), onError));
+      Assertions.assertEquals(
+          body,
+          smileClient.get(
+              "json_metalakes", MetalakeListResponse.class, ImmutableMap.of(), onError));
+    }
+    Assertions.assertTrue(smile.length < json.length);
+    verify(onError, never()).accept(any());
+  }
+
   // Adds a request that the mock-server can match against, based on the method, path, body, and
   // headers.
   // Return the path generated for the test case, so that the client can call that path to exercise
@@ -36,6 +36,7 @@ import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
 import java.util.stream.IntStream;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.NameIdentifier;
@@ -748,7 +749,7 @@ public class TestRelationalCatalog extends TestBase {
   }
 
   @Test
-  public void testLoadTable() throws JsonProcessingException {
+  public void testLoadTable() throws Exception {
     NameIdentifier tableId = NameIdentifier.of("schema1", "table1");
     Namespace fullNamespace = Namespace.of(metalakeName, catalogName, tableId.namespace().level(0));
     String tablePath =
@@ -778,6 +779,9 @@ public class TestRelationalCatalog extends TestBase {
     Table table = catalog.asTableCatalog().loadTable(tableId);
     assertTableEquals(fromDTO(expectedTable), table);
 
+    TableCatalogAsync asyncTableCatalog = (TableCatalogAsync) catalog.asTableCatalog();
+    assertTableEquals(fromDTO(expectedTable), asyncTableCatalog.loadTableAsync(tableId).get());
+
     // Test throw NoSuchTableException
     ErrorResponse errorResp =
         ErrorResponse.notFound(NoSuchTableException.class.getSimpleName(), "table not found");
@@ -787,6 +791,11 @@ public class TestRelationalCatalog extends TestBase {
     Throwable ex =
         Assertions.assertThrows(NoSuchTableException.class, () -> tableCatalog.loadTable(tableId));
     Assertions.assertTrue(ex.getMessage().contains("table not found"));
+
+    ex =
+        Assertions.assertThrows(
+            ExecutionException.class, () -> asyncTableCatalog.loadTableAsync(tableId).get());
+    Assertions.assertInstanceOf(NoSuchTableException.class, ex.getCause());
   }
 
   @Test
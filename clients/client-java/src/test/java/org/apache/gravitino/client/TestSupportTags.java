@@ -31,17 +31,21 @@ import org.apache.gravitino.MetadataObjects;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.Schema;
 import org.apache.gravitino.dto.AuditDTO;
+import org.apache.gravitino.dto.MetadataObjectDTO;
 import org.apache.gravitino.dto.SchemaDTO;
 import org.apache.gravitino.dto.file.FilesetDTO;
 import org.apache.gravitino.dto.messaging.TopicDTO;
 import org.apache.gravitino.dto.rel.ColumnDTO;
 import org.apache.gravitino.dto.rel.TableDTO;
+import org.apache.gravitino.dto.requests.MetadataObjectListRequest;
 import org.apache.gravitino.dto.requests.TagsAssociateRequest;
 import org.apache.gravitino.dto.responses.ErrorResponse;
+import org.apache.gravitino.dto.responses.MetadataObjectTagListResponse;
 import org.apache.gravitino.dto.responses.NameListResponse;
 import org.apache.gravitino.dto.responses.TagListResponse;
 import org.apache.gravitino.dto.responses.TagResponse;
 import org.apache.gravitino.dto.tag.TagDTO;
+import org.apache.gravitino.dto.util.DTOConverters;
 import org.apache.gravitino.exceptions.NoSuchTagException;
 import org.apache.gravitino.exceptions.NotFoundException;
 import org.apache.gravitino.file.Fileset;
@@ -60,6 +64,8 @@ public class TestSupportTags extends TestBase {
 
   private static final String METALAKE_NAME = "metalake";
 
+  private static GravitinoMetalake metalake;
+
   private static Catalog relationalCatalog;
 
   private static Catalog filesetCatalog;
@@ -79,7 +85,7 @@ public class TestSupportTags extends TestBase {
   @BeforeAll
   public static void setUp() throws Exception {
     TestBase.setUp();
-    TestGravitinoMetalake.createMetalake(client, METALAKE_NAME);
+    metalake = TestGravitinoMetalake.createMetalake(client, METALAKE_NAME);
 
     relationalCatalog =
         new RelationalCatalog(
@@ -375,6 +381,62 @@ public class TestSupportTags extends TestBase {
         MetadataObjects.of("catalog1.schema1", genericTopic.name(), MetadataObject.Type.TOPIC));
   }
 
+  @Test
+  public void testListTagsInfoForMetadataObjects() throws JsonProcessingException {
+    String path = "/api/metalakes/" + METALAKE_NAME + "/objects/tags";
+    MetadataObject[] metadataObjects =
+        new MetadataObject[] {
+          MetadataObjects.of(null, relationalCatalog.name(), MetadataObject.Type.CATALOG),
+          MetadataObjects.of("catalog1.schema1", relationalTable.name(), MetadataObject.Type.TABLE)
+        };
+    MetadataObjectListRequest request =
+        new MetadataObjectListRequest(
+            new MetadataObjectDTO[] {
+              DTOConverters.toDTO(metadataObjects[0]), DTOConverters.toDTO(metadataObjects[1])
+            });
+
+    TagDTO tag1 =
+        TagDTO.builder()
+            .withName("tag1")
+            .withAudit(AuditDTO.builder().withCreator("test").build())
+            .build();
+    TagDTO tag2 =
+        TagDTO.builder()
+            .withName("tag2")
+            .withAudit(AuditDTO.builder().withCreator("test").build())
+            .build();
+    MetadataObjectTagListResponse resp =
+        new MetadataObjectTagListResponse(new TagDTO[][] {{tag1}, {tag1, tag2}});
+    buildMockResource(Method.POST, path, request, resp, SC_OK);
+
+    Tag[][] actualTags = metalake.listTagsInfoForMetadataObjects(metadataObjects);
+    Assertions.assertEquals(2, actualTags.length);
+    Assertions.assertEquals(1, actualTags[0].length);
+    Assertions.assertEquals("tag1", actualTags[0][0].name());
+    Assertions.assertEquals(2, actualTags[1].length);
+    Assertions.assertEquals("tag2", actualTags[1][1].name());
+
+    // Test throw NotFoundException
+    ErrorResponse errorResp =
+        ErrorResponse.notFound(NotFoundException.class.getSimpleName(), "mock error");
+    buildMockResource(Method.POST, path, request, errorResp, SC_NOT_FOUND);
+
+    Throwable ex =
+        Assertions.assertThrows(
+            NotFoundException.class,
+            () -> metalake.listTagsInfoForMetadataObjects(metadataObjects));
+    Assertions.assertTrue(ex.getMessage().contains("mock error"));
+
+    // Test throw internal error
+    ErrorResponse errorResp1 = ErrorResponse.internalError("mock error");
+    buildMockResource(Method.POST, path, request, errorResp1, SC_INTERNAL_SERVER_ERROR);
+
+    Throwable ex1 =
+        Assertions.assertThrows(
+            RuntimeException.class, () -> metalake.listTagsInfoForMetadataObjects(metadataObjects));
+    Assertions.assertTrue(ex1.getMessage().contains("mock error"));
+  }
+
   private void testListTags(SupportsTags supportsTags, MetadataObject metadataObject)
       throws JsonProcessingException {
     String path =
@@ -0,0 +1,271 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.time.Instant;
+import javax.annotation.Nullable;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/** Data transfer object representing the progress of a catalog import job. */
+@EqualsAndHashCode
+@ToString
+public class CatalogImportDTO {
+
+  @JsonProperty("catalog")
+  private String catalog;
+
+  @JsonProperty("state")
+  private String state;
+
+  @JsonProperty("submitTime")
+  private Instant submitTime;
+
+  @Nullable
+  @JsonProperty("startTime")
+  private Instant startTime;
+
+  @Nullable
+  @JsonProperty("finishTime")
+  private Instant finishTime;
+
+  @JsonProperty("scanned")
+  private long scanned;
+
+  @JsonProperty("imported")
+  private long imported;
+
+  @JsonProperty("failed")
+  private long failed;
+
+  @Nullable
+  @JsonProperty("errorMessage")
+  private String errorMessage;
+
+  private CatalogImportDTO() {}
+
+  private CatalogImportDTO(
+      String catalog,
+      String state,
+      Instant submitTime,
+      Instant startTime,
+      Instant finishTime,
+      long scanned,
+      long imported,
+      long failed,
+      String errorMessage) {
+    this.catalog = catalog;
+    this.state = state;
+    this.submitTime = submitTime;
+    this.startTime = startTime;
+    this.finishTime = finishTime;
+    this.scanned = scanned;
+    this.imported = imported;
+    this.failed = failed;
+    this.errorMessage = errorMessage;
+  }
+
+  /** @return The name of the catalog to import. */
+  public String catalog() {
+    return catalog;
+  }
+
+  /** @return The state of the import job. */
+  public String state() {
+    return state;
+  }
+
+  /** @return The time when the import job is submitted. */
+  public Instant submitTime() {
+    return submitTime;
+  }
+
+  /** @return The time when the import job is started, null if it is not started yet. */
+  public Instant startTime() {
+    return startTime;
+  }
+
+  /** @return The time when the import job is finished, null if it is not finished yet. */
+  public Instant finishTime() {
+    return finishTime;
+  }
+
+  /** @return The number of external objects scanned by the import job. */
+  public long scanned() {
+    return scanned;
+  }
+
+  /** @return The number of external objects imported by the import job. */
+  public long imported() {
+    return imported;
+  }
+
+  /** @return The number of external objects failed to be imported by the import job. */
+  public long failed() {
+    return failed;
+  }
+
+  /** @return The error message if the import job is failed, null otherwise. */
+  public String errorMessage() {
+    return errorMessage;
+  }
+
+  /**
+   * Creates a new Builder for constructing a CatalogImportDTO.
+   *
+   * @return A new Builder instance.
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /** Builder class for constructing a CatalogImportDTO instance. */
+  public static class Builder {
+
+    private String catalog;
+    private String state;
+    private Instant submitTime;
+    private Instant startTime;
+    private Instant finishTime;
+    private long scanned;
+    private long imported;
+    private long failed;
+    private String errorMessage;
+
+    private Builder() {}
+
+    /**
+     * Sets the name of the catalog to import.
+     *
+     * @param catalog The name of the catalog.
+     * @return The builder instance.
+     */
+    public Builder withCatalog(String catalog) {
+      this.catalog = catalog;
+      return this;
+    }
+
+    /**
+     * Sets the state of the import job.
+     *
+     * @param state The state of the import job.
+     * @return The builder instance.
+     */
+    public Builder withState(String state) {
+      this.state = state;
+      return this;
+    }
+
+    /**
+     * Sets the time when the import job is submitted.
+     *
+     * @param submitTime The submit time of the import job.
+     * @return The builder instance.
+     */
+    public Builder withSubmitTime(Instant submitTime) {
+      this.submitTime = submitTime;
+      return this;
+    }
+
+    /**
+     * Sets the time when the import job is started.
+     *
+     * @param startTime The start time of the import job.
+     * @return The builder instance.
+     */
+    public Builder withStartTime(Instant startTime) {
+      this.startTime = startTime;
+      return this;
+    }
+
+    /**
+     * Sets the time when the import job is finished.
+     *
+     * @param finishTime The finish time of the import job.
+     * @return The builder instance.
+     */
+    public Builder withFinishTime(Instant finishTime) {
+      this.finishTime = finishTime;
+      return this;
+    }
+
+    /**
+     * Sets the number of external objects scanned by the import job.
+     *
+     * @param scanned The number of scanned objects.
+     * @return The builder instance.
+     */
+    public Builder withScanned(long scanned) {
+      this.scanned = scanned;
+      return this;
+    }
+
+    /**
+     * Sets the number of external objects imported by the import job.
+     *
+     * @param imported The number of imported objects.
+     * @return The builder instance.
+     */
+    public Builder withImported(long imported) {
+      this.imported = imported;
+      return this;
+    }
+
+    /**
+     * Sets the number of external objects failed to be imported by the import job.
+     *
+     * @param failed The number of failed objects.
+     * @return The builder instance.
+     */
+    public Builder withFailed(long failed) {
+      this.failed = failed;
+      return this;
+    }
+
+    /**
+     * Sets the error message of the import job.
+     *
+     * @param errorMessage The error message of the import job.
+     * @return The builder instance.
+     */
+    public Builder withErrorMessage(String errorMessage) {
+      this.errorMessage = errorMessage;
+      return this;
+    }
+
+    /**
+     * Builds an instance of CatalogImportDTO using the builder's properties.
+     *
+     * @return An instance of CatalogImportDTO.
+     */
+    public CatalogImportDTO build() {
+      return new CatalogImportDTO(
+          catalog,
+          state,
+          submitTime,
+          startTime,
+          finishTime,
+          scanned,
+          imported,
+          failed,
+          errorMessage);
+    }
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.dto.requests;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.Preconditions;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.gravitino.dto.tag.MetadataObjectDTO;
+import org.apache.gravitino.rest.RESTRequest;
+
+/** Represents a request containing a list of metadata objects. */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class MetadataObjectListRequest implements RESTRequest {
+
+  @JsonProperty("metadataObjects")
+  private final MetadataObjectDTO[] metadataObjects;
+
+  /**
+   * Creates a new MetadataObjectListRequest.
+   *
+   * @param metadataObjects The metadata objects.
+   */
+  public MetadataObjectListRequest(MetadataObjectDTO[] metadataObjects) {
+    this.metadataObjects = metadataObjects;
+  }
+
+  /** This is the constructor that is used by Jackson deserializer */
+  public MetadataObjectListRequest() {
+    this(null);
+  }
+
+  /**
+   * Validates the request.
+   *
+   * @throws IllegalArgumentException If the request is invalid, this exception is thrown.
+   */
+  @Override
+  public void validate() throws IllegalArgumentException {
+    Preconditions.checkArgument(metadataObjects != null, "\"metadataObjects\" must not be null");
+    for (MetadataObjectDTO object : metadataObjects) {
+      Preconditions.checkArgument(
+          object != null && StringUtils.isNotBlank(object.fullName()) && object.type() != null,
+          "metadataObject must not be null and its full name and type must not be null or empty");
+    }
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.dto.responses;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.Preconditions;
+import java.util.Arrays;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.gravitino.dto.tag.TagDTO;
+
+/**
+ * Represents a response for the lists of tags associated with a list of metadata objects, the
+ * lists of tags are in the same order as the metadata objects in the request.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode(callSuper = true)
+public class MetadataObjectTagListResponse extends BaseResponse {
+
+  @JsonProperty("tags")
+  private final TagDTO[][] tags;
+
+  /**
+   * Creates a new MetadataObjectTagListResponse.
+   *
+   * @param tags The lists of tags, one for each metadata object.
+   */
+  public MetadataObjectTagListResponse(TagDTO[][] tags) {
+    super(0);
+    this.tags = tags;
+  }
+
+  /**
+   * This is the constructor that is used by Jackson deserializer to create an instance of
+   * MetadataObjectTagListResponse.
+   */
+  public MetadataObjectTagListResponse() {
+    super();
+    this.tags = null;
+  }
+
+  @Override
+  public void validate() throws IllegalArgumentException {
+    super.validate();
+
+    Preconditions.checkArgument(tags != null, "\"tags\" must not be null");
+    Arrays.stream(tags)
+        .forEach(
+            objectTags -> {
+              Preconditions.checkArgument(objectTags != null, "tags of object must not be null");
+              Arrays.stream(objectTags)
+                  .forEach(t -> Preconditions.checkArgument(t != null, "tag must not be null"));
+            });
+  }
+}
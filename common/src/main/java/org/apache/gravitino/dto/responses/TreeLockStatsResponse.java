@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.dto.responses;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.Preconditions;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/** Represents a response containing the contention statistics of the tree locks of the server. */
+@Getter
+@ToString
+@EqualsAndHashCode(callSuper = true)
+public class TreeLockStatsResponse extends BaseResponse {
+
+  @JsonProperty("waiters")
+  private final int waiters;
+
+  @JsonProperty("contendedLocks")
+  private final ContendedLock[] contendedLocks;
+
+  @JsonProperty("heldLocks")
+  private final HeldLock[] heldLocks;
+
+  /**
+   * Creates a new TreeLockStatsResponse.
+   *
+   * @param waiters The number of the threads waiting for the tree locks.
+   * @param contendedLocks The most contended tree lock nodes.
+   * @param heldLocks The held tree locks.
+   */
+  public TreeLockStatsResponse(int waiters, ContendedLock[] contendedLocks, HeldLock[] heldLocks) {
+    super(0);
+    this.waiters = waiters;
+    this.contendedLocks = contendedLocks;
+    this.heldLocks = heldLocks;
+  }
+
+  /**
+   * This is the constructor that is used by Jackson deserializer to create an instance of
+   * TreeLockStatsResponse.
+   */
+  public TreeLockStatsResponse() {
+    super();
+    this.waiters = 0;
+    this.contendedLocks = null;
+    this.heldLocks = null;
+  }
+
+  @Override
+  public void validate() throws IllegalArgumentException {
+    super.validate();
+
+    Preconditions.checkArgument(waiters >= 0, "\"waiters\" must not be negative");
+    Preconditions.checkArgument(contendedLocks != null, "\"contendedLocks\" must not be null");
+    Preconditions.checkArgument(heldLocks != null, "\"heldLocks\" must not be null");
+  }
+
+  /** A contended tree lock node. */
+  @Getter
+  @ToString
+  @EqualsAndHashCode
+  public static class ContendedLock {
+
+    @JsonProperty("identifier")
+    private final String identifier;
+
+    @JsonProperty("contentionCount")
+    private final long contentionCount;
+
+    @JsonProperty("waitMs")
+    private final long waitMs;
+
+    /**
+     * Creates a new ContendedLock.
+     *
+     * @param identifier The name identifier of the tree lock node.
+     * @param contentionCount The recent count of the acquisitions waiting for the node.
+     * @param waitMs The recent total time in milliseconds waiting for the node.
+     */
+    public ContendedLock(String identifier, long contentionCount, long waitMs) {
+      this.identifier = identifier;
+      this.contentionCount = contentionCount;
+      this.waitMs = waitMs;
+    }
+
+    /** This is the constructor that is used by Jackson deserializer. */
+    public ContendedLock() {
+      this(null, 0, 0);
+    }
+  }
+
+  /** A held tree lock. */
+  @Getter
+  @ToString
+  @EqualsAndHashCode
+  public static class HeldLock {
+
+    @JsonProperty("identifier")
+    private final String identifier;
+
+    @JsonProperty("lockType")
+    private final String lockType;
+
+    @JsonProperty("thread")
+    private final String thread;
+
+    @JsonProperty("holdMs")
+    private final long holdMs;
+
+    /**
+     * Creates a new HeldLock.
+     *
+     * @param identifier The name identifier of the tree lock.
+     * @param lockType The lock type of the leaf node of the tree lock.
+     * @param thread The name of the thread holding the tree lock.
+     * @param holdMs The time in milliseconds the tree lock has been held.
+     */
+    public HeldLock(String identifier, String lockType, String thread, long holdMs) {
+      this.identifier = identifier;
+      this.lockType = lockType;
+      this.thread = thread;
+      this.holdMs = holdMs;
+    }
+
+    /** This is the constructor that is used by Jackson deserializer. */
+    public HeldLock() {
+      this(null, null, null, 0);
+    }
+  }
+}
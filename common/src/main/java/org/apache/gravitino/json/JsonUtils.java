@@ -23,6 +23,7 @@ import com.fasterxml.jackson.annotation.PropertyAccessor;
 import com.fasterxml.jackson.core.JacksonException;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -34,13 +35,14 @@ import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.cfg.EnumFeature;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
-import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import java.io.IOException;
@@ -48,6 +50,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.apache.gravitino.NameIdentifier;
@@ -164,6 +168,12 @@ public class JsonUtils {
               Types.IntervalYearType.get(),
               Types.IntervalDayType.get()),
           Type.PrimitiveType::simpleString);
+  private static final Set<String> COMPLEX_TYPES =
+      ImmutableSet.of(STRUCT, LIST, MAP, UNION, UNPARSED, EXTERNAL);
+  // The parameterized primitive types like varchar(255) and decimal(10,2) are parsed once and
+  // shared, the number of them is bounded to not keep arbitrary type strings in memory.
+  private static final int MAX_INTERNED_TYPES = 1024;
+  private static final Map<String, Type> INTERNED_TYPES = new ConcurrentHashMap<>();
   private static final Pattern FIXED = Pattern.compile("fixed\\(\\s*(\\d+)\\s*\\)");
   private static final Pattern FIXEDCHAR = Pattern.compile("char\\(\\s*(\\d+)\\s*\\)");
   private static final Pattern VARCHAR = Pattern.compile("varchar\\(\\s*(\\d+)\\s*\\)");
@@ -341,14 +351,6 @@ public class JsonUtils {
         .build();
   }
 
-  private static String[] getStringArray(ArrayNode node) {
-    String[] array = new String[node.size()];
-    for (int i = 0; i < node.size(); i++) {
-      array[i] = node.get(i).asText();
-    }
-    return array;
-  }
-
   /**
    * Get an int value from a JSON node property.
    *
@@ -385,61 +387,101 @@ public class JsonUtils {
     return pNode.asLong();
   }
 
-  private static FunctionArg readFunctionArg(JsonNode node) {
-    Preconditions.checkArgument(
-        node != null && !node.isNull() && node.isObject(),
-        "Cannot parse function arg from invalid JSON: %s",
-        node);
-    Preconditions.checkArgument(
-        node.has(EXPRESSION_TYPE), "Cannot parse function arg from missing type: %s", node);
-    String type = getString(EXPRESSION_TYPE, node);
+  private static FunctionArg readFunctionArg(JsonParser p) throws IOException {
+    checkToken(p, JsonToken.START_OBJECT, "Cannot parse function arg from invalid JSON: %s");
+
+    String type = null;
+    Type dataType = null;
+    boolean hasDataType = false;
+    String value = null;
+    boolean hasValue = false;
+    String[] fieldName = null;
+    String functionName = null;
+    List<FunctionArg> args = null;
+    String unparsedExpression = null;
+    while (p.nextToken() == JsonToken.FIELD_NAME) {
+      String field = p.currentName();
+      p.nextToken();
+      switch (field) {
+        case EXPRESSION_TYPE:
+          type = readString(EXPRESSION_TYPE, p);
+          break;
+        case DATA_TYPE:
+          hasDataType = true;
+          dataType = readDataTypeOrNull(p);
+          break;
+        case LITERAL_VALUE:
+          hasValue = true;
+          value = readStringOrNull(LITERAL_VALUE, p);
+          break;
+        case FIELD_NAME:
+          fieldName = readStringArray(FIELD_NAME, p);
+          break;
+        case FUNCTION_NAME:
+          functionName = readString(FUNCTION_NAME, p);
+          break;
+        case FUNCTION_ARGS:
+          args = readFunctionArgs(FUNCTION_ARGS, p);
+          break;
+        case UNPARSED_EXPRESSION:
+          unparsedExpression = p.currentToken() == JsonToken.VALUE_STRING ? p.getText() : null;
+          p.skipChildren();
+          break;
+        default:
+          p.skipChildren();
+      }
+    }
+
+    Preconditions.checkArgument(type != null, "Cannot parse function arg from missing type");
     switch (FunctionArg.ArgType.valueOf(type.toUpperCase())) {
       case LITERAL:
+        Preconditions.checkArgument(hasDataType, "Cannot parse literal arg from missing data type");
         Preconditions.checkArgument(
-            node.has(DATA_TYPE), "Cannot parse literal arg from missing data type: %s", node);
-        Preconditions.checkArgument(
-            node.has(LITERAL_VALUE),
-            "Cannot parse literal arg from missing literal value: %s",
-            node);
-        Type dataType = readDataType(node.get(DATA_TYPE));
-        String value = getStringOrNull(LITERAL_VALUE, node);
+            hasValue, "Cannot parse literal arg from missing literal value");
+        Preconditions.checkArgument(dataType != null, "Cannot parse type from invalid JSON: null");
         return LiteralDTO.builder().withDataType(dataType).withValue(value).build();
       case FIELD:
         Preconditions.checkArgument(
-            node.has(FIELD_NAME),
-            "Cannot parse field reference arg from missing field name: %s",
-            node);
-        String[] fieldName = getStringList(FIELD_NAME, node).toArray(new String[0]);
+            fieldName != null, "Cannot parse field reference arg from missing field name");
         return FieldReferenceDTO.of(fieldName);
       case FUNCTION:
         Preconditions.checkArgument(
-            node.has(FUNCTION_NAME),
-            "Cannot parse function function arg from missing function name: %s",
-            node);
+            functionName != null, "Cannot parse function function arg from missing function name");
         Preconditions.checkArgument(
-            node.has(FUNCTION_ARGS),
-            "Cannot parse function function arg from missing function args: %s",
-            node);
-        String functionName = getString(FUNCTION_NAME, node);
-        List<FunctionArg> args = Lists.newArrayList();
-        node.get(FUNCTION_ARGS).forEach(arg -> args.add(readFunctionArg(arg)));
+            args != null, "Cannot parse function function arg from missing function args");
         return FuncExpressionDTO.builder()
             .withFunctionName(functionName)
             .withFunctionArgs(args.toArray(FunctionArg.EMPTY_ARGS))
             .build();
       case UNPARSED:
         Preconditions.checkArgument(
-            node.has(UNPARSED_EXPRESSION) && node.get(UNPARSED_EXPRESSION).isTextual(),
-            "Cannot parse unparsed expression from missing string field unparsedExpression: %s",
-            node);
-        return UnparsedExpressionDTO.builder()
-            .withUnparsedExpression(getString(UNPARSED_EXPRESSION, node))
-            .build();
+            unparsedExpression != null,
+            "Cannot parse unparsed expression from missing string field unparsedExpression");
+        return UnparsedExpressionDTO.builder().withUnparsedExpression(unparsedExpression).build();
       default:
         throw new IllegalArgumentException("Unknown function argument type: " + type);
     }
   }
 
+  private static List<FunctionArg> readFunctionArgs(String property, JsonParser p)
+      throws IOException {
+    checkArray(property, p);
+    List<FunctionArg> args = Lists.newArrayList();
+    while (p.nextToken() != JsonToken.END_ARRAY) {
+      args.add(readFunctionArg(p));
+    }
+    return args;
+  }
+
+  private static LiteralDTO[] readLiterals(String property, JsonParser p) throws IOException {
+    checkArray(property, p);
+    List<LiteralDTO> literals = Lists.newArrayList();
+    while (p.nextToken() != JsonToken.END_ARRAY) {
+      literals.add((LiteralDTO) readFunctionArg(p));
+    }
+    return literals.toArray(new LiteralDTO[0]);
+  }
+
   private static void writeFunctionArg(FunctionArg arg, JsonGenerator gen) throws IOException {
     gen.writeStartObject();
     gen.writeStringField(EXPRESSION_TYPE, arg.argType().name().toLowerCase());
@@ -511,79 +553,92 @@ public class JsonUtils {
     gen.writeEndObject();
   }
 
-  private static PartitionDTO readPartition(JsonNode node) {
-    Preconditions.checkArgument(
-        node != null && !node.isNull() && node.isObject(),
-        "Partition must be a valid JSON object, but found: %s",
-        node);
-    Preconditions.checkArgument(
-        node.has(PARTITION_TYPE), "Partition must have a type field, but found: %s", node);
-    String type = getString(PARTITION_TYPE, node);
+  private static PartitionDTO readPartition(JsonParser p) throws IOException {
+    checkToken(p, JsonToken.START_OBJECT, "Partition must be a valid JSON object, but found: %s");
+
+    String type = null;
+    String name = null;
+    boolean hasName = false;
+    String[][] fieldNames = null;
+    LiteralDTO[] values = null;
+    List<LiteralDTO[]> lists = null;
+    LiteralDTO upper = null;
+    LiteralDTO lower = null;
+    Map<String, String> properties = null;
+    while (p.nextToken() == JsonToken.FIELD_NAME) {
+      String field = p.currentName();
+      p.nextToken();
+      switch (field) {
+        case PARTITION_TYPE:
+          type = readString(PARTITION_TYPE, p);
+          break;
+        case PARTITION_NAME:
+          hasName = true;
+          name = readStringOrNull(PARTITION_NAME, p);
+          break;
+        case FIELD_NAMES:
+          fieldNames = p.currentToken() == JsonToken.START_ARRAY ? readStringArrays(p) : null;
+          p.skipChildren();
+          break;
+        case IDENTITY_PARTITION_VALUES:
+          values = p.currentToken() == JsonToken.START_ARRAY ? readLiterals(field, p) : null;
+          p.skipChildren();
+          break;
+        case LIST_PARTITION_LISTS:
+          if (p.currentToken() == JsonToken.START_ARRAY) {
+            lists = Lists.newArrayList();
+            while (p.nextToken() != JsonToken.END_ARRAY) {
+              lists.add(readLiterals(LIST_PARTITION_LISTS, p));
+            }
+          } else {
+            p.skipChildren();
+          }
+          break;
+        case RANGE_PARTITION_UPPER:
+          upper = (LiteralDTO) readFunctionArg(p);
+          break;
+        case RANGE_PARTITION_LOWER:
+          lower = (LiteralDTO) readFunctionArg(p);
+          break;
+        case PARTITION_PROPERTIES:
+          properties = readStringMapOrNull(p);
+          break;
+        default:
+          p.skipChildren();
+      }
+    }
+
+    Preconditions.checkArgument(type != null, "Partition must have a type field");
     switch (PartitionDTO.Type.valueOf(type.toUpperCase())) {
       case IDENTITY:
         Preconditions.checkArgument(
-            node.has(FIELD_NAMES) && node.get(FIELD_NAMES).isArray(),
-            "Identity partition must have array of fieldNames, but found: %s",
-            node);
-        Preconditions.checkArgument(
-            node.has(IDENTITY_PARTITION_VALUES) && node.get(IDENTITY_PARTITION_VALUES).isArray(),
-            "Identity partition must have array of values, but found: %s",
-            node);
-
-        List<String[]> fieldNames = Lists.newArrayList();
-        node.get(FIELD_NAMES).forEach(field -> fieldNames.add(getStringArray((ArrayNode) field)));
-        List<LiteralDTO> values = Lists.newArrayList();
-        node.get(IDENTITY_PARTITION_VALUES)
-            .forEach(value -> values.add((LiteralDTO) readFunctionArg(value)));
+            fieldNames != null, "Identity partition must have array of fieldNames");
+        Preconditions.checkArgument(values != null, "Identity partition must have array of values");
         return IdentityPartitionDTO.builder()
-            .withName(getStringOrNull(PARTITION_NAME, node))
-            .withFieldNames(fieldNames.toArray(new String[0][0]))
-            .withValues(values.toArray(new LiteralDTO[0]))
-            .withProperties(getStringMapOrNull(PARTITION_PROPERTIES, node))
+            .withName(name)
+            .withFieldNames(fieldNames)
+            .withValues(values)
+            .withProperties(properties)
             .build();
 
       case LIST:
-        Preconditions.checkArgument(
-            node.has(PARTITION_NAME), "List partition must have name, but found: %s", node);
-        Preconditions.checkArgument(
-            node.has(LIST_PARTITION_LISTS) && node.get(LIST_PARTITION_LISTS).isArray(),
-            "List partition must have array of lists, but found: %s",
-            node);
-
-        List<LiteralDTO[]> lists = Lists.newArrayList();
-        node.get(LIST_PARTITION_LISTS)
-            .forEach(
-                list -> {
-                  List<LiteralDTO> literals = Lists.newArrayList();
-                  list.forEach(literal -> literals.add((LiteralDTO) readFunctionArg(literal)));
-                  lists.add(literals.toArray(new LiteralDTO[0]));
-                });
-
+        Preconditions.checkArgument(hasName, "List partition must have name");
+        Preconditions.checkArgument(lists != null, "List partition must have array of lists");
         return ListPartitionDTO.builder()
-            .withName(getStringOrNull(PARTITION_NAME, node))
+            .withName(name)
             .withLists(lists.toArray(new LiteralDTO[0][0]))
-            .withProperties(getStringMapOrNull(PARTITION_PROPERTIES, node))
+            .withProperties(properties)
             .build();
 
       case RANGE:
-        Preconditions.checkArgument(
-            node.has(PARTITION_NAME), "Range partition must have name, but found: %s", node);
-        Preconditions.checkArgument(
-            node.has(RANGE_PARTITION_UPPER),
-            "Range partition must have upper, but found: %s",
-            node);
-        Preconditions.checkArgument(
-            node.has(RANGE_PARTITION_LOWER),
-            "Range partition must have lower, but found: %s",
-            node);
-
-        LiteralDTO upper = (LiteralDTO) readFunctionArg(node.get(RANGE_PARTITION_UPPER));
-        LiteralDTO lower = (LiteralDTO) readFunctionArg(node.get(RANGE_PARTITION_LOWER));
+        Preconditions.checkArgument(hasName, "Range partition must have name");
+        Preconditions.checkArgument(upper != null, "Range partition must have upper");
+        Preconditions.checkArgument(lower != null, "Range partition must have lower");
         return RangePartitionDTO.builder()
-            .withName(getStringOrNull(PARTITION_NAME, node))
+            .withName(name)
             .withUpper(upper)
             .withLower(lower)
-            .withProperties(getStringMapOrNull(PARTITION_PROPERTIES, node))
+            .withProperties(properties)
             .build();
 
       default:
@@ -591,43 +646,131 @@ public class JsonUtils {
     }
   }
 
+  private static void checkToken(JsonParser p, JsonToken expected, String errorMessage)
+      throws IOException {
+    if (p.currentToken() != expected) {
+      throw new IllegalArgumentException(String.format(errorMessage, tokenText(p)));
+    }
+  }
+
+  private static void checkArray(String property, JsonParser p) throws IOException {
+    if (p.currentToken() != JsonToken.START_ARRAY) {
+      throw new IllegalArgumentException(
+          String.format("Cannot parse from non-array value: %s: %s", property, tokenText(p)));
+    }
+  }
+
+  private static String tokenText(JsonParser p) throws IOException {
+    return p.currentToken() == null ? null : p.getText();
+  }
+
   /**
-   * Get a string value from a JSON node property.
+   * Read a string value from the current token of the JSON parser.
    *
-   * @param property The property name.
-   * @param node The JSON node.
+   * @param property The property name of the value.
+   * @param p The JSON parser positioned at the value.
    * @return The string value.
-   * @throws IllegalArgumentException if the property is missing in the JSON node.
+   * @throws IllegalArgumentException if the value is not a string.
    */
-  public static String getString(String property, JsonNode node) {
-    Preconditions.checkArgument(node.has(property), "Cannot parse missing string: %s", property);
-    JsonNode pNode = node.get(property);
-    return convertToString(property, pNode);
+  private static String readString(String property, JsonParser p) throws IOException {
+    if (p.currentToken() != JsonToken.VALUE_STRING) {
+      throw new IllegalArgumentException(
+          String.format("Cannot parse to a string value %s: %s", property, tokenText(p)));
+    }
+    return p.getText();
   }
 
-  private static String getStringOrNull(String property, JsonNode node) {
-    if (!node.has(property) || node.get(property).isNull()) {
-      return null;
+  private static String readStringOrNull(String property, JsonParser p) throws IOException {
+    return p.currentToken() == JsonToken.VALUE_NULL ? null : readString(property, p);
+  }
+
+  private static String[] readStringArray(String property, JsonParser p) throws IOException {
+    checkArray(property, p);
+    List<String> values = Lists.newArrayList();
+    while (p.nextToken() != JsonToken.END_ARRAY) {
+      values.add(readString(property, p));
     }
+    return values.toArray(new String[0]);
+  }
 
-    return getString(property, node);
+  private static String[][] readStringArrays(JsonParser p) throws IOException {
+    List<String[]> values = Lists.newArrayList();
+    while (p.nextToken() != JsonToken.END_ARRAY) {
+      values.add(readTextArray(p));
+    }
+    return values.toArray(new String[0][0]);
   }
 
-  private static Map<String, String> getStringMapOrNull(String property, JsonNode node) {
-    if (!node.has(property) || node.get(property).isNull()) {
+  private static String[] readTextArray(JsonParser p) throws IOException {
+    checkToken(p, JsonToken.START_ARRAY, "Cannot parse from non-array value: %s");
+    List<String> values = Lists.newArrayList();
+    while (p.nextToken() != JsonToken.END_ARRAY) {
+      values.add(readText(p));
+    }
+    return values.toArray(new String[0]);
+  }
+
+  private static int readInt(String property, JsonParser p) throws IOException {
+    if (p.currentToken() != JsonToken.VALUE_NUMBER_INT
+        || p.getNumberType() != JsonParser.NumberType.INT) {
+      throw new IllegalArgumentException(
+          String.format("Cannot parse to an int value %s: %s", property, tokenText(p)));
+    }
+    return p.getIntValue();
+  }
+
+  /**
+   * Read the text of the current value like {@link JsonNode#asText()}, the nested objects and
+   * arrays are skipped and read as empty strings.
+   */
+  private static String readText(JsonParser p) throws IOException {
+    if (p.currentToken().isStructStart()) {
+      p.skipChildren();
+      return "";
+    }
+    return p.getText();
+  }
+
+  private static boolean readBoolean(JsonParser p) throws IOException {
+    boolean value = p.getValueAsBoolean();
+    p.skipChildren();
+    return value;
+  }
+
+  private static <T> T checkProperty(String property, T value) {
+    Preconditions.checkArgument(value != null, "Cannot parse missing property: %s", property);
+    return value;
+  }
+
+  private static Map<String, String> readStringMapOrNull(JsonParser p) throws IOException {
+    if (p.currentToken() == JsonToken.VALUE_NULL) {
       return null;
     }
 
-    JsonNode propertiesNode = node.get(property);
-    Iterator<Map.Entry<String, JsonNode>> fieldsIterator = propertiesNode.fields();
+    checkToken(p, JsonToken.START_OBJECT, "Cannot parse properties from invalid JSON: %s");
     Map<String, String> properties = Maps.newHashMap();
-    while (fieldsIterator.hasNext()) {
-      Map.Entry<String, JsonNode> field = fieldsIterator.next();
-      properties.put(field.getKey(), field.getValue().asText());
+    while (p.nextToken() == JsonToken.FIELD_NAME) {
+      String key = p.currentName();
+      p.nextToken();
+      properties.put(key, readText(p));
     }
     return properties;
   }
 
+  /**
+   * Get a string value from a JSON node property.
+   *
+   * @param property The property name.
+   * @param node The JSON node.
+   * @return The string value.
+   * @throws IllegalArgumentException if the property is missing in the JSON node.
+   */
+  public static String getString(String property, JsonNode node) {
+    Preconditions.checkArgument(node.has(property), "Cannot parse missing string: %s", property);
+    JsonNode pNode = node.get(property);
+    return convertToString(property, pNode);
+  }
+
   private static String convertToString(String property, JsonNode pNode) {
     Preconditions.checkArgument(
         pNode != null && !pNode.isNull() && pNode.isTextual(),
@@ -693,53 +836,93 @@ public class JsonUtils {
   }
 
   /**
-   * Read Gravitino Type from JSON node property. Used for Gravity Type JSON deserialization.
+   * Read Gravitino Type from the current value of the JSON parser. Used for Gravity Type JSON
+   * deserialization.
    *
-   * @param node JSON node containing the type
+   * @param p JSON parser positioned at the type
    * @return Gravitino Type
+   * @throws IOException if the type cannot be read
    */
-  private static Type readDataType(JsonNode node) {
+  private static Type readDataType(JsonParser p) throws IOException {
+    JsonToken token = p.currentToken();
     Preconditions.checkArgument(
-        node != null && !node.isNull(), "Cannot parse type from invalid JSON: %s", node);
+        token != null && token != JsonToken.VALUE_NULL,
+        "Cannot parse type from invalid JSON: %s",
+        token == null ? null : "null");
 
-    if (node.isTextual()) {
-      String text = node.asText().toLowerCase();
-      return text.equals(Types.NullType.get().simpleString())
-          ? Types.NullType.get()
-          : fromPrimitiveTypeString(text);
+    if (token == JsonToken.VALUE_STRING) {
+      return readPrimitiveType(p.getText());
     }
 
-    if (node.isObject() && node.has(TYPE)) {
-      String type = node.get(TYPE).asText();
-
-      if (STRUCT.equals(type)) {
-        return readStructType(node);
-      }
-
-      if (LIST.equals(type)) {
-        return readListType(node);
-      }
-
-      if (MAP.equals(type)) {
-        return readMapType(node);
+    if (token == JsonToken.START_OBJECT) {
+      // The serializer always writes the type name as the first field, so that the rest of the
+      // fields can be read in one pass. Otherwise, the object is buffered to look up the type name.
+      if (p.nextToken() == JsonToken.FIELD_NAME && TYPE.equals(p.currentName())) {
+        p.nextToken();
+        if (p.currentToken() == JsonToken.VALUE_STRING && COMPLEX_TYPES.contains(p.getText())) {
+          return readComplexType(p.getText(), p);
+        }
       }
+      return readBufferedType(p);
+    }
 
-      if (UNION.equals(type)) {
-        return readUnionType(node);
-      }
+    return Types.UnparsedType.of(p.readValueAsTree().toString());
+  }
 
-      if (UNPARSED.equals(type)) {
-        return readUnparsedType(node);
-      }
+  private static Type readDataTypeOrNull(JsonParser p) throws IOException {
+    return p.currentToken() == JsonToken.VALUE_NULL ? null : readDataType(p);
+  }
 
-      if (EXTERNAL.equals(type)) {
-        return readExternalType(node);
-      }
+  private static Type readBufferedType(JsonParser p) throws IOException {
+    TokenBuffer buffer = new TokenBuffer(p);
+    buffer.writeStartObject();
+    if (p.currentToken() != JsonToken.FIELD_NAME && p.currentToken() != JsonToken.END_OBJECT) {
+      // The parser is positioned at the value of the type field that has been read.
+      buffer.writeFieldName(TYPE);
+      buffer.copyCurrentStructure(p);
+      p.nextToken();
+    }
+    while (p.currentToken() == JsonToken.FIELD_NAME) {
+      buffer.copyCurrentStructure(p);
+      p.nextToken();
+    }
+    buffer.writeEndObject();
+
+    JsonNode node = buffer.asParser(p.getCodec()).readValueAsTree();
+    JsonNode typeNode = node.get(TYPE);
+    if (typeNode != null && typeNode.isTextual() && COMPLEX_TYPES.contains(typeNode.asText())) {
+      JsonParser bufferParser = buffer.asParser(p.getCodec());
+      bufferParser.nextToken();
+      return readComplexType(typeNode.asText(), bufferParser);
     }
 
+    // The type is not known by this version, keep it as is.
     return Types.UnparsedType.of(node.toString());
   }
 
+  /**
+   * Read the complex type of the given type name, the parser is positioned at a token before the
+   * remaining fields of the type object, and it's left at the end of the object.
+   */
+  private static Type readComplexType(String type, JsonParser p) throws IOException {
+    switch (type) {
+      case STRUCT:
+        return readStructType(p);
+      case LIST:
+        return readListType(p);
+      case MAP:
+        return readMapType(p);
+      case UNION:
+        return readUnionType(p);
+      case UNPARSED:
+        return readUnparsedType(p);
+      case EXTERNAL:
+        return readExternalType(p);
+      default:
+        throw new IllegalArgumentException("Unknown complex type: " + type);
+    }
+  }
+
   private static void writeUnionType(Types.UnionType unionType, JsonGenerator gen)
       throws IOException {
     gen.writeStartObject();
@@ -825,6 +1008,28 @@ public class JsonUtils {
     gen.writeEndObject();
   }
 
+  private static Type readPrimitiveType(String typeString) {
+    Type type = TYPES.get(typeString);
+    if (type != null) {
+      return type;
+    }
+
+    type = INTERNED_TYPES.get(typeString);
+    if (type != null) {
+      return type;
+    }
+
+    String text = typeString.toLowerCase();
+    type =
+        text.equals(Types.NullType.get().simpleString())
+            ? Types.NullType.get()
+            : fromPrimitiveTypeString(text);
+    if (!(type instanceof Types.UnparsedType) && INTERNED_TYPES.size() < MAX_INTERNED_TYPES) {
+      INTERNED_TYPES.putIfAbsent(typeString, type);
+    }
+    return type;
+  }
+
   private static Type fromPrimitiveTypeString(String typeString) {
     Type.PrimitiveType primitiveType = TYPES.get(typeString);
     if (primitiveType != null) {
@@ -855,92 +1060,161 @@ public class JsonUtils {
     return Types.UnparsedType.of(typeString);
   }
 
-  private static Types.StructType readStructType(JsonNode node) {
-    JsonNode fields = node.get(FIELDS);
-    Preconditions.checkArgument(
-        fields != null && fields.isArray(),
-        "Cannot parse struct fields from non-array: %s",
-        fields);
-
-    List<Types.StructType.Field> structFields = Lists.newArrayListWithExpectedSize(fields.size());
-    for (JsonNode field : fields) {
-      structFields.add(readStructField(field));
+  private static Types.StructType readStructType(JsonParser p) throws IOException {
+    List<Types.StructType.Field> structFields = null;
+    while (p.nextToken() == JsonToken.FIELD_NAME) {
+      String field = p.currentName();
+      p.nextToken();
+      if (FIELDS.equals(field)) {
+        checkToken(p, JsonToken.START_ARRAY, "Cannot parse struct fields from non-array: %s");
+        structFields = Lists.newArrayList();
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+          structFields.add(readStructField(p));
+        }
+      } else {
+        p.skipChildren();
+      }
     }
-    return Types.StructType.of(structFields.toArray(new Types.StructType.Field[0]));
-  }
 
-  private static Types.ListType readListType(JsonNode node) {
     Preconditions.checkArgument(
-        node.has(LIST_ELEMENT_TYPE), "Cannot parse list type from missing element type: %s", node);
+        structFields != null, "Cannot parse struct type from missing fields");
+    return Types.StructType.of(structFields.toArray(new Types.StructType.Field[0]));
+  }
 
-    Type elementType = readDataType(node.get(LIST_ELEMENT_TYPE));
+  private static Types.ListType readListType(JsonParser p) throws IOException {
+    Type elementType = null;
     // use true as default value for nullable
-    boolean nullable =
-        node.has(LIST_ELEMENT_NULLABLE) ? node.get(LIST_ELEMENT_NULLABLE).asBoolean() : true;
+    boolean nullable = true;
+    while (p.nextToken() == JsonToken.FIELD_NAME) {
+      String field = p.currentName();
+      p.nextToken();
+      if (LIST_ELEMENT_TYPE.equals(field)) {
+        elementType = readDataType(p);
+      } else if (LIST_ELEMENT_NULLABLE.equals(field)) {
+        nullable = readBoolean(p);
+      } else {
+        p.skipChildren();
+      }
+    }
+
+    Preconditions.checkArgument(
+        elementType != null, "Cannot parse list type from missing element type");
     return Types.ListType.of(elementType, nullable);
   }
 
-  private static Types.MapType readMapType(JsonNode node) {
-    Preconditions.checkArgument(
-        node.has(MAP_KEY_TYPE), "Cannot parse map type from missing key type: %s", node);
-    Preconditions.checkArgument(
-        node.has(MAP_VALUE_TYPE), "Cannot parse map type from missing value type: %s", node);
+  private static Types.MapType readMapType(JsonParser p) throws IOException {
+    Type keyType = null;
+    Type valueType = null;
+    boolean nullable = true;
+    while (p.nextToken() == JsonToken.FIELD_NAME) {
+      String field = p.currentName();
+      p.nextToken();
+      switch (field) {
+        case MAP_KEY_TYPE:
+          keyType = readDataType(p);
+          break;
+        case MAP_VALUE_TYPE:
+          valueType = readDataType(p);
+          break;
+        case MAP_VALUE_NULLABLE:
+          nullable = readBoolean(p);
+          break;
+        default:
+          p.skipChildren();
+      }
+    }
 
-    Type keyType = readDataType(node.get(MAP_KEY_TYPE));
-    Type valueType = readDataType(node.get(MAP_VALUE_TYPE));
-    boolean nullable =
-        node.has(MAP_VALUE_NULLABLE) ? node.get(MAP_VALUE_NULLABLE).asBoolean() : true;
+    Preconditions.checkArgument(keyType != null, "Cannot parse map type from missing key type");
+    Preconditions.checkArgument(valueType != null, "Cannot parse map type from missing value type");
     return Types.MapType.of(keyType, valueType, nullable);
   }
 
-  private static Types.UnionType readUnionType(JsonNode node) {
-    Preconditions.checkArgument(
-        node.has(UNION_TYPES), "Cannot parse union type from missing types: %s", node);
-
-    JsonNode types = node.get(UNION_TYPES);
-    Preconditions.checkArgument(
-        types != null && types.isArray(), "Cannot parse union types from non-array: %s", types);
-
-    List<Type> unionTypes = Lists.newArrayListWithExpectedSize(types.size());
-    for (JsonNode type : types) {
-      unionTypes.add(readDataType(type));
+  private static Types.UnionType readUnionType(JsonParser p) throws IOException {
+    List<Type> unionTypes = null;
+    while (p.nextToken() == JsonToken.FIELD_NAME) {
+      String field = p.currentName();
+      p.nextToken();
+      if (UNION_TYPES.equals(field)) {
+        checkToken(p, JsonToken.START_ARRAY, "Cannot parse union types from non-array: %s");
+        unionTypes = Lists.newArrayList();
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+          unionTypes.add(readDataType(p));
+        }
+      } else {
+        p.skipChildren();
+      }
     }
+
+    Preconditions.checkArgument(unionTypes != null, "Cannot parse union type from missing types");
     return Types.UnionType.of(unionTypes.toArray(new Type[0]));
   }
 
-  private static Types.StructType.Field readStructField(JsonNode node) {
-    Preconditions.checkArgument(
-        node != null && !node.isNull() && node.isObject(),
-        "Cannot parse struct field from invalid JSON: %s",
-        node);
-    Preconditions.checkArgument(
-        node.has(STRUCT_FIELD_NAME), "Cannot parse struct field from missing name: %s", node);
-    Preconditions.checkArgument(
-        node.has(TYPE), "Cannot parse struct field from missing type: %s", node);
+  private static Types.StructType.Field readStructField(JsonParser p) throws IOException {
+    checkToken(p, JsonToken.START_OBJECT, "Cannot parse struct field from invalid JSON: %s");
 
-    String name = getString(STRUCT_FIELD_NAME, node);
-    Type type = readDataType(node.get(TYPE));
+    String name = null;
+    Type type = null;
     // use true as default value for nullable
-    boolean nullable =
-        node.has(STRUCT_FIELD_NULLABLE) ? node.get(STRUCT_FIELD_NULLABLE).asBoolean() : true;
-    String comment = node.has(STRUCT_FIELD_COMMENT) ? getString(STRUCT_FIELD_COMMENT, node) : null;
+    boolean nullable = true;
+    String comment = null;
+    while (p.nextToken() == JsonToken.FIELD_NAME) {
+      String field = p.currentName();
+      p.nextToken();
+      switch (field) {
+        case STRUCT_FIELD_NAME:
+          name = readString(STRUCT_FIELD_NAME, p);
+          break;
+        case TYPE:
+          type = readDataType(p);
+          break;
+        case STRUCT_FIELD_NULLABLE:
+          nullable = readBoolean(p);
+          break;
+        case STRUCT_FIELD_COMMENT:
+          comment = readString(STRUCT_FIELD_COMMENT, p);
+          break;
+        default:
+          p.skipChildren();
+      }
+    }
+
+    Preconditions.checkArgument(name != null, "Cannot parse struct field from missing name");
+    Preconditions.checkArgument(type != null, "Cannot parse struct field from missing type");
     return Types.StructType.Field.of(name, type, nullable, comment);
   }
 
-  private static Types.UnparsedType readUnparsedType(JsonNode node) {
-    Preconditions.checkArgument(
-        node.has(UNPARSED_TYPE), "Cannot parse unparsed type from missing unparsed type: %s", node);
+  private static Types.UnparsedType readUnparsedType(JsonParser p) throws IOException {
+    String unparsedType = null;
+    while (p.nextToken() == JsonToken.FIELD_NAME) {
+      String field = p.currentName();
+      p.nextToken();
+      if (UNPARSED_TYPE.equals(field)) {
+        unparsedType = readText(p);
+      } else {
+        p.skipChildren();
+      }
+    }
 
-    return Types.UnparsedType.of(node.get(UNPARSED_TYPE).asText());
+    Preconditions.checkArgument(
+        unparsedType != null, "Cannot parse unparsed type from missing unparsed type");
+    return Types.UnparsedType.of(unparsedType);
   }
 
-  private static Types.ExternalType readExternalType(JsonNode node) {
-    Preconditions.checkArgument(
-        node.has(CATALOG_STRING),
-        "Cannot parse external type from missing catalogString: %s",
-        node);
+  private static Types.ExternalType readExternalType(JsonParser p) throws IOException {
+    String catalogString = null;
+    while (p.nextToken() == JsonToken.FIELD_NAME) {
+      String field = p.currentName();
+      p.nextToken();
+      if (CATALOG_STRING.equals(field)) {
+        catalogString = readText(p);
+      } else {
+        p.skipChildren();
+      }
+    }
 
-    return Types.ExternalType.of(node.get(CATALOG_STRING).asText());
+    Preconditions.checkArgument(
+        catalogString != null, "Cannot parse external type from missing catalogString");
+    return Types.ExternalType.of(catalogString);
   }
 
   // Nested classes for custom serialization and deserialization
@@ -959,7 +1233,7 @@ public class JsonUtils {
 
     @Override
     public Type deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-      return readDataType(p.getCodec().readTree(p));
+      return readDataType(p);
     }
   }
 
@@ -983,16 +1257,24 @@ public class JsonUtils {
     @Override
     public NameIdentifier deserialize(JsonParser p, DeserializationContext ctxt)
         throws IOException {
-      JsonNode node = p.getCodec().readTree(p);
-      Preconditions.checkArgument(
-          node != null && !node.isNull() && node.isObject(),
-          "Cannot parse name identifier from invalid JSON: %s",
-          node);
-      List<String> levels = getStringListOrNull(NAMESPACE, node);
-      String name = getString(NAME, node);
-
-      Namespace namespace =
-          levels == null ? Namespace.empty() : Namespace.of(levels.toArray(new String[0]));
+      checkToken(p, JsonToken.START_OBJECT, "Cannot parse name identifier from invalid JSON: %s");
+
+      String[] levels = null;
+      String name = null;
+      while (p.nextToken() == JsonToken.FIELD_NAME) {
+        String field = p.currentName();
+        p.nextToken();
+        if (NAMESPACE.equals(field)) {
+          levels = p.currentToken() == JsonToken.VALUE_NULL ? null : readStringArray(NAMESPACE, p);
+        } else if (NAME.equals(field)) {
+          name = readString(NAME, p);
+        } else {
+          p.skipChildren();
+        }
+      }
+
+      Preconditions.checkArgument(name != null, "Cannot parse missing string: %s", NAME);
+      Namespace namespace = levels == null ? Namespace.empty() : Namespace.of(levels);
       return NameIdentifier.of(namespace, name);
     }
   }
@@ -1027,24 +1309,34 @@ public class JsonUtils {
     @Override
     public TableChange.ColumnPosition deserialize(JsonParser p, DeserializationContext ctxt)
         throws IOException {
-      JsonNode node = p.getCodec().readTree(p);
+      JsonToken token = p.currentToken();
       Preconditions.checkArgument(
-          node != null && !node.isNull(),
+          token != null && token != JsonToken.VALUE_NULL,
           "Cannot parse column position from invalid JSON: %s",
-          node);
-      if (node.isTextual()
-          && (node.asText().equals(POSITION_FIRST)
-              || node.asText().equals(POSITION_FIRST.toUpperCase()))) {
+          tokenText(p));
+      if (token == JsonToken.VALUE_STRING
+          && (p.getText().equals(POSITION_FIRST)
+              || p.getText().equals(POSITION_FIRST.toUpperCase()))) {
         return TableChange.ColumnPosition.first();
-      } else if (node.isTextual()
-          && (node.asText().equalsIgnoreCase(POSITION_DEFAULT)
-              || node.asText().equalsIgnoreCase(POSITION_DEFAULT.toUpperCase()))) {
+      } else if (token == JsonToken.VALUE_STRING
+          && p.getText().equalsIgnoreCase(POSITION_DEFAULT)) {
         return TableChange.ColumnPosition.defaultPos();
-      } else if (node.isObject()) {
-        String afterColumn = getString(POSITION_AFTER, node);
+      } else if (token == JsonToken.START_OBJECT) {
+        String afterColumn = null;
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+          String field = p.currentName();
+          p.nextToken();
+          if (POSITION_AFTER.equals(field)) {
+            afterColumn = readString(POSITION_AFTER, p);
+          } else {
+            p.skipChildren();
+          }
+        }
+        Preconditions.checkArgument(
+            afterColumn != null, "Cannot parse missing string: %s", POSITION_AFTER);
         return TableChange.ColumnPosition.after(afterColumn);
       } else {
-        throw new IOException("Unknown json column position: " + node);
+        throw new IOException("Unknown json column position: " + p.getText());
       }
     }
   }
@@ -1118,99 +1410,128 @@ public class JsonUtils {
   public static class PartitioningDeserializer extends JsonDeserializer<Partitioning> {
     @Override
     public Partitioning deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-      JsonNode node = p.getCodec().readTree(p);
-      Preconditions.checkArgument(
-          node != null && !node.isNull() && node.isObject(),
-          "Cannot parse partitioning from invalid JSON: %s",
-          node);
+      checkToken(p, JsonToken.START_OBJECT, "Cannot parse partitioning from invalid JSON: %s");
+
+      String strategy = null;
+      String[] fieldName = null;
+      String[][] fieldNames = null;
+      Integer numBuckets = null;
+      Integer width = null;
+      List<PartitionDTO> assignments = null;
+      boolean nonArrayAssignments = false;
+      String functionName = null;
+      List<FunctionArg> args = null;
+      while (p.nextToken() == JsonToken.FIELD_NAME) {
+        String field = p.currentName();
+        p.nextToken();
+        switch (field) {
+          case STRATEGY:
+            strategy = readString(STRATEGY, p);
+            break;
+          case FIELD_NAME:
+            fieldName = readStringArray(FIELD_NAME, p);
+            break;
+          case FIELD_NAMES:
+            checkArray(FIELD_NAMES, p);
+            fieldNames = readStringArrays(p);
+            break;
+          case NUM_BUCKETS:
+            numBuckets = readInt(NUM_BUCKETS, p);
+            break;
+          case WIDTH:
+            width = readInt(WIDTH, p);
+            break;
+          case ASSIGNMENTS_NAME:
+            if (p.currentToken() == JsonToken.START_ARRAY) {
+              assignments = Lists.newArrayList();
+              while (p.nextToken() != JsonToken.END_ARRAY) {
+                assignments.add(readPartition(p));
+              }
+            } else {
+              nonArrayAssignments = p.currentToken() != JsonToken.VALUE_NULL;
+              p.skipChildren();
+            }
+            break;
+          case FUNCTION_NAME:
+            functionName = readString(FUNCTION_NAME, p);
+            break;
+          case FUNCTION_ARGS:
+            args = readFunctionArgs(FUNCTION_ARGS, p);
+            break;
+          default:
+            p.skipChildren();
+        }
+      }
+
       Preconditions.checkArgument(
-          node.has(STRATEGY), "Cannot parse partitioning from missing strategy: %s", node);
-      String strategy = getString(STRATEGY, node);
+          strategy != null, "Cannot parse partitioning from missing strategy");
       switch (Partitioning.Strategy.getByName(strategy)) {
         case IDENTITY:
-          return IdentityPartitioningDTO.of(getStringList(FIELD_NAME, node).toArray(new String[0]));
+          return IdentityPartitioningDTO.of(checkProperty(FIELD_NAME, fieldName));
 
         case YEAR:
-          return YearPartitioningDTO.of(getStringList(FIELD_NAME, node).toArray(new String[0]));
+          return YearPartitioningDTO.of(checkProperty(FIELD_NAME, fieldName));
 
         case MONTH:
-          return MonthPartitioningDTO.of(getStringList(FIELD_NAME, node).toArray(new String[0]));
+          return MonthPartitioningDTO.of(checkProperty(FIELD_NAME, fieldName));
 
         case DAY:
-          return DayPartitioningDTO.of(getStringList(FIELD_NAME, node).toArray(new String[0]));
+          return DayPartitioningDTO.of(checkProperty(FIELD_NAME, fieldName));
 
         case HOUR:
-          return HourPartitioningDTO.of(getStringList(FIELD_NAME, node).toArray(new String[0]));
+          return HourPartitioningDTO.of(checkProperty(FIELD_NAME, fieldName));
 
         case BUCKET:
-          int numBuckets = getInt(NUM_BUCKETS, node);
-          List<String[]> fieldNames = Lists.newArrayList();
-          node.get(FIELD_NAMES).forEach(field -> fieldNames.add(getStringArray((ArrayNode) field)));
-          return BucketPartitioningDTO.of(numBuckets, fieldNames.toArray(new String[0][0]));
+          return BucketPartitioningDTO.of(
+              checkProperty(NUM_BUCKETS, numBuckets), checkProperty(FIELD_NAMES, fieldNames));
 
         case TRUNCATE:
-          int width = getInt(WIDTH, node);
           return TruncatePartitioningDTO.of(
-              width, getStringList(FIELD_NAME, node).toArray(new String[0]));
+              checkProperty(WIDTH, width), checkProperty(FIELD_NAME, fieldName));
 
         case LIST:
-          List<String[]> listFields = Lists.newArrayList();
-          node.get(FIELD_NAMES).forEach(field -> listFields.add(getStringArray((ArrayNode) field)));
-
-          if (!node.hasNonNull(ASSIGNMENTS_NAME)) {
-            return ListPartitioningDTO.of(listFields.toArray(new String[0][0]));
+          String[][] listFields = checkProperty(FIELD_NAMES, fieldNames);
+          Preconditions.checkArgument(
+              !nonArrayAssignments, "Cannot parse list partitioning from non-array assignments");
+          if (assignments == null) {
+            return ListPartitioningDTO.of(listFields);
           }
 
-          Preconditions.checkArgument(
-              node.get(ASSIGNMENTS_NAME).isArray(),
-              "Cannot parse list partitioning from non-array assignments: %s",
-              node);
-          List<ListPartitionDTO> assignments = Lists.newArrayList();
-          node.get(ASSIGNMENTS_NAME)
-              .forEach(
-                  assignment -> {
-                    PartitionDTO partitionDTO = readPartition(assignment);
-                    Preconditions.checkArgument(
-                        partitionDTO instanceof ListPartitionDTO,
-                        "Cannot parse list partitioning from non-list assignment: %s",
-                        assignment);
-                    assignments.add((ListPartitionDTO) partitionDTO);
-                  });
+          List<ListPartitionDTO> listAssignments = Lists.newArrayList();
+          for (PartitionDTO assignment : assignments) {
+            Preconditions.checkArgument(
+                assignment instanceof ListPartitionDTO,
+                "Cannot parse list partitioning from non-list assignment: %s",
+                assignment.name());
+            listAssignments.add((ListPartitionDTO) assignment);
+          }
           return ListPartitioningDTO.of(
-              listFields.toArray(new String[0][0]), assignments.toArray(new ListPartitionDTO[0]));
+              listFields, listAssignments.toArray(new ListPartitionDTO[0]));
 
         case RANGE:
-          String[] fields = getStringList(FIELD_NAME, node).toArray(new String[0]);
-          if (!node.hasNonNull(ASSIGNMENTS_NAME)) {
+          String[] fields = checkProperty(FIELD_NAME, fieldName);
+          Preconditions.checkArgument(
+              !nonArrayAssignments, "Cannot parse range partitioning from non-array assignments");
+          if (assignments == null) {
             return RangePartitioningDTO.of(fields);
           }
 
-          Preconditions.checkArgument(
-              node.get(ASSIGNMENTS_NAME).isArray(),
-              "Cannot parse range partitioning from non-array assignments: %s",
-              node);
           List<RangePartitionDTO> rangeAssignments = Lists.newArrayList();
-          node.get(ASSIGNMENTS_NAME)
-              .forEach(
-                  assignment -> {
-                    PartitionDTO partitionDTO = readPartition(assignment);
-                    Preconditions.checkArgument(
-                        partitionDTO instanceof RangePartitionDTO,
-                        "Cannot parse range partitioning from non-range assignment: %s",
-                        assignment);
-                    rangeAssignments.add((RangePartitionDTO) partitionDTO);
-                  });
+          for (PartitionDTO assignment : assignments) {
+            Preconditions.checkArgument(
+                assignment instanceof RangePartitionDTO,
+                "Cannot parse range partitioning from non-range assignment: %s",
+                assignment.name());
+            rangeAssignments.add((RangePartitionDTO) assignment);
+          }
           return RangePartitioningDTO.of(
               fields, rangeAssignments.toArray(new RangePartitionDTO[0]));
 
         case FUNCTION:
-          String functionName = getString(FUNCTION_NAME, node);
           Preconditions.checkArgument(
-              node.has(FUNCTION_ARGS),
-              "Cannot parse function partitioning from missing function args: %s",
-              node);
-          List<FunctionArg> args = Lists.newArrayList();
-          node.get(FUNCTION_ARGS).forEach(arg -> args.add(readFunctionArg(arg)));
+              functionName != null, "Cannot parse missing string: %s", FUNCTION_NAME);
+          Preconditions.checkArgument(
+              args != null, "Cannot parse function partitioning from missing function args");
           return FunctionPartitioningDTO.of(functionName, args.toArray(FunctionArg.EMPTY_ARGS));
 
         default:
@@ -1238,20 +1559,37 @@ public class JsonUtils {
     @Override
     public SortOrderDTO deserialize(JsonParser p, DeserializationContext ctxt)
         throws IOException, JacksonException {
-      JsonNode node = p.getCodec().readTree(p);
-      Preconditions.checkArgument(
-          node != null && !node.isNull() && node.isObject(),
-          "Cannot parse sort order from invalid JSON: %s",
-          node);
+      checkToken(p, JsonToken.START_OBJECT, "Cannot parse sort order from invalid JSON: %s");
+
+      FunctionArg sortTerm = null;
+      String direction = null;
+      String nullOrdering = null;
+      while (p.nextToken() == JsonToken.FIELD_NAME) {
+        String field = p.currentName();
+        p.nextToken();
+        switch (field) {
+          case SORT_TERM:
+            sortTerm = readFunctionArg(p);
+            break;
+          case DIRECTION:
+            direction = readString(DIRECTION, p);
+            break;
+          case NULL_ORDERING:
+            nullOrdering = readString(NULL_ORDERING, p);
+            break;
+          default:
+            p.skipChildren();
+        }
+      }
+
       Preconditions.checkArgument(
-          node.has(SORT_TERM), "Cannot parse sort order from missing sort term: %s", node);
-      FunctionArg sortTerm = readFunctionArg(node.get(SORT_TERM));
+          sortTerm != null, "Cannot parse sort order from missing sort term");
       SortOrderDTO.Builder builder = SortOrderDTO.builder().withSortTerm(sortTerm);
-      if (node.has(DIRECTION)) {
-        builder.withDirection(SortDirection.fromString(getString(DIRECTION, node)));
+      if (direction != null) {
+        builder.withDirection(SortDirection.fromString(direction));
       }
-      if (node.has(NULL_ORDERING)) {
-        builder.withNullOrder(NullOrdering.valueOf(getString(NULL_ORDERING, node).toUpperCase()));
+      if (nullOrdering != null) {
+        builder.withNullOrder(NullOrdering.valueOf(nullOrdering.toUpperCase()));
       }
       return builder.build();
     }
@@ -1279,20 +1617,32 @@ public class JsonUtils {
     @Override
     public DistributionDTO deserialize(JsonParser p, DeserializationContext ctxt)
         throws IOException {
-      JsonNode node = p.getCodec().readTree(p);
-      Preconditions.checkArgument(
-          node != null && !node.isNull() && node.isObject(),
-          "Cannot parse distribution from invalid JSON: %s",
-          node);
+      checkToken(p, JsonToken.START_OBJECT, "Cannot parse distribution from invalid JSON: %s");
+
       DistributionDTO.Builder builder = DistributionDTO.builder();
-      if (node.has(STRATEGY)) {
-        String strategy = getString(STRATEGY, node);
-        builder.withStrategy(Strategy.getByName(strategy));
+      Integer number = null;
+      List<FunctionArg> args = null;
+      while (p.nextToken() == JsonToken.FIELD_NAME) {
+        String field = p.currentName();
+        p.nextToken();
+        switch (field) {
+          case STRATEGY:
+            builder.withStrategy(Strategy.getByName(readString(STRATEGY, p)));
+            break;
+          case NUMBER:
+            number = readInt(NUMBER, p);
+            break;
+          case FUNCTION_ARGS:
+            args = readFunctionArgs(FUNCTION_ARGS, p);
+            break;
+          default:
+            p.skipChildren();
+        }
       }
-      builder.withNumber(getInt(NUMBER, node));
-      List<FunctionArg> args = Lists.newArrayList();
-      node.get(FUNCTION_ARGS).forEach(arg -> args.add(readFunctionArg(arg)));
-      return builder.withArgs(args.toArray(FunctionArg.EMPTY_ARGS)).build();
+
+      builder.withNumber(checkProperty(NUMBER, number));
+      List<FunctionArg> distributionArgs = checkProperty(FUNCTION_ARGS, args);
+      return builder.withArgs(distributionArgs.toArray(FunctionArg.EMPTY_ARGS)).build();
     }
   }
 
@@ -1317,11 +1667,10 @@ public class JsonUtils {
   public static class ColumnDefaultValueDeserializer extends JsonDeserializer<Expression> {
     @Override
     public Expression deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-      JsonNode node = p.getCodec().readTree(p);
-      if (node == null || node.isNull()) {
+      if (p.currentToken() == null || p.currentToken() == JsonToken.VALUE_NULL) {
         return Column.DEFAULT_VALUE_NOT_SET;
       }
-      return readFunctionArg(node);
+      return readFunctionArg(p);
     }
   }
 
@@ -1338,8 +1687,7 @@ public class JsonUtils {
   public static class PartitionDTODeserializer extends JsonDeserializer<PartitionDTO> {
     @Override
     public PartitionDTO deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-      JsonNode node = p.getCodec().readTree(p);
-      return readPartition(node);
+      return readPartition(p);
     }
   }
 
@@ -1363,26 +1711,35 @@ public class JsonUtils {
   public static class IndexDeserializer extends JsonDeserializer<Index> {
     @Override
     public Index deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-      JsonNode node = p.getCodec().readTree(p);
-      Preconditions.checkArgument(
-          node != null && !node.isNull() && node.isObject(),
-          "Index must be a valid JSON object, but found: %s",
-          node);
+      checkToken(p, JsonToken.START_OBJECT, "Index must be a valid JSON object, but found: %s");
 
       IndexDTO.Builder builder = IndexDTO.builder();
-      Preconditions.checkArgument(
-          node.has(INDEX_TYPE), "Cannot parse index from missing type: %s", node);
-      String indexType = getString(INDEX_TYPE, node);
-      builder.withIndexType(Index.IndexType.valueOf(indexType.toUpperCase(Locale.ROOT)));
-      if (node.has(INDEX_NAME)) {
-        builder.withName(getString(INDEX_NAME, node));
+      String indexType = null;
+      String[][] fieldNames = null;
+      while (p.nextToken() == JsonToken.FIELD_NAME) {
+        String field = p.currentName();
+        p.nextToken();
+        switch (field) {
+          case INDEX_TYPE:
+            indexType = readString(INDEX_TYPE, p);
+            break;
+          case INDEX_NAME:
+            builder.withName(readString(INDEX_NAME, p));
+            break;
+          case INDEX_FIELD_NAMES:
+            checkArray(INDEX_FIELD_NAMES, p);
+            fieldNames = readStringArrays(p);
+            break;
+          default:
+            p.skipChildren();
+        }
       }
+
+      Preconditions.checkArgument(indexType != null, "Cannot parse index from missing type");
+      builder.withIndexType(Index.IndexType.valueOf(indexType.toUpperCase(Locale.ROOT)));
       Preconditions.checkArgument(
-          node.has(INDEX_FIELD_NAMES), "Cannot parse index from missing field names: %s", node);
-      List<String[]> fieldNames = Lists.newArrayList();
-      node.get(INDEX_FIELD_NAMES)
-          .forEach(field -> fieldNames.add(getStringArray((ArrayNode) field)));
-      builder.withFieldNames(fieldNames.toArray(new String[0][0]));
+          fieldNames != null, "Cannot parse index from missing field names");
+      builder.withFieldNames(fieldNames);
       return builder.build();
     }
   }
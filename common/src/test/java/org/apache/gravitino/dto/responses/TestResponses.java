@@ -362,6 +362,27 @@ public class TestResponses {
     assertEquals("\"tags\" must not be null", e.getMessage());
   }
 
+  @Test
+  void testMetadataObjectTagListResponse() throws JsonProcessingException {
+    TagDTO tag1 = TagDTO.builder().withName("tag1").withComment("comment1").build();
+    TagDTO tag2 = TagDTO.builder().withName("tag2").withComment("comment2").build();
+    TagDTO[][] tags = new TagDTO[][] {{tag1, tag2}, {}, {tag1}};
+    MetadataObjectTagListResponse response = new MetadataObjectTagListResponse(tags);
+    assertDoesNotThrow(response::validate);
+
+    String serJson = JsonUtils.objectMapper().writeValueAsString(response);
+    MetadataObjectTagListResponse deserResponse =
+        JsonUtils.objectMapper().readValue(serJson, MetadataObjectTagListResponse.class);
+    assertEquals(response, deserResponse);
+    assertEquals(3, deserResponse.getTags().length);
+    assertArrayEquals(tags[0], deserResponse.getTags()[0]);
+    assertEquals(0, deserResponse.getTags()[1].length);
+
+    MetadataObjectTagListResponse response1 = new MetadataObjectTagListResponse();
+    Exception e = assertThrows(IllegalArgumentException.class, response1::validate);
+    assertEquals("\"tags\" must not be null", e.getMessage());
+  }
+
   @Test
   void testTagResponse() throws JsonProcessingException {
     TagDTO tag = TagDTO.builder().withName("tag1").withComment("comment1").build();
@@ -511,4 +511,62 @@ public class TestDTOJsonSerDe {
         exception.getMessage().contains("Cannot parse list partitioning from non-list assignment"),
         exception.getMessage());
   }
+
+  @Test
+  public void testWideTableDTOSerDe() throws Exception {
+    ObjectMapper mapper = JsonUtils.objectMapper();
+    AuditDTO audit =
+        AuditDTO.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+    Type nestedType =
+        Types.StructType.of(
+            Types.StructType.Field.nullableField("id", Types.LongType.get()),
+            Types.StructType.Field.nullableField(
+                "tags", Types.ListType.nullable(Types.VarCharType.of(64))),
+            Types.StructType.Field.notNullField(
+                "metrics",
+                Types.MapType.valueNullable(Types.StringType.get(), Types.DecimalType.of(18, 4))));
+
+    for (int width : new int[] {10, 200, 2000}) {
+      ColumnDTO[] columns = new ColumnDTO[width];
+      for (int i = 0; i < width; i++) {
+        ColumnDTO.Builder<?> builder = ColumnDTO.builder().withName("col_" + i).withComment("c");
+        switch (i % 4) {
+          case 0:
+            builder.withDataType(nestedType);
+            break;
+          case 1:
+            builder
+                .withDataType(Types.VarCharType.of(255))
+                .withDefaultValue(
+                    LiteralDTO.builder()
+                        .withDataType(Types.VarCharType.of(255))
+                        .withValue("v")
+                        .build());
+            break;
+          case 2:
+            builder.withDataType(Types.DecimalType.of(10, 2));
+            break;
+          default:
+            builder
+                .withDataType(Types.IntegerType.get())
+                .withDefaultValue(
+                    LiteralDTO.builder()
+                        .withDataType(Types.IntegerType.get())
+                        .withValue(String.valueOf(i))
+                        .build());
+        }
+        columns[i] = builder.build();
+      }
+      TableDTO table =
+          TableDTO.builder()
+              .withName("table_" + width)
+              .withColumns(columns)
+              .withProperties(ImmutableMap.of("k1", "v1"))
+              .withAudit(audit)
+              .build();
+
+      String json = mapper.writeValueAsString(table);
+      Assertions.assertEquals(table, mapper.readValue(json, TableDTO.class));
+    }
+  }
 }
@@ -194,6 +194,27 @@ public class TestJsonUtils {
         Types.UnparsedType.of("{\"type\":\"new_complex_type\",\"field\":\"value\"}"), type);
   }
 
+  @Test
+  public void testTypeDeserializeFieldsInAnyOrder() throws JsonProcessingException {
+    String listType = "{\"containsNull\": false, \"elementType\": \"integer\", \"type\": \"list\"}";
+    Type type = objectMapper.readValue(listType, Type.class);
+    Assertions.assertEquals(Types.ListType.of(Types.IntegerType.get(), false), type);
+
+    String structType =
+        "{\"fields\": [{\"type\": {\"valueType\": \"string\", \"type\": \"map\", \"keyType\": "
+            + "\"integer\"}, \"name\": \"col\", \"nullable\": true}], \"type\": \"struct\"}";
+    type = objectMapper.readValue(structType, Type.class);
+    Type mapType = Types.MapType.valueNullable(Types.IntegerType.get(), Types.StringType.get());
+    Assertions.assertEquals(
+        Types.StructType.of(Types.StructType.Field.nullableField("col", mapType)), type);
+
+    // The parameterized primitive types are parsed once and shared
+    Type varchar1 = objectMapper.readValue("\"varchar(255)\"", Type.class);
+    Type varchar2 = objectMapper.readValue("\"varchar(255)\"", Type.class);
+    Assertions.assertEquals(Types.VarCharType.of(255), varchar1);
+    Assertions.assertSame(varchar1, varchar2);
+  }
+
   @Test
   void testGetLong() throws Exception {
     String jsonException = "{\"property\": \"value\"}";
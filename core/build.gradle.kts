@@ -35,7 +35,10 @@ dependencies {
   implementation(libs.commons.lang3)
   implementation(libs.guava)
   implementation(libs.h2db)
+  implementation(libs.jackson.dataformat.smile)
   implementation(libs.mybatis)
+  implementation(libs.opentelemetry.api)
+  implementation(libs.opentelemetry.sdk)
   implementation(libs.protobuf.java.util) {
     exclude("com.google.guava", "guava")
       .because("Brings in Guava for Android, which we don't want (and breaks multimaps).")
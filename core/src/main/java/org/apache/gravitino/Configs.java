@@ -28,6 +28,7 @@ import org.apache.gravitino.audit.v2.SimpleFormatterV2;
 import org.apache.gravitino.config.ConfigBuilder;
 import org.apache.gravitino.config.ConfigConstants;
 import org.apache.gravitino.config.ConfigEntry;
+import org.apache.gravitino.storage.SnowflakeIdGenerator;
 
 public class Configs {
 
@@ -36,6 +37,9 @@ public class Configs {
   public static final String RELATIONAL_ENTITY_STORE = "relational";
   public static final String ENTITY_STORE_KEY = "gravitino.entity.store";
 
+  public static final String RANDOM_ID_GENERATOR = "random";
+  public static final String SNOWFLAKE_ID_GENERATOR = "snowflake";
+
   public static final String DEFAULT_ENTITY_RELATIONAL_STORE = "JDBCBackend";
   public static final String ENTITY_RELATIONAL_STORE_KEY = "gravitino.entity.store.relational";
 
@@ -51,6 +55,12 @@ public class Configs {
   public static final String ENTITY_RELATIONAL_JDBC_BACKEND_STORAGE_PATH_KEY =
       "gravitino.entity.store.relational.storagePath";
 
+  public static final String ENTITY_RELATIONAL_SLOW_STATEMENT_THRESHOLD_MS_KEY =
+      "gravitino.entity.store.relational.slowStatementThresholdMs";
+
+  public static final String ENTITY_RELATIONAL_COMPACT_ENCODING_ENABLED_KEY =
+      "gravitino.entity.store.relational.compactEncodingEnabled";
+
   public static final Long DEFAULT_DELETE_AFTER_TIME = 604800000L; // 7 days
 
   // Config for data keep time after soft deletion, in milliseconds.
@@ -85,6 +95,9 @@ public class Configs {
   public static final String DEFAULT_RELATIONAL_JDBC_BACKEND_PASSWORD = "gravitino";
 
   public static final int GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT = 100;
+
+  // The max rows of a multi-row statement in the batch operations of the relational entity store.
+  public static final int BATCH_OPERATION_SINGLE_STATEMENT_LIMIT = 500;
   public static final long MAX_NODE_IN_MEMORY = 100000L;
 
   public static final long MIN_NODE_IN_MEMORY = 1000L;
@@ -98,6 +111,29 @@ public class Configs {
           .stringConf()
           .createWithDefault(RELATIONAL_ENTITY_STORE);
 
+  public static final ConfigEntry<String> ID_GENERATOR =
+      new ConfigBuilder("gravitino.entity.store.idGenerator")
+          .doc(
+              "Which id generator implementation to use for the entities, `random` and "
+                  + "`snowflake` are built-in, or the full qualified class name of an IdGenerator")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .stringConf()
+          .checkValue(StringUtils::isNotBlank, ConfigConstants.NOT_BLANK_ERROR_MSG)
+          .createWithDefault(RANDOM_ID_GENERATOR);
+
+  public static final ConfigEntry<Integer> ID_GENERATOR_NODE_ID =
+      new ConfigBuilder("gravitino.entity.store.idGenerator.nodeId")
+          .doc(
+              "The node id used by the snowflake id generator, it must be unique among the "
+                  + "Gravitino servers sharing the same entity store")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .intConf()
+          .checkValue(
+              value -> value >= 0 && value <= SnowflakeIdGenerator.MAX_NODE_ID,
+              String.format(
+                  "The value must be between 0 and %d", SnowflakeIdGenerator.MAX_NODE_ID))
+          .createWithDefault(0);
+
   public static final ConfigEntry<String> ENTITY_RELATIONAL_STORE =
       new ConfigBuilder(ENTITY_RELATIONAL_STORE_KEY)
           .doc("Detailed implementation of relational storage")
@@ -148,6 +184,26 @@ public class Configs {
           .stringConf()
           .createWithDefault(DEFAULT_RELATIONAL_JDBC_BACKEND_PATH);
 
+  public static final ConfigEntry<Long> ENTITY_RELATIONAL_SLOW_STATEMENT_THRESHOLD_MS =
+      new ConfigBuilder(ENTITY_RELATIONAL_SLOW_STATEMENT_THRESHOLD_MS_KEY)
+          .doc(
+              "The statements of `JDBCBackend` taking longer than the threshold in milliseconds "
+                  + "are logged with the bound parameters redacted, 0 disables the logging")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1000L);
+
+  public static final ConfigEntry<Boolean> ENTITY_RELATIONAL_COMPACT_ENCODING_ENABLED =
+      new ConfigBuilder(ENTITY_RELATIONAL_COMPACT_ENCODING_ENABLED_KEY)
+          .doc(
+              "Whether `JDBCBackend` stores the large properties, column types and privileges in "
+                  + "a compact binary encoding rather than JSON, the values in either encoding "
+                  + "can be read regardless of the setting")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .booleanConf()
+          .createWithDefault(false);
+
   public static final ConfigEntry<Long> CATALOG_CACHE_EVICTION_INTERVAL_MS =
       new ConfigBuilder("gravitino.catalog.cache.evictionIntervalMs")
           .doc("The interval in milliseconds to evict the catalog cache")
@@ -162,6 +218,26 @@ public class Configs {
           .booleanConf()
           .createWithDefault(true);
 
+  public static final int DEFAULT_CATALOG_IMPORT_BATCH_SIZE = 500;
+
+  public static final ConfigEntry<Integer> CATALOG_IMPORT_BATCH_SIZE =
+      new ConfigBuilder("gravitino.catalog.import.batchSize")
+          .doc("The number of external objects stored in one batch by the catalog import job")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_CATALOG_IMPORT_BATCH_SIZE);
+
+  public static final int DEFAULT_CATALOG_IMPORT_THREAD_POOL_SIZE = 2;
+
+  public static final ConfigEntry<Integer> CATALOG_IMPORT_THREAD_POOL_SIZE =
+      new ConfigBuilder("gravitino.catalog.import.threads")
+          .doc("The number of threads to run the catalog import jobs")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_CATALOG_IMPORT_THREAD_POOL_SIZE);
+
   public static final ConfigEntry<String> AUTHENTICATOR =
       new ConfigBuilder("gravitino.authenticator")
           .doc(
@@ -230,6 +306,40 @@ public class Configs {
                   MAX_VERSION_RETENTION_COUNT))
           .createWithDefault(DEFAULT_VERSION_RETENTION_COUNT);
 
+  public static final int DEFAULT_GARBAGE_COLLECTOR_PARALLELISM = 2;
+  public static final ConfigEntry<Integer> GARBAGE_COLLECTOR_PARALLELISM =
+      new ConfigBuilder("gravitino.entity.store.gc.parallelism")
+          .doc(
+              "The number of workers collecting the legacy and old version data of the entity "
+                  + "types in parallel in the garbage collector of the relational entity store")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_GARBAGE_COLLECTOR_PARALLELISM);
+
+  public static final long DEFAULT_GARBAGE_COLLECTOR_MAX_ROWS_PER_SECOND = 1000L;
+  public static final ConfigEntry<Long> GARBAGE_COLLECTOR_MAX_ROWS_PER_SECOND =
+      new ConfigBuilder("gravitino.entity.store.gc.maxRowsPerSecond")
+          .doc(
+              "The maximum number of rows deleted per second by the garbage collector of the "
+                  + "relational entity store, shared by all the entity types")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_GARBAGE_COLLECTOR_MAX_ROWS_PER_SECOND);
+
+  public static final long DEFAULT_GARBAGE_COLLECTOR_MAX_PAUSE_MS = 5000L;
+  public static final ConfigEntry<Long> GARBAGE_COLLECTOR_MAX_PAUSE_MS =
+      new ConfigBuilder("gravitino.entity.store.gc.maxPauseMs")
+          .doc(
+              "The maximum pause in milliseconds between two deletions of the garbage collector "
+                  + "of the relational entity store, the pause grows up to it while the "
+                  + "connection pool of the entity store is saturated")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_GARBAGE_COLLECTOR_MAX_PAUSE_MS);
+
   // The followings are configurations for tree lock
 
   public static final ConfigEntry<Long> TREE_LOCK_MAX_NODE_IN_MEMORY =
@@ -272,6 +382,26 @@ public class Configs {
               ConfigConstants.NOT_BLANK_ERROR_MSG)
           .create();
 
+  public static final ConfigEntry<Long> TAG_CACHE_MAX_SIZE =
+      new ConfigBuilder("gravitino.tag.cache.maxSize")
+          .doc(
+              "The maximum number of metadata objects whose associated tags are kept in the "
+                  + "in-memory tag cache, 0 disables the cache")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(0L);
+
+  public static final ConfigEntry<Long> TAG_CACHE_TTL_MS =
+      new ConfigBuilder("gravitino.tag.cache.ttlMs")
+          .doc(
+              "The time in milliseconds the associated tags of a metadata object are kept in the "
+                  + "in-memory tag cache since they were loaded")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(60000L);
+
   public static final int DEFAULT_METRICS_TIME_SLIDING_WINDOW_SECONDS = 60;
   public static final ConfigEntry<Integer> METRICS_TIME_SLIDING_WINDOW_SECONDS =
       new ConfigBuilder("gravitino.metrics.timeSlidingWindowSecs")
@@ -280,6 +410,60 @@ public class Configs {
           .intConf()
           .createWithDefault(DEFAULT_METRICS_TIME_SLIDING_WINDOW_SECONDS);
 
+  public static final String METRICS_RESERVOIR_HDR = "hdr";
+  public static final String METRICS_RESERVOIR_SLIDING_TIME_WINDOW = "slidingTimeWindow";
+  public static final ConfigEntry<String> METRICS_RESERVOIR =
+      new ConfigBuilder("gravitino.metrics.reservoir")
+          .doc(
+              "The reservoir of the histograms and the timers in the time sliding window, `hdr` "
+                  + "records the samples into HdrHistogram, `slidingTimeWindow` keeps every sample")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .stringConf()
+          .checkValue(
+              value ->
+                  METRICS_RESERVOIR_HDR.equals(value)
+                      || METRICS_RESERVOIR_SLIDING_TIME_WINDOW.equals(value),
+              "The value must be `hdr` or `slidingTimeWindow`")
+          .createWithDefault(METRICS_RESERVOIR_HDR);
+
+  public static final ConfigEntry<Integer> METRICS_MAX_CATALOGS =
+      new ConfigBuilder("gravitino.metrics.maxCatalogs")
+          .doc(
+              "The maximum number of catalogs reporting the latency of the catalog operations "
+                  + "separately, the other catalogs are reported together as the catalog `_other`")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .intConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(100);
+
+  public static final ConfigEntry<Boolean> TRACING_ENABLED =
+      new ConfigBuilder("gravitino.tracing.enabled")
+          .doc("Whether to trace the requests with OpenTelemetry")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final String TRACING_LOG_EXPORTER = "log";
+  public static final ConfigEntry<String> TRACING_EXPORTER =
+      new ConfigBuilder("gravitino.tracing.exporter")
+          .doc(
+              "The exporter of the finished spans, `log` writes the spans to the log, otherwise "
+                  + "it's the class name of an OpenTelemetry `SpanExporter`")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .stringConf()
+          .checkValue(StringUtils::isNotBlank, ConfigConstants.NOT_BLANK_ERROR_MSG)
+          .createWithDefault(TRACING_LOG_EXPORTER);
+
+  public static final ConfigEntry<Double> TRACING_SAMPLE_RATIO =
+      new ConfigBuilder("gravitino.tracing.sampleRatio")
+          .doc(
+              "The ratio of the requests to trace, the requests carrying a sampled trace context "
+                  + "are always traced")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .doubleConf()
+          .checkValue(value -> value >= 0 && value <= 1, "The value must be in [0, 1]")
+          .createWithDefault(1.0);
+
   public static final ConfigEntry<List<String>> REST_API_EXTENSION_PACKAGES =
       new ConfigBuilder("gravitino.server.rest.extensionPackages")
           .doc("Comma-separated list of REST API packages to expand")
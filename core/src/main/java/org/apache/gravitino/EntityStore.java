@@ -20,6 +20,7 @@ package org.apache.gravitino;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
 import org.apache.gravitino.Entity.EntityType;
@@ -122,6 +123,30 @@ public interface EntityStore extends Closeable {
   <E extends Entity & HasIdentifier> void put(E e, boolean overwritten)
       throws IOException, EntityAlreadyExistsException;
 
+  /**
+   * Store a batch of entities into the underlying storage. According to the {@code overwritten}
+   * flag, it will overwrite the existing entities or throw an {@link
+   * EntityAlreadyExistsException}.
+   *
+   * <p>Note. The default implementation stores the entities one by one with {@link #put(Entity,
+   * boolean)}, the implementation can override it to store the whole batch in one transaction with
+   * fewer round-trips to the underlying storage. In that case, either all the entities are stored
+   * or none of them.
+   *
+   * @param entities the entities to store
+   * @param overwritten whether to overwrite the existing entities
+   * @param <E> the type of the entities
+   * @throws IOException if the store operation fails
+   * @throws EntityAlreadyExistsException if any of the entities already exists and the
+   *     overwritten flag is set to false
+   */
+  default <E extends Entity & HasIdentifier> void putAll(List<E> entities, boolean overwritten)
+      throws IOException, EntityAlreadyExistsException {
+    for (E e : entities) {
+      put(e, overwritten);
+    }
+  }
+
   /**
    * Update the entity into the underlying storage.
    *
@@ -165,6 +190,31 @@ public interface EntityStore extends Closeable {
   <E extends Entity & HasIdentifier> E get(NameIdentifier ident, EntityType entityType, Class<E> e)
       throws NoSuchEntityException, IOException;
 
+  /**
+   * Get a batch of entities of the same type from the underlying storage.
+   *
+   * <p>Note. The default implementation retrieves the entities one by one with {@link
+   * #get(NameIdentifier, EntityType, Class)}, the implementation can override it to retrieve the
+   * whole batch with fewer round-trips to the underlying storage.
+   *
+   * @param idents the unique identifiers of the entities
+   * @param entityType the general type of the entities
+   * @param e the entity class instance
+   * @param <E> the class of entity
+   * @return the entities in the order of the identifiers
+   * @throws NoSuchEntityException if any of the entities does not exist
+   * @throws IOException if the retrieve operation fails
+   */
+  default <E extends Entity & HasIdentifier> List<E> getAll(
+      List<NameIdentifier> idents, EntityType entityType, Class<E> e)
+      throws NoSuchEntityException, IOException {
+    List<E> entities = new ArrayList<>(idents.size());
+    for (NameIdentifier ident : idents) {
+      entities.add(get(ident, entityType, e));
+    }
+    return entities;
+  }
+
   /**
    * Delete the entity from the underlying storage by the specified {@link
    * org.apache.gravitino.NameIdentifier}.
@@ -190,6 +240,29 @@ public interface EntityStore extends Closeable {
    */
   boolean delete(NameIdentifier ident, EntityType entityType, boolean cascade) throws IOException;
 
+  /**
+   * Delete a batch of entities of the same type from the underlying storage. The entities are
+   * deleted without cascading.
+   *
+   * <p>Note. The default implementation deletes the entities one by one with {@link
+   * #delete(NameIdentifier, EntityType)}, the implementation can override it to delete the whole
+   * batch in one transaction.
+   *
+   * @param idents the name identifiers of the entities
+   * @param entityType the type of the entities to be deleted
+   * @return the number of the entities that exist and are deleted successfully
+   * @throws IOException if the delete operation fails
+   */
+  default int deleteAll(List<NameIdentifier> idents, EntityType entityType) throws IOException {
+    int deleted = 0;
+    for (NameIdentifier ident : idents) {
+      if (delete(ident, entityType)) {
+        deleted++;
+      }
+    }
+    return deleted;
+  }
+
   /**
    * Execute the specified {@link Executable} in a transaction.
    *
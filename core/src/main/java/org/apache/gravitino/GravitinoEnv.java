@@ -26,6 +26,7 @@ import org.apache.gravitino.authorization.FutureGrantManager;
 import org.apache.gravitino.authorization.OwnerManager;
 import org.apache.gravitino.auxiliary.AuxiliaryServiceManager;
 import org.apache.gravitino.catalog.CatalogDispatcher;
+import org.apache.gravitino.catalog.CatalogImportManager;
 import org.apache.gravitino.catalog.CatalogManager;
 import org.apache.gravitino.catalog.CatalogNormalizeDispatcher;
 import org.apache.gravitino.catalog.CredentialManager;
@@ -71,9 +72,10 @@ import org.apache.gravitino.metalake.MetalakeNormalizeDispatcher;
 import org.apache.gravitino.metrics.MetricsSystem;
 import org.apache.gravitino.metrics.source.JVMMetricsSource;
 import org.apache.gravitino.storage.IdGenerator;
-import org.apache.gravitino.storage.RandomIdGenerator;
+import org.apache.gravitino.storage.IdGeneratorFactory;
 import org.apache.gravitino.tag.TagDispatcher;
 import org.apache.gravitino.tag.TagManager;
+import org.apache.gravitino.tracing.Tracing;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -94,6 +96,8 @@ public class GravitinoEnv {
 
   private CatalogManager catalogManager;
 
+  private CatalogImportManager catalogImportManager;
+
   private SchemaDispatcher schemaDispatcher;
 
   private TableDispatcher tableDispatcher;
@@ -112,6 +116,8 @@ public class GravitinoEnv {
 
   private TagDispatcher tagDispatcher;
 
+  private TagManager tagManager;
+
   private AccessControlDispatcher accessControlDispatcher;
 
   private IdGenerator idGenerator;
@@ -291,6 +297,15 @@ public class GravitinoEnv {
     return catalogManager;
   }
 
+  /**
+   * Get the CatalogImportManager associated with the Gravitino environment.
+   *
+   * @return The CatalogImportManager instance.
+   */
+  public CatalogImportManager catalogImportManager() {
+    return catalogImportManager;
+  }
+
   /**
    * Get the EventBus associated with the Gravitino environment.
    *
@@ -332,6 +347,15 @@ public class GravitinoEnv {
     return tagDispatcher;
   }
 
+  /**
+   * Get the TagManager associated with the Gravitino environment.
+   *
+   * @return The TagManager instance.
+   */
+  public TagManager tagManager() {
+    return tagManager;
+  }
+
   /**
    * Get the OwnerManager associated with the Gravitino environment.
    *
@@ -370,6 +394,10 @@ public class GravitinoEnv {
       }
     }
 
+    if (catalogImportManager != null) {
+      catalogImportManager.close();
+    }
+
     if (catalogManager != null) {
       catalogManager.close();
     }
@@ -390,10 +418,14 @@ public class GravitinoEnv {
       eventListenerManager.stop();
     }
 
+    Tracing.shutdown();
+
     LOG.info("Gravitino Environment is shut down.");
   }
 
   private void initBaseComponents() {
+    Tracing.initialize(config, manageFullComponents ? "gravitino-server" : "iceberg-rest-server");
+
     this.metricsSystem = new MetricsSystem();
     metricsSystem.register(new JVMMetricsSource());
 
@@ -411,8 +443,8 @@ public class GravitinoEnv {
     this.entityStore = EntityStoreFactory.createEntityStore(config);
     entityStore.initialize(config);
 
-    // create and initialize a random id generator
-    this.idGenerator = new RandomIdGenerator();
+    // Create and initialize the id generator
+    this.idGenerator = IdGeneratorFactory.createIdGenerator(config);
 
     // Create and initialize metalake related modules, the operation chain is:
     // MetalakeEventDispatcher -> MetalakeNormalizeDispatcher -> MetalakeHookDispatcher ->
@@ -471,6 +503,9 @@ public class GravitinoEnv {
         new TopicNormalizeDispatcher(topicHookDispatcher, catalogManager);
     this.topicDispatcher = new TopicEventDispatcher(eventBus, topicNormalizeDispatcher);
 
+    this.catalogImportManager =
+        new CatalogImportManager(config, catalogManager, entityStore, idGenerator);
+
     // TODO(jerryshao). Add Hook and event dispatcher support for Model.
     ModelOperationDispatcher modelOperationDispatcher =
         new ModelOperationDispatcher(catalogManager, entityStore, idGenerator);
@@ -499,8 +534,15 @@ public class GravitinoEnv {
 
     // Tree lock
     this.lockManager = new LockManager(config);
+    metricsSystem.register(lockManager.stats().metricsSource());
 
     // Create and initialize Tag related modules
-    this.tagDispatcher = new TagEventDispatcher(eventBus, new TagManager(idGenerator, entityStore));
+    this.tagManager =
+        new TagManager(
+            idGenerator,
+            entityStore,
+            config.get(Configs.TAG_CACHE_MAX_SIZE),
+            config.get(Configs.TAG_CACHE_TTL_MS));
+    this.tagDispatcher = new TagEventDispatcher(eventBus, tagManager);
   }
 }
@@ -0,0 +1,425 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.audit;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.zip.GZIPOutputStream;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.audit.v2.SimpleAuditLogV2;
+import org.apache.gravitino.audit.v2.SimpleFormatterV2;
+import org.apache.gravitino.exceptions.GravitinoRuntimeException;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * AsyncFileAuditWriter writes audit logs to a file in a dedicated writer thread.
+ *
+ * <p>The audit logs are put into a bounded lock-free ring buffer by the event threads, and are
+ * encoded and written to the file by the writer thread, the audit logs are dropped if the buffer
+ * is full. The file is rolled by size and by time, and the rolled files can be compressed with
+ * gzip. The audit logs are written as tab separated lines, or as JSON lines with {@link
+ * SimpleFormatterV2}.
+ */
+public class AsyncFileAuditWriter implements AuditLogWriter {
+  private static final Logger LOG = LoggerFactory.getLogger(AsyncFileAuditWriter.class);
+
+  private static final String AUDIT_LOG_FILE_NAME = "fileName";
+  private static final String APPEND = "append";
+  private static final String FLUSH_INTERVAL_SECS = "flushIntervalSecs";
+  private static final String QUEUE_CAPACITY = "queueCapacity";
+  private static final String MAX_FILE_SIZE_BYTES = "maxFileSizeBytes";
+  private static final String ROLL_INTERVAL_SECS = "rollIntervalSecs";
+  private static final String COMPRESS = "compress";
+  private static final String FSYNC = "fsync";
+  private static final String FORMAT = "format";
+  private static final String LINE_SEPARATOR = System.lineSeparator();
+
+  private static final DateTimeFormatter ROLLED_FILE_SUFFIX_FORMATTER =
+      DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneId.systemDefault());
+  // The maximum number of audit logs written in one round, so that the file can be flushed and
+  // rolled in time under heavy load.
+  private static final int MAX_DRAIN_SIZE = 1024;
+  private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+  /** The policy to sync the written audit logs to the storage device. */
+  enum FsyncPolicy {
+    /** Never sync, leave it to the operating system. */
+    NONE,
+    /** Sync on each flush, which happens every flush interval. */
+    INTERVAL,
+    /** Sync after each batch of audit logs taken from the buffer. */
+    ALWAYS
+  }
+
+  /** The format of the audit logs in the file. */
+  enum Format {
+    TEXT,
+    JSON
+  }
+
+  @VisibleForTesting String fileName;
+
+  private Formatter formatter;
+  private boolean append;
+  private long flushIntervalMs;
+  private long maxFileSizeBytes;
+  private long rollIntervalMs;
+  private boolean compress;
+  private FsyncPolicy fsyncPolicy;
+  private Format format;
+
+  private AuditLogRingBuffer<AuditLog> buffer;
+  @VisibleForTesting AuditLogWriterMetricsSource metricsSource;
+  private Thread writerThread;
+  private ExecutorService compressor;
+  private volatile boolean running;
+  // Set by the writer thread while it's idle, so that doWrite only unparks it when necessary.
+  private volatile boolean writerParked;
+
+  // The fields below are only accessed by the writer thread after initialization.
+  private final StringBuilder lineBuilder = new StringBuilder(512);
+  private final CharsetEncoder encoder =
+      StandardCharsets.UTF_8
+          .newEncoder()
+          .onMalformedInput(CodingErrorAction.REPLACE)
+          .onUnmappableCharacter(CodingErrorAction.REPLACE);
+  private final ByteBuffer writeBuffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+  private FileChannel channel;
+  private long fileSize;
+  private long nextFlushTimeMs;
+  private long nextRollTimeMs;
+
+  @Override
+  public Formatter getFormatter() {
+    return formatter;
+  }
+
+  @Override
+  public void init(Formatter formatter, Map<String, String> properties) {
+    this.formatter = formatter;
+    this.fileName =
+        System.getProperty("gravitino.log.path")
+            + "/"
+            + properties.getOrDefault(AUDIT_LOG_FILE_NAME, "gravitino_audit.log");
+    this.append = Boolean.parseBoolean(properties.getOrDefault(APPEND, "true"));
+    this.flushIntervalMs =
+        TimeUnit.SECONDS.toMillis(
+            Integer.parseInt(properties.getOrDefault(FLUSH_INTERVAL_SECS, "10")));
+    int queueCapacity = Integer.parseInt(properties.getOrDefault(QUEUE_CAPACITY, "65536"));
+    this.maxFileSizeBytes =
+        Long.parseLong(properties.getOrDefault(MAX_FILE_SIZE_BYTES, "268435456"));
+    this.rollIntervalMs =
+        TimeUnit.SECONDS.toMillis(
+            Long.parseLong(properties.getOrDefault(ROLL_INTERVAL_SECS, "86400")));
+    this.compress = Boolean.parseBoolean(properties.getOrDefault(COMPRESS, "true"));
+    this.fsyncPolicy =
+        FsyncPolicy.valueOf(properties.getOrDefault(FSYNC, "none").toUpperCase(Locale.ROOT));
+    this.format = Format.valueOf(properties.getOrDefault(FORMAT, "text").toUpperCase(Locale.ROOT));
+    Preconditions.checkArgument(
+        format != Format.JSON || formatter instanceof SimpleFormatterV2,
+        "The JSON format of the audit log requires the formatter %s",
+        SimpleFormatterV2.class.getName());
+
+    try {
+      openFile(append);
+    } catch (Exception e) {
+      throw new GravitinoRuntimeException(
+          e, "Init audit log writer fail, filename is %s", fileName);
+    }
+
+    this.buffer = new AuditLogRingBuffer<>(queueCapacity);
+    this.metricsSource = new AuditLogWriterMetricsSource(name(), buffer::size);
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
+
+    if (compress) {
+      this.compressor =
+          Executors.newSingleThreadExecutor(
+              new ThreadFactoryBuilder()
+                  .setDaemon(true)
+                  .setNameFormat("audit-log-compressor-%d")
+                  .build());
+    }
+
+    this.nextFlushTimeMs = System.currentTimeMillis() + flushIntervalMs;
+    this.running = true;
+    this.writerThread = new Thread(this::runWriter, "audit-log-writer");
+    writerThread.setDaemon(true);
+    writerThread.start();
+  }
+
+  @Override
+  public void doWrite(AuditLog auditLog) {
+    if (!running || !buffer.offer(auditLog)) {
+      metricsSource.incDroppedEntries();
+    } else if (writerParked) {
+      LockSupport.unpark(writerThread);
+    }
+  }
+
+  @Override
+  public void close() {
+    running = false;
+    if (writerThread != null) {
+      LockSupport.unpark(writerThread);
+      try {
+        writerThread.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        LOG.warn("Interrupted while waiting for the audit log writer to finish");
+      }
+    }
+
+    if (compressor != null) {
+      compressor.shutdown();
+      try {
+        if (!compressor.awaitTermination(1, TimeUnit.MINUTES)) {
+          LOG.warn("Timed out waiting for the rolled audit log files to be compressed");
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null && metricsSource != null) {
+      metricsSystem.unregister(metricsSource);
+    }
+  }
+
+  @Override
+  public String name() {
+    return "asyncFile";
+  }
+
+  private void runWriter() {
+    while (running || buffer.size() > 0) {
+      int written = drain();
+      long now = System.currentTimeMillis();
+      if (written > 0 && fsyncPolicy == FsyncPolicy.ALWAYS) {
+        flush(true);
+      } else if (now >= nextFlushTimeMs) {
+        flush(fsyncPolicy != FsyncPolicy.NONE);
+        nextFlushTimeMs = now + flushIntervalMs;
+      }
+
+      if (rollIntervalMs > 0 && now >= nextRollTimeMs) {
+        roll();
+      }
+
+      if (written == 0) {
+        parkUntil(Math.min(nextFlushTimeMs, nextRollTimeMs));
+      }
+    }
+
+    flush(fsyncPolicy != FsyncPolicy.NONE);
+    closeFile();
+  }
+
+  private void parkUntil(long deadlineMs) {
+    writerParked = true;
+    // Check the buffer again after setting the flag, an audit log offered before doWrite could see
+    // the flag would otherwise wait until the deadline.
+    if (running && buffer.size() == 0) {
+      long delayMs = deadlineMs - System.currentTimeMillis();
+      if (delayMs > 0) {
+        LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(delayMs));
+      }
+    }
+    writerParked = false;
+  }
+
+  private int drain() {
+    int count = 0;
+    AuditLog auditLog;
+    while (count < MAX_DRAIN_SIZE && (auditLog = buffer.poll()) != null) {
+      count++;
+      try {
+        lineBuilder.setLength(0);
+        encode(auditLog);
+        lineBuilder.append(LINE_SEPARATOR);
+        writeLine();
+      } catch (Exception e) {
+        LOG.warn("Failed to write audit log: {}", auditLog, e);
+      }
+
+      if (maxFileSizeBytes > 0 && fileSize + writeBuffer.position() >= maxFileSizeBytes) {
+        roll();
+      }
+    }
+    return count;
+  }
+
+  private void encode(AuditLog auditLog) {
+    if (auditLog instanceof SimpleAuditLogV2) {
+      SimpleAuditLogV2 auditLogV2 = (SimpleAuditLogV2) auditLog;
+      if (format == Format.JSON) {
+        auditLogV2.appendJsonTo(lineBuilder);
+      } else {
+        auditLogV2.appendTo(lineBuilder);
+      }
+    } else {
+      lineBuilder.append(auditLog);
+    }
+  }
+
+  private void writeLine() throws IOException {
+    CharBuffer chars = CharBuffer.wrap(lineBuilder);
+    encoder.reset();
+    while (encoder.encode(chars, writeBuffer, true).isOverflow()) {
+      writeBuffered();
+    }
+    while (encoder.flush(writeBuffer).isOverflow()) {
+      writeBuffered();
+    }
+  }
+
+  private void writeBuffered() throws IOException {
+    if (channel == null) {
+      openFile(true);
+    }
+    writeBuffer.flip();
+    while (writeBuffer.hasRemaining()) {
+      fileSize += channel.write(writeBuffer);
+    }
+    writeBuffer.clear();
+  }
+
+  private void flush(boolean fsync) {
+    try {
+      writeBuffered();
+      if (fsync) {
+        channel.force(false);
+      }
+    } catch (IOException e) {
+      LOG.warn("Flush audit log failed,", e);
+    }
+  }
+
+  private void roll() {
+    long now = System.currentTimeMillis();
+    nextRollTimeMs = rollIntervalMs > 0 ? now + rollIntervalMs : Long.MAX_VALUE;
+    if (fileSize + writeBuffer.position() == 0) {
+      return;
+    }
+
+    flush(fsyncPolicy != FsyncPolicy.NONE);
+    closeFile();
+    Path rolledFile = null;
+    try {
+      rolledFile = nextRolledFile(now);
+      Files.move(Paths.get(fileName), rolledFile);
+      metricsSource.incRolledFiles();
+    } catch (IOException e) {
+      LOG.warn("Failed to roll audit log file {}", fileName, e);
+      rolledFile = null;
+    }
+
+    try {
+      openFile(true);
+    } catch (IOException e) {
+      // Reopened on the next write.
+      LOG.warn("Failed to open audit log file {}", fileName, e);
+    }
+
+    if (rolledFile != null && compress) {
+      Path fileToCompress = rolledFile;
+      compressor.execute(() -> compressFile(fileToCompress));
+    }
+  }
+
+  private Path nextRolledFile(long now) {
+    String prefix = fileName + "." + ROLLED_FILE_SUFFIX_FORMATTER.format(Instant.ofEpochMilli(now));
+    Path rolledFile = Paths.get(prefix);
+    for (int i = 1; Files.exists(rolledFile) || Files.exists(gzipFile(rolledFile)); i++) {
+      rolledFile = Paths.get(prefix + "." + i);
+    }
+    return rolledFile;
+  }
+
+  private static Path gzipFile(Path file) {
+    return Paths.get(file.toString() + ".gz");
+  }
+
+  private static void compressFile(Path file) {
+    Path gzipFile = gzipFile(file);
+    try {
+      try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(gzipFile))) {
+        Files.copy(file, out);
+      }
+      Files.delete(file);
+    } catch (IOException e) {
+      LOG.warn("Failed to compress rolled audit log file {}", file, e);
+      try {
+        Files.deleteIfExists(gzipFile);
+      } catch (IOException ex) {
+        LOG.warn("Failed to delete incomplete compressed audit log file {}", gzipFile, ex);
+      }
+    }
+  }
+
+  private void openFile(boolean appendToFile) throws IOException {
+    this.channel =
+        FileChannel.open(
+            Paths.get(fileName),
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            appendToFile ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING);
+    this.fileSize = channel.size();
+    this.nextRollTimeMs =
+        rollIntervalMs > 0 ? System.currentTimeMillis() + rollIntervalMs : Long.MAX_VALUE;
+  }
+
+  private void closeFile() {
+    if (channel != null) {
+      try {
+        channel.close();
+      } catch (IOException e) {
+        LOG.warn("Failed to close audit log file {}", fileName, e);
+      }
+      channel = null;
+    }
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.audit;
+
+import com.google.common.base.Preconditions;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded lock-free ring buffer for multiple producers and a single consumer.
+ *
+ * <p>A producer claims a slot by moving the tail forward with CAS and then publishes the element
+ * into the slot. The consumer takes the element of the head slot once it's published, and clears
+ * the slot before moving the head forward, so a claimed slot is always empty.
+ */
+class AuditLogRingBuffer<E> {
+
+  private final AtomicReferenceArray<E> slots;
+  private final int mask;
+  private final AtomicLong head = new AtomicLong();
+  private final AtomicLong tail = new AtomicLong();
+
+  AuditLogRingBuffer(int capacity) {
+    Preconditions.checkArgument(capacity > 0, "The capacity must be positive: %s", capacity);
+    int size = Integer.highestOneBit(capacity);
+    if (size < capacity) {
+      size <<= 1;
+    }
+    this.slots = new AtomicReferenceArray<>(size);
+    this.mask = size - 1;
+  }
+
+  /**
+   * Adds the element to the buffer, can be called by multiple threads.
+   *
+   * @param element The element to add.
+   * @return True if the element is added, false if the buffer is full.
+   */
+  boolean offer(E element) {
+    Preconditions.checkArgument(element != null, "The element must not be null");
+    while (true) {
+      long currentTail = tail.get();
+      if (currentTail - head.get() >= slots.length()) {
+        return false;
+      }
+      if (tail.compareAndSet(currentTail, currentTail + 1)) {
+        slots.lazySet((int) currentTail & mask, element);
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Takes the next element from the buffer, must only be called by the consumer thread.
+   *
+   * @return The next element, or null if the buffer is empty or the next element isn't published
+   *     yet.
+   */
+  E poll() {
+    long currentHead = head.get();
+    int index = (int) currentHead & mask;
+    E element = slots.get(index);
+    if (element == null) {
+      return null;
+    }
+    slots.lazySet(index, null);
+    head.lazySet(currentHead + 1);
+    return element;
+  }
+
+  /** @return The number of the elements in the buffer. */
+  int size() {
+    return (int) Math.max(0L, tail.get() - head.get());
+  }
+
+  /** @return The number of the elements the buffer can hold. */
+  int capacity() {
+    return slots.length();
+  }
+}
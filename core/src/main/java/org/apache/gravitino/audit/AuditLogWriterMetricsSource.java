@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.audit;
+
+import com.codahale.metrics.Counter;
+import java.util.function.IntSupplier;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.source.MetricsSource;
+
+/**
+ * Metrics of an asynchronous {@link AuditLogWriter}, including the depth of the queue, the count of
+ * the dropped entries and the count of the rolled files.
+ */
+class AuditLogWriterMetricsSource extends MetricsSource {
+
+  private final Counter droppedEntries;
+  private final Counter rolledFiles;
+
+  AuditLogWriterMetricsSource(String writerName, IntSupplier queueDepth) {
+    super(MetricsSource.AUDIT_LOG_METRIC_NAME + "." + writerName);
+    registerGauge(MetricNames.AUDIT_LOG_QUEUE_DEPTH, queueDepth::getAsInt);
+    this.droppedEntries = getCounter(MetricNames.AUDIT_LOG_DROPPED_ENTRIES);
+    this.rolledFiles = getCounter(MetricNames.AUDIT_LOG_ROLLED_FILES);
+  }
+
+  void incDroppedEntries() {
+    droppedEntries.inc();
+  }
+
+  void incRolledFiles() {
+    rolledFiles.inc();
+  }
+
+  long droppedEntries() {
+    return droppedEntries.getCount();
+  }
+
+  long rolledFiles() {
+    return rolledFiles.getCount();
+  }
+}
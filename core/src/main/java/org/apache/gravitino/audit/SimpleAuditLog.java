@@ -19,7 +19,9 @@
 
 package org.apache.gravitino.audit;
 
-import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import javax.annotation.Nullable;
 import lombok.Builder;
 
@@ -33,6 +35,9 @@ import lombok.Builder;
 @SuppressWarnings("deprecation")
 public class SimpleAuditLog implements AuditLog {
 
+  private static final DateTimeFormatter TIMESTAMP_FORMATTER =
+      DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").withZone(ZoneId.systemDefault());
+
   private String user;
 
   private Operation operation;
@@ -73,7 +78,7 @@ public class SimpleAuditLog implements AuditLog {
   public String toString() {
     return String.format(
         "[%s]\t%s\t%s\t%s\t%s",
-        new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(timestamp),
+        TIMESTAMP_FORMATTER.format(Instant.ofEpochMilli(timestamp)),
         user,
         operation,
         identifier,
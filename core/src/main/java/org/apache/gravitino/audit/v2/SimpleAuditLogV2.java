@@ -19,7 +19,9 @@
 
 package org.apache.gravitino.audit.v2;
 
-import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.Map;
 import java.util.Optional;
 import org.apache.gravitino.NameIdentifier;
@@ -35,6 +37,9 @@ import org.apache.gravitino.listener.api.event.OperationType;
  */
 public class SimpleAuditLogV2 implements AuditLog {
 
+  private static final DateTimeFormatter TIMESTAMP_FORMATTER =
+      DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").withZone(ZoneId.systemDefault());
+
   private final BaseEvent event;
 
   public SimpleAuditLogV2(BaseEvent event) {
@@ -93,16 +98,116 @@ public class SimpleAuditLogV2 implements AuditLog {
     return event.customInfo();
   }
 
+  /**
+   * Appends the audit log as a tab separated line to the builder, which is the same as {@link
+   * #toString()} without creating the intermediate strings.
+   *
+   * @param builder The builder to append to.
+   */
+  public void appendTo(StringBuilder builder) {
+    builder.append('[');
+    TIMESTAMP_FORMATTER.formatTo(Instant.ofEpochMilli(timestamp()), builder);
+    builder
+        .append("]\t")
+        .append(user())
+        .append('\t')
+        .append(operationType())
+        .append('\t')
+        .append(identifier())
+        .append('\t')
+        .append(operationStatus())
+        .append('\t')
+        .append(eventSource())
+        .append('\t')
+        .append(remoteAddress());
+  }
+
+  /**
+   * Appends the audit log as a JSON object in one line to the builder, the null fields are
+   * omitted.
+   *
+   * @param builder The builder to append to.
+   */
+  public void appendJsonTo(StringBuilder builder) {
+    builder.append("{\"timestamp\":").append(timestamp());
+    appendJsonField(builder, "user", user());
+    appendJsonField(builder, "operationType", operationType());
+    appendJsonField(builder, "identifier", identifier());
+    appendJsonField(builder, "operationStatus", operationStatus());
+    appendJsonField(builder, "eventSource", eventSource());
+    appendJsonField(builder, "remoteAddress", remoteAddress());
+    Map<String, String> customInfo = customInfo();
+    if (customInfo != null && !customInfo.isEmpty()) {
+      builder.append(",\"customInfo\":{");
+      boolean first = true;
+      for (Map.Entry<String, String> entry : customInfo.entrySet()) {
+        if (!first) {
+          builder.append(',');
+        }
+        first = false;
+        appendJsonString(builder, entry.getKey());
+        builder.append(':');
+        appendJsonString(builder, entry.getValue());
+      }
+      builder.append('}');
+    }
+    builder.append('}');
+  }
+
+  /** @return The audit log as a JSON object in one line. */
+  public String toJson() {
+    StringBuilder builder = new StringBuilder(256);
+    appendJsonTo(builder);
+    return builder.toString();
+  }
+
   @Override
   public String toString() {
-    return String.format(
-        "[%s]\t%s\t%s\t%s\t%s\t%s\t%s",
-        new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(timestamp()),
-        user(),
-        operationType(),
-        identifier(),
-        operationStatus(),
-        eventSource(),
-        remoteAddress());
+    StringBuilder builder = new StringBuilder(128);
+    appendTo(builder);
+    return builder.toString();
+  }
+
+  private static void appendJsonField(StringBuilder builder, String name, Object value) {
+    if (value == null) {
+      return;
+    }
+    builder.append(",\"").append(name).append("\":");
+    appendJsonString(builder, value.toString());
+  }
+
+  private static void appendJsonString(StringBuilder builder, String value) {
+    if (value == null) {
+      builder.append("null");
+      return;
+    }
+    builder.append('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      switch (c) {
+        case '"':
+          builder.append("\\\"");
+          break;
+        case '\\':
+          builder.append("\\\\");
+          break;
+        case '\n':
+          builder.append("\\n");
+          break;
+        case '\r':
+          builder.append("\\r");
+          break;
+        case '\t':
+          builder.append("\\t");
+          break;
+        default:
+          if (c < 0x20) {
+            builder.append(String.format("\\u%04x", (int) c));
+          } else {
+            builder.append(c);
+          }
+      }
+    }
+    builder.append('"');
   }
 }
@@ -153,7 +153,9 @@ public class AuthorizationUtils {
         // ListCatalogsInfo return `CatalogInfo` instead of `BaseCatalog`, we need `BaseCatalog` to
         // call authorization plugin method.
         for (NameIdentifier catalog : catalogs) {
-          callAuthorizationPluginImpl(consumer, catalogManager.loadCatalog(catalog));
+          if (catalogsAlreadySet.add(catalog.name())) {
+            callAuthorizationPluginImpl(consumer, catalogManager.loadCatalog(catalog));
+          }
         }
 
       } else if (needApplyAuthorization(securableObject.type())) {
@@ -64,10 +64,7 @@ class PermissionManager {
 
   User grantRolesToUser(String metalake, List<String> roles, String user) {
     try {
-      List<RoleEntity> roleEntitiesToGrant = Lists.newArrayList();
-      for (String role : roles) {
-        roleEntitiesToGrant.add(roleManager.getRole(metalake, role));
-      }
+      List<RoleEntity> roleEntitiesToGrant = roleManager.getRoles(metalake, roles);
 
       User updatedUser =
           store.update(
@@ -75,14 +72,10 @@ class PermissionManager {
               UserEntity.class,
               Entity.EntityType.USER,
               userEntity -> {
-                List<RoleEntity> roleEntities = Lists.newArrayList();
-                if (userEntity.roleNames() != null) {
-                  for (String role : userEntity.roleNames()) {
-                    roleEntities.add(roleManager.getRole(metalake, role));
-                  }
-                }
-                List<String> roleNames = Lists.newArrayList(toRoleNames(roleEntities));
-                List<Long> roleIds = Lists.newArrayList(toRoleIds(roleEntities));
+                // The names and the ids of the roles are loaded with the user, the roles don't
+                // need to be loaded again.
+                List<String> roleNames = copyOf(userEntity.roleNames());
+                List<Long> roleIds = copyOf(userEntity.roleIds());
 
                 for (RoleEntity roleEntityToGrant : roleEntitiesToGrant) {
                   if (roleIds.contains(roleEntityToGrant.id())) {
@@ -115,16 +108,14 @@ class PermissionManager {
                     .build();
               });
 
-      Set<String> catalogs = Sets.newHashSet();
-      for (Role grantedRole : roleEntitiesToGrant) {
-        AuthorizationUtils.callAuthorizationPluginForSecurableObjects(
-            metalake,
-            grantedRole.securableObjects(),
-            catalogs,
-            authorizationPlugin ->
-                authorizationPlugin.onGrantedRolesToUser(
-                    Lists.newArrayList(roleEntitiesToGrant), updatedUser));
-      }
+      // Call the authorization plugin of each catalog once for all the roles
+      AuthorizationUtils.callAuthorizationPluginForSecurableObjects(
+          metalake,
+          toSecurableObjects(roleEntitiesToGrant),
+          Sets.newHashSet(),
+          authorizationPlugin ->
+              authorizationPlugin.onGrantedRolesToUser(
+                  Lists.newArrayList(roleEntitiesToGrant), updatedUser));
 
       return updatedUser;
     } catch (NoSuchEntityException nse) {
@@ -145,10 +136,7 @@ class PermissionManager {
 
   Group grantRolesToGroup(String metalake, List<String> roles, String group) {
     try {
-      List<RoleEntity> roleEntitiesToGrant = Lists.newArrayList();
-      for (String role : roles) {
-        roleEntitiesToGrant.add(roleManager.getRole(metalake, role));
-      }
+      List<RoleEntity> roleEntitiesToGrant = roleManager.getRoles(metalake, roles);
 
       Group updatedGroup =
           store.update(
@@ -156,14 +144,10 @@ class PermissionManager {
               GroupEntity.class,
               Entity.EntityType.GROUP,
               groupEntity -> {
-                List<RoleEntity> roleEntities = Lists.newArrayList();
-                if (groupEntity.roleNames() != null) {
-                  for (String role : groupEntity.roleNames()) {
-                    roleEntities.add(roleManager.getRole(metalake, role));
-                  }
-                }
-                List<String> roleNames = Lists.newArrayList(toRoleNames(roleEntities));
-                List<Long> roleIds = Lists.newArrayList(toRoleIds(roleEntities));
+                // The names and the ids of the roles are loaded with the group, the roles don't
+                // need to be loaded again.
+                List<String> roleNames = copyOf(groupEntity.roleNames());
+                List<Long> roleIds = copyOf(groupEntity.roleIds());
 
                 for (RoleEntity roleEntityToGrant : roleEntitiesToGrant) {
                   if (roleIds.contains(roleEntityToGrant.id())) {
@@ -196,16 +180,14 @@ class PermissionManager {
                     .build();
               });
 
-      Set<String> catalogs = Sets.newHashSet();
-      for (Role grantedRole : roleEntitiesToGrant) {
-        AuthorizationUtils.callAuthorizationPluginForSecurableObjects(
-            metalake,
-            grantedRole.securableObjects(),
-            catalogs,
-            authorizationPlugin ->
-                authorizationPlugin.onGrantedRolesToGroup(
-                    Lists.newArrayList(roleEntitiesToGrant), updatedGroup));
-      }
+      // Call the authorization plugin of each catalog once for all the roles
+      AuthorizationUtils.callAuthorizationPluginForSecurableObjects(
+          metalake,
+          toSecurableObjects(roleEntitiesToGrant),
+          Sets.newHashSet(),
+          authorizationPlugin ->
+              authorizationPlugin.onGrantedRolesToGroup(
+                  Lists.newArrayList(roleEntitiesToGrant), updatedGroup));
 
       return updatedGroup;
     } catch (NoSuchEntityException nse) {
@@ -226,10 +208,7 @@ class PermissionManager {
 
   Group revokeRolesFromGroup(String metalake, List<String> roles, String group) {
     try {
-      List<RoleEntity> roleEntitiesToRevoke = Lists.newArrayList();
-      for (String role : roles) {
-        roleEntitiesToRevoke.add(roleManager.getRole(metalake, role));
-      }
+      List<RoleEntity> roleEntitiesToRevoke = roleManager.getRoles(metalake, roles);
 
       Group updatedGroup =
           store.update(
@@ -237,14 +216,10 @@ class PermissionManager {
               GroupEntity.class,
               Entity.EntityType.GROUP,
               groupEntity -> {
-                List<RoleEntity> roleEntities = Lists.newArrayList();
-                if (groupEntity.roleNames() != null) {
-                  for (String role : groupEntity.roleNames()) {
-                    roleEntities.add(roleManager.getRole(metalake, role));
-                  }
-                }
-                List<String> roleNames = Lists.newArrayList(toRoleNames(roleEntities));
-                List<Long> roleIds = Lists.newArrayList(toRoleIds(roleEntities));
+                // The names and the ids of the roles are loaded with the group, the roles don't
+                // need to be loaded again.
+                List<String> roleNames = copyOf(groupEntity.roleNames());
+                List<Long> roleIds = copyOf(groupEntity.roleIds());
 
                 for (RoleEntity roleEntityToRevoke : roleEntitiesToRevoke) {
                   roleNames.remove(roleEntityToRevoke.name());
@@ -276,16 +251,14 @@ class PermissionManager {
                     .build();
               });
 
-      Set<String> catalogs = Sets.newHashSet();
-      for (Role grantedRole : roleEntitiesToRevoke) {
-        AuthorizationUtils.callAuthorizationPluginForSecurableObjects(
-            metalake,
-            grantedRole.securableObjects(),
-            catalogs,
-            authorizationPlugin ->
-                authorizationPlugin.onRevokedRolesFromGroup(
-                    Lists.newArrayList(roleEntitiesToRevoke), updatedGroup));
-      }
+      // Call the authorization plugin of each catalog once for all the roles
+      AuthorizationUtils.callAuthorizationPluginForSecurableObjects(
+          metalake,
+          toSecurableObjects(roleEntitiesToRevoke),
+          Sets.newHashSet(),
+          authorizationPlugin ->
+              authorizationPlugin.onRevokedRolesFromGroup(
+                  Lists.newArrayList(roleEntitiesToRevoke), updatedGroup));
 
       return updatedGroup;
 
@@ -308,10 +281,7 @@ class PermissionManager {
 
   User revokeRolesFromUser(String metalake, List<String> roles, String user) {
     try {
-      List<RoleEntity> roleEntitiesToRevoke = Lists.newArrayList();
-      for (String role : roles) {
-        roleEntitiesToRevoke.add(roleManager.getRole(metalake, role));
-      }
+      List<RoleEntity> roleEntitiesToRevoke = roleManager.getRoles(metalake, roles);
 
       User updatedUser =
           store.update(
@@ -319,15 +289,10 @@ class PermissionManager {
               UserEntity.class,
               Entity.EntityType.USER,
               userEntity -> {
-                List<RoleEntity> roleEntities = Lists.newArrayList();
-                if (userEntity.roleNames() != null) {
-                  for (String role : userEntity.roleNames()) {
-                    roleEntities.add(roleManager.getRole(metalake, role));
-                  }
-                }
-
-                List<String> roleNames = Lists.newArrayList(toRoleNames(roleEntities));
-                List<Long> roleIds = Lists.newArrayList(toRoleIds(roleEntities));
+                // The names and the ids of the roles are loaded with the user, the roles don't
+                // need to be loaded again.
+                List<String> roleNames = copyOf(userEntity.roleNames());
+                List<Long> roleIds = copyOf(userEntity.roleIds());
 
                 for (RoleEntity roleEntityToRevoke : roleEntitiesToRevoke) {
                   roleNames.remove(roleEntityToRevoke.name());
@@ -358,16 +323,14 @@ class PermissionManager {
                     .build();
               });
 
-      Set<String> catalogs = Sets.newHashSet();
-      for (Role grantedRole : roleEntitiesToRevoke) {
-        AuthorizationUtils.callAuthorizationPluginForSecurableObjects(
-            metalake,
-            grantedRole.securableObjects(),
-            catalogs,
-            authorizationPlugin ->
-                authorizationPlugin.onRevokedRolesFromUser(
-                    Lists.newArrayList(roleEntitiesToRevoke), updatedUser));
-      }
+      // Call the authorization plugin of each catalog once for all the roles
+      AuthorizationUtils.callAuthorizationPluginForSecurableObjects(
+          metalake,
+          toSecurableObjects(roleEntitiesToRevoke),
+          Sets.newHashSet(),
+          authorizationPlugin ->
+              authorizationPlugin.onRevokedRolesFromUser(
+                  Lists.newArrayList(roleEntitiesToRevoke), updatedUser));
 
       return updatedUser;
     } catch (NoSuchEntityException nse) {
@@ -679,11 +642,13 @@ class PermissionManager {
     }
   }
 
-  private List<Long> toRoleIds(List<RoleEntity> roleEntities) {
-    return roleEntities.stream().map(RoleEntity::id).collect(Collectors.toList());
+  private static <T> List<T> copyOf(List<T> list) {
+    return list == null ? Lists.newArrayList() : Lists.newArrayList(list);
   }
 
-  private List<String> toRoleNames(List<RoleEntity> roleEntities) {
-    return roleEntities.stream().map(RoleEntity::name).collect(Collectors.toList());
+  private static List<SecurableObject> toSecurableObjects(List<RoleEntity> roleEntities) {
+    return roleEntities.stream()
+        .flatMap(roleEntity -> roleEntity.securableObjects().stream())
+        .collect(Collectors.toList());
   }
 }
@@ -26,6 +26,7 @@ import java.io.IOException;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityAlreadyExistsException;
 import org.apache.gravitino.EntityStore;
@@ -112,6 +113,27 @@ class RoleManager {
     }
   }
 
+  List<RoleEntity> getRoles(String metalake, List<String> roles) throws NoSuchRoleException {
+    checkMetalake(NameIdentifier.of(metalake), store);
+    List<NameIdentifier> idents =
+        roles.stream()
+            .map(role -> AuthorizationUtils.ofRole(metalake, role))
+            .collect(Collectors.toList());
+    try {
+      return store.getAll(idents, Entity.EntityType.ROLE, RoleEntity.class);
+    } catch (NoSuchEntityException e) {
+      // Load the roles one by one to report the role that doesn't exist
+      for (String role : roles) {
+        getRole(metalake, role);
+      }
+      // All the roles exist now, like a role created concurrently, so report the original failure.
+      throw e;
+    } catch (IOException ioe) {
+      LOG.error("Failed to get roles {} due to storage issues", roles, ioe);
+      throw new RuntimeException(ioe);
+    }
+  }
+
   boolean deleteRole(String metalake, String role) {
     try {
       checkMetalake(NameIdentifier.of(metalake), store);
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.gravitino.NameIdentifier;
+
+/**
+ * The progress of a bulk import job, which imports the schemas, tables and topics of an external
+ * catalog into the Gravitino store. The counters are updated by the import thread and can be read
+ * concurrently to report the progress.
+ */
+public class CatalogImportJob {
+
+  /** The state of an import job. */
+  public enum State {
+    /** The job is submitted but not started yet. */
+    PENDING,
+    /** The job is running. */
+    RUNNING,
+    /** The job is finished successfully, some objects may still fail to be imported. */
+    SUCCEEDED,
+    /** The job is aborted because of an unexpected error. */
+    FAILED
+  }
+
+  private final NameIdentifier catalogIdent;
+
+  private final Instant submitTime;
+
+  private volatile State state = State.PENDING;
+
+  private volatile Instant startTime;
+
+  private volatile Instant finishTime;
+
+  private volatile String errorMessage;
+
+  private final AtomicLong scannedCount = new AtomicLong();
+
+  private final AtomicLong importedCount = new AtomicLong();
+
+  private final AtomicLong failedCount = new AtomicLong();
+
+  CatalogImportJob(NameIdentifier catalogIdent) {
+    this.catalogIdent = catalogIdent;
+    this.submitTime = Instant.now();
+  }
+
+  /** @return The identifier of the catalog to import. */
+  public NameIdentifier catalogIdent() {
+    return catalogIdent;
+  }
+
+  /** @return The state of the job. */
+  public State state() {
+    return state;
+  }
+
+  /** @return The time when the job is submitted. */
+  public Instant submitTime() {
+    return submitTime;
+  }
+
+  /** @return The time when the job is started, null if the job is not started yet. */
+  public Instant startTime() {
+    return startTime;
+  }
+
+  /** @return The time when the job is finished, null if the job is not finished yet. */
+  public Instant finishTime() {
+    return finishTime;
+  }
+
+  /** @return The error message if the job is failed, null otherwise. */
+  public String errorMessage() {
+    return errorMessage;
+  }
+
+  /** @return The number of external objects scanned so far. */
+  public long scannedCount() {
+    return scannedCount.get();
+  }
+
+  /** @return The number of external objects imported into the store so far. */
+  public long importedCount() {
+    return importedCount.get();
+  }
+
+  /** @return The number of external objects failed to be imported so far. */
+  public long failedCount() {
+    return failedCount.get();
+  }
+
+  /** @return True if the job is finished, either succeeded or failed. */
+  public boolean isFinished() {
+    return state == State.SUCCEEDED || state == State.FAILED;
+  }
+
+  void markRunning() {
+    this.startTime = Instant.now();
+    this.state = State.RUNNING;
+  }
+
+  void markSucceeded() {
+    this.finishTime = Instant.now();
+    this.state = State.SUCCEEDED;
+  }
+
+  void markFailed(String errorMessage) {
+    this.errorMessage = errorMessage;
+    this.finishTime = Instant.now();
+    this.state = State.FAILED;
+  }
+
+  void addScanned(long count) {
+    scannedCount.addAndGet(count);
+  }
+
+  void addImported(long count) {
+    importedCount.addAndGet(count);
+  }
+
+  void addFailed(long count) {
+    failedCount.addAndGet(count);
+  }
+}
@@ -0,0 +1,486 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog;
+
+import static org.apache.gravitino.Entity.EntityType.SCHEMA;
+import static org.apache.gravitino.Entity.EntityType.TABLE;
+import static org.apache.gravitino.Entity.EntityType.TOPIC;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.Closeable;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.gravitino.Audit;
+import org.apache.gravitino.Catalog;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.EntityStore;
+import org.apache.gravitino.HasIdentifier;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Schema;
+import org.apache.gravitino.StringIdentifier;
+import org.apache.gravitino.connector.capability.Capability;
+import org.apache.gravitino.exceptions.NoSuchCatalogException;
+import org.apache.gravitino.exceptions.NoSuchEntityException;
+import org.apache.gravitino.exceptions.NoSuchSchemaException;
+import org.apache.gravitino.exceptions.NoSuchTableException;
+import org.apache.gravitino.exceptions.NoSuchTopicException;
+import org.apache.gravitino.exceptions.NotFoundException;
+import org.apache.gravitino.lock.LockType;
+import org.apache.gravitino.lock.TreeLockUtils;
+import org.apache.gravitino.messaging.Topic;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.ColumnEntity;
+import org.apache.gravitino.meta.SchemaEntity;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.meta.TopicEntity;
+import org.apache.gravitino.rel.Column;
+import org.apache.gravitino.rel.Table;
+import org.apache.gravitino.storage.IdGenerator;
+import org.apache.gravitino.tag.TagManager;
+import org.apache.gravitino.utils.NameIdentifierUtil;
+import org.apache.gravitino.utils.NamespaceUtil;
+import org.apache.gravitino.utils.ThrowableFunction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link CatalogImportManager} imports all the schemas, tables and topics of an external catalog
+ * into the Gravitino store in the background.
+ *
+ * <p>Objects created outside Gravitino are imported lazily when they are loaded for the first
+ * time, and each lazy import takes a WRITE lock on the parent object. After attaching a large
+ * existing catalog, the first wave of loads will serialize on these locks. The import job lists
+ * and loads the external objects, diffs them with the stored entities and stores the missing ones
+ * in batches, so that the parent WRITE lock is taken once per batch instead of once per object.
+ * The stored entities of the objects dropped and recreated externally with the same name are
+ * replaced, so that the new objects don't inherit their ids, tags and owners. The lazy import is
+ * still kept as the fallback for objects created after the job is finished.
+ */
+public class CatalogImportManager extends OperationDispatcher implements Closeable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(CatalogImportManager.class);
+
+  private final int batchSize;
+
+  private final ExecutorService importExecutor;
+
+  private final Map<NameIdentifier, CatalogImportJob> jobs = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a new CatalogImportManager instance.
+   *
+   * @param config The configuration for the import manager.
+   * @param catalogManager The CatalogManager instance to be used for catalog operations.
+   * @param store The EntityStore instance to be used for catalog operations.
+   * @param idGenerator The IdGenerator instance to be used for catalog operations.
+   */
+  public CatalogImportManager(
+      Config config, CatalogManager catalogManager, EntityStore store, IdGenerator idGenerator) {
+    super(catalogManager, store, idGenerator);
+    this.batchSize = config.get(Configs.CATALOG_IMPORT_BATCH_SIZE);
+
+    int threads = config.get(Configs.CATALOG_IMPORT_THREAD_POOL_SIZE);
+    this.importExecutor =
+        new ThreadPoolExecutor(
+            threads,
+            threads,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(),
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("catalog-import-%d").build());
+  }
+
+  /**
+   * Submits an import job for the catalog. If there is an unfinished job for the same catalog, the
+   * unfinished job is returned instead of submitting a new one.
+   *
+   * @param catalogIdent The identifier of the catalog to import.
+   * @return The submitted or the unfinished import job.
+   * @throws NoSuchCatalogException If the catalog does not exist.
+   */
+  public CatalogImportJob startImport(NameIdentifier catalogIdent) throws NoSuchCatalogException {
+    // Fail fast if the catalog doesn't exist or is not in use.
+    doWithCatalog(catalogIdent, c -> c.catalog().type(), NoSuchCatalogException.class);
+
+    CatalogImportJob newJob = new CatalogImportJob(catalogIdent);
+    CatalogImportJob job =
+        jobs.compute(
+            catalogIdent,
+            (ident, existing) -> existing != null && !existing.isFinished() ? existing : newJob);
+    if (job != newJob) {
+      LOG.info("Import job for catalog {} is already running", catalogIdent);
+      return job;
+    }
+
+    // Submit outside the remapping function, which may be retried and must not block the map.
+    importExecutor.submit(() -> runImport(job));
+    return job;
+  }
+
+  /**
+   * Gets the latest import job of the catalog.
+   *
+   * @param catalogIdent The identifier of the catalog.
+   * @return The latest import job of the catalog.
+   * @throws NotFoundException If no import job is submitted for the catalog.
+   */
+  public CatalogImportJob getImportJob(NameIdentifier catalogIdent) throws NotFoundException {
+    CatalogImportJob job = jobs.get(catalogIdent);
+    if (job == null) {
+      throw new NotFoundException("No import job is submitted for catalog %s", catalogIdent);
+    }
+    return job;
+  }
+
+  @Override
+  public void close() {
+    importExecutor.shutdownNow();
+    try {
+      if (!importExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+        LOG.warn("Catalog import executor did not terminate in time");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @VisibleForTesting
+  void runImport(CatalogImportJob job) {
+    NameIdentifier catalogIdent = job.catalogIdent();
+    job.markRunning();
+    LOG.info("Start to import catalog {}", catalogIdent);
+
+    try {
+      Catalog.Type type =
+          doWithCatalog(catalogIdent, c -> c.catalog().type(), NoSuchCatalogException.class);
+      Namespace schemaNs =
+          NamespaceUtil.ofSchema(catalogIdent.namespace().level(0), catalogIdent.name());
+      NameIdentifier[] schemaIdents =
+          doWithCatalog(
+              catalogIdent,
+              c -> c.doWithSchemaOps(s -> s.listSchemas(schemaNs)),
+              NoSuchCatalogException.class);
+
+      if (!isManagedEntity(catalogIdent, Capability.Scope.SCHEMA)) {
+        importEntities(
+            job, catalogIdent, schemaNs, SCHEMA, SchemaEntity.class, schemaIdents, this::toSchema);
+      }
+
+      for (NameIdentifier schemaIdent : schemaIdents) {
+        if (type == Catalog.Type.RELATIONAL
+            && !isManagedEntity(catalogIdent, Capability.Scope.TABLE)) {
+          Namespace tableNs =
+              NamespaceUtil.ofTable(schemaNs.level(0), schemaNs.level(1), schemaIdent.name());
+          importChildren(
+              job,
+              schemaIdent,
+              tableNs,
+              TABLE,
+              TableEntity.class,
+              c -> c.doWithTableOps(t -> t.listTables(tableNs)),
+              this::toTable);
+
+        } else if (type == Catalog.Type.MESSAGING
+            && !isManagedEntity(catalogIdent, Capability.Scope.TOPIC)) {
+          Namespace topicNs =
+              NamespaceUtil.ofTopic(schemaNs.level(0), schemaNs.level(1), schemaIdent.name());
+          importChildren(
+              job,
+              schemaIdent,
+              topicNs,
+              TOPIC,
+              TopicEntity.class,
+              c -> c.doWithTopicOps(t -> t.listTopics(topicNs)),
+              this::toTopic);
+        }
+      }
+
+      job.markSucceeded();
+      LOG.info(
+          "Finished importing catalog {}, scanned: {}, imported: {}, failed: {}",
+          catalogIdent,
+          job.scannedCount(),
+          job.importedCount(),
+          job.failedCount());
+
+    } catch (Exception e) {
+      LOG.error("Failed to import catalog {}", catalogIdent, e);
+      job.markFailed(e.getMessage());
+    }
+  }
+
+  private <E extends Entity & HasIdentifier> void importChildren(
+      CatalogImportJob job,
+      NameIdentifier parentIdent,
+      Namespace namespace,
+      Entity.EntityType entityType,
+      Class<E> type,
+      ThrowableFunction<CatalogManager.CatalogWrapper, NameIdentifier[]> lister,
+      EntityConverter<E> converter) {
+    NameIdentifier[] idents;
+    try {
+      idents =
+          doWithCatalog(
+              NameIdentifierUtil.getCatalogIdentifier(parentIdent),
+              lister,
+              NoSuchSchemaException.class);
+    } catch (Exception e) {
+      // The schema may be dropped during the import, skip it.
+      LOG.warn("Failed to list {}s under {}, skip importing them", entityType, parentIdent, e);
+      return;
+    }
+
+    importEntities(job, parentIdent, namespace, entityType, type, idents, converter);
+  }
+
+  private <E extends Entity & HasIdentifier> void importEntities(
+      CatalogImportJob job,
+      NameIdentifier parentIdent,
+      Namespace namespace,
+      Entity.EntityType entityType,
+      Class<E> type,
+      NameIdentifier[] externalIdents,
+      EntityConverter<E> converter) {
+    job.addScanned(externalIdents.length);
+    if (externalIdents.length == 0) {
+      return;
+    }
+
+    LOG.info("Found {} {}s to import under {}", externalIdents.length, entityType, namespace);
+    for (List<NameIdentifier> batch : Lists.partition(Arrays.asList(externalIdents), batchSize)) {
+      // Load the objects from the external system without holding the tree lock.
+      List<ExternalEntity<E>> entities = Lists.newArrayListWithCapacity(batch.size());
+      for (NameIdentifier ident : batch) {
+        try {
+          entities.add(converter.convert(ident));
+        } catch (Exception e) {
+          LOG.warn("Failed to load {} {} from the external system", entityType, ident, e);
+          job.addFailed(1);
+        }
+      }
+
+      TreeLockUtils.doWithTreeLock(
+          parentIdent,
+          LockType.WRITE,
+          () -> {
+            storeEntities(job, entityType, type, entities);
+            return null;
+          });
+    }
+  }
+
+  private <E extends Entity & HasIdentifier> void storeEntities(
+      CatalogImportJob job,
+      Entity.EntityType entityType,
+      Class<E> type,
+      List<ExternalEntity<E>> entities) {
+    List<E> toStore = Lists.newArrayListWithCapacity(entities.size());
+    for (ExternalEntity<E> external : entities) {
+      NameIdentifier ident = external.entity.nameIdentifier();
+      try {
+        // The object may be imported lazily by a concurrent load since it is listed.
+        E stored;
+        try {
+          stored = store.get(ident, entityType, type);
+        } catch (NoSuchEntityException e) {
+          toStore.add(external.entity);
+          continue;
+        }
+
+        if (isRecreated(entityType, stored, external)) {
+          LOG.info("{} {} is recreated externally, replace the stored entity", entityType, ident);
+          store.delete(ident, entityType, true /* cascade */);
+          TagManager.invalidateMetadataObject(ident);
+          toStore.add(external.entity);
+        }
+      } catch (Exception e) {
+        LOG.warn(FormattedErrorMessages.STORE_OP_FAILURE, "get", ident, e);
+        job.addFailed(1);
+      }
+    }
+    if (toStore.isEmpty()) {
+      return;
+    }
+
+    try {
+      store.putAll(toStore, true /* overwritten */);
+      job.addImported(toStore.size());
+      return;
+    } catch (Exception e) {
+      // The batch is stored atomically, retry the entities one by one to find out the bad ones.
+      LOG.warn(
+          "Failed to store {} {}s in a batch, fall back to store them one by one",
+          toStore.size(),
+          entityType,
+          e);
+    }
+
+    for (E entity : toStore) {
+      try {
+        store.put(entity, true /* overwritten */);
+        job.addImported(1);
+      } catch (Exception e) {
+        LOG.warn(FormattedErrorMessages.STORE_OP_FAILURE, "put", entity.nameIdentifier(), e);
+        job.addFailed(1);
+      }
+    }
+  }
+
+  // The stored entity belongs to a dropped object if the external object carries another Gravitino
+  // id. Without the id, only the tables are compared by the creation time, since the other objects
+  // may report the loading time as their creation time.
+  private static <E extends Entity & HasIdentifier> boolean isRecreated(
+      Entity.EntityType entityType, E stored, ExternalEntity<E> external) {
+    if (external.hasGravitinoId) {
+      return !stored.id().equals(external.entity.id());
+    }
+
+    if (entityType == TABLE) {
+      Instant storedCreateTime = ((TableEntity) stored).auditInfo().createTime();
+      Instant externalCreateTime = ((TableEntity) external.entity).auditInfo().createTime();
+      return storedCreateTime != null
+          && externalCreateTime != null
+          && !storedCreateTime.equals(externalCreateTime);
+    }
+    return false;
+  }
+
+  private ExternalEntity<SchemaEntity> toSchema(NameIdentifier ident) {
+    Schema schema =
+        doWithCatalog(
+            NameIdentifierUtil.getCatalogIdentifier(ident),
+            c -> c.doWithSchemaOps(s -> s.loadSchema(ident)),
+            NoSuchSchemaException.class);
+
+    Long id = idFromProperties(schema.properties());
+    SchemaEntity entity =
+        SchemaEntity.builder()
+            .withId(id == null ? idGenerator.nextId() : id)
+            .withName(ident.name())
+            .withNamespace(ident.namespace())
+            .withAuditInfo(toAuditInfo(schema.auditInfo()))
+            .build();
+    return new ExternalEntity<>(entity, id != null);
+  }
+
+  private ExternalEntity<TableEntity> toTable(NameIdentifier ident) {
+    Table table =
+        doWithCatalog(
+            NameIdentifierUtil.getCatalogIdentifier(ident),
+            c -> c.doWithTableOps(t -> t.loadTable(ident)),
+            NoSuchTableException.class);
+
+    AuditInfo audit = toAuditInfo(table.auditInfo());
+    Column[] columns = table.columns();
+    List<ColumnEntity> columnEntities =
+        columns == null
+            ? Collections.emptyList()
+            : IntStream.range(0, columns.length)
+                .mapToObj(
+                    i -> ColumnEntity.toColumnEntity(columns[i], i, idGenerator.nextId(), audit))
+                .collect(Collectors.toList());
+
+    Long id = idFromProperties(table.properties());
+    TableEntity entity =
+        TableEntity.builder()
+            .withId(id == null ? idGenerator.nextId() : id)
+            .withName(ident.name())
+            .withNamespace(ident.namespace())
+            .withColumns(columnEntities)
+            .withAuditInfo(audit)
+            .build();
+    return new ExternalEntity<>(entity, id != null);
+  }
+
+  private ExternalEntity<TopicEntity> toTopic(NameIdentifier ident) {
+    Topic topic =
+        doWithCatalog(
+            NameIdentifierUtil.getCatalogIdentifier(ident),
+            c -> c.doWithTopicOps(t -> t.loadTopic(ident)),
+            NoSuchTopicException.class);
+
+    Long id = idFromProperties(topic.properties());
+    TopicEntity entity =
+        TopicEntity.builder()
+            .withId(id == null ? idGenerator.nextId() : id)
+            .withName(ident.name())
+            .withComment(topic.comment())
+            .withNamespace(ident.namespace())
+            .withAuditInfo(toAuditInfo(topic.auditInfo()))
+            .build();
+    return new ExternalEntity<>(entity, id != null);
+  }
+
+  // Returns the uid if the object is created by Gravitino, to reuse it the same as the lazy import,
+  // or null if the object is created externally. We don't use getStringIdFromProperties here, to
+  // avoid logging a warning for every external object.
+  private Long idFromProperties(Map<String, String> properties) {
+    try {
+      StringIdentifier stringId = StringIdentifier.fromProperties(properties);
+      if (stringId != null) {
+        return stringId.id();
+      }
+    } catch (IllegalArgumentException e) {
+      LOG.warn(FormattedErrorMessages.STRING_ID_PARSE_ERROR, e.getMessage());
+    }
+
+    return null;
+  }
+
+  private static AuditInfo toAuditInfo(Audit audit) {
+    return AuditInfo.builder()
+        .withCreator(audit.creator())
+        .withCreateTime(audit.createTime())
+        .withLastModifier(audit.lastModifier())
+        .withLastModifiedTime(audit.lastModifiedTime())
+        .build();
+  }
+
+  @FunctionalInterface
+  private interface EntityConverter<E> {
+    ExternalEntity<E> convert(NameIdentifier ident) throws Exception;
+  }
+
+  // The entity converted from an external object, and whether its id is the Gravitino id carried
+  // by the object.
+  private static final class ExternalEntity<E> {
+    private final E entity;
+    private final boolean hasGravitinoId;
+
+    private ExternalEntity(E entity, boolean hasGravitinoId) {
+      this.entity = entity;
+      this.hasGravitinoId = hasGravitinoId;
+    }
+  }
+}
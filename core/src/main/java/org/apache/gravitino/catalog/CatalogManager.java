@@ -53,6 +53,7 @@ import java.util.Optional;
 import java.util.Properties;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -71,6 +72,7 @@ import org.apache.gravitino.Entity;
 import org.apache.gravitino.Entity.EntityType;
 import org.apache.gravitino.EntityAlreadyExistsException;
 import org.apache.gravitino.EntityStore;
+import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.StringIdentifier;
@@ -95,6 +97,8 @@ import org.apache.gravitino.messaging.TopicCatalog;
 import org.apache.gravitino.meta.AuditInfo;
 import org.apache.gravitino.meta.CatalogEntity;
 import org.apache.gravitino.meta.SchemaEntity;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.CatalogOperationMetricsSource;
 import org.apache.gravitino.rel.SupportsPartitions;
 import org.apache.gravitino.rel.Table;
 import org.apache.gravitino.rel.TableCatalog;
@@ -127,10 +131,25 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
   public static class CatalogWrapper {
     private BaseCatalog catalog;
     private IsolatedClassLoader classLoader;
+    @Nullable private final CatalogOperationMetricsSource metricsSource;
+    private final Runnable closeHook;
+    // The wrapped operations of the catalog keyed by the interface, the operations of a catalog
+    // are created once so each of them is only wrapped once.
+    private final Map<Class<?>, Object> timedOps = new ConcurrentHashMap<>();
 
     public CatalogWrapper(BaseCatalog catalog, IsolatedClassLoader classLoader) {
+      this(catalog, classLoader, null, () -> {});
+    }
+
+    CatalogWrapper(
+        BaseCatalog catalog,
+        IsolatedClassLoader classLoader,
+        @Nullable CatalogOperationMetricsSource metricsSource,
+        Runnable closeHook) {
       this.catalog = catalog;
       this.classLoader = classLoader;
+      this.metricsSource = metricsSource;
+      this.closeHook = closeHook;
     }
 
     public BaseCatalog catalog() {
@@ -191,7 +210,13 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
             Table table = asTables().loadTable(tableIdent);
             Preconditions.checkArgument(
                 table.supportPartitions() != null, "Table does not support partition operations");
-            return fn.apply(table.supportPartitions());
+            // The partition operations are created per loaded table, so they are wrapped per call.
+            SupportsPartitions partitions = table.supportPartitions();
+            return fn.apply(
+                metricsSource == null
+                    ? partitions
+                    : CatalogOperationMetrics.timed(
+                        partitions, SupportsPartitions.class, metricsSource));
           });
     }
 
@@ -219,22 +244,42 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
       }
 
       classLoader.close();
+      closeHook.run();
     }
 
     private SupportsSchemas asSchemas() {
-      return catalog.ops() instanceof SupportsSchemas ? (SupportsSchemas) catalog.ops() : null;
+      return catalog.ops() instanceof SupportsSchemas
+          ? timed((SupportsSchemas) catalog.ops(), SupportsSchemas.class)
+          : null;
     }
 
     private TableCatalog asTables() {
-      return catalog.ops() instanceof TableCatalog ? (TableCatalog) catalog.ops() : null;
+      return catalog.ops() instanceof TableCatalog
+          ? timed((TableCatalog) catalog.ops(), TableCatalog.class)
+          : null;
     }
 
     private FilesetCatalog asFilesets() {
-      return catalog.ops() instanceof FilesetCatalog ? (FilesetCatalog) catalog.ops() : null;
+      return catalog.ops() instanceof FilesetCatalog
+          ? timed((FilesetCatalog) catalog.ops(), FilesetCatalog.class)
+          : null;
     }
 
     private TopicCatalog asTopics() {
-      return catalog.ops() instanceof TopicCatalog ? (TopicCatalog) catalog.ops() : null;
+      return catalog.ops() instanceof TopicCatalog
+          ? timed((TopicCatalog) catalog.ops(), TopicCatalog.class)
+          : null;
+    }
+
+    // Records the latency of the operations sent to the catalog if the metrics are enabled.
+    private <T> T timed(T ops, Class<T> opsInterface) {
+      if (metricsSource == null) {
+        return ops;
+      }
+
+      return opsInterface.cast(
+          timedOps.computeIfAbsent(
+              opsInterface, i -> CatalogOperationMetrics.timed(ops, opsInterface, metricsSource)));
     }
   }
 
@@ -246,6 +291,8 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
 
   private final IdGenerator idGenerator;
 
+  @Nullable private final CatalogOperationMetrics operationMetrics;
+
   /**
    * Constructs a CatalogManager instance.
    *
@@ -258,6 +305,12 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     this.store = store;
     this.idGenerator = idGenerator;
 
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    this.operationMetrics =
+        metricsSystem == null
+            ? null
+            : new CatalogOperationMetrics(metricsSystem, config.get(Configs.METRICS_MAX_CATALOGS));
+
     long cacheEvictionIntervalInMs = config.get(Configs.CATALOG_CACHE_EVICTION_INTERVAL_MS);
     this.catalogCache =
         Caffeine.newBuilder()
@@ -394,7 +447,8 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     boolean needClean = true;
     try {
       store.put(e, false /* overwrite */);
-      CatalogWrapper wrapper = catalogCache.get(ident, id -> createCatalogWrapper(e, mergedConfig));
+      CatalogWrapper wrapper =
+          catalogCache.get(ident, id -> createCachedCatalogWrapper(e, mergedConfig));
 
       needClean = false;
       return wrapper.catalog;
@@ -617,7 +671,7 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
       return Objects.requireNonNull(
               catalogCache.get(
                   updatedCatalog.nameIdentifier(),
-                  id -> createCatalogWrapper(updatedCatalog, null)))
+                  id -> createCachedCatalogWrapper(updatedCatalog, null)))
           .catalog;
 
     } catch (NoSuchEntityException ne) {
@@ -835,7 +889,7 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
   private CatalogWrapper loadCatalogInternal(NameIdentifier ident) throws NoSuchCatalogException {
     try {
       CatalogEntity entity = store.get(ident, EntityType.CATALOG, CatalogEntity.class);
-      return createCatalogWrapper(entity, null);
+      return createCachedCatalogWrapper(entity, null);
 
     } catch (NoSuchEntityException ne) {
       LOG.warn("Catalog {} does not exist", ident, ne);
@@ -883,6 +937,27 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     return wrapper;
   }
 
+  /**
+   * Creates a catalog wrapper recording the latency of the catalog operations, which is only used
+   * for the catalog wrappers in the cache, as the metrics are released once the wrapper is closed.
+   */
+  private CatalogWrapper createCachedCatalogWrapper(
+      CatalogEntity entity, @Nullable Map<String, String> propsToValidate) {
+    CatalogWrapper wrapper = createCatalogWrapper(entity, propsToValidate);
+    if (operationMetrics == null) {
+      return wrapper;
+    }
+
+    NameIdentifier ident = entity.nameIdentifier();
+    CatalogOperationMetricsSource metricsSource =
+        operationMetrics.acquire(ident, entity.getProvider());
+    return new CatalogWrapper(
+        wrapper.catalog,
+        wrapper.classLoader,
+        metricsSource,
+        () -> operationMetrics.release(ident, metricsSource));
+  }
+
   /**
    * Get the resolved properties (filter out the hidden properties and add some required default
    * properties) of the catalog entity.
@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog;
+
+import com.codahale.metrics.Timer;
+import com.google.common.annotations.VisibleForTesting;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.CatalogOperationMetricsSource;
+import org.apache.gravitino.tracing.TraceScope;
+import org.apache.gravitino.tracing.Tracing;
+
+/**
+ * Records the latency of the operations sent to the catalogs. Each catalog has its own metrics
+ * source until the number of the catalogs reaches the limit, the operations of the other catalogs
+ * are recorded together under the catalog {@value #OTHER_CATALOGS} to cap the number of the
+ * series.
+ */
+class CatalogOperationMetrics {
+
+  @VisibleForTesting static final String OTHER_CATALOGS = "_other";
+
+  private final MetricsSystem metricsSystem;
+  private final int maxCatalogs;
+  private final Map<NameIdentifier, CatalogOperationMetricsSource> catalogSources =
+      new HashMap<>();
+  // The sources shared by the catalogs beyond the limit, keyed by the provider.
+  private final Map<String, CatalogOperationMetricsSource> otherSources = new HashMap<>();
+
+  CatalogOperationMetrics(MetricsSystem metricsSystem, int maxCatalogs) {
+    this.metricsSystem = metricsSystem;
+    this.maxCatalogs = maxCatalogs;
+  }
+
+  /**
+   * Gets the metrics source of a catalog being loaded, which must be released by {@link
+   * #release(NameIdentifier, CatalogOperationMetricsSource)} once the catalog is closed.
+   *
+   * @param catalogIdent The identifier of the catalog.
+   * @param provider The provider of the catalog.
+   * @return The metrics source of the catalog, or the one shared with the other catalogs.
+   */
+  synchronized CatalogOperationMetricsSource acquire(NameIdentifier catalogIdent, String provider) {
+    // A catalog may be reloaded before the old instance is closed, in which case the new source
+    // replaces the old one.
+    if (catalogSources.size() < maxCatalogs || catalogSources.containsKey(catalogIdent)) {
+      CatalogOperationMetricsSource source =
+          new CatalogOperationMetricsSource(
+              catalogIdent.namespace().level(0), catalogIdent.name(), provider);
+      catalogSources.put(catalogIdent, source);
+      metricsSystem.register(source);
+      return source;
+    }
+
+    return otherSources.computeIfAbsent(
+        provider,
+        p -> {
+          CatalogOperationMetricsSource source =
+              new CatalogOperationMetricsSource(OTHER_CATALOGS, OTHER_CATALOGS, p);
+          metricsSystem.register(source);
+          return source;
+        });
+  }
+
+  /**
+   * Releases the metrics source of a closed catalog.
+   *
+   * @param catalogIdent The identifier of the catalog.
+   * @param source The metrics source acquired for the catalog.
+   */
+  synchronized void release(NameIdentifier catalogIdent, CatalogOperationMetricsSource source) {
+    if (catalogSources.remove(catalogIdent, source)) {
+      metricsSystem.unregister(source);
+    }
+  }
+
+  @VisibleForTesting
+  synchronized int catalogCount() {
+    return catalogSources.size();
+  }
+
+  /**
+   * Wraps the operations of a catalog to record the latency of each method, and trace each call in
+   * a span named by the method.
+   *
+   * @param ops The operations to wrap.
+   * @param opsInterface The interface of the operations to record.
+   * @param source The metrics source to record to.
+   * @return The wrapped operations.
+   * @param <T> The interface of the operations.
+   */
+  static <T> T timed(T ops, Class<T> opsInterface, CatalogOperationMetricsSource source) {
+    return opsInterface.cast(
+        Proxy.newProxyInstance(
+            opsInterface.getClassLoader(),
+            new Class<?>[] {opsInterface},
+            new TimedInvocationHandler(ops, source)));
+  }
+
+  private static class TimedInvocationHandler implements InvocationHandler {
+    private final Object ops;
+    private final CatalogOperationMetricsSource source;
+
+    private TimedInvocationHandler(Object ops, CatalogOperationMetricsSource source) {
+      this.ops = ops;
+      this.source = source;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      if (method.getDeclaringClass() == Object.class) {
+        return invokeOps(method, args);
+      }
+
+      Timer.Context context = source.latency(method.getName()).time();
+      TraceScope scope =
+          Tracing.isEnabled() ? Tracing.start("catalog." + method.getName()) : TraceScope.noop();
+      try {
+        return invokeOps(method, args);
+      } catch (Throwable t) {
+        scope.recordException(t);
+        throw t;
+      } finally {
+        scope.close();
+        context.stop();
+      }
+    }
+
+    private Object invokeOps(Method method, Object[] args) throws Throwable {
+      try {
+        return method.invoke(ops, args);
+      } catch (InvocationTargetException e) {
+        throw e.getCause();
+      }
+    }
+  }
+}
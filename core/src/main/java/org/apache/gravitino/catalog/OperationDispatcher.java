@@ -41,6 +41,8 @@ import org.apache.gravitino.messaging.TopicChange;
 import org.apache.gravitino.rel.SupportsPartitions;
 import org.apache.gravitino.rel.TableChange;
 import org.apache.gravitino.storage.IdGenerator;
+import org.apache.gravitino.tracing.TraceScope;
+import org.apache.gravitino.tracing.Tracing;
 import org.apache.gravitino.utils.ThrowableFunction;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -95,7 +97,7 @@ public abstract class OperationDispatcher {
       throws E {
     checkCatalogInUse(store, ident);
 
-    try {
+    try (TraceScope scope = startCatalogSpan(ident)) {
       CatalogManager.CatalogWrapper c = catalogManager.loadCatalogAndWrap(ident);
       return fn.apply(c);
     } catch (Throwable throwable) {
@@ -117,7 +119,7 @@ public abstract class OperationDispatcher {
       throws E1, E2 {
     checkCatalogInUse(store, ident);
 
-    try {
+    try (TraceScope scope = startCatalogSpan(ident)) {
       CatalogManager.CatalogWrapper c = catalogManager.loadCatalogAndWrap(ident);
       return fn.apply(c);
     } catch (Throwable throwable) {
@@ -134,6 +136,12 @@ public abstract class OperationDispatcher {
     }
   }
 
+  private TraceScope startCatalogSpan(NameIdentifier ident) {
+    return Tracing.isEnabled()
+        ? Tracing.start("doWithCatalog").setAttribute("catalog", ident.toString())
+        : TraceScope.noop();
+  }
+
   protected Set<String> getHiddenPropertyNames(
       NameIdentifier catalogIdent,
       ThrowableFunction<HasPropertyMetadata, PropertiesMetadata> provider,
@@ -37,6 +37,7 @@ import org.apache.gravitino.exceptions.CatalogNotInUseException;
 import org.apache.gravitino.exceptions.NoSuchCatalogException;
 import org.apache.gravitino.exceptions.NoSuchMetalakeException;
 import org.apache.gravitino.exceptions.NonEmptyEntityException;
+import org.apache.gravitino.tag.TagManager;
 import org.apache.gravitino.utils.NameIdentifierUtil;
 import org.apache.gravitino.utils.PrincipalUtils;
 
@@ -114,6 +115,7 @@ public class CatalogHookDispatcher implements CatalogDispatcher {
     if (lastRenameChange != null) {
       AuthorizationUtils.authorizationPluginRenamePrivileges(
           ident, Entity.EntityType.CATALOG, lastRenameChange.getNewName());
+      TagManager.invalidateMetadataObject(ident);
     }
     return alteredCatalog;
   }
@@ -127,7 +129,9 @@ public class CatalogHookDispatcher implements CatalogDispatcher {
   public boolean dropCatalog(NameIdentifier ident, boolean force)
       throws NonEmptyEntityException, CatalogInUseException {
     AuthorizationUtils.authorizationPluginRemovePrivileges(ident, Entity.EntityType.CATALOG);
-    return dispatcher.dropCatalog(ident, force);
+    boolean dropped = dispatcher.dropCatalog(ident, force);
+    TagManager.invalidateMetadataObject(ident);
+    return dropped;
   }
 
   @Override
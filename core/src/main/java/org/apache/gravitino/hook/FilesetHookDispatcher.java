@@ -32,6 +32,7 @@ import org.apache.gravitino.exceptions.NoSuchFilesetException;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
 import org.apache.gravitino.file.Fileset;
 import org.apache.gravitino.file.FilesetChange;
+import org.apache.gravitino.tag.TagManager;
 import org.apache.gravitino.utils.NameIdentifierUtil;
 import org.apache.gravitino.utils.PrincipalUtils;
 
@@ -96,6 +97,7 @@ public class FilesetHookDispatcher implements FilesetDispatcher {
     if (lastRenameChange != null) {
       AuthorizationUtils.authorizationPluginRenamePrivileges(
           ident, Entity.EntityType.FILESET, lastRenameChange.getNewName());
+      TagManager.invalidateMetadataObject(ident);
     }
 
     return alteredFileset;
@@ -105,6 +107,7 @@ public class FilesetHookDispatcher implements FilesetDispatcher {
   public boolean dropFileset(NameIdentifier ident) {
     boolean dropped = dispatcher.dropFileset(ident);
     AuthorizationUtils.authorizationPluginRemovePrivileges(ident, Entity.EntityType.FILESET);
+    TagManager.invalidateMetadataObject(ident);
     return dropped;
   }
 
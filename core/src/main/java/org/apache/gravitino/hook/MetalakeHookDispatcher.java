@@ -33,6 +33,7 @@ import org.apache.gravitino.exceptions.MetalakeInUseException;
 import org.apache.gravitino.exceptions.NoSuchMetalakeException;
 import org.apache.gravitino.exceptions.NonEmptyEntityException;
 import org.apache.gravitino.metalake.MetalakeDispatcher;
+import org.apache.gravitino.tag.TagManager;
 import org.apache.gravitino.utils.NameIdentifierUtil;
 import org.apache.gravitino.utils.PrincipalUtils;
 
@@ -96,6 +97,7 @@ public class MetalakeHookDispatcher implements MetalakeDispatcher {
     if (lastRenameChange != null) {
       AuthorizationUtils.authorizationPluginRenamePrivileges(
           ident, Entity.EntityType.METALAKE, lastRenameChange.getNewName());
+      TagManager.invalidateMetadataObject(ident);
     }
     return alterMetalake;
   }
@@ -103,7 +105,9 @@ public class MetalakeHookDispatcher implements MetalakeDispatcher {
   @Override
   public boolean dropMetalake(NameIdentifier ident, boolean force)
       throws NonEmptyEntityException, MetalakeInUseException {
-    return dispatcher.dropMetalake(ident, force);
+    boolean dropped = dispatcher.dropMetalake(ident, force);
+    TagManager.invalidateMetadataObject(ident);
+    return dropped;
   }
 
   @Override
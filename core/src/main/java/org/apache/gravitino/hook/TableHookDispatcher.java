@@ -37,6 +37,7 @@ import org.apache.gravitino.rel.expressions.distributions.Distribution;
 import org.apache.gravitino.rel.expressions.sorts.SortOrder;
 import org.apache.gravitino.rel.expressions.transforms.Transform;
 import org.apache.gravitino.rel.indexes.Index;
+import org.apache.gravitino.tag.TagManager;
 import org.apache.gravitino.utils.NameIdentifierUtil;
 import org.apache.gravitino.utils.PrincipalUtils;
 
@@ -109,6 +110,8 @@ public class TableHookDispatcher implements TableDispatcher {
       AuthorizationUtils.authorizationPluginRenamePrivileges(
           ident, Entity.EntityType.TABLE, lastRenameChange.getNewName());
     }
+    // The changes may rename or delete the columns, whose tags are cached under the table.
+    TagManager.invalidateMetadataObject(ident);
 
     return alteredTable;
   }
@@ -117,6 +120,7 @@ public class TableHookDispatcher implements TableDispatcher {
   public boolean dropTable(NameIdentifier ident) {
     boolean dropped = dispatcher.dropTable(ident);
     AuthorizationUtils.authorizationPluginRemovePrivileges(ident, Entity.EntityType.TABLE);
+    TagManager.invalidateMetadataObject(ident);
     return dropped;
   }
 
@@ -124,6 +128,7 @@ public class TableHookDispatcher implements TableDispatcher {
   public boolean purgeTable(NameIdentifier ident) throws UnsupportedOperationException {
     boolean purged = dispatcher.purgeTable(ident);
     AuthorizationUtils.authorizationPluginRemovePrivileges(ident, Entity.EntityType.TABLE);
+    TagManager.invalidateMetadataObject(ident);
     return purged;
   }
 
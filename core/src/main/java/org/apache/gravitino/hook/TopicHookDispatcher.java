@@ -33,6 +33,7 @@ import org.apache.gravitino.exceptions.TopicAlreadyExistsException;
 import org.apache.gravitino.messaging.DataLayout;
 import org.apache.gravitino.messaging.Topic;
 import org.apache.gravitino.messaging.TopicChange;
+import org.apache.gravitino.tag.TagManager;
 import org.apache.gravitino.utils.NameIdentifierUtil;
 import org.apache.gravitino.utils.PrincipalUtils;
 
@@ -90,6 +91,7 @@ public class TopicHookDispatcher implements TopicDispatcher {
   public boolean dropTopic(NameIdentifier ident) {
     boolean dropped = dispatcher.dropTopic(ident);
     AuthorizationUtils.authorizationPluginRemovePrivileges(ident, Entity.EntityType.TOPIC);
+    TagManager.invalidateMetadataObject(ident);
     return dropped;
   }
 
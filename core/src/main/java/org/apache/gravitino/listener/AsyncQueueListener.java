@@ -16,57 +16,119 @@
  * specific language governing permissions and limitations
  * under the License.
  */
-
 package org.apache.gravitino.listener;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.listener.api.EventListenerPlugin;
 import org.apache.gravitino.listener.api.event.BaseEvent;
 import org.apache.gravitino.listener.api.event.Event;
 import org.apache.gravitino.listener.api.event.PreEvent;
+import org.apache.gravitino.metrics.MetricsSystem;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * AsyncQueueListener acts as event listener, and internally buffer event to a queue, start a
- * dispatcher thread to dispatch event to the real listeners. For default AsyncQueueListener it may
- * contain multi listeners share with one queue and dispatcher thread. For other
+ * AsyncQueueListener acts as event listener, and internally buffer event to queues, start
+ * dispatcher threads to dispatch event to the real listeners. For default AsyncQueueListener it may
+ * contain multi listeners share with the queues and dispatcher threads. For other
  * AsyncQueueDispatchers, contain only one listener.
+ *
+ * <p>Each dispatcher thread owns one queue, and the events are routed to the queues by the hash of
+ * their identifiers, so the events of the same identifier are always dispatched in order. A
+ * dispatcher thread drains up to {@code batchSize} events from its queue at a time, and delivers
+ * the consecutive post events to the listeners by {@link EventListenerPlugin#onPostEvents(List)}.
+ *
+ * <p>Once a queue is full, the event is dropped immediately with the {@link OverflowPolicy#DROP}
+ * policy, or the caller waits for free space up to {@code blockTimeoutMs} before dropping it with
+ * the {@link OverflowPolicy#BLOCK} policy.
  */
 public class AsyncQueueListener implements EventListenerPlugin {
   private static final Logger LOG = LoggerFactory.getLogger(AsyncQueueListener.class);
   private static final String NAME_PREFIX = "async-queue-listener-";
 
+  /** The policy to handle the events once the queue is full. */
+  public enum OverflowPolicy {
+    /** Drop the event immediately. */
+    DROP,
+    /** Wait for free space in the queue, and drop the event if the wait times out. */
+    BLOCK
+  }
+
   private final List<EventListenerPlugin> eventListeners;
-  private final BlockingQueue<BaseEvent> queue;
-  private final Thread asyncProcessor;
+  // Dispatches the events to the listeners sharing the queue according to their subscriptions.
+  private final EventBus eventBus;
+  private final List<BlockingQueue<BaseEvent>> queues;
+  private final List<Thread> asyncProcessors;
+  private final int batchSize;
+  private final OverflowPolicy overflowPolicy;
+  private final long blockTimeoutMs;
   private final int dispatcherJoinSeconds;
   private final AtomicBoolean stopped = new AtomicBoolean(false);
   private final AtomicLong dropEventCounters = new AtomicLong(0);
   private final AtomicLong lastDropEventCounters = new AtomicLong(0);
-  private Instant lastRecordDropEventTime;
+  private volatile Instant lastRecordDropEventTime = Instant.now();
   private final String asyncQueueListenerName;
+  private final AsyncQueueListenerMetricsSource metricsSource;
 
   public AsyncQueueListener(
       List<EventListenerPlugin> listeners,
       String name,
       int queueCapacity,
       int dispatcherJoinSeconds) {
+    this(listeners, name, queueCapacity, dispatcherJoinSeconds, 1, 1, OverflowPolicy.DROP, 0L);
+  }
+
+  public AsyncQueueListener(
+      List<EventListenerPlugin> listeners,
+      String name,
+      int queueCapacity,
+      int dispatcherJoinSeconds,
+      int batchSize,
+      int dispatcherThreads,
+      OverflowPolicy overflowPolicy,
+      long blockTimeoutMs) {
+    Preconditions.checkArgument(batchSize > 0, "The batch size must be positive");
+    Preconditions.checkArgument(dispatcherThreads > 0, "The dispatcher threads must be positive");
     this.asyncQueueListenerName = NAME_PREFIX + name;
     this.eventListeners = listeners;
-    this.queue = new LinkedBlockingQueue<>(queueCapacity);
-    this.asyncProcessor = new Thread(() -> processEvents());
+    this.eventBus = new EventBus(listeners);
+    this.batchSize = batchSize;
+    this.overflowPolicy = overflowPolicy;
+    this.blockTimeoutMs = blockTimeoutMs;
     this.dispatcherJoinSeconds = dispatcherJoinSeconds;
-    asyncProcessor.setDaemon(true);
-    asyncProcessor.setName(asyncQueueListenerName);
+
+    // The queue capacity is shared by all the dispatcher threads.
+    int capacityPerQueue = Math.max(1, queueCapacity / dispatcherThreads);
+    this.queues = new ArrayList<>(dispatcherThreads);
+    this.asyncProcessors = new ArrayList<>(dispatcherThreads);
+    for (int i = 0; i < dispatcherThreads; i++) {
+      BlockingQueue<BaseEvent> queue = new LinkedBlockingQueue<>(capacityPerQueue);
+      Thread asyncProcessor = new Thread(() -> processEvents(queue));
+      asyncProcessor.setDaemon(true);
+      asyncProcessor.setName(
+          dispatcherThreads == 1 ? asyncQueueListenerName : asyncQueueListenerName + "-" + i);
+      queues.add(queue);
+      asyncProcessors.add(asyncProcessor);
+    }
+
+    this.metricsSource =
+        new AsyncQueueListenerMetricsSource(
+            name, () -> queues.stream().mapToInt(BlockingQueue::size).sum());
   }
 
   @Override
@@ -79,6 +141,19 @@ public class AsyncQueueListener implements EventListenerPlugin {
     enqueueEvent(event);
   }
 
+  @Override
+  public Set<Class<? extends BaseEvent>> subscribedEvents() {
+    Set<Class<? extends BaseEvent>> subscribedEvents = new HashSet<>();
+    for (EventListenerPlugin listener : eventListeners) {
+      // One of the listeners subscribes to all the events.
+      if (listener.subscribedEvents().isEmpty()) {
+        return Collections.emptySet();
+      }
+      subscribedEvents.addAll(listener.subscribedEvents());
+    }
+    return subscribedEvents;
+  }
+
   @Override
   public void init(Map<String, String> properties) {
     throw new RuntimeException(
@@ -88,20 +163,33 @@ public class AsyncQueueListener implements EventListenerPlugin {
   @Override
   public void start() {
     eventListeners.forEach(listenerPlugin -> listenerPlugin.start());
-    asyncProcessor.start();
+    asyncProcessors.forEach(Thread::start);
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
   }
 
   @Override
   public void stop() {
     Preconditions.checkState(!stopped.get(), asyncQueueListenerName + " had already stopped");
     stopped.compareAndSet(false, true);
-    asyncProcessor.interrupt();
-    try {
-      asyncProcessor.join(dispatcherJoinSeconds * 1000L);
-    } catch (InterruptedException e) {
-      LOG.warn("{} interrupt async processor failed.", asyncQueueListenerName, e);
+    asyncProcessors.forEach(Thread::interrupt);
+    long deadline = System.currentTimeMillis() + dispatcherJoinSeconds * 1000L;
+    for (Thread asyncProcessor : asyncProcessors) {
+      try {
+        asyncProcessor.join(Math.max(1L, deadline - System.currentTimeMillis()));
+      } catch (InterruptedException e) {
+        LOG.warn("{} interrupt async processor failed.", asyncQueueListenerName, e);
+      }
     }
     eventListeners.forEach(listenerPlugin -> listenerPlugin.stop());
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
+    }
   }
 
   @VisibleForTesting
@@ -109,22 +197,25 @@ public class AsyncQueueListener implements EventListenerPlugin {
     return this.eventListeners;
   }
 
-  private void processEvents() {
+  @VisibleForTesting
+  AsyncQueueListenerMetricsSource getMetricsSource() {
+    return metricsSource;
+  }
+
+  private void processEvents(BlockingQueue<BaseEvent> queue) {
+    List<BaseEvent> batch = new ArrayList<>(batchSize);
     while (!Thread.currentThread().isInterrupted()) {
       try {
-        BaseEvent baseEvent = queue.take();
-        if (baseEvent instanceof PreEvent) {
-          this.eventListeners.forEach(listener -> listener.onPreEvent((PreEvent) baseEvent));
-        } else if (baseEvent instanceof Event) {
-          this.eventListeners.forEach(listener -> listener.onPostEvent((Event) baseEvent));
-        } else {
-          LOG.warn("Unknown event type: {}", baseEvent.getClass().getSimpleName());
-        }
+        batch.add(queue.take());
+        queue.drainTo(batch, batchSize - 1);
+        dispatchEvents(batch);
       } catch (InterruptedException e) {
         LOG.warn("{} event dispatcher thread is interrupted.", asyncQueueListenerName);
         break;
       } catch (Exception e) {
         LOG.warn("{} throw a exception while processing event", asyncQueueListenerName, e);
+      } finally {
+        batch.clear();
       }
     }
 
@@ -136,7 +227,40 @@ public class AsyncQueueListener implements EventListenerPlugin {
     }
   }
 
+  private void dispatchEvents(List<BaseEvent> batch) {
+    metricsSource.updateBatchSize(batch.size());
+
+    // Keep the order of the events, the consecutive post events are dispatched in one batch.
+    List<Event> postEvents = new ArrayList<>(batch.size());
+    for (BaseEvent baseEvent : batch) {
+      metricsSource.updateDispatchLatency(baseEvent);
+      if (baseEvent instanceof Event) {
+        postEvents.add((Event) baseEvent);
+      } else if (baseEvent instanceof PreEvent) {
+        postEvents = flushPostEvents(postEvents);
+        try {
+          eventBus.dispatchEvent(baseEvent);
+        } catch (Exception e) {
+          LOG.warn("{} throw a exception while processing event", asyncQueueListenerName, e);
+        }
+      } else {
+        LOG.warn("Unknown event type: {}", baseEvent.getClass().getSimpleName());
+      }
+    }
+    flushPostEvents(postEvents);
+  }
+
+  private List<Event> flushPostEvents(List<Event> postEvents) {
+    if (postEvents.isEmpty()) {
+      return postEvents;
+    }
+    eventBus.dispatchPostEvents(postEvents);
+    // The listeners may hold the dispatched list, so don't reuse it.
+    return new ArrayList<>();
+  }
+
   private void logDropEventsIfNecessary() {
+    metricsSource.incDroppedEvents();
     long currentDropEvents = dropEventCounters.incrementAndGet();
     long lastDropEvents = lastDropEventCounters.get();
     // dropEvents may less than zero in such conditions:
@@ -165,10 +289,26 @@ public class AsyncQueueListener implements EventListenerPlugin {
       return;
     }
 
-    if (queue.offer(baseEvent)) {
+    // Route the events of the same identifier to the same queue to keep their order.
+    BlockingQueue<BaseEvent> queue =
+        queues.get(Math.floorMod(Objects.hashCode(baseEvent.identifier()), queues.size()));
+    if (offerEvent(queue, baseEvent)) {
       return;
     }
 
     logDropEventsIfNecessary();
   }
+
+  private boolean offerEvent(BlockingQueue<BaseEvent> queue, BaseEvent baseEvent) {
+    if (overflowPolicy == OverflowPolicy.DROP) {
+      return queue.offer(baseEvent);
+    }
+
+    try {
+      return queue.offer(baseEvent, blockTimeoutMs, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
 }
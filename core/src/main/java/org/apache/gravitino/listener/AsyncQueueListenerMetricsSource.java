@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.listener;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Timer;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+import org.apache.gravitino.listener.api.event.BaseEvent;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.source.MetricsSource;
+
+/**
+ * Metrics of an {@link AsyncQueueListener}, including the depth of the queues, the count of the
+ * dropped events, the size of the dispatched batches and the latency from the event being created
+ * to being dispatched.
+ */
+class AsyncQueueListenerMetricsSource extends MetricsSource {
+
+  private final Counter droppedEvents;
+  private final Histogram batchSize;
+  private final Timer dispatchLatency;
+
+  AsyncQueueListenerMetricsSource(String listenerName, IntSupplier queueDepth) {
+    super(MetricsSource.EVENT_LISTENER_METRIC_NAME + "." + listenerName);
+    registerGauge(MetricNames.EVENT_LISTENER_QUEUE_DEPTH, queueDepth::getAsInt);
+    this.droppedEvents = getCounter(MetricNames.EVENT_LISTENER_DROPPED_EVENTS);
+    this.batchSize = getHistogram(MetricNames.EVENT_LISTENER_BATCH_SIZE);
+    this.dispatchLatency = getTimer(MetricNames.EVENT_LISTENER_DISPATCH_LATENCY);
+  }
+
+  void incDroppedEvents() {
+    droppedEvents.inc();
+  }
+
+  void updateBatchSize(int size) {
+    batchSize.update(size);
+  }
+
+  void updateDispatchLatency(BaseEvent event) {
+    dispatchLatency.update(
+        Math.max(0L, System.currentTimeMillis() - event.eventTime()), TimeUnit.MILLISECONDS);
+  }
+
+  long droppedEvents() {
+    return droppedEvents.getCount();
+  }
+}
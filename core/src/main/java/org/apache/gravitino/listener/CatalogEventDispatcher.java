@@ -73,44 +73,59 @@ public class CatalogEventDispatcher implements CatalogDispatcher {
 
   @Override
   public NameIdentifier[] listCatalogs(Namespace namespace) throws NoSuchMetalakeException {
-    eventBus.dispatchEvent(new ListCatalogPreEvent(PrincipalUtils.getCurrentUserName(), namespace));
+    eventBus.dispatchEvent(
+        ListCatalogPreEvent.class,
+        () -> new ListCatalogPreEvent(PrincipalUtils.getCurrentUserName(), namespace));
     try {
       NameIdentifier[] nameIdentifiers = dispatcher.listCatalogs(namespace);
-      eventBus.dispatchEvent(new ListCatalogEvent(PrincipalUtils.getCurrentUserName(), namespace));
+      eventBus.dispatchEvent(
+          ListCatalogEvent.class,
+          () -> new ListCatalogEvent(PrincipalUtils.getCurrentUserName(), namespace));
       return nameIdentifiers;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new ListCatalogFailureEvent(PrincipalUtils.getCurrentUserName(), e, namespace));
+          ListCatalogFailureEvent.class,
+          () -> new ListCatalogFailureEvent(PrincipalUtils.getCurrentUserName(), e, namespace));
       throw e;
     }
   }
 
   @Override
   public Catalog[] listCatalogsInfo(Namespace namespace) throws NoSuchMetalakeException {
-    eventBus.dispatchEvent(new ListCatalogPreEvent(PrincipalUtils.getCurrentUserName(), namespace));
+    eventBus.dispatchEvent(
+        ListCatalogPreEvent.class,
+        () -> new ListCatalogPreEvent(PrincipalUtils.getCurrentUserName(), namespace));
     try {
       Catalog[] catalogs = dispatcher.listCatalogsInfo(namespace);
-      eventBus.dispatchEvent(new ListCatalogEvent(PrincipalUtils.getCurrentUserName(), namespace));
+      eventBus.dispatchEvent(
+          ListCatalogEvent.class,
+          () -> new ListCatalogEvent(PrincipalUtils.getCurrentUserName(), namespace));
       return catalogs;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new ListCatalogFailureEvent(PrincipalUtils.getCurrentUserName(), e, namespace));
+          ListCatalogFailureEvent.class,
+          () -> new ListCatalogFailureEvent(PrincipalUtils.getCurrentUserName(), e, namespace));
       throw e;
     }
   }
 
   @Override
   public Catalog loadCatalog(NameIdentifier ident) throws NoSuchCatalogException {
-    eventBus.dispatchEvent(new LoadCatalogPreEvent(PrincipalUtils.getCurrentUserName(), ident));
+    eventBus.dispatchEvent(
+        LoadCatalogPreEvent.class,
+        () -> new LoadCatalogPreEvent(PrincipalUtils.getCurrentUserName(), ident));
     try {
       Catalog catalog = dispatcher.loadCatalog(ident);
       eventBus.dispatchEvent(
-          new LoadCatalogEvent(
-              PrincipalUtils.getCurrentUserName(), ident, new CatalogInfo(catalog)));
+          LoadCatalogEvent.class,
+          () ->
+              new LoadCatalogEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, new CatalogInfo(catalog)));
       return catalog;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new LoadCatalogFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
+          LoadCatalogFailureEvent.class,
+          () -> new LoadCatalogFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
       throw e;
     }
   }
@@ -126,19 +141,24 @@ public class CatalogEventDispatcher implements CatalogDispatcher {
     CatalogInfo catalogInfo =
         new CatalogInfo(ident.name(), type, provider, comment, properties, null);
     eventBus.dispatchEvent(
-        new CreateCatalogPreEvent(PrincipalUtils.getCurrentUserName(), ident, catalogInfo));
+        CreateCatalogPreEvent.class,
+        () -> new CreateCatalogPreEvent(PrincipalUtils.getCurrentUserName(), ident, catalogInfo));
     try {
       Catalog catalog = dispatcher.createCatalog(ident, type, provider, comment, properties);
       eventBus.dispatchEvent(
-          new CreateCatalogEvent(
-              PrincipalUtils.getCurrentUserName(), ident, new CatalogInfo(catalog)));
+          CreateCatalogEvent.class,
+          () ->
+              new CreateCatalogEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, new CatalogInfo(catalog)));
       return catalog;
     } catch (Exception e) {
       CatalogInfo createCatalogRequest =
           new CatalogInfo(ident.name(), type, provider, comment, properties, null);
       eventBus.dispatchEvent(
-          new CreateCatalogFailureEvent(
-              PrincipalUtils.getCurrentUserName(), ident, e, createCatalogRequest));
+          CreateCatalogFailureEvent.class,
+          () ->
+              new CreateCatalogFailureEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, e, createCatalogRequest));
       throw e;
     }
   }
@@ -147,16 +167,21 @@ public class CatalogEventDispatcher implements CatalogDispatcher {
   public Catalog alterCatalog(NameIdentifier ident, CatalogChange... changes)
       throws NoSuchCatalogException, IllegalArgumentException {
     eventBus.dispatchEvent(
-        new AlterCatalogPreEvent(PrincipalUtils.getCurrentUserName(), ident, changes));
+        AlterCatalogPreEvent.class,
+        () -> new AlterCatalogPreEvent(PrincipalUtils.getCurrentUserName(), ident, changes));
     try {
       Catalog catalog = dispatcher.alterCatalog(ident, changes);
       eventBus.dispatchEvent(
-          new AlterCatalogEvent(
-              PrincipalUtils.getCurrentUserName(), ident, changes, new CatalogInfo(catalog)));
+          AlterCatalogEvent.class,
+          () ->
+              new AlterCatalogEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, changes, new CatalogInfo(catalog)));
       return catalog;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new AlterCatalogFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e, changes));
+          AlterCatalogFailureEvent.class,
+          () ->
+              new AlterCatalogFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e, changes));
       throw e;
     }
   }
@@ -164,15 +189,19 @@ public class CatalogEventDispatcher implements CatalogDispatcher {
   @Override
   public boolean dropCatalog(NameIdentifier ident, boolean force)
       throws NonEmptyEntityException, CatalogInUseException {
-    eventBus.dispatchEvent(new DropCatalogPreEvent(PrincipalUtils.getCurrentUserName(), ident));
+    eventBus.dispatchEvent(
+        DropCatalogPreEvent.class,
+        () -> new DropCatalogPreEvent(PrincipalUtils.getCurrentUserName(), ident));
     try {
       boolean isExists = dispatcher.dropCatalog(ident, force);
       eventBus.dispatchEvent(
-          new DropCatalogEvent(PrincipalUtils.getCurrentUserName(), ident, isExists));
+          DropCatalogEvent.class,
+          () -> new DropCatalogEvent(PrincipalUtils.getCurrentUserName(), ident, isExists));
       return isExists;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new DropCatalogFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
+          DropCatalogFailureEvent.class,
+          () -> new DropCatalogFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
       throw e;
     }
   }
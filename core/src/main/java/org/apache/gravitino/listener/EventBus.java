@@ -21,16 +21,28 @@ package org.apache.gravitino.listener;
 
 import com.google.common.annotations.VisibleForTesting;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import org.apache.gravitino.exceptions.ForbiddenException;
 import org.apache.gravitino.listener.api.EventListenerPlugin;
 import org.apache.gravitino.listener.api.event.BaseEvent;
 import org.apache.gravitino.listener.api.event.Event;
 import org.apache.gravitino.listener.api.event.PreEvent;
+import org.apache.gravitino.tracing.TraceScope;
+import org.apache.gravitino.tracing.Tracing;
 
 /**
  * The {@code EventBus} class serves as a mechanism to dispatch events to registered listeners. It
  * supports both synchronous and asynchronous listeners by categorizing them into two distinct types
  * within its internal management.
+ *
+ * <p>Each listener declares the event classes it subscribes to by {@link
+ * EventListenerPlugin#subscribedEvents()}. The bus keeps a dispatch table from the event class to
+ * the subscribed listeners, so the events without any subscriber are neither dispatched nor, if
+ * they are dispatched by {@link #dispatchEvent(Class, Supplier)}, constructed.
  */
 public class EventBus {
   // Holds instances of EventListenerPlugin. These instances can either be
@@ -39,6 +51,11 @@ public class EventBus {
   // asynchronous event processing.
   private final List<EventListenerPlugin> eventListeners;
 
+  // The dispatch table from the event class to the listeners subscribing to it, it's filled lazily
+  // for each event class and reset once the listeners are changed.
+  private final Map<Class<? extends BaseEvent>, List<EventListenerPlugin>> dispatchTable =
+      new ConcurrentHashMap<>();
+
   /**
    * Constructs an EventBus with a predefined list of event listeners.
    *
@@ -56,13 +73,34 @@ public class EventBus {
    * @param baseEvent The event to be dispatched to all registered listeners.
    */
   public void dispatchEvent(BaseEvent baseEvent) {
-    if (baseEvent instanceof PreEvent) {
-      dispatchPreEvent((PreEvent) baseEvent);
-    } else if (baseEvent instanceof Event) {
-      dispatchPostEvent((Event) baseEvent);
-    } else {
-      throw new RuntimeException("Unknown event type:" + baseEvent.getClass().getSimpleName());
+    dispatchEvent(baseEvent, subscribedListeners(baseEvent.getClass()));
+  }
+
+  /**
+   * Dispatches an event of the given class to the listeners subscribing to it. The event is only
+   * constructed by the supplier if there is at least one subscriber, so the callers can avoid
+   * building the event payload which nobody consumes.
+   *
+   * @param eventClass The class of the event to be dispatched.
+   * @param eventSupplier The supplier to construct the event.
+   * @param <T> The type of the event.
+   */
+  public <T extends BaseEvent> void dispatchEvent(Class<T> eventClass, Supplier<T> eventSupplier) {
+    List<EventListenerPlugin> listeners = subscribedListeners(eventClass);
+    if (listeners.isEmpty()) {
+      return;
     }
+    dispatchEvent(eventSupplier.get(), listeners);
+  }
+
+  /**
+   * Checks whether any registered listener subscribes to the given event class.
+   *
+   * @param eventClass The class of the event.
+   * @return True if there is at least one subscriber, false otherwise.
+   */
+  public boolean isSubscribed(Class<? extends BaseEvent> eventClass) {
+    return !subscribedListeners(eventClass).isEmpty();
   }
 
   /**
@@ -77,11 +115,79 @@ public class EventBus {
     return eventListeners;
   }
 
-  private void dispatchPostEvent(Event postEvent) {
-    eventListeners.forEach(eventListener -> eventListener.onPostEvent(postEvent));
+  /**
+   * Dispatches a batch of post events to the registered listeners. Each listener receives the
+   * events it subscribes to in one {@link EventListenerPlugin#onPostEvents(List)} call, in the
+   * order of the batch.
+   *
+   * @param postEvents The post events to be dispatched.
+   */
+  void dispatchPostEvents(List<Event> postEvents) {
+    for (EventListenerPlugin listener : eventListeners) {
+      List<Event> subscribedEvents =
+          listener.subscribedEvents().isEmpty()
+              ? postEvents
+              : postEvents.stream()
+                  .filter(event -> isSubscribed(listener, event.getClass()))
+                  .collect(Collectors.toList());
+      if (!subscribedEvents.isEmpty()) {
+        listener.onPostEvents(subscribedEvents);
+      }
+    }
+  }
+
+  /** Resets the dispatch table, it should be called once the registered listeners are changed. */
+  void resetDispatchTable() {
+    dispatchTable.clear();
+  }
+
+  /**
+   * Checks whether the listener subscribes to the given event class. A listener without any
+   * declared event class subscribes to all the events.
+   *
+   * @param listener The event listener.
+   * @param eventClass The class of the event.
+   * @return True if the listener subscribes to the event class, false otherwise.
+   */
+  static boolean isSubscribed(EventListenerPlugin listener, Class<? extends BaseEvent> eventClass) {
+    Set<Class<? extends BaseEvent>> subscribedEvents = listener.subscribedEvents();
+    return subscribedEvents.isEmpty()
+        || subscribedEvents.stream().anyMatch(clazz -> clazz.isAssignableFrom(eventClass));
+  }
+
+  private List<EventListenerPlugin> subscribedListeners(Class<? extends BaseEvent> eventClass) {
+    return dispatchTable.computeIfAbsent(
+        eventClass,
+        clazz ->
+            eventListeners.stream()
+                .filter(listener -> isSubscribed(listener, clazz))
+                .collect(Collectors.toList()));
+  }
+
+  private void dispatchEvent(BaseEvent baseEvent, List<EventListenerPlugin> listeners) {
+    try (TraceScope scope = startDispatchSpan(baseEvent)) {
+      if (baseEvent instanceof PreEvent) {
+        dispatchPreEvent((PreEvent) baseEvent, listeners);
+      } else if (baseEvent instanceof Event) {
+        dispatchPostEvent((Event) baseEvent, listeners);
+      } else {
+        throw new RuntimeException("Unknown event type:" + baseEvent.getClass().getSimpleName());
+      }
+    }
+  }
+
+  private static TraceScope startDispatchSpan(BaseEvent baseEvent) {
+    return Tracing.isEnabled()
+        ? Tracing.start("event-bus.dispatch " + baseEvent.getClass().getSimpleName())
+        : TraceScope.noop();
+  }
+
+  private void dispatchPostEvent(Event postEvent, List<EventListenerPlugin> listeners) {
+    listeners.forEach(eventListener -> eventListener.onPostEvent(postEvent));
   }
 
-  private void dispatchPreEvent(PreEvent preEvent) throws ForbiddenException {
-    eventListeners.forEach(eventListener -> eventListener.onPreEvent(preEvent));
+  private void dispatchPreEvent(PreEvent preEvent, List<EventListenerPlugin> listeners)
+      throws ForbiddenException {
+    listeners.forEach(eventListener -> eventListener.onPreEvent(preEvent));
   }
 }
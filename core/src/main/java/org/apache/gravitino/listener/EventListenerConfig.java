@@ -19,6 +19,7 @@
 
 package org.apache.gravitino.listener;
 
+import java.util.Arrays;
 import java.util.Map;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.config.ConfigBuilder;
@@ -49,6 +50,46 @@ class EventListenerConfig extends Config {
           .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
           .createWithDefault(3);
 
+  static final ConfigEntry<Integer> BATCH_SIZE =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_BATCH_SIZE)
+          .doc("The maximum number of events dispatched in one batch by the async dispatcher")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(100);
+
+  static final ConfigEntry<Integer> DISPATCHER_THREADS =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_DISPATCHER_THREADS)
+          .doc(
+              "The number of threads of each async dispatcher, the events of the same identifier "
+                  + "are dispatched by the same thread in order")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1);
+
+  static final ConfigEntry<String> OVERFLOW_POLICY =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_OVERFLOW_POLICY)
+          .doc("The policy to handle the events once the async queue is full, `drop` or `block`")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .stringConf()
+          .checkValue(
+              value ->
+                  Arrays.stream(AsyncQueueListener.OverflowPolicy.values())
+                      .anyMatch(policy -> policy.name().equalsIgnoreCase(value)),
+              "The value must be one of `drop` and `block`")
+          .createWithDefault("drop");
+
+  static final ConfigEntry<Long> BLOCK_TIMEOUT_MS =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_BLOCK_TIMEOUT_MS)
+          .doc(
+              "The maximum time in milliseconds to wait for free space in the async queue with "
+                  + "the `block` overflow policy, the event is dropped once it times out")
+          .version(ConfigConstants.VERSION_0_8_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1000L);
+
   EventListenerConfig(Map<String, String> properties) {
     super(false);
     loadFromMap(properties, k -> true);
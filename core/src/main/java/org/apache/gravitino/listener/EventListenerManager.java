@@ -26,6 +26,7 @@ import com.google.common.base.Splitter;
 import com.google.common.collect.ImmutableList;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -55,17 +56,32 @@ public class EventListenerManager {
   @VisibleForTesting static final String GRAVITINO_EVENT_LISTENER_CLASS = "class";
   static final String GRAVITINO_EVENT_LISTENER_QUEUE_CAPACITY = "queueCapacity";
   static final String GRAVITINO_EVENT_LISTENER_DISPATCHER_JOIN_SECONDS = "dispatcherJoinSeconds";
+  static final String GRAVITINO_EVENT_LISTENER_BATCH_SIZE = "batchSize";
+  static final String GRAVITINO_EVENT_LISTENER_DISPATCHER_THREADS = "dispatcherThreads";
+  static final String GRAVITINO_EVENT_LISTENER_OVERFLOW_POLICY = "overflowPolicy";
+  static final String GRAVITINO_EVENT_LISTENER_BLOCK_TIMEOUT_MS = "blockTimeoutMs";
   private static final Splitter splitter = Splitter.on(",");
   private static final Joiner DOT = Joiner.on(".");
 
   private int queueCapacity;
   private int dispatcherJoinSeconds;
+  private int batchSize;
+  private int dispatcherThreads;
+  private AsyncQueueListener.OverflowPolicy overflowPolicy;
+  private long blockTimeoutMs;
   private List<EventListenerPlugin> eventListeners;
+  private EventBus eventBus;
 
   public void init(Map<String, String> properties) {
     EventListenerConfig config = new EventListenerConfig(properties);
     this.queueCapacity = config.get(EventListenerConfig.QUEUE_CAPACITY);
     this.dispatcherJoinSeconds = config.get(EventListenerConfig.DISPATCHER_JOIN_SECONDS);
+    this.batchSize = config.get(EventListenerConfig.BATCH_SIZE);
+    this.dispatcherThreads = config.get(EventListenerConfig.DISPATCHER_THREADS);
+    this.overflowPolicy =
+        AsyncQueueListener.OverflowPolicy.valueOf(
+            config.get(EventListenerConfig.OVERFLOW_POLICY).toUpperCase(Locale.ROOT));
+    this.blockTimeoutMs = config.get(EventListenerConfig.BLOCK_TIMEOUT_MS);
 
     String eventListenerNames = config.get(EventListenerConfig.LISTENER_NAMES);
     Map<String, EventListenerPlugin> userEventListenerPlugins =
@@ -95,12 +111,19 @@ public class EventListenerManager {
     eventListeners.stream().forEach(listener -> listener.stop());
   }
 
-  public EventBus createEventBus() {
-    return new EventBus(eventListeners);
+  public synchronized EventBus createEventBus() {
+    if (eventBus == null) {
+      this.eventBus = new EventBus(eventListeners);
+    }
+    return eventBus;
   }
 
-  public void addEventListener(String listenerName, EventListenerPlugin listener) {
+  public synchronized void addEventListener(String listenerName, EventListenerPlugin listener) {
     eventListeners.add(new EventListenerPluginWrapper(listenerName, listener));
+    // The dispatch table of the created event bus is built from the previous listeners.
+    if (eventBus != null) {
+      eventBus.resetDispatchTable();
+    }
   }
 
   private List<EventListenerPlugin> assembleEventListeners(
@@ -117,11 +140,9 @@ public class EventListenerManager {
                     case SYNC:
                       return new EventListenerPluginWrapper(listenerName, listener);
                     case ASYNC_ISOLATED:
-                      return new AsyncQueueListener(
+                      return createAsyncQueueListener(
                           ImmutableList.of(new EventListenerPluginWrapper(listenerName, listener)),
-                          listenerName,
-                          queueCapacity,
-                          dispatcherJoinSeconds);
+                          listenerName);
                     case ASYNC_SHARED:
                       sharedQueueListeners.add(
                           new EventListenerPluginWrapper(listenerName, listener));
@@ -134,13 +155,24 @@ public class EventListenerManager {
             .collect(Collectors.toList());
 
     if (!sharedQueueListeners.isEmpty()) {
-      listeners.add(
-          new AsyncQueueListener(
-              sharedQueueListeners, "default", queueCapacity, dispatcherJoinSeconds));
+      listeners.add(createAsyncQueueListener(sharedQueueListeners, "default"));
     }
     return listeners;
   }
 
+  private AsyncQueueListener createAsyncQueueListener(
+      List<EventListenerPlugin> listeners, String name) {
+    return new AsyncQueueListener(
+        listeners,
+        name,
+        queueCapacity,
+        dispatcherJoinSeconds,
+        batchSize,
+        dispatcherThreads,
+        overflowPolicy,
+        blockTimeoutMs);
+  }
+
   private EventListenerPlugin loadUserEventListenerPlugin(
       String listenerName, Map<String, String> config) {
     LOG.info("EventListener:{}, config:{}.", listenerName, config);
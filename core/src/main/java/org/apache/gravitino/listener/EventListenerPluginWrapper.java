@@ -20,7 +20,9 @@
 package org.apache.gravitino.listener;
 
 import com.google.common.annotations.VisibleForTesting;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import org.apache.gravitino.exceptions.ForbiddenException;
 import org.apache.gravitino.listener.api.EventListenerPlugin;
 import org.apache.gravitino.listener.api.event.BaseEvent;
@@ -37,10 +39,12 @@ public class EventListenerPluginWrapper implements EventListenerPlugin {
   private static final Logger LOG = LoggerFactory.getLogger(EventListenerPluginWrapper.class);
   private String listenerName;
   private EventListenerPlugin userEventListener;
+  private final boolean batchSupported;
 
   public EventListenerPluginWrapper(String listenerName, EventListenerPlugin userEventListener) {
     this.listenerName = listenerName;
     this.userEventListener = userEventListener;
+    this.batchSupported = overridesOnPostEvents(userEventListener);
   }
 
   @Override
@@ -74,6 +78,23 @@ public class EventListenerPluginWrapper implements EventListenerPlugin {
     }
   }
 
+  @Override
+  public void onPostEvents(List<Event> events) {
+    // Dispatch the events one by one to isolate the failure of each event if the user event
+    // listener doesn't process the events in batch.
+    if (!batchSupported) {
+      events.forEach(this::onPostEvent);
+      return;
+    }
+
+    try {
+      userEventListener.onPostEvents(events);
+    } catch (Exception e) {
+      LOG.warn(
+          "Event listener {} process {} events in batch failed,", listenerName, events.size(), e);
+    }
+  }
+
   @Override
   public void onPreEvent(PreEvent preEvent) {
     try {
@@ -94,11 +115,25 @@ public class EventListenerPluginWrapper implements EventListenerPlugin {
     }
   }
 
+  @Override
+  public Set<Class<? extends BaseEvent>> subscribedEvents() {
+    return userEventListener.subscribedEvents();
+  }
+
   @VisibleForTesting
   EventListenerPlugin getUserEventListener() {
     return userEventListener;
   }
 
+  private static boolean overridesOnPostEvents(EventListenerPlugin listener) {
+    try {
+      return listener.getClass().getMethod("onPostEvents", List.class).getDeclaringClass()
+          != EventListenerPlugin.class;
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
   private void printExceptionInEventProcess(String listenerName, BaseEvent baseEvent, Exception e) {
     LOG.warn(
         "Event listener {} process event {} failed,",
@@ -68,30 +68,40 @@ public class FilesetEventDispatcher implements FilesetDispatcher {
 
   @Override
   public NameIdentifier[] listFilesets(Namespace namespace) throws NoSuchSchemaException {
-    eventBus.dispatchEvent(new ListFilesetPreEvent(PrincipalUtils.getCurrentUserName(), namespace));
+    eventBus.dispatchEvent(
+        ListFilesetPreEvent.class,
+        () -> new ListFilesetPreEvent(PrincipalUtils.getCurrentUserName(), namespace));
     try {
       NameIdentifier[] nameIdentifiers = dispatcher.listFilesets(namespace);
-      eventBus.dispatchEvent(new ListFilesetEvent(PrincipalUtils.getCurrentUserName(), namespace));
+      eventBus.dispatchEvent(
+          ListFilesetEvent.class,
+          () -> new ListFilesetEvent(PrincipalUtils.getCurrentUserName(), namespace));
       return nameIdentifiers;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new ListFilesetFailureEvent(PrincipalUtils.getCurrentUserName(), namespace, e));
+          ListFilesetFailureEvent.class,
+          () -> new ListFilesetFailureEvent(PrincipalUtils.getCurrentUserName(), namespace, e));
       throw e;
     }
   }
 
   @Override
   public Fileset loadFileset(NameIdentifier ident) throws NoSuchFilesetException {
-    eventBus.dispatchEvent(new LoadFilesetPreEvent(PrincipalUtils.getCurrentUserName(), ident));
+    eventBus.dispatchEvent(
+        LoadFilesetPreEvent.class,
+        () -> new LoadFilesetPreEvent(PrincipalUtils.getCurrentUserName(), ident));
     try {
       Fileset fileset = dispatcher.loadFileset(ident);
       eventBus.dispatchEvent(
-          new LoadFilesetEvent(
-              PrincipalUtils.getCurrentUserName(), ident, new FilesetInfo(fileset)));
+          LoadFilesetEvent.class,
+          () ->
+              new LoadFilesetEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, new FilesetInfo(fileset)));
       return fileset;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new LoadFilesetFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
+          LoadFilesetFailureEvent.class,
+          () -> new LoadFilesetFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
       throw e;
     }
   }
@@ -107,20 +117,27 @@ public class FilesetEventDispatcher implements FilesetDispatcher {
     FilesetInfo createFileRequest =
         new FilesetInfo(ident.name(), comment, type, storageLocation, properties, null);
     eventBus.dispatchEvent(
-        new CreateFilesetPreEvent(PrincipalUtils.getCurrentUserName(), ident, createFileRequest));
+        CreateFilesetPreEvent.class,
+        () ->
+            new CreateFilesetPreEvent(
+                PrincipalUtils.getCurrentUserName(), ident, createFileRequest));
     try {
       Fileset fileset = dispatcher.createFileset(ident, comment, type, storageLocation, properties);
       eventBus.dispatchEvent(
-          new CreateFilesetEvent(
-              PrincipalUtils.getCurrentUserName(), ident, new FilesetInfo(fileset)));
+          CreateFilesetEvent.class,
+          () ->
+              new CreateFilesetEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, new FilesetInfo(fileset)));
       return fileset;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new CreateFilesetFailureEvent(
-              PrincipalUtils.getCurrentUserName(),
-              ident,
-              e,
-              new FilesetInfo(ident.name(), comment, type, storageLocation, properties, null)));
+          CreateFilesetFailureEvent.class,
+          () ->
+              new CreateFilesetFailureEvent(
+                  PrincipalUtils.getCurrentUserName(),
+                  ident,
+                  e,
+                  new FilesetInfo(ident.name(), comment, type, storageLocation, properties, null)));
       throw e;
     }
   }
@@ -129,31 +146,40 @@ public class FilesetEventDispatcher implements FilesetDispatcher {
   public Fileset alterFileset(NameIdentifier ident, FilesetChange... changes)
       throws NoSuchFilesetException, IllegalArgumentException {
     eventBus.dispatchEvent(
-        new AlterFilesetPreEvent(PrincipalUtils.getCurrentUserName(), ident, changes));
+        AlterFilesetPreEvent.class,
+        () -> new AlterFilesetPreEvent(PrincipalUtils.getCurrentUserName(), ident, changes));
     try {
       Fileset fileset = dispatcher.alterFileset(ident, changes);
       eventBus.dispatchEvent(
-          new AlterFilesetEvent(
-              PrincipalUtils.getCurrentUserName(), ident, changes, new FilesetInfo(fileset)));
+          AlterFilesetEvent.class,
+          () ->
+              new AlterFilesetEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, changes, new FilesetInfo(fileset)));
       return fileset;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new AlterFilesetFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e, changes));
+          AlterFilesetFailureEvent.class,
+          () ->
+              new AlterFilesetFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e, changes));
       throw e;
     }
   }
 
   @Override
   public boolean dropFileset(NameIdentifier ident) {
-    eventBus.dispatchEvent(new DropFilesetPreEvent(PrincipalUtils.getCurrentUserName(), ident));
+    eventBus.dispatchEvent(
+        DropFilesetPreEvent.class,
+        () -> new DropFilesetPreEvent(PrincipalUtils.getCurrentUserName(), ident));
     try {
       boolean isExists = dispatcher.dropFileset(ident);
       eventBus.dispatchEvent(
-          new DropFilesetEvent(PrincipalUtils.getCurrentUserName(), ident, isExists));
+          DropFilesetEvent.class,
+          () -> new DropFilesetEvent(PrincipalUtils.getCurrentUserName(), ident, isExists));
       return isExists;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new DropFilesetFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
+          DropFilesetFailureEvent.class,
+          () -> new DropFilesetFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
       throw e;
     }
   }
@@ -162,7 +188,8 @@ public class FilesetEventDispatcher implements FilesetDispatcher {
   public String getFileLocation(NameIdentifier ident, String subPath)
       throws NoSuchFilesetException {
     eventBus.dispatchEvent(
-        new GetFileLocationPreEvent(PrincipalUtils.getCurrentUserName(), ident, subPath));
+        GetFileLocationPreEvent.class,
+        () -> new GetFileLocationPreEvent(PrincipalUtils.getCurrentUserName(), ident, subPath));
     try {
       String actualFileLocation = dispatcher.getFileLocation(ident, subPath);
       // get the audit info from the thread local context
@@ -172,16 +199,21 @@ public class FilesetEventDispatcher implements FilesetDispatcher {
         builder.putAll(callerContext.context());
       }
       eventBus.dispatchEvent(
-          new GetFileLocationEvent(
-              PrincipalUtils.getCurrentUserName(),
-              ident,
-              actualFileLocation,
-              subPath,
-              builder.build()));
+          GetFileLocationEvent.class,
+          () ->
+              new GetFileLocationEvent(
+                  PrincipalUtils.getCurrentUserName(),
+                  ident,
+                  actualFileLocation,
+                  subPath,
+                  builder.build()));
       return actualFileLocation;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new GetFileLocationFailureEvent(PrincipalUtils.getCurrentUserName(), ident, subPath, e));
+          GetFileLocationFailureEvent.class,
+          () ->
+              new GetFileLocationFailureEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, subPath, e));
       throw e;
     }
   }
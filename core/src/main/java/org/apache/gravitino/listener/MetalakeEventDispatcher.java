@@ -70,29 +70,40 @@ public class MetalakeEventDispatcher implements MetalakeDispatcher {
 
   @Override
   public Metalake[] listMetalakes() {
-    eventBus.dispatchEvent(new ListMetalakePreEvent(PrincipalUtils.getCurrentUserName()));
+    eventBus.dispatchEvent(
+        ListMetalakePreEvent.class,
+        () -> new ListMetalakePreEvent(PrincipalUtils.getCurrentUserName()));
     try {
       Metalake[] metalakes = dispatcher.listMetalakes();
-      eventBus.dispatchEvent(new ListMetalakeEvent(PrincipalUtils.getCurrentUserName()));
+      eventBus.dispatchEvent(
+          ListMetalakeEvent.class,
+          () -> new ListMetalakeEvent(PrincipalUtils.getCurrentUserName()));
       return metalakes;
     } catch (Exception e) {
-      eventBus.dispatchEvent(new ListMetalakeFailureEvent(PrincipalUtils.getCurrentUserName(), e));
+      eventBus.dispatchEvent(
+          ListMetalakeFailureEvent.class,
+          () -> new ListMetalakeFailureEvent(PrincipalUtils.getCurrentUserName(), e));
       throw e;
     }
   }
 
   @Override
   public Metalake loadMetalake(NameIdentifier ident) throws NoSuchMetalakeException {
-    eventBus.dispatchEvent(new LoadMetalakePreEvent(PrincipalUtils.getCurrentUserName(), ident));
+    eventBus.dispatchEvent(
+        LoadMetalakePreEvent.class,
+        () -> new LoadMetalakePreEvent(PrincipalUtils.getCurrentUserName(), ident));
     try {
       Metalake metalake = dispatcher.loadMetalake(ident);
       eventBus.dispatchEvent(
-          new LoadMetalakeEvent(
-              PrincipalUtils.getCurrentUserName(), ident, new MetalakeInfo(metalake)));
+          LoadMetalakeEvent.class,
+          () ->
+              new LoadMetalakeEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, new MetalakeInfo(metalake)));
       return metalake;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new LoadMetalakeFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
+          LoadMetalakeFailureEvent.class,
+          () -> new LoadMetalakeFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
       throw e;
     }
   }
@@ -108,19 +119,25 @@ public class MetalakeEventDispatcher implements MetalakeDispatcher {
       throws MetalakeAlreadyExistsException {
     MetalakeInfo createMetalakeRequest = new MetalakeInfo(ident.name(), comment, properties, null);
     eventBus.dispatchEvent(
-        new CreateMetalakePreEvent(
-            PrincipalUtils.getCurrentUserName(), ident, createMetalakeRequest));
+        CreateMetalakePreEvent.class,
+        () ->
+            new CreateMetalakePreEvent(
+                PrincipalUtils.getCurrentUserName(), ident, createMetalakeRequest));
     try {
       Metalake metalake = dispatcher.createMetalake(ident, comment, properties);
       eventBus.dispatchEvent(
-          new CreateMetalakeEvent(
-              PrincipalUtils.getCurrentUserName(), ident, new MetalakeInfo(metalake)));
+          CreateMetalakeEvent.class,
+          () ->
+              new CreateMetalakeEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, new MetalakeInfo(metalake)));
       return metalake;
     } catch (Exception e) {
       MetalakeInfo metalakeInfo = new MetalakeInfo(ident.name(), comment, properties, null);
       eventBus.dispatchEvent(
-          new CreateMetalakeFailureEvent(
-              PrincipalUtils.getCurrentUserName(), ident, e, metalakeInfo));
+          CreateMetalakeFailureEvent.class,
+          () ->
+              new CreateMetalakeFailureEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, e, metalakeInfo));
       throw e;
     }
   }
@@ -129,16 +146,22 @@ public class MetalakeEventDispatcher implements MetalakeDispatcher {
   public Metalake alterMetalake(NameIdentifier ident, MetalakeChange... changes)
       throws NoSuchMetalakeException, IllegalArgumentException {
     eventBus.dispatchEvent(
-        new AlterMetalakePreEvent(PrincipalUtils.getCurrentUserName(), ident, changes));
+        AlterMetalakePreEvent.class,
+        () -> new AlterMetalakePreEvent(PrincipalUtils.getCurrentUserName(), ident, changes));
     try {
       Metalake metalake = dispatcher.alterMetalake(ident, changes);
       eventBus.dispatchEvent(
-          new AlterMetalakeEvent(
-              PrincipalUtils.getCurrentUserName(), ident, changes, new MetalakeInfo(metalake)));
+          AlterMetalakeEvent.class,
+          () ->
+              new AlterMetalakeEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, changes, new MetalakeInfo(metalake)));
       return metalake;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new AlterMetalakeFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e, changes));
+          AlterMetalakeFailureEvent.class,
+          () ->
+              new AlterMetalakeFailureEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, e, changes));
       throw e;
     }
   }
@@ -146,15 +169,19 @@ public class MetalakeEventDispatcher implements MetalakeDispatcher {
   @Override
   public boolean dropMetalake(NameIdentifier ident, boolean force)
       throws NonEmptyEntityException, MetalakeInUseException {
-    eventBus.dispatchEvent(new DropMetalakePreEvent(PrincipalUtils.getCurrentUserName(), ident));
+    eventBus.dispatchEvent(
+        DropMetalakePreEvent.class,
+        () -> new DropMetalakePreEvent(PrincipalUtils.getCurrentUserName(), ident));
     try {
       boolean isExists = dispatcher.dropMetalake(ident, force);
       eventBus.dispatchEvent(
-          new DropMetalakeEvent(PrincipalUtils.getCurrentUserName(), ident, isExists));
+          DropMetalakeEvent.class,
+          () -> new DropMetalakeEvent(PrincipalUtils.getCurrentUserName(), ident, isExists));
       return isExists;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new DropMetalakeFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
+          DropMetalakeFailureEvent.class,
+          () -> new DropMetalakeFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
       throw e;
     }
   }
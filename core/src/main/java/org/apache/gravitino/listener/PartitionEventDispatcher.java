@@ -73,19 +73,25 @@ public class PartitionEventDispatcher implements PartitionDispatcher {
   public Partition addPartition(NameIdentifier ident, Partition partition)
       throws NoSuchPartitionException, PartitionAlreadyExistsException {
     eventBus.dispatchEvent(
-        new AddPartitionPreEvent(
-            PrincipalUtils.getCurrentUserName(), ident, PartitionInfo.of(partition)));
+        AddPartitionPreEvent.class,
+        () ->
+            new AddPartitionPreEvent(
+                PrincipalUtils.getCurrentUserName(), ident, PartitionInfo.of(partition)));
     try {
       Partition newPartition = dispatcher.addPartition(ident, partition);
       eventBus.dispatchEvent(
-          new AddPartitionEvent(
-              PrincipalUtils.getCurrentUserName(), ident, PartitionInfo.of(newPartition)));
+          AddPartitionEvent.class,
+          () ->
+              new AddPartitionEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, PartitionInfo.of(newPartition)));
       return newPartition;
     } catch (Exception e) {
       PartitionInfo createdPartitionInfo = PartitionInfo.of(partition);
       eventBus.dispatchEvent(
-          new AddPartitionFailureEvent(
-              PrincipalUtils.getCurrentUserName(), ident, e, createdPartitionInfo));
+          AddPartitionFailureEvent.class,
+          () ->
+              new AddPartitionFailureEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, e, createdPartitionInfo));
       throw e;
     }
   }
@@ -94,17 +100,22 @@ public class PartitionEventDispatcher implements PartitionDispatcher {
   public Partition getPartition(NameIdentifier ident, String partitionName)
       throws NoSuchPartitionException {
     eventBus.dispatchEvent(
-        new GetPartitionPreEvent(PrincipalUtils.getCurrentUserName(), ident, partitionName));
+        GetPartitionPreEvent.class,
+        () -> new GetPartitionPreEvent(PrincipalUtils.getCurrentUserName(), ident, partitionName));
     try {
       Partition partition = dispatcher.getPartition(ident, partitionName);
       eventBus.dispatchEvent(
-          new GetPartitionEvent(
-              PrincipalUtils.getCurrentUserName(), ident, PartitionInfo.of(partition)));
+          GetPartitionEvent.class,
+          () ->
+              new GetPartitionEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, PartitionInfo.of(partition)));
       return partition;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new GetPartitionFailureEvent(
-              PrincipalUtils.getCurrentUserName(), ident, e, partitionName));
+          GetPartitionFailureEvent.class,
+          () ->
+              new GetPartitionFailureEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, e, partitionName));
       throw e;
     }
   }
@@ -112,31 +123,41 @@ public class PartitionEventDispatcher implements PartitionDispatcher {
   @Override
   public boolean dropPartition(NameIdentifier ident, String partitionName) {
     eventBus.dispatchEvent(
-        new DropPartitionPreEvent(PrincipalUtils.getCurrentUserName(), ident, partitionName));
+        DropPartitionPreEvent.class,
+        () -> new DropPartitionPreEvent(PrincipalUtils.getCurrentUserName(), ident, partitionName));
     try {
       boolean isExists = dispatcher.dropPartition(ident, partitionName);
       eventBus.dispatchEvent(
-          new DropPartitionEvent(
-              PrincipalUtils.getCurrentUserName(), ident, isExists, partitionName));
+          DropPartitionEvent.class,
+          () ->
+              new DropPartitionEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, isExists, partitionName));
       return isExists;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new DropPartitionFailureEvent(
-              PrincipalUtils.getCurrentUserName(), ident, e, partitionName));
+          DropPartitionFailureEvent.class,
+          () ->
+              new DropPartitionFailureEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, e, partitionName));
       throw e;
     }
   }
 
   @Override
   public Partition[] listPartitions(NameIdentifier ident) {
-    eventBus.dispatchEvent(new ListPartitionPreEvent(PrincipalUtils.getCurrentUserName(), ident));
+    eventBus.dispatchEvent(
+        ListPartitionPreEvent.class,
+        () -> new ListPartitionPreEvent(PrincipalUtils.getCurrentUserName(), ident));
     try {
       Partition[] listPartitions = dispatcher.listPartitions(ident);
-      eventBus.dispatchEvent(new ListPartitionEvent(PrincipalUtils.getCurrentUserName(), ident));
+      eventBus.dispatchEvent(
+          ListPartitionEvent.class,
+          () -> new ListPartitionEvent(PrincipalUtils.getCurrentUserName(), ident));
       return listPartitions;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new ListPartitionFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
+          ListPartitionFailureEvent.class,
+          () -> new ListPartitionFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
       throw e;
     }
   }
@@ -144,15 +165,18 @@ public class PartitionEventDispatcher implements PartitionDispatcher {
   @Override
   public String[] listPartitionNames(NameIdentifier ident) {
     eventBus.dispatchEvent(
-        new ListPartitionNamesPreEvent(PrincipalUtils.getCurrentUserName(), ident));
+        ListPartitionNamesPreEvent.class,
+        () -> new ListPartitionNamesPreEvent(PrincipalUtils.getCurrentUserName(), ident));
     try {
       String[] listPartitionNames = dispatcher.listPartitionNames(ident);
       eventBus.dispatchEvent(
-          new ListPartitionNamesEvent(PrincipalUtils.getCurrentUserName(), ident));
+          ListPartitionNamesEvent.class,
+          () -> new ListPartitionNamesEvent(PrincipalUtils.getCurrentUserName(), ident));
       return listPartitionNames;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new ListPartitionNamesFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
+          ListPartitionNamesFailureEvent.class,
+          () -> new ListPartitionNamesFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
       throw e;
     }
   }
@@ -162,13 +186,17 @@ public class PartitionEventDispatcher implements PartitionDispatcher {
     try {
       boolean isExists = dispatcher.partitionExists(ident, partitionName);
       eventBus.dispatchEvent(
-          new PartitionExistsEvent(
-              PrincipalUtils.getCurrentUserName(), ident, isExists, partitionName));
+          PartitionExistsEvent.class,
+          () ->
+              new PartitionExistsEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, isExists, partitionName));
       return isExists;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new PartitionExistsFailureEvent(
-              PrincipalUtils.getCurrentUserName(), ident, e, partitionName));
+          PartitionExistsFailureEvent.class,
+          () ->
+              new PartitionExistsFailureEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, e, partitionName));
       throw e;
     }
   }
@@ -176,17 +204,23 @@ public class PartitionEventDispatcher implements PartitionDispatcher {
   @Override
   public boolean purgePartition(NameIdentifier ident, String partitionName) {
     eventBus.dispatchEvent(
-        new PurgePartitionPreEvent(PrincipalUtils.getCurrentUserName(), ident, partitionName));
+        PurgePartitionPreEvent.class,
+        () ->
+            new PurgePartitionPreEvent(PrincipalUtils.getCurrentUserName(), ident, partitionName));
     try {
       boolean isExists = dispatcher.purgePartition(ident, partitionName);
       eventBus.dispatchEvent(
-          new PurgePartitionEvent(
-              PrincipalUtils.getCurrentUserName(), ident, isExists, partitionName));
+          PurgePartitionEvent.class,
+          () ->
+              new PurgePartitionEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, isExists, partitionName));
       return isExists;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new PurgePartitionFailureEvent(
-              PrincipalUtils.getCurrentUserName(), ident, e, partitionName));
+          PurgePartitionFailureEvent.class,
+          () ->
+              new PurgePartitionFailureEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, e, partitionName));
       throw e;
     }
   }
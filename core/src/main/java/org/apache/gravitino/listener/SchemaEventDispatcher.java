@@ -72,14 +72,19 @@ public class SchemaEventDispatcher implements SchemaDispatcher {
 
   @Override
   public NameIdentifier[] listSchemas(Namespace namespace) throws NoSuchCatalogException {
-    eventBus.dispatchEvent(new ListSchemaPreEvent(PrincipalUtils.getCurrentUserName(), namespace));
+    eventBus.dispatchEvent(
+        ListSchemaPreEvent.class,
+        () -> new ListSchemaPreEvent(PrincipalUtils.getCurrentUserName(), namespace));
     try {
       NameIdentifier[] nameIdentifiers = dispatcher.listSchemas(namespace);
-      eventBus.dispatchEvent(new ListSchemaEvent(PrincipalUtils.getCurrentUserName(), namespace));
+      eventBus.dispatchEvent(
+          ListSchemaEvent.class,
+          () -> new ListSchemaEvent(PrincipalUtils.getCurrentUserName(), namespace));
       return nameIdentifiers;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new ListSchemaFailureEvent(PrincipalUtils.getCurrentUserName(), namespace, e));
+          ListSchemaFailureEvent.class,
+          () -> new ListSchemaFailureEvent(PrincipalUtils.getCurrentUserName(), namespace, e));
       throw e;
     }
   }
@@ -94,32 +99,45 @@ public class SchemaEventDispatcher implements SchemaDispatcher {
       throws NoSuchCatalogException, SchemaAlreadyExistsException {
     SchemaInfo createSchemaRequest = new SchemaInfo(ident.name(), comment, properties, null);
     eventBus.dispatchEvent(
-        new CreateSchemaPreEvent(PrincipalUtils.getCurrentUserName(), ident, createSchemaRequest));
+        CreateSchemaPreEvent.class,
+        () ->
+            new CreateSchemaPreEvent(
+                PrincipalUtils.getCurrentUserName(), ident, createSchemaRequest));
     try {
       Schema schema = dispatcher.createSchema(ident, comment, properties);
       eventBus.dispatchEvent(
-          new CreateSchemaEvent(
-              PrincipalUtils.getCurrentUserName(), ident, new SchemaInfo(schema)));
+          CreateSchemaEvent.class,
+          () ->
+              new CreateSchemaEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, new SchemaInfo(schema)));
       return schema;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new CreateSchemaFailureEvent(
-              PrincipalUtils.getCurrentUserName(), ident, e, createSchemaRequest));
+          CreateSchemaFailureEvent.class,
+          () ->
+              new CreateSchemaFailureEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, e, createSchemaRequest));
       throw e;
     }
   }
 
   @Override
   public Schema loadSchema(NameIdentifier ident) throws NoSuchSchemaException {
-    eventBus.dispatchEvent(new LoadSchemaPreEvent(PrincipalUtils.getCurrentUserName(), ident));
+    eventBus.dispatchEvent(
+        LoadSchemaPreEvent.class,
+        () -> new LoadSchemaPreEvent(PrincipalUtils.getCurrentUserName(), ident));
     try {
       Schema schema = dispatcher.loadSchema(ident);
       eventBus.dispatchEvent(
-          new LoadSchemaEvent(PrincipalUtils.getCurrentUserName(), ident, new SchemaInfo(schema)));
+          LoadSchemaEvent.class,
+          () ->
+              new LoadSchemaEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, new SchemaInfo(schema)));
       return schema;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new LoadSchemaFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
+          LoadSchemaFailureEvent.class,
+          () -> new LoadSchemaFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
       throw e;
     }
   }
@@ -128,31 +146,40 @@ public class SchemaEventDispatcher implements SchemaDispatcher {
   public Schema alterSchema(NameIdentifier ident, SchemaChange... changes)
       throws NoSuchSchemaException {
     eventBus.dispatchEvent(
-        new AlterSchemaPreEvent(PrincipalUtils.getCurrentUserName(), ident, changes));
+        AlterSchemaPreEvent.class,
+        () -> new AlterSchemaPreEvent(PrincipalUtils.getCurrentUserName(), ident, changes));
     try {
       Schema schema = dispatcher.alterSchema(ident, changes);
       eventBus.dispatchEvent(
-          new AlterSchemaEvent(
-              PrincipalUtils.getCurrentUserName(), ident, changes, new SchemaInfo(schema)));
+          AlterSchemaEvent.class,
+          () ->
+              new AlterSchemaEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, changes, new SchemaInfo(schema)));
       return schema;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new AlterSchemaFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e, changes));
+          AlterSchemaFailureEvent.class,
+          () ->
+              new AlterSchemaFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e, changes));
       throw e;
     }
   }
 
   @Override
   public boolean dropSchema(NameIdentifier ident, boolean cascade) throws NonEmptySchemaException {
-    eventBus.dispatchEvent(new DropSchemaPreEvent(PrincipalUtils.getCurrentUserName(), ident));
+    eventBus.dispatchEvent(
+        DropSchemaPreEvent.class,
+        () -> new DropSchemaPreEvent(PrincipalUtils.getCurrentUserName(), ident));
     try {
       boolean isExists = dispatcher.dropSchema(ident, cascade);
       eventBus.dispatchEvent(
-          new DropSchemaEvent(PrincipalUtils.getCurrentUserName(), ident, isExists, cascade));
+          DropSchemaEvent.class,
+          () -> new DropSchemaEvent(PrincipalUtils.getCurrentUserName(), ident, isExists, cascade));
       return isExists;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new DropSchemaFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e, cascade));
+          DropSchemaFailureEvent.class,
+          () -> new DropSchemaFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e, cascade));
       throw e;
     }
   }
@@ -80,29 +80,39 @@ public class TableEventDispatcher implements TableDispatcher {
 
   @Override
   public NameIdentifier[] listTables(Namespace namespace) throws NoSuchSchemaException {
-    eventBus.dispatchEvent(new ListTablePreEvent(PrincipalUtils.getCurrentUserName(), namespace));
+    eventBus.dispatchEvent(
+        ListTablePreEvent.class,
+        () -> new ListTablePreEvent(PrincipalUtils.getCurrentUserName(), namespace));
     try {
       NameIdentifier[] nameIdentifiers = dispatcher.listTables(namespace);
-      eventBus.dispatchEvent(new ListTableEvent(PrincipalUtils.getCurrentUserName(), namespace));
+      eventBus.dispatchEvent(
+          ListTableEvent.class,
+          () -> new ListTableEvent(PrincipalUtils.getCurrentUserName(), namespace));
       return nameIdentifiers;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new ListTableFailureEvent(PrincipalUtils.getCurrentUserName(), namespace, e));
+          ListTableFailureEvent.class,
+          () -> new ListTableFailureEvent(PrincipalUtils.getCurrentUserName(), namespace, e));
       throw e;
     }
   }
 
   @Override
   public Table loadTable(NameIdentifier ident) throws NoSuchTableException {
-    eventBus.dispatchEvent(new LoadTablePreEvent(PrincipalUtils.getCurrentUserName(), ident));
+    eventBus.dispatchEvent(
+        LoadTablePreEvent.class,
+        () -> new LoadTablePreEvent(PrincipalUtils.getCurrentUserName(), ident));
     try {
       Table table = dispatcher.loadTable(ident);
       eventBus.dispatchEvent(
-          new LoadTableEvent(PrincipalUtils.getCurrentUserName(), ident, new TableInfo(table)));
+          LoadTableEvent.class,
+          () ->
+              new LoadTableEvent(PrincipalUtils.getCurrentUserName(), ident, new TableInfo(table)));
       return table;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new LoadTableFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
+          LoadTableFailureEvent.class,
+          () -> new LoadTableFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
       throw e;
     }
   }
@@ -130,18 +140,26 @@ public class TableEventDispatcher implements TableDispatcher {
             indexes,
             null);
     eventBus.dispatchEvent(
-        new CreateTablePreEvent(PrincipalUtils.getCurrentUserName(), ident, createTableRequest));
+        CreateTablePreEvent.class,
+        () ->
+            new CreateTablePreEvent(
+                PrincipalUtils.getCurrentUserName(), ident, createTableRequest));
     try {
       Table table =
           dispatcher.createTable(
               ident, columns, comment, properties, partitions, distribution, sortOrders, indexes);
       eventBus.dispatchEvent(
-          new CreateTableEvent(PrincipalUtils.getCurrentUserName(), ident, new TableInfo(table)));
+          CreateTableEvent.class,
+          () ->
+              new CreateTableEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, new TableInfo(table)));
       return table;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new CreateTableFailureEvent(
-              PrincipalUtils.getCurrentUserName(), ident, e, createTableRequest));
+          CreateTableFailureEvent.class,
+          () ->
+              new CreateTableFailureEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, e, createTableRequest));
       throw e;
     }
   }
@@ -150,46 +168,58 @@ public class TableEventDispatcher implements TableDispatcher {
   public Table alterTable(NameIdentifier ident, TableChange... changes)
       throws NoSuchTableException, IllegalArgumentException {
     eventBus.dispatchEvent(
-        new AlterTablePreEvent(PrincipalUtils.getCurrentUserName(), ident, changes));
+        AlterTablePreEvent.class,
+        () -> new AlterTablePreEvent(PrincipalUtils.getCurrentUserName(), ident, changes));
     try {
       Table table = dispatcher.alterTable(ident, changes);
       eventBus.dispatchEvent(
-          new AlterTableEvent(
-              PrincipalUtils.getCurrentUserName(), ident, changes, new TableInfo(table)));
+          AlterTableEvent.class,
+          () ->
+              new AlterTableEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, changes, new TableInfo(table)));
       return table;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new AlterTableFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e, changes));
+          AlterTableFailureEvent.class,
+          () -> new AlterTableFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e, changes));
       throw e;
     }
   }
 
   @Override
   public boolean dropTable(NameIdentifier ident) {
-    eventBus.dispatchEvent(new DropTablePreEvent(PrincipalUtils.getCurrentUserName(), ident));
+    eventBus.dispatchEvent(
+        DropTablePreEvent.class,
+        () -> new DropTablePreEvent(PrincipalUtils.getCurrentUserName(), ident));
     try {
       boolean isExists = dispatcher.dropTable(ident);
       eventBus.dispatchEvent(
-          new DropTableEvent(PrincipalUtils.getCurrentUserName(), ident, isExists));
+          DropTableEvent.class,
+          () -> new DropTableEvent(PrincipalUtils.getCurrentUserName(), ident, isExists));
       return isExists;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new DropTableFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
+          DropTableFailureEvent.class,
+          () -> new DropTableFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
       throw e;
     }
   }
 
   @Override
   public boolean purgeTable(NameIdentifier ident) {
-    eventBus.dispatchEvent(new PurgeTablePreEvent(PrincipalUtils.getCurrentUserName(), ident));
+    eventBus.dispatchEvent(
+        PurgeTablePreEvent.class,
+        () -> new PurgeTablePreEvent(PrincipalUtils.getCurrentUserName(), ident));
     try {
       boolean isExists = dispatcher.purgeTable(ident);
       eventBus.dispatchEvent(
-          new PurgeTableEvent(PrincipalUtils.getCurrentUserName(), ident, isExists));
+          PurgeTableEvent.class,
+          () -> new PurgeTableEvent(PrincipalUtils.getCurrentUserName(), ident, isExists));
       return isExists;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new PurgeTableFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
+          PurgeTableFailureEvent.class,
+          () -> new PurgeTableFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
       throw e;
     }
   }
@@ -152,6 +152,19 @@ public class TagEventDispatcher implements TagDispatcher {
     }
   }
 
+  @Override
+  public Tag[][] listTagsInfoForMetadataObjects(
+      String metalake, MetadataObject[] metadataObjects) {
+    // TODO: listTagsInfoForMetadataObjectsPreEvent
+    try {
+      // TODO: listTagsInfoForMetadataObjectsEvent
+      return dispatcher.listTagsInfoForMetadataObjects(metalake, metadataObjects);
+    } catch (Exception e) {
+      // TODO: listTagsInfoForMetadataObjectsFailureEvent
+      throw e;
+    }
+  }
+
   @Override
   public String[] associateTagsForMetadataObject(
       String metalake, MetadataObject metadataObject, String[] tagsToAdd, String[] tagsToRemove) {
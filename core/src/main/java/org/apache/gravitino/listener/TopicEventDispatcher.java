@@ -72,60 +72,78 @@ public class TopicEventDispatcher implements TopicDispatcher {
   public Topic alterTopic(NameIdentifier ident, TopicChange... changes)
       throws NoSuchTopicException, IllegalArgumentException {
     eventBus.dispatchEvent(
-        new AlterTopicPreEvent(PrincipalUtils.getCurrentUserName(), ident, changes));
+        AlterTopicPreEvent.class,
+        () -> new AlterTopicPreEvent(PrincipalUtils.getCurrentUserName(), ident, changes));
     try {
       Topic topic = dispatcher.alterTopic(ident, changes);
       eventBus.dispatchEvent(
-          new AlterTopicEvent(
-              PrincipalUtils.getCurrentUserName(), ident, changes, new TopicInfo(topic)));
+          AlterTopicEvent.class,
+          () ->
+              new AlterTopicEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, changes, new TopicInfo(topic)));
       return topic;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new AlterTopicFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e, changes));
+          AlterTopicFailureEvent.class,
+          () -> new AlterTopicFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e, changes));
       throw e;
     }
   }
 
   @Override
   public boolean dropTopic(NameIdentifier ident) {
-    eventBus.dispatchEvent(new DropTopicPreEvent(PrincipalUtils.getCurrentUserName(), ident));
+    eventBus.dispatchEvent(
+        DropTopicPreEvent.class,
+        () -> new DropTopicPreEvent(PrincipalUtils.getCurrentUserName(), ident));
     try {
       boolean isExists = dispatcher.dropTopic(ident);
       eventBus.dispatchEvent(
-          new DropTopicEvent(PrincipalUtils.getCurrentUserName(), ident, isExists));
+          DropTopicEvent.class,
+          () -> new DropTopicEvent(PrincipalUtils.getCurrentUserName(), ident, isExists));
       return isExists;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new DropTopicFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
+          DropTopicFailureEvent.class,
+          () -> new DropTopicFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
       throw e;
     }
   }
 
   @Override
   public NameIdentifier[] listTopics(Namespace namespace) throws NoSuchTopicException {
-    eventBus.dispatchEvent(new ListTopicPreEvent(PrincipalUtils.getCurrentUserName(), namespace));
+    eventBus.dispatchEvent(
+        ListTopicPreEvent.class,
+        () -> new ListTopicPreEvent(PrincipalUtils.getCurrentUserName(), namespace));
     try {
       NameIdentifier[] nameIdentifiers = dispatcher.listTopics(namespace);
-      eventBus.dispatchEvent(new ListTopicEvent(PrincipalUtils.getCurrentUserName(), namespace));
+      eventBus.dispatchEvent(
+          ListTopicEvent.class,
+          () -> new ListTopicEvent(PrincipalUtils.getCurrentUserName(), namespace));
       return nameIdentifiers;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new ListTopicFailureEvent(PrincipalUtils.getCurrentUserName(), namespace, e));
+          ListTopicFailureEvent.class,
+          () -> new ListTopicFailureEvent(PrincipalUtils.getCurrentUserName(), namespace, e));
       throw e;
     }
   }
 
   @Override
   public Topic loadTopic(NameIdentifier ident) throws NoSuchTopicException {
-    eventBus.dispatchEvent(new LoadTopicPreEvent(PrincipalUtils.getCurrentUserName(), ident));
+    eventBus.dispatchEvent(
+        LoadTopicPreEvent.class,
+        () -> new LoadTopicPreEvent(PrincipalUtils.getCurrentUserName(), ident));
     try {
       Topic topic = dispatcher.loadTopic(ident);
       eventBus.dispatchEvent(
-          new LoadTopicEvent(PrincipalUtils.getCurrentUserName(), ident, new TopicInfo(topic)));
+          LoadTopicEvent.class,
+          () ->
+              new LoadTopicEvent(PrincipalUtils.getCurrentUserName(), ident, new TopicInfo(topic)));
       return topic;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new LoadTopicFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
+          LoadTopicFailureEvent.class,
+          () -> new LoadTopicFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
       throw e;
     }
   }
@@ -141,16 +159,24 @@ public class TopicEventDispatcher implements TopicDispatcher {
       throws NoSuchTopicException, TopicAlreadyExistsException {
     TopicInfo createTopicRequest = new TopicInfo(ident.name(), comment, properties, null);
     eventBus.dispatchEvent(
-        new CreateTopicPreEvent(PrincipalUtils.getCurrentUserName(), ident, createTopicRequest));
+        CreateTopicPreEvent.class,
+        () ->
+            new CreateTopicPreEvent(
+                PrincipalUtils.getCurrentUserName(), ident, createTopicRequest));
     try {
       Topic topic = dispatcher.createTopic(ident, comment, dataLayout, properties);
       eventBus.dispatchEvent(
-          new CreateTopicEvent(PrincipalUtils.getCurrentUserName(), ident, new TopicInfo(topic)));
+          CreateTopicEvent.class,
+          () ->
+              new CreateTopicEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, new TopicInfo(topic)));
       return topic;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new CreateTopicFailureEvent(
-              PrincipalUtils.getCurrentUserName(), ident, e, createTopicRequest));
+          CreateTopicFailureEvent.class,
+          () ->
+              new CreateTopicFailureEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, e, createTopicRequest));
       throw e;
     }
   }
@@ -19,9 +19,13 @@
 
 package org.apache.gravitino.listener.api;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import org.apache.gravitino.annotation.DeveloperApi;
 import org.apache.gravitino.exceptions.ForbiddenException;
+import org.apache.gravitino.listener.api.event.BaseEvent;
 import org.apache.gravitino.listener.api.event.Event;
 import org.apache.gravitino.listener.api.event.PreEvent;
 
@@ -108,6 +112,22 @@ public interface EventListenerPlugin {
    */
   default void onPostEvent(Event postEvent) throws RuntimeException {}
 
+  /**
+   * Handle a batch of post-events generated after the completion of operations.
+   *
+   * <p>This method is only called in ASYNC modes, the asynchronous dispatcher drains the queued
+   * events and delivers the consecutive post events in one batch, which allows the listener to
+   * write to slow sinks efficiently. The events are in the order of being dispatched. The default
+   * implementation calls {@link #onPostEvent(Event)} for each event.
+   *
+   * @param postEvents The post events to be processed.
+   * @throws RuntimeException Indicates issues encountered during event processing, this has no
+   *     affect to the operation.
+   */
+  default void onPostEvents(List<Event> postEvents) throws RuntimeException {
+    postEvents.forEach(this::onPostEvent);
+  }
+
   /**
    * Handle pre-events generated before the operation.
    *
@@ -121,6 +141,23 @@ public interface EventListenerPlugin {
    */
   default void onPreEvent(PreEvent preEvent) throws ForbiddenException {}
 
+  /**
+   * Specifies the event classes the plugin subscribes to. An event is delivered to the plugin if it
+   * is an instance of any of the returned classes, so the plugin can subscribe to a group of events
+   * by their common super class, like {@link org.apache.gravitino.listener.api.event.TableEvent}
+   * or {@link PreEvent}. The events without any subscriber are not constructed at all, which saves
+   * the cost of building the event payloads.
+   *
+   * <p>The returned classes are cached by the event bus, so they should not change once the plugin
+   * is initialized. The default implementation returns an empty set, which means the plugin
+   * subscribes to all the events.
+   *
+   * @return The event classes the plugin subscribes to, or an empty set to subscribe to all events.
+   */
+  default Set<Class<? extends BaseEvent>> subscribedEvents() {
+    return Collections.emptySet();
+  }
+
   /**
    * Specifies the default operational mode for event processing by the plugin. The default
    * implementation is synchronous, but implementers can override this to utilize asynchronous
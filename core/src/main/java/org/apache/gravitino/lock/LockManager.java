@@ -51,8 +51,12 @@ public class LockManager {
 
   static final NameIdentifier ROOT = NameIdentifier.of("/");
 
+  // The time in milliseconds a tree lock is held before it's logged as a possible dead lock.
+  private static final long DEAD_LOCK_HOLD_MS = 30000;
+
   @VisibleForTesting TreeLockNode treeLockRootNode;
   final AtomicLong totalNodeCount = new AtomicLong(1);
+  final TreeLockStats stats = new TreeLockStats(totalNodeCount::get);
 
   // The maximum number of tree lock nodes to keep in memory. If the total node count is greater
   // than this value, we will do the cleanup.
@@ -111,9 +115,8 @@ public class LockManager {
 
     deadLockChecker.scheduleAtFixedRate(
         () -> {
-          LOG.info("Start to check the dead lock...");
-          checkDeadLock(treeLockRootNode);
-          LOG.info("Finish to check the dead lock...");
+          checkDeadLock();
+          stats.decay();
         },
         0,
         60,
@@ -121,27 +124,19 @@ public class LockManager {
   }
 
   /**
-   * Check the deadlock for the given root node.
-   *
-   * @param node The root node to check.
+   * Check the deadlock by the held tree locks, which are tracked when they are locked and unlocked
+   * rather than by walking the whole tree.
    */
-  void checkDeadLock(TreeLockNode node) {
-    // Check child first
-    node.getAllChildren().forEach(this::checkDeadLock);
-
-    // Check self
-    node.getHoldingThreadTimestamp()
-        .forEach(
-            (threadIdentifier, ts) -> {
-              // If the thread is holding the lock for more than 30 seconds, we will log it.
-              if (System.currentTimeMillis() - ts > 30000) {
-                LOG.warn(
-                    "Dead lock detected for thread with identifier {} on node {}, threads that holding the node: {} ",
-                    threadIdentifier,
-                    node,
-                    node.getHoldingThreadTimestamp());
-              }
-            });
+  void checkDeadLock() {
+    // If the thread is holding the lock for more than 30 seconds, we will log it.
+    for (TreeLockStats.HeldLock heldLock : stats.heldLocks(DEAD_LOCK_HOLD_MS)) {
+      LOG.warn(
+          "Dead lock detected for thread {} holding the tree lock {} with '{}' lock for {} ms",
+          heldLock.thread(),
+          heldLock.identifier(),
+          heldLock.lockType(),
+          heldLock.holdMs());
+    }
   }
 
   private void startNodeCleaner() {
@@ -246,7 +241,7 @@ public class LockManager {
       // Otherwise, there will be an unexpected result when using NameIdentifier.of("/").
       if (identifier == ROOT) {
         // The lock tree root node
-        return new TreeLock(treeLockNodes, identifier);
+        return new TreeLock(treeLockNodes, identifier, stats);
       }
 
       String[] levels = identifier.namespace().levels();
@@ -266,7 +261,7 @@ public class LockManager {
         lockNode = child;
       }
 
-      return new TreeLock(treeLockNodes, identifier);
+      return new TreeLock(treeLockNodes, identifier, stats);
     } catch (Exception e) {
       LOG.error("Failed to create tree lock {}", identifier, e);
       // Release reference if fails.
@@ -278,6 +273,15 @@ public class LockManager {
     }
   }
 
+  /**
+   * Get the contention statistics of the tree locks.
+   *
+   * @return The contention statistics of the tree locks.
+   */
+  public TreeLockStats stats() {
+    return stats;
+  }
+
   /**
    * Check if the total node count is greater than the maxTreeNodeInMemory, if so, we should throw
    * an exception.
@@ -19,9 +19,12 @@
 
 package org.apache.gravitino.lock;
 
+import java.util.Arrays;
 import java.util.Deque;
 import java.util.List;
 import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.gravitino.NameIdentifier;
 import org.slf4j.Logger;
@@ -80,11 +83,18 @@ public class TreeLock {
 
   // TreeLockNode that has been locked along with its lock type.
   private final Deque<Pair<TreeLockNode, LockType>> heldLocks = new ConcurrentLinkedDeque<>();
+  private final TreeLockStats stats;
   private LockType lockType;
 
-  TreeLock(List<TreeLockNode> lockNodes, NameIdentifier identifier) {
+  // The thread holding the tree lock and the time it's locked, which are read by the threads
+  // checking the long-held locks.
+  private volatile Thread holdingThread;
+  private volatile long lockedNanos;
+
+  TreeLock(List<TreeLockNode> lockNodes, NameIdentifier identifier, TreeLockStats stats) {
     this.lockNodes = lockNodes;
     this.identifier = identifier;
+    this.stats = stats;
   }
 
   /**
@@ -102,11 +112,11 @@ public class TreeLock {
       TreeLockNode treeLockNode = lockNodes.get(i);
       LockType type = i == length - 1 ? lockType : LockType.READ;
       try {
-        treeLockNode.lock(type);
+        if (!treeLockNode.tryLock(type)) {
+          waitForLock(treeLockNode, type, i);
+        }
         heldLocks.push(Pair.of(treeLockNode, type));
 
-        treeLockNode.addHoldingThreadTimestamp(
-            Thread.currentThread(), identifier, System.currentTimeMillis());
         if (LOG.isTraceEnabled()) {
           LOG.trace(
               "Node {} has been lock with '{}' lock, hold by {} with ident '{}' at {}",
@@ -129,6 +139,10 @@ public class TreeLock {
       }
     }
 
+    this.holdingThread = Thread.currentThread();
+    this.lockedNanos = System.nanoTime();
+    stats.locked(this);
+
     if (LOG.isTraceEnabled()) {
       LOG.trace(
           "Locked the tree lock, ident: {}, lockNodes: [{}], lock type: {}",
@@ -138,27 +152,73 @@ public class TreeLock {
     }
   }
 
+  private void waitForLock(TreeLockNode treeLockNode, LockType type, int depth) {
+    long waitStart = System.nanoTime();
+    stats.beforeWait();
+    try {
+      treeLockNode.lock(type);
+    } finally {
+      stats.afterWait(nodeIdentifier(depth), type, depth, System.nanoTime() - waitStart);
+    }
+  }
+
+  /**
+   * Gets the name identifier of the tree lock node at the given depth of the path, which is only
+   * built for the contended nodes.
+   */
+  private NameIdentifier nodeIdentifier(int depth) {
+    if (depth == 0) {
+      return LockManager.ROOT;
+    }
+
+    String[] levels = ArrayUtils.add(identifier.namespace().levels(), identifier.name());
+    return NameIdentifier.of(Arrays.copyOf(levels, Math.min(depth, levels.length)));
+  }
+
+  /**
+   * Gets the tree lock as a held lock at the given time.
+   *
+   * @param nowNanos The current time in nanoseconds.
+   * @return The held lock, or null if the tree lock has been unlocked.
+   */
+  TreeLockStats.HeldLock toHeldLock(long nowNanos) {
+    Thread thread = holdingThread;
+    if (thread == null) {
+      return null;
+    }
+    return new TreeLockStats.HeldLock(
+        identifier,
+        lockType,
+        thread.getName(),
+        TimeUnit.NANOSECONDS.toMillis(nowNanos - lockedNanos));
+  }
+
   /** Unlock the tree lock. */
   public void unlock() {
     if (lockType == null) {
       throw new IllegalStateException("We must lock the tree lock before unlock it.");
     }
 
+    // The tree lock is fully locked only if it's tracked as held, the nodes locked before a
+    // failure are released below without being counted as a hold.
+    if (holdingThread != null) {
+      holdingThread = null;
+      stats.unlocked(this, lockType, System.nanoTime() - lockedNanos);
+    }
+
     while (!heldLocks.isEmpty()) {
       Pair<TreeLockNode, LockType> pair = heldLocks.pop();
       TreeLockNode current = pair.getLeft();
       LockType type = pair.getRight();
       current.unlock(type);
 
-      long holdStartTime = current.removeHoldingThreadTimestamp(Thread.currentThread(), identifier);
       if (LOG.isTraceEnabled()) {
         LOG.trace(
-            "Node {} has been unlock with '{}' lock, hold by {} with ident '{}' for {} ms",
+            "Node {} has been unlock with '{}' lock, hold by {} with ident '{}'",
             this,
             lockType,
             Thread.currentThread(),
-            identifier,
-            System.currentTimeMillis() - holdStartTime);
+            identifier);
       }
     }
 
@@ -26,10 +26,10 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import org.apache.commons.lang3.tuple.Pair;
-import org.apache.gravitino.NameIdentifier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -46,59 +46,11 @@ public class TreeLockNode {
   private final ReentrantReadWriteLock readWriteLock;
   @VisibleForTesting final Map<String, TreeLockNode> childMap;
 
-  private final Map<ThreadIdentifier, Long> holdingThreadTimestamp = new ConcurrentHashMap<>();
-
   // The reference count of this node. The reference count is used to track the number of the
   // TreeLocks that are using this node. If the reference count is 0, it means that no TreeLock is
   // using this node, and this node can be removed from the tree.
   private final AtomicLong referenceCount = new AtomicLong();
 
-  /**
-   * The identifier of a thread. This class is used to identify this tree lock node is held by which
-   * thread and identifier because one thread can hold multiple tree lock nodes at the same time.
-   * For example, a thread can hold the lock of the root node and the lock of the child node at the
-   * same time.
-   */
-  static class ThreadIdentifier {
-    private final Thread thread;
-    private final NameIdentifier ident;
-
-    public ThreadIdentifier(Thread thread, NameIdentifier ident) {
-      this.thread = thread;
-      this.ident = ident;
-    }
-
-    static ThreadIdentifier of(Thread thread, NameIdentifier identifier) {
-      return new ThreadIdentifier(thread, identifier);
-    }
-
-    @Override
-    public boolean equals(Object o) {
-      if (this == o) {
-        return true;
-      }
-      if (!(o instanceof ThreadIdentifier)) {
-        return false;
-      }
-      ThreadIdentifier that = (ThreadIdentifier) o;
-      return Objects.equal(thread, that.thread) && Objects.equal(ident, that.ident);
-    }
-
-    @Override
-    public int hashCode() {
-      return Objects.hashCode(thread, ident);
-    }
-
-    @Override
-    public String toString() {
-      final StringBuilder sb = new StringBuilder("ThreadIdentifier{");
-      sb.append("thread=").append(thread);
-      sb.append(", ident=").append(ident);
-      sb.append('}');
-      return sb.toString();
-    }
-  }
-
   protected TreeLockNode(String name) {
     this.name = name;
     this.readWriteLock = new ReentrantReadWriteLock();
@@ -109,18 +61,6 @@ public class TreeLockNode {
     return name;
   }
 
-  Map<ThreadIdentifier, Long> getHoldingThreadTimestamp() {
-    return holdingThreadTimestamp;
-  }
-
-  void addHoldingThreadTimestamp(Thread currentThread, NameIdentifier identifier, long timestamp) {
-    holdingThreadTimestamp.put(ThreadIdentifier.of(currentThread, identifier), timestamp);
-  }
-
-  long removeHoldingThreadTimestamp(Thread currentThread, NameIdentifier identifier) {
-    return holdingThreadTimestamp.remove(ThreadIdentifier.of(currentThread, identifier));
-  }
-
   /**
    * Increase the reference count of this node. The reference count should always be greater than or
    * equal to 0.
@@ -155,6 +95,28 @@ public class TreeLockNode {
     }
   }
 
+  /**
+   * Try to lock the node with the given lock type without waiting. Unlike {@code tryLock()} of the
+   * read lock, a read lock isn't acquired ahead of the queued writers. This method should be
+   * followed by {@link #lock(LockType)} if it fails, and {@link #unlock(LockType)} if it succeeds.
+   *
+   * @param lockType The lock type to lock the node.
+   * @return True if the node is locked.
+   */
+  boolean tryLock(LockType lockType) {
+    try {
+      if (lockType == LockType.READ) {
+        return readWriteLock.readLock().tryLock(0, TimeUnit.NANOSECONDS);
+      }
+      return readWriteLock.writeLock().tryLock(0, TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      // Lock the node regardless of the interruption as lock(LockType) does.
+      lock(lockType);
+      Thread.currentThread().interrupt();
+      return true;
+    }
+  }
+
   /**
    * Unlock the node with the given lock type. This method should be called after {@link
    * #lock(LockType)}, and the lock type should be the same as the lock type in {@link
@@ -0,0 +1,251 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.lock;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.metrics.source.TreeLockMetricsSource;
+
+/**
+ * TreeLockStats tracks the contention of the tree locks shared by all the tree locks of a {@link
+ * LockManager}, including the current waiters, the held tree locks and the most contended tree
+ * lock nodes.
+ *
+ * <p>The tracking is cheap enough to be always on: an uncontended tree lock node is acquired
+ * without reading the clock, only the contended acquisitions, which wait anyway, are timed and
+ * counted by the name identifier of the node. The held tree locks are tracked incrementally when
+ * they are locked and unlocked, so checking the long-held locks doesn't walk the whole tree.
+ */
+public class TreeLockStats {
+
+  // The maximum number of the contended name identifiers to track, the identifiers contended
+  // after that are only counted in the metrics until the tracked ones decay.
+  @VisibleForTesting static final int MAX_TRACKED_CONTENTIONS = 1000;
+
+  private final AtomicInteger waiters = new AtomicInteger();
+  private final Set<TreeLock> heldLocks = ConcurrentHashMap.newKeySet();
+  private final Map<NameIdentifier, Contention> contentions = new ConcurrentHashMap<>();
+  private final TreeLockMetricsSource metricsSource;
+
+  TreeLockStats(LongSupplier nodeCount) {
+    this.metricsSource = new TreeLockMetricsSource(waiters::get, heldLocks::size, nodeCount);
+  }
+
+  /**
+   * Gets the metrics source of the tree locks.
+   *
+   * @return The metrics source of the tree locks.
+   */
+  public TreeLockMetricsSource metricsSource() {
+    return metricsSource;
+  }
+
+  /**
+   * Gets the number of the threads waiting for the tree lock nodes.
+   *
+   * @return The number of the waiting threads.
+   */
+  public int waiters() {
+    return waiters.get();
+  }
+
+  /**
+   * Gets the most contended tree lock nodes, the counts decay by half every time {@link #decay()}
+   * is called, so they reflect the recent contention.
+   *
+   * @param limit The maximum number of the nodes to return.
+   * @return The most contended tree lock nodes, in descending order of the contention count.
+   */
+  public List<ContendedLock> topContendedLocks(int limit) {
+    return contentions.entrySet().stream()
+        .map(e -> new ContendedLock(e.getKey(), e.getValue().count(), e.getValue().waitNanos()))
+        .filter(c -> c.contentionCount() > 0)
+        .sorted(Comparator.comparingLong(ContendedLock::contentionCount).reversed())
+        .limit(limit)
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Gets the tree locks held for at least the given time.
+   *
+   * @param minHoldMs The minimum time in milliseconds the tree locks have been held.
+   * @return The held tree locks, in descending order of the holding time.
+   */
+  public List<HeldLock> heldLocks(long minHoldMs) {
+    long now = System.nanoTime();
+    return heldLocks.stream()
+        .map(lock -> lock.toHeldLock(now))
+        .filter(held -> held != null && held.holdMs() >= minHoldMs)
+        .sorted(Comparator.comparingLong(HeldLock::holdMs).reversed())
+        .collect(Collectors.toList());
+  }
+
+  void beforeWait() {
+    waiters.incrementAndGet();
+  }
+
+  void afterWait(NameIdentifier nodeIdent, LockType lockType, int depth, long waitNanos) {
+    waiters.decrementAndGet();
+    metricsSource.recordWait(lockType, depth, waitNanos);
+
+    Contention contention = contentions.get(nodeIdent);
+    if (contention == null) {
+      if (contentions.size() >= MAX_TRACKED_CONTENTIONS) {
+        return;
+      }
+      contention = contentions.computeIfAbsent(nodeIdent, k -> new Contention());
+    }
+    contention.add(waitNanos);
+  }
+
+  void locked(TreeLock lock) {
+    heldLocks.add(lock);
+  }
+
+  void unlocked(TreeLock lock, LockType lockType, long holdNanos) {
+    heldLocks.remove(lock);
+    metricsSource.recordHold(lockType, holdNanos);
+  }
+
+  /**
+   * Halves the contention counts and removes the nodes no longer contended, which is called
+   * periodically to keep the recent contention and to bound the tracked nodes.
+   */
+  void decay() {
+    contentions.values().removeIf(Contention::decay);
+  }
+
+  private static class Contention {
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong waitNanos = new AtomicLong();
+
+    void add(long nanos) {
+      count.incrementAndGet();
+      waitNanos.addAndGet(nanos);
+    }
+
+    long count() {
+      return count.get();
+    }
+
+    long waitNanos() {
+      return waitNanos.get();
+    }
+
+    // Returns true if the node is no longer contended.
+    boolean decay() {
+      waitNanos.updateAndGet(n -> n / 2);
+      return count.updateAndGet(n -> n / 2) == 0;
+    }
+  }
+
+  /** A contended tree lock node. */
+  public static class ContendedLock {
+    private final NameIdentifier identifier;
+    private final long contentionCount;
+    private final long waitMs;
+
+    ContendedLock(NameIdentifier identifier, long contentionCount, long waitNanos) {
+      this.identifier = identifier;
+      this.contentionCount = contentionCount;
+      this.waitMs = TimeUnit.NANOSECONDS.toMillis(waitNanos);
+    }
+
+    /**
+     * @return The name identifier of the tree lock node.
+     */
+    public NameIdentifier identifier() {
+      return identifier;
+    }
+
+    /**
+     * @return The decayed count of the acquisitions waiting for the node.
+     */
+    public long contentionCount() {
+      return contentionCount;
+    }
+
+    /**
+     * @return The decayed total time in milliseconds waiting for the node.
+     */
+    public long waitMs() {
+      return waitMs;
+    }
+  }
+
+  /** A held tree lock. */
+  public static class HeldLock {
+    private final NameIdentifier identifier;
+    private final LockType lockType;
+    private final String thread;
+    private final long holdMs;
+
+    HeldLock(NameIdentifier identifier, LockType lockType, String thread, long holdMs) {
+      this.identifier = identifier;
+      this.lockType = lockType;
+      this.thread = thread;
+      this.holdMs = holdMs;
+    }
+
+    /**
+     * @return The name identifier of the tree lock.
+     */
+    public NameIdentifier identifier() {
+      return identifier;
+    }
+
+    /**
+     * @return The lock type of the leaf node of the tree lock.
+     */
+    public LockType lockType() {
+      return lockType;
+    }
+
+    /**
+     * @return The name of the thread holding the tree lock.
+     */
+    public String thread() {
+      return thread;
+    }
+
+    /**
+     * @return The time in milliseconds the tree lock has been held.
+     */
+    public long holdMs() {
+      return holdMs;
+    }
+
+    @Override
+    public String toString() {
+      return String.format(
+          "HeldLock{identifier=%s, lockType=%s, thread=%s, holdMs=%d}",
+          identifier, lockType, thread, holdMs);
+    }
+  }
+}
@@ -21,6 +21,8 @@ package org.apache.gravitino.lock;
 
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.tracing.TraceScope;
+import org.apache.gravitino.tracing.Tracing;
 import org.apache.gravitino.utils.Executable;
 
 /** Utility class for tree locks. */
@@ -45,8 +47,11 @@ public class TreeLockUtils {
       NameIdentifier identifier, LockType lockType, Executable<R, E> executable) throws E {
     TreeLock lock = GravitinoEnv.getInstance().lockManager().createTreeLock(identifier);
     try {
-      lock.lock(lockType);
-      return executable.execute();
+      try (TraceScope scope = Tracing.start("tree-lock.wait")) {
+        scope.setAttribute("lock.type", lockType.name());
+        lock.lock(lockType);
+      }
+      return Tracing.trace("tree-lock.hold", executable);
     } finally {
       lock.unlock();
     }
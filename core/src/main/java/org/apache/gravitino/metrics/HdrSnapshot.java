@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.metrics;
+
+import com.codahale.metrics.Snapshot;
+import com.google.common.base.Preconditions;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramIterationValue;
+
+/** A {@link Snapshot} of the samples counted in HdrHistogram. */
+class HdrSnapshot extends Snapshot {
+
+  private final Histogram histogram;
+
+  HdrSnapshot(Histogram histogram) {
+    this.histogram = histogram;
+  }
+
+  @Override
+  public double getValue(double quantile) {
+    Preconditions.checkArgument(
+        quantile >= 0.0 && quantile <= 1.0 && !Double.isNaN(quantile),
+        "%s is not in [0..1]",
+        quantile);
+    if (histogram.getTotalCount() == 0) {
+      return 0.0;
+    }
+    return histogram.getValueAtPercentile(quantile * 100);
+  }
+
+  /**
+   * Returns the samples in the snapshot, each of them is the highest value equivalent to the sample
+   * in its bucket of the histogram.
+   *
+   * <p>Note. The array is as large as the number of the samples, the reporters of Gravitino only
+   * read the quantiles and the statistics without calling this method.
+   */
+  @Override
+  public long[] getValues() {
+    long[] values = new long[size()];
+    int index = 0;
+    for (HistogramIterationValue value : histogram.recordedValues()) {
+      long equivalentValue = histogram.highestEquivalentValue(value.getValueIteratedTo());
+      for (long i = 0; i < value.getCountAtValueIteratedTo() && index < values.length; i++) {
+        values[index++] = equivalentValue;
+      }
+    }
+    return values;
+  }
+
+  @Override
+  public int size() {
+    return (int) Math.min(histogram.getTotalCount(), Integer.MAX_VALUE);
+  }
+
+  @Override
+  public long getMax() {
+    return histogram.getTotalCount() == 0 ? 0 : histogram.getMaxValue();
+  }
+
+  @Override
+  public double getMean() {
+    return histogram.getTotalCount() == 0 ? 0.0 : histogram.getMean();
+  }
+
+  @Override
+  public long getMin() {
+    return histogram.getTotalCount() == 0 ? 0 : histogram.getMinValue();
+  }
+
+  @Override
+  public double getStdDev() {
+    return histogram.getTotalCount() == 0 ? 0.0 : histogram.getStdDeviation();
+  }
+
+  @Override
+  public void dump(OutputStream output) {
+    try (PrintWriter out =
+        new PrintWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8))) {
+      for (long value : getValues()) {
+        out.printf("%d%n", value);
+      }
+    }
+  }
+}
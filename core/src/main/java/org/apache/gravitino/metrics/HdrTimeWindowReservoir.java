@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.metrics;
+
+import com.codahale.metrics.Clock;
+import com.codahale.metrics.Reservoir;
+import com.codahale.metrics.Snapshot;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * A {@link Reservoir} keeping the samples of a time sliding window in HdrHistogram.
+ *
+ * <p>Unlike {@link com.codahale.metrics.SlidingTimeWindowArrayReservoir} which stores every sample
+ * in the window, the samples are counted into the buckets of HdrHistogram with a relative error of
+ * 1%, so the memory and the cost of a snapshot don't grow with the number of the samples. The
+ * samples are recorded by a wait-free {@link Recorder}, and moved into the chunk of the window they
+ * belong to on a snapshot or once the chunk ends. The window is split into {@value #CHUNKS} chunks
+ * which expire one by one, so a snapshot covers the samples between the last 5/6 of the window and
+ * the whole window.
+ */
+public class HdrTimeWindowReservoir implements Reservoir {
+
+  private static final int CHUNKS = 6;
+  // Keeps the values with 2 significant digits, which is a relative error of 1%.
+  private static final int SIGNIFICANT_DIGITS = 2;
+
+  private final Clock clock;
+  private final long chunkNanos;
+  private final Recorder recorder = new Recorder(SIGNIFICANT_DIGITS);
+  private final Histogram[] chunks = new Histogram[CHUNKS];
+  private final ReentrantLock lock = new ReentrantLock();
+
+  // The fields below are guarded by the lock, except for reading nextChunkTick.
+  private int currentChunk;
+  private long currentChunkTick;
+  private volatile long nextChunkTick;
+  private Histogram intervalHistogram;
+
+  /**
+   * Creates a reservoir of the given time window.
+   *
+   * @param window The length of the window.
+   * @param windowUnit The unit of the window.
+   */
+  public HdrTimeWindowReservoir(long window, TimeUnit windowUnit) {
+    this(window, windowUnit, Clock.defaultClock());
+  }
+
+  @VisibleForTesting
+  HdrTimeWindowReservoir(long window, TimeUnit windowUnit, Clock clock) {
+    Preconditions.checkArgument(window > 0, "The window must be positive");
+    this.clock = clock;
+    this.chunkNanos = Math.max(1, windowUnit.toNanos(window) / CHUNKS);
+    for (int i = 0; i < CHUNKS; i++) {
+      chunks[i] = new Histogram(SIGNIFICANT_DIGITS);
+    }
+    this.currentChunkTick = clock.getTick();
+    this.nextChunkTick = currentChunkTick + chunkNanos;
+  }
+
+  @Override
+  public int size() {
+    lock.lock();
+    try {
+      advance(clock.getTick());
+      long count = 0;
+      for (Histogram chunk : chunks) {
+        count += chunk.getTotalCount();
+      }
+      return (int) Math.min(count, Integer.MAX_VALUE);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public void update(long value) {
+    // Move to the next chunk before recording, so that the samples in the recorder all belong to
+    // the current chunk. Only one of the updating threads moves to the next chunk, the others go
+    // on without waiting.
+    long tick = clock.getTick();
+    if (tick >= nextChunkTick && lock.tryLock()) {
+      try {
+        advance(tick);
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    // The values below 0 can't be recorded by HdrHistogram, and don't make sense for durations.
+    recorder.recordValue(Math.max(0, value));
+  }
+
+  @Override
+  public Snapshot getSnapshot() {
+    lock.lock();
+    try {
+      advance(clock.getTick());
+      Histogram merged = new Histogram(SIGNIFICANT_DIGITS);
+      for (Histogram chunk : chunks) {
+        merged.add(chunk);
+      }
+      return new HdrSnapshot(merged);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void advance(long tick) {
+    // Move the recorded samples into the current chunk before it may expire.
+    intervalHistogram = recorder.getIntervalHistogram(intervalHistogram);
+    chunks[currentChunk].add(intervalHistogram);
+
+    long elapsedChunks = (tick - currentChunkTick) / chunkNanos;
+    if (elapsedChunks <= 0) {
+      return;
+    }
+
+    for (long i = 0; i < Math.min(elapsedChunks, CHUNKS); i++) {
+      currentChunk = (currentChunk + 1) % CHUNKS;
+      chunks[currentChunk].reset();
+    }
+    currentChunkTick += elapsedChunks * chunkNanos;
+    nextChunkTick = currentChunkTick + chunkNanos;
+  }
+}
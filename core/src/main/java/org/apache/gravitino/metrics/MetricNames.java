@@ -22,6 +22,40 @@ package org.apache.gravitino.metrics;
 public class MetricNames {
   public static final String HTTP_PROCESS_DURATION = "http-request-duration-seconds";
   public static final String SERVER_IDLE_THREAD_NUM = "http-server.idle-thread.num";
+  public static final String EVENT_LISTENER_QUEUE_DEPTH = "queue-depth";
+  public static final String EVENT_LISTENER_DROPPED_EVENTS = "dropped-events";
+  public static final String EVENT_LISTENER_BATCH_SIZE = "batch-size";
+  public static final String EVENT_LISTENER_DISPATCH_LATENCY = "dispatch-latency";
+  public static final String CATALOG_CACHE_HITS = "hits";
+  public static final String CATALOG_CACHE_MISSES = "misses";
+  public static final String CATALOG_CACHE_HIT_RATIO = "hit-ratio";
+  public static final String CATALOG_CACHE_INVALIDATIONS = "invalidations";
+  public static final String CATALOG_CACHE_SIZE = "size";
+  public static final String AUDIT_LOG_QUEUE_DEPTH = "queue-depth";
+  public static final String AUDIT_LOG_DROPPED_ENTRIES = "dropped-entries";
+  public static final String AUDIT_LOG_ROLLED_FILES = "rolled-files";
+  public static final String ENTITY_STORE_STATEMENT_PREFIX = "statement";
+  public static final String ENTITY_STORE_STATEMENT_LATENCY = "latency";
+  public static final String ENTITY_STORE_STATEMENT_ROWS = "rows";
+  public static final String ENTITY_STORE_POOL_ACTIVE_CONNECTIONS = "pool.active-connections";
+  public static final String ENTITY_STORE_POOL_IDLE_CONNECTIONS = "pool.idle-connections";
+  public static final String ENTITY_STORE_POOL_WAITERS = "pool.waiters";
+  public static final String CATALOG_OPERATION_LATENCY = "latency";
+  public static final String CLIENT_POOL_ACTIVE_CONNECTIONS = "active-connections";
+  public static final String CLIENT_POOL_IDLE_CONNECTIONS = "idle-connections";
+  public static final String CLIENT_POOL_MAX_CONNECTIONS = "max-connections";
+  public static final String TREE_LOCK_WAIT_TIME = "wait-time";
+  public static final String TREE_LOCK_HOLD_TIME = "hold-time";
+  public static final String TREE_LOCK_CONTENTIONS = "contentions";
+  public static final String TREE_LOCK_WAITERS = "waiters";
+  public static final String TREE_LOCK_HELD_LOCKS = "held-locks";
+  public static final String TREE_LOCK_NODES = "nodes";
+  public static final String GARBAGE_COLLECTOR_LEGACY_ROWS = "legacy-rows";
+  public static final String GARBAGE_COLLECTOR_OLD_VERSION_ROWS = "old-version-rows";
+  public static final String GARBAGE_COLLECTOR_WATERMARK = "watermark";
+  public static final String GARBAGE_COLLECTOR_RUN_DURATION = "run-duration";
+  public static final String GARBAGE_COLLECTOR_ROWS_PER_SECOND = "rows-per-second";
+  public static final String GARBAGE_COLLECTOR_PAUSE = "pause-ms";
 
   private MetricNames() {}
 }
@@ -177,7 +177,46 @@ public class MetricsSystem implements Closeable {
         new MapperConfig(
             MetricsSource.GRAVITINO_SERVER_METRIC_NAME + ".*.*",
             MetricsSource.GRAVITINO_SERVER_METRIC_NAME + "_${1}",
-            ImmutableMap.of("operation", "${0}")));
+            ImmutableMap.of("operation", "${0}")),
+        new MapperConfig(
+            MetricsSource.EVENT_LISTENER_METRIC_NAME + ".*.*",
+            MetricsSource.EVENT_LISTENER_METRIC_NAME + "_${1}",
+            ImmutableMap.of("listener", "${0}")),
+        new MapperConfig(
+            MetricsSource.CATALOG_CACHE_METRIC_NAME + ".*.*.*",
+            MetricsSource.CATALOG_CACHE_METRIC_NAME + "_${2}",
+            ImmutableMap.of("metalake", "${0}", "catalog", "${1}")),
+        new MapperConfig(
+            MetricsSource.AUDIT_LOG_METRIC_NAME + ".*.*",
+            MetricsSource.AUDIT_LOG_METRIC_NAME + "_${1}",
+            ImmutableMap.of("writer", "${0}")),
+        new MapperConfig(
+            MetricsSource.ENTITY_STORE_METRIC_NAME
+                + "."
+                + MetricNames.ENTITY_STORE_STATEMENT_PREFIX
+                + ".*.*.*",
+            MetricsSource.ENTITY_STORE_METRIC_NAME
+                + "_"
+                + MetricNames.ENTITY_STORE_STATEMENT_PREFIX
+                + "_${2}",
+            ImmutableMap.of("mapper", "${0}", "statement", "${1}")),
+        new MapperConfig(
+            MetricsSource.CATALOG_OPERATION_METRIC_NAME + ".*.*.*.*.*",
+            MetricsSource.CATALOG_OPERATION_METRIC_NAME + "_${4}",
+            ImmutableMap.of(
+                "metalake", "${0}", "catalog", "${1}", "provider", "${2}", "operation", "${3}")),
+        new MapperConfig(
+            MetricsSource.CLIENT_POOL_METRIC_NAME + ".*.*.*",
+            MetricsSource.CLIENT_POOL_METRIC_NAME + "_${2}",
+            ImmutableMap.of("metalake", "${0}", "catalog", "${1}")),
+        new MapperConfig(
+            MetricsSource.TREE_LOCK_METRIC_NAME + "." + MetricNames.TREE_LOCK_WAIT_TIME + ".*.*",
+            MetricsSource.TREE_LOCK_METRIC_NAME + "_" + MetricNames.TREE_LOCK_WAIT_TIME,
+            ImmutableMap.of("lock_type", "${0}", "depth", "${1}")),
+        new MapperConfig(
+            MetricsSource.TREE_LOCK_METRIC_NAME + "." + MetricNames.TREE_LOCK_HOLD_TIME + ".*",
+            MetricsSource.TREE_LOCK_METRIC_NAME + "_" + MetricNames.TREE_LOCK_HOLD_TIME,
+            ImmutableMap.of("lock_type", "${0}")));
   }
 
   private void registerMetricsToPrometheusRegistry() {
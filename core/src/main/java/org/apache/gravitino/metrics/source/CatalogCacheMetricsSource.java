@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.metrics.source;
+
+import com.codahale.metrics.Counter;
+import java.util.function.LongSupplier;
+import org.apache.gravitino.metrics.MetricNames;
+
+/**
+ * Metrics of the metadata cache of a catalog, including the count of the hits, misses and
+ * invalidations, the hit ratio and the size of the cache.
+ */
+public class CatalogCacheMetricsSource extends MetricsSource {
+
+  private final Counter hits;
+  private final Counter misses;
+  private final Counter invalidations;
+
+  public CatalogCacheMetricsSource(String metalake, String catalog, LongSupplier cacheSize) {
+    super(MetricsSource.CATALOG_CACHE_METRIC_NAME + "." + metalake + "." + catalog);
+    this.hits = getCounter(MetricNames.CATALOG_CACHE_HITS);
+    this.misses = getCounter(MetricNames.CATALOG_CACHE_MISSES);
+    this.invalidations = getCounter(MetricNames.CATALOG_CACHE_INVALIDATIONS);
+    registerGauge(MetricNames.CATALOG_CACHE_HIT_RATIO, this::hitRatio);
+    registerGauge(MetricNames.CATALOG_CACHE_SIZE, cacheSize::getAsLong);
+  }
+
+  public void incHits() {
+    hits.inc();
+  }
+
+  public void incMisses() {
+    misses.inc();
+  }
+
+  public void incInvalidations() {
+    invalidations.inc();
+  }
+
+  public double hitRatio() {
+    long hitCount = hits.getCount();
+    long requestCount = hitCount + misses.getCount();
+    return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.metrics.source;
+
+import com.codahale.metrics.Timer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.apache.gravitino.metrics.MetricNames;
+
+/**
+ * Metrics of the operations sent to a catalog, including the latency of each operation like
+ * {@code loadTable}, which is the time spent in the underlying catalog without the overhead of
+ * Gravitino.
+ */
+public class CatalogOperationMetricsSource extends MetricsSource {
+
+  private final ConcurrentMap<String, Timer> latencies = new ConcurrentHashMap<>();
+
+  public CatalogOperationMetricsSource(String metalake, String catalog, String provider) {
+    super(
+        MetricsSource.CATALOG_OPERATION_METRIC_NAME
+            + "."
+            + metalake
+            + "."
+            + catalog
+            + "."
+            + provider);
+  }
+
+  /**
+   * Gets the timer of the operation.
+   *
+   * @param operation The name of the operation, like {@code loadTable}.
+   * @return The timer of the operation.
+   */
+  public Timer latency(String operation) {
+    Timer timer = latencies.get(operation);
+    if (timer == null) {
+      timer =
+          latencies.computeIfAbsent(
+              operation, op -> getTimer(op + "." + MetricNames.CATALOG_OPERATION_LATENCY));
+    }
+    return timer;
+  }
+}
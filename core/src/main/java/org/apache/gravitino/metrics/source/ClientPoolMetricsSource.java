@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.metrics.source;
+
+import java.util.function.IntSupplier;
+import org.apache.gravitino.metrics.MetricNames;
+
+/**
+ * Metrics of the client pool of a catalog, like the Hive metastore client pool or the JDBC
+ * connection pool, including the count of the active, idle and maximum connections.
+ */
+public class ClientPoolMetricsSource extends MetricsSource {
+
+  public ClientPoolMetricsSource(
+      String metalake,
+      String catalog,
+      IntSupplier activeConnections,
+      IntSupplier idleConnections,
+      IntSupplier maxConnections) {
+    super(MetricsSource.CLIENT_POOL_METRIC_NAME + "." + metalake + "." + catalog);
+    registerGauge(MetricNames.CLIENT_POOL_ACTIVE_CONNECTIONS, activeConnections::getAsInt);
+    registerGauge(MetricNames.CLIENT_POOL_IDLE_CONNECTIONS, idleConnections::getAsInt);
+    registerGauge(MetricNames.CLIENT_POOL_MAX_CONNECTIONS, maxConnections::getAsInt);
+  }
+}
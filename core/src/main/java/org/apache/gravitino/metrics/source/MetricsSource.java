@@ -23,12 +23,14 @@ import com.codahale.metrics.Counter;
 import com.codahale.metrics.Gauge;
 import com.codahale.metrics.Histogram;
 import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Reservoir;
 import com.codahale.metrics.SlidingTimeWindowArrayReservoir;
 import com.codahale.metrics.Timer;
 import java.util.concurrent.TimeUnit;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
 import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.metrics.HdrTimeWindowReservoir;
 
 /**
  * MetricsSource provides utilities to collect specified kind metrics, all metrics must create with
@@ -41,9 +43,18 @@ public abstract class MetricsSource {
   public static final String ICEBERG_REST_SERVER_METRIC_NAME = "iceberg-rest-server";
   public static final String GRAVITINO_SERVER_METRIC_NAME = "gravitino-server";
   public static final String JVM_METRIC_NAME = "jvm";
+  public static final String EVENT_LISTENER_METRIC_NAME = "event-listener";
+  public static final String CATALOG_CACHE_METRIC_NAME = "catalog-cache";
+  public static final String AUDIT_LOG_METRIC_NAME = "audit-log";
+  public static final String ENTITY_STORE_METRIC_NAME = "entity-store";
+  public static final String CATALOG_OPERATION_METRIC_NAME = "catalog-operation";
+  public static final String CLIENT_POOL_METRIC_NAME = "client-pool";
+  public static final String TREE_LOCK_METRIC_NAME = "tree-lock";
+  public static final String GARBAGE_COLLECTOR_METRIC_NAME = "garbage-collector";
   private final MetricRegistry metricRegistry;
   private final String metricsSourceName;
   private final int timeSlidingWindowSeconds;
+  private final String reservoir;
 
   protected MetricsSource(String name) {
     this.metricsSourceName = name;
@@ -52,9 +63,11 @@ public abstract class MetricsSource {
     if (config != null) {
       this.timeSlidingWindowSeconds =
           config.get(Configs.METRICS_TIME_SLIDING_WINDOW_SECONDS).intValue();
+      this.reservoir = config.get(Configs.METRICS_RESERVOIR);
     } else {
       // Couldn't get config when testing
       this.timeSlidingWindowSeconds = Configs.DEFAULT_METRICS_TIME_SLIDING_WINDOW_SECONDS;
+      this.reservoir = Configs.METRICS_RESERVOIR_HDR;
     }
   }
 
@@ -103,12 +116,7 @@ public abstract class MetricsSource {
    * @return a new or pre-existing Histogram
    */
   public Histogram getHistogram(String name) {
-    return this.metricRegistry.histogram(
-        name,
-        () ->
-            new Histogram(
-                new SlidingTimeWindowArrayReservoir(
-                    getTimeSlidingWindowSeconds(), TimeUnit.SECONDS)));
+    return this.metricRegistry.histogram(name, () -> new Histogram(newReservoir()));
   }
 
   /**
@@ -118,12 +126,20 @@ public abstract class MetricsSource {
    * @return a new or pre-existing Timer
    */
   public Timer getTimer(String name) {
-    return this.metricRegistry.timer(
-        name,
-        () ->
-            new Timer(
-                new SlidingTimeWindowArrayReservoir(
-                    getTimeSlidingWindowSeconds(), TimeUnit.SECONDS)));
+    return this.metricRegistry.timer(name, () -> new Timer(newReservoir()));
+  }
+
+  /**
+   * Create a reservoir of the time sliding window for a histogram or a timer, which is configured
+   * by {@link Configs#METRICS_RESERVOIR}.
+   *
+   * @return a new reservoir
+   */
+  protected Reservoir newReservoir() {
+    if (Configs.METRICS_RESERVOIR_SLIDING_TIME_WINDOW.equals(reservoir)) {
+      return new SlidingTimeWindowArrayReservoir(getTimeSlidingWindowSeconds(), TimeUnit.SECONDS);
+    }
+    return new HdrTimeWindowReservoir(getTimeSlidingWindowSeconds(), TimeUnit.SECONDS);
   }
 
   protected int getTimeSlidingWindowSeconds() {
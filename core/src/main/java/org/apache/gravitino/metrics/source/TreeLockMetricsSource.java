@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.metrics.source;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Timer;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+import org.apache.gravitino.lock.LockType;
+import org.apache.gravitino.metrics.MetricNames;
+
+/**
+ * Metrics of the tree locks, including the time waiting for the contended tree lock nodes by the
+ * lock type and the depth of the node, the time holding the tree locks by the lock type, the count
+ * of the contended acquisitions, the current waiters, the held tree locks and the tree lock nodes.
+ */
+public class TreeLockMetricsSource extends MetricsSource {
+
+  /** The nodes deeper than this depth are reported with this depth. */
+  public static final int MAX_DEPTH = 5;
+
+  private final Timer[][] waitTimers = new Timer[LockType.values().length][MAX_DEPTH + 1];
+  private final Timer[] holdTimers = new Timer[LockType.values().length];
+  private final Counter contentions;
+
+  public TreeLockMetricsSource(IntSupplier waiters, IntSupplier heldLocks, LongSupplier nodes) {
+    super(MetricsSource.TREE_LOCK_METRIC_NAME);
+    for (LockType lockType : LockType.values()) {
+      String type = lockType.name().toLowerCase(Locale.ROOT);
+      for (int depth = 0; depth <= MAX_DEPTH; depth++) {
+        waitTimers[lockType.ordinal()][depth] =
+            getTimer(MetricNames.TREE_LOCK_WAIT_TIME + "." + type + "." + depth);
+      }
+      holdTimers[lockType.ordinal()] = getTimer(MetricNames.TREE_LOCK_HOLD_TIME + "." + type);
+    }
+    this.contentions = getCounter(MetricNames.TREE_LOCK_CONTENTIONS);
+    registerGauge(MetricNames.TREE_LOCK_WAITERS, waiters::getAsInt);
+    registerGauge(MetricNames.TREE_LOCK_HELD_LOCKS, heldLocks::getAsInt);
+    registerGauge(MetricNames.TREE_LOCK_NODES, nodes::getAsLong);
+  }
+
+  /**
+   * Records the time waiting for a contended tree lock node.
+   *
+   * @param lockType The lock type of the node.
+   * @param depth The depth of the node, 0 for the root node.
+   * @param waitNanos The time waiting for the node in nanoseconds.
+   */
+  public void recordWait(LockType lockType, int depth, long waitNanos) {
+    contentions.inc();
+    Timer timer = waitTimers[lockType.ordinal()][Math.min(depth, MAX_DEPTH)];
+    timer.update(waitNanos, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Records the time holding a tree lock.
+   *
+   * @param lockType The lock type of the leaf node of the tree lock.
+   * @param holdNanos The time holding the tree lock in nanoseconds.
+   */
+  public void recordHold(LockType lockType, long holdNanos) {
+    holdTimers[lockType.ordinal()].update(holdNanos, TimeUnit.NANOSECONDS);
+  }
+}
@@ -19,9 +19,19 @@
 
 package org.apache.gravitino.storage;
 
+import org.apache.gravitino.Config;
+
 /** Generate a unique id that maps to a name. */
 public interface IdGenerator {
 
+  /**
+   * Initializes the id generator with the given configuration. This method is called once after
+   * the id generator is created and before any id is generated.
+   *
+   * @param config The configuration of the Gravitino server.
+   */
+  default void initialize(Config config) {}
+
   /**
    * Returns a unique identifier.
    *
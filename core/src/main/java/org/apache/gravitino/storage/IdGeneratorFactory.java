@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage;
+
+import com.google.common.collect.ImmutableMap;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/** This class is responsible for creating the {@link IdGenerator} used by the Gravitino server. */
+public class IdGeneratorFactory {
+
+  private static final Logger LOG = LoggerFactory.getLogger(IdGeneratorFactory.class);
+
+  // Register IdGenerator's short name to its full qualified class name in the map. So that user
+  // doesn't need to specify the full qualified class name when choosing an IdGenerator.
+  public static final ImmutableMap<String, String> ID_GENERATORS =
+      ImmutableMap.of(
+          Configs.RANDOM_ID_GENERATOR,
+          RandomIdGenerator.class.getCanonicalName(),
+          Configs.SNOWFLAKE_ID_GENERATOR,
+          SnowflakeIdGenerator.class.getCanonicalName());
+
+  // Private constructor to prevent instantiation of this factory class.
+  private IdGeneratorFactory() {}
+
+  /**
+   * Creates and initializes an instance of IdGenerator based on the configuration settings.
+   *
+   * @param config The configuration object containing settings for IdGenerator.
+   * @return An initialized instance of IdGenerator.
+   */
+  public static IdGenerator createIdGenerator(Config config) {
+    String name = config.get(Configs.ID_GENERATOR);
+    String className = ID_GENERATORS.getOrDefault(name, name);
+
+    IdGenerator idGenerator;
+    try {
+      idGenerator = (IdGenerator) Class.forName(className).getDeclaredConstructor().newInstance();
+    } catch (Exception e) {
+      LOG.error("Failed to create IdGenerator by name {}.", name, e);
+      throw new RuntimeException("Failed to create IdGenerator: " + name, e);
+    }
+
+    idGenerator.initialize(config);
+    return idGenerator;
+  }
+}
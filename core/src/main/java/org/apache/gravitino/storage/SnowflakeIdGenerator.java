@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import java.util.function.LongSupplier;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Time-ordered id generator based on the snowflake layout. Compared with {@link
+ * RandomIdGenerator}, the ids generated by this generator are monotonically increasing, so the new
+ * rows are appended to the end of the primary key and unique indexes of the relational store
+ * instead of being inserted at random positions.
+ *
+ * <p>The 64 bits of an id are laid out as follows:
+ *
+ * <pre>
+ * | 1 bit sign (always 0) | 41 bits timestamp | 10 bits node id | 12 bits sequence |
+ * </pre>
+ *
+ * <p>The timestamp is the number of milliseconds since {@link #EPOCH_MILLIS}, which lasts for about
+ * 69 years. The node id distinguishes the Gravitino servers sharing the same entity store, so each
+ * server must be configured with a different node id. Up to 4096 ids can be generated in one
+ * millisecond by one server.
+ *
+ * <p>If the system clock moves backwards, the generator keeps using the last timestamp it has seen
+ * and borrows the following milliseconds once the sequence is exhausted, so the ids are still
+ * monotonically increasing within the process. The clock catches up with the borrowed timestamp
+ * eventually.
+ */
+public class SnowflakeIdGenerator implements IdGenerator {
+
+  private static final Logger LOG = LoggerFactory.getLogger(SnowflakeIdGenerator.class);
+
+  // 2024-01-01T00:00:00Z
+  public static final long EPOCH_MILLIS = 1704067200000L;
+
+  public static final int NODE_ID_BITS = 10;
+
+  public static final int SEQUENCE_BITS = 12;
+
+  public static final int MAX_NODE_ID = (1 << NODE_ID_BITS) - 1;
+
+  private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+  private static final int TIMESTAMP_SHIFT = NODE_ID_BITS + SEQUENCE_BITS;
+
+  // Log a warning if the system clock moves backwards more than this value.
+  private static final long CLOCK_SKEW_WARNING_THRESHOLD_MS = 1000L;
+
+  private final LongSupplier clock;
+
+  private long nodeId;
+
+  private long lastTimestamp = -1L;
+
+  private long sequence = 0L;
+
+  public SnowflakeIdGenerator() {
+    this(System::currentTimeMillis);
+  }
+
+  @VisibleForTesting
+  SnowflakeIdGenerator(LongSupplier clock) {
+    this.clock = clock;
+  }
+
+  @Override
+  public void initialize(Config config) {
+    setNodeId(config.get(Configs.ID_GENERATOR_NODE_ID));
+  }
+
+  @VisibleForTesting
+  void setNodeId(int nodeId) {
+    Preconditions.checkArgument(
+        nodeId >= 0 && nodeId <= MAX_NODE_ID,
+        "The node id of snowflake id generator must be between 0 and %s, but got %s",
+        MAX_NODE_ID,
+        nodeId);
+    this.nodeId = nodeId;
+  }
+
+  @Override
+  public synchronized long nextId() {
+    long timestamp = clock.getAsLong() - EPOCH_MILLIS;
+    if (timestamp < lastTimestamp) {
+      if (lastTimestamp - timestamp > CLOCK_SKEW_WARNING_THRESHOLD_MS) {
+        LOG.warn(
+            "The system clock moved backwards by {} ms, keep generating ids from the last "
+                + "timestamp",
+            lastTimestamp - timestamp);
+      }
+      timestamp = lastTimestamp;
+    }
+
+    if (timestamp == lastTimestamp) {
+      sequence = (sequence + 1) & SEQUENCE_MASK;
+      if (sequence == 0) {
+        // The sequence is exhausted in this millisecond, borrow the next millisecond.
+        timestamp = lastTimestamp + 1;
+      }
+    } else {
+      sequence = 0L;
+    }
+
+    lastTimestamp = timestamp;
+    return (timestamp << TIMESTAMP_SHIFT) | (nodeId << SEQUENCE_BITS) | sequence;
+  }
+}
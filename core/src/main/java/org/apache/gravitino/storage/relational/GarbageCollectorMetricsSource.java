@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Timer;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.source.MetricsSource;
+
+/**
+ * Metrics of the {@link RelationalGarbageCollector}, including the count of the legacy rows and
+ * the old version rows deleted for each entity type, the timeline up to which the legacy data of
+ * each entity type are deleted, the duration and the deletion rate of the collections, and the
+ * current pause between two deletions.
+ */
+class GarbageCollectorMetricsSource extends MetricsSource {
+
+  private final Map<Entity.EntityType, Counter> legacyRows = new EnumMap<>(Entity.EntityType.class);
+  private final Map<Entity.EntityType, Counter> oldVersionRows =
+      new EnumMap<>(Entity.EntityType.class);
+  private final Map<Entity.EntityType, AtomicLong> watermarks =
+      new EnumMap<>(Entity.EntityType.class);
+  private final Timer runDuration;
+  private volatile long rowsPerSecond;
+
+  GarbageCollectorMetricsSource(LongSupplier pauseMs) {
+    super(MetricsSource.GARBAGE_COLLECTOR_METRIC_NAME);
+    for (Entity.EntityType entityType : Entity.EntityType.values()) {
+      String type = entityType.name().toLowerCase(Locale.ROOT);
+      legacyRows.put(
+          entityType, getCounter(MetricNames.GARBAGE_COLLECTOR_LEGACY_ROWS + "." + type));
+      oldVersionRows.put(
+          entityType, getCounter(MetricNames.GARBAGE_COLLECTOR_OLD_VERSION_ROWS + "." + type));
+      AtomicLong watermark = new AtomicLong();
+      watermarks.put(entityType, watermark);
+      registerGauge(MetricNames.GARBAGE_COLLECTOR_WATERMARK + "." + type, watermark::get);
+    }
+    this.runDuration = getTimer(MetricNames.GARBAGE_COLLECTOR_RUN_DURATION);
+    registerGauge(MetricNames.GARBAGE_COLLECTOR_ROWS_PER_SECOND, () -> rowsPerSecond);
+    registerGauge(MetricNames.GARBAGE_COLLECTOR_PAUSE, pauseMs::getAsLong);
+  }
+
+  void incLegacyRows(Entity.EntityType entityType, long rows) {
+    legacyRows.get(entityType).inc(rows);
+  }
+
+  void incOldVersionRows(Entity.EntityType entityType, long rows) {
+    oldVersionRows.get(entityType).inc(rows);
+  }
+
+  /**
+   * Records that all the legacy data of the entity type marked deleted before the timeline are
+   * deleted.
+   *
+   * @param entityType The entity type.
+   * @param legacyTimeline The timeline in milliseconds.
+   */
+  void updateWatermark(Entity.EntityType entityType, long legacyTimeline) {
+    watermarks.get(entityType).accumulateAndGet(legacyTimeline, Math::max);
+  }
+
+  /**
+   * Records a collection of all the entity types.
+   *
+   * @param durationNanos The duration of the collection in nanoseconds.
+   * @param rows The number of the rows deleted by the collection.
+   */
+  void recordRun(long durationNanos, long rows) {
+    runDuration.update(durationNanos, TimeUnit.NANOSECONDS);
+    rowsPerSecond = rows * TimeUnit.SECONDS.toNanos(1) / Math.max(durationNanos, 1);
+  }
+
+  long legacyRows(Entity.EntityType entityType) {
+    return legacyRows.get(entityType).getCount();
+  }
+
+  long oldVersionRows(Entity.EntityType entityType) {
+    return oldVersionRows.get(entityType).getCount();
+  }
+
+  long watermark(Entity.EntityType entityType) {
+    return watermarks.get(entityType).get();
+  }
+
+  long rowsPerSecond() {
+    return rowsPerSecond;
+  }
+}
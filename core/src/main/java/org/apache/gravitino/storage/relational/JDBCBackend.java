@@ -67,6 +67,7 @@ import org.apache.gravitino.storage.relational.service.TagMetaService;
 import org.apache.gravitino.storage.relational.service.TopicMetaService;
 import org.apache.gravitino.storage.relational.service.UserMetaService;
 import org.apache.gravitino.storage.relational.session.SqlSessionFactoryHelper;
+import org.apache.gravitino.storage.relational.utils.JsonColumnCodec;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -93,6 +94,7 @@ public class JDBCBackend implements RelationalBackend {
 
     SqlSessionFactoryHelper.getInstance().init(config);
     SQLExceptionConverterFactory.initConverter(config);
+    JsonColumnCodec.initialize(config);
   }
 
   @Override
@@ -178,6 +180,39 @@ public class JDBCBackend implements RelationalBackend {
     }
   }
 
+  @Override
+  public <E extends Entity & HasIdentifier> void insertAll(List<E> entities, boolean overwritten)
+      throws EntityAlreadyExistsException, IOException {
+    if (entities.isEmpty()) {
+      return;
+    }
+
+    // Only a batch of schemas, tables or topics is stored with the multi-row statements, the
+    // mixed batch and the other entity types fall back to be stored one by one.
+    Entity.EntityType entityType = entities.get(0).type();
+    boolean sameType = entities.stream().allMatch(e -> e.type() == entityType);
+    if (sameType) {
+      switch (entityType) {
+        case SCHEMA:
+          SchemaMetaService.getInstance()
+              .insertSchemas((List<SchemaEntity>) entities, overwritten);
+          return;
+        case TABLE:
+          TableMetaService.getInstance().insertTables((List<TableEntity>) entities, overwritten);
+          return;
+        case TOPIC:
+          TopicMetaService.getInstance().insertTopics((List<TopicEntity>) entities, overwritten);
+          return;
+        default:
+          break;
+      }
+    }
+
+    for (E e : entities) {
+      insert(e, overwritten);
+    }
+  }
+
   @Override
   public <E extends Entity & HasIdentifier> E update(
       NameIdentifier ident, Entity.EntityType entityType, Function<E, E> updater)
@@ -244,6 +279,21 @@ public class JDBCBackend implements RelationalBackend {
     }
   }
 
+  @Override
+  public <E extends Entity & HasIdentifier> List<E> getAll(
+      List<NameIdentifier> idents, Entity.EntityType entityType) throws IOException {
+    switch (entityType) {
+      case ROLE:
+        return (List<E>) RoleMetaService.getInstance().getRolesByIdentifiers(idents);
+      default:
+        List<E> entities = Lists.newArrayListWithCapacity(idents.size());
+        for (NameIdentifier ident : idents) {
+          entities.add(get(ident, entityType));
+        }
+        return entities;
+    }
+  }
+
   @Override
   public boolean delete(NameIdentifier ident, Entity.EntityType entityType, boolean cascade)
       throws IOException {
@@ -278,6 +328,27 @@ public class JDBCBackend implements RelationalBackend {
     }
   }
 
+  @Override
+  public int deleteAll(List<NameIdentifier> idents, Entity.EntityType entityType)
+      throws IOException {
+    switch (entityType) {
+      case TABLE:
+        return TableMetaService.getInstance().deleteTables(idents);
+      default:
+        int deleted = 0;
+        for (NameIdentifier ident : idents) {
+          try {
+            if (delete(ident, entityType, false)) {
+              deleted++;
+            }
+          } catch (NoSuchEntityException e) {
+            // Ignore the entity that doesn't exist, the same as the batch path.
+          }
+        }
+        return deleted;
+    }
+  }
+
   @Override
   public int hardDeleteLegacyData(Entity.EntityType entityType, long legacyTimeline)
       throws IOException {
@@ -351,7 +422,6 @@ public class JDBCBackend implements RelationalBackend {
       case CATALOG:
       case SCHEMA:
       case TABLE:
-      case COLUMN:
       case TOPIC:
       case USER:
       case GROUP:
@@ -367,6 +437,10 @@ public class JDBCBackend implements RelationalBackend {
         return FilesetMetaService.getInstance()
             .deleteFilesetVersionsByRetentionCount(
                 versionRetentionCount, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+      case COLUMN:
+        return TableColumnMetaService.getInstance()
+            .deleteSupersededColumnsByRetentionCount(
+                versionRetentionCount, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
 
       default:
         throw new IllegalArgumentException(
@@ -396,6 +470,13 @@ public class JDBCBackend implements RelationalBackend {
     return TagMetaService.getInstance().listTagsForMetadataObject(objectIdent, objectType);
   }
 
+  @Override
+  public List<List<TagEntity>> listAssociatedTagsForMetadataObjects(
+      List<NameIdentifier> objectIdents, Entity.EntityType objectType)
+      throws NoSuchEntityException, IOException {
+    return TagMetaService.getInstance().listTagsForMetadataObjects(objectIdents, objectType);
+  }
+
   @Override
   public TagEntity getTagForMetadataObject(
       NameIdentifier objectIdent, Entity.EntityType objectType, NameIdentifier tagIdent)
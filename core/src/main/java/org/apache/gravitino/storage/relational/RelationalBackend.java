@@ -83,6 +83,20 @@ public interface RelationalBackend
   <E extends Entity & HasIdentifier> void insert(E e, boolean overwritten)
       throws EntityAlreadyExistsException, IOException;
 
+  /**
+   * Stores a batch of entities, possibly overwriting the existing entities if specified. The
+   * entities of the same type are stored in one transaction with multi-row statements where the
+   * backend supports it.
+   *
+   * @param entities The entities which need be stored.
+   * @param overwritten If true, overwrites the existing values.
+   * @throws EntityAlreadyExistsException If any of the entities already exists and overwrite is
+   *     false.
+   * @throws IOException If the store operation fails
+   */
+  <E extends Entity & HasIdentifier> void insertAll(List<E> entities, boolean overwritten)
+      throws EntityAlreadyExistsException, IOException;
+
   /**
    * Updates the entity.
    *
@@ -108,6 +122,19 @@ public interface RelationalBackend
   <E extends Entity & HasIdentifier> E get(NameIdentifier ident, Entity.EntityType entityType)
       throws IOException;
 
+  /**
+   * Retrieves a batch of entities of the same type associated with the identifiers.
+   *
+   * @param idents The identifiers of the entities.
+   * @param entityType The type of the entities.
+   * @param <E> The type of the entities returned.
+   * @return The entities in the order of the identifiers.
+   * @throws NoSuchEntityException If any of the entities doesn't exist.
+   * @throws IOException If an I/O exception occurs during retrieval.
+   */
+  <E extends Entity & HasIdentifier> List<E> getAll(
+      List<NameIdentifier> idents, Entity.EntityType entityType) throws IOException;
+
   /**
    * Soft deletes the entity associated with the identifier and the entity type.
    *
@@ -120,6 +147,17 @@ public interface RelationalBackend
   boolean delete(NameIdentifier ident, Entity.EntityType entityType, boolean cascade)
       throws IOException;
 
+  /**
+   * Soft deletes a batch of entities associated with the identifiers and the entity type without
+   * cascading.
+   *
+   * @param idents The identifiers of the entities.
+   * @param entityType The type of the entities.
+   * @return The count of the entities that were successfully deleted.
+   * @throws IOException If the store operation fails
+   */
+  int deleteAll(List<NameIdentifier> idents, Entity.EntityType entityType) throws IOException;
+
   /**
    * Permanently deletes the legacy data that has been marked as deleted before the given legacy
    * timeline.
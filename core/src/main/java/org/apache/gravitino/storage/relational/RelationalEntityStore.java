@@ -104,6 +104,12 @@ public class RelationalEntityStore
     backend.insert(e, overwritten);
   }
 
+  @Override
+  public <E extends Entity & HasIdentifier> void putAll(List<E> entities, boolean overwritten)
+      throws IOException, EntityAlreadyExistsException {
+    backend.insertAll(entities, overwritten);
+  }
+
   @Override
   public <E extends Entity & HasIdentifier> E update(
       NameIdentifier ident, Class<E> type, Entity.EntityType entityType, Function<E, E> updater)
@@ -118,6 +124,13 @@ public class RelationalEntityStore
     return backend.get(ident, entityType);
   }
 
+  @Override
+  public <E extends Entity & HasIdentifier> List<E> getAll(
+      List<NameIdentifier> idents, Entity.EntityType entityType, Class<E> e)
+      throws NoSuchEntityException, IOException {
+    return backend.getAll(idents, entityType);
+  }
+
   @Override
   public boolean delete(NameIdentifier ident, Entity.EntityType entityType, boolean cascade)
       throws IOException {
@@ -128,6 +141,12 @@ public class RelationalEntityStore
     }
   }
 
+  @Override
+  public int deleteAll(List<NameIdentifier> idents, Entity.EntityType entityType)
+      throws IOException {
+    return backend.deleteAll(idents, entityType);
+  }
+
   @Override
   public <R, E extends Exception> R executeInTransaction(Executable<R, E> executable) {
     throw new UnsupportedOperationException("Unsupported operation in relational entity store.");
@@ -162,6 +181,13 @@ public class RelationalEntityStore
     return backend.listAssociatedTagsForMetadataObject(objectIdent, objectType);
   }
 
+  @Override
+  public List<List<TagEntity>> listAssociatedTagsForMetadataObjects(
+      List<NameIdentifier> objectIdents, Entity.EntityType objectType)
+      throws NoSuchEntityException, IOException {
+    return backend.listAssociatedTagsForMetadataObjects(objectIdents, objectType);
+  }
+
   @Override
   public TagEntity getTagForMetadataObject(
       NameIdentifier objectIdent, Entity.EntityType objectType, NameIdentifier tagIdent)
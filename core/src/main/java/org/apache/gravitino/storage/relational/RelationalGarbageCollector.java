@@ -19,47 +19,147 @@
 
 package org.apache.gravitino.storage.relational;
 
+import static org.apache.gravitino.Configs.DEFAULT_GARBAGE_COLLECTOR_MAX_PAUSE_MS;
+import static org.apache.gravitino.Configs.DEFAULT_GARBAGE_COLLECTOR_MAX_ROWS_PER_SECOND;
+import static org.apache.gravitino.Configs.DEFAULT_GARBAGE_COLLECTOR_PARALLELISM;
+import static org.apache.gravitino.Configs.GARBAGE_COLLECTOR_MAX_PAUSE_MS;
+import static org.apache.gravitino.Configs.GARBAGE_COLLECTOR_MAX_ROWS_PER_SECOND;
+import static org.apache.gravitino.Configs.GARBAGE_COLLECTOR_PARALLELISM;
 import static org.apache.gravitino.Configs.STORE_DELETE_AFTER_TIME;
 import static org.apache.gravitino.Configs.VERSION_RETENTION_COUNT;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.RateLimiter;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleSupplier;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Entity;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.storage.relational.session.SqlSessionFactoryHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Deletes the legacy data and the old version data of the relational entity store periodically.
+ * The entity types are collected in parallel, except the ones deleting from the same tables which
+ * are collected one after another by one worker, each deletion is bounded by {@link
+ * org.apache.gravitino.Configs#GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT} rows, and the deletions of
+ * all the entity types share a budget of rows per second. The pause between two deletions of a
+ * worker grows while the connection pool of the entity store is saturated by the foreground
+ * operations, and shrinks again once it's not.
+ */
 public final class RelationalGarbageCollector implements Closeable {
 
   private static final Logger LOG = LoggerFactory.getLogger(RelationalGarbageCollector.class);
+
+  // The connection pool is considered saturated at this load.
+  @VisibleForTesting static final double SATURATED_POOL_LOAD = 0.8;
+
+  // The first non-zero pause in milliseconds, the pause is doubled from it while the pool is
+  // saturated and halved while it's not.
+  @VisibleForTesting static final long MIN_PAUSE_MS = 50;
+
+  // The deletions of these entity types all delete from the relation tables of the roles, they're
+  // collected by one worker so that the concurrent deletions don't deadlock each other.
+  private static final Set<Entity.EntityType> ROLE_RELATED_TYPES =
+      ImmutableSet.of(Entity.EntityType.USER, Entity.EntityType.GROUP, Entity.EntityType.ROLE);
+
+  // The entity types collected by each worker, no two of them delete from the same table.
+  @VisibleForTesting
+  static final List<List<Entity.EntityType>> COLLECTION_UNITS = collectionUnits();
+
   private final RelationalBackend backend;
 
   private final long storeDeleteAfterTimeMillis;
   private final long versionRetentionCount;
+  private final long maxPauseMs;
+  private final DoubleSupplier poolLoad;
+  private final RateLimiter rateLimiter;
+  // The latest pause of any worker, which is reported by the metrics.
+  private final AtomicLong latestPauseMs = new AtomicLong();
+
+  @VisibleForTesting final GarbageCollectorMetricsSource metricsSource;
 
   @VisibleForTesting
   final ScheduledExecutorService garbageCollectorPool =
       new ScheduledThreadPoolExecutor(
           2,
-          r -> {
-            Thread t = new Thread(r, "RelationalBackend-Garbage-Collector");
-            t.setDaemon(true);
-            return t;
-          },
+          new ThreadFactoryBuilder()
+              .setNameFormat("RelationalBackend-Garbage-Collector-%d")
+              .setDaemon(true)
+              .build(),
           new ThreadPoolExecutor.AbortPolicy());
 
+  private final ExecutorService collectorWorkerPool;
+
   public RelationalGarbageCollector(RelationalBackend backend, Config config) {
+    this(backend, config, SqlSessionFactoryHelper.getInstance()::getConnectionPoolLoad);
+  }
+
+  @VisibleForTesting
+  RelationalGarbageCollector(RelationalBackend backend, Config config, DoubleSupplier poolLoad) {
     this.backend = backend;
     storeDeleteAfterTimeMillis = config.get(STORE_DELETE_AFTER_TIME);
     versionRetentionCount = config.get(VERSION_RETENTION_COUNT);
+    maxPauseMs =
+        valueOrDefault(
+            config.get(GARBAGE_COLLECTOR_MAX_PAUSE_MS), DEFAULT_GARBAGE_COLLECTOR_MAX_PAUSE_MS);
+    this.poolLoad = poolLoad;
+    this.rateLimiter =
+        RateLimiter.create(
+            valueOrDefault(
+                config.get(GARBAGE_COLLECTOR_MAX_ROWS_PER_SECOND),
+                DEFAULT_GARBAGE_COLLECTOR_MAX_ROWS_PER_SECOND));
+    this.metricsSource = new GarbageCollectorMetricsSource(latestPauseMs::get);
+    Integer parallelism = config.get(GARBAGE_COLLECTOR_PARALLELISM);
+    this.collectorWorkerPool =
+        Executors.newFixedThreadPool(
+            parallelism == null ? DEFAULT_GARBAGE_COLLECTOR_PARALLELISM : parallelism,
+            new ThreadFactoryBuilder()
+                .setNameFormat("RelationalBackend-Garbage-Collector-Worker-%d")
+                .setDaemon(true)
+                .build());
+  }
+
+  private static long valueOrDefault(Long value, long defaultValue) {
+    return value == null ? defaultValue : value;
+  }
+
+  private static List<List<Entity.EntityType>> collectionUnits() {
+    ImmutableList.Builder<List<Entity.EntityType>> units = ImmutableList.builder();
+    List<Entity.EntityType> roleRelatedTypes = Lists.newArrayList();
+    for (Entity.EntityType entityType : Entity.EntityType.values()) {
+      if (ROLE_RELATED_TYPES.contains(entityType)) {
+        roleRelatedTypes.add(entityType);
+      } else {
+        units.add(ImmutableList.of(entityType));
+      }
+    }
+    return units.add(ImmutableList.copyOf(roleRelatedTypes)).build();
   }
 
   public void start() {
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
+
     long dateTimelineMinute = storeDeleteAfterTimeMillis / 1000 / 60;
 
     // We will collect garbage every 10 minutes at least. If the dateTimelineMinute is larger than
@@ -68,43 +168,27 @@ public final class RelationalGarbageCollector implements Closeable {
     garbageCollectorPool.scheduleAtFixedRate(this::collectAndClean, 5, frequency, TimeUnit.MINUTES);
   }
 
-  private void collectAndClean() {
+  @VisibleForTesting
+  void collectAndClean() {
     long threadId = Thread.currentThread().getId();
     LOG.info("Thread {} start to collect garbage...", threadId);
 
     try {
-      LOG.info("Start to collect and delete legacy data by thread {}", threadId);
+      long startNanos = System.nanoTime();
       long legacyTimeline = System.currentTimeMillis() - storeDeleteAfterTimeMillis;
-      for (Entity.EntityType entityType : Entity.EntityType.values()) {
-        long deletedCount = Long.MAX_VALUE;
-        LOG.info(
-            "Try to physically delete {} legacy data that has been marked deleted before {}",
-            entityType,
-            legacyTimeline);
-        try {
-          while (deletedCount > 0) {
-            deletedCount = backend.hardDeleteLegacyData(entityType, legacyTimeline);
-          }
-        } catch (RuntimeException e) {
-          LOG.error("Failed to physically delete type of " + entityType + "'s legacy data: ", e);
-        }
+      List<Future<Long>> futures = Lists.newArrayList();
+      for (List<Entity.EntityType> entityTypes : COLLECTION_UNITS) {
+        futures.add(collectorWorkerPool.submit(() -> collectAndClean(entityTypes, legacyTimeline)));
       }
 
-      LOG.info("Start to collect and delete old version data by thread {}", threadId);
-      for (Entity.EntityType entityType : Entity.EntityType.values()) {
-        long deletedCount = Long.MAX_VALUE;
-        LOG.info(
-            "Try to softly delete {} old version data that has been over retention count {}",
-            entityType,
-            versionRetentionCount);
-        try {
-          while (deletedCount > 0) {
-            deletedCount = backend.deleteOldVersionData(entityType, versionRetentionCount);
-          }
-        } catch (RuntimeException e) {
-          LOG.error("Failed to softly delete type of " + entityType + "'s old version data: ", e);
-        }
+      long deletedRows = 0;
+      for (Future<Long> future : futures) {
+        deletedRows += future.get();
       }
+      metricsSource.recordRun(System.nanoTime() - startNanos, deletedRows);
+    } catch (InterruptedException e) {
+      LOG.warn("Thread {} is interrupted while collecting garbage.", threadId);
+      Thread.currentThread().interrupt();
     } catch (Exception e) {
       LOG.error("Thread {} failed to collect and clean garbage.", threadId, e);
     } finally {
@@ -112,16 +196,123 @@ public final class RelationalGarbageCollector implements Closeable {
     }
   }
 
+  private long collectAndClean(List<Entity.EntityType> entityTypes, long legacyTimeline)
+      throws InterruptedException {
+    Pacer pacer = newPacer();
+    long deletedRows = 0;
+    for (Entity.EntityType entityType : entityTypes) {
+      deletedRows += collectAndClean(entityType, legacyTimeline, pacer);
+    }
+    return deletedRows;
+  }
+
+  private long collectAndClean(Entity.EntityType entityType, long legacyTimeline, Pacer pacer)
+      throws InterruptedException {
+    long deletedRows = 0;
+    LOG.info(
+        "Try to physically delete {} legacy data that has been marked deleted before {}",
+        entityType,
+        legacyTimeline);
+    try {
+      long deletedCount;
+      do {
+        deletedCount = backend.hardDeleteLegacyData(entityType, legacyTimeline);
+        metricsSource.incLegacyRows(entityType, deletedCount);
+        deletedRows += deletedCount;
+        pacer.pace(deletedCount);
+      } while (deletedCount > 0);
+      metricsSource.updateWatermark(entityType, legacyTimeline);
+    } catch (RuntimeException | IOException e) {
+      LOG.error("Failed to physically delete type of " + entityType + "'s legacy data: ", e);
+    }
+
+    LOG.info(
+        "Try to softly delete {} old version data that has been over retention count {}",
+        entityType,
+        versionRetentionCount);
+    try {
+      long deletedCount;
+      do {
+        deletedCount = backend.deleteOldVersionData(entityType, versionRetentionCount);
+        metricsSource.incOldVersionRows(entityType, deletedCount);
+        deletedRows += deletedCount;
+        pacer.pace(deletedCount);
+      } while (deletedCount > 0);
+    } catch (RuntimeException | IOException e) {
+      LOG.error("Failed to softly delete type of " + entityType + "'s old version data: ", e);
+    }
+
+    return deletedRows;
+  }
+
+  @VisibleForTesting
+  Pacer newPacer() {
+    return new Pacer();
+  }
+
+  /**
+   * Paces the deletions of one worker. Each worker adjusts its own pause, so the pause is doubled
+   * once per deletion of the worker while the connection pool is saturated, not once per deletion
+   * of any worker.
+   */
+  @VisibleForTesting
+  final class Pacer {
+    private long pauseMs;
+
+    private Pacer() {}
+
+    // Waits for the budget of the deleted rows, then pauses to give way to the foreground
+    // operations if the connection pool is saturated.
+    private void pace(long deletedCount) throws InterruptedException {
+      if (deletedCount <= 0) {
+        return;
+      }
+
+      rateLimiter.acquire((int) Math.min(deletedCount, Integer.MAX_VALUE));
+      long pause = adjustPause(poolLoad.getAsDouble());
+      if (pause > 0) {
+        Thread.sleep(pause);
+      }
+    }
+
+    /**
+     * Adjusts the pause between two deletions by the load of the connection pool.
+     *
+     * @param load The load of the connection pool.
+     * @return The adjusted pause in milliseconds.
+     */
+    @VisibleForTesting
+    long adjustPause(double load) {
+      if (load >= SATURATED_POOL_LOAD) {
+        pauseMs = Math.min(maxPauseMs, Math.max(MIN_PAUSE_MS, pauseMs * 2));
+      } else {
+        pauseMs = pauseMs / 2 < MIN_PAUSE_MS ? 0 : pauseMs / 2;
+      }
+      latestPauseMs.set(pauseMs);
+      return pauseMs;
+    }
+  }
+
   @Override
   public void close() throws IOException {
     this.garbageCollectorPool.shutdown();
+    this.collectorWorkerPool.shutdown();
     try {
       if (!this.garbageCollectorPool.awaitTermination(5, TimeUnit.SECONDS)) {
         this.garbageCollectorPool.shutdownNow();
       }
+      if (!this.collectorWorkerPool.awaitTermination(5, TimeUnit.SECONDS)) {
+        this.collectorWorkerPool.shutdownNow();
+      }
     } catch (InterruptedException ex) {
       this.garbageCollectorPool.shutdownNow();
+      this.collectorWorkerPool.shutdownNow();
       Thread.currentThread().interrupt();
+    } finally {
+      MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+      if (metricsSystem != null) {
+        metricsSystem.unregister(metricsSource);
+      }
     }
   }
 }
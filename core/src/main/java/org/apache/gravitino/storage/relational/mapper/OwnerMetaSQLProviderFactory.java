@@ -19,6 +19,7 @@
 package org.apache.gravitino.storage.relational.mapper;
 
 import com.google.common.collect.ImmutableMap;
+import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.storage.relational.JDBCBackend.JDBCBackendType;
 import org.apache.gravitino.storage.relational.mapper.provider.base.OwnerMetaBaseSQLProvider;
@@ -75,6 +76,13 @@ public class OwnerMetaSQLProviderFactory {
         .softDeleteOwnerRelByMetadataObjectIdAndType(metadataObjectId, metadataObjectType);
   }
 
+  public static String softDeleteOwnerRelByMetadataObjectIdsAndType(
+      @Param("metadataObjectIds") List<Long> metadataObjectIds,
+      @Param("metadataObjectType") String metadataObjectType) {
+    return getProvider()
+        .softDeleteOwnerRelByMetadataObjectIdsAndType(metadataObjectIds, metadataObjectType);
+  }
+
   public static String softDeleteOwnerRelByOwnerIdAndType(
       @Param("ownerId") Long ownerId, @Param("ownerType") String ownerType) {
     return getProvider().softDeleteOwnerRelByOwnerIdAndType(ownerId, ownerType);
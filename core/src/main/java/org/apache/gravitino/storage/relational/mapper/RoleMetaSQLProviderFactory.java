@@ -19,6 +19,7 @@
 package org.apache.gravitino.storage.relational.mapper;
 
 import com.google.common.collect.ImmutableMap;
+import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.storage.relational.JDBCBackend.JDBCBackendType;
 import org.apache.gravitino.storage.relational.mapper.provider.base.RoleMetaBaseSQLProvider;
@@ -72,6 +73,11 @@ public class RoleMetaSQLProviderFactory {
     return getProvider().listRolesByMetadataObjectIdAndType(metadataObjectId, type);
   }
 
+  public static String listRolePOsByMetalakeIdAndNames(
+      @Param("metalakeId") Long metalakeId, @Param("roleNames") List<String> roleNames) {
+    return getProvider().listRolePOsByMetalakeIdAndNames(metalakeId, roleNames);
+  }
+
   public static String listRolePOsByMetalake(@Param("metalakeName") String metalakeName) {
     return getProvider().listRolePOsByMetalake(metalakeName);
   }
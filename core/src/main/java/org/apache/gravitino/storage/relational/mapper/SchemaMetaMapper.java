@@ -64,6 +64,14 @@ public interface SchemaMetaMapper {
       method = "insertSchemaMetaOnDuplicateKeyUpdate")
   void insertSchemaMetaOnDuplicateKeyUpdate(@Param("schemaMeta") SchemaPO schemaPO);
 
+  @InsertProvider(type = SchemaMetaSQLProviderFactory.class, method = "batchInsertSchemaMetas")
+  void batchInsertSchemaMetas(@Param("schemaMetas") List<SchemaPO> schemaPOs);
+
+  @InsertProvider(
+      type = SchemaMetaSQLProviderFactory.class,
+      method = "batchInsertSchemaMetasOnDuplicateKeyUpdate")
+  void batchInsertSchemaMetasOnDuplicateKeyUpdate(@Param("schemaMetas") List<SchemaPO> schemaPOs);
+
   @UpdateProvider(type = SchemaMetaSQLProviderFactory.class, method = "updateSchemaMeta")
   Integer updateSchemaMeta(
       @Param("newSchemaMeta") SchemaPO newSchemaPO, @Param("oldSchemaMeta") SchemaPO oldSchemaPO);
@@ -19,6 +19,7 @@
 package org.apache.gravitino.storage.relational.mapper;
 
 import com.google.common.collect.ImmutableMap;
+import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.storage.relational.JDBCBackend.JDBCBackendType;
 import org.apache.gravitino.storage.relational.mapper.provider.base.SchemaMetaBaseSQLProvider;
@@ -77,6 +78,15 @@ public class SchemaMetaSQLProviderFactory {
     return getProvider().insertSchemaMetaOnDuplicateKeyUpdate(schemaPO);
   }
 
+  public static String batchInsertSchemaMetas(@Param("schemaMetas") List<SchemaPO> schemaPOs) {
+    return getProvider().batchInsertSchemaMetas(schemaPOs);
+  }
+
+  public static String batchInsertSchemaMetasOnDuplicateKeyUpdate(
+      @Param("schemaMetas") List<SchemaPO> schemaPOs) {
+    return getProvider().batchInsertSchemaMetasOnDuplicateKeyUpdate(schemaPOs);
+  }
+
   public static String updateSchemaMeta(
       @Param("newSchemaMeta") SchemaPO newSchemaPO, @Param("oldSchemaMeta") SchemaPO oldSchemaPO) {
     return getProvider().updateSchemaMeta(newSchemaPO, oldSchemaPO);
@@ -77,6 +77,13 @@ public class SecurableObjectSQLProviderFactory {
     return getProvider().softDeleteObjectRelsByMetadataObject(metadataObjectId, metadataObjectType);
   }
 
+  public static String softDeleteObjectRelsByMetadataObjects(
+      @Param("metadataObjectIds") List<Long> metadataObjectIds,
+      @Param("metadataObjectType") String metadataObjectType) {
+    return getProvider()
+        .softDeleteObjectRelsByMetadataObjects(metadataObjectIds, metadataObjectType);
+  }
+
   public static String softDeleteObjectRelsByCatalogId(@Param("catalogId") Long catalogId) {
     return getProvider().softDeleteObjectRelsByCatalogId(catalogId);
   }
@@ -89,6 +96,10 @@ public class SecurableObjectSQLProviderFactory {
     return getProvider().listSecurableObjectsByRoleId(roleId);
   }
 
+  public static String listSecurableObjectsByRoleIds(@Param("roleIds") List<Long> roleIds) {
+    return getProvider().listSecurableObjectsByRoleIds(roleIds);
+  }
+
   public static String deleteSecurableObjectsByLegacyTimeline(
       @Param("legacyTimeline") Long legacyTimeline, @Param("limit") int limit) {
     return getProvider().deleteSecurableObjectsByLegacyTimeline(legacyTimeline, limit);
@@ -32,16 +32,24 @@ public interface TableColumnMapper {
 
   @SelectProvider(
       type = TableColumnSQLProviderFactory.class,
-      method = "listColumnPOsByTableIdAndVersion")
-  List<ColumnPO> listColumnPOsByTableIdAndVersion(
-      @Param("tableId") Long tableId, @Param("tableVersion") Long tableVersion);
+      method = "listCurrentColumnPOsByTableId")
+  List<ColumnPO> listCurrentColumnPOsByTableId(@Param("tableId") Long tableId);
 
   @InsertProvider(type = TableColumnSQLProviderFactory.class, method = "insertColumnPOs")
   void insertColumnPOs(@Param("columnPOs") List<ColumnPO> columnPOs);
 
+  @UpdateProvider(type = TableColumnSQLProviderFactory.class, method = "supersedeColumnPOs")
+  Integer supersedeColumnPOs(
+      @Param("tableId") Long tableId, @Param("columnIds") List<Long> columnIds);
+
   @UpdateProvider(type = TableColumnSQLProviderFactory.class, method = "softDeleteColumnsByTableId")
   Integer softDeleteColumnsByTableId(@Param("tableId") Long tableId);
 
+  @UpdateProvider(
+      type = TableColumnSQLProviderFactory.class,
+      method = "softDeleteColumnsByTableIds")
+  Integer softDeleteColumnsByTableIds(@Param("tableIds") List<Long> tableIds);
+
   @UpdateProvider(
       type = TableColumnSQLProviderFactory.class,
       method = "softDeleteColumnsByMetalakeId")
@@ -63,6 +71,12 @@ public interface TableColumnMapper {
   Integer deleteColumnPOsByLegacyTimeline(
       @Param("legacyTimeline") Long legacyTimeline, @Param("limit") int limit);
 
+  @UpdateProvider(
+      type = TableColumnSQLProviderFactory.class,
+      method = "softDeleteSupersededColumnsByRetentionCount")
+  Integer softDeleteSupersededColumnsByRetentionCount(
+      @Param("versionRetentionCount") Long versionRetentionCount, @Param("limit") int limit);
+
   @SelectProvider(
       type = TableColumnSQLProviderFactory.class,
       method = "selectColumnIdByTableIdAndName")
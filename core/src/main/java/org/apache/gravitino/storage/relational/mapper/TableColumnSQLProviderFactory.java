@@ -52,24 +52,37 @@ public class TableColumnSQLProviderFactory {
     return TABLE_COLUMN_SQL_PROVIDERS.get(jdbcBackendType);
   }
 
-  public static String listColumnPOsByTableIdAndVersion(
-      @Param("tableId") Long tableId, @Param("tableVersion") Long tableVersion) {
-    return getProvider().listColumnPOsByTableIdAndVersion(tableId, tableVersion);
+  public static String listCurrentColumnPOsByTableId(@Param("tableId") Long tableId) {
+    return getProvider().listCurrentColumnPOsByTableId(tableId);
   }
 
   public static String insertColumnPOs(@Param("columnPOs") List<ColumnPO> columnPOs) {
     return getProvider().insertColumnPOs(columnPOs);
   }
 
+  public static String supersedeColumnPOs(
+      @Param("tableId") Long tableId, @Param("columnIds") List<Long> columnIds) {
+    return getProvider().supersedeColumnPOs(tableId, columnIds);
+  }
+
   public static String softDeleteColumnsByTableId(@Param("tableId") Long tableId) {
     return getProvider().softDeleteColumnsByTableId(tableId);
   }
 
+  public static String softDeleteColumnsByTableIds(@Param("tableIds") List<Long> tableIds) {
+    return getProvider().softDeleteColumnsByTableIds(tableIds);
+  }
+
   public static String deleteColumnPOsByLegacyTimeline(
       @Param("legacyTimeline") Long legacyTimeline, @Param("limit") int limit) {
     return getProvider().deleteColumnPOsByLegacyTimeline(legacyTimeline, limit);
   }
 
+  public static String softDeleteSupersededColumnsByRetentionCount(
+      @Param("versionRetentionCount") Long versionRetentionCount, @Param("limit") int limit) {
+    return getProvider().softDeleteSupersededColumnsByRetentionCount(versionRetentionCount, limit);
+  }
+
   public static String softDeleteColumnsByMetalakeId(@Param("metalakeId") Long metalakeId) {
     return getProvider().softDeleteColumnsByMetalakeId(metalakeId);
   }
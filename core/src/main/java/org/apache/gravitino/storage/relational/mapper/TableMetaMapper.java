@@ -41,6 +41,12 @@ public interface TableMetaMapper {
   @SelectProvider(type = TableMetaSQLProviderFactory.class, method = "listTablePOsBySchemaId")
   List<TablePO> listTablePOsBySchemaId(@Param("schemaId") Long schemaId);
 
+  @SelectProvider(
+      type = TableMetaSQLProviderFactory.class,
+      method = "listTablePOsBySchemaIdAndNames")
+  List<TablePO> listTablePOsBySchemaIdAndNames(
+      @Param("schemaId") Long schemaId, @Param("tableNames") List<String> tableNames);
+
   @SelectProvider(
       type = TableMetaSQLProviderFactory.class,
       method = "selectTableIdBySchemaIdAndName")
@@ -64,6 +70,14 @@ public interface TableMetaMapper {
       method = "insertTableMetaOnDuplicateKeyUpdate")
   void insertTableMetaOnDuplicateKeyUpdate(@Param("tableMeta") TablePO tablePO);
 
+  @InsertProvider(type = TableMetaSQLProviderFactory.class, method = "batchInsertTableMetas")
+  void batchInsertTableMetas(@Param("tableMetas") List<TablePO> tablePOs);
+
+  @InsertProvider(
+      type = TableMetaSQLProviderFactory.class,
+      method = "batchInsertTableMetasOnDuplicateKeyUpdate")
+  void batchInsertTableMetasOnDuplicateKeyUpdate(@Param("tableMetas") List<TablePO> tablePOs);
+
   @UpdateProvider(type = TableMetaSQLProviderFactory.class, method = "updateTableMeta")
   Integer updateTableMeta(
       @Param("newTableMeta") TablePO newTablePO, @Param("oldTableMeta") TablePO oldTablePO);
@@ -73,6 +87,11 @@ public interface TableMetaMapper {
       method = "softDeleteTableMetasByTableId")
   Integer softDeleteTableMetasByTableId(@Param("tableId") Long tableId);
 
+  @UpdateProvider(
+      type = TableMetaSQLProviderFactory.class,
+      method = "softDeleteTableMetasByTableIds")
+  Integer softDeleteTableMetasByTableIds(@Param("tableIds") List<Long> tableIds);
+
   @UpdateProvider(
       type = TableMetaSQLProviderFactory.class,
       method = "softDeleteTableMetasByMetalakeId")
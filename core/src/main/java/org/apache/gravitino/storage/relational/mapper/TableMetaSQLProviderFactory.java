@@ -19,6 +19,7 @@
 package org.apache.gravitino.storage.relational.mapper;
 
 import com.google.common.collect.ImmutableMap;
+import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.storage.relational.JDBCBackend.JDBCBackendType;
 import org.apache.gravitino.storage.relational.mapper.provider.base.TableMetaBaseSQLProvider;
@@ -54,6 +55,11 @@ public class TableMetaSQLProviderFactory {
     return getProvider().listTablePOsBySchemaId(schemaId);
   }
 
+  public static String listTablePOsBySchemaIdAndNames(
+      @Param("schemaId") Long schemaId, @Param("tableNames") List<String> tableNames) {
+    return getProvider().listTablePOsBySchemaIdAndNames(schemaId, tableNames);
+  }
+
   public static String selectTableIdBySchemaIdAndName(
       @Param("schemaId") Long schemaId, @Param("tableName") String name) {
     return getProvider().selectTableIdBySchemaIdAndName(schemaId, name);
@@ -76,6 +82,15 @@ public class TableMetaSQLProviderFactory {
     return getProvider().insertTableMetaOnDuplicateKeyUpdate(tablePO);
   }
 
+  public static String batchInsertTableMetas(@Param("tableMetas") List<TablePO> tablePOs) {
+    return getProvider().batchInsertTableMetas(tablePOs);
+  }
+
+  public static String batchInsertTableMetasOnDuplicateKeyUpdate(
+      @Param("tableMetas") List<TablePO> tablePOs) {
+    return getProvider().batchInsertTableMetasOnDuplicateKeyUpdate(tablePOs);
+  }
+
   public static String updateTableMeta(
       @Param("newTableMeta") TablePO newTablePO, @Param("oldTableMeta") TablePO oldTablePO) {
     return getProvider().updateTableMeta(newTablePO, oldTablePO);
@@ -85,6 +100,10 @@ public class TableMetaSQLProviderFactory {
     return getProvider().softDeleteTableMetasByTableId(tableId);
   }
 
+  public static String softDeleteTableMetasByTableIds(@Param("tableIds") List<Long> tableIds) {
+    return getProvider().softDeleteTableMetasByTableIds(tableIds);
+  }
+
   public static String softDeleteTableMetasByMetalakeId(@Param("metalakeId") Long metalakeId) {
     return getProvider().softDeleteTableMetasByMetalakeId(metalakeId);
   }
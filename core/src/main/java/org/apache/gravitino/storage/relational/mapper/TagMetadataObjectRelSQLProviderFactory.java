@@ -58,6 +58,20 @@ public class TagMetadataObjectRelSQLProviderFactory {
     return getProvider().listTagPOsByMetadataObjectIdAndType(metadataObjectId, metadataObjectType);
   }
 
+  public static String listTagPOsByMetadataObjectIdsAndType(
+      @Param("metadataObjectIds") List<Long> metadataObjectIds,
+      @Param("metadataObjectType") String metadataObjectType) {
+    return getProvider()
+        .listTagPOsByMetadataObjectIdsAndType(metadataObjectIds, metadataObjectType);
+  }
+
+  public static String listTagMetadataObjectRelsByMetadataObjectIdsAndType(
+      @Param("metadataObjectIds") List<Long> metadataObjectIds,
+      @Param("metadataObjectType") String metadataObjectType) {
+    return getProvider()
+        .listTagMetadataObjectRelsByMetadataObjectIdsAndType(metadataObjectIds, metadataObjectType);
+  }
+
   public static String getTagPOsByMetadataObjectAndTagName(
       @Param("metadataObjectId") Long metadataObjectId,
       @Param("metadataObjectType") String metadataObjectType,
@@ -115,6 +129,11 @@ public class TagMetadataObjectRelSQLProviderFactory {
     return getProvider().softDeleteTagMetadataObjectRelsByTableId(tableId);
   }
 
+  public static String softDeleteTagMetadataObjectRelsByTableIds(
+      @Param("tableIds") List<Long> tableIds) {
+    return getProvider().softDeleteTagMetadataObjectRelsByTableIds(tableIds);
+  }
+
   public static String deleteTagEntityRelsByLegacyTimeline(
       @Param("legacyTimeline") Long legacyTimeline, @Param("limit") int limit) {
     return getProvider().deleteTagEntityRelsByLegacyTimeline(legacyTimeline, limit);
@@ -37,6 +37,14 @@ public interface TopicMetaMapper {
       method = "insertTopicMetaOnDuplicateKeyUpdate")
   void insertTopicMetaOnDuplicateKeyUpdate(@Param("topicMeta") TopicPO topicPO);
 
+  @InsertProvider(type = TopicMetaSQLProviderFactory.class, method = "batchInsertTopicMetas")
+  void batchInsertTopicMetas(@Param("topicMetas") List<TopicPO> topicPOs);
+
+  @InsertProvider(
+      type = TopicMetaSQLProviderFactory.class,
+      method = "batchInsertTopicMetasOnDuplicateKeyUpdate")
+  void batchInsertTopicMetasOnDuplicateKeyUpdate(@Param("topicMetas") List<TopicPO> topicPOs);
+
   @SelectProvider(type = TopicMetaSQLProviderFactory.class, method = "listTopicPOsBySchemaId")
   List<TopicPO> listTopicPOsBySchemaId(@Param("schemaId") Long schemaId);
 
@@ -20,6 +20,7 @@
 package org.apache.gravitino.storage.relational.mapper;
 
 import com.google.common.collect.ImmutableMap;
+import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.storage.relational.JDBCBackend.JDBCBackendType;
 import org.apache.gravitino.storage.relational.mapper.provider.base.TopicMetaBaseSQLProvider;
@@ -59,6 +60,15 @@ public class TopicMetaSQLProviderFactory {
     return getProvider().insertTopicMetaOnDuplicateKeyUpdate(topicPO);
   }
 
+  public static String batchInsertTopicMetas(@Param("topicMetas") List<TopicPO> topicPOs) {
+    return getProvider().batchInsertTopicMetas(topicPOs);
+  }
+
+  public static String batchInsertTopicMetasOnDuplicateKeyUpdate(
+      @Param("topicMetas") List<TopicPO> topicPOs) {
+    return getProvider().batchInsertTopicMetasOnDuplicateKeyUpdate(topicPOs);
+  }
+
   public static String listTopicPOsBySchemaId(@Param("schemaId") Long schemaId) {
     return getProvider().listTopicPOsBySchemaId(schemaId);
   }
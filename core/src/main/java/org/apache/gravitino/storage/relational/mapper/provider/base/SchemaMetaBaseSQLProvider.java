@@ -20,6 +20,7 @@ package org.apache.gravitino.storage.relational.mapper.provider.base;
 
 import static org.apache.gravitino.storage.relational.mapper.SchemaMetaMapper.TABLE_NAME;
 
+import java.util.List;
 import org.apache.gravitino.storage.relational.po.SchemaPO;
 import org.apache.ibatis.annotations.Param;
 
@@ -116,6 +117,63 @@ public class SchemaMetaBaseSQLProvider {
         + " deleted_at = #{schemaMeta.deletedAt}";
   }
 
+  public String batchInsertSchemaMetas(@Param("schemaMetas") List<SchemaPO> schemaPOs) {
+    return "<script>"
+        + "INSERT INTO "
+        + TABLE_NAME
+        + "(schema_id, schema_name, metalake_id,"
+        + " catalog_id, schema_comment, properties, audit_info,"
+        + " current_version, last_version, deleted_at)"
+        + " VALUES "
+        + "<foreach collection='schemaMetas' item='item' separator=','>"
+        + "(#{item.schemaId},"
+        + " #{item.schemaName},"
+        + " #{item.metalakeId},"
+        + " #{item.catalogId},"
+        + " #{item.schemaComment},"
+        + " #{item.properties},"
+        + " #{item.auditInfo},"
+        + " #{item.currentVersion},"
+        + " #{item.lastVersion},"
+        + " #{item.deletedAt})"
+        + "</foreach>"
+        + "</script>";
+  }
+
+  public String batchInsertSchemaMetasOnDuplicateKeyUpdate(
+      @Param("schemaMetas") List<SchemaPO> schemaPOs) {
+    return "<script>"
+        + "INSERT INTO "
+        + TABLE_NAME
+        + "(schema_id, schema_name, metalake_id,"
+        + " catalog_id, schema_comment, properties, audit_info,"
+        + " current_version, last_version, deleted_at)"
+        + " VALUES "
+        + "<foreach collection='schemaMetas' item='item' separator=','>"
+        + "(#{item.schemaId},"
+        + " #{item.schemaName},"
+        + " #{item.metalakeId},"
+        + " #{item.catalogId},"
+        + " #{item.schemaComment},"
+        + " #{item.properties},"
+        + " #{item.auditInfo},"
+        + " #{item.currentVersion},"
+        + " #{item.lastVersion},"
+        + " #{item.deletedAt})"
+        + "</foreach>"
+        + " ON DUPLICATE KEY UPDATE"
+        + " schema_name = VALUES(schema_name),"
+        + " metalake_id = VALUES(metalake_id),"
+        + " catalog_id = VALUES(catalog_id),"
+        + " schema_comment = VALUES(schema_comment),"
+        + " properties = VALUES(properties),"
+        + " audit_info = VALUES(audit_info),"
+        + " current_version = VALUES(current_version),"
+        + " last_version = VALUES(last_version),"
+        + " deleted_at = VALUES(deleted_at)"
+        + "</script>";
+  }
+
   public String updateSchemaMeta(
       @Param("newSchemaMeta") SchemaPO newSchemaPO, @Param("oldSchemaMeta") SchemaPO oldSchemaPO) {
     return "UPDATE "
@@ -20,31 +20,24 @@ package org.apache.gravitino.storage.relational.mapper.provider.base;
 
 import java.util.List;
 import org.apache.gravitino.storage.relational.mapper.TableColumnMapper;
+import org.apache.gravitino.storage.relational.mapper.TableMetaMapper;
 import org.apache.gravitino.storage.relational.po.ColumnPO;
 import org.apache.ibatis.annotations.Param;
 
 public class TableColumnBaseSQLProvider {
 
-  public String listColumnPOsByTableIdAndVersion(
-      @Param("tableId") Long tableId, @Param("tableVersion") Long tableVersion) {
-    return "SELECT t1.column_id AS columnId, t1.column_name AS columnName,"
-        + " t1.column_position AS columnPosition,"
-        + " t1.metalake_id AS metalakeId, t1.catalog_id AS catalogId,"
-        + " t1.schema_id AS schemaId, t1.table_id AS tableId,"
-        + " t1.table_version AS tableVersion, t1.column_type AS columnType,"
-        + " t1.column_comment AS columnComment, t1.column_nullable AS nullable,"
-        + " t1.column_auto_increment AS autoIncrement,"
-        + " t1.column_default_value AS defaultValue, t1.column_op_type AS columnOpType,"
-        + " t1.deleted_at AS deletedAt, t1.audit_info AS auditInfo"
-        + " FROM "
-        + TableColumnMapper.COLUMN_TABLE_NAME
-        + " t1 JOIN ("
-        + " SELECT column_id, MAX(table_version) AS max_table_version"
+  public String listCurrentColumnPOsByTableId(@Param("tableId") Long tableId) {
+    return "SELECT column_id AS columnId, column_name AS columnName,"
+        + " column_position AS columnPosition, metalake_id AS metalakeId, catalog_id AS catalogId,"
+        + " schema_id AS schemaId, table_id AS tableId,"
+        + " table_version AS tableVersion, column_type AS columnType,"
+        + " column_comment AS columnComment, column_nullable AS nullable,"
+        + " column_auto_increment AS autoIncrement,"
+        + " column_default_value AS defaultValue, column_op_type AS columnOpType,"
+        + " deleted_at AS deletedAt, audit_info AS auditInfo"
         + " FROM "
         + TableColumnMapper.COLUMN_TABLE_NAME
-        + " WHERE table_id = #{tableId} AND table_version <= #{tableVersion} AND deleted_at = 0"
-        + " GROUP BY column_id) t2"
-        + " ON t1.column_id = t2.column_id AND t1.table_version = t2.max_table_version";
+        + " WHERE table_id = #{tableId} AND column_current = 1 AND deleted_at = 0";
   }
 
   public String insertColumnPOs(@Param("columnPOs") List<ColumnPO> columnPOs) {
@@ -54,14 +47,28 @@ public class TableColumnBaseSQLProvider {
         + "(column_id, column_name, column_position, metalake_id, catalog_id, schema_id,"
         + " table_id, table_version,"
         + " column_type, column_comment, column_nullable, column_auto_increment,"
-        + " column_default_value, column_op_type, deleted_at, audit_info)"
+        + " column_default_value, column_op_type, column_current, deleted_at, audit_info)"
         + " VALUES "
         + "<foreach collection='columnPOs' item='item' separator=','>"
         + "(#{item.columnId}, #{item.columnName}, #{item.columnPosition}, #{item.metalakeId},"
         + " #{item.catalogId}, #{item.schemaId}, #{item.tableId}, #{item.tableVersion},"
         + " #{item.columnType}, #{item.columnComment}, #{item.nullable}, #{item.autoIncrement},"
-        + " #{item.defaultValue}, #{item.columnOpType}, #{item.deletedAt}, #{item.auditInfo})"
+        + " #{item.defaultValue}, #{item.columnOpType}, 1, #{item.deletedAt}, #{item.auditInfo})"
+        + "</foreach>"
+        + "</script>";
+  }
+
+  public String supersedeColumnPOs(
+      @Param("tableId") Long tableId, @Param("columnIds") List<Long> columnIds) {
+    return "<script>"
+        + "UPDATE "
+        + TableColumnMapper.COLUMN_TABLE_NAME
+        + " SET column_current = 0"
+        + " WHERE table_id = #{tableId} AND column_id IN ("
+        + "<foreach collection='columnIds' item='columnId' separator=','>"
+        + "#{columnId}"
         + "</foreach>"
+        + ") AND column_current = 1 AND deleted_at = 0"
         + "</script>";
   }
 
@@ -73,6 +80,20 @@ public class TableColumnBaseSQLProvider {
         + " WHERE table_id = #{tableId} AND deleted_at = 0";
   }
 
+  public String softDeleteColumnsByTableIds(@Param("tableIds") List<Long> tableIds) {
+    return "<script>"
+        + "UPDATE "
+        + TableColumnMapper.COLUMN_TABLE_NAME
+        + " SET deleted_at = (UNIX_TIMESTAMP() * 1000.0)"
+        + " + EXTRACT(MICROSECOND FROM CURRENT_TIMESTAMP(3)) / 1000"
+        + " WHERE table_id IN ("
+        + "<foreach collection='tableIds' item='tableId' separator=','>"
+        + "#{tableId}"
+        + "</foreach>"
+        + ") AND deleted_at = 0"
+        + "</script>";
+  }
+
   public String softDeleteColumnsByMetalakeId(@Param("metalakeId") Long metalakeId) {
     return "UPDATE "
         + TableColumnMapper.COLUMN_TABLE_NAME
@@ -104,6 +125,20 @@ public class TableColumnBaseSQLProvider {
         + " WHERE deleted_at > 0 AND deleted_at < #{legacyTimeline} LIMIT #{limit}";
   }
 
+  public String softDeleteSupersededColumnsByRetentionCount(
+      @Param("versionRetentionCount") Long versionRetentionCount, @Param("limit") int limit) {
+    return "UPDATE "
+        + TableColumnMapper.COLUMN_TABLE_NAME
+        + " SET deleted_at = (UNIX_TIMESTAMP() * 1000.0)"
+        + " + EXTRACT(MICROSECOND FROM CURRENT_TIMESTAMP(3)) / 1000"
+        + " WHERE column_current = 0 AND deleted_at = 0 AND table_version <= ("
+        + " SELECT tm.current_version - #{versionRetentionCount} FROM "
+        + TableMetaMapper.TABLE_NAME
+        + " tm WHERE tm.table_id = "
+        + TableColumnMapper.COLUMN_TABLE_NAME
+        + ".table_id AND tm.deleted_at = 0) LIMIT #{limit}";
+  }
+
   public String selectColumnIdByTableIdAndName(
       @Param("tableId") Long tableId, @Param("columnName") String name) {
     return "SELECT"
@@ -113,8 +148,8 @@ public class TableColumnBaseSQLProvider {
         + "   END"
         + " FROM "
         + TableColumnMapper.COLUMN_TABLE_NAME
-        + " WHERE table_id = #{tableId} AND column_name = #{columnName} AND deleted_at = 0"
-        + " ORDER BY table_version DESC LIMIT 1";
+        + " WHERE table_id = #{tableId} AND column_name = #{columnName}"
+        + " AND column_current = 1 AND deleted_at = 0";
   }
 
   public String selectColumnPOById(@Param("columnId") Long columnId) {
@@ -128,7 +163,6 @@ public class TableColumnBaseSQLProvider {
         + " deleted_at AS deletedAt, audit_info AS auditInfo"
         + " FROM "
         + TableColumnMapper.COLUMN_TABLE_NAME
-        + " WHERE column_id = #{columnId} AND deleted_at = 0"
-        + " ORDER BY table_version DESC LIMIT 1";
+        + " WHERE column_id = #{columnId} AND column_current = 1 AND deleted_at = 0";
   }
 }
@@ -52,6 +52,48 @@ public class TagMetadataObjectRelBaseSQLProvider {
         + " AND tm.deleted_at = 0";
   }
 
+  public String listTagPOsByMetadataObjectIdsAndType(
+      @Param("metadataObjectIds") List<Long> metadataObjectIds,
+      @Param("metadataObjectType") String metadataObjectType) {
+    return "<script>"
+        + "SELECT DISTINCT tm.tag_id as tagId, tm.tag_name as tagName,"
+        + " tm.metalake_id as metalakeId, tm.tag_comment as comment, tm.properties as properties,"
+        + " tm.audit_info as auditInfo,"
+        + " tm.current_version as currentVersion,"
+        + " tm.last_version as lastVersion,"
+        + " tm.deleted_at as deletedAt"
+        + " FROM "
+        + TagMetaMapper.TAG_TABLE_NAME
+        + " tm JOIN "
+        + TagMetadataObjectRelMapper.TAG_METADATA_OBJECT_RELATION_TABLE_NAME
+        + " te ON tm.tag_id = te.tag_id"
+        + " WHERE te.metadata_object_id IN ("
+        + "<foreach collection='metadataObjectIds' item='metadataObjectId' separator=','>"
+        + "#{metadataObjectId}"
+        + "</foreach>"
+        + ") AND te.metadata_object_type = #{metadataObjectType} AND te.deleted_at = 0"
+        + " AND tm.deleted_at = 0"
+        + "</script>";
+  }
+
+  public String listTagMetadataObjectRelsByMetadataObjectIdsAndType(
+      @Param("metadataObjectIds") List<Long> metadataObjectIds,
+      @Param("metadataObjectType") String metadataObjectType) {
+    return "<script>"
+        + "SELECT te.tag_id as tagId, te.metadata_object_id as metadataObjectId,"
+        + " te.metadata_object_type as metadataObjectType, te.audit_info as auditInfo,"
+        + " te.current_version as currentVersion, te.last_version as lastVersion,"
+        + " te.deleted_at as deletedAt"
+        + " FROM "
+        + TagMetadataObjectRelMapper.TAG_METADATA_OBJECT_RELATION_TABLE_NAME
+        + " te WHERE te.metadata_object_id IN ("
+        + "<foreach collection='metadataObjectIds' item='metadataObjectId' separator=','>"
+        + "#{metadataObjectId}"
+        + "</foreach>"
+        + ") AND te.metadata_object_type = #{metadataObjectType} AND te.deleted_at = 0"
+        + "</script>";
+  }
+
   public String getTagPOsByMetadataObjectAndTagName(
       @Param("metadataObjectId") Long metadataObjectId,
       @Param("metadataObjectType") String metadataObjectType,
@@ -234,6 +276,29 @@ public class TagMetadataObjectRelBaseSQLProvider {
         + ")";
   }
 
+  public String softDeleteTagMetadataObjectRelsByTableIds(@Param("tableIds") List<Long> tableIds) {
+    return "<script>"
+        + " UPDATE "
+        + TagMetadataObjectRelMapper.TAG_METADATA_OBJECT_RELATION_TABLE_NAME
+        + " tmt SET deleted_at = (UNIX_TIMESTAMP() * 1000.0)"
+        + " + EXTRACT(MICROSECOND FROM CURRENT_TIMESTAMP(3)) / 1000"
+        + " WHERE tmt.deleted_at = 0 AND ("
+        + " (tmt.metadata_object_type = 'TABLE' AND tmt.metadata_object_id IN ("
+        + "<foreach collection='tableIds' item='tableId' separator=','>"
+        + "#{tableId}"
+        + "</foreach>"
+        + "))"
+        + " OR (tmt.metadata_object_type = 'COLUMN' AND tmt.metadata_object_id IN ("
+        + " SELECT cot.column_id FROM "
+        + TableColumnMapper.COLUMN_TABLE_NAME
+        + " cot WHERE cot.table_id IN ("
+        + "<foreach collection='tableIds' item='tableId' separator=','>"
+        + "#{tableId}"
+        + "</foreach>"
+        + "))))"
+        + "</script>";
+  }
+
   public String softDeleteTagMetadataObjectRelsByTableId(@Param("tableId") Long tableId) {
     return " UPDATE "
         + TagMetadataObjectRelMapper.TAG_METADATA_OBJECT_RELATION_TABLE_NAME
@@ -21,6 +21,7 @@ package org.apache.gravitino.storage.relational.mapper.provider.base;
 
 import static org.apache.gravitino.storage.relational.mapper.TopicMetaMapper.TABLE_NAME;
 
+import java.util.List;
 import org.apache.gravitino.storage.relational.po.TopicPO;
 import org.apache.ibatis.annotations.Param;
 
@@ -79,6 +80,66 @@ public class TopicMetaBaseSQLProvider {
         + " deleted_at = #{topicMeta.deletedAt}";
   }
 
+  public String batchInsertTopicMetas(@Param("topicMetas") List<TopicPO> topicPOs) {
+    return "<script>"
+        + "INSERT INTO "
+        + TABLE_NAME
+        + "(topic_id, topic_name, metalake_id, catalog_id, schema_id,"
+        + " comment, properties, audit_info, current_version, last_version,"
+        + " deleted_at)"
+        + " VALUES "
+        + "<foreach collection='topicMetas' item='item' separator=','>"
+        + "(#{item.topicId},"
+        + " #{item.topicName},"
+        + " #{item.metalakeId},"
+        + " #{item.catalogId},"
+        + " #{item.schemaId},"
+        + " #{item.comment},"
+        + " #{item.properties},"
+        + " #{item.auditInfo},"
+        + " #{item.currentVersion},"
+        + " #{item.lastVersion},"
+        + " #{item.deletedAt})"
+        + "</foreach>"
+        + "</script>";
+  }
+
+  public String batchInsertTopicMetasOnDuplicateKeyUpdate(
+      @Param("topicMetas") List<TopicPO> topicPOs) {
+    return "<script>"
+        + "INSERT INTO "
+        + TABLE_NAME
+        + "(topic_id, topic_name, metalake_id, catalog_id, schema_id,"
+        + " comment, properties, audit_info, current_version, last_version,"
+        + " deleted_at)"
+        + " VALUES "
+        + "<foreach collection='topicMetas' item='item' separator=','>"
+        + "(#{item.topicId},"
+        + " #{item.topicName},"
+        + " #{item.metalakeId},"
+        + " #{item.catalogId},"
+        + " #{item.schemaId},"
+        + " #{item.comment},"
+        + " #{item.properties},"
+        + " #{item.auditInfo},"
+        + " #{item.currentVersion},"
+        + " #{item.lastVersion},"
+        + " #{item.deletedAt})"
+        + "</foreach>"
+        + " ON DUPLICATE KEY UPDATE"
+        + " topic_name = VALUES(topic_name),"
+        + " metalake_id = VALUES(metalake_id),"
+        + " catalog_id = VALUES(catalog_id),"
+        + " schema_id = VALUES(schema_id),"
+        + " comment = VALUES(comment),"
+        + " properties = VALUES(properties),"
+        + " audit_info = VALUES(audit_info),"
+        + " current_version = VALUES(current_version),"
+        + " last_version = VALUES(last_version),"
+        + " deleted_at = VALUES(deleted_at)"
+        + "</script>";
+  }
+
   public String listTopicPOsBySchemaId(@Param("schemaId") Long schemaId) {
     return "SELECT topic_id as topicId, topic_name as topicName, metalake_id as metalakeId,"
         + " catalog_id as catalogId, schema_id as schemaId,"
@@ -20,10 +20,45 @@ package org.apache.gravitino.storage.relational.mapper.provider.postgresql;
 
 import static org.apache.gravitino.storage.relational.mapper.SchemaMetaMapper.TABLE_NAME;
 
+import java.util.List;
 import org.apache.gravitino.storage.relational.mapper.provider.base.SchemaMetaBaseSQLProvider;
 import org.apache.gravitino.storage.relational.po.SchemaPO;
 
 public class SchemaMetaPostgreSQLProvider extends SchemaMetaBaseSQLProvider {
+  @Override
+  public String batchInsertSchemaMetasOnDuplicateKeyUpdate(List<SchemaPO> schemaPOs) {
+    return "<script>"
+        + "INSERT INTO "
+        + TABLE_NAME
+        + "(schema_id, schema_name, metalake_id,"
+        + " catalog_id, schema_comment, properties, audit_info,"
+        + " current_version, last_version, deleted_at)"
+        + " VALUES "
+        + "<foreach collection='schemaMetas' item='item' separator=','>"
+        + "(#{item.schemaId},"
+        + " #{item.schemaName},"
+        + " #{item.metalakeId},"
+        + " #{item.catalogId},"
+        + " #{item.schemaComment},"
+        + " #{item.properties},"
+        + " #{item.auditInfo},"
+        + " #{item.currentVersion},"
+        + " #{item.lastVersion},"
+        + " #{item.deletedAt})"
+        + "</foreach>"
+        + " ON CONFLICT (schema_id) DO UPDATE SET"
+        + " schema_name = EXCLUDED.schema_name,"
+        + " metalake_id = EXCLUDED.metalake_id,"
+        + " catalog_id = EXCLUDED.catalog_id,"
+        + " schema_comment = EXCLUDED.schema_comment,"
+        + " properties = EXCLUDED.properties,"
+        + " audit_info = EXCLUDED.audit_info,"
+        + " current_version = EXCLUDED.current_version,"
+        + " last_version = EXCLUDED.last_version,"
+        + " deleted_at = EXCLUDED.deleted_at"
+        + "</script>";
+  }
+
   @Override
   public String insertSchemaMetaOnDuplicateKeyUpdate(SchemaPO schemaPO) {
     return "INSERT INTO "
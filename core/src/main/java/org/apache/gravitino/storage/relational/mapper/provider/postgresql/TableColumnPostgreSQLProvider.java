@@ -18,7 +18,9 @@
  */
 package org.apache.gravitino.storage.relational.mapper.provider.postgresql;
 
+import java.util.List;
 import org.apache.gravitino.storage.relational.mapper.TableColumnMapper;
+import org.apache.gravitino.storage.relational.mapper.TableMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.provider.base.TableColumnBaseSQLProvider;
 import org.apache.ibatis.annotations.Param;
 
@@ -33,6 +35,21 @@ public class TableColumnPostgreSQLProvider extends TableColumnBaseSQLProvider {
         + " WHERE table_id = #{tableId} AND deleted_at = 0";
   }
 
+  @Override
+  public String softDeleteColumnsByTableIds(@Param("tableIds") List<Long> tableIds) {
+    return "<script>"
+        + "UPDATE "
+        + TableColumnMapper.COLUMN_TABLE_NAME
+        + " SET deleted_at = floor(extract(epoch from((current_timestamp -"
+        + " timestamp '1970-01-01 00:00:00')*1000)))"
+        + " WHERE table_id IN ("
+        + "<foreach collection='tableIds' item='tableId' separator=','>"
+        + "#{tableId}"
+        + "</foreach>"
+        + ") AND deleted_at = 0"
+        + "</script>";
+  }
+
   @Override
   public String softDeleteColumnsByMetalakeId(@Param("metalakeId") Long metalakeId) {
     return "UPDATE "
@@ -59,4 +76,21 @@ public class TableColumnPostgreSQLProvider extends TableColumnBaseSQLProvider {
         + " timestamp '1970-01-01 00:00:00')*1000)))"
         + " WHERE schema_id = #{schemaId} AND deleted_at = 0";
   }
+
+  @Override
+  public String softDeleteSupersededColumnsByRetentionCount(
+      @Param("versionRetentionCount") Long versionRetentionCount, @Param("limit") int limit) {
+    return "UPDATE "
+        + TableColumnMapper.COLUMN_TABLE_NAME
+        + " SET deleted_at = floor(extract(epoch from((current_timestamp -"
+        + " timestamp '1970-01-01 00:00:00')*1000)))"
+        + " WHERE id IN (SELECT tc.id FROM "
+        + TableColumnMapper.COLUMN_TABLE_NAME
+        + " tc JOIN "
+        + TableMetaMapper.TABLE_NAME
+        + " tm ON tc.table_id = tm.table_id AND tm.deleted_at = 0"
+        + " WHERE tc.column_current = 0 AND tc.deleted_at = 0"
+        + " AND tc.table_version <= tm.current_version - #{versionRetentionCount}"
+        + " LIMIT #{limit})";
+  }
 }
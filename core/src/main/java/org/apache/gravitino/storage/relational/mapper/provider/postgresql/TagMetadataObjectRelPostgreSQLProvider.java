@@ -146,6 +146,30 @@ public class TagMetadataObjectRelPostgreSQLProvider extends TagMetadataObjectRel
         + ")";
   }
 
+  @Override
+  public String softDeleteTagMetadataObjectRelsByTableIds(@Param("tableIds") List<Long> tableIds) {
+    return "<script>"
+        + " UPDATE "
+        + TagMetadataObjectRelMapper.TAG_METADATA_OBJECT_RELATION_TABLE_NAME
+        + " tmt SET deleted_at = floor(extract(epoch from((current_timestamp -"
+        + " timestamp '1970-01-01 00:00:00')*1000)))"
+        + " WHERE tmt.deleted_at = 0 AND ("
+        + " (tmt.metadata_object_type = 'TABLE' AND tmt.metadata_object_id IN ("
+        + "<foreach collection='tableIds' item='tableId' separator=','>"
+        + "#{tableId}"
+        + "</foreach>"
+        + "))"
+        + " OR (tmt.metadata_object_type = 'COLUMN' AND tmt.metadata_object_id IN ("
+        + " SELECT cot.column_id FROM "
+        + TableColumnMapper.COLUMN_TABLE_NAME
+        + " cot WHERE cot.table_id IN ("
+        + "<foreach collection='tableIds' item='tableId' separator=','>"
+        + "#{tableId}"
+        + "</foreach>"
+        + "))))"
+        + "</script>";
+  }
+
   @Override
   public String softDeleteTagMetadataObjectRelsByTableId(@Param("tableId") Long tableId) {
     return " UPDATE "
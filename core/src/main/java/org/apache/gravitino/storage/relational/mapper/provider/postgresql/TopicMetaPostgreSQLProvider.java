@@ -20,6 +20,7 @@ package org.apache.gravitino.storage.relational.mapper.provider.postgresql;
 
 import static org.apache.gravitino.storage.relational.mapper.TopicMetaMapper.TABLE_NAME;
 
+import java.util.List;
 import org.apache.gravitino.storage.relational.mapper.provider.base.TopicMetaBaseSQLProvider;
 import org.apache.gravitino.storage.relational.po.TopicPO;
 
@@ -61,6 +62,42 @@ public class TopicMetaPostgreSQLProvider extends TopicMetaBaseSQLProvider {
         + " WHERE schema_id = #{schemaId} AND deleted_at = 0";
   }
 
+  @Override
+  public String batchInsertTopicMetasOnDuplicateKeyUpdate(List<TopicPO> topicPOs) {
+    return "<script>"
+        + "INSERT INTO "
+        + TABLE_NAME
+        + "(topic_id, topic_name, metalake_id, catalog_id, schema_id,"
+        + " comment, properties, audit_info, current_version, last_version,"
+        + " deleted_at)"
+        + " VALUES "
+        + "<foreach collection='topicMetas' item='item' separator=','>"
+        + "(#{item.topicId},"
+        + " #{item.topicName},"
+        + " #{item.metalakeId},"
+        + " #{item.catalogId},"
+        + " #{item.schemaId},"
+        + " #{item.comment},"
+        + " #{item.properties},"
+        + " #{item.auditInfo},"
+        + " #{item.currentVersion},"
+        + " #{item.lastVersion},"
+        + " #{item.deletedAt})"
+        + "</foreach>"
+        + " ON CONFLICT (topic_id) DO UPDATE SET"
+        + " topic_name = EXCLUDED.topic_name,"
+        + " metalake_id = EXCLUDED.metalake_id,"
+        + " catalog_id = EXCLUDED.catalog_id,"
+        + " schema_id = EXCLUDED.schema_id,"
+        + " comment = EXCLUDED.comment,"
+        + " properties = EXCLUDED.properties,"
+        + " audit_info = EXCLUDED.audit_info,"
+        + " current_version = EXCLUDED.current_version,"
+        + " last_version = EXCLUDED.last_version,"
+        + " deleted_at = EXCLUDED.deleted_at"
+        + "</script>";
+  }
+
   @Override
   public String insertTopicMetaOnDuplicateKeyUpdate(TopicPO topicPO) {
     return "INSERT INTO "
@@ -20,7 +20,11 @@ package org.apache.gravitino.storage.relational.service;
 
 import com.google.common.base.Joiner;
 import com.google.common.base.Splitter;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.storage.relational.po.CatalogPO;
@@ -90,6 +94,48 @@ public class MetadataObjectService {
     throw new IllegalArgumentException(String.format("Doesn't support the type %s", type));
   }
 
+  /**
+   * Converts the full names of the metadata objects of the same type to the entity ids. The tables
+   * under the same schema are resolved in one query after resolving the schema once, the other
+   * types are resolved one by one.
+   *
+   * @param metalakeId The id of the metalake.
+   * @param fullNames The full names of the metadata objects.
+   * @param type The type of the metadata objects.
+   * @return The entity ids in the same order as the full names.
+   */
+  public static List<Long> getMetadataObjectIds(
+      long metalakeId, List<String> fullNames, MetadataObject.Type type) {
+    Map<String, Long> ids = Maps.newHashMap();
+    if (type == MetadataObject.Type.TABLE) {
+      Map<String, List<String>> tableNamesBySchema = Maps.newLinkedHashMap();
+      for (String fullName : fullNames) {
+        List<String> names = DOT_SPLITTER.splitToList(fullName);
+        tableNamesBySchema
+            .computeIfAbsent(DOT_JOINER.join(names.get(0), names.get(1)), k -> Lists.newArrayList())
+            .add(names.get(2));
+      }
+
+      tableNamesBySchema.forEach(
+          (schemaFullName, tableNames) -> {
+            long schemaId =
+                getMetadataObjectId(metalakeId, schemaFullName, MetadataObject.Type.SCHEMA);
+            List<String> distinctNames =
+                tableNames.stream().distinct().collect(Collectors.toList());
+            TableMetaService.getInstance()
+                .getTableIdsBySchemaIdAndNames(schemaId, distinctNames)
+                .forEach(
+                    (tableName, tableId) -> ids.put(schemaFullName + DOT + tableName, tableId));
+          });
+    } else {
+      for (String fullName : fullNames) {
+        ids.computeIfAbsent(fullName, name -> getMetadataObjectId(metalakeId, name, type));
+      }
+    }
+
+    return fullNames.stream().map(ids::get).collect(Collectors.toList());
+  }
+
   // Metadata object may be null because the metadata object can be deleted asynchronously.
   @Nullable
   public static String getMetadataObjectFullName(String type, long metadataObjectId) {
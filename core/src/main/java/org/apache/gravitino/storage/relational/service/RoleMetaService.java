@@ -18,13 +18,17 @@
  */
 package org.apache.gravitino.storage.relational.service;
 
+import static org.apache.gravitino.Configs.BATCH_OPERATION_SINGLE_STATEMENT_LIMIT;
+
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Function;
@@ -262,6 +266,71 @@ public class RoleMetaService {
     return POConverters.fromRolePO(rolePO, securableObjects, identifier.namespace());
   }
 
+  /**
+   * Gets the roles of the same metalake with their securable objects by a few queries rather than
+   * querying the roles one by one.
+   *
+   * @param identifiers The identifiers of the roles.
+   * @return The roles in the order of the identifiers.
+   * @throws NoSuchEntityException If any of the roles doesn't exist.
+   */
+  public List<RoleEntity> getRolesByIdentifiers(List<NameIdentifier> identifiers) {
+    if (identifiers.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    identifiers.forEach(AuthorizationUtils::checkRole);
+    Namespace namespace = identifiers.get(0).namespace();
+    Preconditions.checkArgument(
+        identifiers.stream().allMatch(ident -> ident.namespace().equals(namespace)),
+        "The roles should be in the same metalake");
+
+    Long metalakeId = MetalakeMetaService.getInstance().getMetalakeIdByName(namespace.level(0));
+    List<String> roleNames =
+        identifiers.stream().map(NameIdentifier::name).distinct().collect(Collectors.toList());
+    Map<String, RolePO> rolePOs = Maps.newHashMapWithExpectedSize(roleNames.size());
+    for (List<String> batch : Lists.partition(roleNames, BATCH_OPERATION_SINGLE_STATEMENT_LIMIT)) {
+      SessionUtils.getWithoutCommit(
+              RoleMetaMapper.class,
+              mapper -> mapper.listRolePOsByMetalakeIdAndNames(metalakeId, batch))
+          .forEach(po -> rolePOs.put(po.getRoleName(), po));
+    }
+
+    for (String roleName : roleNames) {
+      if (!rolePOs.containsKey(roleName)) {
+        throw new NoSuchEntityException(
+            NoSuchEntityException.NO_SUCH_ENTITY_MESSAGE,
+            Entity.EntityType.ROLE.name().toLowerCase(),
+            roleName);
+      }
+    }
+
+    List<Long> roleIds =
+        rolePOs.values().stream().map(RolePO::getRoleId).collect(Collectors.toList());
+    Map<Long, List<SecurableObjectPO>> securableObjectPOs = Maps.newHashMap();
+    for (List<Long> batch : Lists.partition(roleIds, BATCH_OPERATION_SINGLE_STATEMENT_LIMIT)) {
+      SessionUtils.getWithoutCommit(
+              SecurableObjectMapper.class, mapper -> mapper.listSecurableObjectsByRoleIds(batch))
+          .forEach(
+              po ->
+                  securableObjectPOs
+                      .computeIfAbsent(po.getRoleId(), k -> Lists.newArrayList())
+                      .add(po));
+    }
+
+    Map<String, RoleEntity> roles = Maps.newHashMapWithExpectedSize(rolePOs.size());
+    rolePOs.forEach(
+        (name, po) ->
+            roles.put(
+                name,
+                POConverters.fromRolePO(
+                    po,
+                    toSecurableObjects(
+                        securableObjectPOs.getOrDefault(po.getRoleId(), Collections.emptyList())),
+                    namespace)));
+    return identifiers.stream().map(ident -> roles.get(ident.name())).collect(Collectors.toList());
+  }
+
   public boolean deleteRole(NameIdentifier identifier) {
     AuthorizationUtils.checkRole(identifier);
 
@@ -350,7 +419,11 @@ public class RoleMetaService {
   }
 
   private static List<SecurableObject> listSecurableObjects(RolePO po) {
-    List<SecurableObjectPO> securableObjectPOs = listSecurableObjectsByRoleId(po.getRoleId());
+    return toSecurableObjects(listSecurableObjectsByRoleId(po.getRoleId()));
+  }
+
+  private static List<SecurableObject> toSecurableObjects(
+      List<SecurableObjectPO> securableObjectPOs) {
     List<SecurableObject> securableObjects = Lists.newArrayList();
 
     for (SecurableObjectPO securableObjectPO : securableObjectPOs) {
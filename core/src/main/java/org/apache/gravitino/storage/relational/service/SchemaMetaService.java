@@ -18,9 +18,15 @@
  */
 package org.apache.gravitino.storage.relational.service;
 
+import static org.apache.gravitino.Configs.BATCH_OPERATION_SINGLE_STATEMENT_LIMIT;
+
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
 import org.apache.gravitino.Entity;
@@ -146,6 +152,52 @@ public class SchemaMetaService {
     }
   }
 
+  public void insertSchemas(List<SchemaEntity> schemaEntities, boolean overwrite)
+      throws IOException {
+    if (schemaEntities.isEmpty()) {
+      return;
+    }
+
+    try {
+      // Resolve the parent entity ids once per namespace instead of once per schema.
+      Map<Namespace, SchemaPO> parentPOs = new HashMap<>();
+      List<SchemaPO> schemaPOs = new ArrayList<>(schemaEntities.size());
+      for (SchemaEntity schemaEntity : schemaEntities) {
+        NameIdentifierUtil.checkSchema(schemaEntity.nameIdentifier());
+
+        SchemaPO.Builder builder = SchemaPO.builder();
+        SchemaPO parentPO = parentPOs.get(schemaEntity.namespace());
+        if (parentPO == null) {
+          fillSchemaPOBuilderParentEntityId(builder, schemaEntity.namespace());
+        } else {
+          builder.withMetalakeId(parentPO.getMetalakeId()).withCatalogId(parentPO.getCatalogId());
+        }
+
+        SchemaPO po = POConverters.initializeSchemaPOWithVersion(schemaEntity, builder);
+        parentPOs.putIfAbsent(schemaEntity.namespace(), po);
+        schemaPOs.add(po);
+      }
+
+      SessionUtils.doMultipleWithCommit(
+          () ->
+              Lists.partition(schemaPOs, BATCH_OPERATION_SINGLE_STATEMENT_LIMIT)
+                  .forEach(
+                      batch ->
+                          SessionUtils.doWithoutCommit(
+                              SchemaMetaMapper.class,
+                              mapper -> {
+                                if (overwrite) {
+                                  mapper.batchInsertSchemaMetasOnDuplicateKeyUpdate(batch);
+                                } else {
+                                  mapper.batchInsertSchemaMetas(batch);
+                                }
+                              })));
+    } catch (RuntimeException re) {
+      ExceptionUtils.checkSQLException(re, Entity.EntityType.SCHEMA, schemaEntities);
+      throw re;
+    }
+  }
+
   public <E extends Entity & HasIdentifier> SchemaEntity updateSchema(
       NameIdentifier identifier, Function<E, E> updater) throws IOException {
     NameIdentifierUtil.checkSchema(identifier);
@@ -34,8 +34,11 @@ import org.apache.gravitino.storage.relational.po.ColumnPO;
 import org.apache.gravitino.storage.relational.po.TablePO;
 import org.apache.gravitino.storage.relational.utils.POConverters;
 import org.apache.gravitino.storage.relational.utils.SessionUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class TableColumnMetaService {
+  private static final Logger LOG = LoggerFactory.getLogger(TableColumnMetaService.class);
 
   private static final TableColumnMetaService INSTANCE = new TableColumnMetaService();
 
@@ -45,11 +48,10 @@ public class TableColumnMetaService {
     return INSTANCE;
   }
 
-  List<ColumnPO> getColumnsByTableIdAndVersion(Long tableId, Long version) {
+  List<ColumnPO> getCurrentColumnsByTableId(Long tableId) {
     List<ColumnPO> columnPOs =
         SessionUtils.getWithoutCommit(
-            TableColumnMapper.class,
-            mapper -> mapper.listColumnPOsByTableIdAndVersion(tableId, version));
+            TableColumnMapper.class, mapper -> mapper.listCurrentColumnPOsByTableId(tableId));
 
     // Filter out the deleted columns
     return columnPOs.stream()
@@ -112,6 +114,23 @@ public class TableColumnMetaService {
         mapper -> mapper.deleteColumnPOsByLegacyTimeline(legacyTimeline, limit));
   }
 
+  public int deleteSupersededColumnsByRetentionCount(Long versionRetentionCount, int limit) {
+    // Only the superseded column versions are deleted, the current version of each column is
+    // always kept no matter how old it is.
+    int deletedCount =
+        SessionUtils.doWithCommitAndFetchResult(
+            TableColumnMapper.class,
+            mapper ->
+                mapper.softDeleteSupersededColumnsByRetentionCount(versionRetentionCount, limit));
+
+    LOG.info(
+        "Soft delete superseded column versions count: {} which table versions are older than or"
+            + " equal to the current table version minus versionRetentionCount: {}.",
+        deletedCount,
+        versionRetentionCount);
+    return deletedCount;
+  }
+
   boolean isColumnUpdated(TableEntity oldTable, TableEntity newTable) {
     Map<Long, ColumnEntity> oldColumns =
         oldTable.columns() == null
@@ -164,7 +183,16 @@ public class TableColumnMetaService {
       return;
     }
 
+    // The previous versions of the changed columns are no longer current, the new versions
+    // inserted below replace them, so the current columns can be loaded without scanning the
+    // whole history of the table.
+    List<Long> changedColumnIds =
+        columnPOsToInsert.stream().map(ColumnPO::getColumnId).collect(Collectors.toList());
+
     // updateColumns will be done in updateTable transaction, so we don't do commit here.
+    SessionUtils.doWithoutCommit(
+        TableColumnMapper.class,
+        mapper -> mapper.supersedeColumnPOs(newTablePO.getTableId(), changedColumnIds));
     SessionUtils.doWithoutCommit(
         TableColumnMapper.class, mapper -> mapper.insertColumnPOs(columnPOsToInsert));
   }
@@ -18,9 +18,16 @@
  */
 package org.apache.gravitino.storage.relational.service;
 
+import static org.apache.gravitino.Configs.BATCH_OPERATION_SINGLE_STATEMENT_LIMIT;
+
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -34,6 +41,7 @@ import org.apache.gravitino.exceptions.NoSuchEntityException;
 import org.apache.gravitino.meta.TableEntity;
 import org.apache.gravitino.storage.relational.mapper.OwnerMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.SecurableObjectMapper;
+import org.apache.gravitino.storage.relational.mapper.TableColumnMapper;
 import org.apache.gravitino.storage.relational.mapper.TableMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.TagMetadataObjectRelMapper;
 import org.apache.gravitino.storage.relational.po.ColumnPO;
@@ -77,6 +85,26 @@ public class TableMetaService {
     return tableId;
   }
 
+  public Map<String, Long> getTableIdsBySchemaIdAndNames(Long schemaId, List<String> tableNames) {
+    Map<String, Long> tableIds = new HashMap<>();
+    for (List<String> batch : Lists.partition(tableNames, BATCH_OPERATION_SINGLE_STATEMENT_LIMIT)) {
+      SessionUtils.getWithoutCommit(
+              TableMetaMapper.class,
+              mapper -> mapper.listTablePOsBySchemaIdAndNames(schemaId, batch))
+          .forEach(po -> tableIds.put(po.getTableName(), po.getTableId()));
+    }
+
+    for (String tableName : tableNames) {
+      if (!tableIds.containsKey(tableName)) {
+        throw new NoSuchEntityException(
+            NoSuchEntityException.NO_SUCH_ENTITY_MESSAGE,
+            Entity.EntityType.TABLE.name().toLowerCase(),
+            tableName);
+      }
+    }
+    return tableIds;
+  }
+
   public TableEntity getTableByIdentifier(NameIdentifier identifier) {
     NameIdentifierUtil.checkTable(identifier);
 
@@ -85,8 +113,7 @@ public class TableMetaService {
 
     TablePO tablePO = getTablePOBySchemaIdAndName(schemaId, identifier.name());
     List<ColumnPO> columnPOs =
-        TableColumnMetaService.getInstance()
-            .getColumnsByTableIdAndVersion(tablePO.getTableId(), tablePO.getCurrentVersion());
+        TableColumnMetaService.getInstance().getCurrentColumnsByTableId(tablePO.getTableId());
 
     return POConverters.fromTableAndColumnPOs(tablePO, columnPOs, identifier.namespace());
   }
@@ -145,6 +172,79 @@ public class TableMetaService {
     }
   }
 
+  public void insertTables(List<TableEntity> tableEntities, boolean overwrite) throws IOException {
+    if (tableEntities.isEmpty()) {
+      return;
+    }
+
+    try {
+      // Resolve the parent entity ids once per namespace instead of once per table.
+      Map<Namespace, TablePO> parentPOs = new HashMap<>();
+      List<TablePO> tablePOs = new ArrayList<>(tableEntities.size());
+      List<ColumnPO> columnPOs = new ArrayList<>();
+      for (TableEntity tableEntity : tableEntities) {
+        NameIdentifierUtil.checkTable(tableEntity.nameIdentifier());
+
+        TablePO.Builder builder = TablePO.builder();
+        TablePO parentPO = parentPOs.get(tableEntity.namespace());
+        if (parentPO == null) {
+          fillTablePOBuilderParentEntityId(builder, tableEntity.namespace());
+        } else {
+          builder
+              .withMetalakeId(parentPO.getMetalakeId())
+              .withCatalogId(parentPO.getCatalogId())
+              .withSchemaId(parentPO.getSchemaId());
+        }
+
+        TablePO po = POConverters.initializeTablePOWithVersion(tableEntity, builder);
+        parentPOs.putIfAbsent(tableEntity.namespace(), po);
+        tablePOs.add(po);
+        if (tableEntity.columns() != null && !tableEntity.columns().isEmpty()) {
+          columnPOs.addAll(
+              POConverters.initializeColumnPOs(
+                  po, tableEntity.columns(), ColumnPO.ColumnOpType.CREATE));
+        }
+      }
+
+      SessionUtils.doMultipleWithCommit(
+          () ->
+              Lists.partition(tablePOs, BATCH_OPERATION_SINGLE_STATEMENT_LIMIT)
+                  .forEach(
+                      batch ->
+                          SessionUtils.doWithoutCommit(
+                              TableMetaMapper.class,
+                              mapper -> {
+                                if (overwrite) {
+                                  mapper.batchInsertTableMetasOnDuplicateKeyUpdate(batch);
+                                } else {
+                                  mapper.batchInsertTableMetas(batch);
+                                }
+                              })),
+          () -> {
+            // We need to delete the columns first if we want to overwrite the tables.
+            if (overwrite) {
+              List<Long> tableIds = Lists.transform(tablePOs, TablePO::getTableId);
+              Lists.partition(tableIds, BATCH_OPERATION_SINGLE_STATEMENT_LIMIT)
+                  .forEach(
+                      batch ->
+                          SessionUtils.doWithoutCommit(
+                              TableColumnMapper.class,
+                              mapper -> mapper.softDeleteColumnsByTableIds(batch)));
+            }
+          },
+          () ->
+              Lists.partition(columnPOs, BATCH_OPERATION_SINGLE_STATEMENT_LIMIT)
+                  .forEach(
+                      batch ->
+                          SessionUtils.doWithoutCommit(
+                              TableColumnMapper.class, mapper -> mapper.insertColumnPOs(batch))));
+
+    } catch (RuntimeException re) {
+      ExceptionUtils.checkSQLException(re, Entity.EntityType.TABLE, tableEntities);
+      throw re;
+    }
+  }
+
   public <E extends Entity & HasIdentifier> TableEntity updateTable(
       NameIdentifier identifier, Function<E, E> updater) throws IOException {
     NameIdentifierUtil.checkTable(identifier);
@@ -156,8 +256,7 @@ public class TableMetaService {
 
     TablePO oldTablePO = getTablePOBySchemaIdAndName(schemaId, tableName);
     List<ColumnPO> oldTableColumns =
-        TableColumnMetaService.getInstance()
-            .getColumnsByTableIdAndVersion(oldTablePO.getTableId(), oldTablePO.getCurrentVersion());
+        TableColumnMetaService.getInstance().getCurrentColumnsByTableId(oldTablePO.getTableId());
     TableEntity oldTableEntity =
         POConverters.fromTableAndColumnPOs(oldTablePO, oldTableColumns, identifier.namespace());
 
@@ -245,6 +344,71 @@ public class TableMetaService {
     return deleteResult.get() > 0;
   }
 
+  public int deleteTables(List<NameIdentifier> identifiers) {
+    if (identifiers.isEmpty()) {
+      return 0;
+    }
+
+    Map<Namespace, List<String>> tableNamesBySchema = new LinkedHashMap<>();
+    for (NameIdentifier identifier : identifiers) {
+      NameIdentifierUtil.checkTable(identifier);
+      tableNamesBySchema
+          .computeIfAbsent(identifier.namespace(), ns -> new ArrayList<>())
+          .add(identifier.name());
+    }
+
+    // Resolve the table ids with one query per schema, the tables that don't exist are skipped,
+    // the same as deleting them one by one.
+    List<Long> tableIds = new ArrayList<>(identifiers.size());
+    for (Map.Entry<Namespace, List<String>> entry : tableNamesBySchema.entrySet()) {
+      Long schemaId = CommonMetaService.getInstance().getParentEntityIdByNamespace(entry.getKey());
+      for (List<String> batch :
+          Lists.partition(entry.getValue(), BATCH_OPERATION_SINGLE_STATEMENT_LIMIT)) {
+        SessionUtils.getWithoutCommit(
+                TableMetaMapper.class,
+                mapper -> mapper.listTablePOsBySchemaIdAndNames(schemaId, batch))
+            .forEach(po -> tableIds.add(po.getTableId()));
+      }
+    }
+
+    if (tableIds.isEmpty()) {
+      return 0;
+    }
+
+    AtomicInteger deleteResult = new AtomicInteger(0);
+    List<List<Long>> batches = Lists.partition(tableIds, BATCH_OPERATION_SINGLE_STATEMENT_LIMIT);
+    SessionUtils.doMultipleWithCommit(
+        () ->
+            batches.forEach(
+                batch ->
+                    deleteResult.addAndGet(
+                        SessionUtils.doWithoutCommitAndFetchResult(
+                            TableMetaMapper.class,
+                            mapper -> mapper.softDeleteTableMetasByTableIds(batch)))),
+        () ->
+            batches.forEach(
+                batch -> {
+                  SessionUtils.doWithoutCommit(
+                      OwnerMetaMapper.class,
+                      mapper ->
+                          mapper.softDeleteOwnerRelByMetadataObjectIdsAndType(
+                              batch, MetadataObject.Type.TABLE.name()));
+                  SessionUtils.doWithoutCommit(
+                      TableColumnMapper.class,
+                      mapper -> mapper.softDeleteColumnsByTableIds(batch));
+                  SessionUtils.doWithoutCommit(
+                      SecurableObjectMapper.class,
+                      mapper ->
+                          mapper.softDeleteObjectRelsByMetadataObjects(
+                              batch, MetadataObject.Type.TABLE.name()));
+                  SessionUtils.doWithoutCommit(
+                      TagMetadataObjectRelMapper.class,
+                      mapper -> mapper.softDeleteTagMetadataObjectRelsByTableIds(batch));
+                }));
+
+    return deleteResult.get();
+  }
+
   public int deleteTableMetasByLegacyTimeline(Long legacyTimeline, int limit) {
     return SessionUtils.doWithCommitAndFetchResult(
         TableMetaMapper.class,
@@ -18,12 +18,16 @@
  */
 package org.apache.gravitino.storage.relational.service;
 
+import static org.apache.gravitino.Configs.BATCH_OPERATION_SINGLE_STATEMENT_LIMIT;
+
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -183,6 +187,72 @@ public class TagMetaService {
         .collect(Collectors.toList());
   }
 
+  public List<List<TagEntity>> listTagsForMetadataObjects(
+      List<NameIdentifier> objectIdents, Entity.EntityType objectType)
+      throws NoSuchEntityException, IOException {
+    if (objectIdents.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    String metalake = objectIdents.get(0).namespace().level(0);
+    Preconditions.checkArgument(
+        objectIdents.stream().allMatch(ident -> ident.namespace().level(0).equals(metalake)),
+        "The metadata objects should be in the same metalake");
+    List<MetadataObject> metadataObjects =
+        objectIdents.stream()
+            .map(ident -> NameIdentifierUtil.toMetadataObject(ident, objectType))
+            .collect(Collectors.toList());
+    MetadataObject.Type type = metadataObjects.get(0).type();
+
+    List<Long> metadataObjectIds;
+    Map<Long, List<TagEntity>> tagsByObjectId = Maps.newHashMap();
+    try {
+      Long metalakeId = MetalakeMetaService.getInstance().getMetalakeIdByName(metalake);
+      metadataObjectIds =
+          MetadataObjectService.getMetadataObjectIds(
+              metalakeId,
+              metadataObjects.stream().map(MetadataObject::fullName).collect(Collectors.toList()),
+              type);
+
+      List<Long> objectIds = metadataObjectIds.stream().distinct().collect(Collectors.toList());
+      for (List<Long> batch : Lists.partition(objectIds, BATCH_OPERATION_SINGLE_STATEMENT_LIMIT)) {
+        // The tags are loaded once even if they are associated with many of the metadata objects.
+        Map<Long, TagEntity> tags = Maps.newHashMap();
+        SessionUtils.doWithoutCommitAndFetchResult(
+                TagMetadataObjectRelMapper.class,
+                mapper -> mapper.listTagPOsByMetadataObjectIdsAndType(batch, type.toString()))
+            .forEach(
+                tagPO ->
+                    tags.put(
+                        tagPO.getTagId(),
+                        POConverters.fromTagPO(tagPO, TagManager.ofTagNamespace(metalake))));
+
+        SessionUtils.doWithoutCommitAndFetchResult(
+                TagMetadataObjectRelMapper.class,
+                mapper ->
+                    mapper.listTagMetadataObjectRelsByMetadataObjectIdsAndType(
+                        batch, type.toString()))
+            .forEach(
+                relPO -> {
+                  // The tag may be deleted between the two queries, skip it.
+                  TagEntity tag = tags.get(relPO.getTagId());
+                  if (tag != null) {
+                    tagsByObjectId
+                        .computeIfAbsent(relPO.getMetadataObjectId(), k -> Lists.newArrayList())
+                        .add(tag);
+                  }
+                });
+      }
+    } catch (RuntimeException e) {
+      ExceptionUtils.checkSQLException(e, Entity.EntityType.TAG, objectIdents.toString());
+      throw e;
+    }
+
+    return metadataObjectIds.stream()
+        .map(id -> tagsByObjectId.getOrDefault(id, Collections.emptyList()))
+        .collect(Collectors.toList());
+  }
+
   public TagEntity getTagForMetadataObject(
       NameIdentifier objectIdent, Entity.EntityType objectType, NameIdentifier tagIdent)
       throws NoSuchEntityException, IOException {
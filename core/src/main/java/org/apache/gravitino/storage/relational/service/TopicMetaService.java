@@ -18,9 +18,15 @@
  */
 package org.apache.gravitino.storage.relational.service;
 
+import static org.apache.gravitino.Configs.BATCH_OPERATION_SINGLE_STATEMENT_LIMIT;
+
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
 import org.apache.gravitino.Entity;
@@ -79,6 +85,54 @@ public class TopicMetaService {
     }
   }
 
+  public void insertTopics(List<TopicEntity> topicEntities, boolean overwrite) throws IOException {
+    if (topicEntities.isEmpty()) {
+      return;
+    }
+
+    try {
+      // Resolve the parent entity ids once per namespace instead of once per topic.
+      Map<Namespace, TopicPO> parentPOs = new HashMap<>();
+      List<TopicPO> topicPOs = new ArrayList<>(topicEntities.size());
+      for (TopicEntity topicEntity : topicEntities) {
+        NameIdentifierUtil.checkTopic(topicEntity.nameIdentifier());
+
+        TopicPO.Builder builder = TopicPO.builder();
+        TopicPO parentPO = parentPOs.get(topicEntity.namespace());
+        if (parentPO == null) {
+          fillTopicPOBuilderParentEntityId(builder, topicEntity.namespace());
+        } else {
+          builder
+              .withMetalakeId(parentPO.getMetalakeId())
+              .withCatalogId(parentPO.getCatalogId())
+              .withSchemaId(parentPO.getSchemaId());
+        }
+
+        TopicPO po = POConverters.initializeTopicPOWithVersion(topicEntity, builder);
+        parentPOs.putIfAbsent(topicEntity.namespace(), po);
+        topicPOs.add(po);
+      }
+
+      SessionUtils.doMultipleWithCommit(
+          () ->
+              Lists.partition(topicPOs, BATCH_OPERATION_SINGLE_STATEMENT_LIMIT)
+                  .forEach(
+                      batch ->
+                          SessionUtils.doWithoutCommit(
+                              TopicMetaMapper.class,
+                              mapper -> {
+                                if (overwrite) {
+                                  mapper.batchInsertTopicMetasOnDuplicateKeyUpdate(batch);
+                                } else {
+                                  mapper.batchInsertTopicMetas(batch);
+                                }
+                              })));
+    } catch (RuntimeException re) {
+      ExceptionUtils.checkSQLException(re, Entity.EntityType.TOPIC, topicEntities);
+      throw re;
+    }
+  }
+
   public List<TopicEntity> listTopicsByNamespace(Namespace namespace) {
     NamespaceUtil.checkTopic(namespace);
 
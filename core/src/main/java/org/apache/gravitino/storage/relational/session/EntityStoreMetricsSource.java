@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.session;
+
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Timer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.source.MetricsSource;
+
+/**
+ * Metrics of the relational entity store, including the latency and the row count of each mapper
+ * statement, and the usage of the connection pool.
+ */
+class EntityStoreMetricsSource extends MetricsSource {
+
+  private final ConcurrentMap<String, StatementMetrics> statementMetrics =
+      new ConcurrentHashMap<>();
+
+  EntityStoreMetricsSource(InstrumentedDataSource dataSource) {
+    super(MetricsSource.ENTITY_STORE_METRIC_NAME);
+    registerGauge(MetricNames.ENTITY_STORE_POOL_ACTIVE_CONNECTIONS, dataSource::getNumActive);
+    registerGauge(MetricNames.ENTITY_STORE_POOL_IDLE_CONNECTIONS, dataSource::getNumIdle);
+    registerGauge(MetricNames.ENTITY_STORE_POOL_WAITERS, dataSource::getNumWaiters);
+  }
+
+  /**
+   * Records an execution of the statement.
+   *
+   * @param statementId The id of the mapped statement, like {@code
+   *     org.apache.gravitino.storage.relational.mapper.TableMetaMapper.selectTableMetaById}.
+   * @param latencyNanos The latency of the execution in nanoseconds.
+   * @param rows The number of the rows selected or affected.
+   */
+  void updateStatement(String statementId, long latencyNanos, long rows) {
+    StatementMetrics metrics = statementMetrics.get(statementId);
+    if (metrics == null) {
+      metrics = statementMetrics.computeIfAbsent(statementId, this::newStatementMetrics);
+    }
+    metrics.latency.update(latencyNanos, TimeUnit.NANOSECONDS);
+    metrics.rows.update(rows);
+  }
+
+  private StatementMetrics newStatementMetrics(String statementId) {
+    String prefix =
+        MetricNames.ENTITY_STORE_STATEMENT_PREFIX + "." + shortStatementId(statementId) + ".";
+    return new StatementMetrics(
+        getTimer(prefix + MetricNames.ENTITY_STORE_STATEMENT_LATENCY),
+        getHistogram(prefix + MetricNames.ENTITY_STORE_STATEMENT_ROWS));
+  }
+
+  /**
+   * Removes the package of the mapper from the statement id, like {@code
+   * TableMetaMapper.selectTableMetaById}.
+   */
+  static String shortStatementId(String statementId) {
+    int methodStart = statementId.lastIndexOf('.');
+    if (methodStart <= 0) {
+      return statementId;
+    }
+    int mapperStart = statementId.lastIndexOf('.', methodStart - 1);
+    return statementId.substring(mapperStart + 1);
+  }
+
+  private static class StatementMetrics {
+    private final Timer latency;
+    private final Histogram rows;
+
+    private StatementMetrics(Timer latency, Histogram rows) {
+      this.latency = latency;
+      this.rows = rows;
+    }
+  }
+}
@@ -0,0 +1,36 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.session;
+
+import org.apache.commons.dbcp2.BasicDataSource;
+import org.apache.commons.dbcp2.PoolableConnection;
+import org.apache.commons.pool2.impl.GenericObjectPool;
+
+/** A {@link BasicDataSource} exposing the count of the threads waiting for a connection. */
+class InstrumentedDataSource extends BasicDataSource {
+
+  /**
+   * @return The number of the threads blocked waiting for a connection from the pool, or 0 if the
+   *     pool isn't created yet.
+   */
+  int getNumWaiters() {
+    GenericObjectPool<PoolableConnection> pool = getConnectionPool();
+    return pool == null ? 0 : pool.getNumWaiters();
+  }
+}
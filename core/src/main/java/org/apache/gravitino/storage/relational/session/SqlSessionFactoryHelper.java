@@ -19,6 +19,7 @@
 
 package org.apache.gravitino.storage.relational.session;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import java.sql.SQLException;
 import java.time.Duration;
@@ -26,6 +27,9 @@ import org.apache.commons.dbcp2.BasicDataSource;
 import org.apache.commons.pool2.impl.BaseObjectPoolConfig;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.MetricsSource;
 import org.apache.gravitino.storage.relational.JDBCBackend.JDBCBackendType;
 import org.apache.gravitino.storage.relational.mapper.CatalogMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.FilesetMetaMapper;
@@ -61,6 +65,7 @@ import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
  */
 public class SqlSessionFactoryHelper {
   private static volatile SqlSessionFactory sqlSessionFactory;
+  private static volatile EntityStoreMetricsSource metricsSource;
   private static final SqlSessionFactoryHelper INSTANCE = new SqlSessionFactoryHelper();
 
   public static SqlSessionFactoryHelper getInstance() {
@@ -77,7 +82,7 @@ public class SqlSessionFactoryHelper {
   @SuppressWarnings("deprecation")
   public void init(Config config) {
     // Initialize the data source
-    BasicDataSource dataSource = new BasicDataSource();
+    InstrumentedDataSource dataSource = new InstrumentedDataSource();
     String jdbcUrl = config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_URL);
     JDBCBackendType jdbcType = JDBCBackendType.fromURI(jdbcUrl);
     dataSource.setUrl(jdbcUrl);
@@ -131,11 +136,25 @@ public class SqlSessionFactoryHelper {
     configuration.addMapper(ModelVersionMetaMapper.class);
     configuration.addMapper(ModelVersionAliasRelMapper.class);
 
+    // Record the latency and the row count of the statements, and log the slow statements
+    EntityStoreMetricsSource entityStoreMetricsSource = new EntityStoreMetricsSource(dataSource);
+    Long slowStatementThresholdMs =
+        config.get(Configs.ENTITY_RELATIONAL_SLOW_STATEMENT_THRESHOLD_MS);
+    configuration.addInterceptor(
+        new StatementMetricsInterceptor(
+            entityStoreMetricsSource,
+            slowStatementThresholdMs == null ? 0L : slowStatementThresholdMs));
+
     // Create the SqlSessionFactory object, it is a singleton object
     if (sqlSessionFactory == null) {
       synchronized (SqlSessionFactoryHelper.class) {
         if (sqlSessionFactory == null) {
           sqlSessionFactory = new SqlSessionFactoryBuilder().build(configuration);
+          metricsSource = entityStoreMetricsSource;
+          MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+          if (metricsSystem != null) {
+            metricsSystem.register(metricsSource);
+          }
         }
       }
     }
@@ -146,6 +165,30 @@ public class SqlSessionFactoryHelper {
     return sqlSessionFactory;
   }
 
+  @VisibleForTesting
+  public MetricsSource getMetricsSource() {
+    return metricsSource;
+  }
+
+  /**
+   * Returns the load of the connection pool, which is the number of the connections in use and the
+   * threads waiting for a connection divided by the maximum number of the connections. The pool is
+   * saturated if the load is 1 or more.
+   *
+   * @return The load of the connection pool, or 0 if the SqlSessionFactory is not initialized.
+   */
+  public double getConnectionPoolLoad() {
+    SqlSessionFactory factory = sqlSessionFactory;
+    if (factory == null) {
+      return 0;
+    }
+
+    InstrumentedDataSource dataSource =
+        (InstrumentedDataSource) factory.getConfiguration().getEnvironment().getDataSource();
+    return (double) (dataSource.getNumActive() + dataSource.getNumWaiters())
+        / dataSource.getMaxTotal();
+  }
+
   public void close() {
     if (sqlSessionFactory != null) {
       synchronized (SqlSessionFactoryHelper.class) {
@@ -159,6 +202,12 @@ public class SqlSessionFactoryHelper {
             // silently ignore the error report
           }
           sqlSessionFactory = null;
+
+          MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+          if (metricsSystem != null && metricsSource != null) {
+            metricsSystem.unregister(metricsSource);
+          }
+          metricsSource = null;
         }
       }
     }
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.session;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.apache.gravitino.tracing.TraceScope;
+import org.apache.gravitino.tracing.Tracing;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A MyBatis interceptor recording the latency and the row count of each mapper statement, tracing
+ * each statement in a span, and logging the statements slower than the threshold. The values of
+ * the bound parameters are never logged, as they may contain sensitive data like the properties of
+ * the entities.
+ */
+@Intercepts({
+  @Signature(
+      type = Executor.class,
+      method = "update",
+      args = {MappedStatement.class, Object.class}),
+  @Signature(
+      type = Executor.class,
+      method = "query",
+      args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+  @Signature(
+      type = Executor.class,
+      method = "query",
+      args = {
+        MappedStatement.class,
+        Object.class,
+        RowBounds.class,
+        ResultHandler.class,
+        CacheKey.class,
+        BoundSql.class
+      })
+})
+class StatementMetricsInterceptor implements Interceptor {
+  private static final Logger LOG = LoggerFactory.getLogger(StatementMetricsInterceptor.class);
+
+  private final EntityStoreMetricsSource metricsSource;
+  private final long slowStatementThresholdNanos;
+
+  /**
+   * @param metricsSource The metrics source to record the statements.
+   * @param slowStatementThresholdMs The threshold in milliseconds to log the slow statements, 0
+   *     disables the logging.
+   */
+  StatementMetricsInterceptor(
+      EntityStoreMetricsSource metricsSource, long slowStatementThresholdMs) {
+    this.metricsSource = metricsSource;
+    this.slowStatementThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowStatementThresholdMs);
+  }
+
+  @Override
+  public Object intercept(Invocation invocation) throws Throwable {
+    Object[] args = invocation.getArgs();
+    MappedStatement statement = (MappedStatement) args[0];
+    TraceScope scope =
+        Tracing.isEnabled()
+            ? Tracing.start("sql " + EntityStoreMetricsSource.shortStatementId(statement.getId()))
+            : TraceScope.noop();
+    long startNanos = System.nanoTime();
+    Object result = null;
+    try {
+      result = invocation.proceed();
+      return result;
+    } catch (Throwable t) {
+      scope.recordException(t);
+      throw t;
+    } finally {
+      long latencyNanos = System.nanoTime() - startNanos;
+      long rows = rowCount(result);
+      scope.setAttribute("db.rows", rows).close();
+      metricsSource.updateStatement(statement.getId(), latencyNanos, rows);
+      if (slowStatementThresholdNanos > 0 && latencyNanos >= slowStatementThresholdNanos) {
+        BoundSql boundSql = args.length == 6 ? (BoundSql) args[5] : null;
+        logSlowStatement(statement, args[1], boundSql, latencyNanos, rows);
+      }
+    }
+  }
+
+  private static long rowCount(Object result) {
+    if (result instanceof Collection) {
+      return ((Collection<?>) result).size();
+    } else if (result instanceof Number) {
+      // The batch executor returns a negative placeholder rather than the updated row count.
+      return Math.max(0L, ((Number) result).longValue());
+    }
+    return 0;
+  }
+
+  private static void logSlowStatement(
+      MappedStatement statement,
+      Object parameter,
+      BoundSql boundSql,
+      long latencyNanos,
+      long rows) {
+    try {
+      BoundSql sql = boundSql != null ? boundSql : statement.getBoundSql(parameter);
+      List<ParameterMapping> parameterMappings = sql.getParameterMappings();
+      String parameters =
+          parameterMappings.stream()
+              .map(mapping -> mapping.getProperty() + "=?")
+              .collect(Collectors.joining(", "));
+      LOG.warn(
+          "Slow statement {} took {} ms with {} rows, SQL: {}, parameters: [{}]",
+          statement.getId(),
+          TimeUnit.NANOSECONDS.toMillis(latencyNanos),
+          rows,
+          sql.getSql().replaceAll("\\s+", " ").trim(),
+          parameters);
+    } catch (Exception e) {
+      LOG.warn(
+          "Slow statement {} took {} ms with {} rows",
+          statement.getId(),
+          TimeUnit.NANOSECONDS.toMillis(latencyNanos),
+          rows,
+          e);
+    }
+  }
+}
@@ -20,7 +20,9 @@ package org.apache.gravitino.storage.relational.utils;
 
 import java.io.IOException;
 import java.sql.SQLException;
+import java.util.List;
 import org.apache.gravitino.Entity;
+import org.apache.gravitino.HasIdentifier;
 import org.apache.gravitino.storage.relational.converters.SQLExceptionConverterFactory;
 
 public class ExceptionUtils {
@@ -33,4 +35,16 @@ public class ExceptionUtils {
           .toGravitinoException((SQLException) re.getCause(), type, entityName);
     }
   }
+
+  public static void checkSQLException(
+      RuntimeException re, Entity.EntityType type, List<? extends HasIdentifier> entities)
+      throws IOException {
+    // The failed statement of a batch operation can't tell which entity is the culprit, so only
+    // the single entity batch reports the exact entity name.
+    String entityName =
+        entities.size() == 1
+            ? entities.get(0).nameIdentifier().toString()
+            : String.format("one of the %d entities in the batch", entities.size());
+    checkSQLException(re, type, entityName);
+  }
 }
@@ -0,0 +1,223 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.google.common.annotations.VisibleForTesting;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.json.JsonUtils;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.SchemaVersion;
+import org.apache.gravitino.rel.expressions.Expression;
+import org.apache.gravitino.rel.types.Type;
+
+/**
+ * The codec of a field of the POs stored in a text column. The reader and the writer of each field
+ * type are built once and shared, rather than resolved by the mapper on each call.
+ *
+ * <p>The large fields, the properties, the column types and the privileges, can be stored in a
+ * compact encoding if it's enabled by {@link Configs#ENTITY_RELATIONAL_COMPACT_ENCODING_ENABLED}:
+ * the value is Smile encoded, deflated, Base64 encoded and prefixed with a version marker. The
+ * marker can't start a JSON text, so the values in both encodings can be read regardless of the
+ * setting.
+ *
+ * @param <T> The type of the field.
+ */
+public class JsonColumnCodec<T> {
+
+  @VisibleForTesting static final String COMPACT_MARKER = "~s1:";
+
+  // The values shorter than this in JSON aren't worth compacting, the marker, the Base64 padding
+  // and the deflate header take most of what would be saved.
+  @VisibleForTesting static final int COMPACT_THRESHOLD = 256;
+
+  private static final ObjectMapper SMILE_MAPPER =
+      SmileMapper.builder()
+          .addModule(
+              new SimpleModule()
+                  .addDeserializer(Type.class, new JsonUtils.TypeDeserializer())
+                  .addSerializer(Type.class, new JsonUtils.TypeSerializer()))
+          .build();
+
+  private static volatile boolean compactEncodingEnabled = false;
+
+  public static final JsonColumnCodec<Map<String, String>> PROPERTIES =
+      new JsonColumnCodec<>(new TypeReference<Map<String, String>>() {}, true);
+
+  public static final JsonColumnCodec<AuditInfo> AUDIT_INFO =
+      new JsonColumnCodec<>(new TypeReference<AuditInfo>() {}, false);
+
+  public static final JsonColumnCodec<SchemaVersion> SCHEMA_VERSION =
+      new JsonColumnCodec<>(new TypeReference<SchemaVersion>() {}, false);
+
+  public static final JsonColumnCodec<Type> COLUMN_TYPE =
+      new JsonColumnCodec<>(new TypeReference<Type>() {}, true);
+
+  public static final JsonColumnCodec<Expression> COLUMN_DEFAULT_VALUE =
+      new JsonColumnCodec<>(new TypeReference<Expression>() {}, false);
+
+  public static final JsonColumnCodec<List<String>> PRIVILEGES =
+      new JsonColumnCodec<>(new TypeReference<List<String>>() {}, true);
+
+  // The role ids aggregated by the backends are numbers or strings depending on the backend.
+  public static final JsonColumnCodec<List<Object>> AGGREGATED_VALUES =
+      new JsonColumnCodec<>(new TypeReference<List<Object>>() {}, false);
+
+  public static final JsonColumnCodec<List<String>> AGGREGATED_NAMES =
+      new JsonColumnCodec<>(new TypeReference<List<String>>() {}, false);
+
+  private final ObjectReader reader;
+  private final ObjectWriter writer;
+  private final ObjectReader compactReader;
+  private final ObjectWriter compactWriter;
+  private final boolean compactable;
+
+  private JsonColumnCodec(TypeReference<T> typeReference, boolean compactable) {
+    ObjectMapper mapper = JsonUtils.anyFieldMapper();
+    JavaType type = mapper.getTypeFactory().constructType(typeReference);
+    this.reader = mapper.readerFor(type);
+    this.writer = mapper.writerFor(type);
+    this.compactable = compactable;
+    if (compactable) {
+      JavaType smileType = SMILE_MAPPER.getTypeFactory().constructType(typeReference);
+      this.compactReader = SMILE_MAPPER.readerFor(smileType);
+      this.compactWriter = SMILE_MAPPER.writerFor(smileType);
+    } else {
+      this.compactReader = null;
+      this.compactWriter = null;
+    }
+  }
+
+  /**
+   * Initializes the encoding of the codecs with the configuration of the entity store.
+   *
+   * @param config The configuration of the entity store.
+   */
+  public static void initialize(Config config) {
+    setCompactEncodingEnabled(
+        Boolean.TRUE.equals(config.get(Configs.ENTITY_RELATIONAL_COMPACT_ENCODING_ENABLED)));
+  }
+
+  @VisibleForTesting
+  static void setCompactEncodingEnabled(boolean enabled) {
+    compactEncodingEnabled = enabled;
+  }
+
+  /**
+   * Encodes the value to the text stored in the column.
+   *
+   * @param value The value of the field.
+   * @return The JSON text of the value, or the compact encoding if it's enabled and shorter.
+   * @throws JsonProcessingException If the value can't be encoded.
+   */
+  public String encode(T value) throws JsonProcessingException {
+    String json = writer.writeValueAsString(value);
+    if (!compactable || !compactEncodingEnabled || json.length() < COMPACT_THRESHOLD) {
+      return json;
+    }
+
+    byte[] deflated = deflate(compactWriter.writeValueAsBytes(value));
+    // The Base64 encoding takes 4 chars for each 3 bytes.
+    if (COMPACT_MARKER.length() + (deflated.length + 2) / 3 * 4 >= json.length()) {
+      return json;
+    }
+    return COMPACT_MARKER + Base64.getEncoder().encodeToString(deflated);
+  }
+
+  /**
+   * Decodes the value from the text stored in the column, the text can be in either encoding.
+   *
+   * @param text The text stored in the column.
+   * @return The value of the field.
+   * @throws JsonProcessingException If the text can't be decoded.
+   */
+  public T decode(String text) throws JsonProcessingException {
+    if (text == null || !text.startsWith(COMPACT_MARKER)) {
+      return reader.readValue(text);
+    }
+
+    if (!compactable) {
+      throw new JsonMappingException(null, "The field doesn't support the compact encoding");
+    }
+    try {
+      byte[] deflated =
+          Base64.getDecoder()
+              .decode(text.substring(COMPACT_MARKER.length()).getBytes(StandardCharsets.US_ASCII));
+      return compactReader.readValue(inflate(deflated));
+    } catch (JsonProcessingException e) {
+      throw e;
+    } catch (IOException | DataFormatException | IllegalArgumentException e) {
+      throw new JsonMappingException(null, "Failed to decode the compact value", e);
+    }
+  }
+
+  private static byte[] deflate(byte[] bytes) {
+    Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    try {
+      deflater.setInput(bytes);
+      deflater.finish();
+      ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 2 + 16);
+      byte[] buffer = new byte[1024];
+      while (!deflater.finished()) {
+        int length = deflater.deflate(buffer);
+        out.write(buffer, 0, length);
+      }
+      return out.toByteArray();
+    } finally {
+      deflater.end();
+    }
+  }
+
+  private static byte[] inflate(byte[] bytes) throws DataFormatException {
+    Inflater inflater = new Inflater();
+    try {
+      inflater.setInput(bytes);
+      ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length * 4);
+      byte[] buffer = new byte[1024];
+      while (!inflater.finished()) {
+        int length = inflater.inflate(buffer);
+        if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+          throw new DataFormatException("Truncated compact value");
+        }
+        out.write(buffer, 0, length);
+      }
+      return out.toByteArray();
+    } finally {
+      inflater.end();
+    }
+  }
+}
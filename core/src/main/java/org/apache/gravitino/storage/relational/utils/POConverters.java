@@ -39,7 +39,6 @@ import org.apache.gravitino.authorization.SecurableObjects;
 import org.apache.gravitino.dto.rel.expressions.FunctionArg;
 import org.apache.gravitino.dto.util.DTOConverters;
 import org.apache.gravitino.file.Fileset;
-import org.apache.gravitino.json.JsonUtils;
 import org.apache.gravitino.meta.AuditInfo;
 import org.apache.gravitino.meta.BaseMetalake;
 import org.apache.gravitino.meta.CatalogEntity;
@@ -50,14 +49,11 @@ import org.apache.gravitino.meta.ModelEntity;
 import org.apache.gravitino.meta.ModelVersionEntity;
 import org.apache.gravitino.meta.RoleEntity;
 import org.apache.gravitino.meta.SchemaEntity;
-import org.apache.gravitino.meta.SchemaVersion;
 import org.apache.gravitino.meta.TableEntity;
 import org.apache.gravitino.meta.TagEntity;
 import org.apache.gravitino.meta.TopicEntity;
 import org.apache.gravitino.meta.UserEntity;
 import org.apache.gravitino.rel.Column;
-import org.apache.gravitino.rel.expressions.Expression;
-import org.apache.gravitino.rel.types.Type;
 import org.apache.gravitino.storage.relational.po.CatalogPO;
 import org.apache.gravitino.storage.relational.po.ColumnPO;
 import org.apache.gravitino.storage.relational.po.ExtendedGroupPO;
@@ -101,10 +97,9 @@ public class POConverters {
           .withMetalakeId(baseMetalake.id())
           .withMetalakeName(baseMetalake.name())
           .withMetalakeComment(baseMetalake.comment())
-          .withProperties(JsonUtils.anyFieldMapper().writeValueAsString(baseMetalake.properties()))
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(baseMetalake.auditInfo()))
-          .withSchemaVersion(
-              JsonUtils.anyFieldMapper().writeValueAsString(baseMetalake.getVersion()))
+          .withProperties(JsonColumnCodec.PROPERTIES.encode(baseMetalake.properties()))
+          .withAuditInfo(JsonColumnCodec.AUDIT_INFO.encode(baseMetalake.auditInfo()))
+          .withSchemaVersion(JsonColumnCodec.SCHEMA_VERSION.encode(baseMetalake.getVersion()))
           .withCurrentVersion(INIT_VERSION)
           .withLastVersion(INIT_VERSION)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -131,10 +126,9 @@ public class POConverters {
           .withMetalakeId(newMetalake.id())
           .withMetalakeName(newMetalake.name())
           .withMetalakeComment(newMetalake.comment())
-          .withProperties(JsonUtils.anyFieldMapper().writeValueAsString(newMetalake.properties()))
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(newMetalake.auditInfo()))
-          .withSchemaVersion(
-              JsonUtils.anyFieldMapper().writeValueAsString(newMetalake.getVersion()))
+          .withProperties(JsonColumnCodec.PROPERTIES.encode(newMetalake.properties()))
+          .withAuditInfo(JsonColumnCodec.AUDIT_INFO.encode(newMetalake.auditInfo()))
+          .withSchemaVersion(JsonColumnCodec.SCHEMA_VERSION.encode(newMetalake.getVersion()))
           .withCurrentVersion(nextVersion)
           .withLastVersion(nextVersion)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -156,13 +150,9 @@ public class POConverters {
           .withId(metalakePO.getMetalakeId())
           .withName(metalakePO.getMetalakeName())
           .withComment(metalakePO.getMetalakeComment())
-          .withProperties(
-              JsonUtils.anyFieldMapper().readValue(metalakePO.getProperties(), Map.class))
-          .withAuditInfo(
-              JsonUtils.anyFieldMapper().readValue(metalakePO.getAuditInfo(), AuditInfo.class))
-          .withVersion(
-              JsonUtils.anyFieldMapper()
-                  .readValue(metalakePO.getSchemaVersion(), SchemaVersion.class))
+          .withProperties(JsonColumnCodec.PROPERTIES.decode(metalakePO.getProperties()))
+          .withAuditInfo(JsonColumnCodec.AUDIT_INFO.decode(metalakePO.getAuditInfo()))
+          .withVersion(JsonColumnCodec.SCHEMA_VERSION.decode(metalakePO.getSchemaVersion()))
           .build();
     } catch (JsonProcessingException e) {
       throw new RuntimeException("Failed to deserialize json object:", e);
@@ -195,9 +185,8 @@ public class POConverters {
           .withType(catalogEntity.getType().name())
           .withProvider(catalogEntity.getProvider())
           .withCatalogComment(catalogEntity.getComment())
-          .withProperties(
-              JsonUtils.anyFieldMapper().writeValueAsString(catalogEntity.getProperties()))
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(catalogEntity.auditInfo()))
+          .withProperties(JsonColumnCodec.PROPERTIES.encode(catalogEntity.getProperties()))
+          .withAuditInfo(JsonColumnCodec.AUDIT_INFO.encode(catalogEntity.auditInfo()))
           .withCurrentVersion(INIT_VERSION)
           .withLastVersion(INIT_VERSION)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -227,8 +216,8 @@ public class POConverters {
           .withType(newCatalog.getType().name())
           .withProvider(newCatalog.getProvider())
           .withCatalogComment(newCatalog.getComment())
-          .withProperties(JsonUtils.anyFieldMapper().writeValueAsString(newCatalog.getProperties()))
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(newCatalog.auditInfo()))
+          .withProperties(JsonColumnCodec.PROPERTIES.encode(newCatalog.getProperties()))
+          .withAuditInfo(JsonColumnCodec.AUDIT_INFO.encode(newCatalog.auditInfo()))
           .withCurrentVersion(nextVersion)
           .withLastVersion(nextVersion)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -254,10 +243,8 @@ public class POConverters {
           .withType(Catalog.Type.valueOf(catalogPO.getType()))
           .withProvider(catalogPO.getProvider())
           .withComment(catalogPO.getCatalogComment())
-          .withProperties(
-              JsonUtils.anyFieldMapper().readValue(catalogPO.getProperties(), Map.class))
-          .withAuditInfo(
-              JsonUtils.anyFieldMapper().readValue(catalogPO.getAuditInfo(), AuditInfo.class))
+          .withProperties(JsonColumnCodec.PROPERTIES.decode(catalogPO.getProperties()))
+          .withAuditInfo(JsonColumnCodec.AUDIT_INFO.decode(catalogPO.getAuditInfo()))
           .build();
     } catch (JsonProcessingException e) {
       throw new RuntimeException("Failed to deserialize json object:", e);
@@ -291,8 +278,8 @@ public class POConverters {
           .withSchemaId(schemaEntity.id())
           .withSchemaName(schemaEntity.name())
           .withSchemaComment(schemaEntity.comment())
-          .withProperties(JsonUtils.anyFieldMapper().writeValueAsString(schemaEntity.properties()))
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(schemaEntity.auditInfo()))
+          .withProperties(JsonColumnCodec.PROPERTIES.encode(schemaEntity.properties()))
+          .withAuditInfo(JsonColumnCodec.AUDIT_INFO.encode(schemaEntity.auditInfo()))
           .withCurrentVersion(INIT_VERSION)
           .withLastVersion(INIT_VERSION)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -320,8 +307,8 @@ public class POConverters {
           .withMetalakeId(oldSchemaPO.getMetalakeId())
           .withCatalogId(oldSchemaPO.getCatalogId())
           .withSchemaComment(newSchema.comment())
-          .withProperties(JsonUtils.anyFieldMapper().writeValueAsString(newSchema.properties()))
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(newSchema.auditInfo()))
+          .withProperties(JsonColumnCodec.PROPERTIES.encode(newSchema.properties()))
+          .withAuditInfo(JsonColumnCodec.AUDIT_INFO.encode(newSchema.auditInfo()))
           .withCurrentVersion(nextVersion)
           .withLastVersion(nextVersion)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -345,9 +332,8 @@ public class POConverters {
           .withName(schemaPO.getSchemaName())
           .withNamespace(namespace)
           .withComment(schemaPO.getSchemaComment())
-          .withProperties(JsonUtils.anyFieldMapper().readValue(schemaPO.getProperties(), Map.class))
-          .withAuditInfo(
-              JsonUtils.anyFieldMapper().readValue(schemaPO.getAuditInfo(), AuditInfo.class))
+          .withProperties(JsonColumnCodec.PROPERTIES.decode(schemaPO.getProperties()))
+          .withAuditInfo(JsonColumnCodec.AUDIT_INFO.decode(schemaPO.getAuditInfo()))
           .build();
     } catch (JsonProcessingException e) {
       throw new RuntimeException("Failed to deserialize json object:", e);
@@ -379,7 +365,7 @@ public class POConverters {
       return builder
           .withTableId(tableEntity.id())
           .withTableName(tableEntity.name())
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(tableEntity.auditInfo()))
+          .withAuditInfo(JsonColumnCodec.AUDIT_INFO.encode(tableEntity.auditInfo()))
           .withCurrentVersion(INIT_VERSION)
           .withLastVersion(INIT_VERSION)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -416,7 +402,7 @@ public class POConverters {
           .withMetalakeId(oldTablePO.getMetalakeId())
           .withCatalogId(oldTablePO.getCatalogId())
           .withSchemaId(oldTablePO.getSchemaId())
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(newTable.auditInfo()))
+          .withAuditInfo(JsonColumnCodec.AUDIT_INFO.encode(newTable.auditInfo()))
           .withCurrentVersion(currentVersion)
           .withLastVersion(lastVersion)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -445,8 +431,7 @@ public class POConverters {
           .withName(tablePO.getTableName())
           .withNamespace(namespace)
           .withColumns(fromColumnPOs(columnPOs))
-          .withAuditInfo(
-              JsonUtils.anyFieldMapper().readValue(tablePO.getAuditInfo(), AuditInfo.class))
+          .withAuditInfo(JsonColumnCodec.AUDIT_INFO.decode(tablePO.getAuditInfo()))
           .build();
     } catch (JsonProcessingException e) {
       throw new RuntimeException("Failed to deserialize json object:", e);
@@ -459,7 +444,7 @@ public class POConverters {
           .withId(columnPO.getColumnId())
           .withName(columnPO.getColumnName())
           .withPosition(columnPO.getColumnPosition())
-          .withDataType(JsonUtils.anyFieldMapper().readValue(columnPO.getColumnType(), Type.class))
+          .withDataType(JsonColumnCodec.COLUMN_TYPE.decode(columnPO.getColumnType()))
           .withComment(columnPO.getColumnComment())
           .withAutoIncrement(
               ColumnPO.AutoIncrement.fromValue(columnPO.getAutoIncrement()).autoIncrement())
@@ -469,10 +454,8 @@ public class POConverters {
                   ? Column.DEFAULT_VALUE_NOT_SET
                   : DTOConverters.fromFunctionArg(
                       (FunctionArg)
-                          JsonUtils.anyFieldMapper()
-                              .readValue(columnPO.getDefaultValue(), Expression.class)))
-          .withAuditInfo(
-              JsonUtils.anyFieldMapper().readValue(columnPO.getAuditInfo(), AuditInfo.class))
+                          JsonColumnCodec.COLUMN_DEFAULT_VALUE.decode(columnPO.getDefaultValue())))
+          .withAuditInfo(JsonColumnCodec.AUDIT_INFO.decode(columnPO.getAuditInfo()))
           .build();
     } catch (JsonProcessingException e) {
       throw new RuntimeException("Failed to deserialize json object:", e);
@@ -495,7 +478,7 @@ public class POConverters {
           .withSchemaId(tablePO.getSchemaId())
           .withTableId(tablePO.getTableId())
           .withTableVersion(tablePO.getCurrentVersion())
-          .withColumnType(JsonUtils.anyFieldMapper().writeValueAsString(columnEntity.dataType()))
+          .withColumnType(JsonColumnCodec.COLUMN_TYPE.encode(columnEntity.dataType()))
           .withColumnComment(columnEntity.comment())
           .withNullable(ColumnPO.Nullable.fromBoolean(columnEntity.nullable()).value())
           .withAutoIncrement(
@@ -504,10 +487,10 @@ public class POConverters {
               columnEntity.defaultValue() == null
                       || columnEntity.defaultValue().equals(Column.DEFAULT_VALUE_NOT_SET)
                   ? null
-                  : JsonUtils.anyFieldMapper()
-                      .writeValueAsString(DTOConverters.toFunctionArg(columnEntity.defaultValue())))
+                  : JsonColumnCodec.COLUMN_DEFAULT_VALUE.encode(
+                      DTOConverters.toFunctionArg(columnEntity.defaultValue())))
           .withColumnOpType(opType.value())
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(columnEntity.auditInfo()))
+          .withAuditInfo(JsonColumnCodec.AUDIT_INFO.encode(columnEntity.auditInfo()))
           .withDeletedAt(DEFAULT_DELETED_AT)
           .build();
     } catch (JsonProcessingException e) {
@@ -553,15 +536,14 @@ public class POConverters {
               .withVersion(INIT_VERSION)
               .withFilesetComment(filesetEntity.comment())
               .withStorageLocation(filesetEntity.storageLocation())
-              .withProperties(
-                  JsonUtils.anyFieldMapper().writeValueAsString(filesetEntity.properties()))
+              .withProperties(JsonColumnCodec.PROPERTIES.encode(filesetEntity.properties()))
               .withDeletedAt(DEFAULT_DELETED_AT)
               .build();
       return builder
           .withFilesetId(filesetEntity.id())
           .withFilesetName(filesetEntity.name())
           .withType(filesetEntity.filesetType().name())
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(filesetEntity.auditInfo()))
+          .withAuditInfo(JsonColumnCodec.AUDIT_INFO.encode(filesetEntity.auditInfo()))
           .withCurrentVersion(INIT_VERSION)
           .withLastVersion(INIT_VERSION)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -598,8 +580,7 @@ public class POConverters {
                 .withVersion(currentVersion)
                 .withFilesetComment(newFileset.comment())
                 .withStorageLocation(newFileset.storageLocation())
-                .withProperties(
-                    JsonUtils.anyFieldMapper().writeValueAsString(newFileset.properties()))
+                .withProperties(JsonColumnCodec.PROPERTIES.encode(newFileset.properties()))
                 .withDeletedAt(DEFAULT_DELETED_AT)
                 .build();
       } else {
@@ -613,7 +594,7 @@ public class POConverters {
           .withCatalogId(oldFilesetPO.getCatalogId())
           .withSchemaId(oldFilesetPO.getSchemaId())
           .withType(newFileset.filesetType().name())
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(newFileset.auditInfo()))
+          .withAuditInfo(JsonColumnCodec.AUDIT_INFO.encode(newFileset.auditInfo()))
           .withCurrentVersion(currentVersion)
           .withLastVersion(lastVersion)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -634,7 +615,7 @@ public class POConverters {
 
     try {
       Map<String, String> oldProperties =
-          JsonUtils.anyFieldMapper().readValue(oldFilesetVersionPO.getProperties(), Map.class);
+          JsonColumnCodec.PROPERTIES.decode(oldFilesetVersionPO.getProperties());
       if (oldProperties == null) {
         return newFileset.properties() != null;
       }
@@ -661,10 +642,8 @@ public class POConverters {
           .withFilesetType(Fileset.Type.valueOf(filesetPO.getType()))
           .withStorageLocation(filesetPO.getFilesetVersionPO().getStorageLocation())
           .withProperties(
-              JsonUtils.anyFieldMapper()
-                  .readValue(filesetPO.getFilesetVersionPO().getProperties(), Map.class))
-          .withAuditInfo(
-              JsonUtils.anyFieldMapper().readValue(filesetPO.getAuditInfo(), AuditInfo.class))
+              JsonColumnCodec.PROPERTIES.decode(filesetPO.getFilesetVersionPO().getProperties()))
+          .withAuditInfo(JsonColumnCodec.AUDIT_INFO.decode(filesetPO.getAuditInfo()))
           .build();
     } catch (JsonProcessingException e) {
       throw new RuntimeException("Failed to deserialize json object:", e);
@@ -678,9 +657,8 @@ public class POConverters {
           .withName(topicPO.getTopicName())
           .withNamespace(namespace)
           .withComment(topicPO.getComment())
-          .withProperties(JsonUtils.anyFieldMapper().readValue(topicPO.getProperties(), Map.class))
-          .withAuditInfo(
-              JsonUtils.anyFieldMapper().readValue(topicPO.getAuditInfo(), AuditInfo.class))
+          .withProperties(JsonColumnCodec.PROPERTIES.decode(topicPO.getProperties()))
+          .withAuditInfo(JsonColumnCodec.AUDIT_INFO.decode(topicPO.getAuditInfo()))
           .build();
     } catch (JsonProcessingException e) {
       throw new RuntimeException("Failed to deserialize json object:", e);
@@ -714,8 +692,8 @@ public class POConverters {
           .withTopicId(topicEntity.id())
           .withTopicName(topicEntity.name())
           .withComment(topicEntity.comment())
-          .withProperties(JsonUtils.anyFieldMapper().writeValueAsString(topicEntity.properties()))
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(topicEntity.auditInfo()))
+          .withProperties(JsonColumnCodec.PROPERTIES.encode(topicEntity.properties()))
+          .withAuditInfo(JsonColumnCodec.AUDIT_INFO.encode(topicEntity.auditInfo()))
           .withCurrentVersion(INIT_VERSION)
           .withLastVersion(INIT_VERSION)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -737,8 +715,8 @@ public class POConverters {
           .withCatalogId(oldTopicPO.getCatalogId())
           .withSchemaId(oldTopicPO.getSchemaId())
           .withComment(newEntity.comment())
-          .withProperties(JsonUtils.anyFieldMapper().writeValueAsString(newEntity.properties()))
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(newEntity.auditInfo()))
+          .withProperties(JsonColumnCodec.PROPERTIES.encode(newEntity.properties()))
+          .withAuditInfo(JsonColumnCodec.AUDIT_INFO.encode(newEntity.auditInfo()))
           .withCurrentVersion(nextVersion)
           .withLastVersion(nextVersion)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -759,7 +737,7 @@ public class POConverters {
       return builder
           .withUserId(userEntity.id())
           .withUserName(userEntity.name())
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(userEntity.auditInfo()))
+          .withAuditInfo(JsonColumnCodec.AUDIT_INFO.encode(userEntity.auditInfo()))
           .withCurrentVersion(INIT_VERSION)
           .withLastVersion(INIT_VERSION)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -786,7 +764,7 @@ public class POConverters {
           .withUserId(oldUserPO.getUserId())
           .withUserName(newUser.name())
           .withMetalakeId(oldUserPO.getMetalakeId())
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(newUser.auditInfo()))
+          .withAuditInfo(JsonColumnCodec.AUDIT_INFO.encode(newUser.auditInfo()))
           .withCurrentVersion(nextVersion)
           .withLastVersion(nextVersion)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -815,8 +793,7 @@ public class POConverters {
               .withId(userPO.getUserId())
               .withName(userPO.getUserName())
               .withNamespace(namespace)
-              .withAuditInfo(
-                  JsonUtils.anyFieldMapper().readValue(userPO.getAuditInfo(), AuditInfo.class));
+              .withAuditInfo(JsonColumnCodec.AUDIT_INFO.decode(userPO.getAuditInfo()));
       if (!roleNames.isEmpty()) {
         builder.withRoleNames(roleNames);
       }
@@ -843,11 +820,10 @@ public class POConverters {
               .withId(userPO.getUserId())
               .withName(userPO.getUserName())
               .withNamespace(namespace)
-              .withAuditInfo(
-                  JsonUtils.anyFieldMapper().readValue(userPO.getAuditInfo(), AuditInfo.class));
+              .withAuditInfo(JsonColumnCodec.AUDIT_INFO.decode(userPO.getAuditInfo()));
       if (StringUtils.isNotBlank(userPO.getRoleNames())) {
         List<String> roleNamesFromJson =
-            JsonUtils.anyFieldMapper().readValue(userPO.getRoleNames(), List.class);
+            JsonColumnCodec.AGGREGATED_NAMES.decode(userPO.getRoleNames());
         List<String> roleNames =
             roleNamesFromJson.stream().filter(StringUtils::isNotBlank).collect(Collectors.toList());
         if (!roleNames.isEmpty()) {
@@ -860,7 +836,7 @@ public class POConverters {
         // can only use Object. PostSQL produces the data with type Long. H2 produces
         // the data with type String.
         List<Object> roleIdsFromJson =
-            JsonUtils.anyFieldMapper().readValue(userPO.getRoleIds(), List.class);
+            JsonColumnCodec.AGGREGATED_VALUES.decode(userPO.getRoleIds());
         List<Long> roleIds =
             roleIdsFromJson.stream()
                 .filter(Objects::nonNull)
@@ -899,8 +875,7 @@ public class POConverters {
               .withId(groupPO.getGroupId())
               .withName(groupPO.getGroupName())
               .withNamespace(namespace)
-              .withAuditInfo(
-                  JsonUtils.anyFieldMapper().readValue(groupPO.getAuditInfo(), AuditInfo.class));
+              .withAuditInfo(JsonColumnCodec.AUDIT_INFO.decode(groupPO.getAuditInfo()));
       if (!roleNames.isEmpty()) {
         builder.withRoleNames(roleNames);
       }
@@ -927,12 +902,11 @@ public class POConverters {
               .withId(groupPO.getGroupId())
               .withName(groupPO.getGroupName())
               .withNamespace(namespace)
-              .withAuditInfo(
-                  JsonUtils.anyFieldMapper().readValue(groupPO.getAuditInfo(), AuditInfo.class));
+              .withAuditInfo(JsonColumnCodec.AUDIT_INFO.decode(groupPO.getAuditInfo()));
 
       if (StringUtils.isNotBlank(groupPO.getRoleNames())) {
         List<String> roleNamesFromJson =
-            JsonUtils.anyFieldMapper().readValue(groupPO.getRoleNames(), List.class);
+            JsonColumnCodec.AGGREGATED_NAMES.decode(groupPO.getRoleNames());
         List<String> roleNames =
             roleNamesFromJson.stream().filter(StringUtils::isNotBlank).collect(Collectors.toList());
         if (!roleNames.isEmpty()) {
@@ -945,7 +919,7 @@ public class POConverters {
         // can only use Object. PostSQL produces the data with type Long. H2 produces
         // the data with type String.
         List<Object> roleIdsFromJson =
-            JsonUtils.anyFieldMapper().readValue(groupPO.getRoleIds(), List.class);
+            JsonColumnCodec.AGGREGATED_VALUES.decode(groupPO.getRoleIds());
         List<Long> roleIds =
             roleIdsFromJson.stream()
                 .filter(Objects::nonNull)
@@ -980,8 +954,7 @@ public class POConverters {
             UserRoleRelPO.builder()
                 .withUserId(userEntity.id())
                 .withRoleId(roleId)
-                .withAuditInfo(
-                    JsonUtils.anyFieldMapper().writeValueAsString(userEntity.auditInfo()))
+                .withAuditInfo(JsonColumnCodec.AUDIT_INFO.encode(userEntity.auditInfo()))
                 .withCurrentVersion(INIT_VERSION)
                 .withLastVersion(INIT_VERSION)
                 .withDeletedAt(DEFAULT_DELETED_AT)
@@ -1005,8 +978,8 @@ public class POConverters {
       return builder
           .withRoleId(roleEntity.id())
           .withRoleName(roleEntity.name())
-          .withProperties(JsonUtils.anyFieldMapper().writeValueAsString(roleEntity.properties()))
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(roleEntity.auditInfo()))
+          .withProperties(JsonColumnCodec.PROPERTIES.encode(roleEntity.properties()))
+          .withAuditInfo(JsonColumnCodec.AUDIT_INFO.encode(roleEntity.auditInfo()))
           .withCurrentVersion(INIT_VERSION)
           .withLastVersion(INIT_VERSION)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -1028,7 +1001,7 @@ public class POConverters {
       return builder
           .withGroupId(groupEntity.id())
           .withGroupName(groupEntity.name())
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(groupEntity.auditInfo()))
+          .withAuditInfo(JsonColumnCodec.AUDIT_INFO.encode(groupEntity.auditInfo()))
           .withCurrentVersion(INIT_VERSION)
           .withLastVersion(INIT_VERSION)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -1055,7 +1028,7 @@ public class POConverters {
           .withGroupId(oldGroupPO.getGroupId())
           .withGroupName(newGroup.name())
           .withMetalakeId(oldGroupPO.getMetalakeId())
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(newGroup.auditInfo()))
+          .withAuditInfo(JsonColumnCodec.AUDIT_INFO.encode(newGroup.auditInfo()))
           .withCurrentVersion(nextVersion)
           .withLastVersion(nextVersion)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -1081,8 +1054,7 @@ public class POConverters {
             GroupRoleRelPO.builder()
                 .withGroupId(groupEntity.id())
                 .withRoleId(roleId)
-                .withAuditInfo(
-                    JsonUtils.anyFieldMapper().writeValueAsString(groupEntity.auditInfo()))
+                .withAuditInfo(JsonColumnCodec.AUDIT_INFO.encode(groupEntity.auditInfo()))
                 .withCurrentVersion(INIT_VERSION)
                 .withLastVersion(INIT_VERSION)
                 .withDeletedAt(DEFAULT_DELETED_AT)
@@ -1099,10 +1071,9 @@ public class POConverters {
       String fullName, SecurableObjectPO securableObjectPO, MetadataObject.Type type) {
     try {
       List<String> privilegeNames =
-          JsonUtils.anyFieldMapper().readValue(securableObjectPO.getPrivilegeNames(), List.class);
+          JsonColumnCodec.PRIVILEGES.decode(securableObjectPO.getPrivilegeNames());
       List<String> privilegeConditions =
-          JsonUtils.anyFieldMapper()
-              .readValue(securableObjectPO.getPrivilegeConditions(), List.class);
+          JsonColumnCodec.PRIVILEGES.decode(securableObjectPO.getPrivilegeConditions());
 
       List<Privilege> privileges = Lists.newArrayList();
       for (int index = 0; index < privilegeNames.size(); index++) {
@@ -1126,10 +1097,9 @@ public class POConverters {
           .withId(rolePO.getRoleId())
           .withName(rolePO.getRoleName())
           .withNamespace(namespace)
-          .withProperties(JsonUtils.anyFieldMapper().readValue(rolePO.getProperties(), Map.class))
+          .withProperties(JsonColumnCodec.PROPERTIES.decode(rolePO.getProperties()))
           .withSecurableObjects(securableObjects)
-          .withAuditInfo(
-              JsonUtils.anyFieldMapper().readValue(rolePO.getAuditInfo(), AuditInfo.class))
+          .withAuditInfo(JsonColumnCodec.AUDIT_INFO.decode(rolePO.getAuditInfo()))
           .build();
     } catch (JsonProcessingException e) {
       throw new RuntimeException("Failed to deserialize json object:", e);
@@ -1144,19 +1114,17 @@ public class POConverters {
           .withRoleId(roleId)
           .withType(type)
           .withPrivilegeConditions(
-              JsonUtils.anyFieldMapper()
-                  .writeValueAsString(
-                      securableObject.privileges().stream()
-                          .map(Privilege::condition)
-                          .map(Privilege.Condition::name)
-                          .collect(Collectors.toList())))
+              JsonColumnCodec.PRIVILEGES.encode(
+                  securableObject.privileges().stream()
+                      .map(Privilege::condition)
+                      .map(Privilege.Condition::name)
+                      .collect(Collectors.toList())))
           .withPrivilegeNames(
-              JsonUtils.anyFieldMapper()
-                  .writeValueAsString(
-                      securableObject.privileges().stream()
-                          .map(Privilege::name)
-                          .map(Privilege.Name::name)
-                          .collect(Collectors.toList())))
+              JsonColumnCodec.PRIVILEGES.encode(
+                  securableObject.privileges().stream()
+                      .map(Privilege::name)
+                      .map(Privilege.Name::name)
+                      .collect(Collectors.toList())))
           .withCurrentVersion(INIT_VERSION)
           .withLastVersion(INIT_VERSION)
           .withDeletedAt(DEFAULT_DELETED_AT);
@@ -1177,8 +1145,8 @@ public class POConverters {
           .withRoleId(oldRolePO.getRoleId())
           .withRoleName(newRole.name())
           .withMetalakeId(oldRolePO.getMetalakeId())
-          .withProperties(JsonUtils.anyFieldMapper().writeValueAsString(newRole.properties()))
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(newRole.auditInfo()))
+          .withProperties(JsonColumnCodec.PROPERTIES.encode(newRole.properties()))
+          .withAuditInfo(JsonColumnCodec.AUDIT_INFO.encode(newRole.auditInfo()))
           .withCurrentVersion(nextVersion)
           .withLastVersion(nextVersion)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -1195,9 +1163,8 @@ public class POConverters {
           .withName(tagPO.getTagName())
           .withNamespace(namespace)
           .withComment(tagPO.getComment())
-          .withProperties(JsonUtils.anyFieldMapper().readValue(tagPO.getProperties(), Map.class))
-          .withAuditInfo(
-              JsonUtils.anyFieldMapper().readValue(tagPO.getAuditInfo(), AuditInfo.class))
+          .withProperties(JsonColumnCodec.PROPERTIES.decode(tagPO.getProperties()))
+          .withAuditInfo(JsonColumnCodec.AUDIT_INFO.decode(tagPO.getAuditInfo()))
           .build();
     } catch (JsonProcessingException e) {
       throw new RuntimeException("Failed to deserialize json object:", e);
@@ -1210,8 +1177,8 @@ public class POConverters {
           .withTagId(tagEntity.id())
           .withTagName(tagEntity.name())
           .withComment(tagEntity.comment())
-          .withProperties(JsonUtils.anyFieldMapper().writeValueAsString(tagEntity.properties()))
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(tagEntity.auditInfo()))
+          .withProperties(JsonColumnCodec.PROPERTIES.encode(tagEntity.properties()))
+          .withAuditInfo(JsonColumnCodec.AUDIT_INFO.encode(tagEntity.auditInfo()))
           .withCurrentVersion(INIT_VERSION)
           .withLastVersion(INIT_VERSION)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -1232,8 +1199,8 @@ public class POConverters {
           .withTagName(newEntity.name())
           .withMetalakeId(oldTagPO.getMetalakeId())
           .withComment(newEntity.comment())
-          .withProperties(JsonUtils.anyFieldMapper().writeValueAsString(newEntity.properties()))
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(newEntity.auditInfo()))
+          .withProperties(JsonColumnCodec.PROPERTIES.encode(newEntity.properties()))
+          .withAuditInfo(JsonColumnCodec.AUDIT_INFO.encode(newEntity.auditInfo()))
           .withCurrentVersion(nextVersion)
           .withLastVersion(nextVersion)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -1256,7 +1223,7 @@ public class POConverters {
           .withTagId(tagId)
           .withMetadataObjectId(metadataObjectId)
           .withMetadataObjectType(metadataObjectType)
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(auditInfo))
+          .withAuditInfo(JsonColumnCodec.AUDIT_INFO.encode(auditInfo))
           .withCurrentVersion(INIT_VERSION)
           .withLastVersion(INIT_VERSION)
           .withDeletedAt(DEFAULT_DELETED_AT)
@@ -1284,7 +1251,7 @@ public class POConverters {
           .withOwnerType(ownerType)
           .withMetadataObjectId(metadataObjectId)
           .withMetadataObjectType(metadataObjectType)
-          .withAuditIfo(JsonUtils.anyFieldMapper().writeValueAsString(auditInfo))
+          .withAuditIfo(JsonColumnCodec.AUDIT_INFO.encode(auditInfo))
           .withCurrentVersion(INIT_VERSION)
           .withLastVersion(INIT_VERSION)
           .withDeleteAt(DEFAULT_DELETED_AT)
@@ -1302,10 +1269,8 @@ public class POConverters {
           .withNamespace(namespace)
           .withComment(modelPO.getModelComment())
           .withLatestVersion(modelPO.getModelLatestVersion())
-          .withProperties(
-              JsonUtils.anyFieldMapper().readValue(modelPO.getModelProperties(), Map.class))
-          .withAuditInfo(
-              JsonUtils.anyFieldMapper().readValue(modelPO.getAuditInfo(), AuditInfo.class))
+          .withProperties(JsonColumnCodec.PROPERTIES.decode(modelPO.getModelProperties()))
+          .withAuditInfo(JsonColumnCodec.AUDIT_INFO.decode(modelPO.getAuditInfo()))
           .build();
     } catch (JsonProcessingException e) {
       throw new RuntimeException("Failed to deserialize json object:", e);
@@ -1319,9 +1284,8 @@ public class POConverters {
           .withModelName(modelEntity.name())
           .withModelComment(modelEntity.comment())
           .withModelLatestVersion(modelEntity.latestVersion())
-          .withModelProperties(
-              JsonUtils.anyFieldMapper().writeValueAsString(modelEntity.properties()))
-          .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(modelEntity.auditInfo()))
+          .withModelProperties(JsonColumnCodec.PROPERTIES.encode(modelEntity.properties()))
+          .withAuditInfo(JsonColumnCodec.AUDIT_INFO.encode(modelEntity.auditInfo()))
           .withDeletedAt(DEFAULT_DELETED_AT)
           .build();
     } catch (JsonProcessingException e) {
@@ -1346,10 +1310,8 @@ public class POConverters {
           .withComment(modelVersionPO.getModelVersionComment())
           .withUri(modelVersionPO.getModelVersionUri())
           .withProperties(
-              JsonUtils.anyFieldMapper()
-                  .readValue(modelVersionPO.getModelVersionProperties(), Map.class))
-          .withAuditInfo(
-              JsonUtils.anyFieldMapper().readValue(modelVersionPO.getAuditInfo(), AuditInfo.class))
+              JsonColumnCodec.PROPERTIES.decode(modelVersionPO.getModelVersionProperties()))
+          .withAuditInfo(JsonColumnCodec.AUDIT_INFO.decode(modelVersionPO.getAuditInfo()))
           .build();
     } catch (JsonProcessingException e) {
       throw new RuntimeException("Failed to deserialize json object:", e);
@@ -1366,9 +1328,8 @@ public class POConverters {
           .withModelVersionComment(modelVersionEntity.comment())
           .withModelVersionUri(modelVersionEntity.uri())
           .withModelVersionProperties(
-              JsonUtils.anyFieldMapper().writeValueAsString(modelVersionEntity.properties()))
-          .withAuditInfo(
-              JsonUtils.anyFieldMapper().writeValueAsString(modelVersionEntity.auditInfo()))
+              JsonColumnCodec.PROPERTIES.encode(modelVersionEntity.properties()))
+          .withAuditInfo(JsonColumnCodec.AUDIT_INFO.encode(modelVersionEntity.auditInfo()))
           .withDeletedAt(DEFAULT_DELETED_AT)
           .build();
     } catch (JsonProcessingException e) {
@@ -23,6 +23,8 @@ import java.util.Arrays;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import org.apache.gravitino.storage.relational.session.SqlSessions;
+import org.apache.gravitino.tracing.TraceScope;
+import org.apache.gravitino.tracing.Tracing;
 import org.apache.ibatis.session.SqlSession;
 
 /**
@@ -41,7 +43,8 @@ public class SessionUtils {
    * @param <T> the type of the mapper
    */
   public static <T> void doWithCommit(Class<T> mapperClazz, Consumer<T> consumer) {
-    try (SqlSession session = SqlSessions.getSqlSession()) {
+    try (TraceScope scope = startSpan("commit", mapperClazz);
+        SqlSession session = SqlSessions.getSqlSession()) {
       try {
         T mapper = SqlSessions.getMapper(mapperClazz);
         consumer.accept(mapper);
@@ -64,7 +67,8 @@ public class SessionUtils {
    * @param <R> the type of the result
    */
   public static <T, R> R doWithCommitAndFetchResult(Class<T> mapperClazz, Function<T, R> func) {
-    try (SqlSession session = SqlSessions.getSqlSession()) {
+    try (TraceScope scope = startSpan("commit", mapperClazz);
+        SqlSession session = SqlSessions.getSqlSession()) {
       try {
         T mapper = SqlSessions.getMapper(mapperClazz);
         R result = func.apply(mapper);
@@ -116,7 +120,8 @@ public class SessionUtils {
    * @param <R> the type of the result
    */
   public static <T, R> R getWithoutCommit(Class<T> mapperClazz, Function<T, R> func) {
-    try (SqlSession session = SqlSessions.getSqlSession()) {
+    try (TraceScope scope = startSpan("get", mapperClazz);
+        SqlSession session = SqlSessions.getSqlSession()) {
       try {
         T mapper = SqlSessions.getMapper(mapperClazz);
         return func.apply(mapper);
@@ -135,7 +140,8 @@ public class SessionUtils {
    * @param operations the operations to be performed
    */
   public static void doMultipleWithCommit(Runnable... operations) {
-    try (SqlSession session = SqlSessions.getSqlSession()) {
+    try (TraceScope scope = Tracing.start("entity-store.commit");
+        SqlSession session = SqlSessions.getSqlSession()) {
       try {
         Arrays.stream(operations).forEach(Runnable::run);
         SqlSessions.commitAndCloseSqlSession();
@@ -145,4 +151,12 @@ public class SessionUtils {
       }
     }
   }
+
+  // The session of the entity store is traced in a span named by the mapper, the statements are
+  // traced by StatementMetricsInterceptor in the child spans.
+  private static TraceScope startSpan(String operation, Class<?> mapperClazz) {
+    return Tracing.isEnabled()
+        ? Tracing.start("entity-store." + operation + " " + mapperClazz.getSimpleName())
+        : TraceScope.noop();
+  }
 }
@@ -19,6 +19,7 @@
 package org.apache.gravitino.tag;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityAlreadyExistsException;
@@ -59,6 +60,27 @@ public interface SupportsTagOperations {
       NameIdentifier objectIdent, Entity.EntityType objectType)
       throws NoSuchEntityException, IOException;
 
+  /**
+   * List all the tags that are associated with each of the given metadata objects of the same type.
+   * The default implementation lists the tags for the metadata objects one by one.
+   *
+   * @param objectIdents The identifiers of the metadata objects.
+   * @param objectType The type of the metadata objects.
+   * @return The lists of tags associated with the metadata objects, in the same order as the
+   *     identifiers.
+   * @throws NoSuchEntityException if any of the metadata objects does not exist.
+   * @throws IOException If an error occurs while accessing the entity store.
+   */
+  default List<List<TagEntity>> listAssociatedTagsForMetadataObjects(
+      List<NameIdentifier> objectIdents, Entity.EntityType objectType)
+      throws NoSuchEntityException, IOException {
+    List<List<TagEntity>> tags = new ArrayList<>(objectIdents.size());
+    for (NameIdentifier objectIdent : objectIdents) {
+      tags.add(listAssociatedTagsForMetadataObject(objectIdent, objectType));
+    }
+    return tags;
+  }
+
   /**
    * Get the tag with the given identifier that is associated with the given metadata object.
    *
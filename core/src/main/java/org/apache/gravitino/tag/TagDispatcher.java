@@ -109,6 +109,16 @@ public interface TagDispatcher {
    */
   Tag[] listTagsInfoForMetadataObject(String metalake, MetadataObject metadataObject);
 
+  /**
+   * List detailed information for all tags associated with each of the specified metadata objects.
+   *
+   * @param metalake The name of the metalake
+   * @param metadataObjects The metadata objects to query tag details for.
+   * @return The arrays of tags with detailed information, in the same order as the metadata
+   *     objects.
+   */
+  Tag[][] listTagsInfoForMetadataObjects(String metalake, MetadataObject[] metadataObjects);
+
   /**
    * Associate or disassociate tags with the specified metadata object.
    *
@@ -20,18 +20,29 @@ package org.apache.gravitino.tag;
 
 import static org.apache.gravitino.metalake.MetalakeManager.checkMetalake;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import java.io.IOException;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityAlreadyExistsException;
 import org.apache.gravitino.EntityStore;
+import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
@@ -61,7 +72,30 @@ public class TagManager implements TagDispatcher {
 
   private final SupportsTagOperations supportsTagOperations;
 
+  // The key is the identifier and the type of the metadata object, the value is the tags associated
+  // with it. It's null if the cache is disabled.
+  private final Cache<Pair<NameIdentifier, Entity.EntityType>, List<TagEntity>> tagsCache;
+
+  // Incremented on each invalidation, the tags loaded across an invalidation are not cached.
+  private final AtomicLong generation = new AtomicLong();
+
   public TagManager(IdGenerator idGenerator, EntityStore entityStore) {
+    this(idGenerator, entityStore, 0, 0);
+  }
+
+  /**
+   * Creates the tag manager with an in-memory cache of the tags associated with the metadata
+   * objects.
+   *
+   * @param idGenerator The id generator.
+   * @param entityStore The entity store.
+   * @param cacheMaxSize The maximum number of metadata objects whose tags are cached, 0 disables
+   *     the cache.
+   * @param cacheTtlMs The time in milliseconds the tags of a metadata object are cached since they
+   *     were loaded.
+   */
+  public TagManager(
+      IdGenerator idGenerator, EntityStore entityStore, long cacheMaxSize, long cacheTtlMs) {
     if (!(entityStore instanceof SupportsTagOperations)) {
       String errorMsg =
           "TagManager cannot run with entity store that does not support tag operations, "
@@ -74,6 +108,13 @@ public class TagManager implements TagDispatcher {
 
     this.idGenerator = idGenerator;
     this.entityStore = entityStore;
+    this.tagsCache =
+        cacheMaxSize > 0
+            ? Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(cacheTtlMs, TimeUnit.MILLISECONDS)
+                .build()
+            : null;
   }
 
   public String[] listTags(String metalake) {
@@ -178,6 +219,8 @@ public class TagManager implements TagDispatcher {
           } catch (IOException ioe) {
             LOG.error("Failed to alter tag {} under metalake {}", name, metalake, ioe);
             throw new RuntimeException(ioe);
+          } finally {
+            invalidateCachedTag(metalake, name);
           }
         });
   }
@@ -194,6 +237,8 @@ public class TagManager implements TagDispatcher {
           } catch (IOException ioe) {
             LOG.error("Failed to delete tag {} under metalake {}", name, metalake, ioe);
             throw new RuntimeException(ioe);
+          } finally {
+            invalidateCachedTag(metalake, name);
           }
         });
   }
@@ -242,9 +287,7 @@ public class TagManager implements TagDispatcher {
         LockType.READ,
         () -> {
           try {
-            return supportsTagOperations
-                .listAssociatedTagsForMetadataObject(entityIdent, entityType)
-                .toArray(new Tag[0]);
+            return listAssociatedTags(entityIdent, entityType).toArray(new Tag[0]);
           } catch (NoSuchEntityException e) {
             throw new NoSuchMetadataObjectException(
                 e, "Failed to list tags for metadata object %s due to not found", metadataObject);
@@ -255,6 +298,72 @@ public class TagManager implements TagDispatcher {
         });
   }
 
+  public Tag[][] listTagsInfoForMetadataObjects(String metalake, MetadataObject[] metadataObjects)
+      throws NoSuchMetadataObjectException {
+    List<Pair<NameIdentifier, Entity.EntityType>> keys = Lists.newArrayList();
+    for (MetadataObject metadataObject : metadataObjects) {
+      keys.add(
+          Pair.of(
+              MetadataObjectUtil.toEntityIdent(metalake, metadataObject),
+              MetadataObjectUtil.toEntityType(metadataObject)));
+    }
+
+    for (MetadataObject metadataObject : Sets.newLinkedHashSet(Arrays.asList(metadataObjects))) {
+      MetadataObjectUtil.checkMetadataObject(metalake, metadataObject);
+    }
+
+    // The metadata objects may be under different catalogs and schemas, only the metalake is
+    // locked rather than locking them one by one.
+    return TreeLockUtils.doWithTreeLock(
+        NameIdentifier.of(metalake),
+        LockType.READ,
+        () -> {
+          Tag[][] tags = new Tag[metadataObjects.length][];
+          // The metadata objects missing in the cache are loaded in one call for each type.
+          Map<Entity.EntityType, List<Integer>> missedIndexes = Maps.newLinkedHashMap();
+          for (int i = 0; i < keys.size(); i++) {
+            List<TagEntity> cachedTags =
+                tagsCache == null ? null : tagsCache.getIfPresent(keys.get(i));
+            if (cachedTags != null) {
+              tags[i] = cachedTags.toArray(new Tag[0]);
+            } else {
+              missedIndexes
+                  .computeIfAbsent(keys.get(i).getRight(), k -> Lists.newArrayList())
+                  .add(i);
+            }
+          }
+
+          long loadGeneration = generation.get();
+          for (Map.Entry<Entity.EntityType, List<Integer>> entry : missedIndexes.entrySet()) {
+            List<NameIdentifier> entityIdents =
+                entry.getValue().stream()
+                    .map(i -> keys.get(i).getLeft())
+                    .collect(Collectors.toList());
+            List<List<TagEntity>> loadedTags;
+            try {
+              loadedTags =
+                  supportsTagOperations.listAssociatedTagsForMetadataObjects(
+                      entityIdents, entry.getKey());
+            } catch (NoSuchEntityException e) {
+              throw new NoSuchMetadataObjectException(
+                  e, "Failed to list tags for metadata objects due to not found");
+            } catch (IOException e) {
+              LOG.error("Failed to list tags for metadata objects under metalake {}", metalake, e);
+              throw new RuntimeException(e);
+            }
+
+            for (int j = 0; j < entityIdents.size(); j++) {
+              int index = entry.getValue().get(j);
+              List<TagEntity> objectTags = ImmutableList.copyOf(loadedTags.get(j));
+              putIfUnchanged(keys.get(index), objectTags, loadGeneration);
+              tags[index] = objectTags.toArray(new Tag[0]);
+            }
+          }
+
+          return tags;
+        });
+  }
+
   public Tag getTagForMetadataObject(String metalake, MetadataObject metadataObject, String name)
       throws NoSuchMetadataObjectException {
     NameIdentifier entityIdent = MetadataObjectUtil.toEntityIdent(metalake, metadataObject);
@@ -268,6 +377,18 @@ public class TagManager implements TagDispatcher {
         LockType.READ,
         () -> {
           try {
+            if (tagsCache != null) {
+              return listAssociatedTags(entityIdent, entityType).stream()
+                  .filter(tag -> tag.name().equals(name))
+                  .findFirst()
+                  .orElseThrow(
+                      () ->
+                          new NoSuchTagException(
+                              "Tag %s does not exist for metadata object %s",
+                              name,
+                              metadataObject));
+            }
+
             return supportsTagOperations.getTagForMetadataObject(entityIdent, entityType, tagIdent);
           } catch (NoSuchEntityException e) {
             if (e.getMessage().contains("No such tag entity")) {
@@ -343,6 +464,8 @@ public class TagManager implements TagDispatcher {
                   } catch (IOException e) {
                     LOG.error("Failed to associate tags for metadata object {}", metadataObject, e);
                     throw new RuntimeException(e);
+                  } finally {
+                    invalidateCachedTags(entityIdent, entityType);
                   }
                 }));
   }
@@ -355,6 +478,86 @@ public class TagManager implements TagDispatcher {
     return NameIdentifier.of(ofTagNamespace(metalake), tagName);
   }
 
+  private List<TagEntity> listAssociatedTags(
+      NameIdentifier entityIdent, Entity.EntityType entityType) throws IOException {
+    if (tagsCache == null) {
+      return supportsTagOperations.listAssociatedTagsForMetadataObject(entityIdent, entityType);
+    }
+
+    Pair<NameIdentifier, Entity.EntityType> key = Pair.of(entityIdent, entityType);
+    List<TagEntity> tags = tagsCache.getIfPresent(key);
+    if (tags == null) {
+      long loadGeneration = generation.get();
+      tags =
+          ImmutableList.copyOf(
+              supportsTagOperations.listAssociatedTagsForMetadataObject(entityIdent, entityType));
+      putIfUnchanged(key, tags, loadGeneration);
+    }
+    return tags;
+  }
+
+  private synchronized void putIfUnchanged(
+      Pair<NameIdentifier, Entity.EntityType> key, List<TagEntity> tags, long loadGeneration) {
+    if (tagsCache != null && generation.get() == loadGeneration) {
+      tagsCache.put(key, tags);
+    }
+  }
+
+  private synchronized void invalidateCachedTags(
+      NameIdentifier entityIdent, Entity.EntityType entityType) {
+    if (tagsCache != null) {
+      generation.incrementAndGet();
+      tagsCache.invalidate(Pair.of(entityIdent, entityType));
+    }
+  }
+
+  /**
+   * Invalidates the cached tags of the metadata object and all the metadata objects under it in the
+   * tag manager of the Gravitino environment, it's called once the metadata object is dropped or
+   * renamed so that the tags of the old object are not returned for a new one with the same name.
+   *
+   * @param ident The identifier of the dropped or renamed metadata object.
+   */
+  public static void invalidateMetadataObject(NameIdentifier ident) {
+    TagManager tagManager = GravitinoEnv.getInstance().tagManager();
+    if (tagManager != null) {
+      tagManager.invalidateCachedTagsUnder(ident);
+    }
+  }
+
+  @VisibleForTesting
+  synchronized void invalidateCachedTagsUnder(NameIdentifier ident) {
+    if (tagsCache != null) {
+      generation.incrementAndGet();
+      List<String> levels = Arrays.asList(ident.levels());
+      tagsCache
+          .asMap()
+          .keySet()
+          .removeIf(
+              key -> {
+                List<String> keyLevels = Arrays.asList(key.getLeft().levels());
+                return keyLevels.size() >= levels.size()
+                    && keyLevels.subList(0, levels.size()).equals(levels);
+              });
+    }
+  }
+
+  // Invalidates the cached tags of all the metadata objects associated with the tag.
+  private synchronized void invalidateCachedTag(String metalake, String name) {
+    if (tagsCache != null) {
+      generation.incrementAndGet();
+      Namespace tagNamespace = ofTagNamespace(metalake);
+      tagsCache
+          .asMap()
+          .values()
+          .removeIf(
+              tags ->
+                  tags.stream()
+                      .anyMatch(
+                          tag -> tag.name().equals(name) && tag.namespace().equals(tagNamespace)));
+    }
+  }
+
   private TagEntity updateTagEntity(TagEntity tagEntity, TagChange... changes) {
     Map<String, String> props =
         tagEntity.properties() == null
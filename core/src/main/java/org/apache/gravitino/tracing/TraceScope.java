@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.tracing;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Scope;
+
+/**
+ * The scope of a span started by {@link Tracing}, the span is the current one of the thread until
+ * the scope is closed. It's a no-op if the tracing is disabled.
+ */
+public class TraceScope implements AutoCloseable {
+
+  private static final TraceScope NOOP = new TraceScope(Span.getInvalid(), Scope.noop());
+
+  private final Span span;
+  private final Scope scope;
+
+  TraceScope(Span span, Scope scope) {
+    this.span = span;
+    this.scope = scope;
+  }
+
+  /**
+   * Returns the scope doing nothing, which is used to skip building the name of a span if the
+   * tracing is disabled.
+   *
+   * @return The scope doing nothing.
+   */
+  public static TraceScope noop() {
+    return NOOP;
+  }
+
+  /**
+   * Sets an attribute of the span.
+   *
+   * @param key The key of the attribute.
+   * @param value The value of the attribute.
+   * @return This scope.
+   */
+  public TraceScope setAttribute(String key, String value) {
+    span.setAttribute(key, value);
+    return this;
+  }
+
+  /**
+   * Sets an attribute of the span.
+   *
+   * @param key The key of the attribute.
+   * @param value The value of the attribute.
+   * @return This scope.
+   */
+  public TraceScope setAttribute(String key, long value) {
+    span.setAttribute(key, value);
+    return this;
+  }
+
+  /**
+   * Marks the span as failed by the exception.
+   *
+   * @param throwable The exception.
+   */
+  public void recordException(Throwable throwable) {
+    span.recordException(throwable);
+    span.setStatus(StatusCode.ERROR);
+  }
+
+  @Override
+  public void close() {
+    scope.close();
+    span.end();
+  }
+}
@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.tracing;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.exceptions.GravitinoRuntimeException;
+import org.apache.gravitino.utils.Executable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Traces the requests through Gravitino with OpenTelemetry, like the REST requests, the tree locks,
+ * the catalog operations and the SQL statements of the entity store.
+ *
+ * <p>The spans are exported by the exporter configured by {@link Configs#TRACING_EXPORTER}. All the
+ * methods are no-ops with little overhead if the tracing is disabled.
+ */
+public class Tracing {
+  private static final Logger LOG = LoggerFactory.getLogger(Tracing.class);
+
+  private static final String INSTRUMENTATION_SCOPE = "org.apache.gravitino";
+  private static final AttributeKey<String> SERVICE_NAME = AttributeKey.stringKey("service.name");
+
+  // Null if the tracing is disabled.
+  private static volatile Tracer tracer;
+  private static SdkTracerProvider tracerProvider;
+
+  private Tracing() {}
+
+  /**
+   * Starts to trace the requests if the tracing is enabled in the config.
+   *
+   * @param config The config of Gravitino.
+   * @param serviceName The name of the service reported in the spans.
+   */
+  public static synchronized void initialize(Config config, String serviceName) {
+    if (!config.get(Configs.TRACING_ENABLED) || tracerProvider != null) {
+      return;
+    }
+
+    SpanExporter exporter = createExporter(config.get(Configs.TRACING_EXPORTER));
+    Resource resource = Resource.create(Attributes.of(SERVICE_NAME, serviceName));
+    tracerProvider =
+        SdkTracerProvider.builder()
+            .setResource(Resource.getDefault().merge(resource))
+            .setSampler(
+                Sampler.parentBased(
+                    Sampler.traceIdRatioBased(config.get(Configs.TRACING_SAMPLE_RATIO))))
+            .addSpanProcessor(BatchSpanProcessor.builder(exporter).build())
+            .build();
+    tracer = tracerProvider.get(INSTRUMENTATION_SCOPE);
+    LOG.info("Tracing is enabled with the exporter {}", exporter.getClass().getName());
+  }
+
+  /** Stops tracing and flushes the finished spans to the exporter. */
+  public static synchronized void shutdown() {
+    if (tracerProvider == null) {
+      return;
+    }
+
+    tracer = null;
+    tracerProvider.shutdown().join(10, TimeUnit.SECONDS);
+    tracerProvider = null;
+  }
+
+  /**
+   * Whether the tracing is enabled.
+   *
+   * @return True if the tracing is enabled.
+   */
+  public static boolean isEnabled() {
+    return tracer != null;
+  }
+
+  /**
+   * Starts a span as the child of the current span, which is the current span until the returned
+   * scope is closed.
+   *
+   * @param name The name of the span.
+   * @return The scope of the span.
+   */
+  public static TraceScope start(String name) {
+    Tracer currentTracer = tracer;
+    if (currentTracer == null) {
+      return TraceScope.noop();
+    }
+    return makeCurrent(currentTracer.spanBuilder(name).startSpan());
+  }
+
+  /**
+   * Starts a span as the child of the given context, like the trace context propagated from the
+   * client, which is the current span until the returned scope is closed.
+   *
+   * @param name The name of the span.
+   * @param kind The kind of the span.
+   * @param parent The context of the parent span.
+   * @return The scope of the span.
+   */
+  public static TraceScope start(String name, SpanKind kind, Context parent) {
+    Tracer currentTracer = tracer;
+    if (currentTracer == null) {
+      return TraceScope.noop();
+    }
+    return makeCurrent(
+        currentTracer.spanBuilder(name).setSpanKind(kind).setParent(parent).startSpan());
+  }
+
+  /**
+   * Renames the current span, which is used when the name is only known after the span is started,
+   * like the resource method matched by a request.
+   *
+   * @param name The new name of the span.
+   */
+  public static void updateCurrentSpanName(String name) {
+    if (tracer != null) {
+      Span.current().updateName(name);
+    }
+  }
+
+  /**
+   * Executes the executable in a span as the child of the current span.
+   *
+   * @param name The name of the span.
+   * @param executable The executable to execute.
+   * @return The result of the executable.
+   * @param <R> The type of the result.
+   * @param <E> The type of the exception.
+   * @throws E If the executable throws an exception.
+   */
+  public static <R, E extends Exception> R trace(String name, Executable<R, E> executable)
+      throws E {
+    if (tracer == null) {
+      return executable.execute();
+    }
+
+    try (TraceScope scope = start(name)) {
+      try {
+        return executable.execute();
+      } catch (Throwable t) {
+        scope.recordException(t);
+        throw t;
+      }
+    }
+  }
+
+  @VisibleForTesting
+  static synchronized void initialize(SpanExporter exporter) {
+    tracerProvider =
+        SdkTracerProvider.builder().addSpanProcessor(SimpleSpanProcessor.create(exporter)).build();
+    tracer = tracerProvider.get(INSTRUMENTATION_SCOPE);
+  }
+
+  private static TraceScope makeCurrent(Span span) {
+    return new TraceScope(span, span.makeCurrent());
+  }
+
+  private static SpanExporter createExporter(String exporter) {
+    if (Configs.TRACING_LOG_EXPORTER.equals(exporter)) {
+      return new LogSpanExporter();
+    }
+
+    try {
+      return (SpanExporter)
+          Class.forName(exporter, true, Thread.currentThread().getContextClassLoader())
+              .getDeclaredConstructor()
+              .newInstance();
+    } catch (Exception e) {
+      throw new GravitinoRuntimeException(e, "Failed to create the span exporter %s", exporter);
+    }
+  }
+}
@@ -155,6 +155,24 @@ public abstract class ClientPoolImpl<C, E extends Exception>
     return poolSize;
   }
 
+  /**
+   * Returns the number of the clients created by the pool, including the idle ones.
+   *
+   * @return The number of the created clients.
+   */
+  public int currentSize() {
+    return currentSize;
+  }
+
+  /**
+   * Returns the number of the idle clients in the pool.
+   *
+   * @return The number of the idle clients.
+   */
+  public synchronized int idleClients() {
+    return clients.size();
+  }
+
   public boolean isClosed() {
     return closed;
   }
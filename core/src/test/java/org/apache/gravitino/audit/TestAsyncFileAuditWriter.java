@@ -0,0 +1,256 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.audit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableMap;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import org.awaitility.Awaitility;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.audit.v2.SimpleAuditLogV2;
+import org.apache.gravitino.audit.v2.SimpleFormatterV2;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestAsyncFileAuditWriter {
+
+  private static final int EVENT_NUM = 2000;
+
+  private Path logDir;
+  private String fileName;
+
+  @BeforeEach
+  public void setUp() throws IOException {
+    this.logDir = Paths.get(System.getProperty("gravitino.log.path"));
+    Files.createDirectories(logDir);
+    this.fileName = "async_audit_" + UUID.randomUUID() + ".log";
+  }
+
+  @AfterEach
+  public void cleanUp() throws IOException {
+    for (Path file : listLogFiles()) {
+      Files.delete(file);
+    }
+  }
+
+  @Test
+  public void testWriteText() throws IOException {
+    AsyncFileAuditWriter writer = new AsyncFileAuditWriter();
+    SimpleFormatterV2 formatter = new SimpleFormatterV2();
+    writer.init(formatter, ImmutableMap.of("fileName", fileName, "compress", "false"));
+
+    TestAuditManager.DummyEvent event = mockDummyEvent();
+    for (int i = 0; i < EVENT_NUM; i++) {
+      writer.write(event);
+    }
+    writer.close();
+
+    List<String> lines = Files.readAllLines(Paths.get(writer.fileName), StandardCharsets.UTF_8);
+    Assertions.assertEquals(EVENT_NUM, lines.size());
+    Assertions.assertEquals(formatter.format(event).toString(), lines.get(0));
+    Assertions.assertEquals(0, writer.metricsSource.droppedEntries());
+  }
+
+  @Test
+  public void testWriteJson() throws IOException {
+    AsyncFileAuditWriter writer = new AsyncFileAuditWriter();
+    writer.init(
+        new SimpleFormatterV2(),
+        ImmutableMap.of("fileName", fileName, "format", "json", "fsync", "always"));
+
+    TestAuditManager.DummyEvent event = mockDummyEvent();
+    writer.write(event);
+    writer.close();
+
+    List<String> lines = Files.readAllLines(Paths.get(writer.fileName), StandardCharsets.UTF_8);
+    Assertions.assertEquals(1, lines.size());
+    JsonNode node = new ObjectMapper().readTree(lines.get(0));
+    SimpleAuditLogV2 auditLog = new SimpleAuditLogV2(event);
+    Assertions.assertEquals(auditLog.timestamp(), node.get("timestamp").asLong());
+    Assertions.assertEquals("user", node.get("user").asText());
+    Assertions.assertEquals("a.b.c.d", node.get("identifier").asText());
+    Assertions.assertEquals(
+        auditLog.operationStatus().toString(), node.get("operationStatus").asText());
+    Assertions.assertEquals(auditLog.toJson(), lines.get(0));
+  }
+
+  @Test
+  public void testWakeUpIdleWriter() throws IOException, InterruptedException {
+    AsyncFileAuditWriter writer = new AsyncFileAuditWriter();
+    ImmutableMap<String, String> properties =
+        ImmutableMap.of("fileName", fileName, "fsync", "always", "flushIntervalSecs", "3600");
+    writer.init(new SimpleFormatterV2(), properties);
+    try {
+      // The idle writer parks until the next flush an hour later, the write must wake it up
+      Thread.sleep(200);
+      writer.write(mockDummyEvent());
+      Awaitility.await()
+          .atMost(10, TimeUnit.SECONDS)
+          .until(() -> Files.readAllLines(Paths.get(writer.fileName)).size() == 1);
+    } finally {
+      writer.close();
+    }
+  }
+
+  @Test
+  public void testJsonRequiresFormatterV2() {
+    AsyncFileAuditWriter writer = new AsyncFileAuditWriter();
+    ImmutableMap<String, String> properties =
+        ImmutableMap.of("fileName", fileName, "format", "json");
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> writer.init(new DummyAuditFormatter(), properties));
+  }
+
+  @Test
+  public void testRollAndCompress() throws IOException {
+    AsyncFileAuditWriter writer = new AsyncFileAuditWriter();
+    writer.init(
+        new SimpleFormatterV2(),
+        ImmutableMap.of("fileName", fileName, "maxFileSizeBytes", "4096", "compress", "true"));
+
+    TestAuditManager.DummyEvent event = mockDummyEvent();
+    for (int i = 0; i < EVENT_NUM; i++) {
+      writer.write(event);
+    }
+    writer.close();
+
+    long lineCount = 0;
+    int rolledFiles = 0;
+    for (Path file : listLogFiles()) {
+      if (file.equals(Paths.get(writer.fileName))) {
+        lineCount += Files.readAllLines(file, StandardCharsets.UTF_8).size();
+      } else {
+        Assertions.assertTrue(file.toString().endsWith(".gz"), "Not compressed: " + file);
+        Assertions.assertTrue(Files.size(file) < 4096);
+        rolledFiles++;
+        lineCount += readGzipLines(file).size();
+      }
+    }
+    Assertions.assertTrue(rolledFiles > 1);
+    Assertions.assertEquals(rolledFiles, writer.metricsSource.rolledFiles());
+    Assertions.assertEquals(EVENT_NUM, lineCount);
+  }
+
+  @Test
+  public void testRingBuffer() throws InterruptedException {
+    AuditLogRingBuffer<Integer> buffer = new AuditLogRingBuffer<>(3);
+    Assertions.assertEquals(4, buffer.capacity());
+    Assertions.assertNull(buffer.poll());
+    for (int i = 0; i < 4; i++) {
+      Assertions.assertTrue(buffer.offer(i));
+    }
+    Assertions.assertFalse(buffer.offer(4));
+    Assertions.assertEquals(4, buffer.size());
+    Assertions.assertEquals(0, buffer.poll());
+    Assertions.assertTrue(buffer.offer(4));
+    for (int i = 1; i <= 4; i++) {
+      Assertions.assertEquals(i, buffer.poll());
+    }
+    Assertions.assertEquals(0, buffer.size());
+
+    // Multiple producers with a single consumer, no element is lost or duplicated
+    AuditLogRingBuffer<Integer> concurrentBuffer = new AuditLogRingBuffer<>(64);
+    int producers = 4;
+    int perProducer = 10000;
+    ExecutorService executor = Executors.newFixedThreadPool(producers);
+    CountDownLatch start = new CountDownLatch(1);
+    for (int p = 0; p < producers; p++) {
+      int base = p * perProducer;
+      executor.execute(
+          () -> {
+            try {
+              start.await();
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+              return;
+            }
+            for (int i = 0; i < perProducer; i++) {
+              while (!concurrentBuffer.offer(base + i)) {
+                Thread.yield();
+              }
+            }
+          });
+    }
+    start.countDown();
+
+    boolean[] seen = new boolean[producers * perProducer];
+    AtomicInteger received = new AtomicInteger();
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+    while (received.get() < seen.length && System.nanoTime() < deadline) {
+      Integer value = concurrentBuffer.poll();
+      if (value == null) {
+        Thread.yield();
+        continue;
+      }
+      Assertions.assertFalse(seen[value], "Duplicated element " + value);
+      seen[value] = true;
+      received.incrementAndGet();
+    }
+    executor.shutdown();
+    Assertions.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    Assertions.assertEquals(seen.length, received.get());
+    Assertions.assertNull(concurrentBuffer.poll());
+  }
+
+  private List<Path> listLogFiles() throws IOException {
+    List<Path> files = new ArrayList<>();
+    try (DirectoryStream<Path> stream = Files.newDirectoryStream(logDir, fileName + "*")) {
+      stream.forEach(files::add);
+    }
+    return files;
+  }
+
+  private static List<String> readGzipLines(Path file) throws IOException {
+    List<String> lines = new ArrayList<>();
+    try (BufferedReader reader =
+        new BufferedReader(
+            new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        lines.add(line);
+      }
+    }
+    return lines;
+  }
+
+  private static TestAuditManager.DummyEvent mockDummyEvent() {
+    return new TestAuditManager.DummyEvent("user", NameIdentifier.of("a", "b", "c", "d"));
+  }
+}
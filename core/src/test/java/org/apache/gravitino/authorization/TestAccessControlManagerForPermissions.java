@@ -20,6 +20,7 @@ package org.apache.gravitino.authorization;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.google.common.collect.Lists;
@@ -36,6 +37,7 @@ import org.apache.gravitino.EntityStore;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.MetadataObjects;
+import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.catalog.CatalogManager;
 import org.apache.gravitino.connector.BaseCatalog;
@@ -345,6 +347,73 @@ public class TestAccessControlManagerForPermissions {
         () -> accessControlManager.revokeRolesFromGroup(METALAKE, ROLE, notExist));
   }
 
+  @Test
+  public void testCallAuthorizationPluginOncePerCatalog() throws IOException {
+    BaseCatalog catalog = (BaseCatalog) catalogManager.loadCatalog(NameIdentifier.of(CATALOG));
+    Mockito.when(catalog.name()).thenReturn(CATALOG);
+    Mockito.when(catalogManager.listCatalogs(any()))
+        .thenReturn(new NameIdentifier[] {NameIdentifier.of(METALAKE, CATALOG)});
+
+    // The roles on the catalog, on a schema of it and on the metalake all apply to the catalog
+    SecurableObject catalogObject =
+        SecurableObjects.ofCatalog(CATALOG, Lists.newArrayList(Privileges.UseCatalog.allow()));
+    List<SecurableObject> securableObjects =
+        Lists.newArrayList(
+            catalogObject,
+            SecurableObjects.ofSchema(
+                catalogObject, "schema", Lists.newArrayList(Privileges.UseSchema.allow())),
+            SecurableObjects.ofMetalake(
+                METALAKE, Lists.newArrayList(Privileges.UseCatalog.allow())));
+    List<String> roles = Lists.newArrayList();
+    for (int i = 0; i < securableObjects.size(); i++) {
+      String role = "sharedCatalogRole" + i;
+      entityStore.put(
+          RoleEntity.builder()
+              .withNamespace(
+                  Namespace.of(
+                      METALAKE, Entity.SYSTEM_CATALOG_RESERVED_NAME, Entity.ROLE_SCHEMA_NAME))
+              .withId(100L + i)
+              .withName(role)
+              .withProperties(Maps.newHashMap())
+              .withSecurableObjects(Lists.newArrayList(securableObjects.get(i)))
+              .withAuditInfo(auditInfo)
+              .build(),
+          true);
+      roles.add(role);
+    }
+    entityStore.put(
+        UserEntity.builder()
+            .withNamespace(
+                Namespace.of(
+                    METALAKE, Entity.SYSTEM_CATALOG_RESERVED_NAME, Entity.USER_SCHEMA_NAME))
+            .withId(100L)
+            .withName("sharedCatalogUser")
+            .withAuditInfo(auditInfo)
+            .build(),
+        true);
+    entityStore.put(
+        GroupEntity.builder()
+            .withNamespace(
+                Namespace.of(
+                    METALAKE, Entity.SYSTEM_CATALOG_RESERVED_NAME, Entity.GROUP_SCHEMA_NAME))
+            .withId(100L)
+            .withName("sharedCatalogGroup")
+            .withAuditInfo(auditInfo)
+            .build(),
+        true);
+
+    reset(authorizationPlugin);
+    User user = accessControlManager.grantRolesToUser(METALAKE, roles, "sharedCatalogUser");
+    Assertions.assertEquals(roles, user.roles());
+    verify(authorizationPlugin, times(1)).onGrantedRolesToUser(any(), any());
+
+    accessControlManager.grantRolesToGroup(METALAKE, roles, "sharedCatalogGroup");
+    reset(authorizationPlugin);
+    Group group = accessControlManager.revokeRolesFromGroup(METALAKE, roles, "sharedCatalogGroup");
+    Assertions.assertTrue(group.roles().isEmpty());
+    verify(authorizationPlugin, times(1)).onRevokedRolesFromGroup(any(), any());
+  }
+
   @Test
   public void testGrantPrivilegeToRole() {
     reset(authorizationPlugin);
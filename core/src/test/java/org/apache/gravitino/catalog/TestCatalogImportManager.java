@@ -0,0 +1,220 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog;
+
+import static org.apache.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
+import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
+import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
+import static org.apache.gravitino.Entity.EntityType.SCHEMA;
+import static org.apache.gravitino.Entity.EntityType.TABLE;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.StringIdentifier;
+import org.apache.gravitino.TestCatalog;
+import org.apache.gravitino.TestColumn;
+import org.apache.gravitino.connector.TestCatalogOperations;
+import org.apache.gravitino.exceptions.NoSuchCatalogException;
+import org.apache.gravitino.exceptions.NotFoundException;
+import org.apache.gravitino.lock.LockManager;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.rel.Column;
+import org.apache.gravitino.rel.expressions.transforms.Transform;
+import org.apache.gravitino.rel.types.Types;
+import org.apache.gravitino.tag.TagManager;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.mockito.invocation.Invocation;
+
+public class TestCatalogImportManager extends TestOperationDispatcher {
+
+  private static CatalogImportManager importManager;
+
+  @BeforeAll
+  public static void initialize() throws IllegalAccessException {
+    Config config = mock(Config.class);
+    doReturn(100000L).when(config).get(TREE_LOCK_MAX_NODE_IN_MEMORY);
+    doReturn(1000L).when(config).get(TREE_LOCK_MIN_NODE_IN_MEMORY);
+    doReturn(36000L).when(config).get(TREE_LOCK_CLEAN_INTERVAL);
+    doReturn(2).when(config).get(Configs.CATALOG_IMPORT_BATCH_SIZE);
+    doReturn(1).when(config).get(Configs.CATALOG_IMPORT_THREAD_POOL_SIZE);
+    FieldUtils.writeField(GravitinoEnv.getInstance(), "lockManager", new LockManager(config), true);
+
+    importManager = new CatalogImportManager(config, catalogManager, entityStore, idGenerator);
+  }
+
+  @AfterAll
+  public static void close() {
+    if (importManager != null) {
+      importManager.close();
+    }
+  }
+
+  @Test
+  public void testImportExternalSchemasAndTables() throws IOException {
+    TestCatalog testCatalog =
+        (TestCatalog) catalogManager.loadCatalog(NameIdentifier.of(metalake, catalog));
+    TestCatalogOperations ops = (TestCatalogOperations) testCatalog.ops();
+
+    NameIdentifier schemaIdent = NameIdentifier.of(metalake, catalog, "import_schema");
+    ops.createSchema(schemaIdent, "comment", Collections.emptyMap());
+
+    Namespace tableNs = Namespace.of(metalake, catalog, "import_schema");
+    Column[] columns =
+        new Column[] {
+          TestColumn.builder()
+              .withName("col1")
+              .withPosition(0)
+              .withType(Types.StringType.get())
+              .build()
+        };
+    for (int i = 0; i < 5; i++) {
+      ops.createTable(
+          NameIdentifier.of(tableNs, "table" + i),
+          columns,
+          "comment",
+          Collections.emptyMap(),
+          new Transform[0]);
+    }
+
+    CatalogImportJob job = new CatalogImportJob(NameIdentifier.of(metalake, catalog));
+    importManager.runImport(job);
+
+    Assertions.assertEquals(CatalogImportJob.State.SUCCEEDED, job.state());
+    Assertions.assertNotNull(job.startTime());
+    Assertions.assertNotNull(job.finishTime());
+    Assertions.assertEquals(0, job.failedCount());
+    Assertions.assertTrue(entityStore.exists(schemaIdent, SCHEMA));
+    for (int i = 0; i < 5; i++) {
+      NameIdentifier tableIdent = NameIdentifier.of(tableNs, "table" + i);
+      Assertions.assertTrue(entityStore.exists(tableIdent, TABLE));
+      TableEntity tableEntity = entityStore.get(tableIdent, TABLE, TableEntity.class);
+      Assertions.assertEquals(1, tableEntity.columns().size());
+      Assertions.assertEquals("test", tableEntity.auditInfo().creator());
+    }
+
+    // Import again, nothing should be imported since all the objects are already stored.
+    // The tags cached for the replaced table must be invalidated, the store doesn't do it
+    TagManager tagManager = mock(TagManager.class);
+    FieldUtils.writeField(GravitinoEnv.getInstance(), "tagManager", tagManager, true);
+    CatalogImportJob job2 = new CatalogImportJob(NameIdentifier.of(metalake, catalog));
+    try {
+      importManager.runImport(job2);
+    } finally {
+      FieldUtils.writeField(GravitinoEnv.getInstance(), "tagManager", null, true);
+    }
+    Assertions.assertEquals(CatalogImportJob.State.SUCCEEDED, job2.state());
+    // invalidateCachedTagsUnder is package-private, so it can't be verified directly
+    Assertions.assertEquals(
+        Collections.singletonList(recreatedIdent),
+        Mockito.mockingDetails(tagManager).getInvocations().stream()
+            .filter(i -> i.getMethod().getName().equals("invalidateCachedTagsUnder"))
+            .map(Invocation::getRawArguments)
+            .map(args -> args[0])
+            .collect(Collectors.toList()));
+    Assertions.assertEquals(0, job2.importedCount());
+    Assertions.assertTrue(job2.scannedCount() >= 6);
+  }
+
+  @Test
+  public void testReplaceRecreatedTables() throws IOException, IllegalAccessException {
+    TestCatalog testCatalog =
+        (TestCatalog) catalogManager.loadCatalog(NameIdentifier.of(metalake, catalog));
+    TestCatalogOperations ops = (TestCatalogOperations) testCatalog.ops();
+
+    NameIdentifier schemaIdent = NameIdentifier.of(metalake, catalog, "recreate_schema");
+    ops.createSchema(schemaIdent, "comment", Collections.emptyMap());
+    Namespace tableNs = Namespace.of(metalake, catalog, "recreate_schema");
+    Column[] columns =
+        new Column[] {
+          TestColumn.builder()
+              .withName("col1")
+              .withPosition(0)
+              .withType(Types.StringType.get())
+              .build()
+        };
+    NameIdentifier keptIdent = NameIdentifier.of(tableNs, "kept_table");
+    NameIdentifier recreatedIdent = NameIdentifier.of(tableNs, "recreated_table");
+    ops.createTable(keptIdent, columns, "comment", Collections.emptyMap(), new Transform[0]);
+    ops.createTable(recreatedIdent, columns, "comment", Collections.emptyMap(), new Transform[0]);
+
+    CatalogImportJob job = new CatalogImportJob(NameIdentifier.of(metalake, catalog));
+    importManager.runImport(job);
+    Assertions.assertEquals(CatalogImportJob.State.SUCCEEDED, job.state());
+    long keptId = entityStore.get(keptIdent, TABLE, TableEntity.class).id();
+
+    // Drop and recreate the table externally with the same name and another Gravitino id
+    long newId = idGenerator.nextId();
+    ops.dropTable(recreatedIdent);
+    ops.createTable(
+        recreatedIdent,
+        columns,
+        "comment",
+        StringIdentifier.newPropertiesWithId(StringIdentifier.fromId(newId), null),
+        new Transform[0]);
+
+    // The tags cached for the replaced table must be invalidated, the store doesn't do it
+    TagManager tagManager = mock(TagManager.class);
+    FieldUtils.writeField(GravitinoEnv.getInstance(), "tagManager", tagManager, true);
+    CatalogImportJob job2 = new CatalogImportJob(NameIdentifier.of(metalake, catalog));
+    try {
+      importManager.runImport(job2);
+    } finally {
+      FieldUtils.writeField(GravitinoEnv.getInstance(), "tagManager", null, true);
+    }
+    Assertions.assertEquals(CatalogImportJob.State.SUCCEEDED, job2.state());
+    // invalidateCachedTagsUnder is package-private, so it can't be verified directly
+    Assertions.assertEquals(
+        Collections.singletonList(recreatedIdent),
+        Mockito.mockingDetails(tagManager).getInvocations().stream()
+            .filter(i -> i.getMethod().getName().equals("invalidateCachedTagsUnder"))
+            .map(Invocation::getRawArguments)
+            .map(args -> args[0])
+            .collect(Collectors.toList()));
+    Assertions.assertEquals(1, job2.importedCount());
+    Assertions.assertEquals(newId, entityStore.get(recreatedIdent, TABLE, TableEntity.class).id());
+    Assertions.assertEquals(keptId, entityStore.get(keptIdent, TABLE, TableEntity.class).id());
+  }
+
+  @Test
+  public void testStartAndGetImportJob() {
+    NameIdentifier catalogIdent = NameIdentifier.of(metalake, catalog);
+    CatalogImportJob job = importManager.startImport(catalogIdent);
+    Assertions.assertSame(job, importManager.getImportJob(catalogIdent));
+
+    Assertions.assertThrows(
+        NotFoundException.class,
+        () -> importManager.getImportJob(NameIdentifier.of(metalake, "not_exist")));
+    Assertions.assertThrows(
+        NoSuchCatalogException.class,
+        () -> importManager.startImport(NameIdentifier.of(metalake, "not_exist")));
+  }
+}
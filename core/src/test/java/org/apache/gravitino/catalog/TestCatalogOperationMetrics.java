@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.SupportsSchemas;
+import org.apache.gravitino.connector.BaseCatalog;
+import org.apache.gravitino.connector.CatalogOperations;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.CatalogOperationMetricsSource;
+import org.apache.gravitino.metrics.source.MetricsSource;
+import org.apache.gravitino.utils.IsolatedClassLoader;
+import org.apache.gravitino.utils.ThrowableFunction;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestCatalogOperationMetrics {
+
+  public interface Operations {
+    String load(String name);
+
+    void drop(String name);
+  }
+
+  @Test
+  public void testCapCatalogs() {
+    MetricsSystem metricsSystem = new MetricsSystem();
+    CatalogOperationMetrics metrics = new CatalogOperationMetrics(metricsSystem, 2);
+
+    NameIdentifier catalog1 = NameIdentifier.of("metalake", "catalog1");
+    NameIdentifier catalog2 = NameIdentifier.of("metalake", "catalog2");
+    NameIdentifier catalog3 = NameIdentifier.of("metalake", "catalog3");
+    CatalogOperationMetricsSource source1 = metrics.acquire(catalog1, "hive");
+    CatalogOperationMetricsSource source2 = metrics.acquire(catalog2, "hive");
+    Assertions.assertEquals(
+        MetricsSource.CATALOG_OPERATION_METRIC_NAME + ".metalake.catalog1.hive",
+        source1.getMetricsSourceName());
+    Assertions.assertEquals(2, metrics.catalogCount());
+
+    // The catalogs beyond the limit share the source of the provider
+    CatalogOperationMetricsSource source3 = metrics.acquire(catalog3, "hive");
+    Assertions.assertEquals(
+        MetricsSource.CATALOG_OPERATION_METRIC_NAME + "._other._other.hive",
+        source3.getMetricsSourceName());
+    Assertions.assertSame(
+        source3, metrics.acquire(NameIdentifier.of("metalake", "catalog4"), "hive"));
+    Assertions.assertEquals(2, metrics.catalogCount());
+
+    // A reloaded catalog replaces its source, releasing the stale one keeps the new source
+    CatalogOperationMetricsSource reloaded = metrics.acquire(catalog2, "hive");
+    Assertions.assertNotSame(source2, reloaded);
+    metrics.release(catalog2, source2);
+    Assertions.assertEquals(2, metrics.catalogCount());
+
+    // The released slot is taken by the next catalog, releasing a shared source is a no-op
+    metrics.release(catalog3, source3);
+    metrics.release(catalog1, source1);
+    Assertions.assertEquals(1, metrics.catalogCount());
+    Assertions.assertEquals(
+        MetricsSource.CATALOG_OPERATION_METRIC_NAME + ".metalake.catalog3.hive",
+        metrics.acquire(catalog3, "hive").getMetricsSourceName());
+    Assertions.assertEquals(2, metrics.catalogCount());
+  }
+
+  @Test
+  public void testTimedOperations() {
+    CatalogOperationMetricsSource source =
+        new CatalogOperationMetricsSource("metalake", "catalog", "hive");
+    Operations ops =
+        new Operations() {
+          @Override
+          public String load(String name) {
+            return name;
+          }
+
+          @Override
+          public void drop(String name) {
+            throw new IllegalArgumentException(name);
+          }
+        };
+
+    Operations timed = CatalogOperationMetrics.timed(ops, Operations.class, source);
+    Assertions.assertEquals("a", timed.load("a"));
+    Assertions.assertEquals("b", timed.load("b"));
+    // The exception thrown by the operation is rethrown as is
+    Assertions.assertThrows(IllegalArgumentException.class, () -> timed.drop("c"));
+
+    Assertions.assertEquals(2, source.latency("load").getCount());
+    Assertions.assertEquals(1, source.latency("drop").getCount());
+    Assertions.assertTrue(
+        source.getMetricRegistry().getTimers().containsKey("load.latency"),
+        "The latency of each method should be recorded by the method name");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testWrapCatalogOperationsOnce() throws Exception {
+    CatalogOperationMetricsSource source =
+        new CatalogOperationMetricsSource("metalake", "catalog", "hive");
+    BaseCatalog<?> catalog = mock(BaseCatalog.class);
+    CatalogOperations ops =
+        mock(CatalogOperations.class, withSettings().extraInterfaces(SupportsSchemas.class));
+    when(catalog.ops()).thenReturn(ops);
+    IsolatedClassLoader classLoader = mock(IsolatedClassLoader.class);
+    when(classLoader.withClassLoader(any()))
+        .thenAnswer(
+            invocation ->
+                ((ThrowableFunction<ClassLoader, Object>) invocation.getArgument(0)).apply(null));
+    CatalogManager.CatalogWrapper wrapper =
+        new CatalogManager.CatalogWrapper(catalog, classLoader, source, () -> {});
+
+    // The operations of the catalog are wrapped once and reused by the following calls
+    SupportsSchemas timed = wrapper.doWithSchemaOps(schemas -> schemas);
+    Assertions.assertNotSame(ops, timed);
+    Assertions.assertSame(timed, wrapper.doWithSchemaOps(schemas -> schemas));
+
+    wrapper.doWithSchemaOps(schemas -> schemas.schemaExists("schema"));
+    Assertions.assertEquals(1, source.latency("schemaExists").getCount());
+  }
+}
@@ -69,6 +69,11 @@ public class TestConfigEntry {
         new ConfigBuilder("gravitino.test.boolean").booleanConf().createWithDefault(true);
     boolean value2 = testConf2.readFrom(configMap);
     Assertions.assertTrue(value2);
+
+    ConfigEntry<Double> testConf3 =
+        new ConfigBuilder("gravitino.test.double").doubleConf().createWithDefault(0.5);
+    double value3 = testConf3.readFrom(configMap);
+    Assertions.assertEquals(0.5, value3);
   }
 
   @Test
@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.listener;
+
+import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.listener.api.EventListenerPlugin;
+import org.apache.gravitino.listener.api.event.Event;
+import org.apache.gravitino.listener.api.event.OperationStatus;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestAsyncQueueListener {
+
+  static class IndexedEvent extends Event {
+    private final int index;
+
+    IndexedEvent(NameIdentifier identifier, int index) {
+      super("user", identifier);
+      this.index = index;
+    }
+
+    @Override
+    public OperationStatus operationStatus() {
+      return OperationStatus.SUCCESS;
+    }
+  }
+
+  static class BatchEventListener implements EventListenerPlugin {
+    final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+    final Map<NameIdentifier, List<Integer>> events = new ConcurrentHashMap<>();
+    final CountDownLatch startLatch = new CountDownLatch(1);
+
+    @Override
+    public void init(Map<String, String> properties) {}
+
+    @Override
+    public void start() {}
+
+    @Override
+    public void stop() {}
+
+    @Override
+    public void onPostEvents(List<Event> postEvents) {
+      try {
+        startLatch.await(20, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      batchSizes.add(postEvents.size());
+      postEvents.forEach(
+          event ->
+              events
+                  .computeIfAbsent(
+                      event.identifier(), k -> Collections.synchronizedList(new ArrayList<>()))
+                  .add(((IndexedEvent) event).index));
+    }
+
+    int eventCount() {
+      return events.values().stream().mapToInt(List::size).sum();
+    }
+  }
+
+  @Test
+  void testBatchDispatchWithOrder() {
+    BatchEventListener listener = new BatchEventListener();
+    AsyncQueueListener asyncQueueListener =
+        new AsyncQueueListener(
+            ImmutableList.of(new EventListenerPluginWrapper("batch", listener)),
+            "batch",
+            4000,
+            3,
+            50,
+            4,
+            AsyncQueueListener.OverflowPolicy.BLOCK,
+            10000L);
+    asyncQueueListener.start();
+
+    int identifierCount = 10;
+    int eventsPerIdentifier = 50;
+    for (int i = 0; i < eventsPerIdentifier; i++) {
+      for (int j = 0; j < identifierCount; j++) {
+        asyncQueueListener.onPostEvent(new IndexedEvent(NameIdentifier.of("a", "b" + j), i));
+      }
+    }
+    // Let the listener consume the events after all the events are queued.
+    listener.startLatch.countDown();
+
+    Awaitility.await()
+        .atMost(20, TimeUnit.SECONDS)
+        .until(() -> listener.eventCount() == identifierCount * eventsPerIdentifier);
+    asyncQueueListener.stop();
+
+    // The events of the same identifier should be dispatched in order.
+    Assertions.assertEquals(identifierCount, listener.events.size());
+    listener.events.forEach(
+        (identifier, indexes) -> {
+          Assertions.assertEquals(eventsPerIdentifier, indexes.size());
+          for (int i = 0; i < eventsPerIdentifier; i++) {
+            Assertions.assertEquals(i, indexes.get(i));
+          }
+        });
+    // The events should be dispatched in batches.
+    Assertions.assertTrue(listener.batchSizes.stream().anyMatch(size -> size > 1));
+    Assertions.assertTrue(listener.batchSizes.stream().allMatch(size -> size <= 50));
+    Assertions.assertEquals(0, asyncQueueListener.getMetricsSource().droppedEvents());
+  }
+
+  @Test
+  void testDropEventsWhenQueueIsFull() {
+    BatchEventListener listener = new BatchEventListener();
+    AsyncQueueListener asyncQueueListener =
+        new AsyncQueueListener(
+            ImmutableList.of(new EventListenerPluginWrapper("drop", listener)),
+            "drop",
+            10,
+            3,
+            1,
+            1,
+            AsyncQueueListener.OverflowPolicy.DROP,
+            0L);
+    asyncQueueListener.start();
+
+    NameIdentifier identifier = NameIdentifier.of("a", "b");
+    for (int i = 0; i < 100; i++) {
+      asyncQueueListener.onPostEvent(new IndexedEvent(identifier, i));
+    }
+    listener.startLatch.countDown();
+
+    // At most one event in process and 10 events in the queue are kept.
+    long dropped = asyncQueueListener.getMetricsSource().droppedEvents();
+    Assertions.assertTrue(dropped >= 89, "dropped events: " + dropped);
+    Awaitility.await()
+        .atMost(20, TimeUnit.SECONDS)
+        .until(() -> listener.eventCount() == 100 - dropped);
+    asyncQueueListener.stop();
+  }
+
+  @Test
+  void testDefaultPerEventAdapter() {
+    DummyEventListener listener = new DummyEventListener();
+    AsyncQueueListener asyncQueueListener =
+        new AsyncQueueListener(
+            ImmutableList.of(new EventListenerPluginWrapper("single", listener)),
+            "single",
+            100,
+            3,
+            10,
+            1,
+            AsyncQueueListener.OverflowPolicy.DROP,
+            0L);
+    asyncQueueListener.start();
+
+    for (int i = 0; i < 10; i++) {
+      asyncQueueListener.onPostEvent(new IndexedEvent(NameIdentifier.of("a", "b"), i));
+    }
+
+    Awaitility.await()
+        .atMost(20, TimeUnit.SECONDS)
+        .until(() -> listener.getPostEvents().size() == 10);
+    asyncQueueListener.stop();
+    for (int i = 0; i < 10; i++) {
+      Assertions.assertEquals(i, ((IndexedEvent) listener.getPostEvents().get(i)).index);
+    }
+  }
+}
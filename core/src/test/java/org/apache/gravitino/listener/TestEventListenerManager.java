@@ -20,16 +20,19 @@
 package org.apache.gravitino.listener;
 
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.exceptions.ForbiddenException;
 import org.apache.gravitino.listener.DummyEventListener.DummyAsyncEventListener;
 import org.apache.gravitino.listener.DummyEventListener.DummyAsyncIsolatedEventListener;
 import org.apache.gravitino.listener.api.EventListenerPlugin;
+import org.apache.gravitino.listener.api.event.BaseEvent;
 import org.apache.gravitino.listener.api.event.Event;
 import org.apache.gravitino.listener.api.event.OperationStatus;
 import org.apache.gravitino.listener.api.event.PreEvent;
@@ -250,6 +253,54 @@ public class TestEventListenerManager {
     eventListenerManager.stop();
   }
 
+  @Test
+  void testSubscribedEvents() {
+    DummyEventListener preEventListener =
+        new DummyEventListener() {
+          @Override
+          public Set<Class<? extends BaseEvent>> subscribedEvents() {
+            return ImmutableSet.of(PreEvent.class);
+          }
+        };
+    EventBus eventBus =
+        new EventBus(Lists.newArrayList(new EventListenerPluginWrapper("pre", preEventListener)));
+
+    Assertions.assertTrue(eventBus.isSubscribed(DummyPreEvent.class));
+    Assertions.assertFalse(eventBus.isSubscribed(DummyPostEvent.class));
+
+    // The event without any subscriber should not be constructed.
+    AtomicInteger constructed = new AtomicInteger(0);
+    eventBus.dispatchEvent(
+        DummyPostEvent.class,
+        () -> {
+          constructed.incrementAndGet();
+          return DUMMY_POST_EVENT_INSTANCE;
+        });
+    Assertions.assertEquals(0, constructed.get());
+    Assertions.assertEquals(0, preEventListener.getPostEvents().size());
+
+    eventBus.dispatchEvent(
+        DummyPreEvent.class,
+        () -> {
+          constructed.incrementAndGet();
+          return DUMMY_PRE_EVENT_INSTANCE;
+        });
+    Assertions.assertEquals(1, constructed.get());
+    checkPreEvents(preEventListener.getPreEvents());
+
+    // A listener without declared events subscribes to all the events.
+    Map<String, String> properties = createSyncEventListenerConfig("sync1", "sync2");
+    EventListenerManager eventListenerManager = new EventListenerManager();
+    eventListenerManager.init(properties);
+    EventBus managedEventBus = eventListenerManager.createEventBus();
+    Assertions.assertTrue(managedEventBus.isSubscribed(DummyPostEvent.class));
+
+    // The dispatch table should be reset after adding a new listener.
+    eventListenerManager.addEventListener("pre", preEventListener);
+    managedEventBus.dispatchEvent(DUMMY_PRE_EVENT_INSTANCE);
+    checkPreEvents(preEventListener.getPreEvents());
+  }
+
   private Map<String, String> createIsolatedAsyncEventListenerConfig(String async1, String async2) {
     Map<String, String> config = new HashMap<>();
 
@@ -42,6 +42,7 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -653,7 +654,7 @@ public class TestLockManager {
     service.submit(
         () -> {
           for (int i = 0; i < 1000; i++) {
-            lockManager.checkDeadLock(lockManager.treeLockRootNode);
+            lockManager.checkDeadLock();
           }
           return 0;
         });
@@ -663,6 +664,49 @@ public class TestLockManager {
     }
   }
 
+  @Test
+  void testContentionStats() throws Exception {
+    LockManager lockManager = new LockManager(getConfig());
+    NameIdentifier ident = NameIdentifier.of("a", "b", "c");
+    TreeLock writeLock = lockManager.createTreeLock(ident);
+    writeLock.lock(LockType.WRITE);
+
+    TreeLockStats stats = lockManager.stats();
+    List<TreeLockStats.HeldLock> heldLocks = stats.heldLocks(0);
+    Assertions.assertEquals(1, heldLocks.size());
+    Assertions.assertEquals(ident, heldLocks.get(0).identifier());
+    Assertions.assertEquals(LockType.WRITE, heldLocks.get(0).lockType());
+    Assertions.assertEquals(Thread.currentThread().getName(), heldLocks.get(0).thread());
+    Assertions.assertTrue(stats.heldLocks(TimeUnit.HOURS.toMillis(1)).isEmpty());
+
+    // The uncontended acquisitions are not counted
+    Assertions.assertTrue(stats.topContendedLocks(10).isEmpty());
+
+    Thread reader =
+        new Thread(
+            () -> {
+              TreeLock readLock = lockManager.createTreeLock(ident);
+              readLock.lock(LockType.READ);
+              readLock.unlock();
+            });
+    reader.start();
+    Awaitility.await().atMost(10, TimeUnit.SECONDS).until(() -> stats.waiters() == 1);
+
+    writeLock.unlock();
+    reader.join();
+    Assertions.assertEquals(0, stats.waiters());
+    Assertions.assertTrue(stats.heldLocks(0).isEmpty());
+
+    List<TreeLockStats.ContendedLock> contendedLocks = stats.topContendedLocks(10);
+    Assertions.assertEquals(1, contendedLocks.size());
+    Assertions.assertEquals(ident, contendedLocks.get(0).identifier());
+    Assertions.assertEquals(1, contendedLocks.get(0).contentionCount());
+
+    // The node no longer contended is removed after the count decays to 0
+    stats.decay();
+    Assertions.assertTrue(stats.topContendedLocks(10).isEmpty());
+  }
+
   @Test
   public void testMockRootTreeLock() {
     LockManager lockManager = new LockManager(getConfig());
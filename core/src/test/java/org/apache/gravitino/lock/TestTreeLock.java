@@ -88,7 +88,8 @@ class TestTreeLock {
     doThrow(new RuntimeException("Mock exception")).when(mockNode2).lock(Mockito.any());
 
     List<TreeLockNode> lockNodes = Arrays.asList(mockNode1, mockNode2, mockNode3);
-    TreeLock treeLock = new TreeLock(lockNodes, TestLockManager.randomNameIdentifier());
+    TreeLock treeLock =
+        new TreeLock(lockNodes, TestLockManager.randomNameIdentifier(), lockManager.stats);
 
     assertThrows(
         RuntimeException.class,
@@ -79,5 +79,83 @@ public class TestExtractMetricNameAndLabel {
             + "_"
             + Collector.sanitizeMetricName(MetricNames.HTTP_PROCESS_DURATION),
         ImmutableMap.of("operation", "update-table"));
+
+    checkResult(
+        MetricsSource.EVENT_LISTENER_METRIC_NAME
+            + ".default."
+            + MetricNames.EVENT_LISTENER_QUEUE_DEPTH,
+        Collector.sanitizeMetricName(MetricsSource.EVENT_LISTENER_METRIC_NAME)
+            + "_"
+            + Collector.sanitizeMetricName(MetricNames.EVENT_LISTENER_QUEUE_DEPTH),
+        ImmutableMap.of("listener", "default"));
+
+    checkResult(
+        MetricsSource.CATALOG_CACHE_METRIC_NAME
+            + ".metalake1.catalog1."
+            + MetricNames.CATALOG_CACHE_HIT_RATIO,
+        Collector.sanitizeMetricName(MetricsSource.CATALOG_CACHE_METRIC_NAME)
+            + "_"
+            + Collector.sanitizeMetricName(MetricNames.CATALOG_CACHE_HIT_RATIO),
+        ImmutableMap.of("metalake", "metalake1", "catalog", "catalog1"));
+
+    checkResult(
+        MetricsSource.AUDIT_LOG_METRIC_NAME + ".asyncFile." + MetricNames.AUDIT_LOG_DROPPED_ENTRIES,
+        Collector.sanitizeMetricName(MetricsSource.AUDIT_LOG_METRIC_NAME)
+            + "_"
+            + Collector.sanitizeMetricName(MetricNames.AUDIT_LOG_DROPPED_ENTRIES),
+        ImmutableMap.of("writer", "asyncFile"));
+
+    checkResult(
+        MetricsSource.ENTITY_STORE_METRIC_NAME
+            + "."
+            + MetricNames.ENTITY_STORE_STATEMENT_PREFIX
+            + ".TableMetaMapper.selectTableMetaById."
+            + MetricNames.ENTITY_STORE_STATEMENT_LATENCY,
+        Collector.sanitizeMetricName(MetricsSource.ENTITY_STORE_METRIC_NAME)
+            + "_"
+            + MetricNames.ENTITY_STORE_STATEMENT_PREFIX
+            + "_"
+            + MetricNames.ENTITY_STORE_STATEMENT_LATENCY,
+        ImmutableMap.of("mapper", "TableMetaMapper", "statement", "selectTableMetaById"));
+
+    checkResult(
+        MetricsSource.CATALOG_OPERATION_METRIC_NAME
+            + ".metalake1.catalog1.hive.loadTable."
+            + MetricNames.CATALOG_OPERATION_LATENCY,
+        Collector.sanitizeMetricName(MetricsSource.CATALOG_OPERATION_METRIC_NAME)
+            + "_"
+            + MetricNames.CATALOG_OPERATION_LATENCY,
+        ImmutableMap.of(
+            "metalake",
+            "metalake1",
+            "catalog",
+            "catalog1",
+            "provider",
+            "hive",
+            "operation",
+            "loadTable"));
+
+    checkResult(
+        MetricsSource.CLIENT_POOL_METRIC_NAME
+            + ".metalake1.catalog1."
+            + MetricNames.CLIENT_POOL_ACTIVE_CONNECTIONS,
+        Collector.sanitizeMetricName(MetricsSource.CLIENT_POOL_METRIC_NAME)
+            + "_"
+            + Collector.sanitizeMetricName(MetricNames.CLIENT_POOL_ACTIVE_CONNECTIONS),
+        ImmutableMap.of("metalake", "metalake1", "catalog", "catalog1"));
+
+    checkResult(
+        MetricsSource.TREE_LOCK_METRIC_NAME + "." + MetricNames.TREE_LOCK_WAIT_TIME + ".write.3",
+        Collector.sanitizeMetricName(MetricsSource.TREE_LOCK_METRIC_NAME)
+            + "_"
+            + Collector.sanitizeMetricName(MetricNames.TREE_LOCK_WAIT_TIME),
+        ImmutableMap.of("lock_type", "write", "depth", "3"));
+
+    checkResult(
+        MetricsSource.TREE_LOCK_METRIC_NAME + "." + MetricNames.TREE_LOCK_HOLD_TIME + ".read",
+        Collector.sanitizeMetricName(MetricsSource.TREE_LOCK_METRIC_NAME)
+            + "_"
+            + Collector.sanitizeMetricName(MetricNames.TREE_LOCK_HOLD_TIME),
+        ImmutableMap.of("lock_type", "read"));
   }
 }
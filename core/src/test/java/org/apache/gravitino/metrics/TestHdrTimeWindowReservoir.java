@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.metrics;
+
+import com.codahale.metrics.Clock;
+import com.codahale.metrics.Snapshot;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestHdrTimeWindowReservoir {
+
+  private static class ManualClock extends Clock {
+    private long tick;
+
+    @Override
+    public long getTick() {
+      return tick;
+    }
+
+    private void advance(long duration, TimeUnit unit) {
+      tick += unit.toNanos(duration);
+    }
+  }
+
+  @Test
+  public void testSnapshot() {
+    ManualClock clock = new ManualClock();
+    HdrTimeWindowReservoir reservoir = new HdrTimeWindowReservoir(60, TimeUnit.SECONDS, clock);
+
+    Snapshot empty = reservoir.getSnapshot();
+    Assertions.assertEquals(0, empty.size());
+    Assertions.assertEquals(0, empty.getMax());
+    Assertions.assertEquals(0.0, empty.getMedian());
+
+    for (int i = 1; i <= 1000; i++) {
+      reservoir.update(i);
+    }
+    // The values below 0 are recorded as 0
+    reservoir.update(-1);
+
+    Snapshot snapshot = reservoir.getSnapshot();
+    Assertions.assertEquals(1001, snapshot.size());
+    Assertions.assertEquals(1001, reservoir.size());
+    Assertions.assertEquals(0, snapshot.getMin());
+    Assertions.assertEquals(1000, snapshot.getMax(), 1000 * 0.01);
+    Assertions.assertEquals(500, snapshot.getMedian(), 500 * 0.01);
+    Assertions.assertEquals(990, snapshot.get99thPercentile(), 990 * 0.01);
+    Assertions.assertEquals(500, snapshot.getMean(), 500 * 0.01);
+    Assertions.assertEquals(1001, snapshot.getValues().length);
+    Assertions.assertThrows(IllegalArgumentException.class, () -> snapshot.getValue(1.5));
+  }
+
+  @Test
+  public void testExpireSamples() {
+    ManualClock clock = new ManualClock();
+    HdrTimeWindowReservoir reservoir = new HdrTimeWindowReservoir(60, TimeUnit.SECONDS, clock);
+
+    reservoir.update(100);
+    clock.advance(30, TimeUnit.SECONDS);
+    reservoir.update(200);
+    Assertions.assertEquals(2, reservoir.getSnapshot().size());
+
+    // The first sample expires with its chunk once the window passes
+    clock.advance(35, TimeUnit.SECONDS);
+    Snapshot snapshot = reservoir.getSnapshot();
+    Assertions.assertEquals(1, snapshot.size());
+    Assertions.assertEquals(200, snapshot.getMin(), 200 * 0.01);
+
+    // The samples recorded without snapshots are expired as well
+    clock.advance(5, TimeUnit.MINUTES);
+    reservoir.update(300);
+    snapshot = reservoir.getSnapshot();
+    Assertions.assertEquals(1, snapshot.size());
+    Assertions.assertEquals(300, snapshot.getMax(), 300 * 0.01);
+
+    clock.advance(2, TimeUnit.MINUTES);
+    Assertions.assertEquals(0, reservoir.getSnapshot().size());
+  }
+}
@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.commons.io.FileUtils;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class TestSnowflakeIdGenerator {
+
+  private static final Logger LOG = LoggerFactory.getLogger(TestSnowflakeIdGenerator.class);
+
+  @Test
+  public void testIdLayout() {
+    AtomicLong clock = new AtomicLong(SnowflakeIdGenerator.EPOCH_MILLIS + 1000L);
+    SnowflakeIdGenerator generator = new SnowflakeIdGenerator(clock::get);
+    generator.setNodeId(5);
+
+    long id = generator.nextId();
+    Assertions.assertTrue(id > 0);
+    Assertions.assertEquals(1000L, id >>> 22);
+    Assertions.assertEquals(5L, (id >>> 12) & SnowflakeIdGenerator.MAX_NODE_ID);
+    Assertions.assertEquals(0L, id & 0xFFF);
+
+    Assertions.assertEquals(id + 1, generator.nextId());
+
+    Assertions.assertThrows(IllegalArgumentException.class, () -> generator.setNodeId(-1));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> generator.setNodeId(SnowflakeIdGenerator.MAX_NODE_ID + 1));
+  }
+
+  @Test
+  public void testMonotonicWithClockSkew() {
+    AtomicLong clock = new AtomicLong(System.currentTimeMillis());
+    SnowflakeIdGenerator generator = new SnowflakeIdGenerator(clock::get);
+
+    long lastId = generator.nextId();
+    // Exhaust the sequence of one millisecond, the generator should borrow the next millisecond.
+    for (int i = 0; i < 5000; i++) {
+      long id = generator.nextId();
+      Assertions.assertTrue(id > lastId);
+      lastId = id;
+    }
+
+    // Move the clock backwards, the ids should still be increasing.
+    clock.addAndGet(-10000L);
+    for (int i = 0; i < 100; i++) {
+      long id = generator.nextId();
+      Assertions.assertTrue(id > lastId);
+      lastId = id;
+    }
+
+    // Move the clock forwards again.
+    clock.addAndGet(20000L);
+    long id = generator.nextId();
+    Assertions.assertTrue(id > lastId);
+    Assertions.assertEquals(0L, id & 0xFFF);
+  }
+
+  @Test
+  public void testConcurrentGeneration() throws Exception {
+    SnowflakeIdGenerator generator = new SnowflakeIdGenerator();
+    Set<Long> ids = ConcurrentHashMap.newKeySet();
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  for (int j = 0; j < 10000; j++) {
+                    ids.add(generator.nextId());
+                  }
+                }));
+      }
+      for (Future<?> future : futures) {
+        future.get(60, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    Assertions.assertEquals(80000, ids.size());
+  }
+
+  @Test
+  public void testCreateIdGenerator() {
+    Config config = mock(Config.class);
+    doReturn(Configs.SNOWFLAKE_ID_GENERATOR).when(config).get(Configs.ID_GENERATOR);
+    doReturn(7).when(config).get(Configs.ID_GENERATOR_NODE_ID);
+    IdGenerator generator = IdGeneratorFactory.createIdGenerator(config);
+    Assertions.assertInstanceOf(SnowflakeIdGenerator.class, generator);
+    Assertions.assertEquals(7L, (generator.nextId() >>> 12) & SnowflakeIdGenerator.MAX_NODE_ID);
+
+    doReturn(Configs.RANDOM_ID_GENERATOR).when(config).get(Configs.ID_GENERATOR);
+    Assertions.assertInstanceOf(
+        RandomIdGenerator.class, IdGeneratorFactory.createIdGenerator(config));
+
+    doReturn(RandomIdGenerator.class.getName()).when(config).get(Configs.ID_GENERATOR);
+    Assertions.assertInstanceOf(
+        RandomIdGenerator.class, IdGeneratorFactory.createIdGenerator(config));
+
+    doReturn("not_exist").when(config).get(Configs.ID_GENERATOR);
+    Assertions.assertThrows(
+        RuntimeException.class, () -> IdGeneratorFactory.createIdGenerator(config));
+  }
+
+  @Test
+  @Tag("gravitino-benchmark")
+  public void testInsertThroughputAndIndexSize() throws Exception {
+    File dir = Files.createTempDirectory("id_generator_benchmark").toFile();
+    try {
+      int rows = 200000;
+      long[] random = insertRows(new File(dir, "random"), RandomIdGenerator.INSTANCE, rows);
+      long[] snowflake = insertRows(new File(dir, "snowflake"), new SnowflakeIdGenerator(), rows);
+      LOG.info(
+          "Inserted {} rows, random ids: {} rows/s and {} bytes on disk, "
+              + "snowflake ids: {} rows/s and {} bytes on disk",
+          rows,
+          rows * TimeUnit.SECONDS.toNanos(1) / Math.max(random[0], 1),
+          random[1],
+          rows * TimeUnit.SECONDS.toNanos(1) / Math.max(snowflake[0], 1),
+          snowflake[1]);
+    } finally {
+      FileUtils.deleteDirectory(dir);
+    }
+  }
+
+  // Returns the nanoseconds spent on inserting and the size of the database file.
+  private long[] insertRows(File dbPath, IdGenerator generator, int rows)
+      throws SQLException, IOException {
+    String url = String.format("jdbc:h2:file:%s;MODE=MYSQL", dbPath.getAbsolutePath());
+    long elapsed;
+    try (Connection connection = DriverManager.getConnection(url, "sa", "")) {
+      try (Statement statement = connection.createStatement()) {
+        statement.execute(
+            "CREATE TABLE table_meta (table_id BIGINT PRIMARY KEY,"
+                + " schema_id BIGINT NOT NULL, table_name VARCHAR(128) NOT NULL,"
+                + " UNIQUE KEY uk_sid_tid (schema_id, table_id))");
+      }
+
+      connection.setAutoCommit(false);
+      long start = System.nanoTime();
+      try (PreparedStatement statement =
+          connection.prepareStatement(
+              "INSERT INTO table_meta (table_id, schema_id, table_name) VALUES (?, ?, ?)")) {
+        for (int i = 0; i < rows; i++) {
+          statement.setLong(1, generator.nextId());
+          statement.setLong(2, 1L);
+          statement.setString(3, "table_" + i);
+          statement.addBatch();
+          if ((i + 1) % 1000 == 0) {
+            statement.executeBatch();
+            connection.commit();
+          }
+        }
+        statement.executeBatch();
+        connection.commit();
+      }
+      elapsed = System.nanoTime() - start;
+
+      try (Statement statement = connection.createStatement()) {
+        statement.execute("SHUTDOWN");
+      }
+    }
+
+    File dbFile = new File(dbPath.getAbsolutePath() + ".mv.db");
+    Assertions.assertTrue(dbFile.exists());
+    return new long[] {elapsed, dbFile.length()};
+  }
+}
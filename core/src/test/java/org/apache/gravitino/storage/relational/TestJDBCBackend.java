@@ -67,6 +67,7 @@ import org.apache.gravitino.file.Fileset;
 import org.apache.gravitino.meta.AuditInfo;
 import org.apache.gravitino.meta.BaseMetalake;
 import org.apache.gravitino.meta.CatalogEntity;
+import org.apache.gravitino.meta.ColumnEntity;
 import org.apache.gravitino.meta.FilesetEntity;
 import org.apache.gravitino.meta.GroupEntity;
 import org.apache.gravitino.meta.ModelEntity;
@@ -78,6 +79,7 @@ import org.apache.gravitino.meta.TableEntity;
 import org.apache.gravitino.meta.TagEntity;
 import org.apache.gravitino.meta.TopicEntity;
 import org.apache.gravitino.meta.UserEntity;
+import org.apache.gravitino.rel.types.Types;
 import org.apache.gravitino.storage.RandomIdGenerator;
 import org.apache.gravitino.storage.relational.mapper.GroupMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.UserMetaMapper;
@@ -326,6 +328,87 @@ public class TestJDBCBackend {
     assertDoesNotThrow(() -> backend.insert(modelCopy, true));
   }
 
+  @Test
+  public void testBatchInsertAndDelete() throws IOException {
+    AuditInfo auditInfo =
+        AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+    String metalakeName = "metalake";
+    String catalogName = "catalog";
+    String schemaName = "schema";
+    createParentEntities(metalakeName, catalogName, schemaName, auditInfo);
+
+    // Store more entities than a single statement can hold to cover the partitioning.
+    int tableCount = Configs.BATCH_OPERATION_SINGLE_STATEMENT_LIMIT * 2 + 1;
+    Namespace tableNs = NamespaceUtil.ofTable(metalakeName, catalogName, schemaName);
+    List<TableEntity> tables = new ArrayList<>();
+    for (int i = 0; i < tableCount; i++) {
+      tables.add(createTableEntityWithColumns(tableNs, "table" + i, 2, auditInfo));
+    }
+    backend.insertAll(tables, false);
+
+    List<TableEntity> storedTables = backend.list(tableNs, Entity.EntityType.TABLE, true);
+    assertEquals(tableCount, storedTables.size());
+    TableEntity storedTable = backend.get(tables.get(0).nameIdentifier(), Entity.EntityType.TABLE);
+    assertEquals(tables.get(0).id(), storedTable.id());
+    assertEquals(2, storedTable.columns().size());
+
+    // The whole batch is rolled back if any of the entities already exists.
+    List<TableEntity> duplicated =
+        Lists.newArrayList(
+            createTableEntityWithColumns(tableNs, "new_table", 1, auditInfo),
+            createTableEntityWithColumns(tableNs, "table0", 1, auditInfo));
+    assertThrows(EntityAlreadyExistsException.class, () -> backend.insertAll(duplicated, false));
+    assertFalse(backend.exists(NameIdentifier.of(tableNs, "new_table"), Entity.EntityType.TABLE));
+
+    // Overwrite the existing tables, the columns should be replaced.
+    TableEntity overwritten = createTableEntityWithColumns(tableNs, "table0", 1, auditInfo);
+    TableEntity overwrittenTable =
+        TableEntity.builder()
+            .withId(tables.get(0).id())
+            .withName(overwritten.name())
+            .withNamespace(overwritten.namespace())
+            .withColumns(overwritten.columns())
+            .withAuditInfo(auditInfo)
+            .build();
+    backend.insertAll(Lists.newArrayList(overwrittenTable, duplicated.get(0)), true);
+    storedTable = backend.get(tables.get(0).nameIdentifier(), Entity.EntityType.TABLE);
+    assertEquals(1, storedTable.columns().size());
+    assertTrue(backend.exists(NameIdentifier.of(tableNs, "new_table"), Entity.EntityType.TABLE));
+
+    // Batch insert schemas and topics.
+    Namespace schemaNs = NamespaceUtil.ofSchema(metalakeName, catalogName);
+    List<SchemaEntity> schemas = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      schemas.add(
+          createSchemaEntity(
+              RandomIdGenerator.INSTANCE.nextId(), schemaNs, "batch_schema" + i, auditInfo));
+    }
+    backend.insertAll(schemas, false);
+    assertEquals(4, backend.list(schemaNs, Entity.EntityType.SCHEMA, true).size());
+
+    Namespace topicNs = NamespaceUtil.ofTopic(metalakeName, catalogName, schemaName);
+    List<TopicEntity> topics = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      topics.add(
+          createTopicEntity(RandomIdGenerator.INSTANCE.nextId(), topicNs, "topic" + i, auditInfo));
+    }
+    backend.insertAll(topics, false);
+    assertEquals(3, backend.list(topicNs, Entity.EntityType.TOPIC, true).size());
+
+    // Batch delete tables, the non-existing ones are skipped.
+    List<NameIdentifier> toDelete = new ArrayList<>();
+    for (int i = 0; i < Configs.BATCH_OPERATION_SINGLE_STATEMENT_LIMIT + 1; i++) {
+      toDelete.add(NameIdentifier.of(tableNs, "table" + i));
+    }
+    toDelete.add(NameIdentifier.of(tableNs, "not_exist"));
+    assertEquals(toDelete.size() - 1, backend.deleteAll(toDelete, Entity.EntityType.TABLE));
+    assertFalse(backend.exists(toDelete.get(0), Entity.EntityType.TABLE));
+    assertEquals(
+        tableCount + 1 - (toDelete.size() - 1),
+        backend.list(tableNs, Entity.EntityType.TABLE, true).size());
+    assertEquals(0, backend.deleteAll(toDelete, Entity.EntityType.TABLE));
+  }
+
   @Test
   public void testUpdateAlreadyExistsException() throws IOException {
     AuditInfo auditInfo =
@@ -1261,6 +1344,30 @@ public class TestJDBCBackend {
         .build();
   }
 
+  private static TableEntity createTableEntityWithColumns(
+      Namespace namespace, String name, int columnCount, AuditInfo auditInfo) {
+    List<ColumnEntity> columns = new ArrayList<>();
+    for (int i = 0; i < columnCount; i++) {
+      columns.add(
+          ColumnEntity.builder()
+              .withId(RandomIdGenerator.INSTANCE.nextId())
+              .withName("column" + i)
+              .withPosition(i)
+              .withDataType(Types.IntegerType.get())
+              .withNullable(true)
+              .withAutoIncrement(false)
+              .withAuditInfo(auditInfo)
+              .build());
+    }
+    return TableEntity.builder()
+        .withId(RandomIdGenerator.INSTANCE.nextId())
+        .withName(name)
+        .withNamespace(namespace)
+        .withColumns(columns)
+        .withAuditInfo(auditInfo)
+        .build();
+  }
+
   public static TopicEntity createTopicEntity(
       Long id, Namespace namespace, String name, AuditInfo auditInfo) {
     return TopicEntity.builder()
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational;
+
+import static org.apache.gravitino.Configs.GARBAGE_COLLECTOR_MAX_PAUSE_MS;
+import static org.apache.gravitino.Configs.GARBAGE_COLLECTOR_MAX_ROWS_PER_SECOND;
+import static org.apache.gravitino.Configs.GARBAGE_COLLECTOR_PARALLELISM;
+import static org.apache.gravitino.Configs.STORE_DELETE_AFTER_TIME;
+import static org.apache.gravitino.Configs.VERSION_RETENTION_COUNT;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.Entity;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestRelationalGarbageCollector {
+
+  private Config config;
+
+  @BeforeEach
+  public void setUp() {
+    config = mock(Config.class);
+    when(config.get(STORE_DELETE_AFTER_TIME)).thenReturn(20 * 60 * 1000L);
+    when(config.get(VERSION_RETENTION_COUNT)).thenReturn(1L);
+    when(config.get(GARBAGE_COLLECTOR_PARALLELISM)).thenReturn(2);
+    when(config.get(GARBAGE_COLLECTOR_MAX_ROWS_PER_SECOND)).thenReturn(1000000L);
+    when(config.get(GARBAGE_COLLECTOR_MAX_PAUSE_MS)).thenReturn(400L);
+  }
+
+  @Test
+  public void testCollectAndClean() throws IOException {
+    RelationalBackend backend = mock(RelationalBackend.class);
+    when(backend.hardDeleteLegacyData(any(), anyLong())).thenReturn(0);
+    when(backend.hardDeleteLegacyData(eq(Entity.EntityType.TABLE), anyLong()))
+        .thenReturn(100, 30, 0);
+    when(backend.hardDeleteLegacyData(eq(Entity.EntityType.FILESET), anyLong()))
+        .thenThrow(new RuntimeException("mock error"));
+    when(backend.deleteOldVersionData(any(), anyLong())).thenReturn(0);
+    when(backend.deleteOldVersionData(Entity.EntityType.COLUMN, 1L)).thenReturn(5, 0);
+
+    try (RelationalGarbageCollector garbageCollector =
+        new RelationalGarbageCollector(backend, config, () -> 0)) {
+      long startTime = System.currentTimeMillis();
+      garbageCollector.collectAndClean();
+
+      // The legacy data are deleted in chunks until there is no more to delete
+      verify(backend, times(3)).hardDeleteLegacyData(eq(Entity.EntityType.TABLE), anyLong());
+      verify(backend, times(2)).deleteOldVersionData(Entity.EntityType.COLUMN, 1L);
+
+      GarbageCollectorMetricsSource metricsSource = garbageCollector.metricsSource;
+      Assertions.assertEquals(130, metricsSource.legacyRows(Entity.EntityType.TABLE));
+      Assertions.assertEquals(5, metricsSource.oldVersionRows(Entity.EntityType.COLUMN));
+      Assertions.assertEquals(0, metricsSource.legacyRows(Entity.EntityType.SCHEMA));
+      Assertions.assertTrue(metricsSource.rowsPerSecond() > 0);
+
+      // The failure of an entity type doesn't stop the others, and its watermark isn't advanced
+      Assertions.assertEquals(0, metricsSource.watermark(Entity.EntityType.FILESET));
+      Assertions.assertTrue(
+          metricsSource.watermark(Entity.EntityType.TABLE) >= startTime - 20 * 60 * 1000L);
+      Assertions.assertTrue(
+          metricsSource.watermark(Entity.EntityType.SCHEMA) >= startTime - 20 * 60 * 1000L);
+      verify(backend).deleteOldVersionData(Entity.EntityType.FILESET, 1L);
+    }
+  }
+
+  @Test
+  public void testAdjustPause() throws IOException {
+    RelationalBackend backend = mock(RelationalBackend.class);
+    try (RelationalGarbageCollector garbageCollector =
+        new RelationalGarbageCollector(backend, config, () -> 0)) {
+      RelationalGarbageCollector.Pacer pacer = garbageCollector.newPacer();
+      Assertions.assertEquals(0, pacer.adjustPause(0.5));
+
+      // The pause grows while the connection pool is saturated, up to the max pause
+      double saturatedLoad = RelationalGarbageCollector.SATURATED_POOL_LOAD;
+      Assertions.assertEquals(
+          RelationalGarbageCollector.MIN_PAUSE_MS, pacer.adjustPause(saturatedLoad));
+      Assertions.assertEquals(100, pacer.adjustPause(saturatedLoad));
+      Assertions.assertEquals(200, pacer.adjustPause(1.5));
+      Assertions.assertEquals(400, pacer.adjustPause(1.5));
+      Assertions.assertEquals(400, pacer.adjustPause(1.5));
+
+      // The pause of each worker is adjusted by its own deletions only
+      RelationalGarbageCollector.Pacer otherPacer = garbageCollector.newPacer();
+      Assertions.assertEquals(
+          RelationalGarbageCollector.MIN_PAUSE_MS, otherPacer.adjustPause(saturatedLoad));
+      Assertions.assertEquals(400, pacer.adjustPause(saturatedLoad));
+
+      // The pause shrinks once the connection pool isn't saturated
+      Assertions.assertEquals(200, pacer.adjustPause(0.5));
+      Assertions.assertEquals(100, pacer.adjustPause(0.5));
+      Assertions.assertEquals(50, pacer.adjustPause(0.5));
+      Assertions.assertEquals(0, pacer.adjustPause(0.5));
+    }
+  }
+
+  @Test
+  public void testCollectionUnits() {
+    List<Entity.EntityType> collectedTypes =
+        RelationalGarbageCollector.COLLECTION_UNITS.stream()
+            .flatMap(List::stream)
+            .collect(Collectors.toList());
+    Assertions.assertEquals(
+        ImmutableSet.copyOf(Entity.EntityType.values()), ImmutableSet.copyOf(collectedTypes));
+    Assertions.assertEquals(Entity.EntityType.values().length, collectedTypes.size());
+
+    // The users, groups and roles delete from the same relation tables, they share one worker
+    Assertions.assertTrue(
+        RelationalGarbageCollector.COLLECTION_UNITS.contains(
+            ImmutableList.of(
+                Entity.EntityType.USER, Entity.EntityType.GROUP, Entity.EntityType.ROLE)));
+  }
+
+  @Test
+  public void testDefaultGarbageCollectorConfigs() throws IOException {
+    Config defaultConfig = mock(Config.class);
+    when(defaultConfig.get(STORE_DELETE_AFTER_TIME)).thenReturn(20 * 60 * 1000L);
+    when(defaultConfig.get(VERSION_RETENTION_COUNT)).thenReturn(1L);
+
+    RelationalBackend backend = mock(RelationalBackend.class);
+    try (RelationalGarbageCollector garbageCollector =
+        new RelationalGarbageCollector(backend, defaultConfig, () -> 0)) {
+      RelationalGarbageCollector.Pacer pacer = garbageCollector.newPacer();
+      double saturatedLoad = RelationalGarbageCollector.SATURATED_POOL_LOAD;
+      for (int i = 0; i < 10; i++) {
+        pacer.adjustPause(saturatedLoad);
+      }
+      Assertions.assertEquals(
+          Configs.DEFAULT_GARBAGE_COLLECTOR_MAX_PAUSE_MS, pacer.adjustPause(saturatedLoad));
+    }
+  }
+}
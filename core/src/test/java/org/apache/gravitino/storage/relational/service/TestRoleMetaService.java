@@ -19,8 +19,10 @@
 
 package org.apache.gravitino.storage.relational.service;
 
+import com.codahale.metrics.MetricRegistry;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import java.io.IOException;
 import java.sql.Connection;
 import java.sql.ResultSet;
@@ -30,7 +32,10 @@ import java.time.Instant;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityAlreadyExistsException;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.authorization.AuthorizationUtils;
@@ -48,9 +53,12 @@ import org.apache.gravitino.meta.SchemaEntity;
 import org.apache.gravitino.meta.TableEntity;
 import org.apache.gravitino.meta.TopicEntity;
 import org.apache.gravitino.meta.UserEntity;
+import org.apache.gravitino.metrics.MetricNames;
 import org.apache.gravitino.storage.RandomIdGenerator;
 import org.apache.gravitino.storage.relational.TestJDBCBackend;
 import org.apache.gravitino.storage.relational.mapper.GroupMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.RoleMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.SecurableObjectMapper;
 import org.apache.gravitino.storage.relational.mapper.UserMetaMapper;
 import org.apache.gravitino.storage.relational.po.GroupPO;
 import org.apache.gravitino.storage.relational.po.UserPO;
@@ -58,10 +66,15 @@ import org.apache.gravitino.storage.relational.session.SqlSessionFactoryHelper;
 import org.apache.gravitino.storage.relational.utils.SessionUtils;
 import org.apache.ibatis.session.SqlSession;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 class TestRoleMetaService extends TestJDBCBackend {
 
+  private static final Logger LOG = LoggerFactory.getLogger(TestRoleMetaService.class);
+
   String metalakeName = "metalake";
 
   @Test
@@ -157,6 +170,200 @@ class TestRoleMetaService extends TestJDBCBackend {
     }
   }
 
+  @Test
+  void testGetRolesByIdentifiers() throws IOException {
+    AuditInfo auditInfo =
+        AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+    BaseMetalake metalake =
+        createBaseMakeLake(RandomIdGenerator.INSTANCE.nextId(), metalakeName, auditInfo);
+    backend.insert(metalake, false);
+    CatalogEntity catalog =
+        createCatalog(
+            RandomIdGenerator.INSTANCE.nextId(), Namespace.of("metalake"), "catalog", auditInfo);
+    backend.insert(catalog, false);
+
+    RoleMetaService roleMetaService = RoleMetaService.getInstance();
+    List<RoleEntity> roles = Lists.newArrayList();
+    for (int i = 0; i < 3; i++) {
+      RoleEntity role =
+          createRoleEntity(
+              RandomIdGenerator.INSTANCE.nextId(),
+              AuthorizationUtils.ofRoleNamespace(metalakeName),
+              "role" + i,
+              auditInfo,
+              "catalog");
+      roleMetaService.insertRole(role, false);
+      roles.add(role);
+    }
+
+    // The roles are returned in the order of the identifiers
+    Assertions.assertEquals(
+        Lists.newArrayList(roles.get(2), roles.get(0)),
+        roleMetaService.getRolesByIdentifiers(
+            Lists.newArrayList(roles.get(2).nameIdentifier(), roles.get(0).nameIdentifier())));
+    Assertions.assertTrue(roleMetaService.getRolesByIdentifiers(Collections.emptyList()).isEmpty());
+
+    Assertions.assertThrows(
+        NoSuchEntityException.class,
+        () ->
+            roleMetaService.getRolesByIdentifiers(
+                Lists.newArrayList(
+                    roles.get(1).nameIdentifier(),
+                    AuthorizationUtils.ofRole(metalakeName, "not-exist"))));
+  }
+
+  @Test
+  void testGrantRolesQueryCount() throws IOException {
+    // A user holding 5 roles is granted 10 more roles
+    int heldRoles = 5;
+    int grantedRoles = 10;
+    List<RoleEntity> roles = createRoles(heldRoles + grantedRoles);
+    List<RoleEntity> held = roles.subList(0, heldRoles);
+    List<RoleEntity> granted = roles.subList(heldRoles, roles.size());
+    UserEntity user = createUserWithRoles(held);
+    RoleMetaService roleMetaService = RoleMetaService.getInstance();
+
+    // Loading the roles one by one takes a query for each role and its securable objects
+    long roleQueries = executedStatements(RoleMetaMapper.class);
+    long objectQueries = executedStatements(SecurableObjectMapper.class);
+    for (RoleEntity role : granted) {
+      roleMetaService.getRoleByIdentifier(role.nameIdentifier());
+    }
+    Assertions.assertEquals(grantedRoles, executedStatements(RoleMetaMapper.class) - roleQueries);
+    Assertions.assertEquals(
+        grantedRoles, executedStatements(SecurableObjectMapper.class) - objectQueries);
+
+    // Loading the roles in batch takes one query for all the roles and their securable objects
+    roleQueries = executedStatements(RoleMetaMapper.class);
+    objectQueries = executedStatements(SecurableObjectMapper.class);
+    List<RoleEntity> loadedRoles =
+        roleMetaService.getRolesByIdentifiers(
+            granted.stream().map(RoleEntity::nameIdentifier).collect(Collectors.toList()));
+    Assertions.assertEquals(granted, loadedRoles);
+    Assertions.assertEquals(1, executedStatements(RoleMetaMapper.class) - roleQueries);
+    Assertions.assertEquals(1, executedStatements(SecurableObjectMapper.class) - objectQueries);
+
+    grantRoles(user, loadedRoles);
+    UserEntity loadedUser = backend.get(user.nameIdentifier(), Entity.EntityType.USER);
+    Assertions.assertEquals(
+        roles.stream().map(RoleEntity::name).collect(Collectors.toSet()),
+        Sets.newHashSet(loadedUser.roleNames()));
+  }
+
+  @Test
+  @Tag("gravitino-benchmark")
+  void testGrantRolesBenchmark() throws IOException {
+    // A user holding 500 roles is granted 50 more roles
+    int heldRoles = 500;
+    int grantedRoles = 50;
+    List<RoleEntity> roles = createRoles(heldRoles + grantedRoles);
+    List<RoleEntity> held = roles.subList(0, heldRoles);
+    List<RoleEntity> granted = roles.subList(heldRoles, roles.size());
+    UserEntity user = createUserWithRoles(held);
+    RoleMetaService roleMetaService = RoleMetaService.getInstance();
+
+    // Before: every granted role and every held role is loaded one by one
+    long start = System.nanoTime();
+    for (RoleEntity role : granted) {
+      roleMetaService.getRoleByIdentifier(role.nameIdentifier());
+    }
+    UserEntity loadedUser = backend.get(user.nameIdentifier(), Entity.EntityType.USER);
+    for (String roleName : loadedUser.roleNames()) {
+      roleMetaService.getRoleByIdentifier(AuthorizationUtils.ofRole(metalakeName, roleName));
+    }
+    long perRoleNanos = System.nanoTime() - start;
+
+    // After: the granted roles are loaded in one batch, the held roles come with the user
+    start = System.nanoTime();
+    List<RoleEntity> loadedRoles =
+        roleMetaService.getRolesByIdentifiers(
+            granted.stream().map(RoleEntity::nameIdentifier).collect(Collectors.toList()));
+    UserEntity updatedUser = grantRoles(user, loadedRoles);
+    long batchNanos = System.nanoTime() - start;
+    Assertions.assertEquals(heldRoles + grantedRoles, updatedUser.roleNames().size());
+
+    LOG.info(
+        "Grant {} roles to a user holding {} roles: loading roles one by one {} ms, "
+            + "loading in batch and updating {} ms",
+        grantedRoles,
+        heldRoles,
+        TimeUnit.NANOSECONDS.toMillis(perRoleNanos),
+        TimeUnit.NANOSECONDS.toMillis(batchNanos));
+  }
+
+  private List<RoleEntity> createRoles(int count) throws IOException {
+    AuditInfo auditInfo =
+        AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+    BaseMetalake metalake =
+        createBaseMakeLake(RandomIdGenerator.INSTANCE.nextId(), metalakeName, auditInfo);
+    backend.insert(metalake, false);
+    CatalogEntity catalog =
+        createCatalog(
+            RandomIdGenerator.INSTANCE.nextId(), Namespace.of("metalake"), "catalog", auditInfo);
+    backend.insert(catalog, false);
+
+    List<RoleEntity> roles = Lists.newArrayList();
+    for (int i = 0; i < count; i++) {
+      RoleEntity role =
+          createRoleEntity(
+              RandomIdGenerator.INSTANCE.nextId(),
+              AuthorizationUtils.ofRoleNamespace(metalakeName),
+              "role" + i,
+              auditInfo,
+              "catalog");
+      RoleMetaService.getInstance().insertRole(role, false);
+      roles.add(role);
+    }
+    return roles;
+  }
+
+  private UserEntity createUserWithRoles(List<RoleEntity> roles) throws IOException {
+    UserEntity user =
+        createUserEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            AuthorizationUtils.ofUserNamespace(metalakeName),
+            "user",
+            AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build(),
+            roles.stream().map(RoleEntity::name).collect(Collectors.toList()),
+            roles.stream().map(RoleEntity::id).collect(Collectors.toList()));
+    backend.insert(user, false);
+    return user;
+  }
+
+  private UserEntity grantRoles(UserEntity user, List<RoleEntity> roles) throws IOException {
+    return backend.update(
+        user.nameIdentifier(),
+        Entity.EntityType.USER,
+        userEntity -> {
+          List<String> roleNames = Lists.newArrayList(userEntity.roleNames());
+          List<Long> roleIds = Lists.newArrayList(userEntity.roleIds());
+          roles.forEach(
+              role -> {
+                roleNames.add(role.name());
+                roleIds.add(role.id());
+              });
+          return createUserEntity(
+              userEntity.id(),
+              userEntity.namespace(),
+              userEntity.name(),
+              userEntity.auditInfo(),
+              roleNames,
+              roleIds);
+        });
+  }
+
+  // The number of the statements of the mapper executed by the entity store so far.
+  private static long executedStatements(Class<?> mapperClass) {
+    String prefix =
+        MetricNames.ENTITY_STORE_STATEMENT_PREFIX + "." + mapperClass.getSimpleName() + ".";
+    MetricRegistry registry =
+        SqlSessionFactoryHelper.getInstance().getMetricsSource().getMetricRegistry();
+    return registry.getTimers().entrySet().stream()
+        .filter(entry -> entry.getKey().startsWith(prefix))
+        .mapToLong(entry -> entry.getValue().getCount())
+        .sum();
+  }
+
   @Test
   void insertRole() throws IOException {
     AuditInfo auditInfo =
@@ -527,6 +527,151 @@ public class TestTableColumnMetaService extends TestJDBCBackend {
         () -> TableColumnMetaService.getInstance().getColumnPOById(updatedColumn.id()));
   }
 
+  @Test
+  public void testBatchInsertAndDeleteTables() throws IOException {
+    String catalogName = "catalog1";
+    String schemaName = "schema1";
+    createParentEntities(METALAKE_NAME, catalogName, schemaName, auditInfo);
+    Namespace tableNs = Namespace.of(METALAKE_NAME, catalogName, schemaName);
+
+    int tableCount = 10;
+    int columnCount = 3;
+    List<TableEntity> batchTables = Lists.newArrayList();
+    for (int i = 0; i < tableCount; i++) {
+      batchTables.add(createTableWithColumns(tableNs, "batch_table" + i, columnCount));
+    }
+    TableEntity singleTable = createTableWithColumns(tableNs, "single_table", columnCount);
+    TableMetaService.getInstance().insertTable(singleTable, false);
+    TableMetaService.getInstance().insertTables(batchTables, false);
+
+    Assertions.assertEquals(
+        tableCount + 1, TableMetaService.getInstance().listTablesByNamespace(tableNs).size());
+    for (TableEntity table : batchTables) {
+      TableEntity retrievedTable =
+          TableMetaService.getInstance().getTableByIdentifier(table.nameIdentifier());
+      Assertions.assertEquals(table.id(), retrievedTable.id());
+      compareTwoColumns(table.columns(), retrievedTable.columns());
+    }
+
+    int deleted =
+        TableMetaService.getInstance()
+            .deleteTables(
+                batchTables.stream().map(TableEntity::nameIdentifier).collect(Collectors.toList()));
+    Assertions.assertEquals(tableCount, deleted);
+    List<TableEntity> remainingTables =
+        TableMetaService.getInstance().listTablesByNamespace(tableNs);
+    Assertions.assertEquals(1, remainingTables.size());
+    Assertions.assertEquals(singleTable.name(), remainingTables.get(0).name());
+  }
+
+  @Test
+  public void testLoadTableWithDeepColumnHistory() throws IOException {
+    String catalogName = "catalog1";
+    String schemaName = "schema1";
+    createParentEntities(METALAKE_NAME, catalogName, schemaName, auditInfo);
+    Namespace tableNs = Namespace.of(METALAKE_NAME, catalogName, schemaName);
+
+    int initialColumnCount = 5;
+    int alterCount = 30;
+    TableEntity table = createTableWithColumns(tableNs, "deep_history_table", initialColumnCount);
+    TableMetaService.getInstance().insertTable(table, false);
+
+    // Alter the table many times, each alter either changes the comment of an existing column or
+    // adds a new column, like the tables of the streaming ingestion.
+    for (int i = 0; i < alterCount; i++) {
+      List<ColumnEntity> columns = Lists.newArrayList(table.columns());
+      if (i % 10 == 0) {
+        columns.add(
+            ColumnEntity.builder()
+                .withId(RandomIdGenerator.INSTANCE.nextId())
+                .withName("added_column" + i)
+                .withPosition(columns.size())
+                .withDataType(Types.StringType.get())
+                .withNullable(true)
+                .withAutoIncrement(false)
+                .withAuditInfo(auditInfo)
+                .build());
+      } else {
+        int index = i % columns.size();
+        ColumnEntity column = columns.get(index);
+        columns.set(
+            index,
+            ColumnEntity.builder()
+                .withId(column.id())
+                .withName(column.name())
+                .withPosition(column.position())
+                .withComment("comment of alter " + i)
+                .withDataType(column.dataType())
+                .withNullable(column.nullable())
+                .withAutoIncrement(column.autoIncrement())
+                .withAuditInfo(auditInfo)
+                .build());
+      }
+
+      TableEntity alteredTable =
+          TableEntity.builder()
+              .withId(table.id())
+              .withName(table.name())
+              .withNamespace(table.namespace())
+              .withColumns(columns)
+              .withAuditInfo(auditInfo)
+              .build();
+      Function<TableEntity, TableEntity> updater = oldTable -> alteredTable;
+      table = TableMetaService.getInstance().updateTable(table.nameIdentifier(), updater);
+    }
+
+    TableEntity retrievedTable =
+        TableMetaService.getInstance().getTableByIdentifier(table.nameIdentifier());
+    Assertions.assertEquals(initialColumnCount + alterCount / 10, retrievedTable.columns().size());
+    compareTwoColumns(table.columns(), retrievedTable.columns());
+
+    // All the superseded versions are older than the current table version, they are compacted
+    // with the retention count 1, and the current columns are kept.
+    int deletedCount = 0;
+    int deleted;
+    do {
+      deleted =
+          TableColumnMetaService.getInstance().deleteSupersededColumnsByRetentionCount(1L, 10);
+      deletedCount += deleted;
+    } while (deleted > 0);
+    Assertions.assertEquals(initialColumnCount + alterCount - table.columns().size(), deletedCount);
+
+    retrievedTable = TableMetaService.getInstance().getTableByIdentifier(table.nameIdentifier());
+    compareTwoColumns(table.columns(), retrievedTable.columns());
+    ColumnEntity firstColumn = table.columns().get(0);
+    Assertions.assertEquals(
+        firstColumn.id(),
+        TableColumnMetaService.getInstance()
+            .getColumnIdByTableIdAndName(table.id(), firstColumn.name()));
+    Assertions.assertEquals(
+        firstColumn.comment(),
+        TableColumnMetaService.getInstance().getColumnPOById(firstColumn.id()).getColumnComment());
+  }
+
+  private TableEntity createTableWithColumns(Namespace namespace, String name, int columnCount) {
+    List<ColumnEntity> columns = Lists.newArrayList();
+    for (int i = 0; i < columnCount; i++) {
+      columns.add(
+          ColumnEntity.builder()
+              .withId(RandomIdGenerator.INSTANCE.nextId())
+              .withName("column" + i)
+              .withPosition(i)
+              .withComment("comment" + i)
+              .withDataType(Types.IntegerType.get())
+              .withNullable(true)
+              .withAutoIncrement(false)
+              .withAuditInfo(auditInfo)
+              .build());
+    }
+    return TableEntity.builder()
+        .withId(RandomIdGenerator.INSTANCE.nextId())
+        .withName(name)
+        .withNamespace(namespace)
+        .withColumns(columns)
+        .withAuditInfo(auditInfo)
+        .build();
+  }
+
   private void compareTwoColumns(
       List<ColumnEntity> expectedColumns, List<ColumnEntity> actualColumns) {
     Assertions.assertEquals(expectedColumns.size(), actualColumns.size());
@@ -18,7 +18,9 @@
  */
 package org.apache.gravitino.storage.relational.service;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import java.io.IOException;
 import java.time.Instant;
 import java.util.List;
@@ -534,6 +536,52 @@ public class TestTagMetaService extends TestJDBCBackend {
                 Entity.EntityType.TABLE));
   }
 
+  @Test
+  public void testListTagsForMetadataObjects() throws IOException {
+    testAssociateAndDisassociateTagsWithMetadataObject();
+
+    TableEntity table =
+        createTableEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            Namespace.of(metalakeName, "catalog1", "schema1"),
+            "table2",
+            auditInfo);
+    backend.insert(table, false);
+
+    TagMetaService tagMetaService = TagMetaService.getInstance();
+    NameIdentifier table1Ident = NameIdentifier.of(metalakeName, "catalog1", "schema1", "table1");
+    NameIdentifier table2Ident = NameIdentifier.of(metalakeName, "catalog1", "schema1", "table2");
+
+    // The results are in the same order as the metadata objects
+    List<List<TagEntity>> tagEntities =
+        tagMetaService.listTagsForMetadataObjects(
+            ImmutableList.of(table1Ident, table2Ident, table1Ident), Entity.EntityType.TABLE);
+    Assertions.assertEquals(3, tagEntities.size());
+    Assertions.assertEquals(
+        ImmutableSet.copyOf(
+            tagMetaService.listTagsForMetadataObject(table1Ident, Entity.EntityType.TABLE)),
+        ImmutableSet.copyOf(tagEntities.get(0)));
+    Assertions.assertTrue(tagEntities.get(1).isEmpty());
+    Assertions.assertEquals(tagEntities.get(0), tagEntities.get(2));
+
+    // Test list tags for schemas
+    List<List<TagEntity>> tagEntities1 =
+        tagMetaService.listTagsForMetadataObjects(
+            ImmutableList.of(NameIdentifier.of(metalakeName, "catalog1", "schema1")),
+            Entity.EntityType.SCHEMA);
+    Assertions.assertEquals(1, tagEntities1.size());
+    Assertions.assertEquals(2, tagEntities1.get(0).size());
+
+    // Test list tags for non-existent metadata object
+    Assertions.assertThrows(
+        NoSuchEntityException.class,
+        () ->
+            tagMetaService.listTagsForMetadataObjects(
+                ImmutableList.of(
+                    table1Ident, NameIdentifier.of(metalakeName, "catalog1", "schema1", "table3")),
+                Entity.EntityType.TABLE));
+  }
+
   @Test
   public void testGetTagForMetadataObject() throws IOException {
     testAssociateAndDisassociateTagsWithMetadataObject();
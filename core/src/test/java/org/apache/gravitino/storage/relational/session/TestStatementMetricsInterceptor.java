@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.session;
+
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Timer;
+import com.google.common.collect.Lists;
+import java.util.Collections;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.ibatis.builder.StaticSqlSource;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class TestStatementMetricsInterceptor {
+
+  private static final String SELECT_STATEMENT =
+      "org.apache.gravitino.storage.relational.mapper.TableMetaMapper.selectTableMetaById";
+  private static final String UPDATE_STATEMENT =
+      "org.apache.gravitino.storage.relational.mapper.TableMetaMapper.updateTableMeta";
+
+  @Test
+  public void testRecordStatements() throws Throwable {
+    EntityStoreMetricsSource metricsSource =
+        new EntityStoreMetricsSource(new InstrumentedDataSource());
+    // The slow statement logging is disabled by the threshold 0
+    StatementMetricsInterceptor interceptor = new StatementMetricsInterceptor(metricsSource, 0);
+    StatementMetricsInterceptor slowInterceptor =
+        new StatementMetricsInterceptor(metricsSource, 1);
+
+    Configuration configuration = new Configuration();
+    MappedStatement select = newStatement(configuration, SELECT_STATEMENT, SqlCommandType.SELECT);
+    MappedStatement update = newStatement(configuration, UPDATE_STATEMENT, SqlCommandType.UPDATE);
+
+    Executor executor = Mockito.mock(Executor.class);
+    Mockito.when(
+            executor.query(
+                Mockito.any(MappedStatement.class),
+                Mockito.any(),
+                Mockito.any(RowBounds.class),
+                Mockito.any()))
+        .thenReturn(Lists.newArrayList("a", "b", "c"));
+    Mockito.when(executor.update(Mockito.any(MappedStatement.class), Mockito.any()))
+        .thenAnswer(
+            invocation -> {
+              Thread.sleep(5);
+              return 2;
+            });
+
+    interceptor.intercept(
+        new Invocation(
+            executor,
+            Executor.class.getMethod(
+                "query", MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class),
+            new Object[] {select, Collections.emptyMap(), RowBounds.DEFAULT, null}));
+    Object updated =
+        slowInterceptor.intercept(
+            new Invocation(
+                executor,
+                Executor.class.getMethod("update", MappedStatement.class, Object.class),
+                new Object[] {update, Collections.emptyMap()}));
+    Assertions.assertEquals(2, updated);
+
+    String selectPrefix =
+        MetricNames.ENTITY_STORE_STATEMENT_PREFIX + ".TableMetaMapper.selectTableMetaById.";
+    Timer selectLatency =
+        metricsSource.getTimer(selectPrefix + MetricNames.ENTITY_STORE_STATEMENT_LATENCY);
+    Histogram selectRows =
+        metricsSource.getHistogram(selectPrefix + MetricNames.ENTITY_STORE_STATEMENT_ROWS);
+    Assertions.assertEquals(1, selectLatency.getCount());
+    Assertions.assertEquals(3, selectRows.getSnapshot().getMax());
+
+    String updatePrefix =
+        MetricNames.ENTITY_STORE_STATEMENT_PREFIX + ".TableMetaMapper.updateTableMeta.";
+    Timer updateLatency =
+        metricsSource.getTimer(updatePrefix + MetricNames.ENTITY_STORE_STATEMENT_LATENCY);
+    Assertions.assertEquals(1, updateLatency.getCount());
+    Assertions.assertTrue(updateLatency.getSnapshot().getMax() >= 5_000_000L);
+    Assertions.assertEquals(
+        2,
+        metricsSource
+            .getHistogram(updatePrefix + MetricNames.ENTITY_STORE_STATEMENT_ROWS)
+            .getSnapshot()
+            .getMax());
+
+    // The pool gauges don't fail before the pool is created
+    Assertions.assertEquals(
+        0,
+        metricsSource
+            .getMetricRegistry()
+            .getGauges()
+            .get(MetricNames.ENTITY_STORE_POOL_WAITERS)
+            .getValue());
+  }
+
+  @Test
+  public void testShortStatementId() {
+    Assertions.assertEquals(
+        "TableMetaMapper.selectTableMetaById",
+        EntityStoreMetricsSource.shortStatementId(SELECT_STATEMENT));
+    Assertions.assertEquals("select", EntityStoreMetricsSource.shortStatementId("select"));
+  }
+
+  private static MappedStatement newStatement(
+      Configuration configuration, String id, SqlCommandType commandType) {
+    return new MappedStatement.Builder(
+            configuration,
+            id,
+            new StaticSqlSource(configuration, "SELECT 1 FROM table_meta WHERE table_id = ?"),
+            commandType)
+        .build();
+  }
+}
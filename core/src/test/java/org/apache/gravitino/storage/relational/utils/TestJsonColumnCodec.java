@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Maps;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.apache.gravitino.json.JsonUtils;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.rel.types.Type;
+import org.apache.gravitino.rel.types.Types;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestJsonColumnCodec {
+
+  @AfterEach
+  public void tearDown() {
+    JsonColumnCodec.setCompactEncodingEnabled(false);
+  }
+
+  @Test
+  public void testJsonEncodingByDefault() throws JsonProcessingException {
+    Map<String, String> properties = newProperties(100);
+    String encoded = JsonColumnCodec.PROPERTIES.encode(properties);
+    Assertions.assertEquals(JsonUtils.anyFieldMapper().writeValueAsString(properties), encoded);
+    Assertions.assertEquals(properties, JsonColumnCodec.PROPERTIES.decode(encoded));
+
+    AuditInfo auditInfo =
+        AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+    encoded = JsonColumnCodec.AUDIT_INFO.encode(auditInfo);
+    Assertions.assertEquals(JsonUtils.anyFieldMapper().writeValueAsString(auditInfo), encoded);
+    Assertions.assertEquals(auditInfo, JsonColumnCodec.AUDIT_INFO.decode(encoded));
+  }
+
+  @Test
+  public void testCompactEncoding() throws JsonProcessingException {
+    Map<String, String> properties = newProperties(100);
+    String json = JsonColumnCodec.PROPERTIES.encode(properties);
+
+    JsonColumnCodec.setCompactEncodingEnabled(true);
+    String compact = JsonColumnCodec.PROPERTIES.encode(properties);
+    Assertions.assertTrue(compact.startsWith(JsonColumnCodec.COMPACT_MARKER));
+    Assertions.assertTrue(compact.length() < json.length());
+    Assertions.assertEquals(properties, JsonColumnCodec.PROPERTIES.decode(compact));
+
+    // The values stored in JSON before are still readable
+    Assertions.assertEquals(properties, JsonColumnCodec.PROPERTIES.decode(json));
+
+    // The small values are kept in JSON
+    Map<String, String> smallProperties = newProperties(2);
+    Assertions.assertEquals(
+        JsonUtils.anyFieldMapper().writeValueAsString(smallProperties),
+        JsonColumnCodec.PROPERTIES.encode(smallProperties));
+
+    Type type = newStructType(200);
+    compact = JsonColumnCodec.COLUMN_TYPE.encode(type);
+    Assertions.assertTrue(compact.startsWith(JsonColumnCodec.COMPACT_MARKER));
+    Assertions.assertEquals(type, JsonColumnCodec.COLUMN_TYPE.decode(compact));
+
+    List<String> privileges = ImmutableList.of("USE_CATALOG", "CREATE_TABLE", "SELECT_TABLE");
+    Assertions.assertEquals(
+        privileges,
+        JsonColumnCodec.PRIVILEGES.decode(JsonColumnCodec.PRIVILEGES.encode(privileges)));
+
+    // The values of the fields without the compact encoding are never compacted
+    AuditInfo auditInfo =
+        AuditInfo.builder().withCreator(String.join("", newProperties(100).keySet())).build();
+    Assertions.assertFalse(
+        JsonColumnCodec.AUDIT_INFO.encode(auditInfo).startsWith(JsonColumnCodec.COMPACT_MARKER));
+
+    Assertions.assertThrows(
+        JsonProcessingException.class,
+        () -> JsonColumnCodec.PROPERTIES.decode(JsonColumnCodec.COMPACT_MARKER + "AAAA"));
+  }
+
+  @Test
+  public void testCompactEncodingSize() throws JsonProcessingException {
+    Type type = newStructType(100);
+    Map<String, String> properties = newProperties(50);
+    String jsonType = JsonColumnCodec.COLUMN_TYPE.encode(type);
+    String jsonProperties = JsonColumnCodec.PROPERTIES.encode(properties);
+
+    // The compact encoding takes less than half of the space of JSON for the repetitive values
+    JsonColumnCodec.setCompactEncodingEnabled(true);
+    String compactType = JsonColumnCodec.COLUMN_TYPE.encode(type);
+    String compactProperties = JsonColumnCodec.PROPERTIES.encode(properties);
+    Assertions.assertTrue(compactType.length() * 2 < jsonType.length());
+    Assertions.assertTrue(compactProperties.length() * 2 < jsonProperties.length());
+    Assertions.assertEquals(type, JsonColumnCodec.COLUMN_TYPE.decode(compactType));
+    Assertions.assertEquals(properties, JsonColumnCodec.PROPERTIES.decode(compactProperties));
+  }
+
+  private static Map<String, String> newProperties(int size) {
+    Map<String, String> properties = Maps.newLinkedHashMap();
+    for (int i = 0; i < size; i++) {
+      properties.put("property.key." + i, "property-value-" + i);
+    }
+    return properties;
+  }
+
+  private static Type newStructType(int size) {
+    Types.StructType.Field[] fields = new Types.StructType.Field[size];
+    for (int i = 0; i < size; i++) {
+      fields[i] =
+          Types.StructType.Field.nullableField(
+              "field_" + i,
+              i % 2 == 0
+                  ? Types.VarCharType.of(255)
+                  : Types.MapType.valueNullable(
+                      Types.StringType.get(), Types.ListType.nullable(Types.LongType.get())),
+              "comment of field " + i);
+    }
+    return Types.StructType.of(fields);
+  }
+}
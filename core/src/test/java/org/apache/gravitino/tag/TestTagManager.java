@@ -702,4 +702,122 @@ public class TestTagManager {
     Assertions.assertTrue(
         e3.getMessage().contains("Failed to get tag for metadata object " + nonExistentObject));
   }
+
+  @Test
+  public void testListTagsForMetadataObjectsWithCache() {
+    TagManager cachedTagManager = new TagManager(idGenerator, entityStore, 100, 60000);
+    Tag tag1 = cachedTagManager.createTag(METALAKE, "tag1", null, null);
+    Tag tag2 = cachedTagManager.createTag(METALAKE, "tag2", null, null);
+
+    MetadataObject catalogObject =
+        NameIdentifierUtil.toMetadataObject(
+            NameIdentifierUtil.ofCatalog(METALAKE, CATALOG), Entity.EntityType.CATALOG);
+    MetadataObject schemaObject =
+        NameIdentifierUtil.toMetadataObject(
+            NameIdentifierUtil.ofSchema(METALAKE, CATALOG, SCHEMA), Entity.EntityType.SCHEMA);
+    MetadataObject tableObject =
+        NameIdentifierUtil.toMetadataObject(
+            NameIdentifierUtil.ofTable(METALAKE, CATALOG, SCHEMA, TABLE), Entity.EntityType.TABLE);
+
+    cachedTagManager.associateTagsForMetadataObject(
+        METALAKE, catalogObject, new String[] {tag1.name(), tag2.name()}, null);
+    cachedTagManager.associateTagsForMetadataObject(
+        METALAKE, tableObject, new String[] {tag1.name()}, null);
+
+    // The results are in the same order as the metadata objects
+    Tag[][] tags =
+        cachedTagManager.listTagsInfoForMetadataObjects(
+            METALAKE, new MetadataObject[] {tableObject, catalogObject, schemaObject, tableObject});
+    Assertions.assertEquals(4, tags.length);
+    Assertions.assertEquals(ImmutableSet.of(tag1), ImmutableSet.copyOf(tags[0]));
+    Assertions.assertEquals(ImmutableSet.of(tag1, tag2), ImmutableSet.copyOf(tags[1]));
+    Assertions.assertEquals(0, tags[2].length);
+    Assertions.assertEquals(ImmutableSet.of(tag1), ImmutableSet.copyOf(tags[3]));
+
+    // The changes made by another manager are not visible until the cached tags expire
+    tagManager.associateTagsForMetadataObject(
+        METALAKE, schemaObject, new String[] {tag2.name()}, null);
+    Assertions.assertEquals(
+        0, cachedTagManager.listTagsInfoForMetadataObject(METALAKE, schemaObject).length);
+
+    // Associating tags invalidates the cached tags of the metadata object
+    cachedTagManager.associateTagsForMetadataObject(
+        METALAKE, schemaObject, new String[] {tag1.name()}, null);
+    Tag[] schemaTags = cachedTagManager.listTagsInfoForMetadataObject(METALAKE, schemaObject);
+    Assertions.assertEquals(ImmutableSet.of(tag1, tag2), ImmutableSet.copyOf(schemaTags));
+
+    // Altering a tag invalidates the cached tags of the metadata objects associated with it
+    Tag renamedTag = cachedTagManager.alterTag(METALAKE, tag1.name(), TagChange.rename("tag3"));
+    Tag[][] tags1 =
+        cachedTagManager.listTagsInfoForMetadataObjects(
+            METALAKE, new MetadataObject[] {tableObject, catalogObject});
+    Assertions.assertEquals(ImmutableSet.of(renamedTag), ImmutableSet.copyOf(tags1[0]));
+    Assertions.assertEquals(ImmutableSet.of(renamedTag, tag2), ImmutableSet.copyOf(tags1[1]));
+    Assertions.assertEquals(
+        renamedTag, cachedTagManager.getTagForMetadataObject(METALAKE, tableObject, "tag3"));
+    Assertions.assertThrows(
+        NoSuchTagException.class,
+        () -> cachedTagManager.getTagForMetadataObject(METALAKE, tableObject, tag1.name()));
+
+    // Deleting a tag invalidates the cached tags of the metadata objects associated with it
+    cachedTagManager.deleteTag(METALAKE, tag2.name());
+    Tag[][] tags2 =
+        cachedTagManager.listTagsInfoForMetadataObjects(
+            METALAKE, new MetadataObject[] {catalogObject, schemaObject});
+    Assertions.assertEquals(ImmutableSet.of(renamedTag), ImmutableSet.copyOf(tags2[0]));
+    Assertions.assertEquals(ImmutableSet.of(renamedTag), ImmutableSet.copyOf(tags2[1]));
+
+    // List tags for non-existent metadata object
+    MetadataObject nonExistentObject =
+        NameIdentifierUtil.toMetadataObject(
+            NameIdentifierUtil.ofCatalog(METALAKE, "non_existent_catalog"),
+            Entity.EntityType.CATALOG);
+    Assertions.assertThrows(
+        NotFoundException.class,
+        () ->
+            cachedTagManager.listTagsInfoForMetadataObjects(
+                METALAKE, new MetadataObject[] {catalogObject, nonExistentObject}));
+  }
+
+  @Test
+  public void testInvalidateCachedTagsOfDroppedMetadataObject() throws IllegalAccessException {
+    TagManager cachedTagManager = new TagManager(idGenerator, entityStore, 100, 60000);
+    Tag tag1 = cachedTagManager.createTag(METALAKE, "tag1", null, null);
+
+    MetadataObject catalogObject =
+        NameIdentifierUtil.toMetadataObject(
+            NameIdentifierUtil.ofCatalog(METALAKE, CATALOG), Entity.EntityType.CATALOG);
+    MetadataObject schemaObject =
+        NameIdentifierUtil.toMetadataObject(
+            NameIdentifierUtil.ofSchema(METALAKE, CATALOG, SCHEMA), Entity.EntityType.SCHEMA);
+    MetadataObject tableObject =
+        NameIdentifierUtil.toMetadataObject(
+            NameIdentifierUtil.ofTable(METALAKE, CATALOG, SCHEMA, TABLE), Entity.EntityType.TABLE);
+    MetadataObject[] objects = new MetadataObject[] {catalogObject, schemaObject, tableObject};
+
+    // Cache the tags, then change them by another manager as if the objects were recreated
+    Arrays.stream(cachedTagManager.listTagsInfoForMetadataObjects(METALAKE, objects))
+        .forEach(tags -> Assertions.assertEquals(0, tags.length));
+    for (MetadataObject object : objects) {
+      tagManager.associateTagsForMetadataObject(METALAKE, object, new String[] {tag1.name()}, null);
+    }
+
+    FieldUtils.writeField(GravitinoEnv.getInstance(), "tagManager", cachedTagManager, true);
+    try {
+      // Dropping the schema invalidates the cached tags of the schema and the table under it
+      TagManager.invalidateMetadataObject(NameIdentifierUtil.ofSchema(METALAKE, CATALOG, SCHEMA));
+    } finally {
+      FieldUtils.writeField(GravitinoEnv.getInstance(), "tagManager", null, true);
+    }
+
+    Tag[][] tags = cachedTagManager.listTagsInfoForMetadataObjects(METALAKE, objects);
+    Assertions.assertEquals(0, tags[0].length);
+    Assertions.assertEquals(ImmutableSet.of(tag1), ImmutableSet.copyOf(tags[1]));
+    Assertions.assertEquals(ImmutableSet.of(tag1), ImmutableSet.copyOf(tags[2]));
+
+    // It's a no-op without a tag manager in the Gravitino environment
+    TagManager.invalidateMetadataObject(NameIdentifierUtil.ofCatalog(METALAKE, CATALOG));
+    Assertions.assertEquals(
+        0, cachedTagManager.listTagsInfoForMetadataObject(METALAKE, catalogObject).length);
+  }
 }
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.tracing;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.propagation.TextMapGetter;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class TestTracing {
+
+  private final List<SpanData> spans = new CopyOnWriteArrayList<>();
+
+  @AfterEach
+  public void tearDown() {
+    Tracing.shutdown();
+    spans.clear();
+  }
+
+  @Test
+  public void testDisabled() throws Exception {
+    Config config = Mockito.mock(Config.class);
+    Mockito.when(config.get(Configs.TRACING_ENABLED)).thenReturn(false);
+    Tracing.initialize(config, "test");
+    Assertions.assertFalse(Tracing.isEnabled());
+
+    TraceScope scope = Tracing.start("span");
+    Assertions.assertSame(TraceScope.noop(), scope);
+    scope.setAttribute("key", "value").close();
+    Assertions.assertEquals(1, Tracing.trace("span", () -> 1));
+  }
+
+  @Test
+  public void testNestedSpans() throws Exception {
+    Tracing.initialize(new CollectingExporter());
+    Assertions.assertTrue(Tracing.isEnabled());
+
+    try (TraceScope scope = Tracing.start("parent")) {
+      scope.setAttribute("catalog", "catalog1");
+      Tracing.trace("child", () -> null);
+    }
+
+    Assertions.assertEquals(2, spans.size());
+    SpanData child = spans.get(0);
+    SpanData parent = spans.get(1);
+    Assertions.assertEquals("child", child.getName());
+    Assertions.assertEquals("parent", parent.getName());
+    Assertions.assertEquals(parent.getTraceId(), child.getTraceId());
+    Assertions.assertEquals(parent.getSpanId(), child.getParentSpanId());
+    Assertions.assertEquals(
+        "catalog1", parent.getAttributes().get(AttributeKey.stringKey("catalog")));
+  }
+
+  @Test
+  public void testRecordException() {
+    Tracing.initialize(new CollectingExporter());
+
+    Assertions.assertThrows(
+        IOException.class,
+        () ->
+            Tracing.trace(
+                "failed",
+                () -> {
+                  throw new IOException("mock error");
+                }));
+
+    Assertions.assertEquals(1, spans.size());
+    SpanData span = spans.get(0);
+    Assertions.assertEquals(StatusCode.ERROR, span.getStatus().getStatusCode());
+    Assertions.assertEquals(1, span.getEvents().size());
+  }
+
+  @Test
+  public void testPropagatedParent() {
+    Tracing.initialize(new CollectingExporter());
+
+    String traceId = "4bf92f3577b34da6a3ce929d0e0e4736";
+    String parentSpanId = "00f067aa0ba902b7";
+    Map<String, String> headers =
+        Collections.singletonMap("traceparent", "00-" + traceId + "-" + parentSpanId + "-01");
+    Context parent =
+        W3CTraceContextPropagator.getInstance().extract(Context.root(), headers, new MapGetter());
+
+    try (TraceScope ignored = Tracing.start("GET /api/metalakes", SpanKind.SERVER, parent)) {
+      Tracing.updateCurrentSpanName("GET MetalakeOperations.listMetalakes");
+    }
+
+    Assertions.assertEquals(1, spans.size());
+    SpanData span = spans.get(0);
+    Assertions.assertEquals("GET MetalakeOperations.listMetalakes", span.getName());
+    Assertions.assertEquals(SpanKind.SERVER, span.getKind());
+    Assertions.assertEquals(traceId, span.getTraceId());
+    Assertions.assertEquals(parentSpanId, span.getParentSpanId());
+  }
+
+  private class CollectingExporter implements SpanExporter {
+    @Override
+    public CompletableResultCode export(Collection<SpanData> spanData) {
+      spans.addAll(spanData);
+      return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+      return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+      return CompletableResultCode.ofSuccess();
+    }
+  }
+
+  private static class MapGetter implements TextMapGetter<Map<String, String>> {
+    @Override
+    public Iterable<String> keys(Map<String, String> carrier) {
+      return carrier.keySet();
+    }
+
+    @Override
+    public String get(Map<String, String> carrier, String key) {
+      return carrier == null ? null : carrier.get(key);
+    }
+  }
+}
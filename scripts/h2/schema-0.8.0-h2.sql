@@ -100,13 +100,15 @@ CREATE TABLE IF NOT EXISTS `table_column_version_info` (
     `column_auto_increment` TINYINT(1) NOT NULL DEFAULT 0 COMMENT 'column auto increment, 0 is not auto increment, 1 is auto increment',
     `column_default_value` TEXT DEFAULT NULL COMMENT 'column default value',
     `column_op_type` TINYINT(1) NOT NULL COMMENT 'column operation type, 1 is create, 2 is update, 3 is delete',
+    `column_current` TINYINT(1) NOT NULL DEFAULT 0 COMMENT 'whether it is the current version of the column, 0 is superseded, 1 is current',
     `deleted_at` BIGINT(20) UNSIGNED NOT NULL DEFAULT 0 COMMENT 'column deleted at',
     `audit_info` MEDIUMTEXT NOT NULL COMMENT 'column audit info',
     PRIMARY KEY (`id`),
     UNIQUE KEY `uk_tid_ver_cid_del` (`table_id`, `table_version`, `column_id`, `deleted_at`),
     KEY `idx_tcmid` (`metalake_id`),
     KEY `idx_tccid` (`catalog_id`),
-    KEY `idx_tcsid` (`schema_id`)
+    KEY `idx_tcsid` (`schema_id`),
+    KEY `idx_tctid_cur` (`table_id`, `column_current`, `deleted_at`)
 ) ENGINE=InnoDB;
 
 
@@ -65,3 +65,11 @@ CREATE TABLE IF NOT EXISTS `model_version_alias_rel` (
     UNIQUE KEY `uk_mi_mva_del` (`model_id`, `model_version_alias`, `deleted_at`),
     KEY `idx_mva` (`model_version_alias`)
 ) ENGINE=InnoDB;
+
+ALTER TABLE `table_column_version_info` ADD COLUMN `column_current` TINYINT(1) NOT NULL DEFAULT 0 COMMENT 'whether it is the current version of the column, 0 is superseded, 1 is current' AFTER `column_op_type`;
+UPDATE `table_column_version_info` tc SET `column_current` = 1
+WHERE tc.`deleted_at` = 0 AND tc.`table_version` = (
+    SELECT MAX(t2.`table_version`) FROM `table_column_version_info` t2
+    WHERE t2.`column_id` = tc.`column_id` AND t2.`deleted_at` = 0
+);
+CREATE INDEX IF NOT EXISTS `idx_tctid_cur` ON `table_column_version_info` (`table_id`, `column_current`, `deleted_at`);
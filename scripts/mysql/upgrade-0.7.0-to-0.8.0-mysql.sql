@@ -65,3 +65,15 @@ CREATE TABLE IF NOT EXISTS `model_version_alias_rel` (
     UNIQUE KEY `uk_mi_mva_del` (`model_id`, `model_version_alias`, `deleted_at`),
     KEY `idx_mva` (`model_version_alias`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_bin COMMENT 'model_version_alias_rel';
+
+ALTER TABLE `table_column_version_info` ADD COLUMN `column_current` TINYINT(1) NOT NULL DEFAULT 0 COMMENT 'whether it is the current version of the column, 0 is superseded, 1 is current' AFTER `column_op_type`;
+UPDATE `table_column_version_info` tc
+    JOIN (
+        SELECT `column_id`, MAX(`table_version`) AS `max_table_version`
+        FROM `table_column_version_info`
+        WHERE `deleted_at` = 0
+        GROUP BY `column_id`
+    ) cur ON tc.`column_id` = cur.`column_id` AND tc.`table_version` = cur.`max_table_version`
+SET tc.`column_current` = 1
+WHERE tc.`deleted_at` = 0;
+ALTER TABLE `table_column_version_info` ADD INDEX `idx_tid_cur` (`table_id`, `column_current`, `deleted_at`);
@@ -156,6 +156,7 @@ CREATE TABLE IF NOT EXISTS table_column_version_info (
     column_auto_increment SMALLINT NOT NULL DEFAULT 0,
     column_default_value TEXT DEFAULT NULL,
     column_op_type SMALLINT NOT NULL,
+    column_current SMALLINT NOT NULL DEFAULT 0,
     deleted_at BIGINT NOT NULL DEFAULT 0,
     audit_info TEXT NOT NULL,
     PRIMARY KEY (id),
@@ -164,6 +165,7 @@ CREATE TABLE IF NOT EXISTS table_column_version_info (
 CREATE INDEX idx_mid ON table_column_version_info (metalake_id);
 CREATE INDEX idx_cid ON table_column_version_info (catalog_id);
 CREATE INDEX idx_sid ON table_column_version_info (schema_id);
+CREATE INDEX IF NOT EXISTS idx_table_id_current ON table_column_version_info (table_id, column_current, deleted_at);
 COMMENT ON TABLE table_column_version_info IS 'table column version information';
 
 COMMENT ON COLUMN table_column_version_info.id IS 'auto increment id';
@@ -181,6 +183,7 @@ COMMENT ON COLUMN table_column_version_info.column_nullable IS 'column nullable,
 COMMENT ON COLUMN table_column_version_info.column_auto_increment IS 'column auto increment, 0 is not auto increment, 1 is auto increment';
 COMMENT ON COLUMN table_column_version_info.column_default_value IS 'column default value';
 COMMENT ON COLUMN table_column_version_info.column_op_type IS 'column operation type, 1 is create, 2 is update, 3 is delete';
+COMMENT ON COLUMN table_column_version_info.column_current IS 'whether it is the current version of the column, 0 is superseded, 1 is current';
 COMMENT ON COLUMN table_column_version_info.deleted_at IS 'column deleted at';
 COMMENT ON COLUMN table_column_version_info.audit_info IS 'column audit info';
 
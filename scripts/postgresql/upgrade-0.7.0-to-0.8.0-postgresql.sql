@@ -102,3 +102,16 @@ COMMENT ON COLUMN model_version_alias_rel.model_id IS 'model id';
 COMMENT ON COLUMN model_version_alias_rel.model_version IS 'model version';
 COMMENT ON COLUMN model_version_alias_rel.model_version_alias IS 'model version alias';
 COMMENT ON COLUMN model_version_alias_rel.deleted_at IS 'model version alias deleted at';
+
+
+ALTER TABLE table_column_version_info ADD COLUMN IF NOT EXISTS column_current SMALLINT NOT NULL DEFAULT 0;
+COMMENT ON COLUMN table_column_version_info.column_current IS 'whether it is the current version of the column, 0 is superseded, 1 is current';
+UPDATE table_column_version_info tc SET column_current = 1
+FROM (
+    SELECT column_id, MAX(table_version) AS max_table_version
+    FROM table_column_version_info
+    WHERE deleted_at = 0
+    GROUP BY column_id
+) cur
+WHERE tc.column_id = cur.column_id AND tc.table_version = cur.max_table_version AND tc.deleted_at = 0;
+CREATE INDEX IF NOT EXISTS idx_table_id_current ON table_column_version_info (table_id, column_current, deleted_at);
@@ -38,6 +38,7 @@ dependencies {
   implementation(libs.bundles.log4j)
   implementation(libs.bundles.metrics)
   implementation(libs.commons.lang3)
+  implementation(libs.opentelemetry.api)
   implementation(libs.guava)
   implementation(libs.prometheus.servlet)
 
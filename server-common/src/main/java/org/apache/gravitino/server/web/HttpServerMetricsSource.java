@@ -20,9 +20,7 @@
 package org.apache.gravitino.server.web;
 
 import com.codahale.metrics.Clock;
-import com.codahale.metrics.SlidingTimeWindowArrayReservoir;
 import com.codahale.metrics.jersey2.InstrumentedResourceMethodApplicationListener;
-import java.util.concurrent.TimeUnit;
 import org.apache.gravitino.metrics.MetricNames;
 import org.apache.gravitino.metrics.source.MetricsSource;
 import org.glassfish.jersey.server.ResourceConfig;
@@ -32,12 +30,7 @@ public class HttpServerMetricsSource extends MetricsSource {
     super(name);
     resourceConfig.register(
         new InstrumentedResourceMethodApplicationListener(
-            getMetricRegistry(),
-            Clock.defaultClock(),
-            false,
-            () ->
-                new SlidingTimeWindowArrayReservoir(
-                    getTimeSlidingWindowSeconds(), TimeUnit.SECONDS)));
+            getMetricRegistry(), Clock.defaultClock(), false, this::newReservoir));
     registerGauge(
         MetricNames.SERVER_IDLE_THREAD_NUM, () -> server.getThreadPool().getIdleThreads());
   }
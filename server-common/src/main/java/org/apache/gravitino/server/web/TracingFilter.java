@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web;
+
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.propagation.TextMapGetter;
+import java.io.IOException;
+import java.util.Collections;
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.apache.gravitino.tracing.TraceScope;
+import org.apache.gravitino.tracing.Tracing;
+
+/**
+ * Traces each HTTP request in a server span, which is the child of the trace context propagated by
+ * the client in the W3C {@code traceparent} header. The span covers the whole request including
+ * the authentication and the serialization of the response, it's renamed after the matched
+ * resource method by {@link TracingResourceFilter}.
+ */
+public class TracingFilter implements Filter {
+
+  private static final TextMapGetter<HttpServletRequest> HEADER_GETTER =
+      new TextMapGetter<HttpServletRequest>() {
+        @Override
+        public Iterable<String> keys(HttpServletRequest request) {
+          return Collections.list(request.getHeaderNames());
+        }
+
+        @Override
+        public String get(HttpServletRequest request, String key) {
+          return request == null ? null : request.getHeader(key);
+        }
+      };
+
+  @Override
+  public void init(FilterConfig filterConfig) {}
+
+  @Override
+  public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+      throws IOException, ServletException {
+    if (!Tracing.isEnabled() || !(request instanceof HttpServletRequest)) {
+      chain.doFilter(request, response);
+      return;
+    }
+
+    HttpServletRequest httpRequest = (HttpServletRequest) request;
+    Context parent =
+        W3CTraceContextPropagator.getInstance().extract(Context.root(), httpRequest, HEADER_GETTER);
+    try (TraceScope scope =
+        Tracing.start(httpRequest.getMethod(), SpanKind.SERVER, parent)
+            .setAttribute("http.request.method", httpRequest.getMethod())
+            .setAttribute("url.path", httpRequest.getRequestURI())) {
+      try {
+        chain.doFilter(request, response);
+      } catch (IOException | ServletException | RuntimeException e) {
+        scope.recordException(e);
+        throw e;
+      } finally {
+        if (response instanceof HttpServletResponse) {
+          scope.setAttribute(
+              "http.response.status_code", ((HttpServletResponse) response).getStatus());
+        }
+      }
+    }
+  }
+
+  @Override
+  public void destroy() {}
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web;
+
+import java.io.IOException;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.ext.Provider;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+import org.apache.gravitino.tracing.TraceScope;
+import org.apache.gravitino.tracing.Tracing;
+
+/**
+ * Names the span of the request started by {@link TracingFilter} after the matched resource
+ * method, like {@code GET TableOperations.loadTable}, and traces the serialization of the response
+ * entity in a child span.
+ */
+@Provider
+public class TracingResourceFilter implements ContainerRequestFilter, WriterInterceptor {
+
+  @Context private ResourceInfo resourceInfo;
+
+  @Override
+  public void filter(ContainerRequestContext requestContext) {
+    if (!Tracing.isEnabled() || resourceInfo == null || resourceInfo.getResourceMethod() == null) {
+      return;
+    }
+
+    Tracing.updateCurrentSpanName(
+        requestContext.getMethod()
+            + " "
+            + resourceInfo.getResourceClass().getSimpleName()
+            + "."
+            + resourceInfo.getResourceMethod().getName());
+  }
+
+  @Override
+  public void aroundWriteTo(WriterInterceptorContext context)
+      throws IOException, WebApplicationException {
+    if (!Tracing.isEnabled()) {
+      context.proceed();
+      return;
+    }
+
+    try (TraceScope scope = Tracing.start("serialize")) {
+      scope.setAttribute("entity.type", context.getType().getSimpleName());
+      context.proceed();
+    }
+  }
+}
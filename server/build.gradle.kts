@@ -36,6 +36,7 @@ dependencies {
   implementation(libs.jackson.annotations)
   implementation(libs.jackson.datatype.jdk8)
   implementation(libs.jackson.datatype.jsr310)
+  implementation(libs.jackson.dataformat.smile)
   implementation(libs.jackson.databind)
   implementation(libs.metrics.jersey2)
 
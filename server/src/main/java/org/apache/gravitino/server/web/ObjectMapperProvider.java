@@ -23,7 +23,9 @@ import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.cfg.EnumFeature;
+import com.fasterxml.jackson.databind.cfg.MapperBuilder;
 import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import javax.ws.rs.ext.ContextResolver;
@@ -33,15 +35,23 @@ import javax.ws.rs.ext.Provider;
 public class ObjectMapperProvider implements ContextResolver<ObjectMapper> {
 
   private static class ObjectMapperHolder {
-    private static final ObjectMapper INSTANCE =
-        JsonMapper.builder()
-            .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
-            .configure(EnumFeature.WRITE_ENUMS_TO_LOWERCASE, true)
-            .enable(MapperFeature.ACCEPT_CASE_INSENSITIVE_ENUMS)
-            .build()
-            .setSerializationInclusion(JsonInclude.Include.NON_NULL)
-            .registerModule(new JavaTimeModule())
-            .registerModule(new Jdk8Module());
+    private static final ObjectMapper INSTANCE = newObjectMapper(JsonMapper.builder());
+  }
+
+  private static class SmileMapperHolder {
+    private static final ObjectMapper INSTANCE = newObjectMapper(SmileMapper.builder());
+  }
+
+  private static <M extends ObjectMapper, B extends MapperBuilder<M, B>>
+      ObjectMapper newObjectMapper(B builder) {
+    return builder
+        .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
+        .configure(EnumFeature.WRITE_ENUMS_TO_LOWERCASE, true)
+        .enable(MapperFeature.ACCEPT_CASE_INSENSITIVE_ENUMS)
+        .build()
+        .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+        .registerModule(new JavaTimeModule())
+        .registerModule(new Jdk8Module());
   }
 
   /**
@@ -58,6 +68,16 @@ public class ObjectMapperProvider implements ContextResolver<ObjectMapper> {
     return ObjectMapperHolder.INSTANCE;
   }
 
+  /**
+   * Retrieves a globally shared {@link ObjectMapper} instance of the Smile binary format, which is
+   * configured the same as the JSON one.
+   *
+   * @return the globally shared {@link ObjectMapper} instance of the Smile format
+   */
+  public static ObjectMapper smileMapper() {
+    return SmileMapperHolder.INSTANCE;
+  }
+
   @Override
   public ObjectMapper getContext(Class<?> type) {
     return ObjectMapperHolder.INSTANCE;
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyWriter;
+import javax.ws.rs.ext.Provider;
+
+/**
+ * Writes the response entities in the Smile binary format of Jackson, which is much more compact
+ * and faster to parse than JSON for the large responses. It's used when the client accepts the
+ * {@link #SMILE_MEDIA_TYPE}, see
+ * {@link org.apache.gravitino.server.web.filter.SmileNegotiationFilter}.
+ */
+@Provider
+@Produces(SmileMessageBodyWriter.SMILE_MEDIA_TYPE)
+public class SmileMessageBodyWriter implements MessageBodyWriter<Object> {
+
+  /** The media type of the Smile encoded responses of the Gravitino REST APIs. */
+  public static final String SMILE_MEDIA_TYPE = "application/vnd.gravitino.v1+smile";
+
+  // The entity stream is owned by the container, so it's not closed after writing the entity.
+  private static final ObjectWriter WRITER =
+      ObjectMapperProvider.smileMapper()
+          .writer()
+          .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+  @Override
+  public boolean isWriteable(
+      Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+    return true;
+  }
+
+  @Override
+  public void writeTo(
+      Object entity,
+      Class<?> type,
+      Type genericType,
+      Annotation[] annotations,
+      MediaType mediaType,
+      MultivaluedMap<String, Object> httpHeaders,
+      OutputStream entityStream)
+      throws IOException {
+    WRITER.writeValue(entityStream, entity);
+  }
+}
@@ -78,8 +78,9 @@ public class VersioningFilter implements Filter {
     }
   }
 
+  // The versioned media type may be accepted in JSON or in the Smile binary format.
   private static final Pattern ACCEPT_VERSION_REGEX =
-      Pattern.compile("application/vnd\\.gravitino\\.v(\\d+)\\+json");
+      Pattern.compile("application/vnd\\.gravitino\\.v(\\d+)\\+(json|smile)");
   private static final String ACCEPT_VERSION_HEADER = "Accept";
 
   private static String getAcceptVersion(int version) {
@@ -97,9 +98,10 @@ public class VersioningFilter implements Filter {
     while (acceptHeader.hasMoreElements()) {
       String value = acceptHeader.nextElement();
 
-      // If version accept header is set, then we need to check if it is supported.
+      // If version accept header is set, then we need to check if it is supported. The header may
+      // list the Smile media type before the JSON one as a fallback.
       Matcher m = ACCEPT_VERSION_REGEX.matcher(value);
-      if (m.matches()) {
+      if (m.matches() || (value.contains(",") && m.find(0))) {
         int version = Integer.parseInt(m.group(1));
 
         if (!ApiVersion.isSupportedVersion(version)) {
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web.filter;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.Hashing;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Set;
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.Provider;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+import org.apache.gravitino.dto.responses.CatalogResponse;
+import org.apache.gravitino.dto.responses.FilesetResponse;
+import org.apache.gravitino.dto.responses.MetalakeResponse;
+import org.apache.gravitino.dto.responses.SchemaResponse;
+import org.apache.gravitino.dto.responses.TableResponse;
+import org.apache.gravitino.server.web.ObjectMapperProvider;
+
+/**
+ * EntityTagFilter adds an entity tag to the responses of loading a metalake, a catalog, a schema, a
+ * table or a fileset, so that the clients caching the metadata can revalidate it by a conditional
+ * request.
+ *
+ * <p>The entity tag is a weak one hashed from the JSON form of the response, it's the same for the
+ * JSON and the Smile responses of the same metadata. If the {@code If-None-Match} header of the
+ * request matches it, the response is replaced by a {@code 304 Not Modified} one without a body.
+ * The metadata is still loaded to compute the entity tag, only the transfer and the parsing of the
+ * unchanged metadata are saved.
+ *
+ * <p>Only the conditional requests serialize the response to compute the entity tag up front. For
+ * the others the entity tag is hashed from the JSON body as it's written, only a Smile body needs
+ * the JSON form to be serialized once more.
+ */
+@Provider
+public class EntityTagFilter implements ContainerResponseFilter, WriterInterceptor {
+
+  private static final Set<Class<?>> TAGGED_RESPONSES =
+      ImmutableSet.of(
+          MetalakeResponse.class,
+          CatalogResponse.class,
+          SchemaResponse.class,
+          TableResponse.class,
+          FilesetResponse.class);
+
+  private static final String WEAK_PREFIX = "W/";
+  private static final String JSON_SUBTYPE = "json";
+  private static final String JSON_SUBTYPE_SUFFIX = "+json";
+  // Set on the responses whose entity tag is computed by aroundWriteTo.
+  private static final String TAG_ON_WRITE_PROPERTY =
+      EntityTagFilter.class.getName() + ".tagOnWrite";
+
+  @Override
+  public void filter(
+      ContainerRequestContext requestContext, ContainerResponseContext responseContext)
+      throws IOException {
+    if (!HttpMethod.GET.equals(requestContext.getMethod())
+        || responseContext.getStatus() != Response.Status.OK.getStatusCode()
+        || !responseContext.hasEntity()
+        || !TAGGED_RESPONSES.contains(responseContext.getEntity().getClass())) {
+      return;
+    }
+
+    List<String> ifNoneMatch = requestContext.getHeaders().get(HttpHeaders.IF_NONE_MATCH);
+    if (ifNoneMatch == null || ifNoneMatch.isEmpty()) {
+      requestContext.setProperty(TAG_ON_WRITE_PROPERTY, Boolean.TRUE);
+      return;
+    }
+
+    EntityTag entityTag = entityTag(toJson(responseContext.getEntity()));
+    responseContext.getHeaders().putSingle(HttpHeaders.ETAG, entityTag);
+    if (matches(ifNoneMatch, entityTag)) {
+      responseContext.setStatus(Response.Status.NOT_MODIFIED.getStatusCode());
+      responseContext.setEntity(null);
+    }
+  }
+
+  @Override
+  public void aroundWriteTo(WriterInterceptorContext context) throws IOException {
+    if (context.getProperty(TAG_ON_WRITE_PROPERTY) == null) {
+      context.proceed();
+      return;
+    }
+
+    if (!isJson(context.getMediaType())) {
+      context.getHeaders().putSingle(HttpHeaders.ETAG, entityTag(toJson(context.getEntity())));
+      context.proceed();
+      return;
+    }
+
+    // The headers are sent before the body, so the body is held until its entity tag is known.
+    OutputStream out = context.getOutputStream();
+    ByteArrayOutputStream body = new ByteArrayOutputStream();
+    context.setOutputStream(body);
+    try {
+      context.proceed();
+    } finally {
+      context.setOutputStream(out);
+    }
+    context.getHeaders().putSingle(HttpHeaders.ETAG, entityTag(body.toByteArray()));
+    body.writeTo(out);
+  }
+
+  private static byte[] toJson(Object entity) throws IOException {
+    return ObjectMapperProvider.objectMapper().writeValueAsBytes(entity);
+  }
+
+  private static EntityTag entityTag(byte[] json) {
+    return new EntityTag(Hashing.murmur3_128().hashBytes(json).toString(), true);
+  }
+
+  private static boolean isJson(MediaType mediaType) {
+    return mediaType != null
+        && (JSON_SUBTYPE.equals(mediaType.getSubtype())
+            || mediaType.getSubtype().endsWith(JSON_SUBTYPE_SUFFIX));
+  }
+
+  private static boolean matches(List<String> ifNoneMatch, EntityTag entityTag) {
+    // The weak comparison ignores the weak indicators of both the entity tags.
+    String opaqueTag = "\"" + entityTag.getValue() + "\"";
+    for (String header : ifNoneMatch) {
+      for (String tag : header.split(",")) {
+        String trimmed = tag.trim();
+        if (trimmed.startsWith(WEAK_PREFIX)) {
+          trimmed = trimmed.substring(WEAK_PREFIX.length());
+        }
+        if (trimmed.equals("*") || trimmed.equals(opaqueTag)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+}
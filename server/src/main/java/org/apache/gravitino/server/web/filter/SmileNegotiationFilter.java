@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web.filter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.container.PreMatching;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.Provider;
+import org.apache.gravitino.server.web.SmileMessageBodyWriter;
+
+/**
+ * SmileNegotiationFilter negotiates the Smile binary format for the responses of the REST APIs.
+ *
+ * <p>The REST APIs only declare to produce JSON, so the Smile media type in the {@code Accept}
+ * header is replaced by the JSON one of the same version before matching the resources, and the
+ * successful JSON responses of such requests are written as Smile instead. Smile is only used if
+ * its quality value is not lower than the one of JSON. The error responses and the requests are
+ * always in JSON, and the clients which don't prefer Smile get JSON as before.
+ */
+@Provider
+@PreMatching
+public class SmileNegotiationFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+  private static final String SMILE_ACCEPTED = SmileNegotiationFilter.class.getName() + ".accepted";
+  private static final String SMILE_SUFFIX = "+smile";
+  private static final String JSON_SUFFIX = "+json";
+  private static final String QUALITY_PARAMETER = "q";
+  private static final MediaType SMILE_MEDIA_TYPE =
+      MediaType.valueOf(SmileMessageBodyWriter.SMILE_MEDIA_TYPE);
+
+  @Override
+  public void filter(ContainerRequestContext requestContext) throws IOException {
+    List<String> accepts = requestContext.getHeaders().get(HttpHeaders.ACCEPT);
+    if (accepts == null
+        || accepts.stream().noneMatch(accept -> accept.contains(SMILE_SUFFIX))
+        || !prefersSmile(accepts)) {
+      return;
+    }
+
+    List<String> jsonAccepts =
+        accepts.stream()
+            .map(accept -> accept.replace(SMILE_SUFFIX, JSON_SUFFIX))
+            .collect(Collectors.toList());
+    requestContext.setProperty(SMILE_ACCEPTED, true);
+    requestContext.getHeaders().put(HttpHeaders.ACCEPT, jsonAccepts);
+  }
+
+  // Returns true if the highest quality value of the Smile media types isn't lower than the one of
+  // the media types compatible with JSON, including the wildcards.
+  private static boolean prefersSmile(List<String> accepts) {
+    double smileQuality = 0;
+    double jsonQuality = 0;
+    for (String accept : accepts) {
+      for (String element : accept.split(",")) {
+        MediaType mediaType;
+        double quality;
+        try {
+          mediaType = MediaType.valueOf(element.trim());
+          String q = mediaType.getParameters().get(QUALITY_PARAMETER);
+          quality = q == null ? 1.0 : Double.parseDouble(q);
+        } catch (IllegalArgumentException e) {
+          // Includes the NumberFormatException, the malformed elements are ignored.
+          continue;
+        }
+
+        if (mediaType.getSubtype().endsWith(SMILE_SUFFIX)) {
+          smileQuality = Math.max(smileQuality, quality);
+        } else if (mediaType.isCompatible(MediaType.APPLICATION_JSON_TYPE)
+            || mediaType.getSubtype().endsWith(JSON_SUFFIX)) {
+          jsonQuality = Math.max(jsonQuality, quality);
+        }
+      }
+    }
+    return smileQuality > 0 && smileQuality >= jsonQuality;
+  }
+
+  @Override
+  public void filter(
+      ContainerRequestContext requestContext, ContainerResponseContext responseContext)
+      throws IOException {
+    if (requestContext.getProperty(SMILE_ACCEPTED) == null
+        || responseContext.getStatusInfo().getFamily() != Response.Status.Family.SUCCESSFUL
+        || !responseContext.hasEntity()) {
+      return;
+    }
+
+    MediaType mediaType = responseContext.getMediaType();
+    if (mediaType != null
+        && (mediaType.isCompatible(MediaType.APPLICATION_JSON_TYPE)
+            || mediaType.getSubtype().endsWith(JSON_SUFFIX))) {
+      responseContext.setEntity(
+          responseContext.getEntity(), responseContext.getEntityAnnotations(), SMILE_MEDIA_TYPE);
+      responseContext.getHeaders().add(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+    }
+  }
+}
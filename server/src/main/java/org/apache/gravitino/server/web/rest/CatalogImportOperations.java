@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web.rest;
+
+import com.codahale.metrics.annotation.ResponseMetered;
+import com.codahale.metrics.annotation.Timed;
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.Response;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.catalog.CatalogImportJob;
+import org.apache.gravitino.catalog.CatalogImportManager;
+import org.apache.gravitino.dto.CatalogImportDTO;
+import org.apache.gravitino.dto.responses.CatalogImportResponse;
+import org.apache.gravitino.lock.LockType;
+import org.apache.gravitino.lock.TreeLockUtils;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.server.web.Utils;
+import org.apache.gravitino.utils.NameIdentifierUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+@Path("/metalakes/{metalake}/catalogs/{catalog}/import")
+public class CatalogImportOperations {
+
+  private static final Logger LOG = LoggerFactory.getLogger(CatalogImportOperations.class);
+
+  private final CatalogImportManager importManager;
+
+  @Context private HttpServletRequest httpRequest;
+
+  public CatalogImportOperations() {
+    // Retrieve the import manager from GravitinoEnv instead of injection, the same as
+    // OwnerOperations, so that the other REST resources don't need to bind it in tests.
+    this.importManager = GravitinoEnv.getInstance().catalogImportManager();
+  }
+
+  @POST
+  @Produces("application/vnd.gravitino.v1+json")
+  @Timed(name = "import-catalog." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "import-catalog", absolute = true)
+  public Response importCatalog(
+      @PathParam("metalake") String metalake, @PathParam("catalog") String catalog) {
+    LOG.info("Received import catalog request for catalog: {}.{}", metalake, catalog);
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            NameIdentifier ident = NameIdentifierUtil.ofCatalog(metalake, catalog);
+            CatalogImportJob job =
+                TreeLockUtils.doWithTreeLock(
+                    ident, LockType.READ, () -> importManager.startImport(ident));
+            Response response = Utils.ok(new CatalogImportResponse(toDTO(job)));
+            LOG.info("Import job submitted for catalog: {}.{}", metalake, catalog);
+            return response;
+          });
+
+    } catch (Exception e) {
+      return ExceptionHandlers.handleCatalogException(OperationType.IMPORT, catalog, metalake, e);
+    }
+  }
+
+  @GET
+  @Produces("application/vnd.gravitino.v1+json")
+  @Timed(name = "get-catalog-import." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "get-catalog-import", absolute = true)
+  public Response getImportStatus(
+      @PathParam("metalake") String metalake, @PathParam("catalog") String catalog) {
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            NameIdentifier ident = NameIdentifierUtil.ofCatalog(metalake, catalog);
+            CatalogImportJob job = importManager.getImportJob(ident);
+            return Utils.ok(new CatalogImportResponse(toDTO(job)));
+          });
+
+    } catch (Exception e) {
+      return ExceptionHandlers.handleCatalogException(OperationType.GET, catalog, metalake, e);
+    }
+  }
+
+  private static CatalogImportDTO toDTO(CatalogImportJob job) {
+    return CatalogImportDTO.builder()
+        .withCatalog(job.catalogIdent().name())
+        .withState(job.state().name())
+        .withSubmitTime(job.submitTime())
+        .withStartTime(job.startTime())
+        .withFinishTime(job.finishTime())
+        .withScanned(job.scannedCount())
+        .withImported(job.importedCount())
+        .withFailed(job.failedCount())
+        .withErrorMessage(job.errorMessage())
+        .build();
+  }
+}
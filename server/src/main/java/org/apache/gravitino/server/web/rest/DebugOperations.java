@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web.rest;
+
+import com.codahale.metrics.annotation.ResponseMetered;
+import com.codahale.metrics.annotation.Timed;
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.DefaultValue;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.authorization.AccessControlDispatcher;
+import org.apache.gravitino.dto.responses.TreeLockStatsResponse;
+import org.apache.gravitino.lock.TreeLockStats;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.server.web.Utils;
+import org.apache.gravitino.utils.PrincipalUtils;
+
+/**
+ * The operations to inspect the internal state of the server for troubleshooting, only the service
+ * admins can call them if the authorization is enabled.
+ */
+@Path("/debug")
+@Consumes(MediaType.APPLICATION_JSON)
+@Produces(MediaType.APPLICATION_JSON)
+public class DebugOperations {
+
+  @Context private HttpServletRequest httpRequest;
+
+  @GET
+  @Path("locks")
+  @Produces("application/vnd.gravitino.v1+json")
+  @Timed(name = "debug-locks." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "debug-locks", absolute = true)
+  public Response getTreeLockStats(
+      @QueryParam("limit") @DefaultValue("20") int limit,
+      @QueryParam("minHoldMs") @DefaultValue("0") long minHoldMs) {
+    if (limit < 0 || minHoldMs < 0) {
+      return Utils.illegalArguments("\"limit\" and \"minHoldMs\" must not be negative");
+    }
+
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            AccessControlDispatcher dispatcher =
+                GravitinoEnv.getInstance().accessControlDispatcher();
+            String user = PrincipalUtils.getCurrentUserName();
+            if (dispatcher != null && !dispatcher.isServiceAdmin(user)) {
+              return Utils.forbidden(
+                  String.format("Only the service admins can get the tree locks, %s isn't", user),
+                  null);
+            }
+
+            TreeLockStats stats = GravitinoEnv.getInstance().lockManager().stats();
+            TreeLockStatsResponse.ContendedLock[] contendedLocks =
+                stats.topContendedLocks(limit).stream()
+                    .map(
+                        c ->
+                            new TreeLockStatsResponse.ContendedLock(
+                                c.identifier().toString(), c.contentionCount(), c.waitMs()))
+                    .toArray(TreeLockStatsResponse.ContendedLock[]::new);
+            TreeLockStatsResponse.HeldLock[] heldLocks =
+                stats.heldLocks(minHoldMs).stream()
+                    .map(
+                        h ->
+                            new TreeLockStatsResponse.HeldLock(
+                                h.identifier().toString(),
+                                h.lockType().name(),
+                                h.thread(),
+                                h.holdMs()))
+                    .toArray(TreeLockStatsResponse.HeldLock[]::new);
+            return Utils.ok(new TreeLockStatsResponse(stats.waiters(), contendedLocks, heldLocks));
+          });
+
+    } catch (Exception e) {
+      return Utils.internalError(e.getMessage(), e);
+    }
+  }
+}
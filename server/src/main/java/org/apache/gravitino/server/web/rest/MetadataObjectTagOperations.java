@@ -21,10 +21,12 @@ package org.apache.gravitino.server.web.rest;
 import com.codahale.metrics.annotation.ResponseMetered;
 import com.codahale.metrics.annotation.Timed;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
@@ -40,7 +42,9 @@ import javax.ws.rs.core.Response;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.MetadataObjects;
+import org.apache.gravitino.dto.requests.MetadataObjectListRequest;
 import org.apache.gravitino.dto.requests.TagsAssociateRequest;
+import org.apache.gravitino.dto.responses.MetadataObjectTagListResponse;
 import org.apache.gravitino.dto.responses.NameListResponse;
 import org.apache.gravitino.dto.responses.TagListResponse;
 import org.apache.gravitino.dto.responses.TagResponse;
@@ -54,7 +58,7 @@ import org.apache.gravitino.tag.TagDispatcher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-@Path("/metalakes/{metalake}/objects/{type}/{fullName}/tags")
+@Path("/metalakes/{metalake}/objects")
 public class MetadataObjectTagOperations {
   private static final Logger LOG = LoggerFactory.getLogger(MetadataObjectTagOperations.class);
 
@@ -73,7 +77,7 @@ public class MetadataObjectTagOperations {
   }
 
   @GET
-  @Path("{tag}")
+  @Path("{type}/{fullName}/tags/{tag}")
   @Produces("application/vnd.gravitino.v1+json")
   @Timed(name = "get-object-tag." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
   @ResponseMetered(name = "get-object-tag", absolute = true)
@@ -140,6 +144,7 @@ public class MetadataObjectTagOperations {
   }
 
   @GET
+  @Path("{type}/{fullName}/tags")
   @Produces("application/vnd.gravitino.v1+json")
   @Timed(name = "list-object-tags." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
   @ResponseMetered(name = "list-object-tags", absolute = true)
@@ -217,6 +222,61 @@ public class MetadataObjectTagOperations {
   }
 
   @POST
+  @Path("tags")
+  @Produces("application/vnd.gravitino.v1+json")
+  @Timed(name = "list-objects-tags." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "list-objects-tags", absolute = true)
+  public Response listTagsForMetadataObjects(
+      @PathParam("metalake") String metalake, MetadataObjectListRequest request) {
+    LOG.info("Received list tags request for metadata objects under metalake: {}", metalake);
+
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            request.validate();
+            MetadataObject[] objects =
+                Arrays.stream(request.getMetadataObjects())
+                    .map(o -> MetadataObjects.parse(o.fullName(), o.type()))
+                    .toArray(MetadataObject[]::new);
+
+            // The tags of the metadata objects and their parents are listed in one call, the
+            // parents shared by the metadata objects are only listed once.
+            Map<MetadataObject, Integer> indexes = Maps.newLinkedHashMap();
+            for (MetadataObject object : objects) {
+              for (MetadataObject o = object; o != null; o = MetadataObjects.parent(o)) {
+                indexes.putIfAbsent(o, indexes.size());
+              }
+            }
+            Tag[][] objectTags =
+                tagDispatcher.listTagsInfoForMetadataObjects(
+                    metalake, indexes.keySet().toArray(new MetadataObject[0]));
+
+            TagDTO[][] tags = new TagDTO[objects.length][];
+            for (int i = 0; i < objects.length; i++) {
+              List<TagDTO> tagDTOs = Lists.newArrayList();
+              boolean inherited = false;
+              for (MetadataObject o = objects[i]; o != null; o = MetadataObjects.parent(o)) {
+                for (Tag tag : objectTags[indexes.get(o)]) {
+                  tagDTOs.add(DTOConverters.toDTO(tag, Optional.of(inherited)));
+                }
+                inherited = true;
+              }
+              tags[i] = tagDTOs.toArray(new TagDTO[0]);
+            }
+
+            LOG.info(
+                "List tags for {} metadata objects under metalake: {}", objects.length, metalake);
+            return Utils.ok(new MetadataObjectTagListResponse(tags));
+          });
+
+    } catch (Exception e) {
+      return ExceptionHandlers.handleTagException(OperationType.LIST, "", metalake, e);
+    }
+  }
+
+  @POST
+  @Path("{type}/{fullName}/tags")
   @Produces("application/vnd.gravitino.v1+json")
   @Timed(name = "associate-object-tags." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
   @ResponseMetered(name = "associate-object-tags", absolute = true)
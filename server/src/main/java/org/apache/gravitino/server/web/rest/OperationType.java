@@ -35,4 +35,5 @@ public enum OperationType {
   REVOKE,
   ASSOCIATE,
   SET,
+  IMPORT,
 }
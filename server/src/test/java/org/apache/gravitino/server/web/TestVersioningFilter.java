@@ -82,6 +82,33 @@ public class TestVersioningFilter {
     verify(mockResponse).sendError(HttpServletResponse.SC_NOT_ACCEPTABLE, "Unsupported version");
   }
 
+  @Test
+  public void testDoFilterWithSmileVersion() throws ServletException, IOException {
+    VersioningFilter filter = new VersioningFilter();
+    FilterChain mockChain = mock(FilterChain.class);
+    HttpServletRequest mockRequest = mock(HttpServletRequest.class);
+    HttpServletResponse mockResponse = mock(HttpServletResponse.class);
+
+    String acceptV1 =
+        "application/vnd.gravitino.v1+smile, " + "application/vnd.gravitino.v1+json;q=0.9";
+    String acceptV2 =
+        "application/vnd.gravitino.v2+smile, " + "application/vnd.gravitino.v2+json;q=0.9";
+    when(mockRequest.getHeaders("Accept"))
+        .thenReturn(
+            new Vector<>(Collections.singletonList(acceptV1)).elements(),
+            new Vector<>(Collections.singletonList(acceptV2)).elements());
+
+    filter.doFilter(mockRequest, mockResponse, mockChain);
+    verify(mockChain).doFilter(mockRequest, mockResponse);
+    verify(mockResponse, never()).sendError(anyInt(), anyString());
+
+    reset(mockChain, mockResponse);
+
+    filter.doFilter(mockRequest, mockResponse, mockChain);
+    verify(mockChain, never()).doFilter(any(), any());
+    verify(mockResponse).sendError(HttpServletResponse.SC_NOT_ACCEPTABLE, "Unsupported version");
+  }
+
   @Test
   public void testDoFilterWithNoVersionHeader() throws ServletException, IOException {
     // Arrange
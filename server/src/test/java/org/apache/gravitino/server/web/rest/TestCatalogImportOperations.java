@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web.rest;
+
+import static org.apache.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
+import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
+import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.time.Instant;
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.catalog.CatalogImportJob;
+import org.apache.gravitino.catalog.CatalogImportManager;
+import org.apache.gravitino.dto.CatalogImportDTO;
+import org.apache.gravitino.dto.responses.CatalogImportResponse;
+import org.apache.gravitino.dto.responses.ErrorConstants;
+import org.apache.gravitino.dto.responses.ErrorResponse;
+import org.apache.gravitino.exceptions.NoSuchCatalogException;
+import org.apache.gravitino.exceptions.NotFoundException;
+import org.apache.gravitino.lock.LockManager;
+import org.apache.gravitino.rest.RESTUtils;
+import org.glassfish.hk2.utilities.binding.AbstractBinder;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.JerseyTest;
+import org.glassfish.jersey.test.TestProperties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class TestCatalogImportOperations extends JerseyTest {
+
+  private static final CatalogImportManager manager = mock(CatalogImportManager.class);
+
+  private static class MockServletRequestFactory extends ServletRequestFactoryBase {
+    @Override
+    public HttpServletRequest get() {
+      HttpServletRequest request = mock(HttpServletRequest.class);
+      when(request.getRemoteUser()).thenReturn(null);
+      return request;
+    }
+  }
+
+  @BeforeAll
+  public static void setup() throws IllegalAccessException {
+    Config config = mock(Config.class);
+    Mockito.doReturn(100000L).when(config).get(TREE_LOCK_MAX_NODE_IN_MEMORY);
+    Mockito.doReturn(1000L).when(config).get(TREE_LOCK_MIN_NODE_IN_MEMORY);
+    Mockito.doReturn(36000L).when(config).get(TREE_LOCK_CLEAN_INTERVAL);
+    FieldUtils.writeField(GravitinoEnv.getInstance(), "lockManager", new LockManager(config), true);
+    FieldUtils.writeField(GravitinoEnv.getInstance(), "catalogImportManager", manager, true);
+  }
+
+  @Override
+  protected Application configure() {
+    try {
+      forceSet(
+          TestProperties.CONTAINER_PORT, String.valueOf(RESTUtils.findAvailablePort(2000, 3000)));
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+
+    ResourceConfig resourceConfig = new ResourceConfig();
+    resourceConfig.register(CatalogImportOperations.class);
+    resourceConfig.register(
+        new AbstractBinder() {
+          @Override
+          protected void configure() {
+            bindFactory(MockServletRequestFactory.class).to(HttpServletRequest.class);
+          }
+        });
+
+    return resourceConfig;
+  }
+
+  @Test
+  public void testImportCatalog() {
+    CatalogImportJob job = mockJob(CatalogImportJob.State.PENDING);
+    when(manager.startImport(any())).thenReturn(job);
+
+    Response resp =
+        target("/metalakes/metalake1/catalogs/catalog1/import")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .post(Entity.entity("", MediaType.APPLICATION_JSON_TYPE));
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    CatalogImportResponse importResponse = resp.readEntity(CatalogImportResponse.class);
+    Assertions.assertEquals(0, importResponse.getCode());
+    CatalogImportDTO importDTO = importResponse.getImportJob();
+    Assertions.assertEquals("catalog1", importDTO.catalog());
+    Assertions.assertEquals("PENDING", importDTO.state());
+    Assertions.assertNull(importDTO.startTime());
+
+    // Test throw NoSuchCatalogException
+    when(manager.startImport(any())).thenThrow(new NoSuchCatalogException("mock error"));
+    Response resp1 =
+        target("/metalakes/metalake1/catalogs/catalog1/import")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .post(Entity.entity("", MediaType.APPLICATION_JSON_TYPE));
+
+    Assertions.assertEquals(Response.Status.NOT_FOUND.getStatusCode(), resp1.getStatus());
+    ErrorResponse errorResponse = resp1.readEntity(ErrorResponse.class);
+    Assertions.assertEquals(ErrorConstants.NOT_FOUND_CODE, errorResponse.getCode());
+    Assertions.assertEquals(NoSuchCatalogException.class.getSimpleName(), errorResponse.getType());
+  }
+
+  @Test
+  public void testGetImportStatus() {
+    CatalogImportJob job = mockJob(CatalogImportJob.State.SUCCEEDED);
+    when(job.importedCount()).thenReturn(10L);
+    when(job.scannedCount()).thenReturn(12L);
+    when(manager.getImportJob(any())).thenReturn(job);
+
+    Response resp =
+        target("/metalakes/metalake1/catalogs/catalog1/import")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    CatalogImportDTO importDTO = resp.readEntity(CatalogImportResponse.class).getImportJob();
+    Assertions.assertEquals("SUCCEEDED", importDTO.state());
+    Assertions.assertEquals(10L, importDTO.imported());
+    Assertions.assertEquals(12L, importDTO.scanned());
+
+    // Test no import job is submitted
+    when(manager.getImportJob(any())).thenThrow(new NotFoundException("mock error"));
+    Response resp1 =
+        target("/metalakes/metalake1/catalogs/catalog1/import")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.NOT_FOUND.getStatusCode(), resp1.getStatus());
+  }
+
+  private CatalogImportJob mockJob(CatalogImportJob.State state) {
+    CatalogImportJob job = mock(CatalogImportJob.class);
+    when(job.catalogIdent()).thenReturn(NameIdentifier.of("metalake1", "catalog1"));
+    when(job.state()).thenReturn(state);
+    when(job.submitTime()).thenReturn(Instant.now());
+    return job;
+  }
+}
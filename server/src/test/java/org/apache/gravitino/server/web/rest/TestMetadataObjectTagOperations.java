@@ -21,6 +21,7 @@ package org.apache.gravitino.server.web.rest;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.Sets;
@@ -28,6 +29,7 @@ import java.io.IOException;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -38,12 +40,17 @@ import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.MetadataObjects;
+import org.apache.gravitino.dto.requests.MetadataObjectListRequest;
 import org.apache.gravitino.dto.requests.TagsAssociateRequest;
 import org.apache.gravitino.dto.responses.ErrorConstants;
 import org.apache.gravitino.dto.responses.ErrorResponse;
+import org.apache.gravitino.dto.responses.MetadataObjectTagListResponse;
 import org.apache.gravitino.dto.responses.NameListResponse;
 import org.apache.gravitino.dto.responses.TagListResponse;
 import org.apache.gravitino.dto.responses.TagResponse;
+import org.apache.gravitino.dto.tag.MetadataObjectDTO;
+import org.apache.gravitino.dto.tag.TagDTO;
+import org.apache.gravitino.dto.util.DTOConverters;
 import org.apache.gravitino.exceptions.NoSuchTagException;
 import org.apache.gravitino.exceptions.TagAlreadyAssociatedException;
 import org.apache.gravitino.meta.AuditInfo;
@@ -634,6 +641,92 @@ public class TestMetadataObjectTagOperations extends JerseyTest {
     Assertions.assertEquals(RuntimeException.class.getSimpleName(), errorResponse1.getType());
   }
 
+  @Test
+  public void testListTagsForObjects() {
+    MetadataObject table1 =
+        MetadataObjects.parse("catalog.schema.table1", MetadataObject.Type.TABLE);
+    MetadataObject table2 =
+        MetadataObjects.parse("catalog.schema.table2", MetadataObject.Type.TABLE);
+    MetadataObject schema = MetadataObjects.parse("catalog.schema", MetadataObject.Type.SCHEMA);
+    MetadataObject catalog = MetadataObjects.parse("catalog", MetadataObject.Type.CATALOG);
+
+    // Each metadata object is associated with a tag named after it, except the table2
+    when(tagManager.listTagsInfoForMetadataObjects(any(), any()))
+        .thenAnswer(
+            invocation ->
+                Arrays.stream((MetadataObject[]) invocation.getArgument(1))
+                    .map(
+                        object ->
+                            object.equals(table2)
+                                ? new Tag[0]
+                                : new Tag[] {
+                                  TagEntity.builder()
+                                      .withName("tag_" + object.name())
+                                      .withId(1L)
+                                      .withAuditInfo(testAuditInfo1)
+                                      .build()
+                                })
+                    .toArray(Tag[][]::new));
+
+    MetadataObjectListRequest request =
+        new MetadataObjectListRequest(
+            new MetadataObjectDTO[] {DTOConverters.toDTO(table1), DTOConverters.toDTO(table2)});
+    Response response =
+        target(basePath(metalake))
+            .path("tags")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .post(Entity.entity(request, MediaType.APPLICATION_JSON_TYPE));
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+    MetadataObjectTagListResponse tagListResponse =
+        response.readEntity(MetadataObjectTagListResponse.class);
+    Assertions.assertEquals(0, tagListResponse.getCode());
+    Assertions.assertEquals(2, tagListResponse.getTags().length);
+
+    TagDTO[] table1Tags = tagListResponse.getTags()[0];
+    Assertions.assertEquals(3, table1Tags.length);
+    Assertions.assertEquals("tag_table1", table1Tags[0].name());
+    Assertions.assertEquals(Optional.of(false), table1Tags[0].inherited());
+    Assertions.assertEquals("tag_schema", table1Tags[1].name());
+    Assertions.assertEquals(Optional.of(true), table1Tags[1].inherited());
+    Assertions.assertEquals("tag_catalog", table1Tags[2].name());
+    Assertions.assertEquals(Optional.of(true), table1Tags[2].inherited());
+
+    TagDTO[] table2Tags = tagListResponse.getTags()[1];
+    Assertions.assertEquals(
+        Sets.newHashSet("tag_schema", "tag_catalog"),
+        Arrays.stream(table2Tags).map(TagDTO::name).collect(Collectors.toSet()));
+
+    // The shared parents are only listed once
+    verify(tagManager)
+        .listTagsInfoForMetadataObjects(
+            metalake, new MetadataObject[] {table1, schema, catalog, table2});
+
+    // Test throw IllegalArgumentException for the invalid request
+    Response response1 =
+        target(basePath(metalake))
+            .path("tags")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .post(
+                Entity.entity(new MetadataObjectListRequest(), MediaType.APPLICATION_JSON_TYPE));
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), response1.getStatus());
+
+    // Test throw RuntimeException
+    doThrow(new RuntimeException("mock error"))
+        .when(tagManager)
+        .listTagsInfoForMetadataObjects(any(), any());
+    Response response2 =
+        target(basePath(metalake))
+            .path("tags")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .post(Entity.entity(request, MediaType.APPLICATION_JSON_TYPE));
+    Assertions.assertEquals(
+        Response.Status.INTERNAL_SERVER_ERROR.getStatusCode(), response2.getStatus());
+  }
+
   private String basePath(String metalake) {
     return "/metalakes/" + metalake + "/objects";
   }
@@ -41,6 +41,7 @@ import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.core.Application;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import org.apache.commons.lang3.reflect.FieldUtils;
@@ -64,6 +65,10 @@ import org.apache.gravitino.meta.SchemaVersion;
 import org.apache.gravitino.metalake.MetalakeDispatcher;
 import org.apache.gravitino.metalake.MetalakeManager;
 import org.apache.gravitino.rest.RESTUtils;
+import org.apache.gravitino.server.web.ObjectMapperProvider;
+import org.apache.gravitino.server.web.SmileMessageBodyWriter;
+import org.apache.gravitino.server.web.filter.EntityTagFilter;
+import org.apache.gravitino.server.web.filter.SmileNegotiationFilter;
 import org.apache.gravitino.server.web.mapper.JsonMappingExceptionMapper;
 import org.apache.gravitino.server.web.mapper.JsonParseExceptionMapper;
 import org.apache.gravitino.server.web.mapper.JsonProcessingExceptionMapper;
@@ -120,6 +125,9 @@ public class TestMetalakeOperations extends JerseyTest {
     resourceConfig.register(JsonProcessingExceptionMapper.class);
     resourceConfig.register(JsonParseExceptionMapper.class);
     resourceConfig.register(JsonMappingExceptionMapper.class);
+    resourceConfig.register(SmileMessageBodyWriter.class);
+    resourceConfig.register(SmileNegotiationFilter.class);
+    resourceConfig.register(EntityTagFilter.class);
     resourceConfig.register(TestException.class);
     return resourceConfig;
   }
@@ -180,6 +188,138 @@ public class TestMetalakeOperations extends JerseyTest {
     Assertions.assertEquals(metalakeName, metalakes[1].name());
   }
 
+  @Test
+  public void testListMetalakesWithSmile() throws IOException {
+    int metalakeCount = 1000;
+    AuditInfo info =
+        AuditInfo.builder().withCreator("gravitino").withCreateTime(Instant.now()).build();
+    BaseMetalake[] metalakes = new BaseMetalake[metalakeCount];
+    for (int i = 0; i < metalakeCount; i++) {
+      metalakes[i] =
+          BaseMetalake.builder()
+              .withName("metalake_" + i)
+              .withId((long) i)
+              .withComment("comment")
+              .withProperties(ImmutableMap.of("key1", "value1", "key2", "value2"))
+              .withAuditInfo(info)
+              .withVersion(SchemaVersion.V_0_1)
+              .build();
+    }
+    when(metalakeManager.listMetalakes()).thenReturn(metalakes);
+
+    Response jsonResp =
+        target("/metalakes").request().accept("application/vnd.gravitino.v1+json").get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), jsonResp.getStatus());
+    Assertions.assertEquals(MediaType.APPLICATION_JSON_TYPE, jsonResp.getMediaType());
+    byte[] json = jsonResp.readEntity(byte[].class);
+
+    // The Smile media type is preferred over the JSON one
+    Response smileResp =
+        target("/metalakes")
+            .request()
+            .accept(
+                SmileMessageBodyWriter.SMILE_MEDIA_TYPE, "application/vnd.gravitino.v1+json;q=0.9")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), smileResp.getStatus());
+    Assertions.assertEquals(
+        MediaType.valueOf(SmileMessageBodyWriter.SMILE_MEDIA_TYPE), smileResp.getMediaType());
+    byte[] smile = smileResp.readEntity(byte[].class);
+
+    MetalakeListResponse jsonResponse =
+        ObjectMapperProvider.objectMapper().readValue(json, MetalakeListResponse.class);
+    MetalakeListResponse smileResponse =
+        ObjectMapperProvider.smileMapper().readValue(smile, MetalakeListResponse.class);
+    Assertions.assertArrayEquals(jsonResponse.getMetalakes(), smileResponse.getMetalakes());
+    Assertions.assertTrue(smile.length < json.length);
+
+    // The JSON media type is used if the Smile one has a lower quality value
+    Response preferJsonResp =
+        target("/metalakes")
+            .request()
+            .accept(
+                SmileMessageBodyWriter.SMILE_MEDIA_TYPE + ";q=0.5",
+                "application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), preferJsonResp.getStatus());
+    Assertions.assertEquals(MediaType.APPLICATION_JSON_TYPE, preferJsonResp.getMediaType());
+    Assertions.assertArrayEquals(json, preferJsonResp.readEntity(byte[].class));
+
+    // The error responses are still in JSON
+    when(metalakeManager.listMetalakes()).thenThrow(new RuntimeException("mock error"));
+    Response errorResp =
+        target("/metalakes").request().accept(SmileMessageBodyWriter.SMILE_MEDIA_TYPE).get();
+    Assertions.assertEquals(
+        Response.Status.INTERNAL_SERVER_ERROR.getStatusCode(), errorResp.getStatus());
+    Assertions.assertEquals(MediaType.APPLICATION_JSON_TYPE, errorResp.getMediaType());
+    ErrorResponse errorResponse = errorResp.readEntity(ErrorResponse.class);
+    Assertions.assertEquals(ErrorConstants.INTERNAL_ERROR_CODE, errorResponse.getCode());
+  }
+
+  @Test
+  public void testLoadMetalakeWithEntityTag() {
+    String metalakeName = "test";
+    AuditInfo info =
+        AuditInfo.builder().withCreator("gravitino").withCreateTime(Instant.now()).build();
+    BaseMetalake metalake =
+        BaseMetalake.builder()
+            .withName(metalakeName)
+            .withId(1L)
+            .withAuditInfo(info)
+            .withVersion(SchemaVersion.V_0_1)
+            .build();
+    when(metalakeManager.loadMetalake(any())).thenReturn(metalake);
+
+    Response resp =
+        target("/metalakes/" + metalakeName)
+            .request()
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    String entityTag = resp.getHeaderString(HttpHeaders.ETAG);
+    Assertions.assertNotNull(entityTag);
+    Assertions.assertTrue(entityTag.startsWith("W/"));
+
+    // The Smile response of the same metadata has the same entity tag
+    Response smileResp =
+        target("/metalakes/" + metalakeName)
+            .request()
+            .accept(SmileMessageBodyWriter.SMILE_MEDIA_TYPE)
+            .get();
+    Assertions.assertEquals(entityTag, smileResp.getHeaderString(HttpHeaders.ETAG));
+
+    Response notModifiedResp =
+        target("/metalakes/" + metalakeName)
+            .request()
+            .accept("application/vnd.gravitino.v1+json")
+            .header(HttpHeaders.IF_NONE_MATCH, entityTag)
+            .get();
+    Assertions.assertEquals(
+        Response.Status.NOT_MODIFIED.getStatusCode(), notModifiedResp.getStatus());
+    Assertions.assertEquals(entityTag, notModifiedResp.getHeaderString(HttpHeaders.ETAG));
+    Assertions.assertFalse(notModifiedResp.hasEntity());
+
+    // The changed metadata is sent with a new entity tag
+    BaseMetalake alteredMetalake =
+        BaseMetalake.builder()
+            .withName(metalakeName)
+            .withId(1L)
+            .withComment("altered")
+            .withAuditInfo(info)
+            .withVersion(SchemaVersion.V_0_1)
+            .build();
+    when(metalakeManager.loadMetalake(any())).thenReturn(alteredMetalake);
+    Response modifiedResp =
+        target("/metalakes/" + metalakeName)
+            .request()
+            .accept("application/vnd.gravitino.v1+json")
+            .header(HttpHeaders.IF_NONE_MATCH, entityTag)
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), modifiedResp.getStatus());
+    Assertions.assertNotEquals(entityTag, modifiedResp.getHeaderString(HttpHeaders.ETAG));
+    Assertions.assertEquals(
+        "altered", modifiedResp.readEntity(MetalakeResponse.class).getMetalake().comment());
+  }
+
   @Test
   public void testCreateMetalake() {
     MetalakeCreateRequest req =